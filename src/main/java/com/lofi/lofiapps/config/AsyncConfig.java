@@ -1,19 +1,26 @@
 package com.lofi.lofiapps.config;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 /**
- * Configuration for asynchronous processing. Enables async audit logging to not block main
- * operations.
+ * Configuration for asynchronous processing. Enables async audit logging, notification fan-out and
+ * AI loan analysis to not block main operations, and runs multipart upload parts in parallel.
  */
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
+  /**
+   * Audit log writes. Also the pool behind any unqualified {@code @Async}: with several executors
+   * in the context Spring would otherwise fall back to a new thread per call.
+   */
+  @Primary
   @Bean(name = "auditExecutor")
   public Executor auditExecutor() {
     ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
@@ -24,4 +31,108 @@ public class AsyncConfig {
     executor.initialize();
     return executor;
   }
+
+  /** Batch loan transitions hand their customer notifications (SMTP/FCM) to this pool. */
+  @Bean(name = "notificationExecutor")
+  public Executor notificationExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(2);
+    executor.setMaxPoolSize(4);
+    executor.setQueueCapacity(500);
+    executor.setThreadNamePrefix("notify-");
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * AI loan analysis workers. Kept small and bounded: a full queue rejects new work and the loan
+   * simply stays "pending" until it is requested again.
+   */
+  @Bean(name = "analysisExecutor")
+  public Executor analysisExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(2);
+    executor.setMaxPoolSize(4);
+    executor.setQueueCapacity(200);
+    executor.setThreadNamePrefix("analysis-");
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * Uploaded-document verification. Each task is a HEAD plus a 16-byte ranged read, so a handful of
+   * threads checks a full document set in parallel.
+   */
+  @Bean(name = "verificationExecutor")
+  public Executor verificationExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(4);
+    executor.setMaxPoolSize(8);
+    executor.setQueueCapacity(500);
+    executor.setThreadNamePrefix("doc-verify-");
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * Multipart part uploads. Parallelism per node is really bounded by the shared part-buffer pool
+   * in {@code MultipartUploader}; the caller runs the part itself when this pool is saturated.
+   */
+  @Bean(name = "storageExecutor")
+  public Executor storageExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(4);
+    executor.setMaxPoolSize(8);
+    executor.setQueueCapacity(16);
+    executor.setThreadNamePrefix("storage-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * Search index maintenance. One thread, so the startup build and the per-commit reindexing are
+   * applied in order; a full queue rejects the change, and SearchIndexer rebuilds the index instead
+   * of applying it out of order.
+   */
+  @Bean(name = "searchIndexExecutor")
+  public Executor searchIndexExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(1);
+    executor.setMaxPoolSize(1);
+    executor.setQueueCapacity(10000);
+    executor.setThreadNamePrefix("search-index-");
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * Report exports. Two workbooks at a time is plenty for month-end; a full queue rejects the job,
+   * which stays queued in {@code report_jobs} until the dispatcher's next sweep.
+   */
+  @Bean(name = "reportExecutor")
+  public Executor reportExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(2);
+    executor.setMaxPoolSize(2);
+    executor.setQueueCapacity(50);
+    executor.setThreadNamePrefix("report-");
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * Partitions of the nightly delinquency batch. One thread per partition at the default partition
+   * count; each holds one database connection while its partition runs.
+   */
+  @Bean(name = "delinquencyExecutor")
+  public Executor delinquencyExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(4);
+    executor.setMaxPoolSize(4);
+    executor.setQueueCapacity(64);
+    executor.setThreadNamePrefix("delinquency-");
+    executor.initialize();
+    return executor;
+  }
 }
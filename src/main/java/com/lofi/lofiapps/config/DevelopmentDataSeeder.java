@@ -1167,6 +1167,7 @@ public class DevelopmentDataSeeder {
               .fileName(filename)
               .objectKey("seeded/" + loan.getId() + "/" + filename)
               .uploadedBy(loan.getCustomer().getId())
+              .verified(true)
               .build();
       documentRepository.save(doc);
     }
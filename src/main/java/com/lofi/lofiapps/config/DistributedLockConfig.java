@@ -1,7 +1,10 @@
 package com.lofi.lofiapps.config;
 
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.integration.redis.util.RedisLockRegistry;
 
@@ -9,7 +12,23 @@ import org.springframework.integration.redis.util.RedisLockRegistry;
 public class DistributedLockConfig {
 
   @Bean
+  @Primary
   public RedisLockRegistry redisLockRegistry(RedisConnectionFactory redisConnectionFactory) {
     return new RedisLockRegistry(redisConnectionFactory, "lofi-locks");
   }
+
+  /**
+   * For scheduled jobs that hold their lock for a whole run. The default registry lets a lock
+   * expire after 60 seconds, so a second instance could start the same job mid-run; this expiry has
+   * to stay longer than every job's run budget.
+   */
+  @Bean
+  public RedisLockRegistry batchLockRegistry(
+      RedisConnectionFactory redisConnectionFactory,
+      @Value("${app.locks.batch.expire-after-minutes:120}") long expireAfterMinutes) {
+    return new RedisLockRegistry(
+        redisConnectionFactory,
+        "lofi-batch-locks",
+        Duration.ofMinutes(expireAfterMinutes).toMillis());
+  }
 }
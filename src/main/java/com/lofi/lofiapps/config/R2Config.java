@@ -7,6 +7,8 @@ import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 @Configuration
@@ -24,6 +26,15 @@ public class R2Config {
   @Value("${cloudflare.r2.endpoint:https://placeholder.r2.cloudflarestorage.com}")
   private String endpoint;
 
+  @Value("${app.storage.multipart.threshold-bytes:16777216}")
+  private long multipartThresholdBytes;
+
+  @Value("${app.storage.multipart.part-size-bytes:8388608}")
+  private long partSizeBytes;
+
+  @Value("${app.storage.async.max-buffer-bytes:33554432}")
+  private long asyncMaxBufferBytes;
+
   @Bean
   public S3Presigner s3Presigner() {
     return S3Presigner.builder()
@@ -45,4 +56,26 @@ public class R2Config {
                 AwsBasicCredentials.create(accessKeyId, secretAccessKey)))
         .build();
   }
+
+  /**
+   * Async client for large file uploads. Multipart is handled by the SDK, which reads parts from
+   * the source file and caps the bytes buffered per upload at {@code max-buffer-bytes}.
+   */
+  @Bean(destroyMethod = "close")
+  public S3AsyncClient s3AsyncClient() {
+    return S3AsyncClient.builder()
+        .region(Region.US_EAST_1)
+        .endpointOverride(URI.create(endpoint))
+        .credentialsProvider(
+            StaticCredentialsProvider.create(
+                AwsBasicCredentials.create(accessKeyId, secretAccessKey)))
+        .multipartEnabled(true)
+        .multipartConfiguration(
+            MultipartConfiguration.builder()
+                .thresholdInBytes(multipartThresholdBytes)
+                .minimumPartSizeInBytes(partSizeBytes)
+                .apiCallBufferSizeInBytes(asyncMaxBufferBytes)
+                .build())
+        .build();
+  }
 }
@@ -3,6 +3,8 @@ package com.lofi.lofiapps.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.lofi.lofiapps.config.redis.RedisGuard;
+import com.lofi.lofiapps.config.redis.ResilientCacheManager;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
@@ -48,7 +50,8 @@ public class RedisConfig {
 
   @Bean
   @ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis")
-  public CacheManager redisCacheManager(RedisConnectionFactory connectionFactory) {
+  public CacheManager redisCacheManager(
+      RedisConnectionFactory connectionFactory, RedisGuard redisGuard) {
     ObjectMapper objectMapper = new ObjectMapper();
     objectMapper.registerModule(new JavaTimeModule());
     objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
@@ -71,10 +74,14 @@ public class RedisConfig {
         AVAILABLE_PRODUCT_CACHE, defaultConfig.entryTtl(Duration.ofMinutes(30)));
     cacheConfigurations.put(USER_LOANS_CACHE, defaultConfig.entryTtl(Duration.ofMinutes(15)));
 
-    return RedisCacheManager.builder(connectionFactory)
-        .cacheDefaults(defaultConfig)
-        .withInitialCacheConfigurations(cacheConfigurations)
-        .build();
+    RedisCacheManager cacheManager =
+        RedisCacheManager.builder(connectionFactory)
+            .cacheDefaults(defaultConfig)
+            .withInitialCacheConfigurations(cacheConfigurations)
+            .build();
+    // Not a bean itself, so initialise it here or the per-cache TTLs above are never applied
+    cacheManager.initializeCaches();
+    return new ResilientCacheManager(cacheManager, redisGuard);
   }
 
   @Bean
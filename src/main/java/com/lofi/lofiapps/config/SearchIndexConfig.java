@@ -0,0 +1,44 @@
+package com.lofi.lofiapps.config;
+
+import com.lofi.lofiapps.service.impl.usecase.search.SearchIndex;
+import com.lofi.lofiapps.service.impl.usecase.search.SearchIndexer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.nio.charset.StandardCharsets;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Back-office search index: its size and readiness as gauges and, when {@code
+ * app.search.sync=redis}, the listener that applies changes broadcast by other instances.
+ */
+@Configuration
+public class SearchIndexConfig {
+
+  @Bean
+  public MeterBinder searchIndexMetrics(SearchIndex searchIndex, SearchIndexer searchIndexer) {
+    return registry -> {
+      Gauge.builder("lofi.search.index.documents", searchIndex, SearchIndex::size)
+          .register(registry);
+      Gauge.builder("lofi.search.index.ready", searchIndexer, s -> s.isReady() ? 1 : 0)
+          .register(registry);
+    };
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "app.search.sync", havingValue = "redis")
+  public RedisMessageListenerContainer searchIndexListener(
+      RedisConnectionFactory connectionFactory, SearchIndexer searchIndexer) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(connectionFactory);
+    container.addMessageListener(
+        (message, pattern) ->
+            searchIndexer.onMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+        new ChannelTopic(SearchIndexer.CHANNEL));
+    return container;
+  }
+}
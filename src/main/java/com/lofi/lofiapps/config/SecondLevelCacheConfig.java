@@ -0,0 +1,91 @@
+package com.lofi.lofiapps.config;
+
+import com.lofi.lofiapps.service.ReferenceCacheInvalidator;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import java.nio.charset.StandardCharsets;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Hibernate second-level cache for reference data: hit-ratio metrics per region and, when {@code
+ * app.cache.l2.invalidation=redis}, the listener that applies evictions broadcast by other
+ * instances. Regions themselves are defined in {@code ehcache.xml}.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+  private static final String[] REGIONS = {
+    "product", "role", "permission", "branch", "role.permissions", "user.roles"
+  };
+
+  /**
+   * Publishes {@code lofi.hibernate.l2.requests} (result=hit|miss) and {@code
+   * lofi.hibernate.l2.hit.ratio} per region, plus the same for the query cache under region {@code
+   * query}. Needs {@code hibernate.generate_statistics}; without it every value stays 0.
+   */
+  @Bean
+  public MeterBinder secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+    return registry -> {
+      Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+      for (String region : REGIONS) {
+        CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+        FunctionCounter.builder(
+                "lofi.hibernate.l2.requests", regionStatistics, CacheRegionStatistics::getHitCount)
+            .tags("region", region, "result", "hit")
+            .register(registry);
+        FunctionCounter.builder(
+                "lofi.hibernate.l2.requests", regionStatistics, CacheRegionStatistics::getMissCount)
+            .tags("region", region, "result", "miss")
+            .register(registry);
+        Gauge.builder(
+                "lofi.hibernate.l2.hit.ratio",
+                regionStatistics,
+                s -> ratio(s.getHitCount(), s.getMissCount()))
+            .tag("region", region)
+            .register(registry);
+      }
+      FunctionCounter.builder(
+              "lofi.hibernate.l2.requests", statistics, Statistics::getQueryCacheHitCount)
+          .tags("region", "query", "result", "hit")
+          .register(registry);
+      FunctionCounter.builder(
+              "lofi.hibernate.l2.requests", statistics, Statistics::getQueryCacheMissCount)
+          .tags("region", "query", "result", "miss")
+          .register(registry);
+      Gauge.builder(
+              "lofi.hibernate.l2.hit.ratio",
+              statistics,
+              s -> ratio(s.getQueryCacheHitCount(), s.getQueryCacheMissCount()))
+          .tag("region", "query")
+          .register(registry);
+    };
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "app.cache.l2.invalidation", havingValue = "redis")
+  public RedisMessageListenerContainer secondLevelCacheInvalidationListener(
+      RedisConnectionFactory connectionFactory, ReferenceCacheInvalidator invalidator) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(connectionFactory);
+    container.addMessageListener(
+        (message, pattern) ->
+            invalidator.onMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+        new ChannelTopic(ReferenceCacheInvalidator.CHANNEL));
+    return container;
+  }
+
+  static double ratio(long hits, long misses) {
+    long total = hits + misses;
+    return total == 0 ? 0 : (double) hits / total;
+  }
+}
@@ -2,11 +2,14 @@ package com.lofi.lofiapps.config;
 
 import com.lofi.lofiapps.security.jwt.AuthEntryPointJwt;
 import com.lofi.lofiapps.security.jwt.AuthTokenFilter;
+import com.lofi.lofiapps.security.permission.BitsetPermissionEvaluator;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionHandler;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -39,9 +42,21 @@ public class SecurityConfig {
     return authConfig.getAuthenticationManager();
   }
 
+  // Static so method security picks it up without initialising this configuration early
+  @Bean
+  static MethodSecurityExpressionHandler methodSecurityExpressionHandler() {
+    DefaultMethodSecurityExpressionHandler handler = new DefaultMethodSecurityExpressionHandler();
+    handler.setPermissionEvaluator(new BitsetPermissionEvaluator());
+    return handler;
+  }
+
+  @Value("${app.auth.hashing.bcrypt-strength:10}")
+  private int bcryptStrength;
+
+  // Raising the strength re-hashes stored credentials on their next successful login
   @Bean
   public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+    return new BCryptPasswordEncoder(bcryptStrength);
   }
 
   @Bean
@@ -63,6 +78,11 @@ public class SecurityConfig {
                     .permitAll()
                     .requestMatchers("/swagger-ui/**", "/v3/api-docs/**")
                     .permitAll()
+                    .requestMatchers("/actuator/health")
+                    .permitAll()
+                    // Metrics name endpoints, prompts and pool sizes; staff administrators only
+                    .requestMatchers("/actuator/**")
+                    .hasAnyRole("ADMIN", "SUPER_ADMIN")
                     .anyRequest()
                     .authenticated());
 
@@ -15,6 +15,12 @@ public class WebConfig implements WebMvcConfigurer {
   public void addInterceptors(InterceptorRegistry registry) {
     registry
         .addInterceptor(idempotencyInterceptor)
-        .addPathPatterns("/loans/*/approve", "/loans/*/reject", "/loans/*/disburse");
+        .addPathPatterns(
+            "/loans/*/approve",
+            "/loans/*/reject",
+            "/loans/*/disburse",
+            "/loans/batch/approve",
+            "/loans/batch/reject",
+            "/loans/batch/disburse");
   }
 }
@@ -0,0 +1,103 @@
+package com.lofi.lofiapps.config.datagen;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Inserts {@code rows} rows into one table with JDBC batches, split into independent chunks that
+ * run on the shared writer pool. Each chunk uses its own connection and commits every batch, so
+ * neither the transaction log nor the heap grows with the row count.
+ */
+@Slf4j
+final class BatchTableWriter {
+
+  @FunctionalInterface
+  interface RowBinder {
+    void bind(PreparedStatement statement, long index) throws SQLException;
+  }
+
+  private final DataSource dataSource;
+  private final ExecutorService writers;
+  private final int batchSize;
+  private final int batchesPerChunk;
+
+  BatchTableWriter(
+      DataSource dataSource, ExecutorService writers, int batchSize, int batchesPerChunk) {
+    this.dataSource = dataSource;
+    this.writers = writers;
+    this.batchSize = batchSize;
+    this.batchesPerChunk = batchesPerChunk;
+  }
+
+  /** Starts writing rows {@code [0, rows)} and returns the chunk futures without waiting. */
+  List<Future<?>> submit(String table, String sql, long rows, RowBinder binder) {
+    long chunkRows = (long) batchSize * batchesPerChunk;
+    AtomicLong written = new AtomicLong();
+    long started = System.nanoTime();
+    List<Future<?>> chunks = new ArrayList<>();
+    for (long from = 0; from < rows; from += chunkRows) {
+      long start = from;
+      long end = Math.min(rows, from + chunkRows);
+      chunks.add(
+          writers.submit(
+              () -> {
+                writeChunk(sql, start, end, binder);
+                long total = written.addAndGet(end - start);
+                if (total == rows || total / chunkRows % 10 == 0) {
+                  double seconds = Math.max(1e-3, (System.nanoTime() - started) / 1e9);
+                  log.info(
+                      "{}: {}/{} rows ({} rows/s)", table, total, rows, (long) (total / seconds));
+                }
+                return null;
+              }));
+    }
+    return chunks;
+  }
+
+  static void await(List<Future<?>> chunks) throws InterruptedException {
+    try {
+      for (Future<?> chunk : chunks) {
+        chunk.get();
+      }
+    } catch (ExecutionException e) {
+      chunks.forEach(chunk -> chunk.cancel(true));
+      throw new IllegalStateException("Synthetic data write failed", e.getCause());
+    }
+  }
+
+  private void writeChunk(String sql, long start, long end, RowBinder binder) throws SQLException {
+    try (Connection connection = dataSource.getConnection()) {
+      connection.setAutoCommit(false);
+      try (PreparedStatement statement = connection.prepareStatement(sql)) {
+        int pending = 0;
+        for (long index = start; index < end; index++) {
+          binder.bind(statement, index);
+          statement.addBatch();
+          if (++pending == batchSize) {
+            statement.executeBatch();
+            connection.commit();
+            pending = 0;
+          }
+        }
+        if (pending > 0) {
+          statement.executeBatch();
+          connection.commit();
+        }
+      } catch (SQLException | RuntimeException e) {
+        connection.rollback();
+        throw e;
+      } finally {
+        connection.setAutoCommit(true);
+      }
+    }
+  }
+}
@@ -0,0 +1,453 @@
+package com.lofi.lofiapps.config.datagen;
+
+import com.lofi.lofiapps.config.datagen.SyntheticRows.Table;
+import com.lofi.lofiapps.enums.LoanStatus;
+import com.lofi.lofiapps.enums.NotificationType;
+import com.lofi.lofiapps.enums.RoleName;
+import com.lofi.lofiapps.enums.UserStatus;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * SyntheticDataGenerator - production-scale data for load and capacity testing.
+ *
+ * <p>Runs only under the 'datagen' profile, instead of 'dev', so nothing is wiped:
+ *
+ * <pre>
+ * DB_BULK_COPY_FOR_BATCH=true java -jar lofiapps.jar --spring.profiles.active=datagen \
+ *     --app.datagen.loans=5000000
+ * </pre>
+ *
+ * <p>Volumes per table, the seed and the writer pool come from {@code app.datagen.*}. Rows are
+ * appended next to existing data with deterministic IDs, so the same seed always produces the same
+ * rows; a different seed is needed to add a second data set to the same database. Writes bypass JPA
+ * and go through JDBC batches on parallel writer threads; with {@code DB_BULK_COPY_FOR_BATCH} the
+ * SQL Server driver turns those batches into bulk copy.
+ *
+ * <p>The application exits once generation finishes unless {@code app.datagen.exit-when-done} is
+ * false.
+ */
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+@Profile("datagen")
+public class SyntheticDataGenerator {
+
+  private static final String SYSTEM = "DATAGEN";
+
+  private static final String[] CITIES = {
+    "Jakarta", "Surabaya", "Bandung", "Medan", "Semarang", "Makassar", "Palembang", "Denpasar",
+    "Yogyakarta", "Balikpapan", "Pekanbaru", "Malang", "Padang", "Manado", "Pontianak",
+        "Banjarmasin"
+  };
+
+  private final DataSource dataSource;
+  private final JdbcTemplate jdbcTemplate;
+  private final PasswordEncoder passwordEncoder;
+  private final ConfigurableApplicationContext applicationContext;
+
+  @Value("${app.datagen.seed:42}")
+  private long seed;
+
+  @Value("${app.datagen.branches:60}")
+  private int branches;
+
+  @Value("${app.datagen.products:8}")
+  private int products;
+
+  @Value("${app.datagen.customers:500000}")
+  private long customers;
+
+  @Value("${app.datagen.loans:2000000}")
+  private long loans;
+
+  @Value("${app.datagen.audit-logs:5000000}")
+  private long auditLogs;
+
+  @Value("${app.datagen.notifications:2500000}")
+  private long notifications;
+
+  @Value("${app.datagen.writer-threads:8}")
+  private int writerThreads;
+
+  @Value("${app.datagen.batch-size:2000}")
+  private int batchSize;
+
+  @Value("${app.datagen.history-days:730}")
+  private int historyDays;
+
+  @Value("${app.datagen.exit-when-done:true}")
+  private boolean exitWhenDone;
+
+  /** Runs after {@code DataInitializer}, which creates the customer role this data needs. */
+  @Bean
+  @Order(Ordered.LOWEST_PRECEDENCE)
+  public CommandLineRunner generateSyntheticData() {
+    return args -> {
+      if (branches < 1 || products < 1 || customers < 1) {
+        throw new IllegalArgumentException(
+            "app.datagen needs at least one branch, product and customer");
+      }
+      SyntheticRows rows =
+          new SyntheticRows(seed, LocalDateTime.now(), historyDays, branches, products);
+      Integer existing =
+          jdbcTemplate.queryForObject(
+              "SELECT COUNT(*) FROM users WHERE id = ?",
+              Integer.class,
+              rows.id(Table.CUSTOMER, 0).toString());
+      if (existing != null && existing > 0) {
+        throw new IllegalStateException(
+            "Synthetic data for seed " + seed + " already exists; use another app.datagen.seed");
+      }
+
+      long started = System.nanoTime();
+      log.info(
+          "Generating synthetic data (seed {}): {} customers, {} loans, {} audit logs,"
+              + " {} notifications on {} writer threads",
+          seed,
+          customers,
+          loans,
+          auditLogs,
+          notifications,
+          writerThreads);
+
+      ExecutorService writers = Executors.newFixedThreadPool(writerThreads);
+      try {
+        generate(rows, new BatchTableWriter(dataSource, writers, batchSize, 10));
+      } finally {
+        writers.shutdownNow();
+        writers.awaitTermination(1, TimeUnit.MINUTES);
+      }
+
+      long total = branches + products + customers * 2 + loans + auditLogs + notifications;
+      double seconds = (System.nanoTime() - started) / 1e9;
+      log.info(
+          "Synthetic data generated: {} rows in {}s ({} rows/s)",
+          total,
+          (long) seconds,
+          (long) (total / seconds));
+
+      if (exitWhenDone) {
+        System.exit(SpringApplication.exit(applicationContext, () -> 0));
+      }
+    };
+  }
+
+  private void generate(SyntheticRows rows, BatchTableWriter writer) throws InterruptedException {
+    List<ProductSpec> productSpecs = new ArrayList<>();
+    for (int i = 0; i < products; i++) {
+      productSpecs.add(ProductSpec.of(i));
+    }
+    String passwordHash = passwordEncoder.encode("Password123!");
+    String customerRoleId =
+        jdbcTemplate.queryForObject(
+            "SELECT id FROM roles WHERE name = ?", String.class, RoleName.ROLE_CUSTOMER.name());
+
+    // Parents first: customers reference branches and products, everything else customers
+    List<Future<?>> reference = new ArrayList<>();
+    reference.addAll(writer.submit("branches", BRANCH_SQL, branches, branchBinder(rows)));
+    reference.addAll(
+        writer.submit("products", PRODUCT_SQL, products, productBinder(rows, productSpecs)));
+    BatchTableWriter.await(reference);
+
+    BatchTableWriter.await(
+        writer.submit("users", USER_SQL, customers, customerBinder(rows, passwordHash)));
+
+    List<Future<?>> dependents = new ArrayList<>();
+    dependents.addAll(
+        writer.submit(
+            "user_roles",
+            USER_ROLE_SQL,
+            customers,
+            (statement, index) -> {
+              statement.setString(1, rows.id(Table.CUSTOMER, index).toString());
+              statement.setString(2, customerRoleId);
+            }));
+    dependents.addAll(writer.submit("loans", LOAN_SQL, loans, loanBinder(rows, productSpecs)));
+    dependents.addAll(writer.submit("audit_logs", AUDIT_SQL, auditLogs, auditBinder(rows)));
+    dependents.addAll(
+        writer.submit("notifications", NOTIFICATION_SQL, notifications, notificationBinder(rows)));
+    BatchTableWriter.await(dependents);
+  }
+
+  private static final String BASE_COLUMNS =
+      "id, created_at, updated_at, created_by, last_modified_by";
+
+  private static final String BRANCH_SQL =
+      "INSERT INTO branches ("
+          + BASE_COLUMNS
+          + ", name, address, city, state, zip_code, phone, is_head_office, longitude, latitude)"
+          + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private static final String PRODUCT_SQL =
+      "INSERT INTO products ("
+          + BASE_COLUMNS
+          + ", product_name, product_code, description, interest_rate, min_tenor, max_tenor,"
+          + " min_loan_amount, max_loan_amount, admin_fee, is_active)"
+          + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private static final String USER_SQL =
+      "INSERT INTO users ("
+          + BASE_COLUMNS
+          + ", branch_id, username, full_name, email, password, phone_number, pin_set,"
+          + " failed_login_attempts, status, product_id, loans_completed, total_overdue_days,"
+          + " profile_completed)"
+          + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private static final String USER_ROLE_SQL =
+      "INSERT INTO user_roles (user_id, role_id) VALUES (?, ?)";
+
+  private static final String LOAN_SQL =
+      "INSERT INTO loans ("
+          + BASE_COLUMNS
+          + ", customer_id, branch_id, product_id, loan_amount, tenor, loan_status, current_stage,"
+          + " submitted_at, approved_at, rejected_at, disbursed_at, disbursement_reference,"
+          + " last_status_changed_at, interest_rate, admin_fee, pin_validated)"
+          + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private static final String AUDIT_SQL =
+      "INSERT INTO audit_logs ("
+          + BASE_COLUMNS
+          + ", user_id, action, entity_type, entity_id, ip_address, user_agent, description)"
+          + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private static final String NOTIFICATION_SQL =
+      "INSERT INTO notifications ("
+          + BASE_COLUMNS
+          + ", user_id, title, body, type, reference_id, is_read, link)"
+          + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private static int bindBase(PreparedStatement statement, UUID id, LocalDateTime createdAt)
+      throws SQLException {
+    Timestamp created = Timestamp.valueOf(createdAt);
+    statement.setString(1, id.toString());
+    statement.setTimestamp(2, created);
+    statement.setTimestamp(3, created);
+    statement.setString(4, SYSTEM);
+    statement.setString(5, SYSTEM);
+    return 6;
+  }
+
+  private BatchTableWriter.RowBinder branchBinder(SyntheticRows rows) {
+    return (statement, index) -> {
+      SplittableRandom random = rows.random(Table.BRANCH, index);
+      String city = CITIES[(int) (index % CITIES.length)];
+      int p = bindBase(statement, rows.id(Table.BRANCH, index), rows.createdAt(random));
+      statement.setString(p++, "SYN-" + seed + " " + city + " " + (index + 1));
+      statement.setString(p++, "Jl. Sintetis No. " + (index + 1));
+      statement.setString(p++, city);
+      statement.setString(p++, city);
+      statement.setString(p++, String.format("%05d", 10000 + index));
+      statement.setString(p++, String.format("021%08d", index));
+      statement.setBoolean(p++, false);
+      statement.setBigDecimal(p++, coordinate(95 + random.nextDouble() * 46));
+      statement.setBigDecimal(p, coordinate(-11 + random.nextDouble() * 17));
+    };
+  }
+
+  private BatchTableWriter.RowBinder productBinder(SyntheticRows rows, List<ProductSpec> specs) {
+    return (statement, index) -> {
+      ProductSpec spec = specs.get((int) index);
+      int p =
+          bindBase(
+              statement,
+              rows.id(Table.PRODUCT, index),
+              rows.createdAt(rows.random(Table.PRODUCT, index)));
+      statement.setString(p++, "Synthetic Tier " + (index + 1));
+      statement.setString(p++, "SYN-" + seed + "-" + (index + 1));
+      statement.setString(p++, "Generated product for load testing");
+      statement.setBigDecimal(p++, spec.interestRate());
+      statement.setInt(p++, spec.minTenor());
+      statement.setInt(p++, spec.maxTenor());
+      statement.setBigDecimal(p++, BigDecimal.valueOf(spec.minAmount()));
+      statement.setBigDecimal(p++, BigDecimal.valueOf(spec.maxAmount()));
+      statement.setBigDecimal(p++, spec.adminFee());
+      statement.setBoolean(p, true);
+    };
+  }
+
+  private BatchTableWriter.RowBinder customerBinder(SyntheticRows rows, String passwordHash) {
+    return (statement, index) -> {
+      SplittableRandom random = rows.random(Table.CUSTOMER, index);
+      String name = "syn" + seed + "_" + index;
+      int p = bindBase(statement, rows.id(Table.CUSTOMER, index), rows.createdAt(random));
+      statement.setString(p++, rows.id(Table.BRANCH, rows.customerBranch(index)).toString());
+      statement.setString(p++, name);
+      statement.setString(p++, "Synthetic Customer " + index);
+      statement.setString(p++, name + "@load.lofi.test");
+      statement.setString(p++, passwordHash);
+      statement.setString(p++, String.format("08%010d", index));
+      statement.setBoolean(p++, true);
+      statement.setInt(p++, 0);
+      statement.setString(
+          p++, (random.nextInt(100) < 97 ? UserStatus.ACTIVE : UserStatus.INACTIVE).name());
+      statement.setString(p++, rows.id(Table.PRODUCT, rows.customerProduct(index)).toString());
+      statement.setInt(p++, random.nextInt(4));
+      statement.setInt(p++, random.nextInt(100) < 85 ? 0 : random.nextInt(90));
+      statement.setBoolean(p, true);
+    };
+  }
+
+  private BatchTableWriter.RowBinder loanBinder(SyntheticRows rows, List<ProductSpec> specs) {
+    return (statement, index) -> {
+      SplittableRandom random = rows.random(Table.LOAN, index);
+      long customer = random.nextLong(customers);
+      ProductSpec spec = specs.get(rows.customerProduct(customer));
+      LoanStatus status = rows.loanStatus(random);
+      LocalDateTime createdAt = rows.createdAt(random);
+      LocalDateTime submittedAt =
+          status == LoanStatus.DRAFT ? null : rows.later(createdAt, 1 + random.nextInt(72));
+      LocalDateTime decidedAt =
+          submittedAt == null ? null : rows.later(submittedAt, 4 + random.nextInt(120));
+      boolean approved =
+          status == LoanStatus.APPROVED
+              || status == LoanStatus.DISBURSED
+              || status == LoanStatus.COMPLETED;
+      LocalDateTime disbursedAt =
+          status == LoanStatus.DISBURSED || status == LoanStatus.COMPLETED
+              ? rows.later(decidedAt, 2 + random.nextInt(48))
+              : null;
+      LocalDateTime lastChange =
+          switch (status) {
+            case DRAFT -> createdAt;
+            case SUBMITTED, CANCELLED -> submittedAt != null ? submittedAt : createdAt;
+            case DISBURSED -> disbursedAt;
+            case COMPLETED -> rows.later(disbursedAt, 24L * 30 * spec.minTenor());
+            default -> decidedAt;
+          };
+
+      int p = bindBase(statement, rows.id(Table.LOAN, index), createdAt);
+      statement.setString(p++, rows.id(Table.CUSTOMER, customer).toString());
+      statement.setString(p++, rows.id(Table.BRANCH, rows.customerBranch(customer)).toString());
+      statement.setString(p++, rows.id(Table.PRODUCT, rows.customerProduct(customer)).toString());
+      statement.setBigDecimal(
+          p++, SyntheticRows.amount(random, spec.minAmount(), spec.maxAmount()));
+      statement.setInt(p++, spec.tenor(random));
+      statement.setString(p++, status.name());
+      statement.setString(p++, SyntheticRows.stageOf(status).name());
+      setTimestamp(statement, p++, submittedAt);
+      setTimestamp(statement, p++, approved ? decidedAt : null);
+      setTimestamp(statement, p++, status == LoanStatus.REJECTED ? decidedAt : null);
+      setTimestamp(statement, p++, disbursedAt);
+      if (disbursedAt != null) {
+        statement.setString(p++, "SYN-DISB-" + index);
+      } else {
+        statement.setNull(p++, Types.VARCHAR);
+      }
+      setTimestamp(statement, p++, lastChange);
+      statement.setBigDecimal(p++, spec.interestRate());
+      statement.setBigDecimal(p++, spec.adminFee());
+      statement.setBoolean(p, submittedAt != null);
+    };
+  }
+
+  private BatchTableWriter.RowBinder auditBinder(SyntheticRows rows) {
+    return (statement, index) -> {
+      SplittableRandom random = rows.random(Table.AUDIT_LOG, index);
+      String action = rows.auditAction(random);
+      boolean loanAction = action.startsWith("LOAN_") && loans > 0;
+      long customer = random.nextLong(customers);
+      int p = bindBase(statement, rows.id(Table.AUDIT_LOG, index), rows.createdAt(random));
+      statement.setString(p++, rows.id(Table.CUSTOMER, customer).toString());
+      statement.setString(p++, action);
+      statement.setString(p++, loanAction ? "LOAN" : "USER");
+      statement.setString(
+          p++,
+          (loanAction
+                  ? rows.id(Table.LOAN, random.nextLong(loans))
+                  : rows.id(Table.CUSTOMER, customer))
+              .toString());
+      statement.setString(
+          p++, "10." + random.nextInt(256) + "." + random.nextInt(256) + "." + random.nextInt(256));
+      statement.setString(p++, random.nextBoolean() ? "okhttp/4.12.0" : "Mozilla/5.0");
+      statement.setString(p, action + " (synthetic)");
+    };
+  }
+
+  private BatchTableWriter.RowBinder notificationBinder(SyntheticRows rows) {
+    return (statement, index) -> {
+      SplittableRandom random = rows.random(Table.NOTIFICATION, index);
+      NotificationType type = rows.notificationType(random);
+      boolean aboutLoan = type == NotificationType.LOAN && loans > 0;
+      int p = bindBase(statement, rows.id(Table.NOTIFICATION, index), rows.createdAt(random));
+      statement.setString(p++, rows.id(Table.CUSTOMER, random.nextLong(customers)).toString());
+      statement.setString(p++, type == NotificationType.LOAN ? "Loan update" : "Account notice");
+      statement.setString(p++, "Synthetic " + type.name().toLowerCase() + " notification");
+      statement.setString(p++, type.name());
+      if (aboutLoan) {
+        statement.setString(p++, rows.id(Table.LOAN, random.nextLong(loans)).toString());
+      } else {
+        statement.setNull(p++, Types.VARCHAR);
+      }
+      statement.setBoolean(p++, random.nextInt(100) < 70);
+      statement.setNull(p, Types.VARCHAR);
+    };
+  }
+
+  private static BigDecimal coordinate(double degrees) {
+    return BigDecimal.valueOf(degrees).setScale(8, RoundingMode.HALF_UP);
+  }
+
+  private static void setTimestamp(PreparedStatement statement, int index, LocalDateTime value)
+      throws SQLException {
+    if (value == null) {
+      statement.setNull(index, Types.TIMESTAMP);
+    } else {
+      statement.setTimestamp(index, Timestamp.valueOf(value));
+    }
+  }
+
+  /** Product tiers: bigger tiers allow larger amounts and longer tenors at lower rates. */
+  record ProductSpec(
+      long minAmount,
+      long maxAmount,
+      int minTenor,
+      int maxTenor,
+      BigDecimal interestRate,
+      BigDecimal adminFee) {
+
+    static ProductSpec of(int tier) {
+      long min = 1_000_000L * (tier + 1);
+      long max = 10_000_000L * (tier + 1) * (tier + 1);
+      return new ProductSpec(
+          min,
+          max,
+          3,
+          Math.min(60, 12 * (tier + 1)),
+          BigDecimal.valueOf(Math.max(0.75, 2.5 - 0.25 * tier)).setScale(2),
+          BigDecimal.valueOf(50_000L + 25_000L * tier));
+    }
+
+    int tenor(SplittableRandom random) {
+      int steps = (maxTenor - minTenor) / 3;
+      return minTenor + 3 * random.nextInt(steps + 1);
+    }
+  }
+}
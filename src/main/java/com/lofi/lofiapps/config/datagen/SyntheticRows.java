@@ -0,0 +1,156 @@
+package com.lofi.lofiapps.config.datagen;
+
+import com.lofi.lofiapps.enums.ApprovalStage;
+import com.lofi.lofiapps.enums.LoanStatus;
+import com.lofi.lofiapps.enums.NotificationType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Deterministic row model for the synthetic data generator. Every value of row {@code i} in a table
+ * comes from a random stream seeded by {@code (seed, table, i)} alone, so output is identical for a
+ * given seed no matter how rows are split across writer threads, and a row can reference another
+ * table's row by index without looking anything up.
+ */
+final class SyntheticRows {
+
+  enum Table {
+    BRANCH(0x6272616e6368L),
+    PRODUCT(0x70726f64756374L),
+    CUSTOMER(0x637573746f6dL),
+    LOAN(0x6c6f616eL),
+    AUDIT_LOG(0x6175646974L),
+    NOTIFICATION(0x6e6f74696679L);
+
+    private final long salt;
+
+    Table(long salt) {
+      this.salt = salt;
+    }
+  }
+
+  // Roughly a mature book: most loans disbursed or completed, a thin pipeline in flight
+  private static final WeightedChoice<LoanStatus> LOAN_STATUS =
+      new WeightedChoice<>(
+          List.of(
+              LoanStatus.DRAFT,
+              LoanStatus.SUBMITTED,
+              LoanStatus.REVIEWED,
+              LoanStatus.APPROVED,
+              LoanStatus.REJECTED,
+              LoanStatus.DISBURSED,
+              LoanStatus.COMPLETED,
+              LoanStatus.CANCELLED),
+          new double[] {6, 6, 4, 4, 12, 38, 24, 6});
+
+  static final List<String> AUDIT_ACTIONS =
+      List.of(
+          "LOGIN",
+          "LOAN_CREATE",
+          "LOAN_SUBMIT",
+          "LOAN_REVIEW",
+          "LOAN_APPROVE",
+          "LOAN_REJECT",
+          "LOAN_DISBURSE",
+          "PROFILE_UPDATE",
+          "LOGOUT");
+
+  private static final WeightedChoice<String> AUDIT_ACTION =
+      new WeightedChoice<>(AUDIT_ACTIONS, new double[] {40, 8, 7, 6, 4, 2, 3, 5, 25});
+
+  private static final WeightedChoice<NotificationType> NOTIFICATION_TYPE =
+      new WeightedChoice<>(
+          List.of(NotificationType.LOAN, NotificationType.AUTH, NotificationType.SYSTEM),
+          new double[] {70, 20, 10});
+
+  private final long seed;
+  private final LocalDateTime now;
+  private final int historyDays;
+  private final WeightedChoice<Integer> branchChoice;
+  private final WeightedChoice<Integer> productChoice;
+
+  SyntheticRows(long seed, LocalDateTime now, int historyDays, int branches, int products) {
+    this.seed = seed;
+    this.now = now;
+    this.historyDays = historyDays;
+    // Capital-city branches carry most customers; entry-level products sell the most
+    this.branchChoice = WeightedChoice.zipf(IntStream.range(0, branches).boxed().toList(), 1.0);
+    this.productChoice = WeightedChoice.zipf(IntStream.range(0, products).boxed().toList(), 0.8);
+  }
+
+  SplittableRandom random(Table table, long index) {
+    return new SplittableRandom(mix(seed ^ table.salt, index));
+  }
+
+  /** A stable version-4-shaped UUID for row {@code index} of {@code table}. */
+  UUID id(Table table, long index) {
+    long high = mix(seed + table.salt, index);
+    long low = mix(high, ~index);
+    high = (high & 0xFFFFFFFFFFFF0FFFL) | 0x0000000000004000L;
+    low = (low & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+    return new UUID(high, low);
+  }
+
+  int customerBranch(long customer) {
+    return branchChoice.pick(random(Table.CUSTOMER, customer));
+  }
+
+  int customerProduct(long customer) {
+    SplittableRandom random = random(Table.CUSTOMER, customer);
+    random.nextDouble(); // the branch draw
+    return productChoice.pick(random);
+  }
+
+  LoanStatus loanStatus(SplittableRandom random) {
+    return LOAN_STATUS.pick(random);
+  }
+
+  String auditAction(SplittableRandom random) {
+    return AUDIT_ACTION.pick(random);
+  }
+
+  NotificationType notificationType(SplittableRandom random) {
+    return NOTIFICATION_TYPE.pick(random);
+  }
+
+  /** Creation times skew recent: volume grows over the history window. */
+  LocalDateTime createdAt(SplittableRandom random) {
+    double age = 1 - Math.sqrt(random.nextDouble());
+    long seconds = (long) (age * historyDays * 86_400L);
+    return now.minusSeconds(seconds);
+  }
+
+  /** {@code hours} after {@code from}, but never past the generation time. */
+  LocalDateTime later(LocalDateTime from, long hours) {
+    LocalDateTime value = from.plusHours(hours);
+    return value.isAfter(now) ? now : value;
+  }
+
+  static ApprovalStage stageOf(LoanStatus status) {
+    return switch (status) {
+      case DRAFT, CANCELLED -> ApprovalStage.CUSTOMER;
+      case SUBMITTED -> ApprovalStage.MARKETING;
+      case REVIEWED, REJECTED -> ApprovalStage.BRANCH_MANAGER;
+      case APPROVED, DISBURSED, COMPLETED -> ApprovalStage.BACKOFFICE;
+    };
+  }
+
+  /** Log-uniform amount between the bounds, rounded down to 100k. */
+  static BigDecimal amount(SplittableRandom random, long min, long max) {
+    double value = Math.exp(Math.log(min) + random.nextDouble() * (Math.log(max) - Math.log(min)));
+    long rounded = Math.max(min, ((long) value / 100_000L) * 100_000L);
+    return BigDecimal.valueOf(rounded);
+  }
+
+  // SplitMix64 finalizer over a combined key
+  static long mix(long a, long b) {
+    long z = a * 0x9E3779B97F4A7C15L + b;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+}
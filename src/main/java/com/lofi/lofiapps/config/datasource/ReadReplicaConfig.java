@@ -0,0 +1,113 @@
+package com.lofi.lofiapps.config.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+/**
+ * Read-replica routing, off unless {@code app.datasource.routing.enabled} is true. The primary
+ * keeps the usual {@code spring.datasource.*} settings; replicas are listed in {@code
+ * DB_REPLICA_URLS} (comma-separated JDBC URLs, {@code ApplicationIntent=ReadOnly} for an
+ * availability group listener) and share the primary's credentials.
+ *
+ * <p>Bean layout: {@code primaryDataSource} (Hikari, bound to {@code spring.datasource.hikari}) and
+ * the replica pools sit behind {@link ReplicaRoutingDataSource}, which in turn sits behind the
+ * {@code @Primary} lazy proxy that JPA and {@code JdbcTemplate} pick up. Hikari pool metrics are
+ * published per pool name ({@code primary}, {@code replica-1}, ...).
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.routing.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+  @Value("${app.datasource.replica-urls:}")
+  private String[] replicaUrls;
+
+  @Value("${app.datasource.replica.max-pool-size:10}")
+  private int replicaMaxPoolSize;
+
+  @Value("${app.datasource.routing.max-lag-ms:2000}")
+  private long maxLagMillis;
+
+  @Value("${app.datasource.routing.read-your-writes-ms:5000}")
+  private long readYourWritesMillis;
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    HikariDataSource dataSource =
+        properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    dataSource.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+    return dataSource;
+  }
+
+  @Bean
+  public ReplicaRoutingDataSource replicaRoutingDataSource(
+      HikariDataSource primaryDataSource,
+      DataSourceProperties properties,
+      MeterRegistry meterRegistry) {
+    List<ReplicaPool> replicas = new ArrayList<>();
+    for (String url : replicaUrls) {
+      if (!StringUtils.hasText(url)) {
+        continue;
+      }
+      String name = "replica-" + (replicas.size() + 1);
+      replicas.add(new ReplicaPool(name, replicaPool(name, url.trim(), properties, meterRegistry)));
+    }
+    if (replicas.isEmpty()) {
+      log.warn(
+          "Read-replica routing is enabled but no replica URLs are set; all reads use primary");
+    }
+    return new ReplicaRoutingDataSource(
+        primaryDataSource,
+        replicas,
+        new ReadYourWritesGuard(readYourWritesMillis, Clock.systemUTC()),
+        meterRegistry);
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+    return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+  }
+
+  @Bean
+  public ReplicaLagMonitor replicaLagMonitor(
+      HikariDataSource primaryDataSource,
+      ReplicaRoutingDataSource replicaRoutingDataSource,
+      MeterRegistry meterRegistry) {
+    return new ReplicaLagMonitor(
+        primaryDataSource, replicaRoutingDataSource.replicas(), maxLagMillis, meterRegistry);
+  }
+
+  private HikariDataSource replicaPool(
+      String name, String url, DataSourceProperties properties, MeterRegistry meterRegistry) {
+    HikariConfig config = new HikariConfig();
+    config.setPoolName(name);
+    config.setJdbcUrl(url);
+    config.setUsername(properties.determineUsername());
+    config.setPassword(properties.determinePassword());
+    config.setDriverClassName(properties.determineDriverClassName());
+    config.setMaximumPoolSize(replicaMaxPoolSize);
+    config.setReadOnly(true);
+    // Start even when a replica is down; the lag monitor keeps it out of rotation meanwhile
+    config.setInitializationFailTimeout(-1);
+    config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+    return new HikariDataSource(config);
+  }
+}
@@ -0,0 +1,48 @@
+package com.lofi.lofiapps.config.datasource;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pins a user's reads to the primary for a short window after that user committed a write, so a
+ * customer who just applied does not get a loan list from a replica that has not caught up yet.
+ *
+ * <p>State is per instance. Behind a load balancer without sticky sessions the next request can
+ * land on another instance, which is why the window should stay above the replica lag budget but
+ * below anything users would notice as stale.
+ */
+final class ReadYourWritesGuard {
+
+  /** Expired entries are swept once the map grows past this, instead of on every write. */
+  private static final int SWEEP_THRESHOLD = 10_000;
+
+  private final long windowMillis;
+  private final Clock clock;
+  private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+  ReadYourWritesGuard(long windowMillis, Clock clock) {
+    this.windowMillis = windowMillis;
+    this.clock = clock;
+  }
+
+  void recordWrite(String user) {
+    long now = clock.millis();
+    pinnedUntil.put(user, now + windowMillis);
+    if (pinnedUntil.size() > SWEEP_THRESHOLD) {
+      pinnedUntil.values().removeIf(until -> until <= now);
+    }
+  }
+
+  boolean isPinned(String user) {
+    Long until = pinnedUntil.get(user);
+    if (until == null) {
+      return false;
+    }
+    if (until <= clock.millis()) {
+      pinnedUntil.remove(user, until);
+      return false;
+    }
+    return true;
+  }
+}
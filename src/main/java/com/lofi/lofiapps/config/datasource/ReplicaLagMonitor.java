@@ -0,0 +1,102 @@
+package com.lofi.lofiapps.config.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Measures replica lag with a heartbeat row: the primary stamps {@code replica_heartbeat} with its
+ * clock and each replica reports how old its copy of the stamp is. That works for availability
+ * groups, transactional replication and log shipping alike, and needs no view permissions on the
+ * replication DMVs. A replica that cannot be read, lacks the row or is behind {@code maxLagMillis}
+ * is taken out of rotation until a later beat shows it caught up.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+  static final String CREATE_TABLE =
+      "IF OBJECT_ID('replica_heartbeat', 'U') IS NULL "
+          + "CREATE TABLE replica_heartbeat (id INT PRIMARY KEY, beat_at DATETIME2 NOT NULL)";
+  static final String BEAT =
+      "MERGE replica_heartbeat AS t USING (SELECT 1 AS id) AS s ON t.id = s.id "
+          + "WHEN MATCHED THEN UPDATE SET beat_at = SYSUTCDATETIME() "
+          + "WHEN NOT MATCHED THEN INSERT (id, beat_at) VALUES (1, SYSUTCDATETIME());";
+  static final String LAG =
+      "SELECT DATEDIFF_BIG(MILLISECOND, beat_at, SYSUTCDATETIME()) FROM replica_heartbeat"
+          + " WHERE id = 1";
+
+  private static final int QUERY_TIMEOUT_SECONDS = 2;
+
+  private final JdbcTemplate primary;
+  private final Map<ReplicaPool, JdbcTemplate> replicas = new LinkedHashMap<>();
+  private final long maxLagMillis;
+  private volatile boolean tableReady;
+
+  ReplicaLagMonitor(
+      DataSource primary, List<ReplicaPool> replicas, long maxLagMillis, MeterRegistry registry) {
+    this.primary = template(primary);
+    this.maxLagMillis = maxLagMillis;
+    for (ReplicaPool replica : replicas) {
+      this.replicas.put(replica, template(replica.dataSource()));
+      Gauge.builder("lofi.datasource.replica.lag", replica, ReplicaPool::lagMillis)
+          .tag("pool", replica.name())
+          .baseUnit("milliseconds")
+          .description("Age of the replica's heartbeat row, -1 when unreadable")
+          .register(registry);
+      Gauge.builder("lofi.datasource.replica.available", replica, r -> r.available() ? 1 : 0)
+          .tag("pool", replica.name())
+          .register(registry);
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${app.datasource.routing.heartbeat-interval-ms:1000}")
+  public void refresh() {
+    try {
+      if (!tableReady) {
+        primary.execute(CREATE_TABLE);
+        tableReady = true;
+      }
+      primary.update(BEAT);
+    } catch (DataAccessException e) {
+      // Without a fresh beat the replicas will drift out of budget on their own
+      log.warn("Failed to write replica heartbeat on primary: {}", e.getMessage());
+    }
+
+    replicas.forEach(
+        (replica, jdbc) -> {
+          boolean wasAvailable = replica.available();
+          try {
+            Long lag = jdbc.queryForObject(LAG, Long.class);
+            if (lag == null) {
+              replica.markUnavailable();
+            } else {
+              replica.recordLag(Math.max(lag, 0), maxLagMillis);
+            }
+          } catch (DataAccessException e) {
+            replica.markUnavailable();
+            log.debug("Replica {} heartbeat unreadable: {}", replica.name(), e.getMessage());
+          }
+          if (wasAvailable != replica.available()) {
+            log.info(
+                "Replica {} {} (lag {} ms, budget {} ms)",
+                replica.name(),
+                replica.available() ? "back in rotation" : "out of rotation",
+                replica.lagMillis(),
+                maxLagMillis);
+          }
+        });
+  }
+
+  private static JdbcTemplate template(DataSource dataSource) {
+    JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+    jdbc.setQueryTimeout(QUERY_TIMEOUT_SECONDS);
+    return jdbc;
+  }
+}
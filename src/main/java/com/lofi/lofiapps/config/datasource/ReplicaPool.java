@@ -0,0 +1,47 @@
+package com.lofi.lofiapps.config.datasource;
+
+import javax.sql.DataSource;
+
+/**
+ * One read replica and what the lag monitor last saw of it. A replica starts out unavailable and
+ * only takes reads once a heartbeat shows it within the lag budget.
+ */
+final class ReplicaPool {
+
+  private final String name;
+  private final DataSource dataSource;
+  private volatile long lagMillis = -1;
+  private volatile boolean available;
+
+  ReplicaPool(String name, DataSource dataSource) {
+    this.name = name;
+    this.dataSource = dataSource;
+  }
+
+  String name() {
+    return name;
+  }
+
+  DataSource dataSource() {
+    return dataSource;
+  }
+
+  /** Last measured lag, or -1 when the replica could not be read. */
+  long lagMillis() {
+    return lagMillis;
+  }
+
+  boolean available() {
+    return available;
+  }
+
+  void recordLag(long lagMillis, long maxLagMillis) {
+    this.lagMillis = lagMillis;
+    this.available = lagMillis <= maxLagMillis;
+  }
+
+  void markUnavailable() {
+    this.lagMillis = -1;
+    this.available = false;
+  }
+}
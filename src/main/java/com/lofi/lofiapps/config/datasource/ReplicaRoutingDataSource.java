@@ -0,0 +1,197 @@
+package com.lofi.lofiapps.config.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends connections for service-level {@code @Transactional(readOnly = true)} work to a read
+ * replica and everything else to the primary. It has to sit behind a {@code
+ * LazyConnectionDataSourceProxy}: the JPA transaction manager asks for a connection before the
+ * read-only flag is published, and the lazy proxy defers the real fetch to the first statement.
+ *
+ * <p>A read stays on the primary when:
+ *
+ * <ul>
+ *   <li>the transaction is Spring Data's implicit read-only wrapper around a single repository
+ *       call, because login and post-redirect lookups run that way without a service transaction;
+ *   <li>the current user committed a write within the read-your-writes window;
+ *   <li>no replica is within the lag budget, or the chosen replica refuses the connection.
+ * </ul>
+ *
+ * <p>Every decision is counted as {@code lofi.datasource.route} tagged with the pool and reason.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements DisposableBean {
+
+  static final String PRIMARY = "primary";
+
+  private static final String REPOSITORY_TX_PREFIX = "org.springframework.data.";
+  private static final Object WRITE_MARKER = new Object();
+
+  /** Why a connection went where it went, exported as the {@code reason} tag. */
+  enum Reason {
+    READ_WRITE,
+    NO_TRANSACTION,
+    REPOSITORY_DEFAULT,
+    READ_ONLY,
+    READ_YOUR_WRITES,
+    REPLICA_UNAVAILABLE,
+    REPLICA_FAILED
+  }
+
+  private final DataSource primary;
+  private final List<ReplicaPool> replicas;
+  private final ReadYourWritesGuard guard;
+  private final MeterRegistry meterRegistry;
+  private final AtomicInteger nextReplica = new AtomicInteger();
+  private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+  ReplicaRoutingDataSource(
+      DataSource primary,
+      List<ReplicaPool> replicas,
+      ReadYourWritesGuard guard,
+      MeterRegistry meterRegistry) {
+    this.primary = primary;
+    this.replicas = List.copyOf(replicas);
+    this.guard = guard;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+      return primary(Reason.NO_TRANSACTION);
+    }
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      trackWrite();
+      return primary(Reason.READ_WRITE);
+    }
+    String txName = TransactionSynchronizationManager.getCurrentTransactionName();
+    if (txName != null && txName.startsWith(REPOSITORY_TX_PREFIX)) {
+      return primary(Reason.REPOSITORY_DEFAULT);
+    }
+    String user = currentUser();
+    if (user != null && guard.isPinned(user)) {
+      return primary(Reason.READ_YOUR_WRITES);
+    }
+
+    ReplicaPool replica = pickReplica();
+    if (replica == null) {
+      return primary(Reason.REPLICA_UNAVAILABLE);
+    }
+    try {
+      Connection connection = replica.dataSource().getConnection();
+      count(replica.name(), Reason.READ_ONLY);
+      return connection;
+    } catch (SQLException e) {
+      // Take it out of rotation until the next heartbeat proves it healthy again
+      replica.markUnavailable();
+      log.warn(
+          "Replica {} refused a connection, reading from primary: {}",
+          replica.name(),
+          e.getMessage());
+      return primary(Reason.REPLICA_FAILED);
+    }
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    throw new UnsupportedOperationException("Pools are configured with fixed credentials");
+  }
+
+  List<ReplicaPool> replicas() {
+    return replicas;
+  }
+
+  private ReplicaPool pickReplica() {
+    int size = replicas.size();
+    int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(size, 1));
+    for (int i = 0; i < size; i++) {
+      ReplicaPool candidate = replicas.get((start + i) % size);
+      if (candidate.available()) {
+        return candidate;
+      }
+    }
+    return null;
+  }
+
+  private Connection primary(Reason reason) throws SQLException {
+    count(PRIMARY, reason);
+    return primary.getConnection();
+  }
+
+  /** Remembers the user once per read-write transaction and pins them after commit. */
+  private void trackWrite() {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()
+        || TransactionSynchronizationManager.hasResource(WRITE_MARKER)) {
+      return;
+    }
+    String user = currentUser();
+    if (user == null) {
+      return;
+    }
+    TransactionSynchronizationManager.bindResource(WRITE_MARKER, user);
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            guard.recordWrite(user);
+          }
+
+          @Override
+          public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_MARKER);
+          }
+        });
+  }
+
+  private static String currentUser() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication == null
+        || !authentication.isAuthenticated()
+        || authentication instanceof AnonymousAuthenticationToken) {
+      return null;
+    }
+    return authentication.getName();
+  }
+
+  private void count(String pool, Reason reason) {
+    counters
+        .computeIfAbsent(
+            pool + ':' + reason,
+            key ->
+                Counter.builder("lofi.datasource.route")
+                    .tag("pool", pool)
+                    .tag("reason", reason.name().toLowerCase())
+                    .register(meterRegistry))
+        .increment();
+  }
+
+  @Override
+  public void destroy() {
+    for (ReplicaPool replica : replicas) {
+      if (replica.dataSource() instanceof AutoCloseable closeable) {
+        try {
+          closeable.close();
+        } catch (Exception e) {
+          log.warn("Failed to close replica pool {}: {}", replica.name(), e.getMessage());
+        }
+      }
+    }
+  }
+}
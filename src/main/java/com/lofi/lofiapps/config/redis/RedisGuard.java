@@ -0,0 +1,128 @@
+package com.lofi.lofiapps.config.redis;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single gate for Redis calls on the request path. Every call goes through a per-consumer bulkhead
+ * and one shared circuit breaker. Failed, rejected or short-circuited calls run the consumer's
+ * fallback instead of failing the request:
+ *
+ * <ul>
+ *   <li>the bulkhead caps how many request threads one consumer can park on a slow Redis,
+ *   <li>the breaker opens on errors and on calls slower than {@code slow-call-ms}, so a latency
+ *       spike stops costing a command timeout per request,
+ *   <li>after {@code open-state-ms} a few probe calls decide whether to close it again.
+ * </ul>
+ *
+ * Command timeouts themselves are set on the Lettuce client, see {@link RedisResilienceConfig}.
+ */
+@Slf4j
+@Component
+public class RedisGuard {
+
+  private final CircuitBreaker circuitBreaker;
+  private final BulkheadRegistry bulkheads;
+  private final MeterRegistry meterRegistry;
+
+  public RedisGuard(
+      MeterRegistry meterRegistry,
+      @Value("${app.redis.resilience.failure-rate-threshold:50}") float failureRateThreshold,
+      @Value("${app.redis.resilience.slow-call-ms:100}") long slowCallMs,
+      @Value("${app.redis.resilience.window-size:50}") int windowSize,
+      @Value("${app.redis.resilience.minimum-calls:20}") int minimumCalls,
+      @Value("${app.redis.resilience.open-state-ms:10000}") long openStateMs,
+      @Value("${app.redis.resilience.max-concurrent-calls:32}") int maxConcurrentCalls) {
+    this.meterRegistry = meterRegistry;
+    this.circuitBreaker =
+        CircuitBreaker.of(
+            "redis",
+            CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(windowSize)
+                .minimumNumberOfCalls(Math.min(minimumCalls, windowSize))
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(Duration.ofMillis(slowCallMs))
+                .waitDurationInOpenState(Duration.ofMillis(openStateMs))
+                .permittedNumberOfCallsInHalfOpenState(5)
+                .recordExceptions(DataAccessException.class)
+                .build());
+    this.bulkheads =
+        BulkheadRegistry.of(
+            BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+
+    circuitBreaker
+        .getEventPublisher()
+        .onStateTransition(event -> log.warn("Redis circuit {}", event.getStateTransition()));
+    meterRegistry.gauge("lofi.redis.degraded", circuitBreaker, cb -> isDegraded(cb) ? 1 : 0);
+  }
+
+  /**
+   * Runs {@code command} against Redis, or {@code fallback} when Redis is failing, slow or already
+   * known to be down. Exceptions other than Redis access failures propagate.
+   */
+  public <T> T call(String consumer, Supplier<T> command, Supplier<T> fallback) {
+    Bulkhead bulkhead = bulkheads.bulkhead(consumer);
+    try {
+      return Bulkhead.decorateSupplier(
+              bulkhead, CircuitBreaker.decorateSupplier(circuitBreaker, command))
+          .get();
+    } catch (CallNotPermittedException e) {
+      return fallback(consumer, "open", fallback);
+    } catch (BulkheadFullException e) {
+      return fallback(consumer, "bulkhead", fallback);
+    } catch (DataAccessException e) {
+      log.warn("Redis {} call failed: {}", consumer, e.getMessage());
+      return fallback(consumer, "error", fallback);
+    }
+  }
+
+  public void run(String consumer, Runnable command, Runnable fallback) {
+    call(
+        consumer,
+        () -> {
+          command.run();
+          return null;
+        },
+        () -> {
+          fallback.run();
+          return null;
+        });
+  }
+
+  /** True while the breaker is not closed, i.e. consumers are (or may be) on their fallbacks. */
+  public boolean isDegraded() {
+    return isDegraded(circuitBreaker);
+  }
+
+  CircuitBreaker circuitBreaker() {
+    return circuitBreaker;
+  }
+
+  private static boolean isDegraded(CircuitBreaker circuitBreaker) {
+    return circuitBreaker.getState() != CircuitBreaker.State.CLOSED;
+  }
+
+  private <T> T fallback(String consumer, String reason, Supplier<T> fallback) {
+    meterRegistry
+        .counter("lofi.redis.fallback", "consumer", consumer, "reason", reason)
+        .increment();
+    return fallback.get();
+  }
+}
@@ -0,0 +1,79 @@
+package com.lofi.lofiapps.config.redis;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.ProtocolKeyword;
+import io.lettuce.core.protocol.RedisCommand;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.redis.LettuceClientConfigurationBuilderCustomizer;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Per-command timeouts on the Lettuce client. Reads sit on the authentication path of every
+ * request, so they get a tighter budget than writes; {@code spring.data.redis.timeout} stays the
+ * upper bound for both.
+ */
+@Configuration
+public class RedisResilienceConfig {
+
+  static final Set<CommandType> READ_COMMANDS =
+      EnumSet.of(
+          CommandType.GET,
+          CommandType.MGET,
+          CommandType.EXISTS,
+          CommandType.TTL,
+          CommandType.PTTL,
+          CommandType.HGET,
+          CommandType.HGETALL,
+          CommandType.PING);
+
+  @Bean
+  public LettuceClientConfigurationBuilderCustomizer redisCommandTimeouts(
+      RedisProperties properties,
+      @Value("${app.redis.resilience.read-timeout-ms:100}") long readTimeoutMs,
+      @Value("${app.redis.resilience.write-timeout-ms:250}") long writeTimeoutMs) {
+    TimeoutOptions timeouts =
+        TimeoutOptions.builder()
+            .timeoutSource(new CommandTimeouts(readTimeoutMs, writeTimeoutMs))
+            .build();
+    // Replaces the options Spring Boot built, so carry the connect timeout over
+    SocketOptions.Builder socket = SocketOptions.builder();
+    if (properties.getConnectTimeout() != null) {
+      socket.connectTimeout(properties.getConnectTimeout());
+    }
+    ClientOptions options =
+        ClientOptions.builder().socketOptions(socket.build()).timeoutOptions(timeouts).build();
+    return builder -> builder.clientOptions(options);
+  }
+
+  static final class CommandTimeouts extends TimeoutOptions.TimeoutSource {
+
+    private final long readTimeoutMs;
+    private final long writeTimeoutMs;
+
+    CommandTimeouts(long readTimeoutMs, long writeTimeoutMs) {
+      this.readTimeoutMs = readTimeoutMs;
+      this.writeTimeoutMs = writeTimeoutMs;
+    }
+
+    @Override
+    public long getTimeout(RedisCommand<?, ?, ?> command) {
+      ProtocolKeyword type = command.getType();
+      return type instanceof CommandType commandType && READ_COMMANDS.contains(commandType)
+          ? readTimeoutMs
+          : writeTimeoutMs;
+    }
+
+    @Override
+    public TimeUnit getTimeUnit() {
+      return TimeUnit.MILLISECONDS;
+    }
+  }
+}
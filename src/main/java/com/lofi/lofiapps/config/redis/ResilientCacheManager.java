@@ -0,0 +1,141 @@
+package com.lofi.lofiapps.config.redis;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * Routes Redis cache calls through {@link RedisGuard}. While Redis is degraded every read is a miss
+ * and writes are skipped, so callers simply bypass the cache. Skipped evictions are logged: those
+ * entries can be stale until their TTL once Redis is back.
+ */
+@Slf4j
+public class ResilientCacheManager implements CacheManager {
+
+  private static final String CONSUMER = "cache";
+
+  private final CacheManager delegate;
+  private final RedisGuard redisGuard;
+  private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+  public ResilientCacheManager(CacheManager delegate, RedisGuard redisGuard) {
+    this.delegate = delegate;
+    this.redisGuard = redisGuard;
+  }
+
+  @Override
+  public Cache getCache(String name) {
+    Cache cache = caches.get(name);
+    if (cache != null) {
+      return cache;
+    }
+    Cache target = delegate.getCache(name);
+    return target == null
+        ? null
+        : caches.computeIfAbsent(name, n -> new ResilientCache(target, redisGuard));
+  }
+
+  @Override
+  public Collection<String> getCacheNames() {
+    return delegate.getCacheNames();
+  }
+
+  static final class ResilientCache implements Cache {
+
+    private final Cache target;
+    private final RedisGuard redisGuard;
+
+    ResilientCache(Cache target, RedisGuard redisGuard) {
+      this.target = target;
+      this.redisGuard = redisGuard;
+    }
+
+    @Override
+    public String getName() {
+      return target.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+      return target.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+      return redisGuard.call(CONSUMER, () -> target.get(key), () -> null);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+      return redisGuard.call(CONSUMER, () -> target.get(key, type), () -> null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+      // Not delegated as a whole: a database error inside the loader must not count against Redis
+      ValueWrapper cached = get(key);
+      if (cached != null) {
+        return (T) cached.get();
+      }
+      T value;
+      try {
+        value = valueLoader.call();
+      } catch (Exception e) {
+        throw new ValueRetrievalException(key, valueLoader, e);
+      }
+      put(key, value);
+      return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+      redisGuard.run(CONSUMER, () -> target.put(key, value), () -> {});
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+      return redisGuard.call(CONSUMER, () -> target.putIfAbsent(key, value), () -> null);
+    }
+
+    @Override
+    public void evict(Object key) {
+      redisGuard.run(CONSUMER, () -> target.evict(key), () -> skipped(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+      return redisGuard.call(
+          CONSUMER,
+          () -> target.evictIfPresent(key),
+          () -> {
+            skipped(key);
+            return false;
+          });
+    }
+
+    @Override
+    public void clear() {
+      redisGuard.run(CONSUMER, target::clear, () -> skipped("*"));
+    }
+
+    @Override
+    public boolean invalidate() {
+      return redisGuard.call(
+          CONSUMER,
+          target::invalidate,
+          () -> {
+            skipped("*");
+            return false;
+          });
+    }
+
+    private void skipped(Object key) {
+      log.warn("Redis degraded: eviction of {}::{} skipped", getName(), key);
+    }
+  }
+}
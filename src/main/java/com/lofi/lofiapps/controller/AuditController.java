@@ -6,13 +6,17 @@ import com.lofi.lofiapps.dto.response.PagedResponse;
 import com.lofi.lofiapps.service.impl.AuditServiceImpl;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -26,11 +30,28 @@ public class AuditController {
   @PreAuthorize("hasRole('ADMIN') or hasRole('SUPER_ADMIN')")
   @Operation(summary = "Get audit logs")
   public ResponseEntity<ApiResponse<PagedResponse<AuditLogResponse>>> getAuditLogs(
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          LocalDateTime from,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          LocalDateTime to,
       @PageableDefault(
               size = 20,
               sort = "createdAt",
               direction = org.springframework.data.domain.Sort.Direction.DESC)
           Pageable pageable) {
-    return ResponseEntity.ok(ApiResponse.success(auditService.getAuditLogs(pageable)));
+    return ResponseEntity.ok(ApiResponse.success(auditService.getAuditLogs(from, to, pageable)));
+  }
+
+  @PostMapping("/partitioning")
+  @PreAuthorize("hasRole('SUPER_ADMIN')")
+  @Operation(
+      summary = "Partition audit logs by month",
+      description = "One-off conversion that rebuilds the clustered index; archiving waits for it")
+  public ResponseEntity<ApiResponse<Boolean>> partitionAuditLogs() {
+    boolean converted = auditService.partitionAuditLogs();
+    return ResponseEntity.ok(
+        ApiResponse.success(
+            converted,
+            converted ? "audit_logs partitioned by month" : "audit_logs was already partitioned"));
   }
 }
@@ -1,5 +1,7 @@
 package com.lofi.lofiapps.controller;
 
+import com.lofi.lofiapps.dto.request.BatchPresignUploadRequest;
+import com.lofi.lofiapps.dto.request.CompleteUploadRequest;
 import com.lofi.lofiapps.dto.request.PresignUploadRequest;
 import com.lofi.lofiapps.dto.response.*;
 import com.lofi.lofiapps.security.jwt.JwtUtils;
@@ -8,8 +10,10 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
@@ -32,6 +36,27 @@ public class DocumentController {
     return ResponseEntity.ok(ApiResponse.success(documentService.presignUpload(request, userId)));
   }
 
+  @PostMapping("/presign-upload/batch")
+  @Operation(summary = "Presign upload for a loan's document set")
+  public ResponseEntity<ApiResponse<List<PresignUploadResponse>>> presignUploadBatch(
+      @Valid @RequestBody BatchPresignUploadRequest request, HttpServletRequest httpRequest) {
+
+    UUID userId = getCurrentUserId(httpRequest);
+    return ResponseEntity.ok(
+        ApiResponse.success(documentService.presignUploadBatch(request, userId)));
+  }
+
+  @PostMapping("/complete-upload")
+  @Operation(summary = "Confirm finished uploads and queue their verification")
+  public ResponseEntity<ApiResponse<Void>> completeUpload(
+      @Valid @RequestBody CompleteUploadRequest request, HttpServletRequest httpRequest) {
+
+    UUID userId = getCurrentUserId(httpRequest);
+    documentService.completeUpload(request.getDocumentIds(), userId);
+    return ResponseEntity.status(HttpStatus.ACCEPTED)
+        .body(ApiResponse.success(null, "Verification queued"));
+  }
+
   @GetMapping("/{id}/download")
   @Operation(summary = "Presign download document")
   public ResponseEntity<ApiResponse<DownloadDocumentResponse>> presignDownload(
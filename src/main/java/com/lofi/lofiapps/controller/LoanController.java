@@ -1,11 +1,14 @@
 package com.lofi.lofiapps.controller;
 
+import com.lofi.lofiapps.dto.request.BatchLoanActionRequest;
 import com.lofi.lofiapps.dto.request.DisbursementRequest;
 import com.lofi.lofiapps.dto.request.LoanCriteria;
 import com.lofi.lofiapps.dto.request.LoanRequest;
+import com.lofi.lofiapps.dto.request.RecordPaymentRequest;
 import com.lofi.lofiapps.dto.request.RejectLoanRequest;
 import com.lofi.lofiapps.dto.request.ReviewLoanRequest;
 import com.lofi.lofiapps.dto.response.*;
+import com.lofi.lofiapps.enums.AmortizationMethod;
 import com.lofi.lofiapps.enums.LoanStatus;
 import com.lofi.lofiapps.security.idempotency.RequireIdempotency;
 import com.lofi.lofiapps.security.service.UserPrincipal;
@@ -155,7 +158,7 @@ public class LoanController {
   }
 
   @PostMapping("/{id}/disburse")
-  @PreAuthorize("hasRole('ADMIN') or hasRole('SUPER_ADMIN') or hasRole('BACKOFFICE')")
+  @PreAuthorize("hasRole('ADMIN') or hasRole('SUPER_ADMIN') or hasRole('BACK_OFFICE')")
   @RequireIdempotency(ttlHours = 24)
   @Operation(summary = "Disburse a loan")
   public ResponseEntity<ApiResponse<LoanResponse>> disburseLoan(
@@ -170,7 +173,7 @@ public class LoanController {
   }
 
   @PostMapping("/{id}/complete")
-  @PreAuthorize("hasRole('ADMIN') or hasRole('SUPER_ADMIN') or hasRole('BACKOFFICE')")
+  @PreAuthorize("hasRole('ADMIN') or hasRole('SUPER_ADMIN') or hasRole('BACK_OFFICE')")
   @Operation(summary = "Complete a loan")
   public ResponseEntity<ApiResponse<LoanResponse>> completeLoan(
       @PathVariable UUID id, @AuthenticationPrincipal UserPrincipal userPrincipal) {
@@ -180,6 +183,49 @@ public class LoanController {
             "Loan completed successfully"));
   }
 
+  @PostMapping("/batch/approve")
+  @PreAuthorize("hasRole('ADMIN') or hasRole('SUPER_ADMIN') or hasRole('BRANCH_MANAGER')")
+  @RequireIdempotency(ttlHours = 24)
+  @Operation(summary = "Approve multiple loans with per-loan results")
+  public ResponseEntity<ApiResponse<BatchLoanActionResponse>> batchApproveLoans(
+      @Valid @RequestBody BatchLoanActionRequest request,
+      @AuthenticationPrincipal UserPrincipal userPrincipal) {
+    return ResponseEntity.ok(
+        ApiResponse.success(
+            loanService.batchApproveLoans(
+                request.getLoanIds(), userPrincipal.getUsername(), request.getNotes()),
+            "Batch approval processed"));
+  }
+
+  @PostMapping("/batch/reject")
+  @PreAuthorize(
+      "hasRole('ADMIN') or hasRole('SUPER_ADMIN') or hasRole('MARKETING') or hasRole('BRANCH_MANAGER')")
+  @RequireIdempotency(ttlHours = 24)
+  @Operation(summary = "Reject multiple loans with per-loan results")
+  public ResponseEntity<ApiResponse<BatchLoanActionResponse>> batchRejectLoans(
+      @Valid @RequestBody BatchLoanActionRequest request,
+      @AuthenticationPrincipal UserPrincipal userPrincipal) {
+    return ResponseEntity.ok(
+        ApiResponse.success(
+            loanService.batchRejectLoans(
+                request.getLoanIds(), userPrincipal.getUsername(), request.getNotes()),
+            "Batch rejection processed"));
+  }
+
+  @PostMapping("/batch/disburse")
+  @PreAuthorize("hasRole('ADMIN') or hasRole('SUPER_ADMIN') or hasRole('BACK_OFFICE')")
+  @RequireIdempotency(ttlHours = 24)
+  @Operation(summary = "Disburse multiple loans, each under its own reference")
+  public ResponseEntity<ApiResponse<BatchLoanActionResponse>> batchDisburseLoans(
+      @Valid @RequestBody BatchLoanActionRequest request,
+      @AuthenticationPrincipal UserPrincipal userPrincipal) {
+    return ResponseEntity.ok(
+        ApiResponse.success(
+            loanService.batchDisburseLoans(
+                request.getLoanIds(), request.getReferences(), userPrincipal.getUsername()),
+            "Batch disbursement processed"));
+  }
+
   @PostMapping
   @PreAuthorize("hasRole('CUSTOMER')")
   @Operation(summary = "Apply for a new loan")
@@ -234,6 +280,41 @@ public class LoanController {
     return ResponseEntity.ok(ApiResponse.success(loanService.getLoanDetail(id)));
   }
 
+  @GetMapping("/{id}/schedule")
+  @PreAuthorize(
+      "hasRole('ADMIN') or hasRole('SUPER_ADMIN') or hasRole('MARKETING') or hasRole('BRANCH_MANAGER')"
+          + " or hasRole('BACK_OFFICE') or hasRole('CUSTOMER')")
+  @Operation(summary = "Get the installment schedule of a loan")
+  public ResponseEntity<ApiResponse<LoanScheduleResponse>> getLoanSchedule(
+      @PathVariable UUID id,
+      @RequestParam(required = false) AmortizationMethod method,
+      @AuthenticationPrincipal UserPrincipal userPrincipal) {
+    return ResponseEntity.ok(
+        ApiResponse.success(loanService.getLoanSchedule(userPrincipal, id, method)));
+  }
+
+  @GetMapping("/{id}/repayments")
+  @PreAuthorize("hasRole('ADMIN') or hasRole('SUPER_ADMIN') or hasRole('BACK_OFFICE')")
+  @Operation(summary = "Get the installments and payments of a loan")
+  public ResponseEntity<ApiResponse<RepaymentLedgerResponse>> getRepaymentLedger(
+      @PathVariable UUID id) {
+    return ResponseEntity.ok(ApiResponse.success(loanService.getRepaymentLedger(id)));
+  }
+
+  @PostMapping("/{id}/payments")
+  @PreAuthorize("hasRole('ADMIN') or hasRole('SUPER_ADMIN') or hasRole('BACK_OFFICE')")
+  @RequireIdempotency(ttlHours = 24)
+  @Operation(summary = "Record a repayment against a disbursed loan")
+  public ResponseEntity<ApiResponse<RepaymentLedgerResponse>> recordPayment(
+      @PathVariable UUID id,
+      @Valid @RequestBody RecordPaymentRequest request,
+      @AuthenticationPrincipal UserPrincipal userPrincipal) {
+    return ResponseEntity.ok(
+        ApiResponse.success(
+            loanService.recordPayment(id, request, userPrincipal.getId()),
+            "Payment recorded successfully"));
+  }
+
   @GetMapping("/{id}/analysis")
   @PreAuthorize(
       "hasRole('ADMIN') or hasRole('SUPER_ADMIN') or hasRole('MARKETING') or hasRole('BRANCH_MANAGER')")
@@ -251,7 +332,7 @@ public class LoanController {
   }
 
   @GetMapping("/{id}/analysis/risk-evaluation")
-  @PreAuthorize("hasRole('ADMIN') or hasRole('SUPER_ADMIN') or hasRole('BACKOFFICE')")
+  @PreAuthorize("hasRole('ADMIN') or hasRole('SUPER_ADMIN') or hasRole('BACK_OFFICE')")
   @Operation(summary = "Get AI Risk Evaluation for Back Office")
   public ResponseEntity<ApiResponse<BackOfficeRiskEvaluationResponse>> analyzeRiskEvaluation(
       @PathVariable UUID id) {
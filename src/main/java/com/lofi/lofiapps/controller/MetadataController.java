@@ -2,12 +2,15 @@ package com.lofi.lofiapps.controller;
 
 import com.lofi.lofiapps.dto.response.*;
 import com.lofi.lofiapps.enums.*;
+import com.lofi.lofiapps.service.ReferenceDataVersions.Family;
+import com.lofi.lofiapps.service.ReferenceResponseCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -15,12 +18,19 @@ import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequestMapping("/metadata")
+@RequiredArgsConstructor
 @Tag(name = "Metadata", description = "Metadata Management")
 public class MetadataController {
 
+  private final ReferenceResponseCache referenceResponseCache;
+
   @GetMapping("/enums")
   @Operation(summary = "Get enums")
-  public ResponseEntity<ApiResponse<Map<String, Object>>> getEnums() {
+  public ResponseEntity<byte[]> getEnums() {
+    return referenceResponseCache.respond(Family.METADATA, "enums", this::enums);
+  }
+
+  private ApiResponse<Map<String, Object>> enums() {
     Map<String, Object> enums = new HashMap<>();
 
     enums.put(
@@ -43,6 +53,6 @@ public class MetadataController {
     // Placeholders for risk levels until implemented in domain
     enums.put("riskLevel", Arrays.asList("LOW", "MEDIUM", "HIGH", "CRITICAL"));
 
-    return ResponseEntity.ok(ApiResponse.success(enums, "Metadata fetched successfully"));
+    return ApiResponse.success(enums, "Metadata fetched successfully");
   }
 }
@@ -2,10 +2,11 @@ package com.lofi.lofiapps.controller;
 
 import com.lofi.lofiapps.dto.request.CreateProductRequest;
 import com.lofi.lofiapps.dto.response.*;
-import com.lofi.lofiapps.dto.response.PagedResponse;
 import com.lofi.lofiapps.dto.response.ProductResponse;
 import com.lofi.lofiapps.security.service.UserPrincipal;
 import com.lofi.lofiapps.service.ProductService;
+import com.lofi.lofiapps.service.ReferenceDataVersions.Family;
+import com.lofi.lofiapps.service.ReferenceResponseCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -24,6 +25,7 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Product", description = "Product Management")
 public class ProductController {
   private final ProductService productService;
+  private final ReferenceResponseCache referenceResponseCache;
 
   @PostMapping
   @PreAuthorize("hasRole('ADMIN') or hasRole('SUPER_ADMIN')")
@@ -36,10 +38,22 @@ public class ProductController {
 
   @GetMapping
   @Operation(summary = "Get all products")
-  public ResponseEntity<ApiResponse<PagedResponse<ProductResponse>>> getProducts(
+  public ResponseEntity<byte[]> getProducts(
       @RequestParam(required = false) Boolean isActive,
       @PageableDefault(size = 10) Pageable pageable) {
-    return ResponseEntity.ok(ApiResponse.success(productService.getProducts(isActive, pageable)));
+    String variant =
+        "list:"
+            + isActive
+            + ":"
+            + pageable.getPageNumber()
+            + ":"
+            + pageable.getPageSize()
+            + ":"
+            + pageable.getSort();
+    return referenceResponseCache.respond(
+        Family.PRODUCTS,
+        variant,
+        () -> ApiResponse.success(productService.getProducts(isActive, pageable)));
   }
 
   @GetMapping("/recommendation")
@@ -102,8 +116,9 @@ public class ProductController {
   @GetMapping("/{id}")
   @PreAuthorize("hasRole('ADMIN') or hasRole('SUPER_ADMIN')")
   @Operation(summary = "Get product by ID")
-  public ResponseEntity<ApiResponse<ProductResponse>> getProductById(@PathVariable UUID id) {
-    return ResponseEntity.ok(ApiResponse.success(productService.getProductById(id)));
+  public ResponseEntity<byte[]> getProductById(@PathVariable UUID id) {
+    return referenceResponseCache.respond(
+        Family.PRODUCTS, "id:" + id, () -> ApiResponse.success(productService.getProductById(id)));
   }
 
   @PutMapping("/{id}")
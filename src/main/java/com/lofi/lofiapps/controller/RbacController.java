@@ -3,6 +3,8 @@ package com.lofi.lofiapps.controller;
 import com.lofi.lofiapps.dto.request.*;
 import com.lofi.lofiapps.dto.response.*;
 import com.lofi.lofiapps.service.RbacService;
+import com.lofi.lofiapps.service.ReferenceDataVersions.Family;
+import com.lofi.lofiapps.service.ReferenceResponseCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -20,14 +22,16 @@ import org.springframework.web.bind.annotation.*;
 public class RbacController {
 
   private final RbacService rbacService;
+  private final ReferenceResponseCache referenceResponseCache;
 
   // --- Role Management ---
 
   @GetMapping("/roles")
   @PreAuthorize("hasRole('ADMIN') or hasRole('SUPER_ADMIN')")
   @Operation(summary = "Get all roles")
-  public ResponseEntity<ApiResponse<List<RoleResponse>>> getRoles() {
-    return ResponseEntity.ok(ApiResponse.success(rbacService.getRoles(), "Roles retrieved"));
+  public ResponseEntity<byte[]> getRoles() {
+    return referenceResponseCache.respond(
+        Family.RBAC, "roles", () -> ApiResponse.success(rbacService.getRoles(), "Roles retrieved"));
   }
 
   @PostMapping("/roles")
@@ -60,9 +64,11 @@ public class RbacController {
   @GetMapping("/permissions")
   @PreAuthorize("hasRole('ADMIN') or hasRole('SUPER_ADMIN')")
   @Operation(summary = "Get all permissions")
-  public ResponseEntity<ApiResponse<List<PermissionResponse>>> getPermissions() {
-    return ResponseEntity.ok(
-        ApiResponse.success(rbacService.getPermissions(), "Permissions retrieved"));
+  public ResponseEntity<byte[]> getPermissions() {
+    return referenceResponseCache.respond(
+        Family.RBAC,
+        "permissions",
+        () -> ApiResponse.success(rbacService.getPermissions(), "Permissions retrieved"));
   }
 
   // --- Role-Permission Mapping ---
@@ -127,8 +133,11 @@ public class RbacController {
   @GetMapping("/branches")
   @PreAuthorize("hasRole('ADMIN') or hasRole('SUPER_ADMIN')")
   @Operation(summary = "Get all branches")
-  public ResponseEntity<ApiResponse<List<BranchResponse>>> getBranches() {
-    return ResponseEntity.ok(ApiResponse.success(rbacService.getBranches(), "Branches retrieved"));
+  public ResponseEntity<byte[]> getBranches() {
+    return referenceResponseCache.respond(
+        Family.BRANCHES,
+        "branches",
+        () -> ApiResponse.success(rbacService.getBranches(), "Branches retrieved"));
   }
 
   @PostMapping("/branches")
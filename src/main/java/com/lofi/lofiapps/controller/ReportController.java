@@ -1,14 +1,21 @@
 package com.lofi.lofiapps.controller;
 
+import com.lofi.lofiapps.dto.response.CashFlowProjectionResponse;
 import com.lofi.lofiapps.dto.response.LoanKpiResponse;
+import com.lofi.lofiapps.dto.response.ReportJobResponse;
 import com.lofi.lofiapps.dto.response.SlaReportResponse;
+import com.lofi.lofiapps.enums.AmortizationMethod;
+import com.lofi.lofiapps.enums.ReportJobStatus;
+import com.lofi.lofiapps.security.service.UserPrincipal;
 import com.lofi.lofiapps.service.ReportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -25,20 +32,29 @@ public class ReportController {
     return ResponseEntity.ok(reportService.getLoanKpis());
   }
 
-  @GetMapping("/kpis/export")
+  @GetMapping("/cash-flow")
   @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
-  @Operation(summary = "Export Loan KPIs to Excel")
-  public ResponseEntity<byte[]> exportKpis() {
-    byte[] excelFile = reportService.exportLoanKpis();
+  @Operation(
+      summary = "Project scheduled inflows of the disbursed portfolio",
+      description =
+          "Principal and interest due per month from the current month on, assuming every"
+              + " installment is paid on schedule. Method defaults to app.schedule.default-method.")
+  public ResponseEntity<CashFlowProjectionResponse> getCashFlowProjection(
+      @RequestParam(defaultValue = "12") int months,
+      @RequestParam(required = false) AmortizationMethod method) {
+    return ResponseEntity.ok(reportService.getCashFlowProjection(months, method));
+  }
 
-    return ResponseEntity.ok()
-        .header(
-            org.springframework.http.HttpHeaders.CONTENT_DISPOSITION,
-            "attachment; filename=\"loan-kpis.xlsx\"")
-        .contentType(
-            org.springframework.http.MediaType.parseMediaType(
-                "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-        .body(excelFile);
+  @GetMapping("/kpis/export")
+  @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
+  @Operation(
+      summary = "Export Loan KPIs to Excel",
+      description =
+          "Starts (or joins) a report job. 202 while it runs; 200 with a download link once the"
+              + " workbook for the current data is ready. Poll /reports/jobs/{jobId}.")
+  public ResponseEntity<ReportJobResponse> exportKpis(
+      @AuthenticationPrincipal UserPrincipal principal) {
+    return jobResponse(reportService.exportLoanKpis(principal));
   }
 
   @GetMapping("/sla/{loanId}")
@@ -50,17 +66,29 @@ public class ReportController {
 
   @GetMapping("/sla/{loanId}/export")
   @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN', 'MARKETING', 'BRANCH_MANAGER')")
-  @Operation(summary = "Export SLA Report for a specific loan to Excel")
-  public ResponseEntity<byte[]> exportSlaReport(@PathVariable UUID loanId) {
-    byte[] excelFile = reportService.exportSlaReport(loanId);
+  @Operation(
+      summary = "Export SLA Report for a specific loan to Excel",
+      description = "Starts (or joins) a report job; see /reports/kpis/export.")
+  public ResponseEntity<ReportJobResponse> exportSlaReport(
+      @PathVariable UUID loanId, @AuthenticationPrincipal UserPrincipal principal) {
+    return jobResponse(reportService.exportSlaReport(principal, loanId));
+  }
+
+  @GetMapping("/jobs/{jobId}")
+  @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN', 'MARKETING', 'BRANCH_MANAGER')")
+  @Operation(summary = "Get a report job, with its download link once it has succeeded")
+  public ResponseEntity<ReportJobResponse> getReportJob(
+      @PathVariable UUID jobId, @AuthenticationPrincipal UserPrincipal principal) {
+    return jobResponse(reportService.getReportJob(principal, jobId));
+  }
 
-    return ResponseEntity.ok()
-        .header(
-            org.springframework.http.HttpHeaders.CONTENT_DISPOSITION,
-            "attachment; filename=\"sla-report-" + loanId + ".xlsx\"")
-        .contentType(
-            org.springframework.http.MediaType.parseMediaType(
-                "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-        .body(excelFile);
+  private static ResponseEntity<ReportJobResponse> jobResponse(ReportJobResponse job) {
+    HttpStatus status =
+        job.getStatus() == ReportJobStatus.SUCCEEDED || job.getStatus() == ReportJobStatus.FAILED
+            ? HttpStatus.OK
+            : HttpStatus.ACCEPTED;
+    return ResponseEntity.status(status)
+        .header(org.springframework.http.HttpHeaders.LOCATION, "/reports/jobs/" + job.getId())
+        .body(job);
   }
 }
@@ -0,0 +1,39 @@
+package com.lofi.lofiapps.controller;
+
+import com.lofi.lofiapps.dto.response.ApiResponse;
+import com.lofi.lofiapps.dto.response.SearchResponse;
+import com.lofi.lofiapps.enums.SearchKind;
+import com.lofi.lofiapps.security.service.UserPrincipal;
+import com.lofi.lofiapps.service.SearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/search")
+@RequiredArgsConstructor
+@Tag(name = "Search", description = "Back-office search over customers and loans")
+public class SearchController {
+  private final SearchService searchService;
+
+  @GetMapping
+  @PreAuthorize(
+      "hasRole('ADMIN') or hasRole('SUPER_ADMIN') or hasRole('BACK_OFFICE')"
+          + " or hasRole('BRANCH_MANAGER') or hasRole('MARKETING')")
+  @Operation(summary = "Search customers and loans by name, NIK, phone, email or reference")
+  public ResponseEntity<ApiResponse<SearchResponse>> search(
+      @RequestParam("q") String query,
+      @RequestParam(required = false) SearchKind type,
+      @RequestParam(defaultValue = "20") int limit,
+      @AuthenticationPrincipal UserPrincipal userPrincipal) {
+    return ResponseEntity.ok(
+        ApiResponse.success(searchService.search(userPrincipal, query, type, limit)));
+  }
+}
@@ -19,7 +19,10 @@ import com.lofi.lofiapps.service.impl.UserServiceImpl;
 import com.lofi.lofiapps.service.impl.usecase.user.SetGooglePinUseCase;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -136,21 +139,32 @@ public class UserController {
         ApiResponse.success(PinStatusResponse.builder().pinSet(isPinSet).build()));
   }
 
-  @GetMapping(value = "/me/photo", produces = MediaType.IMAGE_JPEG_VALUE)
+  // Photos are streamed straight to the response (ETag, Range and disk cache in the use case)
+  @GetMapping("/me/photo")
   @Operation(summary = "Get my profile photo")
-  public ResponseEntity<byte[]> getMyProfilePhoto() {
+  public void getMyProfilePhoto(
+      @RequestParam(required = false) Integer size,
+      HttpServletRequest request,
+      HttpServletResponse response)
+      throws IOException {
     Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
     if (!(principal instanceof UserPrincipal)) {
-      return ResponseEntity.status(401).build();
+      response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+      return;
     }
     UUID userId = ((UserPrincipal) principal).getId();
-    return ResponseEntity.ok(userService.getProfilePhoto(userId));
+    userService.streamProfilePhoto(userId, size, request, response);
   }
 
-  @GetMapping(value = "/{userId}/photo", produces = MediaType.IMAGE_JPEG_VALUE)
+  @GetMapping("/{userId}/photo")
   @Operation(summary = "Get user profile photo by ID")
-  public ResponseEntity<byte[]> getUserProfilePhoto(@PathVariable UUID userId) {
-    return ResponseEntity.ok(userService.getProfilePhoto(userId));
+  public void getUserProfilePhoto(
+      @PathVariable UUID userId,
+      @RequestParam(required = false) Integer size,
+      HttpServletRequest request,
+      HttpServletResponse response)
+      throws IOException {
+    userService.streamProfilePhoto(userId, size, request, response);
   }
 
   @PostMapping("/admin/users/{userId}/force-logout")
@@ -0,0 +1,34 @@
+package com.lofi.lofiapps.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchLoanActionRequest {
+  @NotEmpty(message = "Loan IDs are required")
+  @Size(max = 500, message = "A batch must not exceed 500 loans")
+  private List<UUID> loanIds;
+
+  // Approval notes or rejection reason depending on the action
+  @Size(max = 1000, message = "Notes must not exceed 1000 characters")
+  private String notes;
+
+  // Disbursement only: each loan's own transfer reference, keyed by loan ID
+  private Map<
+          UUID,
+          @NotBlank(message = "Disbursement reference is required")
+          @Size(max = 100, message = "Disbursement reference must not exceed 100 characters")
+          String>
+      references;
+}
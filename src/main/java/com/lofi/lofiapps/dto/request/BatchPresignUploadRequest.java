@@ -0,0 +1,27 @@
+package com.lofi.lofiapps.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchPresignUploadRequest {
+  @NotNull(message = "Loan ID is required")
+  private UUID loanId;
+
+  // One entry per document type; the loan ID of each entry is ignored
+  @NotEmpty(message = "At least one document is required")
+  @Size(max = 8, message = "At most 8 documents per batch")
+  @Valid
+  private List<PresignUploadRequest> documents;
+}
@@ -0,0 +1,20 @@
+package com.lofi.lofiapps.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompleteUploadRequest {
+  @NotEmpty(message = "Document IDs are required")
+  @Size(max = 8, message = "At most 8 documents per request")
+  private List<UUID> documentIds;
+}
@@ -0,0 +1,30 @@
+package com.lofi.lofiapps.dto.request;
+
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PastOrPresent;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.Data;
+
+@Data
+public class RecordPaymentRequest {
+  @NotNull(message = "Amount is required")
+  @Positive(message = "Amount must be positive")
+  @Digits(
+      integer = 17,
+      fraction = 2,
+      message = "Amount must have at most 17 digits and 2 decimal places")
+  private BigDecimal amount;
+
+  @NotBlank(message = "Reference number is required")
+  @Size(max = 100, message = "Reference number must be at most 100 characters")
+  private String referenceNumber;
+
+  /** When the money was received; defaults to now. */
+  @PastOrPresent(message = "Payment time cannot be in the future")
+  private LocalDateTime paidAt;
+}
@@ -1,12 +1,19 @@
 package com.lofi.lofiapps.dto.response;
 
+import com.lofi.lofiapps.enums.AnalysisStatus;
 import java.util.List;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class BackOfficeRiskEvaluationResponse {
+  @Builder.Default private AnalysisStatus status = AnalysisStatus.COMPLETED;
+
   private Double confidence;
   private String riskOverview;
   private List<String> keyRiskFactors;
@@ -0,0 +1,34 @@
+package com.lofi.lofiapps.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.lofi.lofiapps.enums.LoanStatus;
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchLoanActionResponse {
+  private String action;
+  private int total;
+  private int succeeded;
+  private int failed;
+  private List<Item> results;
+
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  public static class Item {
+    private UUID loanId;
+    private boolean success;
+    private LoanStatus loanStatus;
+    private String message;
+  }
+}
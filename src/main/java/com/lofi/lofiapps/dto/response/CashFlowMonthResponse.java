@@ -0,0 +1,17 @@
+package com.lofi.lofiapps.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class CashFlowMonthResponse {
+  /** First day of the month. */
+  private LocalDate month;
+
+  private BigDecimal principal;
+  private BigDecimal interest;
+  private BigDecimal total;
+}
@@ -0,0 +1,20 @@
+package com.lofi.lofiapps.dto.response;
+
+import com.lofi.lofiapps.enums.AmortizationMethod;
+import java.math.BigDecimal;
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class CashFlowProjectionResponse {
+  private AmortizationMethod method;
+
+  /** Disbursed loans the projection was computed over. */
+  private int loans;
+
+  private BigDecimal totalPrincipal;
+  private BigDecimal totalInterest;
+  private List<CashFlowMonthResponse> months;
+}
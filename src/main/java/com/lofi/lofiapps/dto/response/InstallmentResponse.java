@@ -0,0 +1,19 @@
+package com.lofi.lofiapps.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class InstallmentResponse {
+  private int number;
+  private LocalDate dueDate;
+  private BigDecimal principal;
+  private BigDecimal interest;
+  private BigDecimal amount;
+
+  /** Principal still owed once this installment is paid. */
+  private BigDecimal remainingPrincipal;
+}
@@ -0,0 +1,24 @@
+package com.lofi.lofiapps.dto.response;
+
+import com.lofi.lofiapps.enums.InstallmentStatus;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class LoanInstallmentResponse {
+  private int number;
+  private LocalDate dueDate;
+  private BigDecimal principal;
+  private BigDecimal interest;
+  private BigDecimal amountDue;
+  private BigDecimal amountPaid;
+  private LocalDateTime paidAt;
+  private InstallmentStatus status;
+
+  /** As of the last nightly delinquency run, or of the payment that settled it. */
+  private int daysOverdue;
+}
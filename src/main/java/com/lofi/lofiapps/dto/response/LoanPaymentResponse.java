@@ -0,0 +1,16 @@
+package com.lofi.lofiapps.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class LoanPaymentResponse {
+  private UUID id;
+  private BigDecimal amount;
+  private LocalDateTime paidAt;
+  private String reference;
+}
@@ -0,0 +1,34 @@
+package com.lofi.lofiapps.dto.response;
+
+import com.lofi.lofiapps.enums.AmortizationMethod;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class LoanScheduleResponse {
+  private UUID loanId;
+  private AmortizationMethod method;
+  private BigDecimal loanAmount;
+
+  /** Percent per month, as snapshotted on the loan. */
+  private BigDecimal interestRate;
+
+  private Integer tenor;
+
+  /** Deducted at disbursement; not part of any installment. */
+  private BigDecimal adminFee;
+
+  /**
+   * False until the loan is disbursed; due dates then count from today and only show the shape of
+   * the schedule.
+   */
+  private boolean disbursed;
+
+  private BigDecimal totalInterest;
+  private BigDecimal totalPayment;
+  private List<InstallmentResponse> installments;
+}
@@ -1,5 +1,6 @@
 package com.lofi.lofiapps.dto.response;
 
+import com.lofi.lofiapps.enums.AnalysisStatus;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -11,6 +12,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class MarketingLoanReviewResponse {
+  @Builder.Default private AnalysisStatus status = AnalysisStatus.COMPLETED;
+
   private double confidence;
   private List<String> dataInconsistencies;
   private List<String> suggestedQuestions;
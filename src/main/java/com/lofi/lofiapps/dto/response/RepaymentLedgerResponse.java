@@ -0,0 +1,24 @@
+package com.lofi.lofiapps.dto.response;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class RepaymentLedgerResponse {
+  private UUID loanId;
+  private BigDecimal totalDue;
+  private BigDecimal totalPaid;
+  private BigDecimal outstanding;
+
+  /** Unpaid amounts of installments already past due. */
+  private BigDecimal overdueAmount;
+
+  private List<LoanInstallmentResponse> installments;
+
+  /** Newest first. */
+  private List<LoanPaymentResponse> payments;
+}
@@ -0,0 +1,29 @@
+package com.lofi.lofiapps.dto.response;
+
+import com.lofi.lofiapps.enums.ReportJobStatus;
+import com.lofi.lofiapps.enums.ReportType;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportJobResponse {
+  private UUID id;
+  private ReportType reportType;
+  private UUID loanId;
+  private ReportJobStatus status;
+  private String fileName;
+  private String contentHash;
+  private Long sizeBytes;
+  // Presigned, only once the job has succeeded
+  private String downloadUrl;
+  private String errorMessage;
+  private LocalDateTime queuedAt;
+  private LocalDateTime completedAt;
+}
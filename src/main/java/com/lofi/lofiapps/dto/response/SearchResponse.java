@@ -0,0 +1,14 @@
+package com.lofi.lofiapps.dto.response;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class SearchResponse {
+  private List<SearchResultResponse> items;
+
+  /** False while the index is still being built after startup; results may be incomplete. */
+  private boolean complete;
+}
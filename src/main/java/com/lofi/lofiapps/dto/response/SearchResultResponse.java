@@ -0,0 +1,17 @@
+package com.lofi.lofiapps.dto.response;
+
+import com.lofi.lofiapps.enums.SearchKind;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class SearchResultResponse {
+  private SearchKind kind;
+  private UUID id;
+  private String title;
+  private String subtitle;
+  private UUID branchId;
+  private float score;
+}
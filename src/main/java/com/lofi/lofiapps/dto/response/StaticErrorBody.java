@@ -0,0 +1,49 @@
+package com.lofi.lofiapps.dto.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+/**
+ * An {@link ApiResponse} error envelope encoded once, for filters and interceptors that answer
+ * before a message converter is involved. Writing it is a status, two headers and a byte copy.
+ */
+public final class StaticErrorBody {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private final int status;
+  private final byte[] body;
+
+  private StaticErrorBody(int status, byte[] body) {
+    this.status = status;
+    this.body = body;
+  }
+
+  public static StaticErrorBody of(HttpStatus status, String code, String message) {
+    try {
+      return new StaticErrorBody(
+          status.value(), MAPPER.writeValueAsBytes(ApiResponse.error(code, message)));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to encode error body " + code, e);
+    }
+  }
+
+  public void writeTo(HttpServletResponse response) throws IOException {
+    response.setStatus(status);
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setContentLength(body.length);
+    response.getOutputStream().write(body);
+  }
+
+  public int status() {
+    return status;
+  }
+
+  public byte[] bytes() {
+    return body.clone();
+  }
+}
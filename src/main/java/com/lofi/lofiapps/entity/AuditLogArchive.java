@@ -0,0 +1,46 @@
+package com.lofi.lofiapps.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * One month of {@code audit_logs} moved to object storage as gzip NDJSON, newest row first. The row
+ * is written in the same transaction that empties the month's partition, so a month is always in
+ * exactly one place.
+ */
+@Entity
+@Table(
+    name = "audit_log_archives",
+    uniqueConstraints =
+        @UniqueConstraint(name = "uk_audit_log_archives_month", columnNames = "archive_month"))
+@Getter
+@Setter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditLogArchive extends BaseEntity {
+
+  /** First day of the archived month. */
+  @Column(name = "archive_month", nullable = false)
+  private LocalDate month;
+
+  @Column(nullable = false)
+  private String bucketName;
+
+  @Column(nullable = false)
+  private String objectKey;
+
+  @Column(nullable = false)
+  private long rowCount;
+
+  @Column(nullable = false)
+  private long sizeBytes;
+}
@@ -0,0 +1,63 @@
+package com.lofi.lofiapps.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * Progress of one partition of a batch run. A partition covers the keys in {@code (lowerBound,
+ * upperBound]}, either end open when null; {@code lastKey} is the last key whose chunk committed,
+ * so a restarted run resumes right after it. Keys are compared by the database, in its {@code
+ * uniqueidentifier} order, and are only ever stored and passed back as strings.
+ */
+@Entity
+@Table(
+    name = "batch_checkpoints",
+    uniqueConstraints =
+        @UniqueConstraint(
+            name = "uk_batch_checkpoints_partition",
+            columnNames = {"job_name", "run_date", "step", "partition_no"}))
+@Getter
+@Setter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchCheckpoint extends BaseEntity {
+
+  @NotNull
+  @Column(name = "job_name", nullable = false, length = 50)
+  private String jobName;
+
+  @NotNull
+  @Column(name = "run_date", nullable = false)
+  private LocalDate runDate;
+
+  @NotNull
+  @Column(nullable = false, length = 30)
+  private String step;
+
+  @Column(name = "partition_no", nullable = false)
+  private int partitionNo;
+
+  @Column(name = "lower_bound", length = 36)
+  private String lowerBound;
+
+  @Column(name = "upper_bound", length = 36)
+  private String upperBound;
+
+  @Column(name = "last_key", length = 36)
+  private String lastKey;
+
+  @Column(name = "rows_processed", nullable = false)
+  private long rowsProcessed;
+
+  @Column(name = "completed_at")
+  private LocalDateTime completedAt;
+
+  public boolean isCompleted() {
+    return completedAt != null;
+  }
+}
@@ -41,6 +41,15 @@ public class Document extends BaseEntity {
   @Builder.Default
   private Boolean verified = false;
 
+  // ETag reported by storage when the upload was verified (hex MD5 for single-part uploads)
+  @Column(name = "checksum", length = 64)
+  private String checksum;
+
   @Column(name = "verification_notes", columnDefinition = "TEXT")
   private String verificationNotes;
+
+  // Presigned in a batch and not yet confirmed by the client; swept once the URL has long expired
+  @Column(name = "upload_pending")
+  @Builder.Default
+  private Boolean uploadPending = false;
 }
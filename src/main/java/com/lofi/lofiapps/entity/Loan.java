@@ -2,6 +2,7 @@ package com.lofi.lofiapps.entity;
 
 import com.lofi.lofiapps.enums.ApprovalStage;
 import com.lofi.lofiapps.enums.LoanStatus;
+import com.lofi.lofiapps.service.impl.usecase.search.SearchIndexListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import java.math.BigDecimal;
@@ -12,6 +13,7 @@ import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 
 @Entity
+@EntityListeners(SearchIndexListener.class)
 @Table(name = "loans")
 @Getter
 @Setter
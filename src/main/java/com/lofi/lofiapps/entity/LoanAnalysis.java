@@ -0,0 +1,54 @@
+package com.lofi.lofiapps.entity;
+
+import com.lofi.lofiapps.enums.AiPromptType;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * Precomputed AI analysis output. Rows are content-addressed: the key is the prompt type plus a
+ * SHA-256 of the loan context that was sent to the model, so a loan whose relevant fields change
+ * simply misses and gets re-analyzed, and identical contexts share one result. Output that was
+ * rejected is kept as a discarded row, so the same context is not sent to the model again.
+ */
+@Entity
+@Table(
+    name = "loan_analyses",
+    uniqueConstraints =
+        @UniqueConstraint(
+            name = "uk_loan_analyses_type_hash",
+            columnNames = {"analysis_type", "context_hash"}))
+@Getter
+@Setter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoanAnalysis extends BaseEntity {
+
+  @NotNull(message = "Analysis type is required")
+  @Enumerated(EnumType.STRING)
+  @Column(name = "analysis_type", nullable = false, length = 50)
+  private AiPromptType analysisType;
+
+  @NotNull(message = "Context hash is required")
+  @Column(name = "context_hash", nullable = false, length = 64)
+  private String contextHash;
+
+  @Column(name = "result_json", columnDefinition = "TEXT", nullable = false)
+  private String resultJson;
+
+  private Double confidence;
+
+  /** Why the output was rejected; discarded rows are never served as a result. */
+  @Column(name = "discard_reason", length = 50)
+  private String discardReason;
+
+  @Column(name = "completed_at", nullable = false)
+  private LocalDateTime completedAt;
+
+  public boolean isDiscarded() {
+    return discardReason != null;
+  }
+}
@@ -0,0 +1,77 @@
+package com.lofi.lofiapps.entity;
+
+import com.lofi.lofiapps.enums.InstallmentStatus;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * One installment of a disbursed loan, written once from its schedule at disbursement. Payments
+ * fill {@code amountPaid} oldest installment first; {@code paidAt} is set when it is paid in full.
+ * {@code status} and {@code daysOverdue} are kept current by the nightly delinquency batch.
+ */
+@Entity
+@Table(
+    name = "loan_installments",
+    uniqueConstraints =
+        @UniqueConstraint(
+            name = "uk_loan_installments_loan_number",
+            columnNames = {"loan_id", "installment_number"}))
+@Getter
+@Setter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoanInstallment extends BaseEntity {
+
+  @NotNull
+  @Column(name = "loan_id", nullable = false)
+  private UUID loanId;
+
+  @Column(name = "installment_number", nullable = false)
+  private int installmentNumber;
+
+  @NotNull
+  @Column(name = "due_date", nullable = false)
+  private LocalDate dueDate;
+
+  @NotNull
+  @Column(name = "principal_amount", nullable = false, precision = 19, scale = 2)
+  private BigDecimal principalAmount;
+
+  @NotNull
+  @Column(name = "interest_amount", nullable = false, precision = 19, scale = 2)
+  private BigDecimal interestAmount;
+
+  @NotNull
+  @Column(name = "amount_due", nullable = false, precision = 19, scale = 2)
+  private BigDecimal amountDue;
+
+  @NotNull
+  @Builder.Default
+  @Column(name = "amount_paid", nullable = false, precision = 19, scale = 2)
+  private BigDecimal amountPaid = BigDecimal.ZERO;
+
+  @Column(name = "paid_at")
+  private LocalDateTime paidAt;
+
+  @NotNull
+  @Builder.Default
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 20)
+  private InstallmentStatus status = InstallmentStatus.DUE;
+
+  /** Days past the due date it was paid, or is still unpaid, as of the last batch run. */
+  @Builder.Default
+  @Column(name = "days_overdue", nullable = false)
+  private int daysOverdue = 0;
+
+  public BigDecimal outstanding() {
+    return amountDue.subtract(amountPaid);
+  }
+}
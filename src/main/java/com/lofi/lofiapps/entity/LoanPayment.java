@@ -0,0 +1,47 @@
+package com.lofi.lofiapps.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * A repayment received for a loan. The reference (bank transfer or virtual account reference) is
+ * unique per loan, so a payment reported twice is only booked once.
+ */
+@Entity
+@Table(
+    name = "loan_payments",
+    uniqueConstraints =
+        @UniqueConstraint(
+            name = "uk_loan_payments_loan_reference",
+            columnNames = {"loan_id", "reference"}))
+@Getter
+@Setter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoanPayment extends BaseEntity {
+
+  @NotNull
+  @Column(name = "loan_id", nullable = false)
+  private UUID loanId;
+
+  @NotNull
+  @Column(nullable = false, precision = 19, scale = 2)
+  private BigDecimal amount;
+
+  @NotNull
+  @Column(name = "paid_at", nullable = false)
+  private LocalDateTime paidAt;
+
+  @NotNull
+  @Column(nullable = false, length = 100)
+  private String reference;
+
+  @Column(name = "recorded_by")
+  private UUID recordedBy;
+}
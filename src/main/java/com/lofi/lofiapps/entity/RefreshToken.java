@@ -3,39 +3,48 @@ package com.lofi.lofiapps.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
-import org.hibernate.annotations.SQLDelete;
-import org.hibernate.annotations.SQLRestriction;
 
+/**
+ * A user's current refresh-token family: one row per user, rewritten in place on login and on every
+ * rotation. Only the SHA-256 digest of the live token is kept; Redis holds the same state for the
+ * hot path and this row is the durable copy. Expired rows are hard-deleted by the sweeper, hence no
+ * soft delete here.
+ */
 @Entity
-@Table(name = "refresh_tokens")
+@Table(
+    name = "refresh_token_families",
+    indexes = @Index(name = "idx_refresh_token_families_expiry", columnList = "expiry_date"))
 @Getter
 @Setter
 @SuperBuilder
 @NoArgsConstructor
 @AllArgsConstructor
-@SQLDelete(sql = "UPDATE refresh_tokens SET deleted_at = CURRENT_TIMESTAMP WHERE id = ?")
-@SQLRestriction("deleted_at IS NULL")
 public class RefreshToken extends BaseEntity {
 
-  @Column(nullable = false, unique = true)
-  private String token;
-
   @Column(nullable = false)
+  private UUID familyId;
+
+  @Column(nullable = false, length = 64)
+  private String tokenHash;
+
+  @Column(name = "expiry_date", nullable = false)
   private java.time.Instant expiryDate;
 
   @Column(nullable = false)
   @lombok.Builder.Default
   private boolean revoked = false;
 
-  @ManyToOne(fetch = FetchType.LAZY)
-  @JoinColumn(name = "user_id", referencedColumnName = "id")
+  @OneToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "user_id", referencedColumnName = "id", nullable = false, unique = true)
   private User user;
 }
@@ -0,0 +1,81 @@
+package com.lofi.lofiapps.entity;
+
+import com.lofi.lofiapps.enums.ReportJobStatus;
+import com.lofi.lofiapps.enums.ReportType;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * One generation of a report export. Rows are keyed by a hash of the report parameters plus the
+ * version of the data the report reads, so identical requests share one job while it runs and its
+ * artifact afterwards, and any change to the underlying data starts a new job.
+ */
+@Entity
+@Table(
+    name = "report_jobs",
+    uniqueConstraints =
+        @UniqueConstraint(
+            name = "uk_report_jobs_params_version",
+            columnNames = {"params_hash", "data_version"}))
+@Getter
+@Setter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportJob extends BaseEntity {
+
+  @NotNull
+  @Enumerated(EnumType.STRING)
+  @Column(name = "report_type", nullable = false, length = 30)
+  private ReportType reportType;
+
+  @Column(name = "loan_id")
+  private UUID loanId;
+
+  @NotNull
+  @Column(name = "params_hash", nullable = false, length = 64)
+  private String paramsHash;
+
+  @NotNull
+  @Column(name = "data_version", nullable = false, length = 64)
+  private String dataVersion;
+
+  @NotNull
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 20)
+  private ReportJobStatus status;
+
+  @Column(name = "requested_by")
+  private UUID requestedBy;
+
+  @Column(name = "file_name")
+  private String fileName;
+
+  @Column(name = "bucket_name")
+  private String bucketName;
+
+  @Column(name = "object_key", length = 512)
+  private String objectKey;
+
+  @Column(name = "content_hash", length = 64)
+  private String contentHash;
+
+  @Column(name = "size_bytes")
+  private Long sizeBytes;
+
+  @Column(name = "error_message", length = 500)
+  private String errorMessage;
+
+  @Column(name = "queued_at", nullable = false)
+  private LocalDateTime queuedAt;
+
+  @Column(name = "started_at")
+  private LocalDateTime startedAt;
+
+  @Column(name = "completed_at")
+  private LocalDateTime completedAt;
+}
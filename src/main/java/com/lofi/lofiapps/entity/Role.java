@@ -5,6 +5,8 @@ import jakarta.persistence.*;
 import java.util.Set;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 
@@ -15,6 +17,8 @@ import org.hibernate.annotations.SQLRestriction;
 @NoArgsConstructor
 @AllArgsConstructor
 @SuperBuilder
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "role")
 @SQLDelete(sql = "UPDATE roles SET deleted_at = CURRENT_TIMESTAMP WHERE id = ?")
 @SQLRestriction("deleted_at IS NULL")
 public class Role extends BaseEntity {
@@ -24,6 +28,7 @@ public class Role extends BaseEntity {
 
   private String description;
 
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "role.permissions")
   @ManyToMany(fetch = FetchType.EAGER)
   @JoinTable(
       name = "role_permissions",
@@ -1,6 +1,7 @@
 package com.lofi.lofiapps.entity;
 
 import com.lofi.lofiapps.enums.UserStatus;
+import com.lofi.lofiapps.service.impl.usecase.search.SearchIndexListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -8,10 +9,13 @@ import java.util.HashSet;
 import java.util.Set;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 
 @Entity
+@EntityListeners(SearchIndexListener.class)
 @Table(name = "users")
 @Getter
 @Setter
@@ -91,6 +95,7 @@ public class User extends BaseEntity {
   @OneToOne(mappedBy = "user", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
   private UserBiodata userBiodata;
 
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user.roles")
   @ManyToMany(fetch = FetchType.EAGER)
   @JoinTable(
       name = "user_roles",
@@ -3,6 +3,7 @@ package com.lofi.lofiapps.entity;
 import com.lofi.lofiapps.enums.Gender;
 import com.lofi.lofiapps.enums.JobType;
 import com.lofi.lofiapps.enums.MaritalStatus;
+import com.lofi.lofiapps.service.impl.usecase.search.SearchIndexListener;
 import jakarta.persistence.*;
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -12,6 +13,7 @@ import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 
 @Entity
+@EntityListeners(SearchIndexListener.class)
 @Table(name = "user_biodatas")
 @Getter
 @Setter
@@ -0,0 +1,21 @@
+package com.lofi.lofiapps.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** AI prompt templates under {@code resources/ai/prompts}. */
+@Getter
+@RequiredArgsConstructor
+public enum AiPromptType {
+  LOAN_ANALYZER("loan_analyzer_prompt.md"),
+  MARKETING_REVIEW("marketing_review_prompt.md"),
+  BACK_OFFICE_RISK("back_office_risk_prompt.md"),
+  BRANCH_MANAGER_SUPPORT("branch_manager_support_prompt.md"),
+  DOCUMENT_VALIDATION("document_validation_prompt.md"),
+  ELIGIBILITY_ASSISTANT("eligibility_assistant_prompt.md"),
+  EMAIL_DRAFT("email_draft_prompt.md"),
+  NOTIFICATION_GENERATOR("notification_generator_prompt.md"),
+  PRODUCT_RECOMMENDATION("product_recommendation_prompt.md");
+
+  private final String templateFile;
+}
@@ -0,0 +1,8 @@
+package com.lofi.lofiapps.enums;
+
+public enum AmortizationMethod {
+  /** Interest on the original principal every month; equal principal parts. */
+  FLAT,
+  /** Interest on the outstanding balance; equal (annuity) installments. */
+  EFFECTIVE
+}
@@ -0,0 +1,6 @@
+package com.lofi.lofiapps.enums;
+
+public enum AnalysisStatus {
+  PENDING,
+  COMPLETED
+}
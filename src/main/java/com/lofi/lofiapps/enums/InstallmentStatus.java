@@ -0,0 +1,7 @@
+package com.lofi.lofiapps.enums;
+
+public enum InstallmentStatus {
+  DUE,
+  OVERDUE,
+  PAID
+}
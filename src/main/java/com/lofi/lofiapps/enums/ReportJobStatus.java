@@ -0,0 +1,8 @@
+package com.lofi.lofiapps.enums;
+
+public enum ReportJobStatus {
+  QUEUED,
+  RUNNING,
+  SUCCEEDED,
+  FAILED
+}
@@ -0,0 +1,6 @@
+package com.lofi.lofiapps.enums;
+
+public enum ReportType {
+  LOAN_KPIS,
+  LOAN_SLA
+}
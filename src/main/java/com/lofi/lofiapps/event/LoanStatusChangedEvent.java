@@ -0,0 +1,7 @@
+package com.lofi.lofiapps.event;
+
+import com.lofi.lofiapps.enums.LoanStatus;
+import java.util.UUID;
+
+/** Published whenever a loan status change is recorded in the approval history. */
+public record LoanStatusChangedEvent(UUID loanId, LoanStatus fromStatus, LoanStatus toStatus) {}
@@ -0,0 +1,7 @@
+package com.lofi.lofiapps.event;
+
+/**
+ * Published after cached reference data of {@code type} was evicted, on the node that made the
+ * change and on every node that received the broadcast.
+ */
+public record ReferenceDataChangedEvent(Class<?> type) {}
@@ -0,0 +1,9 @@
+package com.lofi.lofiapps.exception;
+
+/** The credential hashing pool is saturated; the client should retry shortly. */
+public class CredentialHashingBusyException extends RuntimeException {
+
+  public CredentialHashingBusyException() {
+    super("Too many sign-in attempts in progress. Please try again shortly.");
+  }
+}
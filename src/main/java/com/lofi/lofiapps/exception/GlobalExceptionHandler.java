@@ -5,6 +5,7 @@ import jakarta.validation.ConstraintViolationException;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -60,6 +61,15 @@ public class GlobalExceptionHandler {
         .body(ApiResponse.error(ex.getErrorCode(), ex.getMessage(), getDebugError(ex)));
   }
 
+  @ExceptionHandler(CredentialHashingBusyException.class)
+  public ResponseEntity<ApiResponse<Object>> handleCredentialHashingBusyException(
+      CredentialHashingBusyException ex) {
+    log.warn("Credential hashing busy: {}", ex.getMessage());
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, "1")
+        .body(ApiResponse.error("AUTH_BUSY", ex.getMessage(), getDebugError(ex)));
+  }
+
   @ExceptionHandler(ResourceNotFoundException.class)
   public ResponseEntity<ApiResponse<Object>> handleResourceNotFoundException(
       ResourceNotFoundException ex) {
@@ -0,0 +1,12 @@
+package com.lofi.lofiapps.exception;
+
+/**
+ * Storage rejected the requested byte range as lying past the end of the object. Callers that serve
+ * ranges answer 416; anywhere else it is a bad request.
+ */
+public class RangeNotSatisfiableException extends IllegalArgumentException {
+
+  public RangeNotSatisfiableException() {
+    super("Requested range is not satisfiable");
+  }
+}
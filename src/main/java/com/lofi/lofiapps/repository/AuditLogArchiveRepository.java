@@ -0,0 +1,14 @@
+package com.lofi.lofiapps.repository;
+
+import com.lofi.lofiapps.entity.AuditLogArchive;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AuditLogArchiveRepository extends JpaRepository<AuditLogArchive, UUID> {
+
+  List<AuditLogArchive> findByMonthBetweenOrderByMonthDesc(LocalDate from, LocalDate to);
+
+  boolean existsByMonth(LocalDate month);
+}
@@ -0,0 +1,44 @@
+package com.lofi.lofiapps.repository;
+
+import java.time.YearMonth;
+import java.util.SortedMap;
+import java.util.function.Consumer;
+
+/**
+ * Monthly partition maintenance for {@code audit_logs} on SQL Server. Implemented with plain JDBC
+ * in {@link AuditLogPartitionRepositoryImpl} and mixed into {@link AuditLogRepository}.
+ *
+ * <p>The table is clustered on {@code (created_at, id)} over the {@code RANGE RIGHT} function
+ * {@code pf_audit_logs_month}, one boundary per month start, so a month is one partition and
+ * dropping it is a metadata operation.
+ */
+public interface AuditLogPartitionRepository {
+
+  boolean isPartitioned();
+
+  /**
+   * Creates the partition function and scheme and rebuilds the clustered index on them, with
+   * boundaries from the oldest row's month through {@code through}. Does nothing once the table is
+   * partitioned. The rebuild rewrites the whole table, so this is only run on an admin's request.
+   *
+   * @return whether the table was converted by this call
+   */
+  boolean ensurePartitioned(YearMonth through);
+
+  /** Splits empty partitions off the end so every month up to {@code through} has its own. */
+  void ensureBoundaries(YearMonth through);
+
+  /** Months whose partition holds rows, oldest first, with their row counts. */
+  SortedMap<YearMonth, Long> monthsWithRows();
+
+  long countMonth(YearMonth month);
+
+  /** Streams a month's rows newest first without loading them into the persistence context. */
+  void streamMonth(YearMonth month, Consumer<AuditLogRecord> consumer);
+
+  /** Empties a month's partition with {@code TRUNCATE ... WITH (PARTITIONS)}. */
+  void truncateMonth(YearMonth month);
+
+  /** Removes the boundary at the start of {@code month}; cheap once the month is empty. */
+  void mergeBoundary(YearMonth month);
+}
@@ -0,0 +1,233 @@
+package com.lofi.lofiapps.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * JDBC implementation of {@link AuditLogPartitionRepository}. DDL runs on its own connection and
+ * commits immediately; the truncate joins the caller's transaction.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class AuditLogPartitionRepositoryImpl implements AuditLogPartitionRepository {
+
+  static final String FUNCTION = "pf_audit_logs_month";
+  static final String SCHEME = "ps_audit_logs_month";
+
+  private static final String IS_PARTITIONED_SQL =
+      "SELECT COUNT(*) FROM sys.indexes i"
+          + " JOIN sys.partition_schemes ps ON ps.data_space_id = i.data_space_id"
+          + " WHERE i.object_id = OBJECT_ID('audit_logs') AND i.index_id = 1";
+
+  private static final String MAX_BOUNDARY_SQL =
+      "SELECT MAX(CAST(prv.value AS datetime2(6))) FROM sys.partition_range_values prv"
+          + " JOIN sys.partition_functions pf ON pf.function_id = prv.function_id"
+          + " WHERE pf.name = '"
+          + FUNCTION
+          + "'";
+
+  private static final String DROP_PRIMARY_KEY_SQL =
+      "DECLARE @pk sysname = (SELECT name FROM sys.key_constraints"
+          + " WHERE parent_object_id = OBJECT_ID('audit_logs') AND type = 'PK');"
+          + " IF @pk IS NOT NULL EXEC('ALTER TABLE audit_logs DROP CONSTRAINT ' + QUOTENAME(@pk))";
+
+  // Partition n of a RANGE RIGHT function starts at boundary n - 1; partition 1 has no lower bound
+  private static final String PARTITION_ROWS_SQL =
+      "SELECT CAST(prv.value AS datetime2(6)) AS lower_bound, SUM(p.rows) AS row_count"
+          + " FROM sys.partitions p"
+          + " JOIN sys.indexes i ON i.object_id = p.object_id AND i.index_id = p.index_id"
+          + " JOIN sys.partition_schemes ps ON ps.data_space_id = i.data_space_id"
+          + " LEFT JOIN sys.partition_range_values prv ON prv.function_id = ps.function_id"
+          + " AND prv.boundary_id = p.partition_number - 1"
+          + " WHERE p.object_id = OBJECT_ID('audit_logs') AND i.index_id = 1"
+          + " GROUP BY prv.value";
+
+  private static final String COUNT_MONTH_SQL =
+      "SELECT COUNT_BIG(*) FROM audit_logs WHERE created_at >= :from AND created_at < :to";
+
+  private static final String STREAM_MONTH_SQL =
+      "SELECT id, created_at, created_by, updated_at, last_modified_by, deleted_at, user_id, action,"
+          + " entity_type, entity_id, resource_type, resource_id, details, old_value, new_value,"
+          + " ip_address, user_agent, description"
+          + " FROM audit_logs WHERE created_at >= :from AND created_at < :to"
+          + " ORDER BY created_at DESC, id DESC";
+
+  private static final String PARTITION_NUMBER_SQL = "SELECT $PARTITION." + FUNCTION + "(:from)";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  @Override
+  public boolean isPartitioned() {
+    Integer partitioned = jdbcTemplate.queryForObject(IS_PARTITIONED_SQL, Map.of(), Integer.class);
+    return partitioned != null && partitioned > 0;
+  }
+
+  @Override
+  public boolean ensurePartitioned(YearMonth through) {
+    if (isPartitioned()) {
+      return false;
+    }
+    Map<String, Object> none = Map.of();
+
+    jdbcTemplate.update(
+        "UPDATE audit_logs SET created_at = COALESCE(updated_at, SYSDATETIME())"
+            + " WHERE created_at IS NULL",
+        none);
+    Timestamp oldest =
+        jdbcTemplate.queryForObject(
+            "SELECT MIN(created_at) FROM audit_logs", none, Timestamp.class);
+    YearMonth first = oldest == null ? through : YearMonth.from(oldest.toLocalDateTime());
+
+    execute(
+        "IF NOT EXISTS (SELECT 1 FROM sys.partition_functions WHERE name = '"
+            + FUNCTION
+            + "') CREATE PARTITION FUNCTION "
+            + FUNCTION
+            + " (datetime2(6)) AS RANGE RIGHT FOR VALUES ("
+            + literal(first)
+            + ")");
+    execute(
+        "IF NOT EXISTS (SELECT 1 FROM sys.partition_schemes WHERE name = '"
+            + SCHEME
+            + "') CREATE PARTITION SCHEME "
+            + SCHEME
+            + " AS PARTITION "
+            + FUNCTION
+            + " ALL TO ([PRIMARY])");
+    // Splitting before any data sits on the scheme is free
+    ensureBoundaries(through);
+
+    log.info("Partitioning audit_logs by month from {} through {}", first, through);
+    execute("ALTER TABLE audit_logs ALTER COLUMN created_at datetime2(6) NOT NULL");
+    execute(DROP_PRIMARY_KEY_SQL);
+    execute(
+        "ALTER TABLE audit_logs ADD CONSTRAINT pk_audit_logs PRIMARY KEY CLUSTERED"
+            + " (created_at, id) ON "
+            + SCHEME
+            + " (created_at)");
+    return true;
+  }
+
+  @Override
+  public void ensureBoundaries(YearMonth through) {
+    Timestamp last = jdbcTemplate.queryForObject(MAX_BOUNDARY_SQL, Map.of(), Timestamp.class);
+    if (last == null) {
+      return;
+    }
+    for (YearMonth month = YearMonth.from(last.toLocalDateTime()).plusMonths(1);
+        !month.isAfter(through);
+        month = month.plusMonths(1)) {
+      execute("ALTER PARTITION SCHEME " + SCHEME + " NEXT USED [PRIMARY]");
+      execute("ALTER PARTITION FUNCTION " + FUNCTION + "() SPLIT RANGE (" + literal(month) + ")");
+    }
+  }
+
+  @Override
+  public SortedMap<YearMonth, Long> monthsWithRows() {
+    SortedMap<YearMonth, Long> months = new TreeMap<>();
+    jdbcTemplate.query(
+        PARTITION_ROWS_SQL,
+        Map.of(),
+        (RowCallbackHandler)
+            rs -> {
+              Timestamp lowerBound = rs.getTimestamp("lower_bound");
+              long rows = rs.getLong("row_count");
+              if (rows == 0) {
+                return;
+              }
+              if (lowerBound == null) {
+                log.warn("{} audit_logs rows predate the first partition boundary", rows);
+                return;
+              }
+              months.put(YearMonth.from(lowerBound.toLocalDateTime()), rows);
+            });
+    return months;
+  }
+
+  @Override
+  public long countMonth(YearMonth month) {
+    Long count = jdbcTemplate.queryForObject(COUNT_MONTH_SQL, range(month), Long.class);
+    return count == null ? 0 : count;
+  }
+
+  @Override
+  public void streamMonth(YearMonth month, Consumer<AuditLogRecord> consumer) {
+    jdbcTemplate.query(
+        STREAM_MONTH_SQL, range(month), (RowCallbackHandler) rs -> consumer.accept(toRecord(rs)));
+  }
+
+  @Override
+  public void truncateMonth(YearMonth month) {
+    Integer partition =
+        jdbcTemplate.queryForObject(PARTITION_NUMBER_SQL, range(month), Integer.class);
+    jdbcTemplate.update(
+        "TRUNCATE TABLE audit_logs WITH (PARTITIONS (" + partition + "))", Map.of());
+  }
+
+  @Override
+  public void mergeBoundary(YearMonth month) {
+    execute("ALTER PARTITION FUNCTION " + FUNCTION + "() MERGE RANGE (" + literal(month) + ")");
+  }
+
+  private void execute(String sql) {
+    jdbcTemplate.getJdbcTemplate().execute(sql);
+  }
+
+  private static MapSqlParameterSource range(YearMonth month) {
+    return new MapSqlParameterSource()
+        .addValue("from", Timestamp.valueOf(start(month)))
+        .addValue("to", Timestamp.valueOf(start(month.plusMonths(1))));
+  }
+
+  private static LocalDateTime start(YearMonth month) {
+    return month.atDay(1).atStartOfDay();
+  }
+
+  /** Boundary values are built from a {@link YearMonth}, never from input, so inlining is safe. */
+  private static String literal(YearMonth month) {
+    return "'" + month.atDay(1) + "T00:00:00'";
+  }
+
+  private static AuditLogRecord toRecord(ResultSet rs) throws SQLException {
+    return new AuditLogRecord(
+        uuid(rs.getString("id")),
+        rs.getTimestamp("created_at").toLocalDateTime(),
+        rs.getString("created_by"),
+        localDateTime(rs.getTimestamp("updated_at")),
+        rs.getString("last_modified_by"),
+        localDateTime(rs.getTimestamp("deleted_at")),
+        uuid(rs.getString("user_id")),
+        rs.getString("action"),
+        rs.getString("entity_type"),
+        uuid(rs.getString("entity_id")),
+        rs.getString("resource_type"),
+        rs.getString("resource_id"),
+        rs.getString("details"),
+        rs.getString("old_value"),
+        rs.getString("new_value"),
+        rs.getString("ip_address"),
+        rs.getString("user_agent"),
+        rs.getString("description"));
+  }
+
+  private static LocalDateTime localDateTime(Timestamp value) {
+    return value == null ? null : value.toLocalDateTime();
+  }
+
+  private static UUID uuid(String value) {
+    return value == null ? null : UUID.fromString(value);
+  }
+}
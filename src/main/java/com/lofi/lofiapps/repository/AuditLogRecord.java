@@ -0,0 +1,25 @@
+package com.lofi.lofiapps.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/** One {@code audit_logs} row as it is written to, and read back from, the cold archive. */
+public record AuditLogRecord(
+    UUID id,
+    LocalDateTime createdAt,
+    String createdBy,
+    LocalDateTime updatedAt,
+    String lastModifiedBy,
+    LocalDateTime deletedAt,
+    UUID userId,
+    String action,
+    String entityType,
+    UUID entityId,
+    String resourceType,
+    String resourceId,
+    String details,
+    String oldValue,
+    String newValue,
+    String ipAddress,
+    String userAgent,
+    String description) {}
@@ -6,4 +6,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
 public interface AuditLogRepository
-    extends JpaRepository<AuditLog, UUID>, JpaSpecificationExecutor<AuditLog> {}
+    extends JpaRepository<AuditLog, UUID>,
+        JpaSpecificationExecutor<AuditLog>,
+        AuditLogPartitionRepository {}
@@ -0,0 +1,40 @@
+package com.lofi.lofiapps.repository;
+
+import com.lofi.lofiapps.entity.BatchCheckpoint;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface BatchCheckpointRepository extends JpaRepository<BatchCheckpoint, UUID> {
+
+  List<BatchCheckpoint> findByJobNameAndRunDateOrderByStepAscPartitionNoAsc(
+      String jobName, LocalDate runDate);
+
+  /**
+   * Records a committed chunk. Called inside the chunk's own transaction, so the checkpoint and the
+   * chunk's work commit or roll back together.
+   */
+  @Transactional
+  @Modifying
+  @Query(
+      "UPDATE BatchCheckpoint c SET c.lastKey = :lastKey,"
+          + " c.rowsProcessed = c.rowsProcessed + :rows, c.updatedAt = :now WHERE c.id = :id")
+  int advance(
+      @Param("id") UUID id,
+      @Param("lastKey") String lastKey,
+      @Param("rows") long rows,
+      @Param("now") LocalDateTime now);
+
+  @Transactional
+  @Modifying
+  @Query("UPDATE BatchCheckpoint c SET c.completedAt = :now, c.updatedAt = :now WHERE c.id = :id")
+  int complete(@Param("id") UUID id, @Param("now") LocalDateTime now);
+}
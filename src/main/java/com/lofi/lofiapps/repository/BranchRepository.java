@@ -1,12 +1,16 @@
 package com.lofi.lofiapps.repository;
 
 import com.lofi.lofiapps.entity.Branch;
+import jakarta.persistence.QueryHint;
 import java.util.Optional;
 import java.util.UUID;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface BranchRepository extends JpaRepository<Branch, UUID> {
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
   Optional<Branch> findByName(String name);
 }
@@ -0,0 +1,53 @@
+package com.lofi.lofiapps.repository;
+
+import com.lofi.lofiapps.entity.LoanInstallment;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Set-based statements behind the nightly delinquency batch, implemented with plain JDBC in {@link
+ * DelinquencyRepositoryImpl}. Keys are compared by the database in {@code uniqueidentifier} order;
+ * bounds and cursors are passed around as the strings it returned.
+ */
+public interface DelinquencyRepository {
+
+  /**
+   * The keys that split the step's rows into {@code partitions} ranges of about equal size,
+   * ascending; one fewer than the partitions, or fewer still when there are not enough rows.
+   */
+  List<String> partitionBounds(DelinquencyStep step, int partitions);
+
+  /**
+   * Up to {@code limit} keys of the step in {@code (after, upper]}, ascending; null ends are open.
+   */
+  List<String> nextKeys(DelinquencyStep step, String after, String upper, int limit);
+
+  /** Terms of the loans among {@code loanIds} that have no installments yet. */
+  List<LoanTerms> findLoansWithoutInstallments(Collection<String> loanIds);
+
+  void insertInstallments(List<LoanInstallment> installments);
+
+  /**
+   * Recomputes status and days overdue of every installment of {@code loanIds} as of {@code asOf};
+   * only rows whose values change are written. Returns the rows written.
+   */
+  int ageInstallments(Collection<String> loanIds, LocalDate asOf);
+
+  /**
+   * Sets {@code total_overdue_days} (the most days overdue of any installment of the user's live
+   * loans that is still unpaid or was paid on or after {@code since}) and {@code loans_completed}
+   * for {@code userIds}; only users whose values change are written. Returns the users written.
+   */
+  int refreshCustomerAggregates(Collection<String> userIds, LocalDate since);
+
+  record LoanTerms(
+      UUID id,
+      BigDecimal loanAmount,
+      BigDecimal interestRate,
+      int tenor,
+      LocalDateTime disbursedAt) {}
+}
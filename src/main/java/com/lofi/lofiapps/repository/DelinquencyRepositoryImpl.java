@@ -0,0 +1,166 @@
+package com.lofi.lofiapps.repository;
+
+import com.lofi.lofiapps.entity.LoanInstallment;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+/** JDBC implementation of {@link DelinquencyRepository}. */
+@Repository
+@RequiredArgsConstructor
+public class DelinquencyRepositoryImpl implements DelinquencyRepository {
+
+  private static final String LOANS_WITHOUT_INSTALLMENTS_SQL =
+      "SELECT l.id, l.loan_amount, l.interest_rate, l.tenor, l.disbursed_at FROM loans l"
+          + " WHERE l.id IN (:ids) AND l.disbursed_at IS NOT NULL AND l.tenor > 0"
+          + " AND NOT EXISTS (SELECT 1 FROM loan_installments i WHERE i.loan_id = l.id)";
+
+  private static final String INSERT_INSTALLMENT_SQL =
+      "INSERT INTO loan_installments (id, loan_id, installment_number, due_date,"
+          + " principal_amount, interest_amount, amount_due, amount_paid, status, days_overdue,"
+          + " created_at, updated_at, created_by)"
+          + " VALUES (:id, :loanId, :number, :dueDate, :principal, :interest, :amountDue, 0,"
+          + " :status, 0, :now, :now, 'system')";
+
+  /**
+   * Paid installments keep the lateness of their payment; unpaid ones count up to {@code asOf}. Due
+   * on {@code asOf} itself is not overdue yet.
+   */
+  private static final String AGE_INSTALLMENTS_SQL =
+      "UPDATE i SET i.status = c.status, i.days_overdue = c.days_overdue,"
+          + " i.updated_at = CURRENT_TIMESTAMP"
+          + " FROM loan_installments i"
+          + " CROSS APPLY (SELECT CAST(COALESCE(i.paid_at, :asOf) AS date) AS settled_on) s"
+          + " CROSS APPLY (SELECT"
+          + " CASE WHEN i.paid_at IS NOT NULL THEN 'PAID'"
+          + " WHEN i.due_date < :asOf THEN 'OVERDUE' ELSE 'DUE' END AS status,"
+          + " CASE WHEN s.settled_on > i.due_date THEN DATEDIFF(day, i.due_date, s.settled_on)"
+          + " ELSE 0 END AS days_overdue) c"
+          + " WHERE i.loan_id IN (:ids)"
+          + " AND (i.status <> c.status OR i.days_overdue <> c.days_overdue)";
+
+  /**
+   * The worst lateness among installments still open or paid since {@code since}, so an old late
+   * payment stops counting once the lookback has passed and repeated ones do not add up.
+   */
+  private static final String REFRESH_CUSTOMERS_SQL =
+      "UPDATE u SET u.total_overdue_days = o.days, u.loans_completed = c.completed"
+          + " FROM users u"
+          + " CROSS APPLY (SELECT ISNULL(MAX(i.days_overdue), 0) AS days FROM loans l"
+          + " JOIN loan_installments i ON i.loan_id = l.id"
+          + " WHERE l.customer_id = u.id AND l.deleted_at IS NULL"
+          + " AND (i.paid_at IS NULL OR i.paid_at >= :since)) o"
+          + " CROSS APPLY (SELECT COUNT(*) AS completed FROM loans l"
+          + " WHERE l.customer_id = u.id AND l.deleted_at IS NULL"
+          + " AND l.loan_status = 'COMPLETED') c"
+          + " WHERE u.id IN (:ids)"
+          + " AND (u.total_overdue_days IS NULL OR u.loans_completed IS NULL"
+          + " OR u.total_overdue_days <> o.days OR u.loans_completed <> c.completed)";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  @Override
+  public List<String> partitionBounds(DelinquencyStep step, int partitions) {
+    if (partitions <= 1) {
+      return List.of();
+    }
+    String sql =
+        "SELECT MAX(id) AS bound FROM (SELECT id, NTILE(:partitions) OVER (ORDER BY id) AS part"
+            + " FROM "
+            + step.tableName()
+            + " WHERE "
+            + step.filter()
+            + ") t GROUP BY part HAVING part < :partitions ORDER BY MAX(id)";
+    return jdbcTemplate.queryForList(sql, Map.of("partitions", partitions), String.class);
+  }
+
+  @Override
+  public List<String> nextKeys(DelinquencyStep step, String after, String upper, int limit) {
+    StringBuilder sql =
+        new StringBuilder("SELECT TOP (:limit) id FROM ")
+            .append(step.tableName())
+            .append(" WHERE ")
+            .append(step.filter());
+    MapSqlParameterSource params = new MapSqlParameterSource("limit", limit);
+    if (after != null) {
+      sql.append(" AND id > :after");
+      params.addValue("after", after);
+    }
+    if (upper != null) {
+      sql.append(" AND id <= :upper");
+      params.addValue("upper", upper);
+    }
+    return jdbcTemplate.queryForList(sql.append(" ORDER BY id").toString(), params, String.class);
+  }
+
+  @Override
+  public List<LoanTerms> findLoansWithoutInstallments(Collection<String> loanIds) {
+    if (loanIds.isEmpty()) {
+      return List.of();
+    }
+    return jdbcTemplate.query(
+        LOANS_WITHOUT_INSTALLMENTS_SQL,
+        Map.of("ids", loanIds),
+        (rs, rowNum) ->
+            new LoanTerms(
+                UUID.fromString(rs.getString("id")),
+                rs.getBigDecimal("loan_amount"),
+                rs.getBigDecimal("interest_rate"),
+                rs.getInt("tenor"),
+                rs.getTimestamp("disbursed_at").toLocalDateTime()));
+  }
+
+  @Override
+  public void insertInstallments(List<LoanInstallment> installments) {
+    if (installments.isEmpty()) {
+      return;
+    }
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    SqlParameterSource[] batch =
+        installments.stream()
+            .map(
+                installment ->
+                    new MapSqlParameterSource()
+                        .addValue("id", UUID.randomUUID().toString())
+                        .addValue("loanId", installment.getLoanId().toString())
+                        .addValue("number", installment.getInstallmentNumber())
+                        .addValue("dueDate", Date.valueOf(installment.getDueDate()))
+                        .addValue("principal", installment.getPrincipalAmount())
+                        .addValue("interest", installment.getInterestAmount())
+                        .addValue("amountDue", installment.getAmountDue())
+                        .addValue("status", installment.getStatus().name())
+                        .addValue("now", now))
+            .toArray(SqlParameterSource[]::new);
+    jdbcTemplate.batchUpdate(INSERT_INSTALLMENT_SQL, batch);
+  }
+
+  @Override
+  public int ageInstallments(Collection<String> loanIds, LocalDate asOf) {
+    if (loanIds.isEmpty()) {
+      return 0;
+    }
+    MapSqlParameterSource params =
+        new MapSqlParameterSource().addValue("ids", loanIds).addValue("asOf", Date.valueOf(asOf));
+    return jdbcTemplate.update(AGE_INSTALLMENTS_SQL, params);
+  }
+
+  @Override
+  public int refreshCustomerAggregates(Collection<String> userIds, LocalDate since) {
+    if (userIds.isEmpty()) {
+      return 0;
+    }
+    MapSqlParameterSource params =
+        new MapSqlParameterSource().addValue("ids", userIds).addValue("since", Date.valueOf(since));
+    return jdbcTemplate.update(REFRESH_CUSTOMERS_SQL, params);
+  }
+}
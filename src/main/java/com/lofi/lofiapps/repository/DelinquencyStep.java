@@ -0,0 +1,28 @@
+package com.lofi.lofiapps.repository;
+
+/**
+ * The steps of the nightly delinquency batch, in order, and the rows each walks. Customers are only
+ * aggregated once every loan partition is done, so they see a fully aged ledger.
+ */
+public enum DelinquencyStep {
+  /** Disbursed loans: open any missing ledger, then age its installments. */
+  LOANS("loans", "deleted_at IS NULL AND loan_status = 'DISBURSED'"),
+  /** Every user: recompute overdue days and completed loans from the ledger. */
+  CUSTOMERS("users", "deleted_at IS NULL");
+
+  private final String tableName;
+  private final String filter;
+
+  DelinquencyStep(String tableName, String filter) {
+    this.tableName = tableName;
+    this.filter = filter;
+  }
+
+  public String tableName() {
+    return tableName;
+  }
+
+  public String filter() {
+    return filter;
+  }
+}
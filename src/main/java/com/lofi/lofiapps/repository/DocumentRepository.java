@@ -1,12 +1,42 @@
 package com.lofi.lofiapps.repository;
 
 import com.lofi.lofiapps.entity.Document;
+import com.lofi.lofiapps.enums.DocumentType;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface DocumentRepository extends JpaRepository<Document, UUID> {
   List<Document> findByLoanId(UUID loanId);
 
-  long countByLoanIdAndDocumentType(UUID loanId, com.lofi.lofiapps.enums.DocumentType documentType);
+  /** Which of {@code types} have at least one verified document on the loan, in one query. */
+  @Query(
+      "SELECT d.documentType FROM Document d WHERE d.loanId = :loanId AND d.verified = true"
+          + " AND d.documentType IN :types GROUP BY d.documentType")
+  Set<DocumentType> findVerifiedDocumentTypes(
+      @Param("loanId") UUID loanId, @Param("types") Collection<DocumentType> types);
+
+  /**
+   * Like {@link #findVerifiedDocumentTypes} but also counts uploads that were never checked, as
+   * legacy clients never confirm theirs. Unconfirmed batch rows and failed checks do not count.
+   */
+  @Query(
+      "SELECT d.documentType FROM Document d WHERE d.loanId = :loanId"
+          + " AND d.documentType IN :types AND (d.verified = true"
+          + " OR (d.verificationNotes IS NULL AND (d.uploadPending IS NULL OR d.uploadPending = false)))"
+          + " GROUP BY d.documentType")
+  Set<DocumentType> findUploadedDocumentTypes(
+      @Param("loanId") UUID loanId, @Param("types") Collection<DocumentType> types);
+
+  @Modifying
+  @Transactional
+  @Query("DELETE FROM Document d WHERE d.uploadPending = true AND d.createdAt < :cutoff")
+  int deleteUnconfirmedBefore(@Param("cutoff") LocalDateTime cutoff);
 }
@@ -0,0 +1,22 @@
+package com.lofi.lofiapps.repository;
+
+import com.lofi.lofiapps.entity.LoanAnalysis;
+import com.lofi.lofiapps.enums.AiPromptType;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LoanAnalysisRepository extends JpaRepository<LoanAnalysis, UUID> {
+
+  Optional<LoanAnalysis> findByAnalysisTypeAndContextHash(
+      AiPromptType analysisType, String contextHash);
+
+  List<LoanAnalysis> findByAnalysisTypeAndContextHashIn(
+      AiPromptType analysisType, Collection<String> contextHashes);
+
+  boolean existsByAnalysisTypeAndContextHash(AiPromptType analysisType, String contextHash);
+}
@@ -0,0 +1,61 @@
+package com.lofi.lofiapps.repository;
+
+import java.util.Arrays;
+
+/**
+ * Repayment terms of many loans in parallel primitive arrays, one index per loan: principal in
+ * minor units, monthly rate in basis points, tenor in months and the disbursement month as months
+ * since January of year 0 ({@code year * 12 + month - 1}). Around 24 bytes a loan, so a million
+ * loans take tens of megabytes instead of a million entities.
+ */
+public final class LoanBook {
+
+  private long[] principals;
+  private int[] rateBasisPoints;
+  private int[] tenors;
+  private int[] disbursedMonths;
+  private int size;
+
+  public LoanBook(int capacity) {
+    int initial = Math.max(capacity, 16);
+    principals = new long[initial];
+    rateBasisPoints = new int[initial];
+    tenors = new int[initial];
+    disbursedMonths = new int[initial];
+  }
+
+  public void add(long principal, int rateBasisPoints, int tenor, int disbursedMonth) {
+    if (size == principals.length) {
+      int capacity = size + (size >> 1);
+      principals = Arrays.copyOf(principals, capacity);
+      this.rateBasisPoints = Arrays.copyOf(this.rateBasisPoints, capacity);
+      tenors = Arrays.copyOf(tenors, capacity);
+      disbursedMonths = Arrays.copyOf(disbursedMonths, capacity);
+    }
+    principals[size] = principal;
+    this.rateBasisPoints[size] = rateBasisPoints;
+    tenors[size] = tenor;
+    disbursedMonths[size] = disbursedMonth;
+    size++;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public long principal(int index) {
+    return principals[index];
+  }
+
+  public int rateBasisPoints(int index) {
+    return rateBasisPoints[index];
+  }
+
+  public int tenor(int index) {
+    return tenors[index];
+  }
+
+  public int disbursedMonth(int index) {
+    return disbursedMonths[index];
+  }
+}
@@ -0,0 +1,14 @@
+package com.lofi.lofiapps.repository;
+
+/**
+ * Reads the repayment terms of the loan portfolio into a {@link LoanBook}. Implemented with plain
+ * JDBC in {@link LoanBookRepositoryImpl} and mixed into {@link LoanRepository}.
+ */
+public interface LoanBookRepository {
+
+  /**
+   * Every live {@code DISBURSED} loan with a positive amount and tenor; the amount and rate are
+   * converted to minor units and basis points by the database, so no row becomes an object.
+   */
+  LoanBook loadDisbursedLoanBook();
+}
@@ -0,0 +1,47 @@
+package com.lofi.lofiapps.repository;
+
+import com.lofi.lofiapps.enums.LoanStatus;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * JDBC implementation of {@link LoanBookRepository}. The count sizes the arrays up front; loans
+ * disbursed between the two statements only grow them.
+ */
+@RequiredArgsConstructor
+public class LoanBookRepositoryImpl implements LoanBookRepository {
+
+  private static final String WHERE_SQL =
+      " FROM loans WHERE deleted_at IS NULL AND loan_status = :status"
+          + " AND disbursed_at IS NOT NULL AND tenor > 0 AND loan_amount > 0";
+
+  private static final String COUNT_SQL = "SELECT COUNT(*)" + WHERE_SQL;
+
+  private static final String SELECT_SQL =
+      "SELECT CAST(ROUND(loan_amount * 100, 0) AS bigint) AS principal,"
+          + " CAST(ROUND(ISNULL(interest_rate, 0) * 100, 0) AS int) AS rate_bp, tenor,"
+          + " YEAR(disbursed_at) * 12 + MONTH(disbursed_at) - 1 AS disbursed_month"
+          + WHERE_SQL;
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  @Override
+  public LoanBook loadDisbursedLoanBook() {
+    Map<String, String> params = Map.of("status", LoanStatus.DISBURSED.name());
+    Integer count = jdbcTemplate.queryForObject(COUNT_SQL, params, Integer.class);
+    LoanBook book = new LoanBook(count == null ? 0 : count);
+    jdbcTemplate.query(
+        SELECT_SQL,
+        params,
+        (RowCallbackHandler)
+            rs ->
+                book.add(
+                    rs.getLong("principal"),
+                    rs.getInt("rate_bp"),
+                    rs.getInt("tenor"),
+                    rs.getInt("disbursed_month")));
+    return book;
+  }
+}
@@ -0,0 +1,22 @@
+package com.lofi.lofiapps.repository;
+
+import com.lofi.lofiapps.enums.LoanStatus;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Set-based loan updates that bypass the persistence context. Implemented with plain JDBC in {@link
+ * LoanBulkRepositoryImpl} and mixed into {@link LoanRepository}.
+ */
+public interface LoanBulkRepository {
+
+  /**
+   * Cancels every DRAFT/SUBMITTED/REVIEWED loan of the customer except {@code keepLoanId} with a
+   * single {@code UPDATE ... OUTPUT} statement.
+   *
+   * @return the cancelled loan IDs mapped to the status they had before cancellation
+   */
+  Map<UUID, LoanStatus> cancelOtherActiveLoans(
+      UUID customerId, UUID keepLoanId, LocalDateTime changedAt);
+}
@@ -0,0 +1,52 @@
+package com.lofi.lofiapps.repository;
+
+import com.lofi.lofiapps.enums.LoanStatus;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * JDBC implementation of {@link LoanBulkRepository}. Runs on the connection of the surrounding JPA
+ * transaction, so the statement commits or rolls back together with the caller's changes.
+ */
+@RequiredArgsConstructor
+public class LoanBulkRepositoryImpl implements LoanBulkRepository {
+
+  private static final String CANCEL_OTHER_ACTIVE_LOANS_SQL =
+      "UPDATE loans SET loan_status = 'CANCELLED', last_status_changed_at = :changedAt,"
+          + " updated_at = :changedAt, last_modified_by = 'SYSTEM'"
+          + " OUTPUT inserted.id, deleted.loan_status"
+          + " WHERE customer_id = :customerId AND id <> :keepLoanId AND deleted_at IS NULL"
+          + " AND loan_status IN (:statuses)";
+
+  private static final List<String> CANCELLABLE_STATUSES =
+      List.of(LoanStatus.DRAFT.name(), LoanStatus.SUBMITTED.name(), LoanStatus.REVIEWED.name());
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  @Override
+  public Map<UUID, LoanStatus> cancelOtherActiveLoans(
+      UUID customerId, UUID keepLoanId, LocalDateTime changedAt) {
+    MapSqlParameterSource params =
+        new MapSqlParameterSource()
+            .addValue("customerId", customerId.toString())
+            .addValue("keepLoanId", keepLoanId.toString())
+            .addValue("changedAt", Timestamp.valueOf(changedAt))
+            .addValue("statuses", CANCELLABLE_STATUSES);
+
+    Map<UUID, LoanStatus> cancelled = new LinkedHashMap<>();
+    jdbcTemplate.query(
+        CANCEL_OTHER_ACTIVE_LOANS_SQL,
+        params,
+        rs -> {
+          cancelled.put(UUID.fromString(rs.getString(1)), LoanStatus.valueOf(rs.getString(2)));
+        });
+    return cancelled;
+  }
+}
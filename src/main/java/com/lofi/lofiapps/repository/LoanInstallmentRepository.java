@@ -0,0 +1,21 @@
+package com.lofi.lofiapps.repository;
+
+import com.lofi.lofiapps.entity.LoanInstallment;
+import jakarta.persistence.LockModeType;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LoanInstallmentRepository extends JpaRepository<LoanInstallment, UUID> {
+
+  List<LoanInstallment> findByLoanIdOrderByInstallmentNumber(UUID loanId);
+
+  boolean existsByLoanId(UUID loanId);
+
+  /** The installments a payment is allocated to, locked so two payments cannot both fill one. */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  List<LoanInstallment> findByLoanIdAndPaidAtIsNullOrderByInstallmentNumber(UUID loanId);
+}
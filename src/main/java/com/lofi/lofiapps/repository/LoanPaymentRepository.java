@@ -0,0 +1,15 @@
+package com.lofi.lofiapps.repository;
+
+import com.lofi.lofiapps.entity.LoanPayment;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LoanPaymentRepository extends JpaRepository<LoanPayment, UUID> {
+
+  List<LoanPayment> findByLoanIdOrderByPaidAtDesc(UUID loanId);
+
+  boolean existsByLoanIdAndReference(UUID loanId, String reference);
+}
@@ -3,8 +3,13 @@ package com.lofi.lofiapps.repository;
 import com.lofi.lofiapps.entity.Loan;
 import com.lofi.lofiapps.enums.LoanStatus;
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -12,9 +17,27 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface LoanRepository extends JpaRepository<Loan, UUID>, JpaSpecificationExecutor<Loan> {
+public interface LoanRepository
+    extends JpaRepository<Loan, UUID>,
+        JpaSpecificationExecutor<Loan>,
+        LoanBulkRepository,
+        LoanSearchRepository,
+        LoanBookRepository,
+        ReportVersionRepository {
   List<Loan> findByCustomerId(UUID customerId);
 
+  // Loan listings: the mapper and the analysis context read these for every row of the page
+  @Override
+  @EntityGraph(attributePaths = {"customer", "product"})
+  Page<Loan> findAll(Specification<Loan> spec, Pageable pageable);
+
+  // Batch transitions: load a whole chunk of loans with the associations the guards read
+  @EntityGraph(attributePaths = {"customer", "customer.product", "branch"})
+  List<Loan> findAllByIdIn(Collection<UUID> ids);
+
+  // Batch transitions: every loan of every customer touched by a chunk, in one round trip
+  List<Loan> findByCustomerIdIn(Collection<UUID> customerIds);
+
   List<Loan> findByLoanStatus(LoanStatus loanStatus);
 
   long countByLoanStatus(LoanStatus loanStatus);
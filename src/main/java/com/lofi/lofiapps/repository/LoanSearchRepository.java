@@ -0,0 +1,22 @@
+package com.lofi.lofiapps.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Reads loans in the shape the back-office search index needs. Implemented with plain JDBC in
+ * {@link LoanSearchRepositoryImpl} and mixed into {@link LoanRepository}.
+ */
+public interface LoanSearchRepository {
+
+  /** Streams every live loan without loading entities. */
+  void streamSearchRows(Consumer<LoanSearchRow> consumer);
+
+  /** Rows for the live loans among {@code ids}; deleted or unknown ids are left out. */
+  List<LoanSearchRow> findSearchRows(Collection<UUID> ids);
+
+  /** Rows for every live loan of one customer, whose name or contact details changed. */
+  List<LoanSearchRow> findSearchRowsByCustomer(UUID customerId);
+}
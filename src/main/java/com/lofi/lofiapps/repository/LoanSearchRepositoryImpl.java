@@ -0,0 +1,67 @@
+package com.lofi.lofiapps.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/** JDBC implementation of {@link LoanSearchRepository}. */
+@RequiredArgsConstructor
+public class LoanSearchRepositoryImpl implements LoanSearchRepository {
+
+  private static final String SELECT_SQL =
+      "SELECT l.id, l.customer_id, u.full_name, u.phone_number, b.nik, l.branch_id,"
+          + " l.disbursement_reference, l.npwp_number, l.loan_amount, l.created_at"
+          + " FROM loans l"
+          + " JOIN users u ON u.id = l.customer_id"
+          + " LEFT JOIN user_biodatas b ON b.user_id = u.id AND b.deleted_at IS NULL"
+          + " WHERE l.deleted_at IS NULL";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  @Override
+  public void streamSearchRows(Consumer<LoanSearchRow> consumer) {
+    jdbcTemplate.query(SELECT_SQL, Map.of(), (RowCallbackHandler) rs -> consumer.accept(toRow(rs)));
+  }
+
+  @Override
+  public List<LoanSearchRow> findSearchRows(Collection<UUID> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    MapSqlParameterSource params =
+        new MapSqlParameterSource("ids", ids.stream().map(UUID::toString).toList());
+    return jdbcTemplate.query(SELECT_SQL + " AND l.id IN (:ids)", params, (rs, i) -> toRow(rs));
+  }
+
+  @Override
+  public List<LoanSearchRow> findSearchRowsByCustomer(UUID customerId) {
+    MapSqlParameterSource params = new MapSqlParameterSource("customerId", customerId.toString());
+    return jdbcTemplate.query(
+        SELECT_SQL + " AND l.customer_id = :customerId", params, (rs, i) -> toRow(rs));
+  }
+
+  private static LoanSearchRow toRow(ResultSet rs) throws SQLException {
+    Timestamp createdAt = rs.getTimestamp("created_at");
+    String branchId = rs.getString("branch_id");
+    return new LoanSearchRow(
+        UUID.fromString(rs.getString("id")),
+        UUID.fromString(rs.getString("customer_id")),
+        rs.getString("full_name"),
+        rs.getString("phone_number"),
+        rs.getString("nik"),
+        branchId == null ? null : UUID.fromString(branchId),
+        rs.getString("disbursement_reference"),
+        rs.getString("npwp_number"),
+        rs.getBigDecimal("loan_amount"),
+        createdAt == null ? null : createdAt.toLocalDateTime());
+  }
+}
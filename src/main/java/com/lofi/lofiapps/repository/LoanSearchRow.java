@@ -0,0 +1,18 @@
+package com.lofi.lofiapps.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/** The searchable fields of one loan, with the customer fields staff look loans up by. */
+public record LoanSearchRow(
+    UUID id,
+    UUID customerId,
+    String customerName,
+    String customerPhone,
+    String customerNik,
+    UUID branchId,
+    String disbursementReference,
+    String npwpNumber,
+    BigDecimal loanAmount,
+    LocalDateTime createdAt) {}
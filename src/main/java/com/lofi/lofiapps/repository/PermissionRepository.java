@@ -1,10 +1,14 @@
 package com.lofi.lofiapps.repository;
 
 import com.lofi.lofiapps.entity.Permission;
+import jakarta.persistence.QueryHint;
 import java.util.Optional;
 import java.util.UUID;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface PermissionRepository extends JpaRepository<Permission, UUID> {
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
   Optional<Permission> findByName(String name);
 }
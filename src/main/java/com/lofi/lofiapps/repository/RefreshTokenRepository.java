@@ -1,6 +1,7 @@
 package com.lofi.lofiapps.repository;
 
 import com.lofi.lofiapps.entity.RefreshToken;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -11,12 +12,33 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
-  Optional<RefreshToken> findByToken(String token);
-
   @Query("SELECT r FROM RefreshToken r WHERE r.user.id = :userId")
-  Optional<RefreshToken> findByUserId(UUID userId);
+  Optional<RefreshToken> findByUserId(@Param("userId") UUID userId);
+
+  /**
+   * Compare-and-set rotation: succeeds only while {@code currentHash} is still the live token of a
+   * non-revoked family, so two concurrent uses of one token cannot both rotate.
+   */
+  @Modifying
+  @Query(
+      "UPDATE RefreshToken r SET r.tokenHash = :nextHash, r.expiryDate = :expiryDate "
+          + "WHERE r.user.id = :userId AND r.familyId = :familyId "
+          + "AND r.tokenHash = :currentHash AND r.revoked = false")
+  int rotate(
+      @Param("userId") UUID userId,
+      @Param("familyId") UUID familyId,
+      @Param("currentHash") String currentHash,
+      @Param("nextHash") String nextHash,
+      @Param("expiryDate") Instant expiryDate);
+
+  @Modifying
+  @Query("UPDATE RefreshToken r SET r.revoked = true WHERE r.familyId = :familyId")
+  int revokeFamily(@Param("familyId") UUID familyId);
 
+  // Batched so a large backlog never holds a long lock on the table
   @Modifying
-  @Query(value = "DELETE FROM refresh_tokens WHERE user_id = :userId", nativeQuery = true)
-  void deleteByUserId(@Param("userId") UUID userId);
+  @Query(
+      value = "DELETE TOP (:batchSize) FROM refresh_token_families WHERE expiry_date < :now",
+      nativeQuery = true)
+  int deleteExpired(@Param("now") Instant now, @Param("batchSize") int batchSize);
 }
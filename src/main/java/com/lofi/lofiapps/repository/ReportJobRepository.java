@@ -0,0 +1,60 @@
+package com.lofi.lofiapps.repository;
+
+import com.lofi.lofiapps.entity.ReportJob;
+import com.lofi.lofiapps.enums.ReportJobStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface ReportJobRepository extends JpaRepository<ReportJob, UUID> {
+
+  Optional<ReportJob> findByParamsHashAndDataVersion(String paramsHash, String dataVersion);
+
+  /**
+   * Moves a queued job to running. Every instance may try to run the same job; only the one whose
+   * update matches gets to.
+   */
+  @Transactional
+  @Modifying
+  @Query(
+      "UPDATE ReportJob j SET j.status = com.lofi.lofiapps.enums.ReportJobStatus.RUNNING,"
+          + " j.startedAt = :now WHERE j.id = :id"
+          + " AND j.status = com.lofi.lofiapps.enums.ReportJobStatus.QUEUED")
+  int claim(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+  /** Puts a failed job back in the queue; returns 0 if it is not failed (any more). */
+  @Transactional
+  @Modifying
+  @Query(
+      "UPDATE ReportJob j SET j.status = com.lofi.lofiapps.enums.ReportJobStatus.QUEUED,"
+          + " j.queuedAt = :now, j.errorMessage = null WHERE j.id = :id"
+          + " AND j.status = com.lofi.lofiapps.enums.ReportJobStatus.FAILED")
+  int requeueFailed(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+  /** Requeues jobs whose runner started before {@code startedBefore} and never finished. */
+  @Transactional
+  @Modifying
+  @Query(
+      "UPDATE ReportJob j SET j.status = com.lofi.lofiapps.enums.ReportJobStatus.QUEUED,"
+          + " j.queuedAt = :now WHERE j.status = com.lofi.lofiapps.enums.ReportJobStatus.RUNNING"
+          + " AND j.startedAt < :startedBefore")
+  int requeueStale(
+      @Param("startedBefore") LocalDateTime startedBefore, @Param("now") LocalDateTime now);
+
+  @Query(
+      "SELECT j.id FROM ReportJob j WHERE j.status = :status AND j.queuedAt < :queuedBefore"
+          + " ORDER BY j.queuedAt")
+  List<UUID> findIdsByStatusQueuedBefore(
+      @Param("status") ReportJobStatus status,
+      @Param("queuedBefore") LocalDateTime queuedBefore,
+      Pageable pageable);
+}
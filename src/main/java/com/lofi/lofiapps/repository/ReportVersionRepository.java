@@ -0,0 +1,21 @@
+package com.lofi.lofiapps.repository;
+
+import java.util.UUID;
+
+/**
+ * Cheap fingerprints of the data behind each report, implemented with plain JDBC in {@link
+ * ReportVersionRepositoryImpl} and mixed into {@link LoanRepository}. A fingerprint changes
+ * whenever a row the report reads is inserted, updated or soft-deleted; it is meaningless beyond
+ * equality.
+ */
+public interface ReportVersionRepository {
+
+  /** Live loan count and the latest loan and product change times. */
+  String loanKpisVersion();
+
+  /**
+   * The loan's, its customer's and its approval history's latest change times, or {@code null} when
+   * the loan does not exist.
+   */
+  String loanSlaVersion(UUID loanId);
+}
@@ -0,0 +1,46 @@
+package com.lofi.lofiapps.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * JDBC implementation of {@link ReportVersionRepository}. The loan aggregates are answered from the
+ * filtered {@code ix_loans_updated_live} and {@code ix_loans_tombstones} indexes.
+ */
+@RequiredArgsConstructor
+public class ReportVersionRepositoryImpl implements ReportVersionRepository {
+
+  private static final String LOAN_KPIS_VERSION_SQL =
+      "SELECT CONCAT("
+          + "(SELECT COUNT_BIG(*) FROM loans WHERE deleted_at IS NULL), '|',"
+          + " (SELECT MAX(updated_at) FROM loans WHERE deleted_at IS NULL), '|',"
+          + " (SELECT MAX(deleted_at) FROM loans WHERE deleted_at IS NOT NULL), '|',"
+          + " (SELECT MAX(updated_at) FROM products), '|',"
+          + " (SELECT MAX(deleted_at) FROM products))";
+
+  private static final String LOAN_SLA_VERSION_SQL =
+      "SELECT CONCAT(l.updated_at, '|', l.deleted_at, '|', u.updated_at, '|',"
+          + " h.row_count, '|', h.last_updated, '|', h.last_deleted)"
+          + " FROM loans l LEFT JOIN users u ON u.id = l.customer_id"
+          + " CROSS APPLY (SELECT COUNT_BIG(*) AS row_count, MAX(updated_at) AS last_updated,"
+          + " MAX(deleted_at) AS last_deleted FROM approval_history WHERE loan_id = l.id) h"
+          + " WHERE l.id = :loanId";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  @Override
+  public String loanKpisVersion() {
+    return jdbcTemplate.queryForObject(LOAN_KPIS_VERSION_SQL, Map.of(), String.class);
+  }
+
+  @Override
+  public String loanSlaVersion(UUID loanId) {
+    List<String> versions =
+        jdbcTemplate.queryForList(
+            LOAN_SLA_VERSION_SQL, Map.of("loanId", loanId.toString()), String.class);
+    return versions.isEmpty() ? null : versions.get(0);
+  }
+}
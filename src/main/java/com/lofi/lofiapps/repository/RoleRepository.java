@@ -2,12 +2,16 @@ package com.lofi.lofiapps.repository;
 
 import com.lofi.lofiapps.entity.Role;
 import com.lofi.lofiapps.enums.RoleName;
+import jakarta.persistence.QueryHint;
 import java.util.Optional;
 import java.util.UUID;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface RoleRepository extends JpaRepository<Role, UUID> {
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
   Optional<Role> findByName(RoleName name);
 }
@@ -0,0 +1,12 @@
+package com.lofi.lofiapps.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/** Keyset position in a table's tombstones, ordered by {@code (deleted_at, id)}. */
+public record TombstoneCursor(LocalDateTime deletedAt, UUID id) {
+
+  /** Before every tombstone. */
+  public static final TombstoneCursor START =
+      new TombstoneCursor(LocalDateTime.of(1900, 1, 1, 0, 0), new UUID(0, 0));
+}
@@ -0,0 +1,47 @@
+package com.lofi.lofiapps.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Soft-delete housekeeping on SQL Server, implemented with plain JDBC in {@link
+ * TombstoneRepositoryImpl}.
+ *
+ * <p>Every entity query carries {@code deleted_at IS NULL}, so the hot lookup indexes are filtered
+ * on it and leave tombstones out; a second filtered index per purged table holds only the
+ * tombstones, ordered by {@code (deleted_at, id)}, for the purge to walk.
+ */
+public interface TombstoneRepository {
+
+  /**
+   * Creates any missing filtered index with {@code ONLINE = ON}. On editions that cannot build
+   * online nothing is created unless {@code allowOffline} is set, since an offline build locks the
+   * table for as long as it runs.
+   *
+   * @return how many indexes this call created
+   */
+  int ensureIndexes(boolean allowOffline);
+
+  /**
+   * Creates {@code <table>_archive} from the live table's columns if it does not exist yet.
+   *
+   * @return the columns both tables share, which are the ones archived
+   */
+  List<String> ensureArchiveTable(TombstoneTable table);
+
+  /**
+   * Removes up to {@code chunkSize} tombstones deleted before {@code cutoff} and after {@code
+   * after}, oldest first, copying them to the archive first when {@code archiveColumns} is not
+   * empty. The chunk is one short transaction; rows locked by others are skipped, not waited for.
+   *
+   * @return the rows removed and the position of the last one, or {@code after} if none were
+   */
+  Chunk purgeChunk(
+      TombstoneTable table,
+      List<String> archiveColumns,
+      LocalDateTime cutoff,
+      TombstoneCursor after,
+      int chunkSize);
+
+  record Chunk(int rows, TombstoneCursor last) {}
+}
@@ -0,0 +1,214 @@
+package com.lofi.lofiapps.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC implementation of {@link TombstoneRepository}. Index DDL runs on its own connection; each
+ * purge chunk is a single batch that opens and commits its own transaction.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class TombstoneRepositoryImpl implements TombstoneRepository {
+
+  static final String LIVE = "deleted_at IS NULL";
+  static final String TOMBSTONES = "deleted_at IS NOT NULL";
+
+  /** The lookups behind the repositories and specifications of each table. */
+  static final List<FilteredIndex> INDEXES =
+      List.of(
+          new FilteredIndex("loans", "ix_loans_customer_live", "customer_id, loan_status", LIVE),
+          new FilteredIndex(
+              "loans", "ix_loans_branch_live", "branch_id, loan_status, created_at", LIVE),
+          new FilteredIndex("loans", "ix_loans_status_live", "loan_status, created_at", LIVE),
+          // Report data versions read MAX(updated_at) over the live loans
+          new FilteredIndex("loans", "ix_loans_updated_live", "updated_at", LIVE),
+          new FilteredIndex("loans", "ix_loans_tombstones", "deleted_at, id", TOMBSTONES),
+          new FilteredIndex("users", "ix_users_branch_live", "branch_id, status", LIVE),
+          new FilteredIndex("users", "ix_users_status_live", "status, created_at", LIVE),
+          new FilteredIndex(
+              "notifications", "ix_notifications_user_live", "user_id, created_at", LIVE),
+          new FilteredIndex(
+              "notifications",
+              "ix_notifications_unread_live",
+              "user_id",
+              LIVE + " AND is_read = 0"),
+          new FilteredIndex(
+              "notifications", "ix_notifications_tombstones", "deleted_at, id", TOMBSTONES),
+          new FilteredIndex(
+              "approval_history", "ix_approval_history_loan_live", "loan_id, created_at", LIVE),
+          new FilteredIndex(
+              "approval_history", "ix_approval_history_tombstones", "deleted_at, id", TOMBSTONES),
+          new FilteredIndex(
+              "risk_checks", "ix_risk_checks_loan_live", "loan_id, check_type, status", LIVE),
+          new FilteredIndex(
+              "risk_checks", "ix_risk_checks_tombstones", "deleted_at, id", TOMBSTONES));
+
+  // Enterprise/Developer, Azure SQL Database and Managed Instance can build indexes online
+  private static final String SUPPORTS_ONLINE_SQL =
+      "SELECT CASE WHEN CAST(SERVERPROPERTY('EngineEdition') AS int) IN (3, 5, 8)"
+          + " THEN 1 ELSE 0 END";
+
+  private static final String INDEX_EXISTS_SQL =
+      "SELECT COUNT(*) FROM sys.indexes WHERE object_id = OBJECT_ID(:table) AND name = :name";
+
+  private static final String SHARED_COLUMNS_SQL =
+      "SELECT c.name FROM sys.columns c"
+          + " JOIN sys.columns a ON a.name = c.name AND a.object_id = OBJECT_ID(:archive)"
+          + " WHERE c.object_id = OBJECT_ID(:table) ORDER BY c.column_id";
+
+  private static final String MISSING_COLUMNS_SQL =
+      "SELECT c.name FROM sys.columns c WHERE c.object_id = OBJECT_ID(:table)"
+          + " AND NOT EXISTS (SELECT 1 FROM sys.columns a"
+          + " WHERE a.object_id = OBJECT_ID(:archive) AND a.name = c.name)";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  @Override
+  public int ensureIndexes(boolean allowOffline) {
+    Integer online = jdbcTemplate.queryForObject(SUPPORTS_ONLINE_SQL, Map.of(), Integer.class);
+    boolean supportsOnline = online != null && online == 1;
+    if (!supportsOnline && !allowOffline) {
+      log.warn("This SQL Server edition cannot build indexes online; skipping filtered indexes");
+      return 0;
+    }
+    String with = supportsOnline ? " WITH (ONLINE = ON)" : "";
+    int created = 0;
+    for (FilteredIndex index : INDEXES) {
+      MapSqlParameterSource params =
+          new MapSqlParameterSource()
+              .addValue("table", index.table())
+              .addValue("name", index.name());
+      Integer exists = jdbcTemplate.queryForObject(INDEX_EXISTS_SQL, params, Integer.class);
+      if (exists != null && exists > 0) {
+        continue;
+      }
+      log.info("Creating filtered index {} on {}", index.name(), index.table());
+      execute(index.createSql() + with);
+      created++;
+    }
+    return created;
+  }
+
+  @Override
+  public List<String> ensureArchiveTable(TombstoneTable table) {
+    String archive = table.archiveTableName();
+    execute(
+        "IF OBJECT_ID('"
+            + archive
+            + "', 'U') IS NULL SELECT TOP 0 * INTO "
+            + archive
+            + " FROM "
+            + table.tableName());
+    MapSqlParameterSource params =
+        new MapSqlParameterSource()
+            .addValue("table", table.tableName())
+            .addValue("archive", archive);
+    List<String> missing = jdbcTemplate.queryForList(MISSING_COLUMNS_SQL, params, String.class);
+    if (!missing.isEmpty()) {
+      // Columns added to the entity after the archive was created; add them by hand to keep them
+      log.warn("{} lacks columns {}; they are not archived", archive, missing);
+    }
+    return jdbcTemplate.queryForList(SHARED_COLUMNS_SQL, params, String.class);
+  }
+
+  @Override
+  public Chunk purgeChunk(
+      TombstoneTable table,
+      List<String> archiveColumns,
+      LocalDateTime cutoff,
+      TombstoneCursor after,
+      int chunkSize) {
+    MapSqlParameterSource params =
+        new MapSqlParameterSource()
+            .addValue("chunkSize", chunkSize)
+            .addValue("cutoff", Timestamp.valueOf(cutoff))
+            .addValue("afterDeletedAt", Timestamp.valueOf(after.deletedAt()))
+            .addValue("afterId", after.id().toString());
+    List<Chunk> last =
+        jdbcTemplate.query(
+            purgeSql(table, archiveColumns),
+            params,
+            (rs, rowNum) ->
+                new Chunk(
+                    rs.getInt("row_count"),
+                    new TombstoneCursor(
+                        rs.getTimestamp("deleted_at").toLocalDateTime(),
+                        UUID.fromString(rs.getString("id")))));
+    return last.isEmpty() ? new Chunk(0, after) : last.get(0);
+  }
+
+  /**
+   * The keys of the chunk are locked and collected first, walking the tombstone index from the
+   * cursor; the archive copy and the delete then join on them by primary key, so each statement
+   * takes at most one row lock per row and index and stays far below lock escalation.
+   */
+  static String purgeSql(TombstoneTable table, List<String> archiveColumns) {
+    String name = table.tableName();
+    StringBuilder sql =
+        new StringBuilder()
+            .append("SET NOCOUNT ON; SET XACT_ABORT ON;")
+            .append(" DECLARE @chunk TABLE (id uniqueidentifier PRIMARY KEY,")
+            .append(" deleted_at datetime2(6) NOT NULL);")
+            .append(" BEGIN TRANSACTION;")
+            .append(" INSERT INTO @chunk (id, deleted_at)")
+            .append(" SELECT TOP (:chunkSize) id, deleted_at FROM ")
+            .append(name)
+            .append(" WITH (ROWLOCK, UPDLOCK, READPAST)")
+            .append(" WHERE deleted_at IS NOT NULL AND deleted_at < :cutoff")
+            .append(" AND (deleted_at > :afterDeletedAt")
+            .append(" OR (deleted_at = :afterDeletedAt AND id > :afterId))")
+            .append(" ORDER BY deleted_at, id;");
+    if (!archiveColumns.isEmpty()) {
+      String columns =
+          archiveColumns.stream().map(c -> "[" + c + "]").collect(Collectors.joining(", "));
+      String source =
+          archiveColumns.stream().map(c -> "t.[" + c + "]").collect(Collectors.joining(", "));
+      sql.append(" INSERT INTO ")
+          .append(table.archiveTableName())
+          .append(" (")
+          .append(columns)
+          .append(") SELECT ")
+          .append(source)
+          .append(" FROM ")
+          .append(name)
+          .append(" t JOIN @chunk c ON c.id = t.id;");
+    }
+    return sql.append(" DELETE t FROM ")
+        .append(name)
+        .append(" t WITH (ROWLOCK) JOIN @chunk c ON c.id = t.id;")
+        .append(" COMMIT TRANSACTION;")
+        .append(" SELECT TOP 1 deleted_at, id, (SELECT COUNT(*) FROM @chunk) AS row_count")
+        .append(" FROM @chunk ORDER BY deleted_at DESC, id DESC;")
+        .toString();
+  }
+
+  private void execute(String sql) {
+    jdbcTemplate.getJdbcTemplate().execute(sql);
+  }
+
+  /** Table, index and column names are constants from this class, never input. */
+  record FilteredIndex(String table, String name, String columns, String filter) {
+
+    String createSql() {
+      return "CREATE NONCLUSTERED INDEX "
+          + name
+          + " ON "
+          + table
+          + " ("
+          + columns
+          + ") WHERE "
+          + filter;
+    }
+  }
+}
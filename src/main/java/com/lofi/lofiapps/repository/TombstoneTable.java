@@ -0,0 +1,35 @@
+package com.lofi.lofiapps.repository;
+
+/**
+ * Soft-deleted tables whose tombstones are purged, in purge order. Archived tables keep their
+ * purged rows in {@code <table>_archive}; the others drop them outright.
+ *
+ * <p>{@code users} is deliberately absent: loans, roles, biodata and refresh tokens reference it
+ * with foreign keys, and customer records fall under their own retention rules.
+ */
+public enum TombstoneTable {
+  NOTIFICATIONS("notifications", false),
+  APPROVAL_HISTORY("approval_history", true),
+  RISK_CHECKS("risk_checks", true),
+  LOANS("loans", true);
+
+  private final String tableName;
+  private final boolean archived;
+
+  TombstoneTable(String tableName, boolean archived) {
+    this.tableName = tableName;
+    this.archived = archived;
+  }
+
+  public String tableName() {
+    return tableName;
+  }
+
+  public boolean archived() {
+    return archived;
+  }
+
+  public String archiveTableName() {
+    return tableName + "_archive";
+  }
+}
@@ -3,14 +3,19 @@ package com.lofi.lofiapps.repository;
 import com.lofi.lofiapps.entity.User;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, UUID>, JpaSpecificationExecutor<User> {
+public interface UserRepository
+    extends JpaRepository<User, UUID>, JpaSpecificationExecutor<User>, UserSearchRepository {
   Optional<User> findByEmail(String email);
 
+  @EntityGraph(attributePaths = {"branch"})
+  Optional<User> findWithBranchByEmail(String email);
+
   Optional<User> findByUsername(String username);
 
   boolean existsByEmail(String email);
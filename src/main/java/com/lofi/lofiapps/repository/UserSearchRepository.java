@@ -0,0 +1,19 @@
+package com.lofi.lofiapps.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Reads users in the shape the back-office search index needs. Implemented with plain JDBC in
+ * {@link UserSearchRepositoryImpl} and mixed into {@link UserRepository}.
+ */
+public interface UserSearchRepository {
+
+  /** Streams every live user without loading entities. */
+  void streamSearchRows(Consumer<UserSearchRow> consumer);
+
+  /** Rows for the live users among {@code ids}; deleted or unknown ids are left out. */
+  List<UserSearchRow> findSearchRows(Collection<UUID> ids);
+}
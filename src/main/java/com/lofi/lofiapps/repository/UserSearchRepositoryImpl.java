@@ -0,0 +1,68 @@
+package com.lofi.lofiapps.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/** JDBC implementation of {@link UserSearchRepository}. */
+@RequiredArgsConstructor
+public class UserSearchRepositoryImpl implements UserSearchRepository {
+
+  private static final String SELECT_SQL =
+      "SELECT u.id, u.username, u.full_name, u.email, u.phone_number, b.nik, u.branch_id,"
+          + " (SELECT STRING_AGG(CAST(x.branch_id AS varchar(36)), ',') FROM"
+          + " (SELECT DISTINCT l.branch_id FROM loans l WHERE l.customer_id = u.id"
+          + " AND l.branch_id IS NOT NULL AND l.deleted_at IS NULL) x) AS loan_branch_ids"
+          + " FROM users u"
+          + " LEFT JOIN user_biodatas b ON b.user_id = u.id AND b.deleted_at IS NULL"
+          + " WHERE u.deleted_at IS NULL";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  @Override
+  public void streamSearchRows(Consumer<UserSearchRow> consumer) {
+    jdbcTemplate.query(SELECT_SQL, Map.of(), (RowCallbackHandler) rs -> consumer.accept(toRow(rs)));
+  }
+
+  @Override
+  public List<UserSearchRow> findSearchRows(Collection<UUID> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    MapSqlParameterSource params =
+        new MapSqlParameterSource("ids", ids.stream().map(UUID::toString).toList());
+    return jdbcTemplate.query(SELECT_SQL + " AND u.id IN (:ids)", params, (rs, i) -> toRow(rs));
+  }
+
+  private static UserSearchRow toRow(ResultSet rs) throws SQLException {
+    return new UserSearchRow(
+        UUID.fromString(rs.getString("id")),
+        rs.getString("username"),
+        rs.getString("full_name"),
+        rs.getString("email"),
+        rs.getString("phone_number"),
+        rs.getString("nik"),
+        uuid(rs.getString("branch_id")),
+        uuids(rs.getString("loan_branch_ids")));
+  }
+
+  private static UUID uuid(String value) {
+    return value == null ? null : UUID.fromString(value);
+  }
+
+  private static List<UUID> uuids(String csv) {
+    if (csv == null || csv.isEmpty()) {
+      return List.of();
+    }
+    return Arrays.stream(csv.split(",")).map(UUID::fromString).toList();
+  }
+}
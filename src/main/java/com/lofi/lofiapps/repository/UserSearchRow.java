@@ -0,0 +1,18 @@
+package com.lofi.lofiapps.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The searchable fields of one user. {@code loanBranchIds} are the branches of the user's loans,
+ * which is what makes a customer visible to branch staff.
+ */
+public record UserSearchRow(
+    UUID id,
+    String username,
+    String fullName,
+    String email,
+    String phoneNumber,
+    String nik,
+    UUID branchId,
+    List<UUID> loanBranchIds) {}
@@ -1,7 +1,6 @@
 package com.lofi.lofiapps.security;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.lofi.lofiapps.dto.response.ApiResponse;
+import com.lofi.lofiapps.dto.response.StaticErrorBody;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,7 +11,6 @@ import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -32,6 +30,12 @@ public class RateLimitFilter extends OncePerRequestFilter {
   private static final int MAX_REQUESTS = 5; // 5 requests
   private static final long REFILL_PERIOD_MS = TimeUnit.MINUTES.toMillis(1); // per minute
 
+  private static final StaticErrorBody RATE_LIMITED =
+      StaticErrorBody.of(
+          HttpStatus.TOO_MANY_REQUESTS,
+          "RATE_LIMIT_EXCEEDED",
+          "Too many requests. Please try again later.");
+
   @Override
   protected void doFilterInternal(
       HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -76,15 +80,7 @@ public class RateLimitFilter extends OncePerRequestFilter {
   }
 
   private void sendRateLimitResponse(HttpServletResponse response) throws IOException {
-    response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
-    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-
-    ApiResponse<Object> apiResponse =
-        ApiResponse.error(
-            "RATE_LIMIT_EXCEEDED", "Too many requests. Please try again later.", null);
-
-    ObjectMapper mapper = new ObjectMapper();
-    response.getWriter().write(mapper.writeValueAsString(apiResponse));
+    RATE_LIMITED.writeTo(response);
   }
 
   /** Simple token bucket implementation. */
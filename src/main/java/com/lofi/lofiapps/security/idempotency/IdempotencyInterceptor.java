@@ -1,12 +1,15 @@
 package com.lofi.lofiapps.security.idempotency;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lofi.lofiapps.dto.response.StaticErrorBody;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import java.io.PrintWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
 
@@ -19,6 +22,12 @@ import org.springframework.web.servlet.HandlerInterceptor;
 @Component
 @RequiredArgsConstructor
 public class IdempotencyInterceptor implements HandlerInterceptor {
+  private static final StaticErrorBody KEY_REQUIRED =
+      StaticErrorBody.of(
+          HttpStatus.BAD_REQUEST,
+          "IDEMPOTENCY_KEY_REQUIRED",
+          "Idempotency-Key header is required for this operation");
+
   private final IdempotencyService idempotencyService;
   private final ObjectMapper objectMapper;
 
@@ -42,12 +51,7 @@ public class IdempotencyInterceptor implements HandlerInterceptor {
             "[IDEMPOTENCY] Missing Idempotency-Key for method: {}.{}",
             handlerMethod.getBeanType().getSimpleName(),
             handlerMethod.getMethod().getName());
-        response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-        response.setContentType("application/json");
-        PrintWriter out = response.getWriter();
-        out.print(
-            "{\"success\":false,\"message\":\"Idempotency-Key header is required for this operation\",\"code\":\"IDEMPOTENCY_KEY_REQUIRED\"}");
-        out.flush();
+        KEY_REQUIRED.writeTo(response);
         return false;
       }
     }
@@ -61,10 +65,9 @@ public class IdempotencyInterceptor implements HandlerInterceptor {
     if (idempotencyService.isDuplicate(idempotencyKey)) {
       log.info("[IDEMPOTENCY] Duplicate request detected for key: {}", idempotencyKey);
       Object cachedResponse = idempotencyService.getResponse(idempotencyKey);
-      response.setContentType("application/json");
-      PrintWriter out = response.getWriter();
-      out.print(objectMapper.writeValueAsString(cachedResponse));
-      out.flush();
+      response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+      // Straight into the response rather than through an intermediate String
+      objectMapper.writeValue(StreamUtils.nonClosing(response.getOutputStream()), cachedResponse);
       return false;
     }
 
@@ -1,27 +1,80 @@
 package com.lofi.lofiapps.security.idempotency;
 
+import com.lofi.lofiapps.config.redis.RedisGuard;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+/**
+ * Stored responses for idempotent requests. While Redis is degraded, responses are kept on this
+ * node instead, which still absorbs retries that land on the same node.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class IdempotencyService {
   private final RedisTemplate<String, Object> redisTemplate;
+  private final RedisGuard redisGuard;
   private static final String IDEMPOTENCY_KEY_PREFIX = "idempotency:";
+  private static final String CONSUMER = "idempotency";
+  private static final int LOCAL_LIMIT = 10_000;
+
+  private final Map<String, LocalResponse> localResponses = new ConcurrentHashMap<>();
 
   public boolean isDuplicate(String key) {
-    return Boolean.TRUE.equals(redisTemplate.hasKey(IDEMPOTENCY_KEY_PREFIX + key));
+    if (localResponse(key) != null) {
+      return true;
+    }
+    return redisGuard.call(
+        CONSUMER,
+        () -> Boolean.TRUE.equals(redisTemplate.hasKey(IDEMPOTENCY_KEY_PREFIX + key)),
+        () -> false);
   }
 
   public void saveResponse(String key, Object response, long timeoutInHours) {
-    redisTemplate
-        .opsForValue()
-        .set(IDEMPOTENCY_KEY_PREFIX + key, response, timeoutInHours, TimeUnit.HOURS);
+    redisGuard.run(
+        CONSUMER,
+        () ->
+            redisTemplate
+                .opsForValue()
+                .set(IDEMPOTENCY_KEY_PREFIX + key, response, timeoutInHours, TimeUnit.HOURS),
+        () -> saveLocally(key, response, timeoutInHours));
   }
 
   public Object getResponse(String key) {
-    return redisTemplate.opsForValue().get(IDEMPOTENCY_KEY_PREFIX + key);
+    LocalResponse local = localResponse(key);
+    if (local != null) {
+      return local.response();
+    }
+    return redisGuard.call(
+        CONSUMER, () -> redisTemplate.opsForValue().get(IDEMPOTENCY_KEY_PREFIX + key), () -> null);
+  }
+
+  private void saveLocally(String key, Object response, long timeoutInHours) {
+    long now = System.currentTimeMillis();
+    if (localResponses.size() >= LOCAL_LIMIT) {
+      localResponses.values().removeIf(entry -> entry.expiresAt() <= now);
+      if (localResponses.size() >= LOCAL_LIMIT) {
+        log.warn("Redis degraded and local idempotency store full, not keeping {}", key);
+        return;
+      }
+    }
+    localResponses.put(
+        key, new LocalResponse(response, now + TimeUnit.HOURS.toMillis(timeoutInHours)));
   }
+
+  private LocalResponse localResponse(String key) {
+    LocalResponse local = localResponses.get(key);
+    if (local != null && local.expiresAt() <= System.currentTimeMillis()) {
+      localResponses.remove(key, local);
+      return null;
+    }
+    return local;
+  }
+
+  private record LocalResponse(Object response, long expiresAt) {}
 }
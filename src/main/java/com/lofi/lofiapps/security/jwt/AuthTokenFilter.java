@@ -1,5 +1,6 @@
 package com.lofi.lofiapps.security.jwt;
 
+import com.lofi.lofiapps.dto.response.StaticErrorBody;
 import com.lofi.lofiapps.security.service.TokenBlacklistService;
 import com.lofi.lofiapps.security.service.UserDetailsServiceImpl;
 import jakarta.servlet.FilterChain;
@@ -10,6 +11,7 @@ import java.io.IOException;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -23,6 +25,20 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @Slf4j
 public class AuthTokenFilter extends OncePerRequestFilter {
 
+  private static final StaticErrorBody TOKEN_REVOKED =
+      StaticErrorBody.of(
+          HttpStatus.UNAUTHORIZED, "TOKEN_REVOKED", "Token is invalidated (logged out).");
+  private static final StaticErrorBody SESSION_INVALIDATED =
+      StaticErrorBody.of(
+          HttpStatus.UNAUTHORIZED,
+          "SESSION_INVALIDATED",
+          "Session invalidated by admin. Please login again.");
+  private static final StaticErrorBody MISSING_IDENTITY_CLAIMS =
+      StaticErrorBody.of(
+          HttpStatus.UNAUTHORIZED,
+          "INVALID_ACCESS_TOKEN",
+          "Invalid access token: Missing identity claims. Are you using a Refresh Token?");
+
   private final JwtUtils jwtUtils;
   private final UserDetailsServiceImpl userDetailsService;
   private final TokenBlacklistService tokenBlacklistService;
@@ -36,8 +52,7 @@ public class AuthTokenFilter extends OncePerRequestFilter {
       if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
         if (tokenBlacklistService.isBlacklisted(jwt)) {
           log.warn("Access denied: Token is blacklisted");
-          response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-          response.getWriter().write("Token is invalidated (logged out).");
+          TOKEN_REVOKED.writeTo(response);
           return;
         }
 
@@ -48,8 +63,7 @@ public class AuthTokenFilter extends OncePerRequestFilter {
 
         if (tokenIssuedAt < forcedLogoutAt) {
           log.warn("Access denied: Token invalidated by admin force logout");
-          response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-          response.getWriter().write("Session invalidated by admin. Please login again.");
+          SESSION_INVALIDATED.writeTo(response);
           return;
         }
 
@@ -60,11 +74,7 @@ public class AuthTokenFilter extends OncePerRequestFilter {
         if (email == null) {
           log.warn(
               "Access denied: Token verification failed - Missing email claim (possibly a Refresh Token)");
-          response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-          response
-              .getWriter()
-              .write(
-                  "Invalid access token: Missing identity claims. Are you using a Refresh Token?");
+          MISSING_IDENTITY_CLAIMS.writeTo(response);
           return;
         }
 
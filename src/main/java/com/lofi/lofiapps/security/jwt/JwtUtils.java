@@ -5,6 +5,7 @@ import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import java.security.Key;
 import java.util.Date;
+import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -16,6 +17,8 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class JwtUtils {
 
+  private static final String REFRESH_FAMILY_CLAIM = "fid";
+
   @Value("${lofi.app.jwtSecret}")
   private String jwtSecret;
 
@@ -59,16 +62,45 @@ public class JwtUtils {
   }
 
   public String generateRefreshToken(Authentication authentication) {
+    return generateRefreshToken(authentication, UUID.randomUUID());
+  }
+
+  /**
+   * Refresh token belonging to rotation family {@code familyId}. The random {@code jti} keeps two
+   * tokens minted in the same second distinct, so each rotation has its own digest.
+   */
+  public String generateRefreshToken(Authentication authentication, UUID familyId) {
     UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+    return generateRefreshToken(userPrincipal.getId(), familyId);
+  }
 
+  public String generateRefreshToken(UUID userId, UUID familyId) {
     return Jwts.builder()
-        .setSubject(userPrincipal.getId().toString())
+        .setSubject(userId.toString())
+        .setId(UUID.randomUUID().toString())
+        .claim(REFRESH_FAMILY_CLAIM, familyId.toString())
         .setIssuedAt(new Date())
         .setExpiration(new Date((new Date()).getTime() + jwtRefreshExpirationMs))
         .signWith(getSigningKey(), SignatureAlgorithm.HS256)
         .compact();
   }
 
+  public long getRefreshExpirationMs() {
+    return jwtRefreshExpirationMs;
+  }
+
+  /** Rotation family of a refresh token, or null for tokens issued before families existed. */
+  public UUID getRefreshFamilyFromJwtToken(String token) {
+    String family =
+        Jwts.parserBuilder()
+            .setSigningKey(getSigningKey())
+            .build()
+            .parseClaimsJws(token)
+            .getBody()
+            .get(REFRESH_FAMILY_CLAIM, String.class);
+    return family != null ? UUID.fromString(family) : null;
+  }
+
   public String getUserIdFromJwtToken(String token) {
     return Jwts.parserBuilder()
         .setSigningKey(getSigningKey())
@@ -0,0 +1,32 @@
+package com.lofi.lofiapps.security.permission;
+
+import com.lofi.lofiapps.security.service.UserPrincipal;
+import java.io.Serializable;
+import org.springframework.security.access.PermissionEvaluator;
+import org.springframework.security.core.Authentication;
+
+/**
+ * Backs {@code hasPermission(...)} in method security with the principal's permission bitset.
+ * Permissions here are global grants, so the target object or id is ignored.
+ */
+public class BitsetPermissionEvaluator implements PermissionEvaluator {
+
+  @Override
+  public boolean hasPermission(
+      Authentication authentication, Object targetDomainObject, Object permission) {
+    return check(authentication, permission);
+  }
+
+  @Override
+  public boolean hasPermission(
+      Authentication authentication, Serializable targetId, String targetType, Object permission) {
+    return check(authentication, permission);
+  }
+
+  private boolean check(Authentication authentication, Object permission) {
+    return authentication != null
+        && authentication.getPrincipal() instanceof UserPrincipal principal
+        && permission instanceof String name
+        && principal.hasPermission(name);
+  }
+}
@@ -0,0 +1,73 @@
+package com.lofi.lofiapps.security.permission;
+
+import com.lofi.lofiapps.entity.Permission;
+import com.lofi.lofiapps.entity.Role;
+import com.lofi.lofiapps.enums.RoleName;
+import com.lofi.lofiapps.event.ReferenceDataChangedEvent;
+import com.lofi.lofiapps.repository.PermissionRepository;
+import com.lofi.lofiapps.repository.RoleRepository;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the current {@link PermissionIndex}. It is built on first use and rebuilt only after the
+ * role/permission matrix changes, which {@code ReferenceCacheInvalidator} announces after commit
+ * (locally and, in redis mode, on every other node).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PermissionCatalog {
+
+  private final PermissionRepository permissionRepository;
+  private final RoleRepository roleRepository;
+
+  private volatile PermissionIndex index;
+
+  public PermissionIndex current() {
+    PermissionIndex snapshot = index;
+    if (snapshot != null) {
+      return snapshot;
+    }
+    synchronized (this) {
+      if (index == null) {
+        index = load();
+      }
+      return index;
+    }
+  }
+
+  @EventListener
+  public synchronized void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+    if (event.type() == Role.class || event.type() == Permission.class) {
+      // Rebuilt lazily so a burst of admin edits costs one reload. Synchronized so a load that
+      // started before the commit cannot land after this and resurrect the old matrix
+      index = null;
+    }
+  }
+
+  private PermissionIndex load() {
+    List<String> permissions =
+        permissionRepository.findAll().stream().map(Permission::getName).toList();
+    Map<RoleName, Set<String>> matrix = new EnumMap<>(RoleName.class);
+    for (Role role : roleRepository.findAll()) {
+      matrix.put(
+          role.getName(),
+          role.getPermissions() == null
+              ? Set.of()
+              : role.getPermissions().stream()
+                  .map(Permission::getName)
+                  .collect(Collectors.toSet()));
+    }
+    PermissionIndex loaded = PermissionIndex.of(permissions, matrix);
+    log.info("Loaded permission catalog: {} permissions, {} roles", loaded.size(), matrix.size());
+    return loaded;
+  }
+}
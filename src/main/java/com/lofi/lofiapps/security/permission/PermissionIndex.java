@@ -0,0 +1,105 @@
+package com.lofi.lofiapps.security.permission;
+
+import com.lofi.lofiapps.enums.RoleName;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Immutable snapshot of the permission catalog: every permission name interned to a dense id (0..n,
+ * sorted by name) and every role's permissions pre-folded into a {@code long[]} bitset. A
+ * principal's effective permissions are the OR of its roles' bitsets, so a check is one map lookup
+ * plus one bit test. Bitsets are only meaningful against the index that produced them.
+ */
+public final class PermissionIndex {
+
+  public static final PermissionIndex EMPTY = of(List.of(), Map.of());
+
+  private final Map<String, Integer> ids;
+  private final String[] names;
+  private final Map<RoleName, long[]> roleBits;
+  private final int words;
+
+  private PermissionIndex(String[] names, Map<RoleName, ? extends Collection<String>> roles) {
+    this.names = names;
+    this.words = (names.length + 63) >>> 6;
+    Map<String, Integer> interned = new HashMap<>(names.length * 2);
+    for (int i = 0; i < names.length; i++) {
+      interned.put(names[i], i);
+    }
+    this.ids = Collections.unmodifiableMap(interned);
+    Map<RoleName, long[]> folded = new EnumMap<>(RoleName.class);
+    roles.forEach((role, permissions) -> folded.put(role, bitsOf(permissions)));
+    this.roleBits = Collections.unmodifiableMap(folded);
+  }
+
+  /**
+   * Builds an index over {@code permissions} plus anything referenced by {@code rolePermissions};
+   * names a role holds but the catalog lacks are interned too rather than silently dropped.
+   */
+  public static PermissionIndex of(
+      Collection<String> permissions, Map<RoleName, ? extends Collection<String>> rolePermissions) {
+    TreeSet<String> all = new TreeSet<>(permissions);
+    rolePermissions.values().forEach(all::addAll);
+    return new PermissionIndex(all.toArray(String[]::new), rolePermissions);
+  }
+
+  /** Dense id of {@code permission}, or -1 when it is not in the catalog. */
+  public int idOf(String permission) {
+    Integer id = ids.get(permission);
+    return id == null ? -1 : id;
+  }
+
+  public int size() {
+    return names.length;
+  }
+
+  /** Effective permissions of a principal holding {@code roles}. */
+  public long[] bitsForRoles(Collection<RoleName> roles) {
+    long[] bits = new long[words];
+    for (RoleName role : roles) {
+      long[] granted = roleBits.get(role);
+      if (granted == null) {
+        continue;
+      }
+      for (int i = 0; i < words; i++) {
+        bits[i] |= granted[i];
+      }
+    }
+    return bits;
+  }
+
+  public long[] bitsOf(Collection<String> permissions) {
+    long[] bits = new long[words];
+    for (String permission : permissions) {
+      int id = idOf(permission);
+      if (id >= 0) {
+        bits[id >>> 6] |= 1L << id;
+      }
+    }
+    return bits;
+  }
+
+  public boolean test(long[] bits, String permission) {
+    int id = idOf(permission);
+    return id >= 0 && (id >>> 6) < bits.length && (bits[id >>> 6] & (1L << id)) != 0;
+  }
+
+  /** Names set in {@code bits}, in id (alphabetical) order. */
+  public List<String> names(long[] bits) {
+    List<String> result = new ArrayList<>();
+    for (int word = 0; word < bits.length; word++) {
+      long remaining = bits[word];
+      while (remaining != 0) {
+        result.add(names[(word << 6) + Long.numberOfTrailingZeros(remaining)]);
+        remaining &= remaining - 1;
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,50 @@
+package com.lofi.lofiapps.security.permission;
+
+import com.lofi.lofiapps.entity.Role;
+import com.lofi.lofiapps.enums.RoleName;
+import java.util.Collection;
+
+/** Role sets as an {@code int} keyed by {@link RoleName} ordinal, for checks in hot loops. */
+public final class RoleMask {
+
+  public static final int GLOBAL_ADMIN = of(RoleName.ROLE_SUPER_ADMIN, RoleName.ROLE_ADMIN);
+
+  private RoleMask() {}
+
+  public static int of(RoleName... roles) {
+    int mask = 0;
+    for (RoleName role : roles) {
+      mask |= 1 << role.ordinal();
+    }
+    return mask;
+  }
+
+  public static int of(Collection<Role> roles) {
+    int mask = 0;
+    if (roles != null) {
+      for (Role role : roles) {
+        if (role.getName() != null) {
+          mask |= 1 << role.getName().ordinal();
+        }
+      }
+    }
+    return mask;
+  }
+
+  /** Role names as granted authorities; names that are not a {@link RoleName} are ignored. */
+  public static int ofNames(Collection<String> names) {
+    int mask = 0;
+    for (String name : names) {
+      for (RoleName role : RoleName.values()) {
+        if (role.name().equals(name)) {
+          mask |= 1 << role.ordinal();
+        }
+      }
+    }
+    return mask;
+  }
+
+  public static boolean any(int mask, int required) {
+    return (mask & required) != 0;
+  }
+}
@@ -0,0 +1,150 @@
+package com.lofi.lofiapps.security.service;
+
+import com.lofi.lofiapps.exception.CredentialHashingBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+/**
+ * Runs password and PIN hashing on its own small, bounded pool so a login burst or a brute-force
+ * run waits here instead of holding every Tomcat thread. A full queue, or a caller that has waited
+ * longer than {@code app.auth.hashing.wait-timeout-ms}, fails fast with {@link
+ * CredentialHashingBusyException}.
+ *
+ * <p>Hashes below the configured BCrypt strength are re-encoded on successful login: for passwords
+ * by {@code DaoAuthenticationProvider} through {@link UserDetailsServiceImpl}, for PINs through
+ * {@link #rehash}. Pick the strength with {@code BCryptCostBenchmark} on production hardware.
+ */
+@Slf4j
+@Service
+public class CredentialHasher {
+
+  private final PasswordEncoder passwordEncoder;
+  private final MeterRegistry meterRegistry;
+  private final ThreadPoolExecutor executor;
+  private final long waitTimeoutMs;
+  private final Counter rejected;
+
+  public CredentialHasher(
+      PasswordEncoder passwordEncoder,
+      MeterRegistry meterRegistry,
+      @Value("${app.auth.hashing.threads:0}") int threads,
+      @Value("${app.auth.hashing.queue-capacity:64}") int queueCapacity,
+      @Value("${app.auth.hashing.wait-timeout-ms:5000}") long waitTimeoutMs) {
+    this.passwordEncoder = passwordEncoder;
+    this.meterRegistry = meterRegistry;
+    this.waitTimeoutMs = waitTimeoutMs;
+    // BCrypt is pure CPU, so more threads than cores only adds queueing inside the scheduler
+    int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    AtomicInteger sequence = new AtomicInteger();
+    this.executor =
+        new ThreadPoolExecutor(
+            size,
+            size,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+              Thread thread = new Thread(runnable, "hashing-" + sequence.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    this.rejected = meterRegistry.counter("lofi.auth.hashing.rejected");
+    meterRegistry.gauge("lofi.auth.hashing.queue.depth", executor, e -> e.getQueue().size());
+    meterRegistry.gauge("lofi.auth.hashing.active", executor, ThreadPoolExecutor::getActiveCount);
+    log.info("Credential hashing pool: {} threads, queue {}", size, queueCapacity);
+  }
+
+  public boolean matches(CharSequence raw, String encoded) {
+    if (raw == null || encoded == null) {
+      return false;
+    }
+    return run("matches", () -> passwordEncoder.matches(raw, encoded));
+  }
+
+  public String encode(CharSequence raw) {
+    return run("encode", () -> passwordEncoder.encode(raw));
+  }
+
+  /**
+   * A fresh hash of {@code raw} when {@code encoded} was produced with a weaker work factor than
+   * the one configured now. Only call this after {@code raw} has been verified.
+   */
+  public Optional<String> rehash(CharSequence raw, String encoded) {
+    if (encoded == null || !passwordEncoder.upgradeEncoding(encoded)) {
+      return Optional.empty();
+    }
+    return Optional.of(run("rehash", () -> passwordEncoder.encode(raw)));
+  }
+
+  /**
+   * Runs {@code task} on the hashing pool and waits for it. Used for work that hashes internally,
+   * such as {@code AuthenticationManager.authenticate}. Runtime exceptions of the task propagate
+   * unchanged.
+   */
+  public <T> T run(String operation, Supplier<T> task) {
+    long submitted = System.nanoTime();
+    Timer queueTimer = meterRegistry.timer("lofi.auth.hashing.queue", "operation", operation);
+    Timer hashTimer = meterRegistry.timer("lofi.auth.hashing.duration", "operation", operation);
+    Future<T> future;
+    try {
+      future =
+          executor.submit(
+              () -> {
+                long started = System.nanoTime();
+                queueTimer.record(started - submitted, TimeUnit.NANOSECONDS);
+                try {
+                  return task.get();
+                } finally {
+                  hashTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                }
+              });
+    } catch (RejectedExecutionException e) {
+      rejected.increment();
+      log.warn("Credential hashing queue full, rejecting {}", operation);
+      throw new CredentialHashingBusyException();
+    }
+
+    try {
+      return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      rejected.increment();
+      log.warn("Credential hashing {} not done within {} ms", operation, waitTimeoutMs);
+      throw new CredentialHashingBusyException();
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new CredentialHashingBusyException();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtime) {
+        throw runtime;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw new IllegalStateException("Credential hashing failed", e.getCause());
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdownNow();
+  }
+}
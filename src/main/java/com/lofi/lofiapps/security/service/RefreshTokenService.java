@@ -0,0 +1,224 @@
+package com.lofi.lofiapps.security.service;
+
+import com.lofi.lofiapps.entity.RefreshToken;
+import com.lofi.lofiapps.entity.User;
+import com.lofi.lofiapps.repository.RefreshTokenRepository;
+import com.lofi.lofiapps.security.jwt.JwtUtils;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Refresh tokens as rotating families. Each login starts a family; each refresh replaces the live
+ * token and only the SHA-256 digest of that token is stored, under {@code REFRESH_FAMILY:<id>} in
+ * Redis and in the user's {@code refresh_token_families} row. Presenting an older token of a live
+ * family means it was copied, so the whole family is revoked and the user's access tokens are
+ * force-expired.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+  static final String KEY_PREFIX = "REFRESH_FAMILY:";
+  static final String REVOKED = "REVOKED";
+
+  private final RefreshTokenRepository refreshTokenRepository;
+  private final StringRedisTemplate redisTemplate;
+  private final JwtUtils jwtUtils;
+  private final TokenBlacklistService tokenBlacklistService;
+
+  public record Rotation(UUID userId, String refreshToken) {}
+
+  /** Live state of a family as cached in Redis or read from SQL. */
+  record FamilyState(UUID userId, String tokenHash, boolean revoked) {}
+
+  /** Starts a new family for the authenticated user, superseding the previous one. */
+  @Transactional
+  public String issue(Authentication authentication) {
+    UUID userId = ((UserPrincipal) authentication.getPrincipal()).getId();
+    UUID familyId = UUID.randomUUID();
+    String token = jwtUtils.generateRefreshToken(authentication, familyId);
+    String tokenHash = digest(token);
+    Instant expiry = Instant.now().plusMillis(jwtUtils.getRefreshExpirationMs());
+
+    RefreshToken family =
+        refreshTokenRepository
+            .findByUserId(userId)
+            .orElseGet(
+                () -> RefreshToken.builder().user(User.builder().id(userId).build()).build());
+    UUID superseded = family.getFamilyId();
+    family.setFamilyId(familyId);
+    family.setTokenHash(tokenHash);
+    family.setExpiryDate(expiry);
+    family.setRevoked(false);
+    refreshTokenRepository.save(family);
+
+    afterCommit(
+        () -> {
+          if (superseded != null) {
+            evict(superseded);
+          }
+          cache(familyId, new FamilyState(userId, tokenHash, false), expiry);
+        });
+    return token;
+  }
+
+  /**
+   * Exchanges a valid refresh token for the next one in its family. The caller must have verified
+   * the token's signature and expiry. Run inside a transaction that does not roll back on {@link
+   * IllegalArgumentException}, so a revocation survives the rejection.
+   */
+  @Transactional(noRollbackFor = IllegalArgumentException.class)
+  public Rotation rotate(String token) {
+    UUID userId = UUID.fromString(jwtUtils.getUserIdFromJwtToken(token));
+    UUID familyId = jwtUtils.getRefreshFamilyFromJwtToken(token);
+    if (familyId == null) {
+      // Issued before rotation existed; its row is gone, so the user has to log in again
+      throw new IllegalArgumentException("Refresh Token not found in DB");
+    }
+    String presented = digest(token);
+
+    FamilyState state = cached(familyId);
+    if (state == null || (!state.revoked() && !matches(state.tokenHash(), presented))) {
+      // Cache miss, or a mismatch that SQL must confirm before it counts as reuse
+      state = load(familyId, userId);
+    }
+    if (state == null || !state.userId().equals(userId)) {
+      throw new IllegalArgumentException("Refresh Token not found in DB");
+    }
+    if (state.revoked()) {
+      throw new IllegalArgumentException("Refresh Token Revoked (AUTH_REFRESH_TOKEN_REVOKED)");
+    }
+    if (!matches(state.tokenHash(), presented)) {
+      revoke(familyId, userId);
+      throw new IllegalArgumentException("Refresh Token Reused (AUTH_REFRESH_TOKEN_REUSED)");
+    }
+
+    String next = jwtUtils.generateRefreshToken(userId, familyId);
+    String nextHash = digest(next);
+    Instant expiry = Instant.now().plusMillis(jwtUtils.getRefreshExpirationMs());
+    if (refreshTokenRepository.rotate(userId, familyId, presented, nextHash, expiry) == 0) {
+      // Another request rotated this token first: the same token was used twice
+      revoke(familyId, userId);
+      throw new IllegalArgumentException("Refresh Token Reused (AUTH_REFRESH_TOKEN_REUSED)");
+    }
+    afterCommit(() -> cache(familyId, new FamilyState(userId, nextHash, false), expiry));
+    return new Rotation(userId, next);
+  }
+
+  /** Deletes up to {@code batchSize} expired families; returns how many went. */
+  @Transactional
+  public int purgeExpired(int batchSize) {
+    return refreshTokenRepository.deleteExpired(Instant.now(), batchSize);
+  }
+
+  static String digest(String token) {
+    try {
+      MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  private static boolean matches(String expected, String presented) {
+    return MessageDigest.isEqual(
+        expected.getBytes(StandardCharsets.US_ASCII),
+        presented.getBytes(StandardCharsets.US_ASCII));
+  }
+
+  private void revoke(UUID familyId, UUID userId) {
+    log.warn("Refresh token reuse detected for user {}; revoking family {}", userId, familyId);
+    refreshTokenRepository.revokeFamily(familyId);
+    cache(
+        familyId,
+        new FamilyState(userId, "", true),
+        Instant.now().plusMillis(jwtUtils.getRefreshExpirationMs()));
+    tokenBlacklistService.forceLogoutUser(userId);
+  }
+
+  private FamilyState load(UUID familyId, UUID userId) {
+    return refreshTokenRepository
+        .findByUserId(userId)
+        .filter(family -> familyId.equals(family.getFamilyId()))
+        .map(
+            family -> {
+              if (family.getExpiryDate().isBefore(Instant.now())) {
+                throw new IllegalArgumentException(
+                    "Refresh Token Expired (AUTH_REFRESH_TOKEN_EXPIRED)");
+              }
+              FamilyState state =
+                  new FamilyState(userId, family.getTokenHash(), family.isRevoked());
+              cache(familyId, state, family.getExpiryDate());
+              return state;
+            })
+        .orElse(null);
+  }
+
+  private FamilyState cached(UUID familyId) {
+    String value;
+    try {
+      value = redisTemplate.opsForValue().get(KEY_PREFIX + familyId);
+    } catch (RuntimeException e) {
+      log.warn("Refresh token cache unavailable, using SQL: {}", e.getMessage());
+      return null;
+    }
+    if (value == null) {
+      return null;
+    }
+    String[] parts = value.split("\\|", 2);
+    if (REVOKED.equals(parts[0])) {
+      return new FamilyState(UUID.fromString(parts[1]), "", true);
+    }
+    return new FamilyState(UUID.fromString(parts[0]), parts[1], false);
+  }
+
+  private void cache(UUID familyId, FamilyState state, Instant expiry) {
+    long ttl = expiry.toEpochMilli() - System.currentTimeMillis();
+    if (ttl <= 0) {
+      return;
+    }
+    String value =
+        state.revoked() ? REVOKED + "|" + state.userId() : state.userId() + "|" + state.tokenHash();
+    try {
+      redisTemplate.opsForValue().set(KEY_PREFIX + familyId, value, ttl, TimeUnit.MILLISECONDS);
+    } catch (RuntimeException e) {
+      // SQL stays authoritative: a stale or missing entry is re-checked there before any revoke
+      log.warn("Failed to cache refresh token family {}: {}", familyId, e.getMessage());
+    }
+  }
+
+  private void evict(UUID familyId) {
+    try {
+      redisTemplate.delete(KEY_PREFIX + familyId);
+    } catch (RuntimeException e) {
+      log.warn("Failed to evict refresh token family {}: {}", familyId, e.getMessage());
+    }
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        });
+  }
+}
@@ -0,0 +1,34 @@
+package com.lofi.lofiapps.security.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hard-deletes expired refresh-token families in batches. Every instance runs it; the delete is
+ * idempotent, so overlapping runs only cost an empty query.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenSweeper {
+  private final RefreshTokenService refreshTokenService;
+
+  @Value("${app.auth.refresh-token.purge-batch-size:1000}")
+  private int batchSize;
+
+  @Scheduled(cron = "${app.auth.refresh-token.purge-cron:0 15 * * * *}")
+  public void purgeExpired() {
+    int total = 0;
+    int deleted;
+    do {
+      deleted = refreshTokenService.purgeExpired(batchSize);
+      total += deleted;
+    } while (deleted == batchSize);
+    if (total > 0) {
+      log.info("Purged {} expired refresh token families", total);
+    }
+  }
+}
@@ -1,38 +1,116 @@
 package com.lofi.lofiapps.security.service;
 
+import com.lofi.lofiapps.config.redis.RedisGuard;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
+/**
+ * Access-token revocations (logout blacklist and admin force-logout) in Redis, checked on every
+ * authenticated request.
+ *
+ * <p>Every revocation this node writes or reads is also kept in a local snapshot until it expires.
+ * While Redis is degraded the snapshot answers alone, so revocations seen by this node keep
+ * holding; revocations made on other nodes during the outage are not visible until Redis is back.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class TokenBlacklistService {
+
+  private static final String CONSUMER = "revocation";
+  private static final long FORCED_LOGOUT_TTL_MS = TimeUnit.HOURS.toMillis(24);
+  private static final int SNAPSHOT_LIMIT = 100_000;
+
   private final StringRedisTemplate redisTemplate;
+  private final RedisGuard redisGuard;
+
+  @Value("${lofi.app.jwtExpirationMs:1800000}")
+  private long accessTokenLifetimeMs = 1_800_000;
+
+  // Token digest -> expiry, and user id -> force-logout timestamp
+  private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+  private final Map<UUID, Long> forcedLogouts = new ConcurrentHashMap<>();
 
   public void blacklistToken(String token, long expirationMs) {
     String key = "BLACKLIST_JWT:" + token;
-    redisTemplate.opsForValue().set(key, "true", expirationMs, TimeUnit.MILLISECONDS);
+    remember(
+        revokedTokens,
+        RefreshTokenService.digest(token),
+        System.currentTimeMillis() + expirationMs);
+    redisGuard.run(
+        CONSUMER,
+        () -> redisTemplate.opsForValue().set(key, "true", expirationMs, TimeUnit.MILLISECONDS),
+        () -> log.warn("Redis degraded: token revocation kept on this node only"));
   }
 
   public boolean isBlacklisted(String token) {
+    String digest = RefreshTokenService.digest(token);
+    if (isLive(revokedTokens.get(digest))) {
+      return true;
+    }
     String key = "BLACKLIST_JWT:" + token;
-    return Boolean.TRUE.toString().equals(redisTemplate.opsForValue().get(key));
+    return redisGuard.call(
+        CONSUMER,
+        () -> {
+          boolean revoked = Boolean.TRUE.toString().equals(redisTemplate.opsForValue().get(key));
+          if (revoked) {
+            remember(revokedTokens, digest, System.currentTimeMillis() + accessTokenLifetimeMs);
+          }
+          return revoked;
+        },
+        () -> false);
   }
 
   public void forceLogoutUser(UUID userId) {
     String key = "FORCED_LOGOUT_USER:" + userId.toString();
     // Store current timestamp as the threshold. Tokens issued before this are
     // invalid.
-    redisTemplate
-        .opsForValue()
-        .set(key, String.valueOf(System.currentTimeMillis()), 24, TimeUnit.HOURS);
+    long now = System.currentTimeMillis();
+    remember(forcedLogouts, userId, now);
+    redisGuard.run(
+        CONSUMER,
+        () -> redisTemplate.opsForValue().set(key, String.valueOf(now), 24, TimeUnit.HOURS),
+        () -> log.warn("Redis degraded: force logout of {} kept on this node only", userId));
   }
 
   public long getForcedLogoutTimestamp(UUID userId) {
     String key = "FORCED_LOGOUT_USER:" + userId.toString();
-    String val = redisTemplate.opsForValue().get(key);
-    return val != null ? Long.parseLong(val) : 0;
+    Long known = forcedLogouts.get(userId);
+    long local = known != null && isLive(known + FORCED_LOGOUT_TTL_MS) ? known : 0;
+    return redisGuard.call(
+        CONSUMER,
+        () -> {
+          String val = redisTemplate.opsForValue().get(key);
+          long stored = val != null ? Long.parseLong(val) : 0;
+          if (stored > local) {
+            remember(forcedLogouts, userId, stored);
+          }
+          return Math.max(stored, local);
+        },
+        () -> local);
+  }
+
+  private <K> void remember(Map<K, Long> snapshot, K key, long value) {
+    if (snapshot.size() >= SNAPSHOT_LIMIT) {
+      prune();
+    }
+    snapshot.merge(key, value, Math::max);
+  }
+
+  private void prune() {
+    long now = System.currentTimeMillis();
+    revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+    forcedLogouts.values().removeIf(at -> at + FORCED_LOGOUT_TTL_MS <= now);
+  }
+
+  private static boolean isLive(Long expiresAt) {
+    return expiresAt != null && expiresAt > System.currentTimeMillis();
   }
 }
@@ -2,8 +2,10 @@ package com.lofi.lofiapps.security.service;
 
 import com.lofi.lofiapps.entity.User;
 import com.lofi.lofiapps.repository.UserRepository;
+import com.lofi.lofiapps.security.permission.PermissionCatalog;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -11,9 +13,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
   private final UserRepository userRepository;
+  private final PermissionCatalog permissionCatalog;
 
   @Override
   @Transactional
@@ -24,6 +27,25 @@ public class UserDetailsServiceImpl implements UserDetailsService {
             .orElseThrow(
                 () -> new UsernameNotFoundException("User Not Found with email: " + email));
 
-    return UserPrincipal.create(user);
+    return UserPrincipal.create(user, permissionCatalog.current());
+  }
+
+  /**
+   * Called by {@code DaoAuthenticationProvider} after a successful login whose stored hash is below
+   * the configured BCrypt strength.
+   */
+  @Override
+  @Transactional
+  public UserDetails updatePassword(UserDetails principal, String newPassword) {
+    User user =
+        userRepository
+            .findByEmail(principal.getUsername())
+            .orElseThrow(
+                () ->
+                    new UsernameNotFoundException(
+                        "User Not Found with email: " + principal.getUsername()));
+    user.setPassword(newPassword);
+    userRepository.save(user);
+    return UserPrincipal.create(user, permissionCatalog.current());
   }
 }
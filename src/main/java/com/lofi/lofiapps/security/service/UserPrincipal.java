@@ -1,19 +1,23 @@
 package com.lofi.lofiapps.security.service;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.lofi.lofiapps.entity.Role;
 import com.lofi.lofiapps.entity.User;
+import com.lofi.lofiapps.enums.RoleName;
+import com.lofi.lofiapps.security.permission.PermissionIndex;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 @Getter
-@AllArgsConstructor
 public class UserPrincipal implements UserDetails {
   private UUID id;
   private String email;
@@ -23,7 +27,62 @@ public class UserPrincipal implements UserDetails {
   private java.math.BigDecimal plafond;
   private com.lofi.lofiapps.enums.UserStatus status;
   private Collection<? extends GrantedAuthority> authorities;
+  private final List<String> roles;
+  private final List<String> permissions;
 
+  // Effective permissions as a bitset over the catalog snapshot they were resolved against
+  @JsonIgnore
+  @Getter(AccessLevel.NONE)
+  private final PermissionIndex permissionIndex;
+
+  @JsonIgnore
+  @Getter(AccessLevel.NONE)
+  private final long[] permissionBits;
+
+  public UserPrincipal(
+      UUID id,
+      String email,
+      String password,
+      UUID branchId,
+      String branchName,
+      java.math.BigDecimal plafond,
+      com.lofi.lofiapps.enums.UserStatus status,
+      Collection<? extends GrantedAuthority> authorities) {
+    this(id, email, password, branchId, branchName, plafond, status, authorities, null);
+  }
+
+  private UserPrincipal(
+      UUID id,
+      String email,
+      String password,
+      UUID branchId,
+      String branchName,
+      java.math.BigDecimal plafond,
+      com.lofi.lofiapps.enums.UserStatus status,
+      Collection<? extends GrantedAuthority> authorities,
+      PermissionIndex index) {
+    this.id = id;
+    this.email = email;
+    this.password = password;
+    this.branchId = branchId;
+    this.branchName = branchName;
+    this.plafond = plafond;
+    this.status = status;
+    this.authorities = authorities;
+    List<String> roleNames = new ArrayList<>();
+    List<String> permissionNames = new ArrayList<>();
+    for (GrantedAuthority authority : authorities) {
+      String name = authority.getAuthority();
+      (name.startsWith("ROLE_") ? roleNames : permissionNames).add(name);
+    }
+    this.roles = List.copyOf(roleNames);
+    this.permissions = List.copyOf(permissionNames);
+    // Without a catalog snapshot, intern just this principal's own permissions
+    this.permissionIndex = index != null ? index : PermissionIndex.of(permissionNames, Map.of());
+    this.permissionBits = permissionIndex.bitsOf(permissionNames);
+  }
+
+  /** Builds the principal from the user's own role entities, without the shared catalog. */
   public static UserPrincipal create(User user) {
     List<GrantedAuthority> authorities =
         user.getRoles().stream()
@@ -42,6 +101,25 @@ public class UserPrincipal implements UserDetails {
               }
             });
 
+    return from(user, authorities, null);
+  }
+
+  /**
+   * Builds the principal with permissions resolved through {@code index}: the OR of the roles'
+   * precomputed bitsets, which also yields the permission authorities.
+   */
+  public static UserPrincipal create(User user, PermissionIndex index) {
+    List<RoleName> roleNames = user.getRoles().stream().map(Role::getName).toList();
+    List<GrantedAuthority> authorities = new ArrayList<>();
+    roleNames.forEach(role -> authorities.add(new SimpleGrantedAuthority(role.name())));
+    index
+        .names(index.bitsForRoles(roleNames))
+        .forEach(permission -> authorities.add(new SimpleGrantedAuthority(permission)));
+    return from(user, authorities, index);
+  }
+
+  private static UserPrincipal from(
+      User user, List<GrantedAuthority> authorities, PermissionIndex index) {
     return new UserPrincipal(
         user.getId(),
         user.getEmail(),
@@ -52,21 +130,13 @@ public class UserPrincipal implements UserDetails {
             ? user.getProduct().getMaxLoanAmount()
             : java.math.BigDecimal.ZERO,
         user.getStatus(),
-        authorities);
-  }
-
-  public List<String> getPermissions() {
-    return authorities.stream()
-        .map(GrantedAuthority::getAuthority)
-        .filter(auth -> !auth.startsWith("ROLE_"))
-        .collect(Collectors.toList());
+        authorities,
+        index);
   }
 
-  public List<String> getRoles() {
-    return authorities.stream()
-        .map(GrantedAuthority::getAuthority)
-        .filter(auth -> auth.startsWith("ROLE_"))
-        .collect(Collectors.toList());
+  /** Constant-time permission check against the precomputed bitset. */
+  public boolean hasPermission(String permission) {
+    return permissionIndex.test(permissionBits, permission);
   }
 
   @Override
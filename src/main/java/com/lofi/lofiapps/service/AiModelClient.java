@@ -0,0 +1,13 @@
+package com.lofi.lofiapps.service;
+
+import com.lofi.lofiapps.enums.AiPromptType;
+import java.util.Map;
+
+/**
+ * Completes a prompt template against the configured model. Implementations return the raw JSON the
+ * prompt asks for; callers treat it as untrusted and validate it before use.
+ */
+public interface AiModelClient {
+
+  String complete(AiPromptType promptType, Map<String, String> variables);
+}
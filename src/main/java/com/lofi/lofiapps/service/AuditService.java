@@ -2,8 +2,14 @@ package com.lofi.lofiapps.service;
 
 import com.lofi.lofiapps.dto.response.AuditLogResponse;
 import com.lofi.lofiapps.dto.response.PagedResponse;
+import java.time.LocalDateTime;
 import org.springframework.data.domain.Pageable;
 
 public interface AuditService {
-  PagedResponse<AuditLogResponse> getAuditLogs(Pageable pageable);
+  /** Logs created in {@code [from, to)}, either bound optional, including archived months. */
+  PagedResponse<AuditLogResponse> getAuditLogs(
+      LocalDateTime from, LocalDateTime to, Pageable pageable);
+
+  /** Converts {@code audit_logs} to monthly partitions; true if this call did the conversion. */
+  boolean partitionAuditLogs();
 }
@@ -3,23 +3,19 @@ package com.lofi.lofiapps.service;
 import com.lofi.lofiapps.entity.Loan;
 import com.lofi.lofiapps.entity.User;
 import com.lofi.lofiapps.enums.RoleName;
+import com.lofi.lofiapps.security.permission.RoleMask;
+import com.lofi.lofiapps.security.service.UserPrincipal;
+import java.util.UUID;
 import org.springframework.stereotype.Service;
 
 @Service
 public class BranchAccessGuard {
+  private static final int GLOBAL_ACCESS =
+      RoleMask.GLOBAL_ADMIN | RoleMask.of(RoleName.ROLE_BACK_OFFICE);
+
   public void validate(User user, Loan loan) {
-    // Skip for Super Admin and Admin (Global access with audit)
-    boolean isGlobalAdmin =
-        user.getRoles().stream()
-            .anyMatch(
-                r ->
-                    r.getName() == RoleName.ROLE_SUPER_ADMIN || r.getName() == RoleName.ROLE_ADMIN);
-    if (isGlobalAdmin) return;
-
-    // Skip for Back Office (Global access but should be logged)
-    boolean isBackOffice =
-        user.getRoles().stream().anyMatch(r -> r.getName() == RoleName.ROLE_BACK_OFFICE);
-    if (isBackOffice) return;
+    // Super Admin and Admin have global access (with audit), Back Office too (should be logged)
+    if (RoleMask.any(RoleMask.of(user.getRoles()), GLOBAL_ACCESS)) return;
 
     // Check branch
     if (user.getBranch() == null) {
@@ -45,4 +41,18 @@ public class BranchAccessGuard {
           "BRANCH_NOT_FOUND: User does not have access to this branch data.");
     }
   }
+
+  /**
+   * The branch that {@code principal}'s searches are limited to, or {@code null} for roles with
+   * global access. Same rules as {@link #validate}: staff without a branch see nothing, and loans
+   * without a branch are only visible globally.
+   */
+  public UUID searchScope(UserPrincipal principal) {
+    if (RoleMask.any(RoleMask.ofNames(principal.getRoles()), GLOBAL_ACCESS)) return null;
+
+    if (principal.getBranchId() == null) {
+      throw new SecurityException("USER_NOT_IN_BRANCH");
+    }
+    return principal.getBranchId();
+  }
 }
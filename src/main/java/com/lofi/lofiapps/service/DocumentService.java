@@ -1,12 +1,18 @@
 package com.lofi.lofiapps.service;
 
+import com.lofi.lofiapps.dto.request.BatchPresignUploadRequest;
 import com.lofi.lofiapps.dto.request.PresignUploadRequest;
 import com.lofi.lofiapps.dto.response.DownloadDocumentResponse;
 import com.lofi.lofiapps.dto.response.PresignUploadResponse;
+import java.util.List;
 import java.util.UUID;
 
 public interface DocumentService {
   PresignUploadResponse presignUpload(PresignUploadRequest request, UUID userId);
 
+  List<PresignUploadResponse> presignUploadBatch(BatchPresignUploadRequest request, UUID userId);
+
+  void completeUpload(List<UUID> documentIds, UUID userId);
+
   DownloadDocumentResponse presignDownload(UUID id, UUID userId, boolean isAdmin);
 }
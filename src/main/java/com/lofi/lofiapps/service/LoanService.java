@@ -2,7 +2,10 @@ package com.lofi.lofiapps.service;
 
 import com.lofi.lofiapps.dto.request.LoanCriteria;
 import com.lofi.lofiapps.dto.request.LoanRequest;
+import com.lofi.lofiapps.dto.request.RecordPaymentRequest;
 import com.lofi.lofiapps.dto.response.*;
+import com.lofi.lofiapps.enums.AmortizationMethod;
+import com.lofi.lofiapps.security.service.UserPrincipal;
 import java.util.UUID;
 import org.springframework.data.domain.Pageable;
 
@@ -25,6 +28,12 @@ public interface LoanService {
 
   LoanResponse getLoanDetail(UUID loanId);
 
+  LoanScheduleResponse getLoanSchedule(UserPrincipal actor, UUID loanId, AmortizationMethod method);
+
+  RepaymentLedgerResponse getRepaymentLedger(UUID loanId);
+
+  RepaymentLedgerResponse recordPayment(UUID loanId, RecordPaymentRequest request, UUID recordedBy);
+
   LoanResponse approveLoan(UUID loanId, String approverUsername, String notes);
 
   LoanResponse rejectLoan(UUID loanId, String rejectorUsername, String notes);
@@ -41,6 +50,16 @@ public interface LoanService {
 
   LoanResponse completeLoan(UUID loanId, String username);
 
+  // Batch transitions
+  BatchLoanActionResponse batchApproveLoans(
+      java.util.List<UUID> loanIds, String approverUsername, String notes);
+
+  BatchLoanActionResponse batchRejectLoans(
+      java.util.List<UUID> loanIds, String rejectorUsername, String reason);
+
+  BatchLoanActionResponse batchDisburseLoans(
+      java.util.List<UUID> loanIds, java.util.Map<UUID, String> references, String officerUsername);
+
   // AI / Analysis
   LoanAnalysisResponse analyzeLoan(UUID loanId);
 
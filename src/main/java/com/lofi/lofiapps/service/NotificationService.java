@@ -24,6 +24,15 @@ public interface NotificationService {
 
   void notifyLoanDisbursement(com.lofi.lofiapps.entity.Loan loan);
 
+  // Fan-out for batch transitions: one call per batch, delivered off the request thread
+  void notifyLoanStatusChanges(java.util.List<com.lofi.lofiapps.entity.Loan> loans);
+
+  void notifyLoanDisbursements(java.util.List<com.lofi.lofiapps.entity.Loan> loans);
+
+  // One coalesced message for all loans auto-cancelled by an approval
+  void notifyLoansAutoCancelled(
+      java.util.UUID userId, java.util.Collection<java.util.UUID> loanIds);
+
   void notifyPinReset(String email, String newPin);
 
   void notifyPinRequired(java.util.UUID userId);
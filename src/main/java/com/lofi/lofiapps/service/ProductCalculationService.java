@@ -1,5 +1,6 @@
 package com.lofi.lofiapps.service;
 
+import com.lofi.lofiapps.config.redis.RedisGuard;
 import com.lofi.lofiapps.entity.Loan;
 import com.lofi.lofiapps.entity.Product;
 import com.lofi.lofiapps.enums.LoanStatus;
@@ -16,6 +17,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.dao.DataAccessException;
 import org.springframework.integration.redis.util.RedisLockRegistry;
 import org.springframework.stereotype.Service;
 
@@ -28,6 +30,7 @@ public class ProductCalculationService {
   private final ProductRepository productRepository;
   private final CacheManager cacheManager;
   private final RedisLockRegistry redisLockRegistry;
+  private final RedisGuard redisGuard;
 
   private static final String AVAILABLE_PRODUCT_CACHE = "availableProduct";
   private static final String USER_LOANS_CACHE = "userLoans";
@@ -57,6 +60,10 @@ public class ProductCalculationService {
 
     // Acquire distributed lock to prevent race conditions
     String lockKey = "lock:availableProduct:" + cacheKey;
+    if (redisGuard.isDegraded()) {
+      // The lock only protects the cache fill, and the cache is bypassed anyway
+      return calculateWithoutCache(userId, productId);
+    }
     Lock lock = redisLockRegistry.obtain(lockKey);
     boolean locked = false;
     try {
@@ -87,6 +94,9 @@ public class ProductCalculationService {
       Thread.currentThread().interrupt();
       log.warn("Interrupted while waiting for lock", e);
       return calculateWithoutCache(userId, productId);
+    } catch (DataAccessException e) {
+      log.warn("Could not reach lock store for {}, proceeding without cache", cacheKey, e);
+      return calculateWithoutCache(userId, productId);
     } finally {
       if (locked) {
         try {
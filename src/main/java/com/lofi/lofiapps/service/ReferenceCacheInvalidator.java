@@ -0,0 +1,155 @@
+package com.lofi.lofiapps.service;
+
+import com.lofi.lofiapps.entity.Branch;
+import com.lofi.lofiapps.entity.Permission;
+import com.lofi.lofiapps.entity.Product;
+import com.lofi.lofiapps.entity.Role;
+import com.lofi.lofiapps.entity.User;
+import com.lofi.lofiapps.event.ReferenceDataChangedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps the Hibernate second-level cache for reference data (products, roles, permissions, branches
+ * and users' role sets) coherent after admin changes.
+ *
+ * <p>Hibernate already updates this node's cache for the entity it wrote. What it does not know
+ * about are inverse references (a deleted role still listed in cached {@code User.roles}) and other
+ * nodes. So after commit this evicts the entity, its own collections, the collections that point at
+ * it and the query caches, and in {@code redis} mode broadcasts the same eviction for every other
+ * instance to apply.
+ */
+@Slf4j
+@Service
+public class ReferenceCacheInvalidator {
+
+  public static final String CHANNEL = "lofi:l2-invalidation";
+
+  private static final String ALL = "*";
+  private static final String USER_ROLES = User.class.getName() + ".roles";
+  private static final String ROLE_PERMISSIONS = Role.class.getName() + ".permissions";
+
+  private static final Map<String, Class<?>> TYPES =
+      Map.of(
+          "Product", Product.class,
+          "Role", Role.class,
+          "Permission", Permission.class,
+          "Branch", Branch.class,
+          "User", User.class);
+
+  /** Collections keyed by the changed entity's id. */
+  private static final Map<Class<?>, List<String>> OWNED =
+      Map.of(Role.class, List.of(ROLE_PERMISSIONS), User.class, List.of(USER_ROLES));
+
+  /** Collections on other entities that may hold the changed entity. */
+  private static final Map<Class<?>, List<String>> REFERENCED_BY =
+      Map.of(Role.class, List.of(USER_ROLES), Permission.class, List.of(ROLE_PERMISSIONS));
+
+  private final SessionFactory sessionFactory;
+  private final StringRedisTemplate redisTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+  private final boolean broadcast;
+  private final String nodeId = UUID.randomUUID().toString();
+
+  public ReferenceCacheInvalidator(
+      EntityManagerFactory entityManagerFactory,
+      StringRedisTemplate redisTemplate,
+      ApplicationEventPublisher eventPublisher,
+      @Value("${app.cache.l2.invalidation:local}") String mode) {
+    this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    this.redisTemplate = redisTemplate;
+    this.eventPublisher = eventPublisher;
+    this.broadcast = "redis".equalsIgnoreCase(mode);
+  }
+
+  /** Evicts one cached instance once the current transaction commits. */
+  public void invalidate(Class<?> type, UUID id) {
+    afterCommit(type, id.toString());
+  }
+
+  /** Evicts every cached instance of {@code type}, for bulk changes. */
+  public void invalidateAll(Class<?> type) {
+    afterCommit(type, ALL);
+  }
+
+  /** Applies an eviction broadcast by another instance; messages from this node are skipped. */
+  public void onMessage(String message) {
+    String[] parts = message.split(":", 3);
+    if (parts.length != 3 || nodeId.equals(parts[0])) {
+      return;
+    }
+    Class<?> type = TYPES.get(parts[1]);
+    if (type == null) {
+      log.warn("Ignoring cache invalidation for unknown type {}", parts[1]);
+      return;
+    }
+    evictLocal(type, parts[2]);
+  }
+
+  private void afterCommit(Class<?> type, String id) {
+    if (!TYPES.containsKey(type.getSimpleName())) {
+      throw new IllegalArgumentException(type.getSimpleName() + " is not cached reference data");
+    }
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      apply(type, id);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            apply(type, id);
+          }
+        });
+  }
+
+  private void apply(Class<?> type, String id) {
+    evictLocal(type, id);
+    if (!broadcast) {
+      return;
+    }
+    try {
+      redisTemplate.convertAndSend(CHANNEL, nodeId + ":" + type.getSimpleName() + ":" + id);
+    } catch (RuntimeException e) {
+      // Other nodes fall back to the region TTL; the change itself is already committed
+      log.warn(
+          "Failed to broadcast cache invalidation for {} {}: {}",
+          type.getSimpleName(),
+          id,
+          e.getMessage());
+    }
+  }
+
+  private void evictLocal(Class<?> type, String id) {
+    Cache cache = sessionFactory.getCache();
+    UUID key = ALL.equals(id) ? null : UUID.fromString(id);
+    if (type != User.class) {
+      if (key == null) {
+        cache.evictEntityData(type);
+      } else {
+        cache.evictEntityData(type, key);
+      }
+    }
+    for (String role : OWNED.getOrDefault(type, List.of())) {
+      if (key == null) {
+        cache.evictCollectionData(role);
+      } else {
+        cache.evictCollectionData(role, key);
+      }
+    }
+    REFERENCED_BY.getOrDefault(type, List.of()).forEach(cache::evictCollectionData);
+    cache.evictQueryRegions();
+    eventPublisher.publishEvent(new ReferenceDataChangedEvent(type));
+  }
+}
@@ -0,0 +1,62 @@
+package com.lofi.lofiapps.service;
+
+import com.lofi.lofiapps.entity.Branch;
+import com.lofi.lofiapps.entity.Permission;
+import com.lofi.lofiapps.entity.Product;
+import com.lofi.lofiapps.entity.Role;
+import com.lofi.lofiapps.event.ReferenceDataChangedEvent;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * A monotonically increasing version per reference-data family. Product, RBAC and branch writes
+ * already go through {@link ReferenceCacheInvalidator}, whose after-commit event (local, and in
+ * redis mode broadcast to every node) bumps the family here. Anything derived from a family, such
+ * as {@link ReferenceResponseCache}'s serialized bodies, is valid for exactly one version.
+ */
+@Component
+public class ReferenceDataVersions {
+
+  public enum Family {
+    PRODUCTS,
+    /** Roles together with their permissions; {@code RoleResponse} embeds both. */
+    RBAC,
+    BRANCHES,
+    /** Enum constants; only a deploy changes them. */
+    METADATA
+  }
+
+  private static final Map<Class<?>, Family> FAMILIES =
+      Map.of(
+          Product.class, Family.PRODUCTS,
+          Role.class, Family.RBAC,
+          Permission.class, Family.RBAC,
+          Branch.class, Family.BRANCHES);
+
+  private final Map<Family, AtomicLong> versions = new EnumMap<>(Family.class);
+
+  public ReferenceDataVersions() {
+    for (Family family : Family.values()) {
+      versions.put(family, new AtomicLong());
+    }
+  }
+
+  public long current(Family family) {
+    return versions.get(family).get();
+  }
+
+  public long bump(Family family) {
+    return versions.get(family).incrementAndGet();
+  }
+
+  @EventListener
+  public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+    Family family = FAMILIES.get(event.type());
+    if (family != null) {
+      bump(family);
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package com.lofi.lofiapps.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lofi.lofiapps.service.ReferenceDataVersions.Family;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Serves reference-data GETs from JSON serialized once per {@link ReferenceDataVersions} version.
+ *
+ * <p>The strong ETag is a digest of those bytes rather than the version itself: versions are per
+ * node and restart at zero, while the digest is the same on every node and changes whenever the
+ * representation does, including after a deploy. Spring answers a matching {@code If-None-Match}
+ * with 304 from the returned ETag, so a warm entry costs neither a query nor serialization.
+ */
+@Component
+public class ReferenceResponseCache {
+
+  private record Entry(long version, String etag, byte[] body) {}
+
+  private final ReferenceDataVersions versions;
+  private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+  private final int maxVariants;
+  private final Map<Family, Map<String, Entry>> entries = new EnumMap<>(Family.class);
+
+  public ReferenceResponseCache(
+      ReferenceDataVersions versions,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${app.reference-data.max-variants:512}") int maxVariants) {
+    this.versions = versions;
+    this.objectMapper = objectMapper;
+    this.meterRegistry = meterRegistry;
+    this.maxVariants = maxVariants;
+    for (Family family : Family.values()) {
+      entries.put(family, new ConcurrentHashMap<>());
+    }
+  }
+
+  /**
+   * Returns the cached body for {@code variant} (path plus whatever request parameters shape the
+   * response) at the family's current version, loading and serializing it on a miss.
+   */
+  public ResponseEntity<byte[]> respond(Family family, String variant, Supplier<?> loader) {
+    Map<String, Entry> variants = entries.get(family);
+    long version = versions.current(family);
+    Entry entry = variants.get(variant);
+    if (entry == null || entry.version() != version) {
+      meterRegistry
+          .counter("lofi.reference.body", "family", family.name(), "result", "miss")
+          .increment();
+      // The version is read before loading, so data committed meanwhile lands under a stale
+      // version and is reloaded on the next request instead of being served as current
+      entry = serialize(version, loader.get());
+      if (variants.size() >= maxVariants && !variants.containsKey(variant)) {
+        variants.clear();
+      }
+      variants.merge(
+          variant,
+          entry,
+          (cached, loaded) -> loaded.version() >= cached.version() ? loaded : cached);
+    } else {
+      meterRegistry
+          .counter("lofi.reference.body", "family", family.name(), "result", "hit")
+          .increment();
+    }
+    return ResponseEntity.ok()
+        .eTag(entry.etag())
+        .cacheControl(CacheControl.noCache().cachePrivate())
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(entry.body());
+  }
+
+  private Entry serialize(long version, Object response) {
+    try {
+      byte[] body = objectMapper.writeValueAsBytes(response);
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+      String etag = "\"" + HexFormat.of().formatHex(Arrays.copyOf(digest, 16)) + "\"";
+      return new Entry(version, etag, body);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to serialize reference data", e);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+}
@@ -1,15 +1,23 @@
 package com.lofi.lofiapps.service;
 
+import com.lofi.lofiapps.dto.response.CashFlowProjectionResponse;
 import com.lofi.lofiapps.dto.response.LoanKpiResponse;
+import com.lofi.lofiapps.dto.response.ReportJobResponse;
 import com.lofi.lofiapps.dto.response.SlaReportResponse;
+import com.lofi.lofiapps.enums.AmortizationMethod;
+import com.lofi.lofiapps.security.service.UserPrincipal;
 import java.util.UUID;
 
 public interface ReportService {
   LoanKpiResponse getLoanKpis();
 
-  byte[] exportLoanKpis();
+  ReportJobResponse exportLoanKpis(UserPrincipal actor);
 
   SlaReportResponse getSlaReport(UUID loanId);
 
-  byte[] exportSlaReport(UUID loanId);
+  ReportJobResponse exportSlaReport(UserPrincipal actor, UUID loanId);
+
+  ReportJobResponse getReportJob(UserPrincipal actor, UUID jobId);
+
+  CashFlowProjectionResponse getCashFlowProjection(int months, AmortizationMethod method);
 }
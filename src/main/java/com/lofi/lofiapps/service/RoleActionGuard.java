@@ -2,40 +2,25 @@ package com.lofi.lofiapps.service;
 
 import com.lofi.lofiapps.entity.User;
 import com.lofi.lofiapps.enums.RoleName;
+import com.lofi.lofiapps.security.permission.RoleMask;
+import java.util.Map;
 import org.springframework.stereotype.Service;
 
 @Service
 public class RoleActionGuard {
-  public void validate(User user, String action) {
-    boolean hasRole =
-        user.getRoles().stream()
-            .anyMatch(
-                role -> {
-                  RoleName name = role.getName();
-                  if (name == RoleName.ROLE_SUPER_ADMIN || name == RoleName.ROLE_ADMIN) {
-                    return true;
-                  }
-                  switch (action.toLowerCase()) {
-                    case "submit":
-                      return name == RoleName.ROLE_CUSTOMER;
-                    case "apply":
-                      return name == RoleName.ROLE_CUSTOMER;
-                    case "review":
-                      return name == RoleName.ROLE_MARKETING;
-                    case "approve":
-                      return name == RoleName.ROLE_BRANCH_MANAGER;
-                    case "reject":
-                      return name == RoleName.ROLE_BRANCH_MANAGER
-                          || name == RoleName.ROLE_MARKETING; // Marketing can
-
-                    case "disburse":
-                      return name == RoleName.ROLE_BACK_OFFICE;
-                    default:
-                      return false;
-                  }
-                });
+  // Roles allowed per action on top of SUPER_ADMIN/ADMIN, which may do everything
+  private static final Map<String, Integer> ACTION_ROLES =
+      Map.of(
+          "submit", RoleMask.of(RoleName.ROLE_CUSTOMER),
+          "apply", RoleMask.of(RoleName.ROLE_CUSTOMER),
+          "review", RoleMask.of(RoleName.ROLE_MARKETING),
+          "approve", RoleMask.of(RoleName.ROLE_BRANCH_MANAGER),
+          "reject", RoleMask.of(RoleName.ROLE_BRANCH_MANAGER, RoleName.ROLE_MARKETING),
+          "disburse", RoleMask.of(RoleName.ROLE_BACK_OFFICE));
 
-    if (!hasRole) {
+  public void validate(User user, String action) {
+    int allowed = RoleMask.GLOBAL_ADMIN | ACTION_ROLES.getOrDefault(action.toLowerCase(), 0);
+    if (!RoleMask.any(RoleMask.of(user.getRoles()), allowed)) {
       throw new SecurityException(
           "ROLE_ACTION_NOT_ALLOWED: User role does not allow this action: " + action);
     }
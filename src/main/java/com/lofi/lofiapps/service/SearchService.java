@@ -0,0 +1,10 @@
+package com.lofi.lofiapps.service;
+
+import com.lofi.lofiapps.dto.response.SearchResponse;
+import com.lofi.lofiapps.enums.SearchKind;
+import com.lofi.lofiapps.security.service.UserPrincipal;
+
+public interface SearchService {
+  /** Ranked users and loans matching {@code query}, limited to what {@code actor} may see. */
+  SearchResponse search(UserPrincipal actor, String query, SearchKind kind, int limit);
+}
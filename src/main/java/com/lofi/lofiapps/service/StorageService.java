@@ -1,14 +1,54 @@
 package com.lofi.lofiapps.service;
 
+import java.io.InputStream;
 import java.net.URL;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
 
 public interface StorageService {
   URL generatePresignedUploadUrl(
       String bucketName, String objectKey, String contentType, long expirationMinutes);
 
+  /** May return a previously signed URL that still has a safe amount of validity left. */
   URL generatePresignedDownloadUrl(String bucketName, String objectKey, long expirationMinutes);
 
+  /** Forgets cached presigned URLs for an object that was replaced or removed. */
+  void evictPresignedUrls(String bucketName, String objectKey);
+
+  /** Small, already-buffered payloads only; prefer {@link #uploadStream} for anything else. */
   void uploadFile(String bucketName, String objectKey, byte[] content, String contentType);
 
+  /**
+   * Uploads from a stream without holding the whole object in memory. Pass {@code contentLength}
+   * {@code -1} when it is unknown; large or unknown-length content goes up as a multipart upload
+   * with bounded part buffers. The stream is not closed.
+   */
+  void uploadStream(
+      String bucketName,
+      String objectKey,
+      InputStream content,
+      long contentLength,
+      String contentType);
+
+  /**
+   * Uploads a file from local disk through the async client, which splits large files into parallel
+   * parts read straight from disk. Meant for big back-office bundles.
+   */
+  CompletableFuture<Void> uploadFileAsync(
+      String bucketName, String objectKey, Path file, String contentType);
+
+  /**
+   * @deprecated buffers the whole object on the heap; use {@link #openObject} instead.
+   */
+  @Deprecated
   byte[] downloadFile(String bucketName, String objectKey);
+
+  /** Reads object metadata without the body; a missing object is a not-found error. */
+  StoredObjectInfo statObject(String bucketName, String objectKey);
+
+  /**
+   * Opens the object body as a stream without buffering it. {@code range} is an optional HTTP
+   * {@code Range} header value (e.g. {@code bytes=0-1023}) passed through to storage.
+   */
+  StoredObject openObject(String bucketName, String objectKey, String range);
 }
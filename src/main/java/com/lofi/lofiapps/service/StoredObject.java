@@ -0,0 +1,26 @@
+package com.lofi.lofiapps.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * An open object body from storage. {@code contentRange} is set when only part of the object was
+ * requested; the caller must close the stream to release the connection.
+ */
+public record StoredObject(
+    InputStream content, String contentType, long contentLength, String contentRange)
+    implements Closeable {
+
+  /** The same body as a channel, for NIO consumers; closing either closes both. */
+  public ReadableByteChannel channel() {
+    return Channels.newChannel(content);
+  }
+
+  @Override
+  public void close() throws IOException {
+    content.close();
+  }
+}
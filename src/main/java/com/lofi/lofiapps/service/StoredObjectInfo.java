@@ -0,0 +1,7 @@
+package com.lofi.lofiapps.service;
+
+/**
+ * Object metadata from a HEAD request. {@code eTag} is unquoted; for single-request uploads it is
+ * the hex MD5 of the content.
+ */
+public record StoredObjectInfo(long contentLength, String contentType, String eTag) {}
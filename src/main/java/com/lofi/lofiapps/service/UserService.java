@@ -29,7 +29,12 @@ public interface UserService {
 
   boolean isPinSet(UUID userId);
 
-  byte[] getProfilePhoto(UUID userId);
+  void streamProfilePhoto(
+      UUID userId,
+      Integer size,
+      jakarta.servlet.http.HttpServletRequest request,
+      jakarta.servlet.http.HttpServletResponse response)
+      throws java.io.IOException;
 
   // AI / Analysis
   EligibilityAnalysisResponse analyzeEligibility(UUID userId);
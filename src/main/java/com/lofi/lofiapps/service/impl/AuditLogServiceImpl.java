@@ -24,7 +24,7 @@ public class AuditLogServiceImpl implements AuditLogService {
   private final AuditLogRepository auditLogRepository;
 
   @Override
-  @Async
+  @Async("auditExecutor")
   @Transactional(propagation = Propagation.REQUIRES_NEW)
   public void log(
       String action,
@@ -60,7 +60,7 @@ public class AuditLogServiceImpl implements AuditLogService {
   }
 
   @Override
-  @Async
+  @Async("auditExecutor")
   @Transactional(propagation = Propagation.REQUIRES_NEW)
   public void logLogin(
       String email, boolean success, String ipAddress, String userAgent, String failureReason) {
@@ -89,7 +89,7 @@ public class AuditLogServiceImpl implements AuditLogService {
   }
 
   @Override
-  @Async
+  @Async("auditExecutor")
   @Transactional(propagation = Propagation.REQUIRES_NEW)
   public void logDataAccess(
       UUID userId, String resourceType, UUID resourceId, String ipAddress, String accessType) {
@@ -113,7 +113,7 @@ public class AuditLogServiceImpl implements AuditLogService {
   }
 
   @Override
-  @Async
+  @Async("auditExecutor")
   @Transactional(propagation = Propagation.REQUIRES_NEW)
   public void logAuthorization(UUID userId, String action, boolean granted, String reason) {
     try {
@@ -142,7 +142,7 @@ public class AuditLogServiceImpl implements AuditLogService {
   }
 
   @Override
-  @Async
+  @Async("auditExecutor")
   @Transactional(propagation = Propagation.REQUIRES_NEW)
   public void logConfigChange(UUID userId, String configType, String oldConfig, String newConfig) {
     try {
@@ -3,7 +3,9 @@ package com.lofi.lofiapps.service.impl;
 import com.lofi.lofiapps.dto.response.AuditLogResponse;
 import com.lofi.lofiapps.dto.response.PagedResponse;
 import com.lofi.lofiapps.service.AuditService;
+import com.lofi.lofiapps.service.impl.usecase.audit.AuditLogArchiver;
 import com.lofi.lofiapps.service.impl.usecase.audit.GetAuditLogsUseCase;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -13,9 +15,16 @@ import org.springframework.stereotype.Service;
 public class AuditServiceImpl implements AuditService {
 
   private final GetAuditLogsUseCase getAuditLogsUseCase;
+  private final AuditLogArchiver auditLogArchiver;
 
   @Override
-  public PagedResponse<AuditLogResponse> getAuditLogs(Pageable pageable) {
-    return getAuditLogsUseCase.execute(pageable);
+  public PagedResponse<AuditLogResponse> getAuditLogs(
+      LocalDateTime from, LocalDateTime to, Pageable pageable) {
+    return getAuditLogsUseCase.execute(from, to, pageable);
+  }
+
+  @Override
+  public boolean partitionAuditLogs() {
+    return auditLogArchiver.partition();
   }
 }
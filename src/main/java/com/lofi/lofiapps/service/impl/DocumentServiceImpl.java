@@ -1,11 +1,14 @@
 package com.lofi.lofiapps.service.impl;
 
+import com.lofi.lofiapps.dto.request.BatchPresignUploadRequest;
 import com.lofi.lofiapps.dto.request.PresignUploadRequest;
 import com.lofi.lofiapps.dto.response.DownloadDocumentResponse;
 import com.lofi.lofiapps.dto.response.PresignUploadResponse;
 import com.lofi.lofiapps.service.DocumentService;
+import com.lofi.lofiapps.service.impl.usecase.document.CompleteDocumentUploadUseCase;
 import com.lofi.lofiapps.service.impl.usecase.document.GetPresignedDownloadUrlUseCase;
 import com.lofi.lofiapps.service.impl.usecase.document.PresignUploadUseCase;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -16,12 +19,24 @@ public class DocumentServiceImpl implements DocumentService {
 
   private final PresignUploadUseCase presignUploadUseCase;
   private final GetPresignedDownloadUrlUseCase getPresignedDownloadUrlUseCase;
+  private final CompleteDocumentUploadUseCase completeDocumentUploadUseCase;
 
   @Override
   public PresignUploadResponse presignUpload(PresignUploadRequest request, UUID userId) {
     return presignUploadUseCase.execute(request, userId);
   }
 
+  @Override
+  public List<PresignUploadResponse> presignUploadBatch(
+      BatchPresignUploadRequest request, UUID userId) {
+    return presignUploadUseCase.executeBatch(request, userId);
+  }
+
+  @Override
+  public void completeUpload(List<UUID> documentIds, UUID userId) {
+    completeDocumentUploadUseCase.execute(documentIds, userId);
+  }
+
   @Override
   public DownloadDocumentResponse presignDownload(UUID id, UUID userId, boolean isAdmin) {
     return getPresignedDownloadUrlUseCase.execute(id, userId, isAdmin);
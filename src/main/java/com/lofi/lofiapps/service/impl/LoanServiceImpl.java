@@ -2,18 +2,25 @@ package com.lofi.lofiapps.service.impl;
 
 import com.lofi.lofiapps.dto.request.LoanCriteria;
 import com.lofi.lofiapps.dto.request.LoanRequest;
+import com.lofi.lofiapps.dto.request.RecordPaymentRequest;
 import com.lofi.lofiapps.dto.response.BackOfficeRiskEvaluationResponse;
+import com.lofi.lofiapps.dto.response.BatchLoanActionResponse;
 import com.lofi.lofiapps.dto.response.BranchManagerSupportResponse;
 import com.lofi.lofiapps.dto.response.LoanAnalysisResponse;
 import com.lofi.lofiapps.dto.response.LoanResponse;
+import com.lofi.lofiapps.dto.response.LoanScheduleResponse;
 import com.lofi.lofiapps.dto.response.MarketingLoanReviewResponse;
 import com.lofi.lofiapps.dto.response.PagedResponse;
+import com.lofi.lofiapps.dto.response.RepaymentLedgerResponse;
+import com.lofi.lofiapps.enums.AmortizationMethod;
 import com.lofi.lofiapps.enums.LoanStatus;
+import com.lofi.lofiapps.security.service.UserPrincipal;
 import com.lofi.lofiapps.service.LoanService;
 import com.lofi.lofiapps.service.impl.usecase.loan.AnalyzeLoanUseCase;
 import com.lofi.lofiapps.service.impl.usecase.loan.ApplyLoanUseCase;
 import com.lofi.lofiapps.service.impl.usecase.loan.ApproveLoanUseCase;
 import com.lofi.lofiapps.service.impl.usecase.loan.BackOfficeRiskEvaluationUseCase;
+import com.lofi.lofiapps.service.impl.usecase.loan.BatchLoanTransitionUseCase;
 import com.lofi.lofiapps.service.impl.usecase.loan.BranchManagerSupportUseCase;
 import com.lofi.lofiapps.service.impl.usecase.loan.CancelLoanUseCase;
 import com.lofi.lofiapps.service.impl.usecase.loan.CompleteLoanUseCase;
@@ -25,7 +32,11 @@ import com.lofi.lofiapps.service.impl.usecase.loan.RejectLoanUseCase;
 import com.lofi.lofiapps.service.impl.usecase.loan.ReviewLoanUseCase;
 import com.lofi.lofiapps.service.impl.usecase.loan.RollbackLoanUseCase;
 import com.lofi.lofiapps.service.impl.usecase.loan.SubmitLoanUseCase;
+import com.lofi.lofiapps.service.impl.usecase.repayment.GetRepaymentLedgerUseCase;
+import com.lofi.lofiapps.service.impl.usecase.repayment.RecordPaymentUseCase;
+import com.lofi.lofiapps.service.impl.usecase.schedule.GetLoanScheduleUseCase;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -48,6 +59,7 @@ public class LoanServiceImpl implements LoanService {
   private final RollbackLoanUseCase rollbackLoanUseCase;
   private final SubmitLoanUseCase submitLoanUseCase;
   private final CompleteLoanUseCase completeLoanUseCase;
+  private final BatchLoanTransitionUseCase batchLoanTransitionUseCase;
   private final com.lofi.lofiapps.service.impl.usecase.loan.MarketingApplyLoanUseCase
       marketingApplyLoanUseCase;
   private final com.lofi.lofiapps.service.impl.usecase.loan.DraftLoanUseCase draftLoanUseCase;
@@ -59,6 +71,9 @@ public class LoanServiceImpl implements LoanService {
   private final MarketingReviewLoanUseCase marketingReviewLoanUseCase;
   private final BackOfficeRiskEvaluationUseCase backOfficeRiskEvaluationUseCase;
   private final BranchManagerSupportUseCase branchManagerSupportUseCase;
+  private final GetLoanScheduleUseCase getLoanScheduleUseCase;
+  private final GetRepaymentLedgerUseCase getRepaymentLedgerUseCase;
+  private final RecordPaymentUseCase recordPaymentUseCase;
 
   @Override
   public LoanResponse applyLoan(LoanRequest request, UUID userId, String username) {
@@ -110,6 +125,23 @@ public class LoanServiceImpl implements LoanService {
     return getLoanDetailUseCase.execute(loanId);
   }
 
+  @Override
+  public LoanScheduleResponse getLoanSchedule(
+      UserPrincipal actor, UUID loanId, AmortizationMethod method) {
+    return getLoanScheduleUseCase.execute(actor, loanId, method);
+  }
+
+  @Override
+  public RepaymentLedgerResponse getRepaymentLedger(UUID loanId) {
+    return getRepaymentLedgerUseCase.execute(loanId);
+  }
+
+  @Override
+  public RepaymentLedgerResponse recordPayment(
+      UUID loanId, RecordPaymentRequest request, UUID recordedBy) {
+    return recordPaymentUseCase.execute(loanId, request, recordedBy);
+  }
+
   @Override
   public LoanResponse approveLoan(UUID loanId, String approverUsername, String notes) {
     return approveLoanUseCase.execute(loanId, approverUsername, notes);
@@ -150,6 +182,24 @@ public class LoanServiceImpl implements LoanService {
     return completeLoanUseCase.execute(loanId, username);
   }
 
+  @Override
+  public BatchLoanActionResponse batchApproveLoans(
+      List<UUID> loanIds, String approverUsername, String notes) {
+    return batchLoanTransitionUseCase.approve(loanIds, approverUsername, notes);
+  }
+
+  @Override
+  public BatchLoanActionResponse batchRejectLoans(
+      List<UUID> loanIds, String rejectorUsername, String reason) {
+    return batchLoanTransitionUseCase.reject(loanIds, rejectorUsername, reason);
+  }
+
+  @Override
+  public BatchLoanActionResponse batchDisburseLoans(
+      List<UUID> loanIds, Map<UUID, String> references, String officerUsername) {
+    return batchLoanTransitionUseCase.disburse(loanIds, references, officerUsername);
+  }
+
   @Override
   public LoanAnalysisResponse analyzeLoan(UUID loanId) {
     return analyzeLoanUseCase.execute(loanId);
@@ -2,18 +2,27 @@ package com.lofi.lofiapps.service.impl;
 
 import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.Message;
+import com.lofi.lofiapps.entity.Loan;
 import com.lofi.lofiapps.entity.Notification;
 import com.lofi.lofiapps.entity.User;
 import com.lofi.lofiapps.enums.LoanStatus;
 import com.lofi.lofiapps.repository.NotificationRepository;
 import com.lofi.lofiapps.repository.UserRepository;
 import com.lofi.lofiapps.service.NotificationService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +31,8 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class NotificationServiceImpl implements NotificationService {
 
+  private static final String LOAN_STATUS_TITLE = "Loan Status Update";
+
   private final JavaMailSender javaMailSender;
   private final FirebaseMessaging firebaseMessaging;
   private final NotificationRepository notificationRepository;
@@ -129,29 +140,8 @@ public class NotificationServiceImpl implements NotificationService {
       return;
     }
 
-    String title = "Loan Status Update";
-    String message = "Your loan status has been updated to: " + newStatus;
-
-    // Customize message based on status (simple logic)
-    switch (newStatus) {
-      case SUBMITTED:
-        message = "Your loan application has been submitted successfully.";
-        break;
-      case APPROVED:
-        message = "Congratulations! Your loan application has been approved.";
-        break;
-      case REJECTED:
-        message = "We regret to inform you that your loan application has been rejected.";
-        break;
-      case DISBURSED:
-        message = "Funds have been disbursed to your account. Please check your balance.";
-        break;
-      case COMPLETED:
-        message = "Thank you! Your loan has been fully paid.";
-        break;
-      default:
-        break;
-    }
+    String title = LOAN_STATUS_TITLE;
+    String message = loanStatusMessage(newStatus);
 
     // 1. In-App Notification
     sendInAppNotification(
@@ -175,6 +165,110 @@ public class NotificationServiceImpl implements NotificationService {
     sendEmail(user.getEmail(), title, message);
   }
 
+  @Override
+  @Async("notificationExecutor")
+  public void notifyLoanStatusChanges(List<Loan> loans) {
+    if (loans == null || loans.isEmpty()) {
+      return;
+    }
+
+    // One user lookup for the whole batch instead of one per loan
+    Set<UUID> userIds =
+        loans.stream()
+            .filter(loan -> loan.getCustomer() != null)
+            .map(loan -> loan.getCustomer().getId())
+            .collect(Collectors.toSet());
+    Map<UUID, User> usersById =
+        userRepository.findAllById(userIds).stream()
+            .collect(Collectors.toMap(User::getId, Function.identity()));
+
+    List<Notification> inAppNotifications = new ArrayList<>();
+    for (Loan loan : loans) {
+      User user = loan.getCustomer() != null ? usersById.get(loan.getCustomer().getId()) : null;
+      if (user == null) {
+        log.warn("No customer found for loan {}, skipping notification", loan.getId());
+        continue;
+      }
+      inAppNotifications.add(
+          Notification.builder()
+              .userId(user.getId())
+              .title(LOAN_STATUS_TITLE)
+              .body(loanStatusMessage(loan.getLoanStatus()))
+              .type(com.lofi.lofiapps.enums.NotificationType.LOAN)
+              .referenceId(loan.getId())
+              .link("/loans/" + loan.getId())
+              .isRead(false)
+              .build());
+    }
+
+    try {
+      notificationRepository.saveAll(inAppNotifications);
+      log.info("Saved {} in-app loan status notifications", inAppNotifications.size());
+    } catch (Exception e) {
+      log.error("Failed to save batch in-app notifications: {}", e.getMessage());
+    }
+
+    for (Notification notification : inAppNotifications) {
+      User user = usersById.get(notification.getUserId());
+      if (user.getFirebaseToken() != null && !user.getFirebaseToken().isEmpty()) {
+        sendPushNotification(user.getFirebaseToken(), LOAN_STATUS_TITLE, notification.getBody());
+      }
+      sendEmail(user.getEmail(), LOAN_STATUS_TITLE, notification.getBody());
+    }
+  }
+
+  @Override
+  @Async("notificationExecutor")
+  public void notifyLoanDisbursements(List<Loan> loans) {
+    if (loans == null) {
+      return;
+    }
+    for (Loan loan : loans) {
+      try {
+        notifyLoanDisbursement(loan);
+      } catch (Exception e) {
+        log.error("Failed to notify disbursement for loan {}: {}", loan.getId(), e.getMessage());
+      }
+    }
+  }
+
+  @Override
+  @Async("notificationExecutor")
+  public void notifyLoansAutoCancelled(UUID userId, Collection<UUID> loanIds) {
+    if (loanIds == null || loanIds.isEmpty()) {
+      return;
+    }
+    User user = userRepository.findById(userId).orElse(null);
+    if (user == null) {
+      log.warn("User not found for ID: {}, cannot send auto-cancel notification", userId);
+      return;
+    }
+
+    String message =
+        loanIds.size() == 1
+            ? "Your other pending loan application has been cancelled because another loan was"
+                + " approved."
+            : "Your "
+                + loanIds.size()
+                + " other pending loan applications have been cancelled because another loan was"
+                + " approved.";
+
+    // Link to the first cancelled loan when there is only one, otherwise to the loan list
+    UUID referenceId = loanIds.size() == 1 ? loanIds.iterator().next() : null;
+    sendInAppNotification(
+        userId,
+        LOAN_STATUS_TITLE,
+        message,
+        com.lofi.lofiapps.enums.NotificationType.LOAN,
+        referenceId,
+        referenceId != null ? "/loans/" + referenceId : "/loans/history");
+
+    if (user.getFirebaseToken() != null && !user.getFirebaseToken().isEmpty()) {
+      sendPushNotification(user.getFirebaseToken(), LOAN_STATUS_TITLE, message);
+    }
+    sendEmail(user.getEmail(), LOAN_STATUS_TITLE, message);
+  }
+
   @Override
   public void notifyLoanDisbursement(com.lofi.lofiapps.entity.Loan loan) {
     if (loan == null || loan.getCustomer() == null) {
@@ -349,6 +443,23 @@ public class NotificationServiceImpl implements NotificationService {
     }
   }
 
+  private String loanStatusMessage(LoanStatus status) {
+    switch (status) {
+      case SUBMITTED:
+        return "Your loan application has been submitted successfully.";
+      case APPROVED:
+        return "Congratulations! Your loan application has been approved.";
+      case REJECTED:
+        return "We regret to inform you that your loan application has been rejected.";
+      case DISBURSED:
+        return "Funds have been disbursed to your account. Please check your balance.";
+      case COMPLETED:
+        return "Thank you! Your loan has been fully paid.";
+      default:
+        return "Your loan status has been updated to: " + status;
+    }
+  }
+
   private String maskAccountNumber(String accountNumber) {
     if (accountNumber == null || accountNumber.length() < 4) return "****";
     return "**** " + accountNumber.substring(accountNumber.length() - 4);
@@ -12,6 +12,7 @@ import com.lofi.lofiapps.mapper.ProductDtoMapper;
 import com.lofi.lofiapps.repository.ProductRepository;
 import com.lofi.lofiapps.repository.UserRepository;
 import com.lofi.lofiapps.service.ProductService;
+import com.lofi.lofiapps.service.ReferenceCacheInvalidator;
 import com.lofi.lofiapps.service.impl.usecase.product.RecommendProductUseCase;
 import java.util.List;
 import java.util.UUID;
@@ -32,6 +33,7 @@ public class ProductServiceImpl implements ProductService {
   private final UserRepository userRepository;
   private final ProductDtoMapper productDtoMapper;
   private final RecommendProductUseCase recommendProductUseCase;
+  private final ReferenceCacheInvalidator referenceCacheInvalidator;
 
   private final com.lofi.lofiapps.service.ProductCalculationService productCalculationService;
 
@@ -40,6 +42,7 @@ public class ProductServiceImpl implements ProductService {
   public ProductResponse createProduct(CreateProductRequest request) {
     Product product = productDtoMapper.toDomain(request);
     Product savedProduct = productRepository.save(product);
+    referenceCacheInvalidator.invalidate(Product.class, savedProduct.getId());
     return productDtoMapper.toResponse(savedProduct);
   }
 
@@ -188,6 +191,7 @@ public class ProductServiceImpl implements ProductService {
     product.setIsActive(request.getIsActive());
 
     Product updatedProduct = productRepository.save(product);
+    referenceCacheInvalidator.invalidate(Product.class, id);
     return productDtoMapper.toResponse(updatedProduct);
   }
 
@@ -199,5 +203,6 @@ public class ProductServiceImpl implements ProductService {
             .findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Product", "id", id.toString()));
     productRepository.delete(product);
+    referenceCacheInvalidator.invalidate(Product.class, id);
   }
 }
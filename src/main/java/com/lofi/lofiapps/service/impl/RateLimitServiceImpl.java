@@ -1,6 +1,9 @@
 package com.lofi.lofiapps.service.impl;
 
+import com.lofi.lofiapps.config.redis.RedisGuard;
 import com.lofi.lofiapps.service.RateLimitService;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,35 +16,51 @@ import org.springframework.stereotype.Service;
 public class RateLimitServiceImpl implements RateLimitService {
 
   private final RedisTemplate<String, Object> redisTemplate;
+  private final RedisGuard redisGuard;
 
   private static final String RATE_LIMIT_KEY_PREFIX = "ratelimit:";
+  private static final String CONSUMER = "ratelimit";
+  private static final int LOCAL_WINDOW_LIMIT = 10_000;
+
+  // Used while Redis is degraded. Counts are per node then, so the effective limit is looser
+  private final Map<String, LocalWindow> localWindows = new ConcurrentHashMap<>();
 
   @Override
   public boolean tryConsume(String key, int maxRequests, int windowMinutes) {
     String redisKey = RATE_LIMIT_KEY_PREFIX + key;
 
-    // Use increment which returns the new value
-    Long newCount = redisTemplate.opsForValue().increment(redisKey);
+    return redisGuard.call(
+        CONSUMER,
+        () -> {
+          // Use increment which returns the new value
+          Long newCount = redisTemplate.opsForValue().increment(redisKey);
 
-    // If it's the first request (newCount == 1), set expiration
-    if (newCount != null && newCount == 1) {
-      redisTemplate.expire(redisKey, windowMinutes, TimeUnit.MINUTES);
-    }
+          // If it's the first request (newCount == 1), set expiration
+          if (newCount != null && newCount == 1) {
+            redisTemplate.expire(redisKey, windowMinutes, TimeUnit.MINUTES);
+          }
 
-    return newCount != null && newCount <= maxRequests;
+          return newCount != null && newCount <= maxRequests;
+        },
+        () -> localWindow(redisKey, windowMinutes).tryConsume(maxRequests));
   }
 
   @Override
   public int getRemainingRequests(String key, int maxRequests, int windowMinutes) {
     String redisKey = RATE_LIMIT_KEY_PREFIX + key;
-    Object value = redisTemplate.opsForValue().get(redisKey);
-
-    int current = 0;
-    if (value instanceof Integer) {
-      current = (Integer) value;
-    } else if (value instanceof Long) {
-      current = ((Long) value).intValue();
-    }
+    int current =
+        redisGuard.call(
+            CONSUMER,
+            () -> {
+              Object value = redisTemplate.opsForValue().get(redisKey);
+              if (value instanceof Integer) {
+                return (Integer) value;
+              } else if (value instanceof Long) {
+                return ((Long) value).intValue();
+              }
+              return 0;
+            },
+            () -> localWindow(redisKey, windowMinutes).count());
 
     return Math.max(0, maxRequests - current);
   }
@@ -49,6 +68,49 @@ public class RateLimitServiceImpl implements RateLimitService {
   @Override
   public void reset(String key) {
     String redisKey = RATE_LIMIT_KEY_PREFIX + key;
-    redisTemplate.delete(redisKey);
+    localWindows.remove(redisKey);
+    redisGuard.run(CONSUMER, () -> redisTemplate.delete(redisKey), () -> {});
+  }
+
+  private LocalWindow localWindow(String redisKey, int windowMinutes) {
+    long windowMs = TimeUnit.MINUTES.toMillis(windowMinutes);
+    if (localWindows.size() >= LOCAL_WINDOW_LIMIT) {
+      long now = System.currentTimeMillis();
+      localWindows.values().removeIf(window -> window.isExpired(now));
+    }
+    return localWindows.computeIfAbsent(redisKey, k -> new LocalWindow(windowMs));
+  }
+
+  /** Fixed window counter, the local twin of the INCR + EXPIRE pair above. */
+  private static final class LocalWindow {
+    private final long windowMs;
+    private long startedAt = System.currentTimeMillis();
+    private int count;
+
+    LocalWindow(long windowMs) {
+      this.windowMs = windowMs;
+    }
+
+    synchronized boolean tryConsume(int maxRequests) {
+      roll(System.currentTimeMillis());
+      count++;
+      return count <= maxRequests;
+    }
+
+    synchronized int count() {
+      roll(System.currentTimeMillis());
+      return count;
+    }
+
+    synchronized boolean isExpired(long now) {
+      return now - startedAt >= windowMs;
+    }
+
+    private void roll(long now) {
+      if (now - startedAt >= windowMs) {
+        startedAt = now;
+        count = 0;
+      }
+    }
   }
 }
@@ -1,11 +1,18 @@
 package com.lofi.lofiapps.service.impl;
 
+import com.lofi.lofiapps.dto.response.CashFlowProjectionResponse;
 import com.lofi.lofiapps.dto.response.LoanKpiResponse;
+import com.lofi.lofiapps.dto.response.ReportJobResponse;
 import com.lofi.lofiapps.dto.response.SlaReportResponse;
+import com.lofi.lofiapps.enums.AmortizationMethod;
+import com.lofi.lofiapps.enums.ReportType;
+import com.lofi.lofiapps.security.service.UserPrincipal;
 import com.lofi.lofiapps.service.ReportService;
-import com.lofi.lofiapps.service.impl.usecase.report.ExcelExportService;
 import com.lofi.lofiapps.service.impl.usecase.report.GetLoanKpisUseCase;
+import com.lofi.lofiapps.service.impl.usecase.report.GetReportJobUseCase;
 import com.lofi.lofiapps.service.impl.usecase.report.GetSlaReportUseCase;
+import com.lofi.lofiapps.service.impl.usecase.report.RequestReportUseCase;
+import com.lofi.lofiapps.service.impl.usecase.schedule.ProjectCashFlowUseCase;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -17,7 +24,9 @@ public class ReportServiceImpl implements ReportService {
 
   private final GetLoanKpisUseCase getLoanKpisUseCase;
   private final GetSlaReportUseCase getSlaReportUseCase;
-  private final ExcelExportService excelExportService;
+  private final RequestReportUseCase requestReportUseCase;
+  private final GetReportJobUseCase getReportJobUseCase;
+  private final ProjectCashFlowUseCase projectCashFlowUseCase;
 
   @Override
   @Transactional(readOnly = true)
@@ -25,11 +34,10 @@ public class ReportServiceImpl implements ReportService {
     return getLoanKpisUseCase.execute();
   }
 
+  // Export requests write the job row, so they run outside a read-only (replica) transaction
   @Override
-  @Transactional(readOnly = true)
-  public byte[] exportLoanKpis() {
-    LoanKpiResponse kpis = getLoanKpisUseCase.execute();
-    return excelExportService.exportLoanKpis(kpis);
+  public ReportJobResponse exportLoanKpis(UserPrincipal actor) {
+    return requestReportUseCase.execute(actor, ReportType.LOAN_KPIS, null);
   }
 
   @Override
@@ -38,10 +46,19 @@ public class ReportServiceImpl implements ReportService {
     return getSlaReportUseCase.execute(loanId);
   }
 
+  @Override
+  public ReportJobResponse exportSlaReport(UserPrincipal actor, UUID loanId) {
+    return requestReportUseCase.execute(actor, ReportType.LOAN_SLA, loanId);
+  }
+
+  @Override
+  public ReportJobResponse getReportJob(UserPrincipal actor, UUID jobId) {
+    return getReportJobUseCase.execute(actor, jobId);
+  }
+
   @Override
   @Transactional(readOnly = true)
-  public byte[] exportSlaReport(UUID loanId) {
-    SlaReportResponse slaReport = getSlaReportUseCase.execute(loanId);
-    return excelExportService.exportSlaReport(slaReport);
+  public CashFlowProjectionResponse getCashFlowProjection(int months, AmortizationMethod method) {
+    return projectCashFlowUseCase.execute(months, method);
   }
 }
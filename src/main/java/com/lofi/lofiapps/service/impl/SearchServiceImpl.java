@@ -0,0 +1,21 @@
+package com.lofi.lofiapps.service.impl;
+
+import com.lofi.lofiapps.dto.response.SearchResponse;
+import com.lofi.lofiapps.enums.SearchKind;
+import com.lofi.lofiapps.security.service.UserPrincipal;
+import com.lofi.lofiapps.service.SearchService;
+import com.lofi.lofiapps.service.impl.usecase.search.SearchUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class SearchServiceImpl implements SearchService {
+
+  private final SearchUseCase searchUseCase;
+
+  @Override
+  public SearchResponse search(UserPrincipal actor, String query, SearchKind kind, int limit) {
+    return searchUseCase.execute(actor, query, kind, limit);
+  }
+}
@@ -94,8 +94,13 @@ public class UserServiceImpl implements UserService {
   }
 
   @Override
-  public byte[] getProfilePhoto(UUID userId) {
-    return getProfilePhotoUseCase.execute(userId);
+  public void streamProfilePhoto(
+      UUID userId,
+      Integer size,
+      jakarta.servlet.http.HttpServletRequest request,
+      jakarta.servlet.http.HttpServletResponse response)
+      throws java.io.IOException {
+    getProfilePhotoUseCase.execute(userId, size, request, response);
   }
 
   @Override
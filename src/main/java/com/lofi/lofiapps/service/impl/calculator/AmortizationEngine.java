@@ -0,0 +1,198 @@
+package com.lofi.lofiapps.service.impl.calculator;
+
+import com.lofi.lofiapps.enums.AmortizationMethod;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Installment schedules in fixed-point {@code long} arithmetic. Amounts are minor units (hundredths
+ * of the currency unit, the scale of {@code loan_amount}); the rate is in basis points per month,
+ * which is the loan's {@code interestRate} percentage at its column scale of 2. Every rounding is
+ * half-up to a minor unit and the last installment takes the remaining principal, so the principal
+ * parts always sum to the loan amount exactly.
+ *
+ * <p>Products multiply into 128 bits before dividing, so nothing overflows short of a quotient that
+ * does not fit a {@code long}, which throws {@link ArithmeticException}.
+ */
+public final class AmortizationEngine {
+
+  /** Fixed-point scale of rates and growth factors: 12 decimal places. */
+  static final long SCALE = 1_000_000_000_000L;
+
+  private static final long BASIS_POINTS = 10_000L;
+  private static final int MONEY_SCALE = 2;
+
+  private AmortizationEngine() {}
+
+  public static long toMinorUnits(BigDecimal amount) {
+    return amount == null
+        ? 0
+        : amount.setScale(MONEY_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+  }
+
+  public static BigDecimal fromMinorUnits(long minorUnits) {
+    return BigDecimal.valueOf(minorUnits, MONEY_SCALE);
+  }
+
+  /** A monthly percentage, e.g. {@code 1.50}, as basis points ({@code 150}). */
+  public static long toBasisPoints(BigDecimal monthlyRatePercent) {
+    return monthlyRatePercent == null
+        ? 0
+        : monthlyRatePercent.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+  }
+
+  public static InstallmentSchedule schedule(
+      AmortizationMethod method, long principal, long rateBasisPoints, int tenor) {
+    checkTerms(principal, rateBasisPoints, tenor);
+    long[] principalParts = new long[tenor];
+    long[] interestParts = new long[tenor];
+    long factor =
+        method == AmortizationMethod.EFFECTIVE ? annuityFactor(rateBasisPoints, tenor) : 0;
+    amortize(
+        method, principal, rateBasisPoints, tenor, factor, principalParts, interestParts, false, 0);
+    return new InstallmentSchedule(method, principalParts, interestParts);
+  }
+
+  /**
+   * Adds installment {@code k} (1-based) of the loan to {@code principalOut[firstBucket + k]} and
+   * {@code interestOut[firstBucket + k]}, skipping installments that fall outside the arrays. No
+   * allocation; {@code annuityFactor} is {@link #annuityFactor} for effective loans and ignored for
+   * flat ones.
+   */
+  public static void accumulate(
+      AmortizationMethod method,
+      long principal,
+      long rateBasisPoints,
+      int tenor,
+      long annuityFactor,
+      long[] principalOut,
+      long[] interestOut,
+      int firstBucket) {
+    amortize(
+        method,
+        principal,
+        rateBasisPoints,
+        tenor,
+        annuityFactor,
+        principalOut,
+        interestOut,
+        true,
+        firstBucket);
+  }
+
+  /**
+   * The share of the principal repaid each month by an annuity, {@code r(1+r)^n / ((1+r)^n - 1)},
+   * scaled by {@link #SCALE}. It depends only on the rate and tenor, so a portfolio needs it once
+   * per distinct pair; {@code 1/n} at a zero rate.
+   */
+  public static long annuityFactor(long rateBasisPoints, int tenor) {
+    checkTerms(0, rateBasisPoints, tenor);
+    if (rateBasisPoints == 0) {
+      return mulDiv(SCALE, 1, tenor);
+    }
+    long rate = rateBasisPoints * (SCALE / BASIS_POINTS);
+    long growth = power(SCALE + rate, tenor);
+    return mulDiv(rate, growth, growth - SCALE);
+  }
+
+  /**
+   * {@code a * b / d} rounded half-up, for {@code a, b >= 0} and {@code d > 0}, through a 128-bit
+   * intermediate product.
+   */
+  static long mulDiv(long a, long b, long d) {
+    long high = Math.multiplyHigh(a, b);
+    long low = a * b;
+    if (high == 0 && low >= 0) {
+      long quotient = low / d;
+      long remainder = low % d;
+      return remainder >= d - remainder ? quotient + 1 : quotient;
+    }
+    if (Long.compareUnsigned(high, d) >= 0) {
+      throw new ArithmeticException("long overflow");
+    }
+    // Long division of the 128-bit product, one bit at a time; the remainder stays below d
+    long quotient = 0;
+    long remainder = high;
+    for (int bit = 63; bit >= 0; bit--) {
+      remainder = (remainder << 1) | ((low >>> bit) & 1L);
+      quotient <<= 1;
+      if (Long.compareUnsigned(remainder, d) >= 0) {
+        remainder -= d;
+        quotient |= 1L;
+      }
+    }
+    if (quotient < 0) {
+      throw new ArithmeticException("long overflow");
+    }
+    return remainder >= d - remainder ? Math.addExact(quotient, 1) : quotient;
+  }
+
+  /**
+   * Walks the schedule once. Parts are stored per installment, or with {@code buckets} added into
+   * month buckets offset by {@code firstBucket}.
+   */
+  private static void amortize(
+      AmortizationMethod method,
+      long principal,
+      long rateBasisPoints,
+      int tenor,
+      long annuityFactor,
+      long[] principalOut,
+      long[] interestOut,
+      boolean buckets,
+      int firstBucket) {
+    int first = buckets ? Math.max(1, -firstBucket) : 1;
+    int last = buckets ? Math.min(tenor, principalOut.length - 1 - firstBucket) : tenor;
+    if (method == AmortizationMethod.FLAT) {
+      long interest = mulDiv(principal, rateBasisPoints, BASIS_POINTS);
+      long part = principal / tenor;
+      for (int k = first; k <= last; k++) {
+        long principalPart = k == tenor ? principal - part * (tenor - 1) : part;
+        int slot = buckets ? firstBucket + k : k - 1;
+        principalOut[slot] += principalPart;
+        interestOut[slot] += interest;
+      }
+      return;
+    }
+    // The balance depends on every earlier month, so effective loans always start at month 1
+    long payment = mulDiv(principal, annuityFactor, SCALE);
+    long balance = principal;
+    for (int k = 1; k <= last; k++) {
+      long interest = mulDiv(balance, rateBasisPoints, BASIS_POINTS);
+      long principalPart =
+          k == tenor ? balance : Math.min(balance, Math.max(0, payment - interest));
+      balance -= principalPart;
+      if (k >= first) {
+        int slot = buckets ? firstBucket + k : k - 1;
+        principalOut[slot] += principalPart;
+        interestOut[slot] += interest;
+      }
+    }
+  }
+
+  private static long power(long base, int exponent) {
+    long result = SCALE;
+    long square = base;
+    for (int e = exponent; e > 0; e >>= 1) {
+      if ((e & 1) == 1) {
+        result = mulDiv(result, square, SCALE);
+      }
+      if (e > 1) {
+        square = mulDiv(square, square, SCALE);
+      }
+    }
+    return result;
+  }
+
+  private static void checkTerms(long principal, long rateBasisPoints, int tenor) {
+    if (principal < 0 || rateBasisPoints < 0 || tenor <= 0) {
+      throw new IllegalArgumentException(
+          "Invalid loan terms: principal "
+              + principal
+              + ", rate "
+              + rateBasisPoints
+              + " bp, tenor "
+              + tenor);
+    }
+  }
+}
@@ -0,0 +1,89 @@
+package com.lofi.lofiapps.service.impl.calculator;
+
+import com.lofi.lofiapps.enums.AmortizationMethod;
+import com.lofi.lofiapps.repository.LoanBook;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Scheduled repayments of a whole {@link LoanBook} per calendar month. Loans are split across the
+ * common fork-join pool; each split adds into its own pair of month arrays (principal, interest)
+ * and the pairs are summed when splits join, so the hot loop neither allocates nor synchronizes.
+ */
+public final class CashFlowProjector {
+
+  private CashFlowProjector() {}
+
+  /**
+   * Principal and interest due in each of the {@code months} months from {@code fromMonth} (in
+   * {@link LoanBook} month numbering), as if every installment is paid on schedule.
+   */
+  public static Projection project(
+      LoanBook book, AmortizationMethod method, int fromMonth, int months) {
+    long[] factors = annuityFactors(book, method);
+    long[][] totals =
+        IntStream.range(0, book.size())
+            .parallel()
+            .collect(
+                () -> new long[][] {new long[months], new long[months]},
+                (buckets, i) -> addLoan(book, method, factors, i, fromMonth, months, buckets),
+                CashFlowProjector::add);
+    return new Projection(book.size(), totals[0], totals[1]);
+  }
+
+  private static void addLoan(
+      LoanBook book,
+      AmortizationMethod method,
+      long[] factors,
+      int index,
+      int fromMonth,
+      int months,
+      long[][] buckets) {
+    int firstBucket = book.disbursedMonth(index) - fromMonth;
+    int tenor = book.tenor(index);
+    // Fully repaid before the window, or the first installment is due after it
+    if (firstBucket + tenor < 0 || firstBucket + 1 >= months) {
+      return;
+    }
+    AmortizationEngine.accumulate(
+        method,
+        book.principal(index),
+        book.rateBasisPoints(index),
+        tenor,
+        factors == null ? 0 : factors[index],
+        buckets[0],
+        buckets[1],
+        firstBucket);
+  }
+
+  private static void add(long[][] into, long[][] from) {
+    for (int m = 0; m < into[0].length; m++) {
+      into[0][m] += from[0][m];
+      into[1][m] += from[1][m];
+    }
+  }
+
+  /**
+   * Annuity factors only depend on rate and tenor, of which a portfolio has a handful; they are
+   * computed once per distinct pair. {@code null} for flat loans, which do not use them.
+   */
+  private static long[] annuityFactors(LoanBook book, AmortizationMethod method) {
+    if (method != AmortizationMethod.EFFECTIVE) {
+      return null;
+    }
+    Map<Long, Long> byTerms = new HashMap<>();
+    long[] factors = new long[book.size()];
+    for (int i = 0; i < factors.length; i++) {
+      int rate = book.rateBasisPoints(i);
+      int tenor = book.tenor(i);
+      factors[i] =
+          byTerms.computeIfAbsent(
+              ((long) rate << 32) | tenor, key -> AmortizationEngine.annuityFactor(rate, tenor));
+    }
+    return factors;
+  }
+
+  /** Month {@code m} of the window at index {@code m}, in minor units. */
+  public record Projection(int loans, long[] principal, long[] interest) {}
+}
@@ -0,0 +1,37 @@
+package com.lofi.lofiapps.service.impl.calculator;
+
+import com.lofi.lofiapps.enums.AmortizationMethod;
+
+/**
+ * The principal and interest parts of each installment in minor units, month 1 at index 0. Built by
+ * {@link AmortizationEngine} and shared through the schedule cache, so the arrays are never
+ * modified after construction.
+ */
+public record InstallmentSchedule(
+    AmortizationMethod method, long[] principalParts, long[] interestParts) {
+
+  public int tenor() {
+    return principalParts.length;
+  }
+
+  /** Installment {@code index} (0-based): its principal plus interest. */
+  public long payment(int index) {
+    return principalParts[index] + interestParts[index];
+  }
+
+  public long totalPrincipal() {
+    return sum(principalParts);
+  }
+
+  public long totalInterest() {
+    return sum(interestParts);
+  }
+
+  private static long sum(long[] parts) {
+    long total = 0;
+    for (long part : parts) {
+      total += part;
+    }
+    return total;
+  }
+}
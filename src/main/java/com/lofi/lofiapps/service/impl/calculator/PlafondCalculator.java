@@ -1,10 +1,12 @@
 package com.lofi.lofiapps.service.impl.calculator;
 
+import com.lofi.lofiapps.entity.Loan;
 import com.lofi.lofiapps.entity.Product;
 import com.lofi.lofiapps.entity.User;
 import com.lofi.lofiapps.enums.LoanStatus;
 import com.lofi.lofiapps.repository.LoanRepository;
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.EnumSet;
 import java.util.Set;
 import java.util.UUID;
@@ -42,11 +44,25 @@ public class PlafondCalculator {
       return BigDecimal.ZERO;
     }
 
+    return calculateAvailablePlafond(
+        product, loanRepository.findByCustomerId(user.getId()), excludeLoanId);
+  }
+
+  /**
+   * Same as {@link #calculateAvailablePlafond(User, Product, UUID)} but works on loans the caller
+   * has already loaded (batch transitions fetch every customer's loans in one query).
+   */
+  public BigDecimal calculateAvailablePlafond(
+      Product product, Collection<Loan> customerLoans, UUID excludeLoanId) {
+    if (product == null) {
+      return BigDecimal.ZERO;
+    }
+
     BigDecimal maxPlafond = product.getMaxLoanAmount();
 
     // Calculate total of active/approved loans
     BigDecimal usedPlafond =
-        loanRepository.findByCustomerId(user.getId()).stream()
+        customerLoans.stream()
             .filter(loan -> excludeLoanId == null || !excludeLoanId.equals(loan.getId()))
             .filter(loan -> PLAFOND_CONSUMING_STATUSES.contains(loan.getLoanStatus()))
             .map(loan -> loan.getLoanAmount() != null ? loan.getLoanAmount() : BigDecimal.ZERO)
@@ -3,10 +3,13 @@ package com.lofi.lofiapps.service.impl.factory;
 import com.lofi.lofiapps.entity.ApprovalHistory;
 import com.lofi.lofiapps.entity.Loan;
 import com.lofi.lofiapps.enums.LoanStatus;
+import com.lofi.lofiapps.event.LoanStatusChangedEvent;
 import com.lofi.lofiapps.repository.ApprovalHistoryRepository;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -14,20 +17,44 @@ import org.springframework.stereotype.Component;
 public class ApprovalHistoryFactory {
 
   private final ApprovalHistoryRepository approvalHistoryRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   public ApprovalHistory recordStatusChange(
       UUID loanId, LoanStatus fromStatus, LoanStatus toStatus, String actionBy, String notes) {
-    ApprovalHistory history =
-        ApprovalHistory.builder()
-            .loanId(loanId)
-            .fromStatus(fromStatus)
-            .toStatus(toStatus)
-            .actionBy(actionBy)
-            .notes(notes)
-            .createdAt(LocalDateTime.now())
-            .build();
+    ApprovalHistory saved =
+        approvalHistoryRepository.save(
+            buildStatusChange(loanId, fromStatus, toStatus, actionBy, notes));
+    publish(saved);
+    return saved;
+  }
+
+  /** Builds an unsaved history row so batch callers can persist many with {@link #recordAll}. */
+  public ApprovalHistory buildStatusChange(
+      UUID loanId, LoanStatus fromStatus, LoanStatus toStatus, String actionBy, String notes) {
+    return ApprovalHistory.builder()
+        .loanId(loanId)
+        .fromStatus(fromStatus)
+        .toStatus(toStatus)
+        .actionBy(actionBy)
+        .notes(notes)
+        .createdAt(LocalDateTime.now())
+        .build();
+  }
+
+  public List<ApprovalHistory> recordAll(List<ApprovalHistory> histories) {
+    if (histories.isEmpty()) {
+      return histories;
+    }
+    List<ApprovalHistory> saved = approvalHistoryRepository.saveAll(histories);
+    saved.forEach(this::publish);
+    return saved;
+  }
 
-    return approvalHistoryRepository.save(history);
+  // Every status change goes through here, so listeners (e.g. AI analysis) hook in once
+  private void publish(ApprovalHistory history) {
+    eventPublisher.publishEvent(
+        new LoanStatusChangedEvent(
+            history.getLoanId(), history.getFromStatus(), history.getToStatus()));
   }
 
   public ApprovalHistory recordStatusChange(
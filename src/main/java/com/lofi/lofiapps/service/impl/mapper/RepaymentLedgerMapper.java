@@ -0,0 +1,62 @@
+package com.lofi.lofiapps.service.impl.mapper;
+
+import com.lofi.lofiapps.dto.response.LoanInstallmentResponse;
+import com.lofi.lofiapps.dto.response.LoanPaymentResponse;
+import com.lofi.lofiapps.dto.response.RepaymentLedgerResponse;
+import com.lofi.lofiapps.entity.LoanInstallment;
+import com.lofi.lofiapps.entity.LoanPayment;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RepaymentLedgerMapper {
+
+  public RepaymentLedgerResponse toResponse(
+      UUID loanId, List<LoanInstallment> installments, List<LoanPayment> payments, LocalDate asOf) {
+    BigDecimal totalDue = BigDecimal.ZERO;
+    BigDecimal totalPaid = BigDecimal.ZERO;
+    BigDecimal overdue = BigDecimal.ZERO;
+    for (LoanInstallment installment : installments) {
+      totalDue = totalDue.add(installment.getAmountDue());
+      totalPaid = totalPaid.add(installment.getAmountPaid());
+      if (installment.getPaidAt() == null && installment.getDueDate().isBefore(asOf)) {
+        overdue = overdue.add(installment.outstanding());
+      }
+    }
+    return RepaymentLedgerResponse.builder()
+        .loanId(loanId)
+        .totalDue(totalDue)
+        .totalPaid(totalPaid)
+        .outstanding(totalDue.subtract(totalPaid))
+        .overdueAmount(overdue)
+        .installments(installments.stream().map(this::toResponse).toList())
+        .payments(payments.stream().map(this::toResponse).toList())
+        .build();
+  }
+
+  private LoanInstallmentResponse toResponse(LoanInstallment installment) {
+    return LoanInstallmentResponse.builder()
+        .number(installment.getInstallmentNumber())
+        .dueDate(installment.getDueDate())
+        .principal(installment.getPrincipalAmount())
+        .interest(installment.getInterestAmount())
+        .amountDue(installment.getAmountDue())
+        .amountPaid(installment.getAmountPaid())
+        .paidAt(installment.getPaidAt())
+        .status(installment.getStatus())
+        .daysOverdue(installment.getDaysOverdue())
+        .build();
+  }
+
+  private LoanPaymentResponse toResponse(LoanPayment payment) {
+    return LoanPaymentResponse.builder()
+        .id(payment.getId())
+        .amount(payment.getAmount())
+        .paidAt(payment.getPaidAt())
+        .reference(payment.getReference())
+        .build();
+  }
+}
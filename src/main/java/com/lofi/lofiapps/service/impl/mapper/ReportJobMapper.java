@@ -0,0 +1,45 @@
+package com.lofi.lofiapps.service.impl.mapper;
+
+import com.lofi.lofiapps.dto.response.ReportJobResponse;
+import com.lofi.lofiapps.entity.ReportJob;
+import com.lofi.lofiapps.enums.ReportJobStatus;
+import com.lofi.lofiapps.service.StorageService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ReportJobMapper {
+
+  private final StorageService storageService;
+
+  @Value("${app.report.jobs.download-url-minutes:15}")
+  private long downloadUrlMinutes;
+
+  public ReportJobResponse toResponse(ReportJob job) {
+    if (job == null) {
+      return null;
+    }
+    String downloadUrl =
+        job.getStatus() == ReportJobStatus.SUCCEEDED
+            ? storageService
+                .generatePresignedDownloadUrl(
+                    job.getBucketName(), job.getObjectKey(), downloadUrlMinutes)
+                .toString()
+            : null;
+    return ReportJobResponse.builder()
+        .id(job.getId())
+        .reportType(job.getReportType())
+        .loanId(job.getLoanId())
+        .status(job.getStatus())
+        .fileName(job.getFileName())
+        .contentHash(job.getContentHash())
+        .sizeBytes(job.getSizeBytes())
+        .downloadUrl(downloadUrl)
+        .errorMessage(job.getErrorMessage())
+        .queuedAt(job.getQueuedAt())
+        .completedAt(job.getCompletedAt())
+        .build();
+  }
+}
@@ -0,0 +1,4 @@
+package com.lofi.lofiapps.service.impl.usecase.ai;
+
+/** Raw model output plus the token usage the provider reported for it. */
+public record AiCompletion(String content, long promptTokens, long completionTokens) {}
@@ -0,0 +1,218 @@
+package com.lofi.lofiapps.service.impl.usecase.ai;
+
+import com.lofi.lofiapps.enums.AiPromptType;
+import com.lofi.lofiapps.service.AiModelClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * The only {@link AiModelClient}. In front of the configured {@link AiModelTransport} it:
+ *
+ * <ul>
+ *   <li>renders the pre-compiled template for the prompt type,
+ *   <li>serves repeats from a Redis cache keyed by the hash of the normalized prompt,
+ *   <li>coalesces identical in-flight prompts so only one call reaches the model,
+ *   <li>caps concurrent model calls per prompt type, with a bounded wait queue,
+ *   <li>records latency, token usage and outcome per prompt type.
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiModelGateway implements AiModelClient {
+
+  private static final String CACHE_KEY_PREFIX = "ai:response:";
+  // AI responses must not outlive 10 minutes in Redis
+  private static final Duration MAX_CACHE_TTL = Duration.ofMinutes(10);
+
+  private final AiPromptTemplates promptTemplates;
+  private final AiModelTransport transport;
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${app.ai.gateway.cache-ttl-minutes:10}")
+  private long cacheTtlMinutes = 10;
+
+  @Value("${app.ai.gateway.max-concurrency-per-prompt:4}")
+  private int maxConcurrency = 4;
+
+  @Value("${app.ai.gateway.max-queued-per-prompt:16}")
+  private int maxQueued = 16;
+
+  @Value("${app.ai.gateway.queue-timeout-ms:10000}")
+  private long queueTimeoutMs = 10_000;
+
+  private final ConcurrentMap<String, CompletableFuture<String>> inFlight =
+      new ConcurrentHashMap<>();
+  private final ConcurrentMap<AiPromptType, PromptLimiter> limiters = new ConcurrentHashMap<>();
+
+  @Override
+  public String complete(AiPromptType promptType, Map<String, String> variables) {
+    String prompt = promptTemplates.render(promptType, variables);
+    String key = promptHash(promptType, prompt);
+
+    String cached = cacheGet(key);
+    if (cached != null) {
+      count(promptType, "cache_hit");
+      return cached;
+    }
+
+    CompletableFuture<String> mine = new CompletableFuture<>();
+    CompletableFuture<String> leader = inFlight.putIfAbsent(key, mine);
+    if (leader != null) {
+      count(promptType, "coalesced");
+      return await(leader);
+    }
+
+    try {
+      // A leader that finished between our cache miss and putIfAbsent has cached its answer
+      String raced = cacheGet(key);
+      if (raced != null) {
+        count(promptType, "cache_hit");
+        mine.complete(raced);
+        return raced;
+      }
+      String content = call(promptType, prompt);
+      cachePut(key, content);
+      mine.complete(content);
+      return content;
+    } catch (RuntimeException e) {
+      mine.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, mine);
+    }
+  }
+
+  private String call(AiPromptType promptType, String prompt) {
+    PromptLimiter limiter =
+        limiters.computeIfAbsent(promptType, t -> new PromptLimiter(maxConcurrency, maxQueued));
+    if (!limiter.acquire(queueTimeoutMs)) {
+      count(promptType, "rejected");
+      throw new IllegalStateException("AI gateway is saturated for prompt " + promptType);
+    }
+
+    Timer.Sample sample = Timer.start(meterRegistry);
+    try {
+      AiCompletion completion = transport.send(promptType, prompt);
+      sample.stop(meterRegistry.timer("ai.gateway.latency", "prompt", promptType.name()));
+      meterRegistry
+          .counter("ai.gateway.tokens", "prompt", promptType.name(), "kind", "prompt")
+          .increment(completion.promptTokens());
+      meterRegistry
+          .counter("ai.gateway.tokens", "prompt", promptType.name(), "kind", "completion")
+          .increment(completion.completionTokens());
+      count(promptType, "model");
+      return completion.content();
+    } catch (RuntimeException e) {
+      count(promptType, "error");
+      throw e;
+    } finally {
+      limiter.release();
+    }
+  }
+
+  private String await(CompletableFuture<String> leader) {
+    try {
+      return leader.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private String cacheGet(String key) {
+    try {
+      Object value = redisTemplate.opsForValue().get(CACHE_KEY_PREFIX + key);
+      return value instanceof String content ? content : null;
+    } catch (RuntimeException e) {
+      log.warn("AI response cache read failed: {}", e.getMessage());
+      return null;
+    }
+  }
+
+  private void cachePut(String key, String content) {
+    Duration ttl = Duration.ofMinutes(cacheTtlMinutes);
+    if (ttl.compareTo(MAX_CACHE_TTL) > 0) {
+      ttl = MAX_CACHE_TTL;
+    }
+    try {
+      redisTemplate.opsForValue().set(CACHE_KEY_PREFIX + key, content, ttl);
+    } catch (RuntimeException e) {
+      log.warn("AI response cache write failed: {}", e.getMessage());
+    }
+  }
+
+  private void count(AiPromptType promptType, String outcome) {
+    meterRegistry
+        .counter("ai.gateway.requests", "prompt", promptType.name(), "outcome", outcome)
+        .increment();
+  }
+
+  /** Whitespace-insensitive so re-indented templates or padded values share cache entries. */
+  static String promptHash(AiPromptType promptType, String prompt) {
+    String normalized = prompt.strip().replaceAll("\\s+", " ");
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      digest.update(promptType.name().getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) 0);
+      return HexFormat.of().formatHex(digest.digest(normalized.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  /** Semaphore for running calls plus a cap on callers allowed to wait for a permit. */
+  static final class PromptLimiter {
+    private final Semaphore permits;
+    private final int maxQueued;
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    PromptLimiter(int maxConcurrency, int maxQueued) {
+      this.permits = new Semaphore(maxConcurrency, true);
+      this.maxQueued = maxQueued;
+    }
+
+    boolean acquire(long timeoutMs) {
+      if (permits.tryAcquire()) {
+        return true;
+      }
+      if (waiting.incrementAndGet() > maxQueued) {
+        waiting.decrementAndGet();
+        return false;
+      }
+      try {
+        return permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      } finally {
+        waiting.decrementAndGet();
+      }
+    }
+
+    void release() {
+      permits.release();
+    }
+  }
+}
@@ -0,0 +1,12 @@
+package com.lofi.lofiapps.service.impl.usecase.ai;
+
+import com.lofi.lofiapps.enums.AiPromptType;
+
+/**
+ * Wire-level call to a model provider. Only {@link AiModelGateway} talks to a transport; everything
+ * else goes through {@link com.lofi.lofiapps.service.AiModelClient}.
+ */
+public interface AiModelTransport {
+
+  AiCompletion send(AiPromptType promptType, String prompt);
+}
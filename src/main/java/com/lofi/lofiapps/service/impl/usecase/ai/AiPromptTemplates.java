@@ -0,0 +1,78 @@
+package com.lofi.lofiapps.service.impl.usecase.ai;
+
+import com.lofi.lofiapps.enums.AiPromptType;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Prompt templates from {@code resources/ai/prompts}, read and split into literal and placeholder
+ * segments once at startup so rendering is a single pass with no regex or I/O.
+ */
+@Component
+public class AiPromptTemplates {
+
+  private static final String PROMPT_DIR = "ai/prompts/";
+  private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{\\s*([a-z_]+)\\s*}}");
+  private static final String MISSING_VALUE = "(not provided)";
+
+  private final Map<AiPromptType, CompiledTemplate> templates = new EnumMap<>(AiPromptType.class);
+
+  @PostConstruct
+  void load() {
+    for (AiPromptType type : AiPromptType.values()) {
+      templates.put(type, compile(read(type)));
+    }
+  }
+
+  public String render(AiPromptType type, Map<String, String> variables) {
+    CompiledTemplate template = templates.get(type);
+    if (template == null) {
+      throw new IllegalStateException("Prompt template not loaded: " + type);
+    }
+    StringBuilder sb = new StringBuilder(template.sizeHint());
+    for (int i = 0; i < template.literals().size(); i++) {
+      sb.append(template.literals().get(i));
+      if (i < template.variables().size()) {
+        String value = variables.get(template.variables().get(i));
+        sb.append(value != null ? value : MISSING_VALUE);
+      }
+    }
+    return sb.toString();
+  }
+
+  private String read(AiPromptType type) {
+    ClassPathResource resource = new ClassPathResource(PROMPT_DIR + type.getTemplateFile());
+    try (InputStream in = resource.getInputStream()) {
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new IllegalStateException("Cannot load prompt template " + type.getTemplateFile(), e);
+    }
+  }
+
+  static CompiledTemplate compile(String source) {
+    List<String> literals = new ArrayList<>();
+    List<String> variables = new ArrayList<>();
+    Matcher matcher = PLACEHOLDER.matcher(source);
+    int last = 0;
+    while (matcher.find()) {
+      literals.add(source.substring(last, matcher.start()));
+      variables.add(matcher.group(1));
+      last = matcher.end();
+    }
+    literals.add(source.substring(last));
+    return new CompiledTemplate(List.copyOf(literals), List.copyOf(variables), source.length());
+  }
+
+  /** {@code literals} has exactly one more element than {@code variables}. */
+  record CompiledTemplate(List<String> literals, List<String> variables, int sizeHint) {}
+}
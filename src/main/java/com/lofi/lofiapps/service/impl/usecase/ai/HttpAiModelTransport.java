@@ -0,0 +1,83 @@
+package com.lofi.lofiapps.service.impl.usecase.ai;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.lofi.lofiapps.enums.AiPromptType;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+/** OpenAI-compatible chat-completions transport ({@code app.ai.client=http}). */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.ai.client", havingValue = "http")
+public class HttpAiModelTransport implements AiModelTransport {
+
+  private final RestClient restClient;
+  private final String model;
+
+  public HttpAiModelTransport(
+      RestClient.Builder restClientBuilder,
+      @Value("${app.ai.http.base-url}") String baseUrl,
+      @Value("${app.ai.http.api-key:}") String apiKey,
+      @Value("${app.ai.http.model}") String model,
+      @Value("${app.ai.http.timeout-ms:30000}") long timeoutMs) {
+    HttpClient httpClient =
+        HttpClient.newBuilder().connectTimeout(Duration.ofMillis(timeoutMs)).build();
+    JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+    requestFactory.setReadTimeout(Duration.ofMillis(timeoutMs));
+
+    RestClient.Builder builder =
+        restClientBuilder
+            .baseUrl(baseUrl)
+            .requestFactory(requestFactory)
+            .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+    if (!apiKey.isBlank()) {
+      builder.defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey);
+    }
+    this.restClient = builder.build();
+    this.model = model;
+  }
+
+  @Override
+  public AiCompletion send(AiPromptType promptType, String prompt) {
+    Map<String, Object> body =
+        Map.of(
+            "model",
+            model,
+            "temperature",
+            0,
+            "response_format",
+            Map.of("type", "json_object"),
+            "messages",
+            List.of(Map.of("role", "user", "content", prompt)));
+
+    JsonNode response;
+    try {
+      response =
+          restClient.post().uri("/v1/chat/completions").body(body).retrieve().body(JsonNode.class);
+    } catch (RestClientException e) {
+      throw new IllegalStateException("Model call failed for " + promptType, e);
+    }
+    if (response == null) {
+      throw new IllegalStateException("Model returned an empty response for " + promptType);
+    }
+
+    String content = response.path("choices").path(0).path("message").path("content").asText("");
+    if (content.isBlank()) {
+      throw new IllegalStateException("Model returned no content for " + promptType);
+    }
+    JsonNode usage = response.path("usage");
+    return new AiCompletion(
+        content, usage.path("prompt_tokens").asLong(0), usage.path("completion_tokens").asLong(0));
+  }
+}
@@ -0,0 +1,63 @@
+package com.lofi.lofiapps.service.impl.usecase.ai;
+
+import com.lofi.lofiapps.entity.Loan;
+import com.lofi.lofiapps.entity.Product;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import org.springframework.stereotype.Component;
+
+/**
+ * Renders the {@code {{loan_context}}} block sent to the analysis prompts and its content hash.
+ *
+ * <p>Only underwriting-relevant fields go in. Identity data, contact details, NPWP and bank account
+ * numbers are never part of the context, per the AI data rules.
+ */
+@Component
+public class LoanAnalysisContextFactory {
+
+  public String render(Loan loan) {
+    Product product = loan.getProduct();
+    StringBuilder sb = new StringBuilder();
+    line(sb, "Product", product != null ? product.getProductCode() : null);
+    line(sb, "Loan amount", loan.getLoanAmount());
+    line(sb, "Tenor (months)", loan.getTenor());
+    line(sb, "Interest rate (%)", loan.getInterestRate());
+    line(sb, "Admin fee", loan.getAdminFee());
+    line(sb, "Down payment", loan.getDownPayment());
+    line(sb, "Loan status", loan.getLoanStatus());
+    line(sb, "Current stage", loan.getCurrentStage());
+    line(sb, "Job type", loan.getJobType());
+    line(sb, "Job position", loan.getJobPosition());
+    line(sb, "Work duration (months)", loan.getWorkDurationMonths());
+    line(sb, "Declared monthly income", loan.getDeclaredIncome());
+    line(sb, "Additional income", loan.getAdditionalIncome());
+    line(sb, "Has NPWP", loan.getNpwpNumber() != null && !loan.getNpwpNumber().isBlank());
+    line(sb, "Purpose", loan.getPurpose());
+    return sb.toString();
+  }
+
+  /** Hex SHA-256 of a rendered context; the storage key for its analysis results. */
+  public String hash(String context) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(context.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  private void line(StringBuilder sb, String label, Object value) {
+    if (value == null) {
+      return;
+    }
+    // Normalise decimals so 5000000.00 and 5000000 hash the same
+    String text =
+        value instanceof BigDecimal decimal
+            ? decimal.stripTrailingZeros().toPlainString()
+            : value.toString();
+    sb.append("- ").append(label).append(": ").append(text.strip()).append('\n');
+  }
+}
@@ -0,0 +1,130 @@
+package com.lofi.lofiapps.service.impl.usecase.ai;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lofi.lofiapps.entity.Loan;
+import com.lofi.lofiapps.entity.LoanAnalysis;
+import com.lofi.lofiapps.enums.AiPromptType;
+import com.lofi.lofiapps.enums.LoanStatus;
+import com.lofi.lofiapps.event.LoanStatusChangedEvent;
+import com.lofi.lofiapps.repository.LoanAnalysisRepository;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Front door of the AI loan analysis. Reads only ever look up stored results by content hash and
+ * never call the model; a miss schedules the loan on {@link LoanAnalysisWorker} and the caller
+ * renders a "pending" marker. A discarded result also renders as pending but is not scheduled
+ * again. Loans are also scheduled after every committed status change.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoanAnalysisPipeline {
+
+  public static final List<AiPromptType> LOAN_ANALYSES =
+      List.of(
+          AiPromptType.LOAN_ANALYZER,
+          AiPromptType.MARKETING_REVIEW,
+          AiPromptType.BACK_OFFICE_RISK,
+          AiPromptType.BRANCH_MANAGER_SUPPORT);
+
+  private static final Set<LoanStatus> FINAL_STATUSES =
+      EnumSet.of(LoanStatus.REJECTED, LoanStatus.CANCELLED, LoanStatus.COMPLETED);
+
+  private final LoanAnalysisRepository loanAnalysisRepository;
+  private final LoanAnalysisContextFactory contextFactory;
+  private final LoanAnalysisWorker loanAnalysisWorker;
+  private final ObjectMapper objectMapper;
+
+  // Loans queued or running, so repeated reads of a pending row don't pile up work
+  private final Set<UUID> inFlight = ConcurrentHashMap.newKeySet();
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onLoanStatusChanged(LoanStatusChangedEvent event) {
+    if (event.toStatus() != null && !FINAL_STATUSES.contains(event.toStatus())) {
+      request(event.loanId());
+    }
+  }
+
+  /** Stored result for the loan's current data, or empty (and analysis scheduled) if none. */
+  public <T> Optional<T> find(Loan loan, AiPromptType promptType, Class<T> responseType) {
+    String contextHash = contextFactory.hash(contextFactory.render(loan));
+    Optional<LoanAnalysis> stored =
+        loanAnalysisRepository.findByAnalysisTypeAndContextHash(promptType, contextHash);
+    if (stored.isEmpty()) {
+      request(loan.getId());
+    }
+    return stored
+        .filter(analysis -> !analysis.isDiscarded())
+        .map(analysis -> read(analysis, responseType));
+  }
+
+  /** Batch form of {@link #find} for listings: one lookup query for the whole page. */
+  public <T> Map<UUID, T> findAll(
+      Collection<Loan> loans, AiPromptType promptType, Class<T> responseType) {
+    if (loans.isEmpty()) {
+      return Map.of();
+    }
+    Map<UUID, String> hashByLoan = new LinkedHashMap<>();
+    loans.forEach(
+        loan -> hashByLoan.put(loan.getId(), contextFactory.hash(contextFactory.render(loan))));
+
+    Map<String, LoanAnalysis> byHash =
+        loanAnalysisRepository
+            .findByAnalysisTypeAndContextHashIn(promptType, Set.copyOf(hashByLoan.values()))
+            .stream()
+            .collect(
+                Collectors.toMap(LoanAnalysis::getContextHash, Function.identity(), (a, b) -> a));
+
+    Map<UUID, T> results = new HashMap<>();
+    hashByLoan.forEach(
+        (loanId, hash) -> {
+          LoanAnalysis analysis = byHash.get(hash);
+          if (analysis == null) {
+            request(loanId);
+          } else if (!analysis.isDiscarded()) {
+            results.put(loanId, read(analysis, responseType));
+          }
+        });
+    return results;
+  }
+
+  /** Schedules analysis of a loan unless it is already queued. Never blocks the caller. */
+  public void request(UUID loanId) {
+    if (!inFlight.add(loanId)) {
+      return;
+    }
+    try {
+      loanAnalysisWorker
+          .analyze(loanId, LOAN_ANALYSES)
+          .whenComplete((ignored, error) -> inFlight.remove(loanId));
+    } catch (RejectedExecutionException e) {
+      inFlight.remove(loanId);
+      log.warn("Analysis queue full, loan {} stays pending until its next read", loanId);
+    }
+  }
+
+  private <T> T read(LoanAnalysis analysis, Class<T> responseType) {
+    try {
+      return objectMapper.readValue(analysis.getResultJson(), responseType);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Stored analysis " + analysis.getId() + " is unreadable", e);
+    }
+  }
+}
@@ -0,0 +1,147 @@
+package com.lofi.lofiapps.service.impl.usecase.ai;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lofi.lofiapps.entity.LoanAnalysis;
+import com.lofi.lofiapps.enums.AiPromptType;
+import com.lofi.lofiapps.repository.LoanAnalysisRepository;
+import com.lofi.lofiapps.repository.LoanRepository;
+import com.lofi.lofiapps.service.AiModelClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/** Runs the analysis prompts for one loan on the bounded {@code analysisExecutor} pool. */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoanAnalysisWorker {
+
+  private static final List<String> FORBIDDEN_KEYWORDS =
+      List.of("APPROVE_NOW", "AUTO_DISBURSE", "BYPASS");
+
+  private final LoanRepository loanRepository;
+  private final LoanAnalysisRepository loanAnalysisRepository;
+  private final LoanAnalysisContextFactory contextFactory;
+  private final AiModelClient aiModelClient;
+  private final ObjectMapper objectMapper;
+  private final TransactionTemplate transactionTemplate;
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * Results below this confidence, or without one, are discarded; the loan stays pending until its
+   * analyzed fields change.
+   */
+  @Value("${app.ai.analysis.min-confidence:0.6}")
+  private double minConfidence = 0.6;
+
+  @Async("analysisExecutor")
+  public CompletableFuture<Void> analyze(UUID loanId, List<AiPromptType> promptTypes) {
+    String context =
+        transactionTemplate.execute(
+            status -> loanRepository.findById(loanId).map(contextFactory::render).orElse(null));
+    if (context == null) {
+      log.debug("Loan {} no longer exists, skipping analysis", loanId);
+      return CompletableFuture.completedFuture(null);
+    }
+
+    String contextHash = contextFactory.hash(context);
+    for (AiPromptType promptType : promptTypes) {
+      if (loanAnalysisRepository.existsByAnalysisTypeAndContextHash(promptType, contextHash)) {
+        continue;
+      }
+      try {
+        String output = aiModelClient.complete(promptType, Map.of("loan_context", context));
+        store(promptType, contextHash, output);
+      } catch (RuntimeException e) {
+        // Reads keep showing "pending"; the next read or status change retries
+        log.warn("{} analysis failed for loan {}: {}", promptType, loanId, e.getMessage());
+      }
+    }
+    return CompletableFuture.completedFuture(null);
+  }
+
+  private void store(AiPromptType promptType, String contextHash, String output) {
+    String upper = output.toUpperCase(Locale.ROOT);
+    if (FORBIDDEN_KEYWORDS.stream().anyMatch(upper::contains)) {
+      log.warn("Discarding {} output containing a forbidden keyword", promptType);
+      discard(promptType, contextHash, output, null, "forbidden_keyword");
+      return;
+    }
+
+    JsonNode json;
+    try {
+      json = objectMapper.readTree(output);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Model returned invalid JSON", e);
+    }
+    if (!json.isObject()) {
+      throw new IllegalStateException("Model returned a non-object JSON value");
+    }
+
+    JsonNode confidence = json.path("confidence");
+    if (!confidence.isNumber() || confidence.asDouble() < minConfidence) {
+      log.info(
+          "Discarding {} output with confidence {} below {}",
+          promptType,
+          confidence.isNumber() ? confidence.asDouble() : "none",
+          minConfidence);
+      discard(
+          promptType,
+          contextHash,
+          json.toString(),
+          confidence.isNumber() ? confidence.asDouble() : null,
+          "low_confidence");
+      return;
+    }
+
+    save(promptType, contextHash, json.toString(), confidence.asDouble(), null);
+  }
+
+  /** Records the rejected output under the context hash, which stops re-analysis of the context. */
+  private void discard(
+      AiPromptType promptType,
+      String contextHash,
+      String output,
+      Double confidence,
+      String reason) {
+    meterRegistry
+        .counter("lofi.ai.analysis.discarded", "prompt", promptType.name(), "reason", reason)
+        .increment();
+    save(promptType, contextHash, output, confidence, reason);
+  }
+
+  private void save(
+      AiPromptType promptType,
+      String contextHash,
+      String resultJson,
+      Double confidence,
+      String discardReason) {
+    try {
+      loanAnalysisRepository.save(
+          LoanAnalysis.builder()
+              .analysisType(promptType)
+              .contextHash(contextHash)
+              .resultJson(resultJson)
+              .confidence(confidence)
+              .discardReason(discardReason)
+              .completedAt(LocalDateTime.now())
+              .build());
+    } catch (DataIntegrityViolationException e) {
+      // Another worker stored the same content-addressed result first
+      log.debug("{} analysis for {} already stored", promptType, contextHash);
+    }
+  }
+}
@@ -0,0 +1,118 @@
+package com.lofi.lofiapps.service.impl.usecase.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.lofi.lofiapps.entity.AuditLogArchive;
+import com.lofi.lofiapps.repository.AuditLogArchiveRepository;
+import com.lofi.lofiapps.repository.AuditLogRepository;
+import com.lofi.lofiapps.service.StorageService;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Moves one closed month of {@code audit_logs} to object storage: the rows are streamed newest
+ * first into a gzip NDJSON temp file, uploaded, checked against storage and the live row count, and
+ * only then is the manifest row written and the month's partition truncated, all in one
+ * transaction.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArchiveAuditMonthUseCase {
+
+  static final String CONTENT_TYPE = "application/gzip";
+
+  private final AuditLogRepository auditLogRepository;
+  private final AuditLogArchiveRepository auditLogArchiveRepository;
+  private final StorageService storageService;
+  private final ObjectMapper objectMapper;
+
+  @Value("${app.audit.archive.bucket-name:${app.storage.bucket-name:lofi-bucket}}")
+  private String bucketName;
+
+  @Value("${app.audit.archive.prefix:audit-archive}")
+  private String prefix;
+
+  /** Returns the manifest row, or {@code null} when the month had nothing to archive. */
+  @Transactional
+  public AuditLogArchive execute(YearMonth month) throws IOException {
+    Path file = Files.createTempFile("audit_logs-" + month + "-", ".ndjson.gz");
+    try {
+      long rows = export(month, file);
+      if (rows == 0) {
+        return null;
+      }
+
+      String objectKey = objectKey(month);
+      long size = Files.size(file);
+      storageService.uploadFileAsync(bucketName, objectKey, file, CONTENT_TYPE).join();
+      long stored = storageService.statObject(bucketName, objectKey).contentLength();
+      if (stored != size) {
+        throw new IllegalStateException(
+            "Archive " + objectKey + " is " + stored + " bytes in storage, expected " + size);
+      }
+
+      // Rows that arrived after the export (clock skew on a writer) would be lost by the truncate
+      long live = auditLogRepository.countMonth(month);
+      if (live != rows) {
+        throw new IllegalStateException(
+            "audit_logs " + month + " has " + live + " rows, exported " + rows);
+      }
+
+      AuditLogArchive archive =
+          auditLogArchiveRepository.save(
+              AuditLogArchive.builder()
+                  .month(month.atDay(1))
+                  .bucketName(bucketName)
+                  .objectKey(objectKey)
+                  .rowCount(rows)
+                  .sizeBytes(size)
+                  .build());
+      auditLogRepository.truncateMonth(month);
+      log.info("Archived {} audit_logs rows for {} to {} ({} bytes)", rows, month, objectKey, size);
+      return archive;
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  private long export(YearMonth month, Path file) throws IOException {
+    AtomicLong rows = new AtomicLong();
+    try (OutputStream out =
+            new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(file)), 65536);
+        SequenceWriter writer =
+            objectMapper.writer().withRootValueSeparator("\n").writeValues(out)) {
+      auditLogRepository.streamMonth(
+          month,
+          record -> {
+            try {
+              writer.write(record);
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+            rows.incrementAndGet();
+          });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    return rows.get();
+  }
+
+  String objectKey(YearMonth month) {
+    return String.format(
+        "%s/audit_logs/%04d/%02d/audit_logs-%s.ndjson.gz",
+        prefix, month.getYear(), month.getMonthValue(), month);
+  }
+}
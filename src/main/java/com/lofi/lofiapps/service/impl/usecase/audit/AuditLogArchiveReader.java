@@ -0,0 +1,88 @@
+package com.lofi.lofiapps.service.impl.usecase.audit;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lofi.lofiapps.entity.AuditLogArchive;
+import com.lofi.lofiapps.repository.AuditLogRecord;
+import com.lofi.lofiapps.service.StorageService;
+import com.lofi.lofiapps.service.StoredObject;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads an archived month back from storage, decompressing on the fly. Rows are stored newest
+ * first, so a page is a skip and a limit over the rows inside the requested range; nothing beyond
+ * the page is decoded.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuditLogArchiveReader {
+
+  private final StorageService storageService;
+  private final ObjectMapper objectMapper;
+
+  /** Rows of the archive with {@code from <= createdAt < to}; either bound may be null. */
+  public long count(AuditLogArchive archive, LocalDateTime from, LocalDateTime to) {
+    long count = 0;
+    try (StoredObject object = open(archive);
+        MappingIterator<AuditLogRecord> rows = rows(object)) {
+      while (rows.hasNextValue()) {
+        if (inRange(rows.nextValue(), from, to)) {
+          count++;
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read " + archive.getObjectKey(), e);
+    }
+    return count;
+  }
+
+  /** Up to {@code limit} rows in range, newest first, after skipping the first {@code skip}. */
+  public List<AuditLogRecord> read(
+      AuditLogArchive archive, LocalDateTime from, LocalDateTime to, long skip, int limit) {
+    List<AuditLogRecord> page = new ArrayList<>(limit);
+    try (StoredObject object = open(archive);
+        MappingIterator<AuditLogRecord> rows = rows(object)) {
+      long skipped = 0;
+      while (page.size() < limit && rows.hasNextValue()) {
+        AuditLogRecord row = rows.nextValue();
+        if (to != null && !row.createdAt().isBefore(to)) {
+          continue;
+        }
+        if (from != null && row.createdAt().isBefore(from)) {
+          break;
+        }
+        if (skipped < skip) {
+          skipped++;
+        } else {
+          page.add(row);
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read " + archive.getObjectKey(), e);
+    }
+    return page;
+  }
+
+  private StoredObject open(AuditLogArchive archive) {
+    return storageService.openObject(archive.getBucketName(), archive.getObjectKey(), null);
+  }
+
+  private MappingIterator<AuditLogRecord> rows(StoredObject object) throws IOException {
+    return objectMapper
+        .readerFor(AuditLogRecord.class)
+        .readValues(new GZIPInputStream(new BufferedInputStream(object.content()), 65536));
+  }
+
+  private static boolean inRange(AuditLogRecord row, LocalDateTime from, LocalDateTime to) {
+    return (from == null || !row.createdAt().isBefore(from))
+        && (to == null || row.createdAt().isBefore(to));
+  }
+}
@@ -0,0 +1,177 @@
+package com.lofi.lofiapps.service.impl.usecase.audit;
+
+import com.lofi.lofiapps.entity.AuditLogArchive;
+import com.lofi.lofiapps.repository.AuditLogArchiveRepository;
+import com.lofi.lofiapps.repository.AuditLogRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.concurrent.locks.Lock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.integration.redis.util.RedisLockRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps {@code audit_logs} partitioned by month and moves months older than the hot window to
+ * object storage, oldest first. One instance does the work at a time; the others find the lock
+ * taken and skip the run. A failed month stops the run and is retried by the next one, as does a
+ * run that used up its time budget.
+ *
+ * <p>Converting the table to the partitioned layout rebuilds its clustered index, so it is never
+ * done on startup: an admin triggers {@link #partition()} once, and until then runs archive
+ * nothing.
+ */
+@Slf4j
+@Component
+public class AuditLogArchiver {
+
+  static final String LOCK_KEY = "lock:audit-log-archive";
+
+  private final AuditLogRepository auditLogRepository;
+  private final AuditLogArchiveRepository auditLogArchiveRepository;
+  private final ArchiveAuditMonthUseCase archiveAuditMonthUseCase;
+  private final RedisLockRegistry batchLockRegistry;
+  private final MeterRegistry meterRegistry;
+  private final Clock clock;
+
+  @Value("${app.audit.archive.enabled:true}")
+  private boolean enabled;
+
+  /** The current month plus this many before it stay in the table. */
+  @Value("${app.audit.archive.hot-months:3}")
+  private int hotMonths;
+
+  @Value("${app.audit.archive.months-ahead:3}")
+  private int monthsAhead;
+
+  /** No new month is started after this; must stay below the batch lock expiry. */
+  @Value("${app.audit.archive.max-run-minutes:60}")
+  private long maxRunMinutes;
+
+  @Autowired
+  public AuditLogArchiver(
+      AuditLogRepository auditLogRepository,
+      AuditLogArchiveRepository auditLogArchiveRepository,
+      ArchiveAuditMonthUseCase archiveAuditMonthUseCase,
+      @Qualifier("batchLockRegistry") RedisLockRegistry batchLockRegistry,
+      MeterRegistry meterRegistry) {
+    this(
+        auditLogRepository,
+        auditLogArchiveRepository,
+        archiveAuditMonthUseCase,
+        batchLockRegistry,
+        meterRegistry,
+        Clock.systemDefaultZone());
+  }
+
+  AuditLogArchiver(
+      AuditLogRepository auditLogRepository,
+      AuditLogArchiveRepository auditLogArchiveRepository,
+      ArchiveAuditMonthUseCase archiveAuditMonthUseCase,
+      RedisLockRegistry batchLockRegistry,
+      MeterRegistry meterRegistry,
+      Clock clock) {
+    this.auditLogRepository = auditLogRepository;
+    this.auditLogArchiveRepository = auditLogArchiveRepository;
+    this.archiveAuditMonthUseCase = archiveAuditMonthUseCase;
+    this.batchLockRegistry = batchLockRegistry;
+    this.meterRegistry = meterRegistry;
+    this.clock = clock;
+  }
+
+  /**
+   * Converts {@code audit_logs} to the monthly layout, or adds missing boundaries when it already
+   * is. Runs on the caller's thread for as long as the index rebuild takes.
+   *
+   * @return whether the table was converted by this call
+   */
+  public boolean partition() {
+    Lock lock = batchLockRegistry.obtain(LOCK_KEY);
+    if (!lock.tryLock()) {
+      throw new IllegalStateException("Audit log maintenance is already running");
+    }
+    try {
+      YearMonth through = YearMonth.now(clock).plusMonths(monthsAhead);
+      boolean converted = auditLogRepository.ensurePartitioned(through);
+      if (!converted) {
+        auditLogRepository.ensureBoundaries(through);
+      }
+      return converted;
+    } finally {
+      unlock(lock);
+    }
+  }
+
+  @Scheduled(cron = "${app.audit.archive.cron:0 30 2 * * *}")
+  public void archiveClosedMonths() {
+    if (enabled) {
+      withLock(this::archive);
+    }
+  }
+
+  private void archive() {
+    if (!auditLogRepository.isPartitioned()) {
+      log.warn("audit_logs is not partitioned yet; an admin has to run the conversion first");
+      return;
+    }
+    Instant deadline = clock.instant().plus(Duration.ofMinutes(maxRunMinutes));
+    auditLogRepository.ensureBoundaries(YearMonth.now(clock).plusMonths(monthsAhead));
+    YearMonth oldestHot = YearMonth.now(clock).minusMonths(hotMonths);
+    for (YearMonth month : auditLogRepository.monthsWithRows().headMap(oldestHot).keySet()) {
+      if (!clock.instant().isBefore(deadline)) {
+        log.info("Audit log archiving stopped before {}; the next run continues", month);
+        return;
+      }
+      if (auditLogArchiveRepository.existsByMonth(month.atDay(1))) {
+        // Only a writer with a badly skewed clock can add rows to an archived month
+        log.warn("audit_logs {} is already archived but has rows again; leaving them", month);
+        continue;
+      }
+      try {
+        AuditLogArchive archive = archiveAuditMonthUseCase.execute(month);
+        if (archive != null) {
+          meterRegistry.counter("lofi.audit.archive.rows").increment(archive.getRowCount());
+          meterRegistry.counter("lofi.audit.archive.bytes").increment(archive.getSizeBytes());
+        }
+        auditLogRepository.mergeBoundary(month);
+      } catch (Exception e) {
+        meterRegistry.counter("lofi.audit.archive.failures").increment();
+        log.error("Archiving audit_logs {} failed", month, e);
+        return;
+      }
+    }
+  }
+
+  private void withLock(Runnable task) {
+    Lock lock = batchLockRegistry.obtain(LOCK_KEY);
+    boolean locked = false;
+    try {
+      locked = lock.tryLock();
+      if (!locked) {
+        log.debug("Audit log archiving is running elsewhere, skipping");
+        return;
+      }
+      task.run();
+    } catch (RuntimeException e) {
+      log.error("Audit log archiving failed", e);
+    } finally {
+      if (locked) {
+        unlock(lock);
+      }
+    }
+  }
+
+  private void unlock(Lock lock) {
+    try {
+      lock.unlock();
+    } catch (Exception e) {
+      log.warn("Failed to unlock {}", LOCK_KEY, e);
+    }
+  }
+}
@@ -3,28 +3,140 @@ package com.lofi.lofiapps.service.impl.usecase.audit;
 import com.lofi.lofiapps.dto.response.AuditLogResponse;
 import com.lofi.lofiapps.dto.response.PagedResponse;
 import com.lofi.lofiapps.entity.AuditLog;
+import com.lofi.lofiapps.entity.AuditLogArchive;
+import com.lofi.lofiapps.repository.AuditLogArchiveRepository;
+import com.lofi.lofiapps.repository.AuditLogRecord;
 import com.lofi.lofiapps.repository.AuditLogRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+/**
+ * Lists audit logs in {@code [from, to)} across the table and the cold archive. Archived months are
+ * all older than anything still in the table, so newest-first paging reads the table and then the
+ * archived months in order, skipping whole months by their manifest row count. Any other sort only
+ * covers the table.
+ */
 @Component
 @RequiredArgsConstructor
 public class GetAuditLogsUseCase {
 
+  private static final String CREATED_AT = "createdAt";
+  // id breaks ties between rows written in the same instant, matching the archive's order
+  private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, CREATED_AT, "id");
+  private static final LocalDate EARLIEST_MONTH = LocalDate.of(1970, 1, 1);
+  private static final LocalDate LATEST_MONTH = LocalDate.of(9999, 12, 1);
+
   private final AuditLogRepository auditLogRepository;
+  private final AuditLogArchiveRepository auditLogArchiveRepository;
+  private final AuditLogArchiveReader auditLogArchiveReader;
+
+  public PagedResponse<AuditLogResponse> execute(
+      LocalDateTime from, LocalDateTime to, Pageable pageable) {
+    Specification<AuditLog> range = createdBetween(from, to);
+    boolean newestFirst = newestFirst(pageable);
+    List<AuditLogArchive> archives = newestFirst ? archivesOverlapping(from, to) : List.of();
+    if (archives.isEmpty()) {
+      Pageable tablePage =
+          newestFirst
+              ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), NEWEST_FIRST)
+              : pageable;
+      Page<AuditLog> page = auditLogRepository.findAll(range, tablePage);
+      List<AuditLogResponse> items =
+          page.getContent().stream().map(this::mapToResponse).collect(Collectors.toList());
+      return PagedResponse.of(
+          items, page.getNumber(), page.getSize(), page.getTotalElements(), page.getTotalPages());
+    }
+
+    long hotRows = auditLogRepository.count(range);
+    List<Long> archivedRows = new ArrayList<>(archives.size());
+    long totalItems = hotRows;
+    for (AuditLogArchive archive : archives) {
+      long rows = archivedRows(archive, from, to);
+      archivedRows.add(rows);
+      totalItems += rows;
+    }
+
+    int size = pageable.getPageSize();
+    long offset = pageable.getOffset();
+    List<AuditLogResponse> items = new ArrayList<>(size);
+    if (offset < hotRows) {
+      Pageable hotPage = PageRequest.of(pageable.getPageNumber(), size, NEWEST_FIRST);
+      auditLogRepository.findAll(range, hotPage).forEach(log -> items.add(mapToResponse(log)));
+    }
+    long skip = Math.max(0, offset - hotRows);
+    for (int i = 0; i < archives.size() && items.size() < size; i++) {
+      long rows = archivedRows.get(i);
+      if (skip >= rows) {
+        skip -= rows;
+        continue;
+      }
+      auditLogArchiveReader
+          .read(archives.get(i), from, to, skip, size - items.size())
+          .forEach(record -> items.add(mapToResponse(record)));
+      skip = 0;
+    }
+
+    int totalPages = (int) ((totalItems + size - 1) / size);
+    return PagedResponse.of(items, pageable.getPageNumber(), size, totalItems, totalPages);
+  }
+
+  private static Specification<AuditLog> createdBetween(LocalDateTime from, LocalDateTime to) {
+    return (root, query, cb) -> {
+      if (from == null && to == null) {
+        return null;
+      }
+      if (to == null) {
+        return cb.greaterThanOrEqualTo(root.get(CREATED_AT), from);
+      }
+      if (from == null) {
+        return cb.lessThan(root.get(CREATED_AT), to);
+      }
+      return cb.and(
+          cb.greaterThanOrEqualTo(root.get(CREATED_AT), from),
+          cb.lessThan(root.get(CREATED_AT), to));
+    };
+  }
 
-  public PagedResponse<AuditLogResponse> execute(Pageable pageable) {
-    Page<AuditLog> page = auditLogRepository.findAll(pageable);
+  private static boolean newestFirst(Pageable pageable) {
+    if (pageable.isUnpaged()) {
+      return false;
+    }
+    Sort sort = pageable.getSort();
+    if (sort.isUnsorted()) {
+      return true;
+    }
+    List<Sort.Order> orders = sort.toList();
+    return orders.size() == 1
+        && orders.get(0).getProperty().equals(CREATED_AT)
+        && orders.get(0).isDescending();
+  }
 
-    List<AuditLogResponse> items =
-        page.getContent().stream().map(this::mapToResponse).collect(Collectors.toList());
+  private List<AuditLogArchive> archivesOverlapping(LocalDateTime from, LocalDateTime to) {
+    LocalDate first = from == null ? EARLIEST_MONTH : from.toLocalDate().withDayOfMonth(1);
+    LocalDate last = to == null ? LATEST_MONTH : to.minusNanos(1).toLocalDate().withDayOfMonth(1);
+    if (last.isBefore(first)) {
+      return List.of();
+    }
+    return auditLogArchiveRepository.findByMonthBetweenOrderByMonthDesc(first, last);
+  }
 
-    return PagedResponse.of(
-        items, page.getNumber(), page.getSize(), page.getTotalElements(), page.getTotalPages());
+  /** Whole months come from the manifest; only months cut by the range are scanned. */
+  private long archivedRows(AuditLogArchive archive, LocalDateTime from, LocalDateTime to) {
+    LocalDateTime monthStart = archive.getMonth().atStartOfDay();
+    LocalDateTime monthEnd = monthStart.plusMonths(1);
+    boolean whole =
+        (from == null || !from.isAfter(monthStart)) && (to == null || !to.isBefore(monthEnd));
+    return whole ? archive.getRowCount() : auditLogArchiveReader.count(archive, from, to);
   }
 
   private AuditLogResponse mapToResponse(AuditLog log) {
@@ -38,4 +150,16 @@ public class GetAuditLogsUseCase {
         .createdAt(log.getCreatedAt())
         .build();
   }
+
+  private AuditLogResponse mapToResponse(AuditLogRecord record) {
+    return AuditLogResponse.builder()
+        .id(record.id())
+        .userId(record.userId())
+        .action(record.action())
+        .resourceType(record.resourceType())
+        .resourceId(record.resourceId())
+        .details(record.details())
+        .createdAt(record.createdAt())
+        .build();
+  }
 }
@@ -3,20 +3,20 @@ package com.lofi.lofiapps.service.impl.usecase.auth;
 import com.lofi.lofiapps.dto.request.ChangePasswordRequest;
 import com.lofi.lofiapps.entity.User;
 import com.lofi.lofiapps.repository.UserRepository;
+import com.lofi.lofiapps.security.service.CredentialHasher;
 import com.lofi.lofiapps.security.service.UserPrincipal;
 import jakarta.transaction.Transactional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class ChangePasswordUseCase {
   private final UserRepository userRepository;
-  private final PasswordEncoder passwordEncoder;
+  private final CredentialHasher credentialHasher;
 
   @Transactional
   public void execute(ChangePasswordRequest request) {
@@ -29,11 +29,11 @@ public class ChangePasswordUseCase {
     User user =
         userRepository.findById(userId).orElseThrow(() -> new RuntimeException("User not found"));
 
-    if (!passwordEncoder.matches(request.getOldPassword(), user.getPassword())) {
+    if (!credentialHasher.matches(request.getOldPassword(), user.getPassword())) {
       throw new BadCredentialsException("Invalid old password");
     }
 
-    user.setPassword(passwordEncoder.encode(request.getNewPassword()));
+    user.setPassword(credentialHasher.encode(request.getNewPassword()));
     userRepository.save(user);
   }
 }
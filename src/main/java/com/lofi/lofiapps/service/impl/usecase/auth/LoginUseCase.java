@@ -2,9 +2,10 @@ package com.lofi.lofiapps.service.impl.usecase.auth;
 
 import com.lofi.lofiapps.dto.request.LoginRequest;
 import com.lofi.lofiapps.dto.response.LoginResponse;
-import com.lofi.lofiapps.repository.RefreshTokenRepository;
 import com.lofi.lofiapps.repository.UserRepository;
 import com.lofi.lofiapps.security.jwt.JwtUtils;
+import com.lofi.lofiapps.security.service.CredentialHasher;
+import com.lofi.lofiapps.security.service.RefreshTokenService;
 import com.lofi.lofiapps.security.service.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -17,37 +18,30 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class LoginUseCase {
   private final AuthenticationManager authenticationManager;
+  private final CredentialHasher credentialHasher;
   private final JwtUtils jwtUtils;
-  private final RefreshTokenRepository refreshTokenRepository;
+  private final RefreshTokenService refreshTokenService;
   private final UserRepository userRepository;
   private final com.lofi.lofiapps.service.ProductCalculationService productCalculationService;
 
   public LoginResponse execute(LoginRequest request) {
+    // BCrypt runs on the hashing pool; the provider also re-hashes weaker stored passwords there
     Authentication authentication =
-        authenticationManager.authenticate(
-            new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword()));
+        credentialHasher.run(
+            "authenticate",
+            () ->
+                authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(
+                        request.getEmail(), request.getPassword())));
 
     SecurityContextHolder.getContext().setAuthentication(authentication);
     String jwt = jwtUtils.generateJwtToken(authentication);
     long expiration = jwtUtils.getExpirationFromJwtToken(jwt);
 
-    String refreshTokenStr = jwtUtils.generateRefreshToken(authentication);
-    long refreshExpiration = jwtUtils.getExpirationFromJwtToken(refreshTokenStr);
+    // Starts a new refresh family; the previous session's family stops working
+    String refreshTokenStr = refreshTokenService.issue(authentication);
     UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
 
-    // Revoke existing tokens
-    refreshTokenRepository.deleteByUserId(userPrincipal.getId());
-
-    com.lofi.lofiapps.entity.RefreshToken refreshToken =
-        com.lofi.lofiapps.entity.RefreshToken.builder()
-            .user(com.lofi.lofiapps.entity.User.builder().id(userPrincipal.getId()).build())
-            .token(refreshTokenStr)
-            .expiryDate(java.time.Instant.now().plusMillis(refreshExpiration))
-            .revoked(false)
-            .build();
-
-    refreshTokenRepository.save(refreshToken);
-
     // Update FCM Token if present
     com.lofi.lofiapps.entity.User user =
         userRepository.findById(userPrincipal.getId()).orElse(null);
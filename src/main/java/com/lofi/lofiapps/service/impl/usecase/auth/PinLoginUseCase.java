@@ -5,13 +5,13 @@ import com.lofi.lofiapps.dto.response.LoginResponse;
 import com.lofi.lofiapps.entity.User;
 import com.lofi.lofiapps.repository.UserRepository;
 import com.lofi.lofiapps.security.jwt.JwtUtils;
+import com.lofi.lofiapps.security.service.CredentialHasher;
 import com.lofi.lofiapps.security.service.UserPrincipal;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,7 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class PinLoginUseCase {
   private final UserRepository userRepository;
-  private final PasswordEncoder passwordEncoder;
+  private final CredentialHasher credentialHasher;
   private final JwtUtils jwtUtils;
 
   private static final int MAX_FAILED_ATTEMPTS = 5;
@@ -43,7 +43,7 @@ public class PinLoginUseCase {
     }
 
     // Verify PIN
-    if (user.getPin() == null || !passwordEncoder.matches(request.getPin(), user.getPin())) {
+    if (user.getPin() == null || !credentialHasher.matches(request.getPin(), user.getPin())) {
       // Increment failed attempts
       user.setFailedLoginAttempts(user.getFailedLoginAttempts() + 1);
       user.setLastFailedLoginTime(LocalDateTime.now());
@@ -54,6 +54,8 @@ public class PinLoginUseCase {
     // Reset failed attempts on successful login
     user.setFailedLoginAttempts(0);
     user.setLastFailedLoginTime(null);
+    // PINs hashed under a lower work factor move to the configured one
+    credentialHasher.rehash(request.getPin(), user.getPin()).ifPresent(user::setPin);
     userRepository.save(user);
 
     // Generate JWT token
@@ -3,10 +3,10 @@ package com.lofi.lofiapps.service.impl.usecase.auth;
 import com.lofi.lofiapps.dto.request.PinResetRequest;
 import com.lofi.lofiapps.entity.User;
 import com.lofi.lofiapps.repository.UserRepository;
+import com.lofi.lofiapps.security.service.CredentialHasher;
 import com.lofi.lofiapps.service.NotificationService;
 import java.util.Random;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,7 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class PinResetUseCase {
   private final UserRepository userRepository;
-  private final PasswordEncoder passwordEncoder;
+  private final CredentialHasher credentialHasher;
   private final NotificationService notificationService;
 
   @Transactional
@@ -26,7 +26,7 @@ public class PinResetUseCase {
 
     // Generate new random 6-digit PIN
     String newPin = generateRandomPin();
-    user.setPin(passwordEncoder.encode(newPin));
+    user.setPin(credentialHasher.encode(newPin));
     userRepository.save(user);
 
     // Send PIN via email
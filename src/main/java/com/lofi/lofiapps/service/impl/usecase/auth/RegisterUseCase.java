@@ -9,10 +9,10 @@ import com.lofi.lofiapps.enums.RoleName;
 import com.lofi.lofiapps.enums.UserStatus;
 import com.lofi.lofiapps.repository.RoleRepository;
 import com.lofi.lofiapps.repository.UserRepository;
+import com.lofi.lofiapps.security.service.CredentialHasher;
 import java.util.Collections;
 import java.util.HashSet;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -21,7 +21,7 @@ public class RegisterUseCase {
 
   private final UserRepository userRepository;
   private final RoleRepository roleRepository;
-  private final PasswordEncoder passwordEncoder;
+  private final CredentialHasher credentialHasher;
   private final LoginUseCase loginUseCase;
 
   public LoginResponse execute(RegisterRequest request) {
@@ -47,14 +47,14 @@ public class RegisterUseCase {
     // Generate random 6-digit PIN
     java.util.Random random = new java.util.Random();
     String pin = String.valueOf(100000 + random.nextInt(900000));
-    String encryptedPin = passwordEncoder.encode(pin);
+    String encryptedPin = credentialHasher.encode(pin);
 
     User user =
         User.builder()
             .fullName(request.getFullName())
             .username(request.getUsername())
             .email(request.getEmail())
-            .password(passwordEncoder.encode(request.getPassword()))
+            .password(credentialHasher.encode(request.getPassword()))
             .phoneNumber(request.getPhoneNumber())
             .pin(encryptedPin)
             .status(UserStatus.ACTIVE)
@@ -4,10 +4,10 @@ import com.lofi.lofiapps.dto.request.ResetPasswordRequest;
 import com.lofi.lofiapps.entity.User;
 import com.lofi.lofiapps.exception.ResourceNotFoundException;
 import com.lofi.lofiapps.repository.UserRepository;
+import com.lofi.lofiapps.security.service.CredentialHasher;
 import com.lofi.lofiapps.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,7 +17,7 @@ public class ResetPasswordUseCase {
 
   private final UserRepository userRepository;
   private final StringRedisTemplate redisTemplate;
-  private final PasswordEncoder passwordEncoder;
+  private final CredentialHasher credentialHasher;
   private final NotificationService notificationService;
 
   @Transactional
@@ -34,7 +34,7 @@ public class ResetPasswordUseCase {
             .findByEmail(email)
             .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-    user.setPassword(passwordEncoder.encode(request.getNewPassword()));
+    user.setPassword(credentialHasher.encode(request.getNewPassword()));
     userRepository.save(user);
 
     // Delete token
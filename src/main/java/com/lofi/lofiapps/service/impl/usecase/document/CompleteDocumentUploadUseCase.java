@@ -0,0 +1,61 @@
+package com.lofi.lofiapps.service.impl.usecase.document;
+
+import com.lofi.lofiapps.entity.Document;
+import com.lofi.lofiapps.exception.ResourceNotFoundException;
+import com.lofi.lofiapps.repository.DocumentRepository;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Called by the client once its presigned uploads finished. Queues verification of each document;
+ * the documents' {@code verified} flags flip once the worker has checked the stored objects.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CompleteDocumentUploadUseCase {
+
+  private final DocumentRepository documentRepository;
+  private final DocumentVerificationWorker verificationWorker;
+
+  public void execute(List<UUID> documentIds, UUID userId) {
+    Set<UUID> requested = new HashSet<>(documentIds);
+    List<Document> documents = documentRepository.findAllById(requested);
+    if (documents.size() != requested.size()) {
+      throw new ResourceNotFoundException("One or more documents were not found");
+    }
+    if (documents.stream()
+        .anyMatch(document -> !Objects.equals(document.getUploadedBy(), userId))) {
+      throw new SecurityException("Unauthorized: You do not own this document");
+    }
+
+    // Confirmed rows are no longer swept as abandoned
+    List<Document> confirmed =
+        documents.stream()
+            .filter(document -> Boolean.TRUE.equals(document.getUploadPending()))
+            .toList();
+    if (!confirmed.isEmpty()) {
+      confirmed.forEach(document -> document.setUploadPending(false));
+      documentRepository.saveAll(confirmed);
+    }
+
+    for (Document document : documents) {
+      if (Boolean.TRUE.equals(document.getVerified())) {
+        continue;
+      }
+      try {
+        verificationWorker.verify(document.getId());
+      } catch (RejectedExecutionException e) {
+        // Stays unverified; submission will report it and the client can confirm again
+        log.warn("Verification queue full, document {} not queued", document.getId());
+      }
+    }
+  }
+}
@@ -0,0 +1,141 @@
+package com.lofi.lofiapps.service.impl.usecase.document;
+
+import com.lofi.lofiapps.entity.Document;
+import com.lofi.lofiapps.exception.ResourceNotFoundException;
+import com.lofi.lofiapps.repository.DocumentRepository;
+import com.lofi.lofiapps.service.StorageService;
+import com.lofi.lofiapps.service.StoredObject;
+import com.lofi.lofiapps.service.StoredObjectInfo;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * Checks an uploaded document against its object in storage on the {@code verificationExecutor}
+ * pool: the object must exist, stay within the size limit, match the declared size, and start with
+ * the magic bytes of the declared content type. Only the first bytes are read, never the body.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DocumentVerificationWorker {
+
+  static final int SNIFF_BYTES = 16;
+
+  private final DocumentRepository documentRepository;
+  private final StorageService storageService;
+
+  @Value("${app.storage.bucket-name:lofi-bucket}")
+  private String bucketName;
+
+  @Async("verificationExecutor")
+  public CompletableFuture<Void> verify(UUID documentId) {
+    Document document = documentRepository.findById(documentId).orElse(null);
+    if (document == null || Boolean.TRUE.equals(document.getVerified())) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    try {
+      StoredObjectInfo info = storageService.statObject(bucketName, document.getObjectKey());
+      String problem = check(document, info, readHeader(document.getObjectKey(), info));
+      document.setFileSize(info.contentLength());
+      document.setChecksum(info.eTag());
+      document.setVerified(problem == null);
+      document.setVerificationNotes(problem);
+    } catch (ResourceNotFoundException e) {
+      // Left unverified so a later completion call can retry once the upload lands
+      document.setVerificationNotes("Uploaded object not found");
+    } catch (IOException | RuntimeException e) {
+      log.warn("Verification of document {} failed: {}", documentId, e.getMessage());
+      return CompletableFuture.completedFuture(null);
+    }
+
+    documentRepository.save(document);
+    log.info(
+        "Document {} verification: {}",
+        documentId,
+        document.getVerified() ? "verified" : document.getVerificationNotes());
+    return CompletableFuture.completedFuture(null);
+  }
+
+  private byte[] readHeader(String objectKey, StoredObjectInfo info) throws IOException {
+    if (info.contentLength() == 0) {
+      return new byte[0];
+    }
+    try (StoredObject object =
+        storageService.openObject(bucketName, objectKey, "bytes=0-" + (SNIFF_BYTES - 1))) {
+      return object.content().readNBytes(SNIFF_BYTES);
+    }
+  }
+
+  static String check(Document document, StoredObjectInfo info, byte[] header) {
+    if (info.contentLength() <= 0) {
+      return "Uploaded file is empty";
+    }
+    if (info.contentLength() > PresignUploadUseCase.MAX_FILE_SIZE) {
+      return "Uploaded file exceeds maximum allowed size of 10MB";
+    }
+    if (document.getFileSize() != null && document.getFileSize() != info.contentLength()) {
+      return "Uploaded size " + info.contentLength() + " does not match declared size";
+    }
+    String declared = normalize(document.getContentType());
+    String detected = sniff(header, declared);
+    if (detected == null) {
+      return "Unrecognized file content";
+    }
+    if (!detected.equals(declared)) {
+      return "File content is " + detected + " but was declared as " + declared;
+    }
+    return null;
+  }
+
+  /**
+   * Content type from the leading bytes. DOCX is a ZIP container, so a ZIP header only counts as
+   * DOCX when that is what was declared.
+   */
+  static String sniff(byte[] header, String declared) {
+    if (startsWith(header, 0xFF, 0xD8, 0xFF)) {
+      return "image/jpeg";
+    }
+    if (startsWith(header, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+      return "image/png";
+    }
+    if (startsWith(header, 'G', 'I', 'F', '8')) {
+      return "image/gif";
+    }
+    if (startsWith(header, '%', 'P', 'D', 'F', '-')) {
+      return "application/pdf";
+    }
+    if (startsWith(header, 0xD0, 0xCF, 0x11, 0xE0, 0xA1, 0xB1, 0x1A, 0xE1)) {
+      return "application/msword";
+    }
+    String docx = "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
+    if (startsWith(header, 'P', 'K', 0x03, 0x04) && docx.equals(declared)) {
+      return docx;
+    }
+    return null;
+  }
+
+  private static String normalize(String contentType) {
+    String normalized = contentType == null ? "" : contentType.toLowerCase(Locale.ROOT).trim();
+    return normalized.equals("image/jpg") ? "image/jpeg" : normalized;
+  }
+
+  private static boolean startsWith(byte[] header, int... magic) {
+    if (header.length < magic.length) {
+      return false;
+    }
+    for (int i = 0; i < magic.length; i++) {
+      if ((header[i] & 0xFF) != magic[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -1,13 +1,18 @@
 package com.lofi.lofiapps.service.impl.usecase.document;
 
+import com.lofi.lofiapps.dto.request.BatchPresignUploadRequest;
 import com.lofi.lofiapps.dto.request.PresignUploadRequest;
 import com.lofi.lofiapps.dto.response.PresignUploadResponse;
 import com.lofi.lofiapps.entity.Document;
+import com.lofi.lofiapps.enums.DocumentType;
 import com.lofi.lofiapps.repository.DocumentRepository;
 import com.lofi.lofiapps.service.StorageService;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -29,7 +34,7 @@ public class PresignUploadUseCase {
   private String bucketName;
 
   // Allowed MIME types for document uploads
-  private static final Set<String> ALLOWED_CONTENT_TYPES =
+  static final Set<String> ALLOWED_CONTENT_TYPES =
       new HashSet<>(
           Arrays.asList(
               "image/jpeg",
@@ -41,10 +46,48 @@ public class PresignUploadUseCase {
               "application/vnd.openxmlformats-officedocument.wordprocessingml.document"));
 
   // Maximum file size: 10MB
-  private static final long MAX_FILE_SIZE = 10 * 1024 * 1024;
+  static final long MAX_FILE_SIZE = 10 * 1024 * 1024;
 
   @Transactional
   public PresignUploadResponse execute(PresignUploadRequest request, UUID userId) {
+    Document savedDoc = documentRepository.save(prepare(request, request.getLoanId(), userId));
+
+    log.info("Generated presigned upload URL for document {} by user {}", savedDoc.getId(), userId);
+
+    return presign(savedDoc);
+  }
+
+  /**
+   * Presigns a whole document set for one loan in a single round trip. Rows start unverified and
+   * pending; the client confirms the uploads afterwards so the verification worker can check the
+   * objects, and rows never confirmed are swept by {@link UnconfirmedUploadSweeper}.
+   */
+  @Transactional
+  public List<PresignUploadResponse> executeBatch(BatchPresignUploadRequest request, UUID userId) {
+    Set<DocumentType> seen = EnumSet.noneOf(DocumentType.class);
+    List<Document> documents = new ArrayList<>(request.getDocuments().size());
+    for (PresignUploadRequest item : request.getDocuments()) {
+      if (!seen.add(item.getDocumentType())) {
+        throw new IllegalArgumentException(
+            "Duplicate document type in batch: " + item.getDocumentType());
+      }
+      Document document = prepare(item, request.getLoanId(), userId);
+      document.setUploadPending(true);
+      documents.add(document);
+    }
+
+    List<Document> saved = documentRepository.saveAll(documents);
+
+    log.info(
+        "Generated {} presigned upload URLs for loan {} by user {}",
+        saved.size(),
+        request.getLoanId(),
+        userId);
+
+    return saved.stream().map(this::presign).toList();
+  }
+
+  private Document prepare(PresignUploadRequest request, UUID loanId, UUID userId) {
     // Validate file type
     validateContentType(request.getContentType());
 
@@ -59,32 +102,32 @@ public class PresignUploadUseCase {
     String objectKey =
         String.format(
             "documents/%s/%s_%s",
-            request.getLoanId(), UUID.randomUUID(), sanitizeFileName(request.getFileName()));
+            loanId, UUID.randomUUID(), sanitizeFileName(request.getFileName()));
+
+    return Document.builder()
+        .loanId(loanId)
+        .fileName(request.getFileName())
+        .objectKey(objectKey)
+        .documentType(request.getDocumentType())
+        .uploadedBy(userId)
+        .contentType(request.getContentType())
+        .fileSize(request.getFileSize())
+        .build();
+  }
 
+  private PresignUploadResponse presign(Document document) {
     URL uploadUrl =
         storageService.generatePresignedUploadUrl(
-            bucketName, objectKey, request.getContentType(), 30 // 30 minutes expiration
+            bucketName,
+            document.getObjectKey(),
+            document.getContentType(),
+            30 // 30 minutes expiration
             );
 
-    Document document =
-        Document.builder()
-            .loanId(request.getLoanId())
-            .fileName(request.getFileName())
-            .objectKey(objectKey)
-            .documentType(request.getDocumentType())
-            .uploadedBy(userId)
-            .contentType(request.getContentType())
-            .fileSize(request.getFileSize())
-            .build();
-
-    Document savedDoc = documentRepository.save(document);
-
-    log.info("Generated presigned upload URL for document {} by user {}", savedDoc.getId(), userId);
-
     return PresignUploadResponse.builder()
-        .documentId(savedDoc.getId())
+        .documentId(document.getId())
         .uploadUrl(uploadUrl.toString())
-        .objectKey(objectKey)
+        .objectKey(document.getObjectKey())
         .build();
   }
 
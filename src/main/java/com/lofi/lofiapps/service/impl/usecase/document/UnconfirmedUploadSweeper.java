@@ -0,0 +1,33 @@
+package com.lofi.lofiapps.service.impl.usecase.document;
+
+import com.lofi.lofiapps.repository.DocumentRepository;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deletes batch-presigned document rows whose upload was never confirmed, well after their upload
+ * URLs expired. Every instance runs it; the delete is idempotent.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnconfirmedUploadSweeper {
+
+  private final DocumentRepository documentRepository;
+
+  @Value("${app.documents.unconfirmed-ttl-minutes:120}")
+  private long ttlMinutes;
+
+  @Scheduled(cron = "${app.documents.unconfirmed-sweep-cron:0 45 * * * *}")
+  public void sweep() {
+    int deleted =
+        documentRepository.deleteUnconfirmedBefore(LocalDateTime.now().minusMinutes(ttlMinutes));
+    if (deleted > 0) {
+      log.info("Removed {} unconfirmed document uploads", deleted);
+    }
+  }
+}
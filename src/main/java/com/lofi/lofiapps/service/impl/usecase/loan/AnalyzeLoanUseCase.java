@@ -1,7 +1,14 @@
 package com.lofi.lofiapps.service.impl.usecase.loan;
 
 import com.lofi.lofiapps.dto.response.LoanAnalysisResponse;
-import java.util.Collections;
+import com.lofi.lofiapps.entity.Loan;
+import com.lofi.lofiapps.enums.AiPromptType;
+import com.lofi.lofiapps.enums.AnalysisStatus;
+import com.lofi.lofiapps.exception.ResourceNotFoundException;
+import com.lofi.lofiapps.repository.LoanRepository;
+import com.lofi.lofiapps.service.impl.usecase.ai.LoanAnalysisPipeline;
+import java.util.Collection;
+import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,14 +19,27 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class AnalyzeLoanUseCase {
 
+  private final LoanRepository loanRepository;
+  private final LoanAnalysisPipeline loanAnalysisPipeline;
+
   public LoanAnalysisResponse execute(UUID loanId) {
     log.info("Analyzing loan: {}", loanId);
-    return LoanAnalysisResponse.builder()
-        .confidence(0.85)
-        .summary("Initial analysis completed for loan " + loanId)
-        .riskFlags(Collections.emptyList())
-        .reviewNotes(Collections.singletonList("Loan is under routine review"))
-        .limitations(Collections.emptyList())
-        .build();
+    Loan loan =
+        loanRepository
+            .findById(loanId)
+            .orElseThrow(() -> new ResourceNotFoundException("Loan", "id", loanId.toString()));
+    return loanAnalysisPipeline
+        .find(loan, AiPromptType.LOAN_ANALYZER, LoanAnalysisResponse.class)
+        .orElseGet(AnalyzeLoanUseCase::pending);
+  }
+
+  /** Analyses for a page of loans; rows without a stored result get the pending marker. */
+  public Map<UUID, LoanAnalysisResponse> executeAll(Collection<Loan> loans) {
+    return loanAnalysisPipeline.findAll(
+        loans, AiPromptType.LOAN_ANALYZER, LoanAnalysisResponse.class);
+  }
+
+  public static LoanAnalysisResponse pending() {
+    return LoanAnalysisResponse.builder().status(AnalysisStatus.PENDING).build();
   }
 }
@@ -17,17 +17,25 @@ import com.lofi.lofiapps.service.impl.calculator.PlafondCalculator;
 import com.lofi.lofiapps.service.impl.factory.ApprovalHistoryFactory;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ApproveLoanUseCase {
 
+  private static final String AUTO_CANCEL_NOTES =
+      "Auto-cancelled because another loan was approved";
+
   private final LoanRepository loanRepository;
   private final UserRepository userRepository;
   private final NotificationService notificationService;
@@ -62,10 +70,13 @@ public class ApproveLoanUseCase {
     }
     UUID customerId = loan.getCustomer().getId();
     User customer = loan.getCustomer();
+    // One load of the customer's loans serves both the plafond and the active-loan check
+    List<Loan> customerLoans = loanRepository.findByCustomerId(customerId);
 
     // Validate available plafond before approving
     if (customer.getProduct() != null) {
-      BigDecimal availablePlafond = plafondCalculator.calculateAvailablePlafond(customer, loanId);
+      BigDecimal availablePlafond =
+          plafondCalculator.calculateAvailablePlafond(customer.getProduct(), customerLoans, loanId);
       if (loan.getLoanAmount().compareTo(availablePlafond) > 0) {
         throw new IllegalStateException(
             "Cannot approve loan: Loan amount ("
@@ -77,7 +88,7 @@ public class ApproveLoanUseCase {
     }
 
     boolean hasApprovedLoan =
-        loanRepository.findByCustomerId(customerId).stream()
+        customerLoans.stream()
             .filter(l -> !l.getId().equals(loanId)) // Exclude current loan
             .anyMatch(
                 l ->
@@ -97,7 +108,6 @@ public class ApproveLoanUseCase {
 
     Loan savedLoan = loanRepository.save(loan);
 
-    // Save history
     // Save history
     approvalHistoryFactory.recordStatusChange(
         loan.getId(), fromStatus, LoanStatus.APPROVED, approverUsername, notes);
@@ -105,38 +115,48 @@ public class ApproveLoanUseCase {
     // Auto-cancel other active loans for this customer
     cancelOtherActiveLoans(customerId, loan.getId());
 
-    // Notify customer
-    notificationService.notifyLoanStatusChange(customerId, LoanStatus.APPROVED);
+    // Notify customer on the notification pool once the approval has committed
+    afterCommit(() -> notificationService.notifyLoanStatusChanges(List.of(savedLoan)));
 
     return loanDtoMapper.toResponse(savedLoan);
   }
 
   private void cancelOtherActiveLoans(UUID customerId, UUID approvedLoanId) {
-    loanRepository.findByCustomerId(customerId).stream()
-        .filter(l -> !l.getId().equals(approvedLoanId))
-        .filter(
-            l ->
-                l.getLoanStatus() == LoanStatus.SUBMITTED
-                    || l.getLoanStatus() == LoanStatus.REVIEWED
-                    || l.getLoanStatus() == LoanStatus.DRAFT)
-        .forEach(
-            l -> {
-              LoanStatus oldStatus = l.getLoanStatus();
-              l.setLoanStatus(LoanStatus.CANCELLED);
-              l.setLastStatusChangedAt(LocalDateTime.now());
-              loanRepository.save(l);
-
-              approvalHistoryFactory.recordStatusChange(
-                  l.getId(),
-                  oldStatus,
-                  LoanStatus.CANCELLED,
-                  "SYSTEM",
-                  "Auto-cancelled because another loan was approved");
-
-              if (l.getCustomer() != null) {
-                notificationService.notifyLoanStatusChange(
-                    l.getCustomer().getId(), LoanStatus.CANCELLED);
-              }
-            });
+    // One UPDATE ... OUTPUT instead of loading, saving and notifying each sibling loan
+    Map<UUID, LoanStatus> cancelled =
+        loanRepository.cancelOtherActiveLoans(customerId, approvedLoanId, LocalDateTime.now());
+    if (cancelled.isEmpty()) {
+      return;
+    }
+
+    approvalHistoryFactory.recordAll(
+        cancelled.entrySet().stream()
+            .map(
+                entry ->
+                    approvalHistoryFactory.buildStatusChange(
+                        entry.getKey(),
+                        entry.getValue(),
+                        LoanStatus.CANCELLED,
+                        "SYSTEM",
+                        AUTO_CANCEL_NOTES))
+            .collect(Collectors.toList()));
+
+    List<UUID> cancelledIds = List.copyOf(cancelled.keySet());
+    log.info("Auto-cancelled {} loans of customer {}", cancelledIds.size(), customerId);
+    afterCommit(() -> notificationService.notifyLoansAutoCancelled(customerId, cancelledIds));
+  }
+
+  private void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        });
   }
 }
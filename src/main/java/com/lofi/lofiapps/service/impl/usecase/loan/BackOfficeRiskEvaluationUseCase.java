@@ -1,7 +1,12 @@
 package com.lofi.lofiapps.service.impl.usecase.loan;
 
 import com.lofi.lofiapps.dto.response.BackOfficeRiskEvaluationResponse;
-import java.util.Collections;
+import com.lofi.lofiapps.entity.Loan;
+import com.lofi.lofiapps.enums.AiPromptType;
+import com.lofi.lofiapps.enums.AnalysisStatus;
+import com.lofi.lofiapps.exception.ResourceNotFoundException;
+import com.lofi.lofiapps.repository.LoanRepository;
+import com.lofi.lofiapps.service.impl.usecase.ai.LoanAnalysisPipeline;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,14 +17,19 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class BackOfficeRiskEvaluationUseCase {
 
+  private final LoanRepository loanRepository;
+  private final LoanAnalysisPipeline loanAnalysisPipeline;
+
   public BackOfficeRiskEvaluationResponse execute(UUID loanId) {
     log.info("Back office risk evaluation for loan: {}", loanId);
-    return BackOfficeRiskEvaluationResponse.builder()
-        .confidence(0.88)
-        .riskOverview("Initial risk evaluation completed for loan " + loanId)
-        .keyRiskFactors(Collections.emptyList())
-        .verificationChecklist(Collections.singletonList("Verify employment documents"))
-        .limitations(Collections.emptyList())
-        .build();
+    Loan loan =
+        loanRepository
+            .findById(loanId)
+            .orElseThrow(() -> new ResourceNotFoundException("Loan", "id", loanId.toString()));
+    return loanAnalysisPipeline
+        .find(loan, AiPromptType.BACK_OFFICE_RISK, BackOfficeRiskEvaluationResponse.class)
+        .orElseGet(
+            () ->
+                BackOfficeRiskEvaluationResponse.builder().status(AnalysisStatus.PENDING).build());
   }
 }
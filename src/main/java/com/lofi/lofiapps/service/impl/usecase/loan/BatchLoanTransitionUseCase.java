@@ -0,0 +1,375 @@
+package com.lofi.lofiapps.service.impl.usecase.loan;
+
+import com.lofi.lofiapps.dto.response.BatchLoanActionResponse;
+import com.lofi.lofiapps.entity.ApprovalHistory;
+import com.lofi.lofiapps.entity.Loan;
+import com.lofi.lofiapps.entity.User;
+import com.lofi.lofiapps.enums.ApprovalStage;
+import com.lofi.lofiapps.enums.LoanStatus;
+import com.lofi.lofiapps.exception.ResourceNotFoundException;
+import com.lofi.lofiapps.repository.LoanRepository;
+import com.lofi.lofiapps.repository.UserRepository;
+import com.lofi.lofiapps.service.BranchAccessGuard;
+import com.lofi.lofiapps.service.LoanActionValidator;
+import com.lofi.lofiapps.service.NotificationService;
+import com.lofi.lofiapps.service.RoleActionGuard;
+import com.lofi.lofiapps.service.impl.calculator.PlafondCalculator;
+import com.lofi.lofiapps.service.impl.factory.ApprovalHistoryFactory;
+import com.lofi.lofiapps.service.impl.usecase.repayment.InstallmentLedger;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+/**
+ * Applies approve / reject / disburse to many loans in one call.
+ *
+ * <p>The approver is resolved once. Loans are processed in chunks, each chunk in its own
+ * transaction: one query loads the chunk's loans, one query loads every sibling loan of the chunk's
+ * customers, and the resulting updates and history inserts are flushed together so Hibernate can
+ * send them as JDBC batches. A loan that fails validation is reported in the result and does not
+ * affect the rest of its chunk. Customer notifications are collected and handed to {@link
+ * NotificationService} once, after all chunks have committed.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BatchLoanTransitionUseCase {
+
+  public static final String APPROVE = "approve";
+  public static final String REJECT = "reject";
+  public static final String DISBURSE = "disburse";
+
+  private static final Set<LoanStatus> ACTIVE_LOAN_STATUSES =
+      EnumSet.of(LoanStatus.APPROVED, LoanStatus.DISBURSED, LoanStatus.COMPLETED);
+
+  private static final Set<LoanStatus> AUTO_CANCELLABLE_STATUSES =
+      EnumSet.of(LoanStatus.SUBMITTED, LoanStatus.REVIEWED, LoanStatus.DRAFT);
+
+  private final LoanRepository loanRepository;
+  private final UserRepository userRepository;
+  private final NotificationService notificationService;
+  private final RoleActionGuard roleActionGuard;
+  private final BranchAccessGuard branchAccessGuard;
+  private final LoanActionValidator loanActionValidator;
+  private final PlafondCalculator plafondCalculator;
+  private final ApprovalHistoryFactory approvalHistoryFactory;
+  private final TransactionTemplate transactionTemplate;
+  private final InstallmentLedger installmentLedger;
+
+  @Value("${app.loan.batch.chunk-size:50}")
+  private int chunkSize = 50;
+
+  public BatchLoanActionResponse approve(List<UUID> loanIds, String username, String notes) {
+    String approvalNotes = StringUtils.hasText(notes) ? notes : "Approved by Branch Manager";
+    return execute(APPROVE, loanIds, username, approvalNotes);
+  }
+
+  public BatchLoanActionResponse reject(List<UUID> loanIds, String username, String reason) {
+    if (!StringUtils.hasText(reason)) {
+      throw new IllegalArgumentException("Rejection reason is required");
+    }
+    return execute(REJECT, loanIds, username, reason);
+  }
+
+  /**
+   * Disburses each loan under its own transfer reference; a loan without one fails on its own, and
+   * one reference may not be used for two loans.
+   */
+  public BatchLoanActionResponse disburse(
+      List<UUID> loanIds, Map<UUID, String> references, String username) {
+    if (references == null || references.isEmpty()) {
+      throw new IllegalArgumentException("A disbursement reference per loan is required");
+    }
+    Set<String> distinct = new HashSet<>();
+    for (String reference : references.values()) {
+      if (StringUtils.hasText(reference) && !distinct.add(reference.trim())) {
+        throw new IllegalArgumentException(
+            "Disbursement reference " + reference.trim() + " is used for more than one loan");
+      }
+    }
+    return execute(DISBURSE, loanIds, username, null, references);
+  }
+
+  private BatchLoanActionResponse execute(
+      String action, List<UUID> loanIds, String username, String notes) {
+    return execute(action, loanIds, username, notes, Map.of());
+  }
+
+  private BatchLoanActionResponse execute(
+      String action,
+      List<UUID> loanIds,
+      String username,
+      String notes,
+      Map<UUID, String> references) {
+    User actor =
+        userRepository
+            .findWithBranchByEmail(username)
+            .orElseThrow(() -> new ResourceNotFoundException("User", "email", username));
+
+    // Role does not depend on the loan, so a wrong role fails the whole batch up front
+    roleActionGuard.validate(actor, action);
+
+    List<UUID> distinctIds = new ArrayList<>(new LinkedHashSet<>(loanIds));
+    Map<UUID, BatchLoanActionResponse.Item> results = new LinkedHashMap<>();
+    List<Loan> toNotify = new ArrayList<>();
+    Map<UUID, List<UUID>> autoCancelled = new LinkedHashMap<>();
+
+    for (int from = 0; from < distinctIds.size(); from += chunkSize) {
+      List<UUID> chunk = distinctIds.subList(from, Math.min(from + chunkSize, distinctIds.size()));
+      Map<UUID, BatchLoanActionResponse.Item> chunkResults = new LinkedHashMap<>();
+      List<Loan> chunkNotify = new ArrayList<>();
+      Map<UUID, List<UUID>> chunkCancelled = new LinkedHashMap<>();
+      try {
+        transactionTemplate.execute(
+            status -> {
+              processChunk(
+                  action,
+                  chunk,
+                  actor,
+                  notes,
+                  references,
+                  chunkResults,
+                  chunkNotify,
+                  chunkCancelled);
+              return null;
+            });
+        results.putAll(chunkResults);
+        toNotify.addAll(chunkNotify);
+        chunkCancelled.forEach(
+            (customerId, cancelledIds) ->
+                autoCancelled
+                    .computeIfAbsent(customerId, k -> new ArrayList<>())
+                    .addAll(cancelledIds));
+      } catch (RuntimeException e) {
+        log.error(
+            "Batch {} chunk of {} loans rolled back: {}", action, chunk.size(), e.getMessage());
+        chunk.forEach(id -> results.put(id, failure(id, "Transaction failed: " + e.getMessage())));
+      }
+    }
+
+    dispatchNotifications(action, toNotify, autoCancelled);
+
+    List<BatchLoanActionResponse.Item> items = new ArrayList<>(results.values());
+    int succeeded = (int) items.stream().filter(BatchLoanActionResponse.Item::isSuccess).count();
+    log.info(
+        "Batch {} by {}: {} succeeded, {} failed",
+        action,
+        username,
+        succeeded,
+        items.size() - succeeded);
+
+    return BatchLoanActionResponse.builder()
+        .action(action)
+        .total(items.size())
+        .succeeded(succeeded)
+        .failed(items.size() - succeeded)
+        .results(items)
+        .build();
+  }
+
+  private void processChunk(
+      String action,
+      List<UUID> chunk,
+      User actor,
+      String notes,
+      Map<UUID, String> references,
+      Map<UUID, BatchLoanActionResponse.Item> results,
+      List<Loan> toNotify,
+      Map<UUID, List<UUID>> autoCancelled) {
+    Map<UUID, Loan> loansById =
+        loanRepository.findAllByIdIn(chunk).stream()
+            .collect(Collectors.toMap(Loan::getId, Function.identity()));
+
+    // Sibling loans are only needed for the approval checks
+    Map<UUID, List<Loan>> loansByCustomer =
+        APPROVE.equals(action) ? loadCustomerLoans(loansById.values()) : Map.of();
+
+    List<ApprovalHistory> histories = new ArrayList<>();
+    List<Loan> disbursed = new ArrayList<>();
+    LocalDateTime now = LocalDateTime.now();
+
+    for (UUID loanId : chunk) {
+      Loan loan = loansById.get(loanId);
+      if (loan == null) {
+        results.put(loanId, failure(loanId, "Loan not found"));
+        continue;
+      }
+      try {
+        branchAccessGuard.validate(actor, loan);
+        loanActionValidator.validate(loan, action);
+
+        LoanStatus fromStatus = loan.getLoanStatus();
+        switch (action) {
+          case APPROVE:
+            if (loan.getCustomer() == null) {
+              throw new IllegalStateException(
+                  "Loan (ID: " + loanId + ") does not have a customer assigned.");
+            }
+            List<Loan> siblings = loansByCustomer.getOrDefault(customerId(loan), List.of());
+            validateApproval(loan, siblings);
+            applyApproval(loan, now);
+            cancelSiblings(loan, siblings, now, histories, autoCancelled);
+            break;
+          case REJECT:
+            loan.setLoanStatus(LoanStatus.REJECTED);
+            loan.setRejectedAt(now);
+            break;
+          case DISBURSE:
+            String reference = references.get(loanId);
+            if (!StringUtils.hasText(reference)) {
+              throw new IllegalArgumentException("Disbursement reference is required");
+            }
+            loan.setLoanStatus(LoanStatus.DISBURSED);
+            loan.setDisbursedAt(now);
+            loan.setDisbursementReference(reference.trim());
+            disbursed.add(loan);
+            break;
+          default:
+            throw new IllegalArgumentException("Unsupported batch action: " + action);
+        }
+        loan.setLastStatusChangedAt(now);
+
+        histories.add(
+            approvalHistoryFactory.buildStatusChange(
+                loan.getId(),
+                fromStatus,
+                loan.getLoanStatus(),
+                actor.getEmail(),
+                DISBURSE.equals(action)
+                    ? "Loan disbursed with reference: " + loan.getDisbursementReference()
+                    : notes));
+        toNotify.add(loan);
+        results.put(
+            loanId,
+            BatchLoanActionResponse.Item.builder()
+                .loanId(loanId)
+                .success(true)
+                .loanStatus(loan.getLoanStatus())
+                .build());
+      } catch (IllegalStateException | IllegalArgumentException | SecurityException e) {
+        results.put(loanId, failure(loanId, e.getMessage()));
+      }
+    }
+
+    // Status updates are flushed by dirty checking at commit; all three go out as JDBC batches
+    approvalHistoryFactory.recordAll(histories);
+    installmentLedger.openAll(disbursed);
+  }
+
+  private Map<UUID, List<Loan>> loadCustomerLoans(Iterable<Loan> loans) {
+    Set<UUID> customerIds = new LinkedHashSet<>();
+    loans.forEach(
+        loan -> {
+          if (loan.getCustomer() != null) {
+            customerIds.add(loan.getCustomer().getId());
+          }
+        });
+    if (customerIds.isEmpty()) {
+      return Map.of();
+    }
+    return loanRepository.findByCustomerIdIn(customerIds).stream()
+        .collect(Collectors.groupingBy(this::customerId));
+  }
+
+  private void validateApproval(Loan loan, List<Loan> customerLoans) {
+    if (loan.getCustomer().getProduct() != null) {
+      BigDecimal availablePlafond =
+          plafondCalculator.calculateAvailablePlafond(
+              loan.getCustomer().getProduct(), customerLoans, loan.getId());
+      if (loan.getLoanAmount().compareTo(availablePlafond) > 0) {
+        throw new IllegalStateException(
+            "Cannot approve loan: Loan amount ("
+                + loan.getLoanAmount()
+                + ") exceeds available plafond ("
+                + availablePlafond
+                + ")");
+      }
+    }
+
+    // Sees approvals made earlier in this chunk as well, since they share the session
+    boolean hasApprovedLoan =
+        customerLoans.stream()
+            .filter(l -> !l.getId().equals(loan.getId()))
+            .anyMatch(l -> ACTIVE_LOAN_STATUSES.contains(l.getLoanStatus()));
+    if (hasApprovedLoan) {
+      throw new IllegalStateException("Customer already has an active or approved loan");
+    }
+  }
+
+  private void applyApproval(Loan loan, LocalDateTime now) {
+    loan.setLoanStatus(LoanStatus.APPROVED);
+    loan.setCurrentStage(ApprovalStage.BACKOFFICE);
+    loan.setApprovedAt(now);
+  }
+
+  private void cancelSiblings(
+      Loan approved,
+      List<Loan> customerLoans,
+      LocalDateTime now,
+      List<ApprovalHistory> histories,
+      Map<UUID, List<UUID>> autoCancelled) {
+    for (Loan sibling : customerLoans) {
+      if (sibling.getId().equals(approved.getId())
+          || !AUTO_CANCELLABLE_STATUSES.contains(sibling.getLoanStatus())) {
+        continue;
+      }
+      LoanStatus oldStatus = sibling.getLoanStatus();
+      sibling.setLoanStatus(LoanStatus.CANCELLED);
+      sibling.setLastStatusChangedAt(now);
+      histories.add(
+          approvalHistoryFactory.buildStatusChange(
+              sibling.getId(),
+              oldStatus,
+              LoanStatus.CANCELLED,
+              "SYSTEM",
+              "Auto-cancelled because another loan was approved"));
+      autoCancelled
+          .computeIfAbsent(customerId(approved), k -> new ArrayList<>())
+          .add(sibling.getId());
+    }
+  }
+
+  private void dispatchNotifications(
+      String action, List<Loan> loans, Map<UUID, List<UUID>> autoCancelled) {
+    try {
+      if (!loans.isEmpty() && DISBURSE.equals(action)) {
+        notificationService.notifyLoanDisbursements(loans);
+      } else if (!loans.isEmpty()) {
+        notificationService.notifyLoanStatusChanges(loans);
+      }
+      // One coalesced message per customer for the siblings their approval cancelled
+      autoCancelled.forEach(notificationService::notifyLoansAutoCancelled);
+    } catch (Exception e) {
+      // Transitions are already committed; a notification failure must not fail the batch
+      log.error("Failed to dispatch batch {} notifications: {}", action, e.getMessage());
+    }
+  }
+
+  private UUID customerId(Loan loan) {
+    return loan.getCustomer() != null ? loan.getCustomer().getId() : null;
+  }
+
+  private BatchLoanActionResponse.Item failure(UUID loanId, String message) {
+    return BatchLoanActionResponse.Item.builder()
+        .loanId(loanId)
+        .success(false)
+        .message(message)
+        .build();
+  }
+}
@@ -1,7 +1,12 @@
 package com.lofi.lofiapps.service.impl.usecase.loan;
 
 import com.lofi.lofiapps.dto.response.BranchManagerSupportResponse;
-import java.util.Collections;
+import com.lofi.lofiapps.entity.Loan;
+import com.lofi.lofiapps.enums.AiPromptType;
+import com.lofi.lofiapps.enums.AnalysisStatus;
+import com.lofi.lofiapps.exception.ResourceNotFoundException;
+import com.lofi.lofiapps.repository.LoanRepository;
+import com.lofi.lofiapps.service.impl.usecase.ai.LoanAnalysisPipeline;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,14 +17,18 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class BranchManagerSupportUseCase {
 
+  private final LoanRepository loanRepository;
+  private final LoanAnalysisPipeline loanAnalysisPipeline;
+
   public BranchManagerSupportResponse execute(UUID loanId) {
     log.info("Branch manager support analysis for loan: {}", loanId);
-    return BranchManagerSupportResponse.builder()
-        .confidence(0.92)
-        .branchRisks(Collections.emptyList())
-        .attentionPoints(
-            Collections.singletonList("Monitor local market trends for this customer sector"))
-        .limitations(Collections.emptyList())
-        .build();
+    Loan loan =
+        loanRepository
+            .findById(loanId)
+            .orElseThrow(() -> new ResourceNotFoundException("Loan", "id", loanId.toString()));
+    return loanAnalysisPipeline
+        .find(loan, AiPromptType.BRANCH_MANAGER_SUPPORT, BranchManagerSupportResponse.class)
+        .orElseGet(
+            () -> BranchManagerSupportResponse.builder().status(AnalysisStatus.PENDING).build());
   }
 }
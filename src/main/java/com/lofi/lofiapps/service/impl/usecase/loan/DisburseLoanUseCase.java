@@ -8,6 +8,7 @@ import com.lofi.lofiapps.mapper.LoanDtoMapper;
 import com.lofi.lofiapps.repository.LoanRepository;
 import com.lofi.lofiapps.service.NotificationService;
 import com.lofi.lofiapps.service.impl.factory.ApprovalHistoryFactory;
+import com.lofi.lofiapps.service.impl.usecase.repayment.InstallmentLedger;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +25,7 @@ public class DisburseLoanUseCase {
   private final ApprovalHistoryFactory approvalHistoryFactory;
   private final NotificationService notificationService;
   private final LoanDtoMapper loanDtoMapper;
+  private final InstallmentLedger installmentLedger;
 
   @Transactional
   public LoanResponse execute(UUID loanId, String officerUsername, String notes) {
@@ -51,6 +53,7 @@ public class DisburseLoanUseCase {
         loan.getAccountHolderName());
 
     Loan savedLoan = loanRepository.save(loan);
+    installmentLedger.open(savedLoan);
 
     // Save history
     // Save history
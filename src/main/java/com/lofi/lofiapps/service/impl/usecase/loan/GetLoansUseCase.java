@@ -1,6 +1,7 @@
 package com.lofi.lofiapps.service.impl.usecase.loan;
 
 import com.lofi.lofiapps.dto.request.LoanCriteria;
+import com.lofi.lofiapps.dto.response.LoanAnalysisResponse;
 import com.lofi.lofiapps.dto.response.LoanResponse;
 import com.lofi.lofiapps.dto.response.PagedResponse;
 import com.lofi.lofiapps.entity.Loan;
@@ -11,6 +12,8 @@ import com.lofi.lofiapps.service.impl.mapper.DocumentMapper;
 import jakarta.persistence.criteria.Predicate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,6 +21,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Component
@@ -30,6 +34,7 @@ public class GetLoansUseCase {
   private final AnalyzeLoanUseCase analyzeLoanUseCase;
   private final DocumentMapper documentMapper;
 
+  @Transactional(readOnly = true)
   public PagedResponse<LoanResponse> execute(LoanCriteria criteria, Pageable pageable) {
     Specification<Loan> spec =
         (root, query, cb) -> {
@@ -51,6 +56,8 @@ public class GetLoansUseCase {
         };
 
     Page<Loan> page = loanRepository.findAll(spec, pageable);
+    // Stored analyses for the whole page in one lookup; the model is never called here
+    Map<UUID, LoanAnalysisResponse> analyses = analyzeLoanUseCase.executeAll(page.getContent());
 
     List<LoanResponse> items =
         page.getContent().stream()
@@ -63,7 +70,8 @@ public class GetLoansUseCase {
                           .map(documentMapper::toResponse)
                           .collect(Collectors.toList()));
                   // Populate AI Analysis
-                  resp.setAiAnalysis(analyzeLoanUseCase.execute(loan.getId()));
+                  resp.setAiAnalysis(
+                      analyses.getOrDefault(loan.getId(), AnalyzeLoanUseCase.pending()));
                   return resp;
                 })
             .collect(Collectors.toList());
@@ -1,7 +1,12 @@
 package com.lofi.lofiapps.service.impl.usecase.loan;
 
 import com.lofi.lofiapps.dto.response.MarketingLoanReviewResponse;
-import java.util.Collections;
+import com.lofi.lofiapps.entity.Loan;
+import com.lofi.lofiapps.enums.AiPromptType;
+import com.lofi.lofiapps.enums.AnalysisStatus;
+import com.lofi.lofiapps.exception.ResourceNotFoundException;
+import com.lofi.lofiapps.repository.LoanRepository;
+import com.lofi.lofiapps.service.impl.usecase.ai.LoanAnalysisPipeline;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,13 +17,18 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class MarketingReviewLoanUseCase {
 
+  private final LoanRepository loanRepository;
+  private final LoanAnalysisPipeline loanAnalysisPipeline;
+
   public MarketingLoanReviewResponse execute(UUID loanId) {
     log.info("Marketing review for loan: {}", loanId);
-    return MarketingLoanReviewResponse.builder()
-        .confidence(0.9)
-        .dataInconsistencies(Collections.emptyList())
-        .suggestedQuestions(Collections.singletonList("Ask about source of income stability"))
-        .notes("Initial marketing analysis completed for loan " + loanId)
-        .build();
+    Loan loan =
+        loanRepository
+            .findById(loanId)
+            .orElseThrow(() -> new ResourceNotFoundException("Loan", "id", loanId.toString()));
+    return loanAnalysisPipeline
+        .find(loan, AiPromptType.MARKETING_REVIEW, MarketingLoanReviewResponse.class)
+        .orElseGet(
+            () -> MarketingLoanReviewResponse.builder().status(AnalysisStatus.PENDING).build());
   }
 }
@@ -15,9 +15,13 @@ import com.lofi.lofiapps.service.impl.factory.ApprovalHistoryFactory;
 import com.lofi.lofiapps.service.impl.validator.RiskValidator;
 import com.lofi.lofiapps.service.impl.validator.UserBiodataValidator;
 import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +30,9 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class SubmitLoanUseCase {
 
+  private static final Set<DocumentType> REQUIRED_DOCUMENTS =
+      EnumSet.of(DocumentType.KTP, DocumentType.KK, DocumentType.NPWP);
+
   private final LoanRepository loanRepository;
   private final DocumentRepository documentRepository;
   private final NotificationService notificationService;
@@ -34,6 +41,10 @@ public class SubmitLoanUseCase {
   private final RiskValidator riskValidator;
   private final ApprovalHistoryFactory approvalHistoryFactory;
 
+  // Off until every client confirms its uploads; legacy uploads are never verified
+  @Value("${app.documents.require-verified:false}")
+  private boolean requireVerified;
+
   @Transactional
   public LoanResponse execute(UUID loanId, String username) {
     Loan loan =
@@ -97,13 +108,17 @@ public class SubmitLoanUseCase {
   }
 
   private void validateDocuments(UUID loanId) {
-    long ktpCount = documentRepository.countByLoanIdAndDocumentType(loanId, DocumentType.KTP);
-    long kkCount = documentRepository.countByLoanIdAndDocumentType(loanId, DocumentType.KK);
-    long npwpCount = documentRepository.countByLoanIdAndDocumentType(loanId, DocumentType.NPWP);
-
-    if (ktpCount == 0 || kkCount == 0 || npwpCount == 0) {
-      throw new IllegalStateException(
-          "Required documents missing. Please upload KTP, KK, and NPWP.");
+    Set<DocumentType> present =
+        requireVerified
+            ? documentRepository.findVerifiedDocumentTypes(loanId, REQUIRED_DOCUMENTS)
+            : documentRepository.findUploadedDocumentTypes(loanId, REQUIRED_DOCUMENTS);
+    if (!present.containsAll(REQUIRED_DOCUMENTS)) {
+      String missing =
+          REQUIRED_DOCUMENTS.stream()
+              .filter(type -> !present.contains(type))
+              .map(Enum::name)
+              .collect(Collectors.joining(", "));
+      throw new IllegalStateException("Required documents missing or not yet verified: " + missing);
     }
   }
 }
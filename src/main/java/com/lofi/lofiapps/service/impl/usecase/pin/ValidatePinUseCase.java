@@ -6,13 +6,13 @@ import com.lofi.lofiapps.exception.PinValidationException;
 import com.lofi.lofiapps.exception.ResourceNotFoundException;
 import com.lofi.lofiapps.repository.AuditLogRepository;
 import com.lofi.lofiapps.repository.UserRepository;
+import com.lofi.lofiapps.security.service.CredentialHasher;
 import com.lofi.lofiapps.service.RateLimitService;
 import com.lofi.lofiapps.service.impl.validator.PinValidator;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -24,7 +24,7 @@ public class ValidatePinUseCase {
   private final PinValidator pinValidator;
   private final RateLimitService rateLimitService;
   private final AuditLogRepository auditLogRepository;
-  private final PasswordEncoder passwordEncoder;
+  private final CredentialHasher credentialHasher;
 
   private static final int MAX_ATTEMPTS = 5;
   private static final int RATE_LIMIT_WINDOW_MINUTES = 60;
@@ -70,7 +70,7 @@ public class ValidatePinUseCase {
     }
 
     // Validate PIN against hash
-    boolean isValid = passwordEncoder.matches(pin, user.getPin());
+    boolean isValid = credentialHasher.matches(pin, user.getPin());
 
     if (isValid) {
       log.info("PIN validation successful for user {}", userId);
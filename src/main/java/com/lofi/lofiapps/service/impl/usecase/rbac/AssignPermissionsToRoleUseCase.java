@@ -6,6 +6,7 @@ import com.lofi.lofiapps.entity.Role;
 import com.lofi.lofiapps.exception.ResourceNotFoundException;
 import com.lofi.lofiapps.repository.PermissionRepository;
 import com.lofi.lofiapps.repository.RoleRepository;
+import com.lofi.lofiapps.service.ReferenceCacheInvalidator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.UUID;
@@ -18,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class AssignPermissionsToRoleUseCase {
   private final RoleRepository roleRepository;
   private final PermissionRepository permissionRepository;
+  private final ReferenceCacheInvalidator referenceCacheInvalidator;
 
   @Transactional
   public void execute(UUID roleId, AssignPermissionsRequest request) {
@@ -39,5 +41,6 @@ public class AssignPermissionsToRoleUseCase {
 
     role.getPermissions().addAll(permissions);
     roleRepository.save(role);
+    referenceCacheInvalidator.invalidate(Role.class, roleId);
   }
 }
@@ -7,6 +7,7 @@ import com.lofi.lofiapps.enums.RoleName;
 import com.lofi.lofiapps.exception.ResourceNotFoundException;
 import com.lofi.lofiapps.repository.RoleRepository;
 import com.lofi.lofiapps.repository.UserRepository;
+import com.lofi.lofiapps.service.ReferenceCacheInvalidator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.UUID;
@@ -19,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class AssignRolesToUserUseCase {
   private final UserRepository userRepository;
   private final RoleRepository roleRepository;
+  private final ReferenceCacheInvalidator referenceCacheInvalidator;
 
   @Transactional
   public void execute(UUID userId, AssignRolesRequest request) {
@@ -57,5 +59,6 @@ public class AssignRolesToUserUseCase {
 
     user.getRoles().addAll(roles);
     userRepository.save(user);
+    referenceCacheInvalidator.invalidate(User.class, userId);
   }
 }
@@ -4,6 +4,7 @@ import com.lofi.lofiapps.dto.request.CreateBranchRequest;
 import com.lofi.lofiapps.dto.response.BranchResponse;
 import com.lofi.lofiapps.entity.Branch;
 import com.lofi.lofiapps.repository.BranchRepository;
+import com.lofi.lofiapps.service.ReferenceCacheInvalidator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,6 +13,7 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class CreateBranchUseCase {
   private final BranchRepository branchRepository;
+  private final ReferenceCacheInvalidator referenceCacheInvalidator;
 
   @Transactional
   public BranchResponse execute(CreateBranchRequest request) {
@@ -28,6 +30,7 @@ public class CreateBranchUseCase {
             .build();
 
     Branch savedBranch = branchRepository.save(branch);
+    referenceCacheInvalidator.invalidate(Branch.class, savedBranch.getId());
 
     return BranchResponse.builder()
         .id(savedBranch.getId())
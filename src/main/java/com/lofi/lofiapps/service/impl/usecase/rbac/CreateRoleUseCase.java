@@ -7,6 +7,7 @@ import com.lofi.lofiapps.entity.Permission;
 import com.lofi.lofiapps.entity.Role;
 import com.lofi.lofiapps.repository.PermissionRepository;
 import com.lofi.lofiapps.repository.RoleRepository;
+import com.lofi.lofiapps.service.ReferenceCacheInvalidator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -19,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class CreateRoleUseCase {
   private final RoleRepository roleRepository;
   private final PermissionRepository permissionRepository;
+  private final ReferenceCacheInvalidator referenceCacheInvalidator;
 
   @Transactional
   public RoleResponse execute(CreateRoleRequest request) {
@@ -36,6 +38,7 @@ public class CreateRoleUseCase {
     }
 
     Role saved = roleRepository.save(role);
+    referenceCacheInvalidator.invalidate(Role.class, saved.getId());
 
     // Build permissions response
     List<PermissionResponse> permissionResponses =
@@ -1,6 +1,8 @@
 package com.lofi.lofiapps.service.impl.usecase.rbac;
 
+import com.lofi.lofiapps.entity.Branch;
 import com.lofi.lofiapps.repository.BranchRepository;
+import com.lofi.lofiapps.service.ReferenceCacheInvalidator;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -10,9 +12,11 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class DeleteBranchUseCase {
   private final BranchRepository branchRepository;
+  private final ReferenceCacheInvalidator referenceCacheInvalidator;
 
   @Transactional
   public void execute(UUID id) {
     branchRepository.deleteById(id);
+    referenceCacheInvalidator.invalidate(Branch.class, id);
   }
 }
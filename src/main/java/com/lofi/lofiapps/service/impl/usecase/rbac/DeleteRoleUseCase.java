@@ -1,8 +1,10 @@
 package com.lofi.lofiapps.service.impl.usecase.rbac;
 
+import com.lofi.lofiapps.entity.Role;
 import com.lofi.lofiapps.exception.ResourceNotFoundException;
 import com.lofi.lofiapps.repository.RoleRepository;
 import com.lofi.lofiapps.repository.UserRepository;
+import com.lofi.lofiapps.service.ReferenceCacheInvalidator;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -13,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteRoleUseCase {
   private final RoleRepository roleRepository;
   private final UserRepository userRepository;
+  private final ReferenceCacheInvalidator referenceCacheInvalidator;
 
   @Transactional
   public void execute(UUID roleId) {
@@ -26,5 +29,6 @@ public class DeleteRoleUseCase {
     }
 
     roleRepository.deleteById(roleId);
+    referenceCacheInvalidator.invalidate(Role.class, roleId);
   }
 }
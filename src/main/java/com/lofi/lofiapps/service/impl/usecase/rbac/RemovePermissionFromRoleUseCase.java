@@ -5,6 +5,7 @@ import com.lofi.lofiapps.entity.Role;
 import com.lofi.lofiapps.exception.ResourceNotFoundException;
 import com.lofi.lofiapps.repository.PermissionRepository;
 import com.lofi.lofiapps.repository.RoleRepository;
+import com.lofi.lofiapps.service.ReferenceCacheInvalidator;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -15,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class RemovePermissionFromRoleUseCase {
   private final RoleRepository roleRepository;
   private final PermissionRepository permissionRepository;
+  private final ReferenceCacheInvalidator referenceCacheInvalidator;
 
   @Transactional
   public void execute(UUID roleId, UUID permissionId) {
@@ -32,6 +34,7 @@ public class RemovePermissionFromRoleUseCase {
     if (role.getPermissions() != null) {
       role.getPermissions().remove(permission);
       roleRepository.save(role);
+      referenceCacheInvalidator.invalidate(Role.class, roleId);
     }
   }
 }
@@ -5,6 +5,7 @@ import com.lofi.lofiapps.entity.User;
 import com.lofi.lofiapps.exception.ResourceNotFoundException;
 import com.lofi.lofiapps.repository.RoleRepository;
 import com.lofi.lofiapps.repository.UserRepository;
+import com.lofi.lofiapps.service.ReferenceCacheInvalidator;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -15,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class RemoveRoleFromUserUseCase {
   private final UserRepository userRepository;
   private final RoleRepository roleRepository;
+  private final ReferenceCacheInvalidator referenceCacheInvalidator;
 
   @Transactional
   public void execute(UUID userId, UUID roleId) {
@@ -31,6 +33,7 @@ public class RemoveRoleFromUserUseCase {
     if (user.getRoles() != null) {
       user.getRoles().remove(role);
       userRepository.save(user);
+      referenceCacheInvalidator.invalidate(User.class, userId);
     }
   }
 }
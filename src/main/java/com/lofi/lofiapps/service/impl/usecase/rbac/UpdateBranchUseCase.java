@@ -5,6 +5,7 @@ import com.lofi.lofiapps.dto.response.BranchResponse;
 import com.lofi.lofiapps.entity.Branch;
 import com.lofi.lofiapps.exception.ResourceNotFoundException;
 import com.lofi.lofiapps.repository.BranchRepository;
+import com.lofi.lofiapps.service.ReferenceCacheInvalidator;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -14,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class UpdateBranchUseCase {
   private final BranchRepository branchRepository;
+  private final ReferenceCacheInvalidator referenceCacheInvalidator;
 
   @Transactional
   public BranchResponse execute(UUID id, CreateBranchRequest request) {
@@ -32,6 +34,7 @@ public class UpdateBranchUseCase {
     branch.setLatitude(request.getLatitude());
 
     Branch savedBranch = branchRepository.save(branch);
+    referenceCacheInvalidator.invalidate(Branch.class, id);
 
     return BranchResponse.builder()
         .id(savedBranch.getId())
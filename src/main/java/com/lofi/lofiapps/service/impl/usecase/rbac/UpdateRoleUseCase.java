@@ -8,6 +8,7 @@ import com.lofi.lofiapps.entity.Role;
 import com.lofi.lofiapps.exception.ResourceNotFoundException;
 import com.lofi.lofiapps.repository.PermissionRepository;
 import com.lofi.lofiapps.repository.RoleRepository;
+import com.lofi.lofiapps.service.ReferenceCacheInvalidator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.UUID;
@@ -21,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class UpdateRoleUseCase {
   private final RoleRepository roleRepository;
   private final PermissionRepository permissionRepository;
+  private final ReferenceCacheInvalidator referenceCacheInvalidator;
 
   @Transactional
   public RoleResponse execute(UUID roleId, UpdateRoleRequest request) {
@@ -41,6 +43,7 @@ public class UpdateRoleUseCase {
     }
 
     Role saved = roleRepository.save(role);
+    referenceCacheInvalidator.invalidate(Role.class, roleId);
 
     // Build permissions response
     List<PermissionResponse> permissionResponses =
@@ -0,0 +1,269 @@
+package com.lofi.lofiapps.service.impl.usecase.repayment;
+
+import com.lofi.lofiapps.entity.BatchCheckpoint;
+import com.lofi.lofiapps.entity.LoanInstallment;
+import com.lofi.lofiapps.repository.BatchCheckpointRepository;
+import com.lofi.lofiapps.repository.DelinquencyRepository;
+import com.lofi.lofiapps.repository.DelinquencyStep;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Lock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.integration.redis.util.RedisLockRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Nightly delinquency run: ages every installment of disbursed loans (opening ledgers that are
+ * still missing), then refreshes each customer's {@code totalOverdueDays} and {@code
+ * loansCompleted}, which the risk checks read. Each step's rows are split into key ranges that run
+ * in parallel; every chunk commits together with its partition's checkpoint, so a run cut short by
+ * a crash or its time budget resumes where it stopped on the next trigger of the same night.
+ */
+@Slf4j
+@Component
+public class DelinquencyBatch {
+
+  static final String LOCK_KEY = "lock:delinquency-batch";
+  static final String JOB_NAME = "delinquency";
+
+  private final DelinquencyRepository delinquencyRepository;
+  private final BatchCheckpointRepository checkpointRepository;
+  private final InstallmentLedger installmentLedger;
+  private final TransactionTemplate transactionTemplate;
+  private final RedisLockRegistry batchLockRegistry;
+  private final MeterRegistry meterRegistry;
+  private final Executor executor;
+  private final Clock clock;
+
+  @Value("${app.repayment.delinquency.enabled:true}")
+  private boolean enabled;
+
+  @Value("${app.repayment.delinquency.partitions:4}")
+  private int partitions;
+
+  @Value("${app.repayment.delinquency.chunk-size:500}")
+  private int chunkSize;
+
+  @Value("${app.repayment.delinquency.max-run-minutes:25}")
+  private long maxRunMinutes;
+
+  @Value("${app.repayment.delinquency.lookback-months:12}")
+  private int lookbackMonths;
+
+  @Autowired
+  public DelinquencyBatch(
+      DelinquencyRepository delinquencyRepository,
+      BatchCheckpointRepository checkpointRepository,
+      InstallmentLedger installmentLedger,
+      TransactionTemplate transactionTemplate,
+      @Qualifier("batchLockRegistry") RedisLockRegistry batchLockRegistry,
+      MeterRegistry meterRegistry,
+      @Qualifier("delinquencyExecutor") Executor executor) {
+    this(
+        delinquencyRepository,
+        checkpointRepository,
+        installmentLedger,
+        transactionTemplate,
+        batchLockRegistry,
+        meterRegistry,
+        executor,
+        Clock.systemDefaultZone());
+  }
+
+  DelinquencyBatch(
+      DelinquencyRepository delinquencyRepository,
+      BatchCheckpointRepository checkpointRepository,
+      InstallmentLedger installmentLedger,
+      TransactionTemplate transactionTemplate,
+      RedisLockRegistry batchLockRegistry,
+      MeterRegistry meterRegistry,
+      Executor executor,
+      Clock clock) {
+    this.delinquencyRepository = delinquencyRepository;
+    this.checkpointRepository = checkpointRepository;
+    this.installmentLedger = installmentLedger;
+    this.transactionTemplate = transactionTemplate;
+    this.batchLockRegistry = batchLockRegistry;
+    this.meterRegistry = meterRegistry;
+    this.executor = executor;
+    this.clock = clock;
+  }
+
+  /**
+   * Fires several times a night; the first trigger plans the night's run and later ones resume it,
+   * until every partition is complete.
+   */
+  @Scheduled(cron = "${app.repayment.delinquency.cron:0 0/30 1-4 * * *}")
+  public void runNightly() {
+    if (enabled) {
+      withLock(this::run);
+    }
+  }
+
+  void run() {
+    LocalDate runDate = LocalDate.now(clock);
+    Instant deadline = clock.instant().plus(Duration.ofMinutes(maxRunMinutes));
+    List<BatchCheckpoint> checkpoints =
+        checkpointRepository.findByJobNameAndRunDateOrderByStepAscPartitionNoAsc(JOB_NAME, runDate);
+    if (checkpoints.isEmpty()) {
+      checkpoints = plan(runDate);
+    }
+    for (DelinquencyStep step : DelinquencyStep.values()) {
+      List<BatchCheckpoint> pending =
+          checkpoints.stream()
+              .filter(c -> c.getStep().equals(step.name()) && !c.isCompleted())
+              .toList();
+      if (pending.isEmpty()) {
+        continue;
+      }
+      if (!runStep(step, pending, runDate, deadline)) {
+        log.info("Delinquency run for {} stopped at {}; the next trigger resumes", runDate, step);
+        return;
+      }
+      log.info("Delinquency run for {} finished {}", runDate, step);
+    }
+  }
+
+  /** One checkpoint per partition of every step; a partition starts just after its lower bound. */
+  private List<BatchCheckpoint> plan(LocalDate runDate) {
+    List<BatchCheckpoint> checkpoints = new ArrayList<>();
+    for (DelinquencyStep step : DelinquencyStep.values()) {
+      List<String> bounds = delinquencyRepository.partitionBounds(step, partitions);
+      for (int p = 0; p <= bounds.size(); p++) {
+        String lower = p == 0 ? null : bounds.get(p - 1);
+        checkpoints.add(
+            BatchCheckpoint.builder()
+                .jobName(JOB_NAME)
+                .runDate(runDate)
+                .step(step.name())
+                .partitionNo(p)
+                .lowerBound(lower)
+                .upperBound(p == bounds.size() ? null : bounds.get(p))
+                .lastKey(lower)
+                .createdBy("system")
+                .build());
+      }
+    }
+    log.info("Planned delinquency run for {} in {} partitions", runDate, checkpoints.size());
+    return checkpointRepository.saveAll(checkpoints);
+  }
+
+  /** Runs the step's partitions in parallel; true once all of them are complete. */
+  private boolean runStep(
+      DelinquencyStep step, List<BatchCheckpoint> pending, LocalDate asOf, Instant deadline) {
+    List<CompletableFuture<Boolean>> partitionRuns =
+        pending.stream()
+            .map(
+                checkpoint ->
+                    CompletableFuture.supplyAsync(
+                        () -> runPartition(step, checkpoint, asOf, deadline), executor))
+            .toList();
+    boolean completed = true;
+    for (CompletableFuture<Boolean> partitionRun : partitionRuns) {
+      completed &= partitionRun.join();
+    }
+    return completed;
+  }
+
+  private boolean runPartition(
+      DelinquencyStep step, BatchCheckpoint checkpoint, LocalDate asOf, Instant deadline) {
+    String after = checkpoint.getLastKey();
+    long rows = 0;
+    try {
+      while (clock.instant().isBefore(deadline)) {
+        String from = after;
+        List<String> keys =
+            transactionTemplate.execute(status -> processChunk(step, checkpoint, from, asOf));
+        rows += keys.size();
+        if (keys.size() < chunkSize) {
+          return true;
+        }
+        after = keys.get(keys.size() - 1);
+      }
+      return false;
+    } catch (RuntimeException e) {
+      meterRegistry.counter("lofi.delinquency.failures", "step", step.name()).increment();
+      log.error(
+          "Delinquency {} partition {} failed after {} rows",
+          step,
+          checkpoint.getPartitionNo(),
+          rows,
+          e);
+      return false;
+    } finally {
+      meterRegistry.counter("lofi.delinquency.rows", "step", step.name()).increment(rows);
+    }
+  }
+
+  /** The next chunk of the partition and its checkpoint, in one transaction. */
+  private List<String> processChunk(
+      DelinquencyStep step, BatchCheckpoint checkpoint, String after, LocalDate asOf) {
+    List<String> keys =
+        delinquencyRepository.nextKeys(step, after, checkpoint.getUpperBound(), chunkSize);
+    LocalDateTime now = LocalDateTime.now(clock);
+    if (!keys.isEmpty()) {
+      switch (step) {
+        case LOANS -> ageLoans(keys, asOf);
+        case CUSTOMERS -> delinquencyRepository.refreshCustomerAggregates(
+            keys, asOf.minusMonths(lookbackMonths));
+      }
+      checkpointRepository.advance(checkpoint.getId(), keys.get(keys.size() - 1), keys.size(), now);
+    }
+    if (keys.size() < chunkSize) {
+      checkpointRepository.complete(checkpoint.getId(), now);
+    }
+    return keys;
+  }
+
+  private void ageLoans(List<String> loanIds, LocalDate asOf) {
+    List<LoanInstallment> opened = new ArrayList<>();
+    for (DelinquencyRepository.LoanTerms loan :
+        delinquencyRepository.findLoansWithoutInstallments(loanIds)) {
+      opened.addAll(
+          installmentLedger.installments(
+              loan.id(),
+              loan.loanAmount(),
+              loan.interestRate(),
+              loan.tenor(),
+              loan.disbursedAt().toLocalDate()));
+    }
+    delinquencyRepository.insertInstallments(opened);
+    delinquencyRepository.ageInstallments(loanIds, asOf);
+  }
+
+  private void withLock(Runnable task) {
+    Lock lock = batchLockRegistry.obtain(LOCK_KEY);
+    boolean locked = false;
+    try {
+      locked = lock.tryLock();
+      if (!locked) {
+        log.debug("Delinquency batch is running elsewhere, skipping");
+        return;
+      }
+      task.run();
+    } catch (RuntimeException e) {
+      log.error("Delinquency batch failed", e);
+    } finally {
+      if (locked) {
+        try {
+          lock.unlock();
+        } catch (Exception e) {
+          log.warn("Failed to unlock {}", LOCK_KEY, e);
+        }
+      }
+    }
+  }
+}
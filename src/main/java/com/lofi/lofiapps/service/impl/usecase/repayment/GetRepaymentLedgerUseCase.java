@@ -0,0 +1,39 @@
+package com.lofi.lofiapps.service.impl.usecase.repayment;
+
+import com.lofi.lofiapps.dto.response.RepaymentLedgerResponse;
+import com.lofi.lofiapps.exception.ResourceNotFoundException;
+import com.lofi.lofiapps.repository.LoanInstallmentRepository;
+import com.lofi.lofiapps.repository.LoanPaymentRepository;
+import com.lofi.lofiapps.repository.LoanRepository;
+import com.lofi.lofiapps.service.impl.mapper.RepaymentLedgerMapper;
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Installments and payments of one loan. Empty until the loan is disbursed; a loan disbursed before
+ * the ledger existed shows its installments after the next delinquency batch run.
+ */
+@Component
+@RequiredArgsConstructor
+public class GetRepaymentLedgerUseCase {
+
+  private final LoanRepository loanRepository;
+  private final LoanInstallmentRepository loanInstallmentRepository;
+  private final LoanPaymentRepository loanPaymentRepository;
+  private final RepaymentLedgerMapper repaymentLedgerMapper;
+
+  @Transactional(readOnly = true)
+  public RepaymentLedgerResponse execute(UUID loanId) {
+    if (!loanRepository.existsById(loanId)) {
+      throw new ResourceNotFoundException("Loan", "id", loanId);
+    }
+    return repaymentLedgerMapper.toResponse(
+        loanId,
+        loanInstallmentRepository.findByLoanIdOrderByInstallmentNumber(loanId),
+        loanPaymentRepository.findByLoanIdOrderByPaidAtDesc(loanId),
+        LocalDate.now());
+  }
+}
@@ -0,0 +1,101 @@
+package com.lofi.lofiapps.service.impl.usecase.repayment;
+
+import com.lofi.lofiapps.entity.Loan;
+import com.lofi.lofiapps.entity.LoanInstallment;
+import com.lofi.lofiapps.enums.AmortizationMethod;
+import com.lofi.lofiapps.repository.LoanInstallmentRepository;
+import com.lofi.lofiapps.service.impl.calculator.AmortizationEngine;
+import com.lofi.lofiapps.service.impl.calculator.InstallmentSchedule;
+import com.lofi.lofiapps.service.impl.usecase.schedule.InstallmentScheduleCache;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Opens the repayment ledger of a disbursed loan: its installments, from the same schedule {@code
+ * GET /loans/{id}/schedule} shows, with installment {@code k} due {@code k} months after
+ * disbursement. Loans disbursed before the ledger existed are opened by the delinquency batch.
+ */
+@Component
+public class InstallmentLedger {
+
+  private final LoanInstallmentRepository loanInstallmentRepository;
+  private final InstallmentScheduleCache scheduleCache;
+  private final AmortizationMethod method;
+
+  public InstallmentLedger(
+      LoanInstallmentRepository loanInstallmentRepository,
+      InstallmentScheduleCache scheduleCache,
+      @Value("${app.schedule.default-method:FLAT}") AmortizationMethod method) {
+    this.loanInstallmentRepository = loanInstallmentRepository;
+    this.scheduleCache = scheduleCache;
+    this.method = method;
+  }
+
+  /** Saves the installments of a loan that was just disbursed, unless it already has them. */
+  public void open(Loan loan) {
+    if (loan.getDisbursedAt() == null || loanInstallmentRepository.existsByLoanId(loan.getId())) {
+      return;
+    }
+    loanInstallmentRepository.saveAll(
+        installments(
+            loan.getId(),
+            loan.getLoanAmount(),
+            loan.getInterestRate(),
+            loan.getTenor(),
+            loan.getDisbursedAt().toLocalDate()));
+  }
+
+  /**
+   * Saves the installments of loans disbursed together in one transaction, as a single batch. The
+   * loans were approved a moment ago, so none of them has installments yet.
+   */
+  public void openAll(Collection<Loan> loans) {
+    List<LoanInstallment> installments = new ArrayList<>();
+    for (Loan loan : loans) {
+      installments.addAll(
+          installments(
+              loan.getId(),
+              loan.getLoanAmount(),
+              loan.getInterestRate(),
+              loan.getTenor(),
+              loan.getDisbursedAt().toLocalDate()));
+    }
+    if (!installments.isEmpty()) {
+      loanInstallmentRepository.saveAll(installments);
+    }
+  }
+
+  /** The unsaved installments of a loan with these terms. */
+  public List<LoanInstallment> installments(
+      UUID loanId,
+      BigDecimal loanAmount,
+      BigDecimal interestRate,
+      int tenor,
+      LocalDate disbursedOn) {
+    InstallmentSchedule schedule =
+        scheduleCache.get(
+            method,
+            AmortizationEngine.toMinorUnits(loanAmount),
+            AmortizationEngine.toBasisPoints(interestRate),
+            tenor);
+    List<LoanInstallment> installments = new ArrayList<>(tenor);
+    for (int i = 0; i < schedule.tenor(); i++) {
+      installments.add(
+          LoanInstallment.builder()
+              .loanId(loanId)
+              .installmentNumber(i + 1)
+              .dueDate(disbursedOn.plusMonths(i + 1L))
+              .principalAmount(AmortizationEngine.fromMinorUnits(schedule.principalParts()[i]))
+              .interestAmount(AmortizationEngine.fromMinorUnits(schedule.interestParts()[i]))
+              .amountDue(AmortizationEngine.fromMinorUnits(schedule.payment(i)))
+              .build());
+    }
+    return installments;
+  }
+}
@@ -0,0 +1,118 @@
+package com.lofi.lofiapps.service.impl.usecase.repayment;
+
+import com.lofi.lofiapps.dto.request.RecordPaymentRequest;
+import com.lofi.lofiapps.dto.response.RepaymentLedgerResponse;
+import com.lofi.lofiapps.entity.Loan;
+import com.lofi.lofiapps.entity.LoanInstallment;
+import com.lofi.lofiapps.entity.LoanPayment;
+import com.lofi.lofiapps.enums.InstallmentStatus;
+import com.lofi.lofiapps.enums.LoanStatus;
+import com.lofi.lofiapps.exception.ResourceNotFoundException;
+import com.lofi.lofiapps.repository.LoanInstallmentRepository;
+import com.lofi.lofiapps.repository.LoanPaymentRepository;
+import com.lofi.lofiapps.repository.LoanRepository;
+import com.lofi.lofiapps.service.impl.mapper.RepaymentLedgerMapper;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Books a repayment against a disbursed loan, filling its unpaid installments oldest first. The
+ * installments are locked for the allocation, so concurrent payments for one loan queue up instead
+ * of both filling the same installment. A concurrent payment that opens the ledger or books the
+ * same reference first fails this one on the unique keys, which is reported like the checks.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecordPaymentUseCase {
+
+  private final LoanRepository loanRepository;
+  private final LoanInstallmentRepository loanInstallmentRepository;
+  private final LoanPaymentRepository loanPaymentRepository;
+  private final InstallmentLedger installmentLedger;
+  private final RepaymentLedgerMapper repaymentLedgerMapper;
+
+  @Transactional
+  public RepaymentLedgerResponse execute(
+      UUID loanId, RecordPaymentRequest request, UUID recordedBy) {
+    Loan loan =
+        loanRepository
+            .findById(loanId)
+            .orElseThrow(() -> new ResourceNotFoundException("Loan", "id", loanId));
+    if (loan.getLoanStatus() != LoanStatus.DISBURSED) {
+      throw new IllegalStateException("Payments can only be recorded for disbursed loans");
+    }
+    String reference = request.getReferenceNumber().trim();
+    if (loanPaymentRepository.existsByLoanIdAndReference(loanId, reference)) {
+      throw new IllegalStateException("Payment " + reference + " is already recorded");
+    }
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime paidAt = request.getPaidAt() != null ? request.getPaidAt() : now;
+    if (paidAt.isBefore(loan.getDisbursedAt())) {
+      throw new IllegalArgumentException("Payment cannot be dated before disbursement");
+    }
+
+    try {
+      // Loans disbursed before the ledger existed may not have been opened by the batch yet
+      installmentLedger.open(loan);
+      loanInstallmentRepository.flush();
+    } catch (DataIntegrityViolationException e) {
+      throw new IllegalStateException(
+          "Another payment for loan " + loanId + " is being recorded; retry", e);
+    }
+    List<LoanInstallment> unpaid =
+        loanInstallmentRepository.findByLoanIdAndPaidAtIsNullOrderByInstallmentNumber(loanId);
+    BigDecimal outstanding =
+        unpaid.stream().map(LoanInstallment::outstanding).reduce(BigDecimal.ZERO, BigDecimal::add);
+    if (request.getAmount().compareTo(outstanding) > 0) {
+      throw new IllegalArgumentException(
+          "Payment of " + request.getAmount() + " exceeds the outstanding " + outstanding);
+    }
+
+    BigDecimal remaining = request.getAmount();
+    for (LoanInstallment installment : unpaid) {
+      if (remaining.signum() == 0) {
+        break;
+      }
+      BigDecimal applied = remaining.min(installment.outstanding());
+      installment.setAmountPaid(installment.getAmountPaid().add(applied));
+      remaining = remaining.subtract(applied);
+      if (installment.outstanding().signum() == 0) {
+        installment.setPaidAt(paidAt);
+        installment.setStatus(InstallmentStatus.PAID);
+        installment.setDaysOverdue(
+            (int)
+                Math.max(
+                    0, ChronoUnit.DAYS.between(installment.getDueDate(), paidAt.toLocalDate())));
+      }
+    }
+
+    try {
+      loanPaymentRepository.saveAndFlush(
+          LoanPayment.builder()
+              .loanId(loanId)
+              .amount(request.getAmount())
+              .paidAt(paidAt)
+              .reference(reference)
+              .recordedBy(recordedBy)
+              .build());
+    } catch (DataIntegrityViolationException e) {
+      throw new IllegalStateException("Payment " + reference + " is already recorded", e);
+    }
+    log.info("Recorded payment {} of {} for loan {}", reference, request.getAmount(), loanId);
+
+    return repaymentLedgerMapper.toResponse(
+        loanId,
+        loanInstallmentRepository.findByLoanIdOrderByInstallmentNumber(loanId),
+        loanPaymentRepository.findByLoanIdOrderByPaidAtDesc(loanId),
+        now.toLocalDate());
+  }
+}
@@ -2,21 +2,21 @@ package com.lofi.lofiapps.service.impl.usecase.report;
 
 import com.lofi.lofiapps.dto.response.LoanKpiResponse;
 import com.lofi.lofiapps.dto.response.SlaReportResponse;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.stereotype.Service;
 
+/** Writes report workbooks straight to the caller's stream; the stream is not closed. */
 @Slf4j
 @Service
 public class ExcelExportService {
 
-  public byte[] exportLoanKpis(LoanKpiResponse data) {
-    try (Workbook workbook = new XSSFWorkbook();
-        ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+  public void exportLoanKpis(LoanKpiResponse data, OutputStream out) {
+    try (Workbook workbook = new XSSFWorkbook()) {
 
       Sheet sheet = workbook.createSheet("Loan KPIs");
 
@@ -61,16 +61,14 @@ public class ExcelExportService {
       }
 
       workbook.write(out);
-      return out.toByteArray();
     } catch (IOException e) {
       log.error("Failed to export KPIs to Excel", e);
       throw new RuntimeException("Failed to export Excel file", e);
     }
   }
 
-  public byte[] exportSlaReport(SlaReportResponse data) {
-    try (Workbook workbook = new XSSFWorkbook();
-        ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+  public void exportSlaReport(SlaReportResponse data, OutputStream out) {
+    try (Workbook workbook = new XSSFWorkbook()) {
 
       Sheet sheet = workbook.createSheet("SLA Report");
 
@@ -114,7 +112,6 @@ public class ExcelExportService {
       }
 
       workbook.write(out);
-      return out.toByteArray();
     } catch (IOException e) {
       log.error("Failed to export SLA Report to Excel", e);
       throw new RuntimeException("Failed to export Excel file", e);
@@ -0,0 +1,34 @@
+package com.lofi.lofiapps.service.impl.usecase.report;
+
+import com.lofi.lofiapps.dto.response.ReportJobResponse;
+import com.lofi.lofiapps.entity.ReportJob;
+import com.lofi.lofiapps.enums.ReportType;
+import com.lofi.lofiapps.exception.ResourceNotFoundException;
+import com.lofi.lofiapps.repository.ReportJobRepository;
+import com.lofi.lofiapps.security.permission.RoleMask;
+import com.lofi.lofiapps.security.service.UserPrincipal;
+import com.lofi.lofiapps.service.impl.mapper.ReportJobMapper;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class GetReportJobUseCase {
+
+  private final ReportJobRepository reportJobRepository;
+  private final ReportJobMapper reportJobMapper;
+
+  public ReportJobResponse execute(UserPrincipal actor, UUID jobId) {
+    ReportJob job =
+        reportJobRepository
+            .findById(jobId)
+            .orElseThrow(() -> new ResourceNotFoundException("ReportJob", "id", jobId.toString()));
+    // Same roles as the KPI export itself; SLA exports are open to every report role
+    if (job.getReportType() == ReportType.LOAN_KPIS
+        && !RoleMask.any(RoleMask.ofNames(actor.getRoles()), RoleMask.GLOBAL_ADMIN)) {
+      throw new SecurityException("REPORT_ACCESS_DENIED");
+    }
+    return reportJobMapper.toResponse(job);
+  }
+}
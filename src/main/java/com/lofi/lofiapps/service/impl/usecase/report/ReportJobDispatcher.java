@@ -0,0 +1,66 @@
+package com.lofi.lofiapps.service.impl.usecase.report;
+
+import com.lofi.lofiapps.enums.ReportJobStatus;
+import com.lofi.lofiapps.repository.ReportJobRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hands queued report jobs to {@link ReportJobWorker}. A job that does not fit in the pool's queue
+ * simply stays queued; the periodic sweep dispatches it later, along with jobs whose instance died
+ * while running them.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReportJobDispatcher {
+
+  private final ReportJobRepository reportJobRepository;
+  private final ReportJobWorker reportJobWorker;
+
+  // Jobs queued or running on this instance, so the sweep doesn't submit them twice
+  private final Set<UUID> inFlight = ConcurrentHashMap.newKeySet();
+
+  @Value("${app.report.jobs.stale-minutes:30}")
+  private long staleMinutes;
+
+  @Value("${app.report.jobs.sweep-batch-size:20}")
+  private int sweepBatchSize;
+
+  /** Schedules a job unless this instance already has it. Never blocks the caller. */
+  public void dispatch(UUID jobId) {
+    if (!inFlight.add(jobId)) {
+      return;
+    }
+    try {
+      reportJobWorker.run(jobId).whenComplete((ignored, error) -> inFlight.remove(jobId));
+    } catch (RejectedExecutionException e) {
+      inFlight.remove(jobId);
+      log.warn("Report queue full, job {} stays queued until the next sweep", jobId);
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${app.report.jobs.sweep-ms:60000}")
+  public void sweep() {
+    LocalDateTime now = LocalDateTime.now();
+    int stale = reportJobRepository.requeueStale(now.minusMinutes(staleMinutes), now);
+    if (stale > 0) {
+      log.warn("Requeued {} report jobs that stopped running", stale);
+    }
+    // Fresh jobs are normally already in some instance's pool queue
+    List<UUID> queued =
+        reportJobRepository.findIdsByStatusQueuedBefore(
+            ReportJobStatus.QUEUED, now.minusMinutes(1), PageRequest.of(0, sweepBatchSize));
+    queued.forEach(this::dispatch);
+  }
+}
@@ -0,0 +1,160 @@
+package com.lofi.lofiapps.service.impl.usecase.report;
+
+import com.lofi.lofiapps.entity.ReportJob;
+import com.lofi.lofiapps.enums.ReportJobStatus;
+import com.lofi.lofiapps.enums.ReportType;
+import com.lofi.lofiapps.repository.ReportJobRepository;
+import com.lofi.lofiapps.service.StorageService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Builds report workbooks on the bounded {@code reportExecutor} pool and stores them in object
+ * storage under their SHA-256, so byte-identical workbooks share one object.
+ *
+ * <p>The data is read in a read-write transaction on purpose: that keeps it on the primary, where
+ * the job's data version was taken, instead of a replica that may lag behind it.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReportJobWorker {
+
+  static final String CONTENT_TYPE =
+      "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+  private final ReportJobRepository reportJobRepository;
+  private final GetLoanKpisUseCase getLoanKpisUseCase;
+  private final GetSlaReportUseCase getSlaReportUseCase;
+  private final ExcelExportService excelExportService;
+  private final StorageService storageService;
+  private final TransactionTemplate transactionTemplate;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${app.report.jobs.bucket-name:${app.storage.bucket-name:lofi-bucket}}")
+  private String bucketName;
+
+  @Value("${app.report.jobs.prefix:reports}")
+  private String prefix;
+
+  @Async("reportExecutor")
+  public CompletableFuture<Void> run(UUID jobId) {
+    if (reportJobRepository.claim(jobId, LocalDateTime.now()) == 0) {
+      // Finished, failed, or picked up by another instance meanwhile
+      return CompletableFuture.completedFuture(null);
+    }
+    ReportJob job = reportJobRepository.findById(jobId).orElse(null);
+    if (job == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = "succeeded";
+    try {
+      store(job);
+      job.setStatus(ReportJobStatus.SUCCEEDED);
+      job.setCompletedAt(LocalDateTime.now());
+      reportJobRepository.save(job);
+    } catch (IOException | RuntimeException e) {
+      outcome = "failed";
+      log.warn("Report job {} ({}) failed: {}", jobId, job.getReportType(), e.getMessage());
+      job.setStatus(ReportJobStatus.FAILED);
+      job.setErrorMessage(truncate(e.getMessage()));
+      job.setCompletedAt(LocalDateTime.now());
+      reportJobRepository.save(job);
+    } finally {
+      sample.stop(
+          meterRegistry.timer(
+              "lofi.report.job", "type", job.getReportType().name(), "outcome", outcome));
+    }
+    return CompletableFuture.completedFuture(null);
+  }
+
+  /**
+   * Spools the workbook to a temp file while hashing it, then streams the file to storage, so the
+   * finished workbook is never held on the heap a second time.
+   */
+  private void store(ReportJob job) throws IOException {
+    Path file = Files.createTempFile("report-" + job.getId() + "-", ".xlsx");
+    try {
+      MessageDigest digest = sha256Digest();
+      try (OutputStream out =
+          new DigestOutputStream(new BufferedOutputStream(Files.newOutputStream(file)), digest)) {
+        transactionTemplate.execute(
+            status -> {
+              build(job, out);
+              return null;
+            });
+      }
+      String contentHash = HexFormat.of().formatHex(digest.digest());
+      String objectKey = objectKey(job.getReportType(), contentHash);
+      long size = Files.size(file);
+      try (InputStream in = Files.newInputStream(file)) {
+        storageService.uploadStream(bucketName, objectKey, in, size, CONTENT_TYPE);
+      }
+
+      job.setBucketName(bucketName);
+      job.setObjectKey(objectKey);
+      job.setContentHash(contentHash);
+      job.setSizeBytes(size);
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  private void build(ReportJob job, OutputStream out) {
+    switch (job.getReportType()) {
+      case LOAN_KPIS -> excelExportService.exportLoanKpis(getLoanKpisUseCase.execute(), out);
+      case LOAN_SLA -> excelExportService.exportSlaReport(
+          getSlaReportUseCase.execute(job.getLoanId()), out);
+    }
+  }
+
+  String objectKey(ReportType type, String contentHash) {
+    return prefix + "/" + type.name().toLowerCase(Locale.ROOT) + "/" + contentHash + ".xlsx";
+  }
+
+  static String sha256(String value) {
+    return sha256(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  static String sha256(byte[] value) {
+    return HexFormat.of().formatHex(sha256Digest().digest(value));
+  }
+
+  private static MessageDigest sha256Digest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  private static String truncate(String message) {
+    if (message == null) {
+      return "Report generation failed";
+    }
+    return message.length() <= 500 ? message : message.substring(0, 500);
+  }
+}
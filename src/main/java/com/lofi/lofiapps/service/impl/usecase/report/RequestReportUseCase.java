@@ -0,0 +1,93 @@
+package com.lofi.lofiapps.service.impl.usecase.report;
+
+import com.lofi.lofiapps.dto.response.ReportJobResponse;
+import com.lofi.lofiapps.entity.ReportJob;
+import com.lofi.lofiapps.enums.ReportJobStatus;
+import com.lofi.lofiapps.enums.ReportType;
+import com.lofi.lofiapps.exception.ResourceNotFoundException;
+import com.lofi.lofiapps.repository.LoanRepository;
+import com.lofi.lofiapps.repository.ReportJobRepository;
+import com.lofi.lofiapps.security.service.UserPrincipal;
+import com.lofi.lofiapps.service.impl.mapper.ReportJobMapper;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+/**
+ * Turns an export request into a report job. The job is keyed by the report parameters and the
+ * current version of the data behind it: while that key's job is queued or running every caller
+ * gets the same job, once it succeeded they get its stored workbook, and a failed one is retried.
+ *
+ * <p>Deliberately not {@code @Transactional}: each repository call commits on its own, so the
+ * insert race between instances is settled by the unique key and the job is visible to every worker
+ * before it is dispatched.
+ */
+@Service
+@RequiredArgsConstructor
+public class RequestReportUseCase {
+
+  private final LoanRepository loanRepository;
+  private final ReportJobRepository reportJobRepository;
+  private final ReportJobDispatcher reportJobDispatcher;
+  private final ReportJobMapper reportJobMapper;
+
+  public ReportJobResponse execute(UserPrincipal actor, ReportType type, UUID loanId) {
+    String version =
+        switch (type) {
+          case LOAN_KPIS -> loanRepository.loanKpisVersion();
+          case LOAN_SLA -> loanRepository.loanSlaVersion(loanId);
+        };
+    if (version == null) {
+      throw new ResourceNotFoundException("Loan", "id", String.valueOf(loanId));
+    }
+    String paramsHash = ReportJobWorker.sha256(type + ":" + (loanId == null ? "" : loanId));
+    String dataVersion = ReportJobWorker.sha256(version);
+
+    ReportJob job = findOrCreate(actor, type, loanId, paramsHash, dataVersion);
+    if (job.getStatus() == ReportJobStatus.FAILED
+        && reportJobRepository.requeueFailed(job.getId(), LocalDateTime.now()) > 0) {
+      job = reportJobRepository.findById(job.getId()).orElse(job);
+    }
+    if (job.getStatus() == ReportJobStatus.QUEUED) {
+      reportJobDispatcher.dispatch(job.getId());
+    }
+    return reportJobMapper.toResponse(job);
+  }
+
+  private ReportJob findOrCreate(
+      UserPrincipal actor, ReportType type, UUID loanId, String paramsHash, String dataVersion) {
+    Optional<ReportJob> existing =
+        reportJobRepository.findByParamsHashAndDataVersion(paramsHash, dataVersion);
+    if (existing.isPresent()) {
+      return existing.get();
+    }
+    try {
+      return reportJobRepository.saveAndFlush(
+          ReportJob.builder()
+              .reportType(type)
+              .loanId(loanId)
+              .paramsHash(paramsHash)
+              .dataVersion(dataVersion)
+              .status(ReportJobStatus.QUEUED)
+              .requestedBy(actor != null ? actor.getId() : null)
+              .fileName(fileName(type, loanId))
+              .queuedAt(LocalDateTime.now())
+              .build());
+    } catch (DataIntegrityViolationException e) {
+      // Another request created the same job first; join it
+      return reportJobRepository
+          .findByParamsHashAndDataVersion(paramsHash, dataVersion)
+          .orElseThrow(() -> e);
+    }
+  }
+
+  static String fileName(ReportType type, UUID loanId) {
+    return switch (type) {
+      case LOAN_KPIS -> "loan-kpis.xlsx";
+      case LOAN_SLA -> "sla-report-" + loanId + ".xlsx";
+    };
+  }
+}
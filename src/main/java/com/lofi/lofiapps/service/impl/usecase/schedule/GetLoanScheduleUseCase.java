@@ -0,0 +1,113 @@
+package com.lofi.lofiapps.service.impl.usecase.schedule;
+
+import com.lofi.lofiapps.dto.response.InstallmentResponse;
+import com.lofi.lofiapps.dto.response.LoanScheduleResponse;
+import com.lofi.lofiapps.entity.Loan;
+import com.lofi.lofiapps.enums.AmortizationMethod;
+import com.lofi.lofiapps.enums.RoleName;
+import com.lofi.lofiapps.exception.ResourceNotFoundException;
+import com.lofi.lofiapps.repository.LoanRepository;
+import com.lofi.lofiapps.security.permission.RoleMask;
+import com.lofi.lofiapps.security.service.UserPrincipal;
+import com.lofi.lofiapps.service.impl.calculator.AmortizationEngine;
+import com.lofi.lofiapps.service.impl.calculator.InstallmentSchedule;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * The installment schedule of one loan. Installment {@code k} is due {@code k} months after
+ * disbursement, on the same day of the month or the month's last day. Customers only see the
+ * schedules of their own loans.
+ */
+@Component
+public class GetLoanScheduleUseCase {
+
+  private static final int STAFF =
+      RoleMask.GLOBAL_ADMIN
+          | RoleMask.of(
+              RoleName.ROLE_BRANCH_MANAGER, RoleName.ROLE_BACK_OFFICE, RoleName.ROLE_MARKETING);
+
+  private final LoanRepository loanRepository;
+  private final InstallmentScheduleCache scheduleCache;
+  private final AmortizationMethod defaultMethod;
+  private final Clock clock;
+
+  @Autowired
+  public GetLoanScheduleUseCase(
+      LoanRepository loanRepository,
+      InstallmentScheduleCache scheduleCache,
+      @Value("${app.schedule.default-method:FLAT}") AmortizationMethod defaultMethod) {
+    this(loanRepository, scheduleCache, defaultMethod, Clock.systemDefaultZone());
+  }
+
+  GetLoanScheduleUseCase(
+      LoanRepository loanRepository,
+      InstallmentScheduleCache scheduleCache,
+      AmortizationMethod defaultMethod,
+      Clock clock) {
+    this.loanRepository = loanRepository;
+    this.scheduleCache = scheduleCache;
+    this.defaultMethod = defaultMethod;
+    this.clock = clock;
+  }
+
+  @Transactional(readOnly = true)
+  public LoanScheduleResponse execute(UserPrincipal actor, UUID loanId, AmortizationMethod method) {
+    Loan loan =
+        loanRepository
+            .findById(loanId)
+            .orElseThrow(() -> new ResourceNotFoundException("Loan", "id", loanId));
+    if (!RoleMask.any(RoleMask.ofNames(actor.getRoles()), STAFF)
+        && (loan.getCustomer() == null
+            || !Objects.equals(loan.getCustomer().getId(), actor.getId()))) {
+      throw new SecurityException("LOAN_ACCESS_DENIED");
+    }
+    AmortizationMethod applied = method == null ? defaultMethod : method;
+    long principal = AmortizationEngine.toMinorUnits(loan.getLoanAmount());
+    InstallmentSchedule schedule =
+        scheduleCache.get(
+            applied,
+            principal,
+            AmortizationEngine.toBasisPoints(loan.getInterestRate()),
+            loan.getTenor());
+
+    boolean disbursed = loan.getDisbursedAt() != null;
+    LocalDate start = disbursed ? loan.getDisbursedAt().toLocalDate() : LocalDate.now(clock);
+    List<InstallmentResponse> installments = new ArrayList<>(schedule.tenor());
+    long remaining = principal;
+    for (int i = 0; i < schedule.tenor(); i++) {
+      remaining -= schedule.principalParts()[i];
+      installments.add(
+          InstallmentResponse.builder()
+              .number(i + 1)
+              .dueDate(start.plusMonths(i + 1L))
+              .principal(AmortizationEngine.fromMinorUnits(schedule.principalParts()[i]))
+              .interest(AmortizationEngine.fromMinorUnits(schedule.interestParts()[i]))
+              .amount(AmortizationEngine.fromMinorUnits(schedule.payment(i)))
+              .remainingPrincipal(AmortizationEngine.fromMinorUnits(remaining))
+              .build());
+    }
+
+    long totalInterest = schedule.totalInterest();
+    return LoanScheduleResponse.builder()
+        .loanId(loan.getId())
+        .method(applied)
+        .loanAmount(AmortizationEngine.fromMinorUnits(principal))
+        .interestRate(loan.getInterestRate())
+        .tenor(loan.getTenor())
+        .adminFee(loan.getAdminFee())
+        .disbursed(disbursed)
+        .totalInterest(AmortizationEngine.fromMinorUnits(totalInterest))
+        .totalPayment(AmortizationEngine.fromMinorUnits(principal + totalInterest))
+        .installments(installments)
+        .build();
+  }
+}
@@ -0,0 +1,57 @@
+package com.lofi.lofiapps.service.impl.usecase.schedule;
+
+import com.lofi.lofiapps.enums.AmortizationMethod;
+import com.lofi.lofiapps.service.impl.calculator.AmortizationEngine;
+import com.lofi.lofiapps.service.impl.calculator.InstallmentSchedule;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded LRU of installment schedules, keyed by the terms that determine them rather than by loan:
+ * a loan's terms are snapshotted, so its entry never goes stale, and loans on the same product with
+ * the same amount and tenor share one.
+ */
+@Component
+public class InstallmentScheduleCache {
+
+  private record Key(AmortizationMethod method, long principal, long rateBasisPoints, int tenor) {}
+
+  private final Map<Key, InstallmentSchedule> entries;
+
+  public InstallmentScheduleCache(
+      @Value("${app.schedule.cache.max-entries:10000}") int maxEntries) {
+    this.entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Key, InstallmentSchedule> eldest) {
+            return size() > maxEntries;
+          }
+        };
+  }
+
+  public InstallmentSchedule get(
+      AmortizationMethod method, long principal, long rateBasisPoints, int tenor) {
+    Key key = new Key(method, principal, rateBasisPoints, tenor);
+    synchronized (entries) {
+      InstallmentSchedule cached = entries.get(key);
+      if (cached != null) {
+        return cached;
+      }
+    }
+    // Build outside the lock; two concurrent misses just both build
+    InstallmentSchedule schedule =
+        AmortizationEngine.schedule(method, principal, rateBasisPoints, tenor);
+    synchronized (entries) {
+      entries.put(key, schedule);
+    }
+    return schedule;
+  }
+
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package com.lofi.lofiapps.service.impl.usecase.schedule;
+
+import com.lofi.lofiapps.dto.response.CashFlowMonthResponse;
+import com.lofi.lofiapps.dto.response.CashFlowProjectionResponse;
+import com.lofi.lofiapps.enums.AmortizationMethod;
+import com.lofi.lofiapps.repository.LoanBook;
+import com.lofi.lofiapps.repository.LoanRepository;
+import com.lofi.lofiapps.service.impl.calculator.AmortizationEngine;
+import com.lofi.lofiapps.service.impl.calculator.CashFlowProjector;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled inflows of the disbursed portfolio for the coming months, starting with the current
+ * one. Every installment counts as due in full; there is no record of what was actually paid.
+ */
+@Slf4j
+@Component
+public class ProjectCashFlowUseCase {
+
+  public static final int MAX_MONTHS = 120;
+
+  private final LoanRepository loanRepository;
+  private final MeterRegistry meterRegistry;
+  private final AmortizationMethod defaultMethod;
+  private final Clock clock;
+
+  @Autowired
+  public ProjectCashFlowUseCase(
+      LoanRepository loanRepository,
+      MeterRegistry meterRegistry,
+      @Value("${app.schedule.default-method:FLAT}") AmortizationMethod defaultMethod) {
+    this(loanRepository, meterRegistry, defaultMethod, Clock.systemDefaultZone());
+  }
+
+  ProjectCashFlowUseCase(
+      LoanRepository loanRepository,
+      MeterRegistry meterRegistry,
+      AmortizationMethod defaultMethod,
+      Clock clock) {
+    this.loanRepository = loanRepository;
+    this.meterRegistry = meterRegistry;
+    this.defaultMethod = defaultMethod;
+    this.clock = clock;
+  }
+
+  public CashFlowProjectionResponse execute(int months, AmortizationMethod method) {
+    if (months < 1 || months > MAX_MONTHS) {
+      throw new IllegalArgumentException("months must be between 1 and " + MAX_MONTHS);
+    }
+    AmortizationMethod applied = method == null ? defaultMethod : method;
+    LocalDate firstMonth = LocalDate.now(clock).withDayOfMonth(1);
+
+    LoanBook book = loanRepository.loadDisbursedLoanBook();
+    Timer.Sample sample = Timer.start(meterRegistry);
+    CashFlowProjector.Projection projection =
+        CashFlowProjector.project(
+            book, applied, firstMonth.getYear() * 12 + firstMonth.getMonthValue() - 1, months);
+    long nanos =
+        sample.stop(
+            Timer.builder("lofi.cashflow.projection")
+                .tag("method", applied.name())
+                .register(meterRegistry));
+    log.debug("Projected {} loans over {} months in {} ms", book.size(), months, nanos / 1_000_000);
+
+    List<CashFlowMonthResponse> rows = new ArrayList<>(months);
+    long totalPrincipal = 0;
+    long totalInterest = 0;
+    for (int m = 0; m < months; m++) {
+      long principal = projection.principal()[m];
+      long interest = projection.interest()[m];
+      totalPrincipal += principal;
+      totalInterest += interest;
+      rows.add(
+          CashFlowMonthResponse.builder()
+              .month(firstMonth.plusMonths(m))
+              .principal(AmortizationEngine.fromMinorUnits(principal))
+              .interest(AmortizationEngine.fromMinorUnits(interest))
+              .total(AmortizationEngine.fromMinorUnits(principal + interest))
+              .build());
+    }
+    return CashFlowProjectionResponse.builder()
+        .method(applied)
+        .loans(projection.loans())
+        .totalPrincipal(AmortizationEngine.fromMinorUnits(totalPrincipal))
+        .totalInterest(AmortizationEngine.fromMinorUnits(totalInterest))
+        .months(rows)
+        .build();
+  }
+}
@@ -0,0 +1,225 @@
+package com.lofi.lofiapps.service.impl.usecase.search;
+
+import com.lofi.lofiapps.enums.SearchKind;
+import com.lofi.lofiapps.repository.LoanSearchRow;
+import com.lofi.lofiapps.repository.UserSearchRow;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.CharArraySet;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+
+/**
+ * How users and loans are laid out in the search index, and how a staff query becomes a Lucene
+ * query. Names are analyzed text; usernames, emails and references are lowercased keywords; phone
+ * numbers, NIK and NPWP are digit strings. Keywords and digits match by prefix, name words match
+ * exactly, by prefix, and from four letters on with a typo or two, in that order of weight.
+ */
+final class SearchDocuments {
+
+  static final Analyzer ANALYZER = new StandardAnalyzer(CharArraySet.EMPTY_SET);
+
+  static final String KEY = "key";
+  static final String KIND = "kind";
+  static final String ID = "id";
+  static final String BRANCH = "branch";
+  static final String BRANCH_ID = "branchId";
+  static final String NAME = "name";
+  static final String KEYWORD = "keyword";
+  static final String DIGITS = "digits";
+  static final String TITLE = "title";
+  static final String SUBTITLE = "subtitle";
+
+  /** Words beyond this are ignored; every word must match, so more only narrows the result. */
+  static final int MAX_WORDS = 8;
+
+  private static final Pattern NUMBER_LIKE = Pattern.compile("[+0-9().\\-]+");
+  private static final Pattern NON_DIGITS = Pattern.compile("\\D");
+
+  private SearchDocuments() {}
+
+  static String key(SearchKind kind, UUID id) {
+    return kind.name() + ":" + id;
+  }
+
+  static Document user(UserSearchRow row) {
+    Document document = base(SearchKind.USER, row.id(), row.branchId());
+    // Branch staff see the customers of their branch's loans
+    row.loanBranchIds()
+        .forEach(
+            branch -> document.add(new StringField(BRANCH, branch.toString(), Field.Store.NO)));
+    name(document, row.fullName());
+    keyword(document, row.username());
+    keyword(document, row.email());
+    phone(document, row.phoneNumber());
+    digits(document, row.nik());
+    document.add(new StoredField(TITLE, Objects.toString(row.fullName(), "")));
+    document.add(new StoredField(SUBTITLE, join(row.email(), row.phoneNumber())));
+    return document;
+  }
+
+  static Document loan(LoanSearchRow row) {
+    Document document = base(SearchKind.LOAN, row.id(), row.branchId());
+    name(document, row.customerName());
+    keyword(document, row.id().toString());
+    keyword(document, row.disbursementReference());
+    phone(document, row.customerPhone());
+    digits(document, row.customerNik());
+    digits(document, row.npwpNumber());
+    document.add(new StoredField(TITLE, Objects.toString(row.customerName(), "")));
+    document.add(
+        new StoredField(
+            SUBTITLE,
+            join(
+                row.loanAmount() == null ? null : row.loanAmount().toPlainString(),
+                row.disbursementReference(),
+                row.createdAt() == null ? null : row.createdAt().toLocalDate().toString())));
+    return document;
+  }
+
+  /**
+   * Every word of {@code text} must match; {@code kind} and {@code branchScope} filter without
+   * affecting the score. Returns {@code null} when the text has nothing to search for.
+   */
+  static Query query(String text, SearchKind kind, UUID branchScope) {
+    String normalized = text.trim().toLowerCase(Locale.ROOT);
+    String compact = normalized.replaceAll("\\s+", "");
+    // A phone number or NIK typed in groups is one number, not several words
+    String[] split =
+        NUMBER_LIKE.matcher(compact).matches() ? new String[] {compact} : normalized.split("\\s+");
+    BooleanQuery.Builder query = new BooleanQuery.Builder();
+    int words = 0;
+    for (String word : split) {
+      Query clause = word.isEmpty() || words == MAX_WORDS ? null : word(word);
+      if (clause != null) {
+        query.add(clause, Occur.MUST);
+        words++;
+      }
+    }
+    if (words == 0) {
+      return null;
+    }
+    if (kind != null) {
+      query.add(new TermQuery(new Term(KIND, kind.name())), Occur.FILTER);
+    }
+    if (branchScope != null) {
+      query.add(new TermQuery(new Term(BRANCH, branchScope.toString())), Occur.FILTER);
+    }
+    return query.build();
+  }
+
+  private static Query word(String word) {
+    BooleanQuery.Builder any = new BooleanQuery.Builder();
+    String digits = NON_DIGITS.matcher(word).replaceAll("");
+    if (digits.length() >= 3 && NUMBER_LIKE.matcher(word).matches()) {
+      any.add(boost(new PrefixQuery(new Term(DIGITS, digits)), 3f), Occur.SHOULD);
+    }
+    if (word.length() >= 2) {
+      any.add(boost(new PrefixQuery(new Term(KEYWORD, word)), 2f), Occur.SHOULD);
+    }
+    for (String term : analyze(word)) {
+      any.add(boost(new TermQuery(new Term(NAME, term)), 4f), Occur.SHOULD);
+      if (term.length() >= 2) {
+        any.add(boost(new PrefixQuery(new Term(NAME, term)), 2f), Occur.SHOULD);
+      }
+      if (term.length() >= 4) {
+        any.add(new FuzzyQuery(new Term(NAME, term), term.length() >= 8 ? 2 : 1, 1), Occur.SHOULD);
+      }
+    }
+    BooleanQuery clause = any.build();
+    return clause.clauses().isEmpty() ? null : clause;
+  }
+
+  private static Query boost(Query query, float boost) {
+    return new BoostQuery(query, boost);
+  }
+
+  private static Document base(SearchKind kind, UUID id, UUID branchId) {
+    Document document = new Document();
+    document.add(new StringField(KEY, key(kind, id), Field.Store.NO));
+    document.add(new StringField(KIND, kind.name(), Field.Store.YES));
+    document.add(new StoredField(ID, id.toString()));
+    if (branchId != null) {
+      document.add(new StringField(BRANCH, branchId.toString(), Field.Store.NO));
+      document.add(new StoredField(BRANCH_ID, branchId.toString()));
+    }
+    return document;
+  }
+
+  private static void name(Document document, String value) {
+    if (value != null && !value.isBlank()) {
+      document.add(new TextField(NAME, value, Field.Store.NO));
+    }
+  }
+
+  private static void keyword(Document document, String value) {
+    if (value != null && !value.isBlank()) {
+      document.add(new StringField(KEYWORD, value.trim().toLowerCase(Locale.ROOT), Field.Store.NO));
+    }
+  }
+
+  private static void digits(Document document, String value) {
+    String digits = value == null ? "" : NON_DIGITS.matcher(value).replaceAll("");
+    if (!digits.isEmpty()) {
+      document.add(new StringField(DIGITS, digits, Field.Store.NO));
+    }
+  }
+
+  /** Indexes a phone number as typed and in both the local {@code 08..} and {@code 628..} forms. */
+  private static void phone(Document document, String value) {
+    String digits = value == null ? "" : NON_DIGITS.matcher(value).replaceAll("");
+    if (digits.isEmpty()) {
+      return;
+    }
+    digits(document, digits);
+    if (digits.startsWith("62")) {
+      digits(document, "0" + digits.substring(2));
+    } else if (digits.startsWith("0")) {
+      digits(document, "62" + digits.substring(1));
+    }
+  }
+
+  private static List<String> analyze(String text) {
+    List<String> terms = new ArrayList<>();
+    try (TokenStream stream = ANALYZER.tokenStream(NAME, text)) {
+      CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+      stream.reset();
+      while (stream.incrementToken()) {
+        terms.add(term.toString());
+      }
+      stream.end();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return terms;
+  }
+
+  private static String join(String... parts) {
+    return Stream.of(parts)
+        .filter(part -> part != null && !part.isBlank())
+        .collect(Collectors.joining(" · "));
+  }
+}
@@ -0,0 +1,174 @@
+package com.lofi.lofiapps.service.impl.usecase.search;
+
+import com.lofi.lofiapps.dto.response.SearchResultResponse;
+import com.lofi.lofiapps.enums.SearchKind;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * This node's Lucene index of users and loans. Writes are visible to searches after the next {@link
+ * #refresh()}, at most {@code app.search.refresh-ms} later. Nothing is ever committed: the index is
+ * recreated empty on startup and rebuilt from the database by {@link SearchIndexer}, so a crash
+ * cannot leave it out of step with changes it missed.
+ *
+ * <p>The index holds customer PII, so each instance writes to its own owner-only directory under
+ * {@code app.search.index-dir} (the system temp directory when unset), removed on shutdown.
+ * Instances sharing a host or volume never contend for Lucene's write lock.
+ */
+@Slf4j
+@Component
+public class SearchIndex implements DisposableBean {
+
+  private final Path path;
+  private final Directory directory;
+  private final IndexWriter writer;
+  private final SearcherManager searcherManager;
+
+  @Autowired
+  public SearchIndex(@Value("${app.search.index-dir:}") String indexDir) throws IOException {
+    this(privateDirectory(indexDir));
+  }
+
+  private SearchIndex(Path path) throws IOException {
+    this(path, FSDirectory.open(path));
+  }
+
+  SearchIndex(Directory directory) throws IOException {
+    this(null, directory);
+  }
+
+  private SearchIndex(Path path, Directory directory) throws IOException {
+    this.path = path;
+    this.directory = directory;
+    this.writer =
+        new IndexWriter(
+            directory,
+            new IndexWriterConfig(SearchDocuments.ANALYZER)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE)
+                .setCommitOnClose(false));
+    this.searcherManager = new SearcherManager(writer, null);
+  }
+
+  public void upsert(SearchKind kind, UUID id, Document document) {
+    try {
+      writer.updateDocument(new Term(SearchDocuments.KEY, SearchDocuments.key(kind, id)), document);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /** Drops every document; the next refresh shows an empty index until it is rebuilt. */
+  public void clear() {
+    try {
+      writer.deleteAll();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  public void delete(SearchKind kind, UUID id) {
+    try {
+      writer.deleteDocuments(new Term(SearchDocuments.KEY, SearchDocuments.key(kind, id)));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${app.search.refresh-ms:1000}")
+  public void refresh() {
+    try {
+      searcherManager.maybeRefresh();
+    } catch (IOException e) {
+      log.warn("Search index refresh failed: {}", e.getMessage());
+    }
+  }
+
+  /** Documents visible to searches. */
+  public int size() {
+    try {
+      IndexSearcher searcher = searcherManager.acquire();
+      try {
+        return searcher.getIndexReader().numDocs();
+      } finally {
+        searcherManager.release(searcher);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /** The best {@code limit} matches, highest score first. */
+  public List<SearchResultResponse> search(Query query, int limit) {
+    try {
+      IndexSearcher searcher = searcherManager.acquire();
+      try {
+        TopDocs top = searcher.search(query, limit);
+        List<SearchResultResponse> results = new ArrayList<>(top.scoreDocs.length);
+        for (ScoreDoc hit : top.scoreDocs) {
+          Document document = searcher.storedFields().document(hit.doc);
+          String branchId = document.get(SearchDocuments.BRANCH_ID);
+          results.add(
+              SearchResultResponse.builder()
+                  .kind(SearchKind.valueOf(document.get(SearchDocuments.KIND)))
+                  .id(UUID.fromString(document.get(SearchDocuments.ID)))
+                  .title(document.get(SearchDocuments.TITLE))
+                  .subtitle(document.get(SearchDocuments.SUBTITLE))
+                  .branchId(branchId == null ? null : UUID.fromString(branchId))
+                  .score(hit.score)
+                  .build());
+        }
+        return results;
+      } finally {
+        searcherManager.release(searcher);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public void destroy() throws IOException {
+    searcherManager.close();
+    writer.rollback();
+    directory.close();
+    if (path != null) {
+      FileSystemUtils.deleteRecursively(path);
+    }
+  }
+
+  Path path() {
+    return path;
+  }
+
+  /** A fresh directory only this process can read, created rwx------ where POSIX applies. */
+  private static Path privateDirectory(String indexDir) throws IOException {
+    Path parent =
+        indexDir == null || indexDir.isBlank()
+            ? Path.of(System.getProperty("java.io.tmpdir"))
+            : Files.createDirectories(Path.of(indexDir));
+    return Files.createTempDirectory(parent, "lofi-search-index-");
+  }
+}
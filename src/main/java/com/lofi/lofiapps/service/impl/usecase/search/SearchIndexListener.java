@@ -0,0 +1,40 @@
+package com.lofi.lofiapps.service.impl.usecase.search;
+
+import com.lofi.lofiapps.entity.Loan;
+import com.lofi.lofiapps.entity.User;
+import com.lofi.lofiapps.entity.UserBiodata;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA listener on the searchable entities that reports their changes to {@link SearchIndexer}.
+ * Set-based JDBC updates bypass it; none of them touch an indexed field.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchIndexListener {
+
+  // Resolved lazily: listeners are created while the EntityManagerFactory is still being built
+  private final ObjectProvider<SearchIndexer> searchIndexer;
+
+  @PostPersist
+  @PostUpdate
+  @PostRemove
+  public void changed(Object entity) {
+    SearchIndexer indexer = searchIndexer.getIfAvailable();
+    if (indexer == null) {
+      return;
+    }
+    if (entity instanceof Loan loan) {
+      indexer.loanChanged(loan.getId());
+    } else if (entity instanceof UserBiodata biodata && biodata.getUser() != null) {
+      indexer.userChanged(biodata.getUser().getId());
+    } else if (entity instanceof User user) {
+      indexer.userChanged(user.getId());
+    }
+  }
+}
@@ -0,0 +1,242 @@
+package com.lofi.lofiapps.service.impl.usecase.search;
+
+import com.lofi.lofiapps.enums.SearchKind;
+import com.lofi.lofiapps.repository.LoanRepository;
+import com.lofi.lofiapps.repository.LoanSearchRow;
+import com.lofi.lofiapps.repository.UserRepository;
+import com.lofi.lofiapps.repository.UserSearchRow;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps {@link SearchIndex} in step with the database. The index is built from scratch once the
+ * application is ready; after that, entity changes reported by {@link SearchIndexListener} re-read
+ * the affected rows after commit and replace their documents. In {@code redis} mode each change is
+ * also broadcast, so every node re-reads it for its own index.
+ *
+ * <p>All index work runs on the single {@code searchIndexExecutor} thread, so changes made during
+ * the initial build are applied after it, in commit order. A change the full queue rejects cannot
+ * be applied later without breaking that order, so it marks the index stale instead; a failed or
+ * stale index is rebuilt from scratch every {@code app.search.rebuild-retry-ms}.
+ */
+@Slf4j
+@Component
+public class SearchIndexer {
+
+  public static final String CHANNEL = "lofi:search-index";
+
+  private final SearchIndex searchIndex;
+  private final UserRepository userRepository;
+  private final LoanRepository loanRepository;
+  private final StringRedisTemplate redisTemplate;
+  private final Executor executor;
+  private final boolean broadcast;
+  private final String nodeId = UUID.randomUUID().toString();
+
+  private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+  private volatile boolean started;
+  private volatile boolean ready;
+  // Changes dropped since startup; a rebuild only counts if none were dropped while it ran
+  private long dropped;
+
+  public SearchIndexer(
+      SearchIndex searchIndex,
+      UserRepository userRepository,
+      LoanRepository loanRepository,
+      StringRedisTemplate redisTemplate,
+      @Qualifier("searchIndexExecutor") Executor executor,
+      @Value("${app.search.sync:local}") String sync) {
+    this.searchIndex = searchIndex;
+    this.userRepository = userRepository;
+    this.loanRepository = loanRepository;
+    this.redisTemplate = redisTemplate;
+    this.executor = executor;
+    this.broadcast = "redis".equalsIgnoreCase(sync);
+  }
+
+  /** Whether the initial build has finished; until then searches see a partial index. */
+  public boolean isReady() {
+    return ready;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuildOnStartup() {
+    started = true;
+    scheduleRebuild();
+  }
+
+  @Scheduled(
+      fixedDelayString = "${app.search.rebuild-retry-ms:60000}",
+      initialDelayString = "${app.search.rebuild-retry-ms:60000}")
+  public void retryRebuild() {
+    if (started && !ready) {
+      scheduleRebuild();
+    }
+  }
+
+  /** A user or their biodata changed; their loans carry the name and contact details too. */
+  public void userChanged(UUID userId) {
+    afterCommit(SearchKind.USER, userId);
+  }
+
+  /** A loan changed; its customer's branch set may have changed with it. */
+  public void loanChanged(UUID loanId) {
+    afterCommit(SearchKind.LOAN, loanId);
+  }
+
+  /** Applies a change broadcast by another instance; messages from this node are skipped. */
+  public void onMessage(String message) {
+    String[] parts = message.split(":", 3);
+    if (parts.length != 3 || nodeId.equals(parts[0])) {
+      return;
+    }
+    try {
+      SearchKind kind = SearchKind.valueOf(parts[1]);
+      UUID id = UUID.fromString(parts[2]);
+      submit(kind, id);
+    } catch (IllegalArgumentException e) {
+      log.warn("Ignoring malformed search index message {}", message);
+    }
+  }
+
+  void rebuild() {
+    rebuildQueued.set(false);
+    long droppedBefore = droppedChanges();
+    long started = System.nanoTime();
+    AtomicLong users = new AtomicLong();
+    AtomicLong loans = new AtomicLong();
+    try {
+      searchIndex.clear();
+      userRepository.streamSearchRows(
+          row -> {
+            searchIndex.upsert(SearchKind.USER, row.id(), SearchDocuments.user(row));
+            users.incrementAndGet();
+          });
+      loanRepository.streamSearchRows(
+          row -> {
+            searchIndex.upsert(SearchKind.LOAN, row.id(), SearchDocuments.loan(row));
+            loans.incrementAndGet();
+          });
+      searchIndex.refresh();
+      finishRebuild(droppedBefore);
+      log.info(
+          "Search index built with {} users and {} loans in {} ms",
+          users.get(),
+          loans.get(),
+          (System.nanoTime() - started) / 1_000_000);
+    } catch (RuntimeException e) {
+      log.error("Building the search index failed after {} users, {} loans", users, loans, e);
+    }
+  }
+
+  private void scheduleRebuild() {
+    if (!rebuildQueued.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      executor.execute(this::rebuild);
+    } catch (RejectedExecutionException e) {
+      rebuildQueued.set(false);
+      log.warn("Search index queue is full; retrying the rebuild later");
+    }
+  }
+
+  private void submit(SearchKind kind, UUID id) {
+    try {
+      executor.execute(() -> reindex(kind, id));
+    } catch (RejectedExecutionException e) {
+      markStale();
+      log.warn("Search index queue is full; dropped {} {}, the index will be rebuilt", kind, id);
+    }
+  }
+
+  private synchronized long droppedChanges() {
+    return dropped;
+  }
+
+  private synchronized void markStale() {
+    dropped++;
+    ready = false;
+  }
+
+  private synchronized void finishRebuild(long droppedBefore) {
+    ready = dropped == droppedBefore;
+  }
+
+  void reindex(SearchKind kind, UUID id) {
+    try {
+      if (kind == SearchKind.USER) {
+        reindexUser(id);
+        loanRepository
+            .findSearchRowsByCustomer(id)
+            .forEach(
+                row -> searchIndex.upsert(SearchKind.LOAN, row.id(), SearchDocuments.loan(row)));
+      } else {
+        List<LoanSearchRow> rows = loanRepository.findSearchRows(List.of(id));
+        if (rows.isEmpty()) {
+          searchIndex.delete(SearchKind.LOAN, id);
+        } else {
+          LoanSearchRow row = rows.get(0);
+          searchIndex.upsert(SearchKind.LOAN, id, SearchDocuments.loan(row));
+          reindexUser(row.customerId());
+        }
+      }
+    } catch (RuntimeException e) {
+      // The document stays stale until the entity changes again or the node restarts
+      log.warn("Reindexing {} {} failed: {}", kind, id, e.getMessage());
+    }
+  }
+
+  private void reindexUser(UUID userId) {
+    List<UserSearchRow> rows = userRepository.findSearchRows(List.of(userId));
+    if (rows.isEmpty()) {
+      searchIndex.delete(SearchKind.USER, userId);
+    } else {
+      searchIndex.upsert(SearchKind.USER, userId, SearchDocuments.user(rows.get(0)));
+    }
+  }
+
+  private void afterCommit(SearchKind kind, UUID id) {
+    if (id == null) {
+      return;
+    }
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      apply(kind, id);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            apply(kind, id);
+          }
+        });
+  }
+
+  private void apply(SearchKind kind, UUID id) {
+    submit(kind, id);
+    if (!broadcast) {
+      return;
+    }
+    try {
+      redisTemplate.convertAndSend(CHANNEL, nodeId + ":" + kind.name() + ":" + id);
+    } catch (RuntimeException e) {
+      // Other nodes pick the change up on their next restart
+      log.warn("Failed to broadcast search index change for {} {}: {}", kind, id, e.getMessage());
+    }
+  }
+}
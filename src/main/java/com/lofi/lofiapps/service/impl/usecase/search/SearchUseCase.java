@@ -0,0 +1,43 @@
+package com.lofi.lofiapps.service.impl.usecase.search;
+
+import com.lofi.lofiapps.dto.response.SearchResponse;
+import com.lofi.lofiapps.dto.response.SearchResultResponse;
+import com.lofi.lofiapps.enums.SearchKind;
+import com.lofi.lofiapps.security.service.UserPrincipal;
+import com.lofi.lofiapps.service.BranchAccessGuard;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.apache.lucene.search.Query;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class SearchUseCase {
+
+  private final SearchIndex searchIndex;
+  private final SearchIndexer searchIndexer;
+  private final BranchAccessGuard branchAccessGuard;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${app.search.max-results:50}")
+  private int maxResults = 50;
+
+  public SearchResponse execute(UserPrincipal actor, String text, SearchKind kind, int limit) {
+    UUID branchScope = branchAccessGuard.searchScope(actor);
+    Query query = text == null ? null : SearchDocuments.query(text, kind, branchScope);
+    if (query == null) {
+      return SearchResponse.builder().items(List.of()).complete(searchIndexer.isReady()).build();
+    }
+
+    Timer.Sample sample = Timer.start(meterRegistry);
+    List<SearchResultResponse> items =
+        searchIndex.search(query, Math.max(1, Math.min(limit, maxResults)));
+    sample.stop(
+        meterRegistry.timer("lofi.search.query", "kind", kind == null ? "ALL" : kind.name()));
+    return SearchResponse.builder().items(items).complete(searchIndexer.isReady()).build();
+  }
+}
@@ -0,0 +1,192 @@
+package com.lofi.lofiapps.service.impl.usecase.softdelete;
+
+import com.lofi.lofiapps.repository.TombstoneCursor;
+import com.lofi.lofiapps.repository.TombstoneRepository;
+import com.lofi.lofiapps.repository.TombstoneTable;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.integration.redis.util.RedisLockRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Soft-delete housekeeping: creates the filtered indexes once the application is ready, if enabled,
+ * and, on a schedule, purges tombstones older than the retention window in small chunks with a
+ * pause in between, stopping early at the run's row or time budget. One instance does the work at a
+ * time; the others find the lock taken and skip the run.
+ */
+@Slf4j
+@Component
+public class TombstoneMaintainer {
+
+  static final String LOCK_KEY = "lock:tombstone-maintenance";
+
+  /** Rows times indexes per statement stays well under SQL Server's 5,000-lock escalation. */
+  static final int MAX_CHUNK_SIZE = 1000;
+
+  private final TombstoneRepository tombstoneRepository;
+  private final RedisLockRegistry batchLockRegistry;
+  private final MeterRegistry meterRegistry;
+  private final Clock clock;
+
+  @Value("${app.soft-delete.indexes.enabled:false}")
+  private boolean indexesEnabled;
+
+  @Value("${app.soft-delete.indexes.allow-offline:false}")
+  private boolean allowOfflineIndexes;
+
+  @Value("${app.soft-delete.purge.enabled:true}")
+  private boolean purgeEnabled;
+
+  @Value("${app.soft-delete.purge.retention-days:90}")
+  private int retentionDays;
+
+  @Value("${app.soft-delete.purge.chunk-size:500}")
+  private int chunkSize;
+
+  @Value("${app.soft-delete.purge.pause-ms:200}")
+  private long pauseMs;
+
+  @Value("${app.soft-delete.purge.max-rows-per-run:500000}")
+  private long maxRowsPerRun;
+
+  @Value("${app.soft-delete.purge.max-run-minutes:60}")
+  private long maxRunMinutes;
+
+  @Autowired
+  public TombstoneMaintainer(
+      TombstoneRepository tombstoneRepository,
+      @Qualifier("batchLockRegistry") RedisLockRegistry batchLockRegistry,
+      MeterRegistry meterRegistry) {
+    this(tombstoneRepository, batchLockRegistry, meterRegistry, Clock.systemDefaultZone());
+  }
+
+  TombstoneMaintainer(
+      TombstoneRepository tombstoneRepository,
+      RedisLockRegistry batchLockRegistry,
+      MeterRegistry meterRegistry,
+      Clock clock) {
+    this.tombstoneRepository = tombstoneRepository;
+    this.batchLockRegistry = batchLockRegistry;
+    this.meterRegistry = meterRegistry;
+    this.clock = clock;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void prepare() {
+    if (indexesEnabled) {
+      withLock(
+          () -> {
+            int created = tombstoneRepository.ensureIndexes(allowOfflineIndexes);
+            if (created > 0) {
+              log.info("Created {} filtered indexes", created);
+            }
+          });
+    }
+  }
+
+  @Scheduled(cron = "${app.soft-delete.purge.cron:0 0 4 * * *}")
+  public void purgeTombstones() {
+    if (purgeEnabled) {
+      withLock(this::purge);
+    }
+  }
+
+  private void purge() {
+    LocalDateTime cutoff = LocalDateTime.now(clock).minusDays(retentionDays);
+    Instant deadline = clock.instant().plus(Duration.ofMinutes(maxRunMinutes));
+    int chunk = Math.max(1, Math.min(chunkSize, MAX_CHUNK_SIZE));
+    long budget = maxRowsPerRun;
+    for (TombstoneTable table : TombstoneTable.values()) {
+      long purged = 0;
+      try {
+        List<String> archiveColumns =
+            table.archived() ? tombstoneRepository.ensureArchiveTable(table) : List.of();
+        TombstoneCursor cursor = TombstoneCursor.START;
+        while (budget > 0) {
+          TombstoneRepository.Chunk removed =
+              tombstoneRepository.purgeChunk(
+                  table, archiveColumns, cutoff, cursor, (int) Math.min(chunk, budget));
+          purged += removed.rows();
+          budget -= removed.rows();
+          if (removed.rows() < chunk) {
+            break;
+          }
+          cursor = removed.last();
+          if (!clock.instant().isBefore(deadline) || !pause()) {
+            budget = 0;
+          }
+        }
+      } catch (RuntimeException e) {
+        meterRegistry
+            .counter("lofi.tombstones.purge.failures", "table", table.tableName())
+            .increment();
+        log.error("Purging {} tombstones failed after {} rows", table.tableName(), purged, e);
+      } finally {
+        if (purged > 0) {
+          meterRegistry
+              .counter(
+                  "lofi.tombstones.purged",
+                  "table",
+                  table.tableName(),
+                  "mode",
+                  table.archived() ? "archive" : "delete")
+              .increment(purged);
+          log.info("Purged {} {} tombstones deleted before {}", purged, table.tableName(), cutoff);
+        }
+      }
+      if (budget <= 0) {
+        log.info("Tombstone purge stopped at its row or time budget; the next run continues");
+        return;
+      }
+    }
+  }
+
+  /** Gives other writers room between chunks; returns false if the thread was interrupted. */
+  private boolean pause() {
+    if (pauseMs <= 0) {
+      return true;
+    }
+    try {
+      Thread.sleep(pauseMs);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private void withLock(Runnable task) {
+    Lock lock = batchLockRegistry.obtain(LOCK_KEY);
+    boolean locked = false;
+    try {
+      locked = lock.tryLock();
+      if (!locked) {
+        log.debug("Tombstone maintenance is running elsewhere, skipping");
+        return;
+      }
+      task.run();
+    } catch (RuntimeException e) {
+      log.error("Tombstone maintenance failed", e);
+    } finally {
+      if (locked) {
+        try {
+          lock.unlock();
+        } catch (Exception e) {
+          log.warn("Failed to unlock {}", LOCK_KEY, e);
+        }
+      }
+    }
+  }
+}
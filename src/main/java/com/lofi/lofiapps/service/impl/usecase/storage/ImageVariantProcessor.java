@@ -0,0 +1,286 @@
+package com.lofi.lofiapps.service.impl.usecase.storage;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decodes an uploaded image once and re-encodes it as JPEG variants bounded by the requested long
+ * sides. Large sources are decoded with subsampling so the decoded raster never exceeds roughly
+ * twice the largest variant, and only {@code maxConcurrent} images are in flight at a time: the
+ * permit covers decode, resize and encode, since the rasters live until the last variant is
+ * written. Re-encoding drops all metadata (EXIF, GPS, ...) after the EXIF orientation has been
+ * applied to the pixels.
+ */
+@Slf4j
+@Component
+public class ImageVariantProcessor {
+
+  public record ImageVariant(int size, int width, int height, byte[] content) {}
+
+  private static final float JPEG_QUALITY = 0.85f;
+
+  private final long maxSourcePixels;
+  private final Semaphore imagePermits;
+
+  public ImageVariantProcessor(
+      @Value("${app.storage.image.max-source-pixels:50000000}") long maxSourcePixels,
+      @Value("${app.storage.image.max-concurrent-decodes:2}") int maxConcurrent) {
+    this.maxSourcePixels = maxSourcePixels;
+    this.imagePermits = new Semaphore(maxConcurrent, true);
+  }
+
+  /**
+   * @param header the first bytes of the upload, used only to read the EXIF orientation
+   * @param sizes target long-side sizes in pixels; images are never upscaled
+   */
+  public List<ImageVariant> process(InputStream source, byte[] header, int... sizes)
+      throws IOException {
+    int[] ordered = Arrays.stream(sizes).sorted().toArray();
+    int largest = ordered[ordered.length - 1];
+
+    imagePermits.acquireUninterruptibly();
+    try {
+      BufferedImage image = orient(flatten(decode(source, largest)), ExifOrientation.read(header));
+
+      // Largest first, each step scaling down from the previous one
+      List<ImageVariant> variants = new ArrayList<>();
+      BufferedImage current = image;
+      for (int i = ordered.length - 1; i >= 0; i--) {
+        current = fit(current, ordered[i]);
+        variants.add(
+            new ImageVariant(
+                ordered[i], current.getWidth(), current.getHeight(), encodeJpeg(current)));
+      }
+      return variants;
+    } finally {
+      imagePermits.release();
+    }
+  }
+
+  private BufferedImage decode(InputStream source, int largest) throws IOException {
+    try (ImageInputStream input = ImageIO.createImageInputStream(source)) {
+      Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+      if (readers == null || !readers.hasNext()) {
+        throw new IllegalArgumentException("Unsupported image format");
+      }
+      ImageReader reader = readers.next();
+      try {
+        reader.setInput(input, true, true);
+        int width = reader.getWidth(0);
+        int height = reader.getHeight(0);
+        if ((long) width * height > maxSourcePixels) {
+          throw new IllegalArgumentException("Image dimensions are too large");
+        }
+        ImageReadParam param = reader.getDefaultReadParam();
+        int step = Math.max(1, Math.max(width, height) / largest);
+        param.setSourceSubsampling(step, step, 0, 0);
+        return reader.read(0, param);
+      } finally {
+        reader.dispose();
+      }
+    }
+  }
+
+  /** Drops alpha onto white so every variant can be JPEG. */
+  private BufferedImage flatten(BufferedImage image) {
+    if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+      return image;
+    }
+    BufferedImage rgb =
+        new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+    Graphics2D g = rgb.createGraphics();
+    try {
+      g.setColor(Color.WHITE);
+      g.fillRect(0, 0, image.getWidth(), image.getHeight());
+      g.drawImage(image, 0, 0, null);
+    } finally {
+      g.dispose();
+    }
+    return rgb;
+  }
+
+  private BufferedImage orient(BufferedImage image, int orientation) {
+    if (orientation <= 1 || orientation > 8) {
+      return image;
+    }
+    int w = image.getWidth();
+    int h = image.getHeight();
+    boolean swap = orientation >= 5;
+    AffineTransform t = new AffineTransform();
+    switch (orientation) {
+      case 2 -> t.scale(-1, 1);
+      case 3 -> t.rotate(Math.PI);
+      case 4 -> t.scale(1, -1);
+      case 5 -> {
+        t.rotate(Math.PI / 2);
+        t.scale(1, -1);
+      }
+      case 6 -> t.rotate(Math.PI / 2);
+      case 7 -> {
+        t.rotate(-Math.PI / 2);
+        t.scale(1, -1);
+      }
+      case 8 -> t.rotate(-Math.PI / 2);
+      default -> {}
+    }
+    // Move the transformed image back into the positive quadrant
+    Rectangle2D bounds = t.createTransformedShape(new Rectangle(0, 0, w, h)).getBounds2D();
+    AffineTransform shift = AffineTransform.getTranslateInstance(-bounds.getX(), -bounds.getY());
+    shift.concatenate(t);
+
+    BufferedImage out = new BufferedImage(swap ? h : w, swap ? w : h, BufferedImage.TYPE_INT_RGB);
+    Graphics2D g = out.createGraphics();
+    try {
+      g.drawImage(image, shift, null);
+    } finally {
+      g.dispose();
+    }
+    return out;
+  }
+
+  /** Scales so the long side is at most {@code size}, halving in steps to keep quality. */
+  private BufferedImage fit(BufferedImage image, int size) {
+    int longSide = Math.max(image.getWidth(), image.getHeight());
+    if (longSide <= size) {
+      return image;
+    }
+    double scale = (double) size / longSide;
+    int targetW = Math.max(1, (int) Math.round(image.getWidth() * scale));
+    int targetH = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+    BufferedImage current = image;
+    int w = image.getWidth();
+    int h = image.getHeight();
+    do {
+      w = Math.max(targetW, w / 2);
+      h = Math.max(targetH, h / 2);
+      BufferedImage next = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+      Graphics2D g = next.createGraphics();
+      try {
+        g.setRenderingHint(
+            RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.drawImage(current, 0, 0, w, h, null);
+      } finally {
+        g.dispose();
+      }
+      current = next;
+    } while (w != targetW || h != targetH);
+    return current;
+  }
+
+  private byte[] encodeJpeg(BufferedImage image) throws IOException {
+    ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (MemoryCacheImageOutputStream output = new MemoryCacheImageOutputStream(bytes)) {
+      writer.setOutput(output);
+      ImageWriteParam param = writer.getDefaultWriteParam();
+      param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+      param.setCompressionQuality(JPEG_QUALITY);
+      param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+      // No metadata passed in, so nothing from the source survives
+      writer.write(null, new IIOImage(image, null, null), param);
+    } finally {
+      writer.dispose();
+    }
+    return bytes.toByteArray();
+  }
+
+  /** Minimal reader for the EXIF orientation tag (0x0112) in a JPEG APP1 segment. */
+  static final class ExifOrientation {
+
+    private ExifOrientation() {}
+
+    static int read(byte[] data) {
+      if (data == null || data.length < 4 || u8(data, 0) != 0xFF || u8(data, 1) != 0xD8) {
+        return 1;
+      }
+      int pos = 2;
+      while (pos + 4 <= data.length && u8(data, pos) == 0xFF) {
+        int marker = u8(data, pos + 1);
+        int length = (u8(data, pos + 2) << 8) | u8(data, pos + 3);
+        if (marker == 0xDA || length < 2) {
+          return 1;
+        }
+        if (marker == 0xE1 && isExif(data, pos + 4)) {
+          return readTiff(data, pos + 10, Math.min(data.length, pos + 2 + length));
+        }
+        pos += 2 + length;
+      }
+      return 1;
+    }
+
+    private static boolean isExif(byte[] data, int pos) {
+      return pos + 6 <= data.length
+          && data[pos] == 'E'
+          && data[pos + 1] == 'x'
+          && data[pos + 2] == 'i'
+          && data[pos + 3] == 'f'
+          && data[pos + 4] == 0
+          && data[pos + 5] == 0;
+    }
+
+    private static int readTiff(byte[] data, int tiff, int end) {
+      if (tiff + 8 > end) {
+        return 1;
+      }
+      boolean little = data[tiff] == 'I';
+      // Unsigned 32-bit offset from the TIFF header; kept wide so a huge one cannot wrap around
+      long offset = u32(data, tiff + 4, little);
+      if (offset < 8 || tiff + offset + 2 > end) {
+        return 1;
+      }
+      int ifd = (int) (tiff + offset);
+      int entries = u16(data, ifd, little);
+      for (int i = 0; i < entries; i++) {
+        long entry = ifd + 2L + i * 12L;
+        if (entry + 12 > end) {
+          return 1;
+        }
+        if (u16(data, (int) entry, little) == 0x0112) {
+          return u16(data, (int) entry + 8, little);
+        }
+      }
+      return 1;
+    }
+
+    private static int u8(byte[] data, int pos) {
+      return data[pos] & 0xFF;
+    }
+
+    private static int u16(byte[] data, int pos, boolean little) {
+      return little
+          ? u8(data, pos) | (u8(data, pos + 1) << 8)
+          : (u8(data, pos) << 8) | u8(data, pos + 1);
+    }
+
+    private static long u32(byte[] data, int pos, boolean little) {
+      return little
+          ? (u16(data, pos, true) & 0xFFFFL) | ((long) u16(data, pos + 2, true) << 16)
+          : ((long) u16(data, pos, false) << 16) | (u16(data, pos + 2, false) & 0xFFFFL);
+    }
+  }
+}
@@ -0,0 +1,187 @@
+package com.lofi.lofiapps.service.impl.usecase.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+/**
+ * S3 multipart upload from an {@link InputStream} with parallel part uploads. Part buffers come
+ * from one pool shared by every upload on the node, so heap spent on in-flight parts never exceeds
+ * {@code maxBuffers * partSize} regardless of how many uploads run at once; a reader blocks until a
+ * buffer is returned.
+ */
+@Slf4j
+@Component
+public class MultipartUploader {
+
+  // S3/R2 reject non-final parts smaller than 5 MiB
+  static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+  private final S3Client s3Client;
+  private final Executor executor;
+  private final int partSize;
+  private final BlockingQueue<byte[]> bufferPool;
+  private final AtomicInteger allocatedBuffers = new AtomicInteger();
+  private final int maxBuffers;
+
+  public MultipartUploader(
+      S3Client s3Client,
+      @Qualifier("storageExecutor") Executor executor,
+      @Value("${app.storage.multipart.part-size-bytes:8388608}") int partSize,
+      @Value("${app.storage.multipart.max-buffers:8}") int maxBuffers) {
+    this.s3Client = s3Client;
+    this.executor = executor;
+    this.partSize = Math.max(partSize, MIN_PART_SIZE);
+    this.maxBuffers = maxBuffers;
+    this.bufferPool = new ArrayBlockingQueue<>(maxBuffers);
+  }
+
+  public void upload(String bucketName, String objectKey, InputStream content, String contentType)
+      throws IOException {
+    String uploadId =
+        s3Client
+            .createMultipartUpload(
+                CreateMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(objectKey)
+                    .contentType(contentType)
+                    .build())
+            .uploadId();
+
+    List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+    try {
+      int partNumber = 1;
+      while (true) {
+        byte[] buffer = borrow();
+        int length;
+        try {
+          length = content.readNBytes(buffer, 0, partSize);
+        } catch (IOException | RuntimeException e) {
+          bufferPool.offer(buffer);
+          throw e;
+        }
+        if (length == 0 && partNumber > 1) {
+          bufferPool.offer(buffer);
+          break;
+        }
+        parts.add(uploadPart(bucketName, objectKey, uploadId, partNumber++, buffer, length));
+        if (length < partSize) {
+          break;
+        }
+      }
+
+      List<CompletedPart> completed = new ArrayList<>(parts.size());
+      for (CompletableFuture<CompletedPart> part : parts) {
+        completed.add(part.join());
+      }
+      completed.sort(Comparator.comparing(CompletedPart::partNumber));
+      s3Client.completeMultipartUpload(
+          CompleteMultipartUploadRequest.builder()
+              .bucket(bucketName)
+              .key(objectKey)
+              .uploadId(uploadId)
+              .multipartUpload(CompletedMultipartUpload.builder().parts(completed).build())
+              .build());
+    } catch (IOException | RuntimeException e) {
+      abort(bucketName, objectKey, uploadId, parts);
+      if (e instanceof CompletionException && e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private CompletableFuture<CompletedPart> uploadPart(
+      String bucketName,
+      String objectKey,
+      String uploadId,
+      int partNumber,
+      byte[] buffer,
+      int length) {
+    return CompletableFuture.supplyAsync(
+            () -> {
+              UploadPartRequest request =
+                  UploadPartRequest.builder()
+                      .bucket(bucketName)
+                      .key(objectKey)
+                      .uploadId(uploadId)
+                      .partNumber(partNumber)
+                      .contentLength((long) length)
+                      .build();
+              // Content provider re-reads the buffer on retry instead of copying it
+              String eTag =
+                  s3Client
+                      .uploadPart(
+                          request,
+                          RequestBody.fromContentProvider(
+                              () -> new ByteArrayInputStream(buffer, 0, length),
+                              length,
+                              "application/octet-stream"))
+                      .eTag();
+              return CompletedPart.builder().partNumber(partNumber).eTag(eTag).build();
+            },
+            executor)
+        .whenComplete((part, error) -> bufferPool.offer(buffer));
+  }
+
+  private void abort(
+      String bucketName,
+      String objectKey,
+      String uploadId,
+      List<CompletableFuture<CompletedPart>> parts) {
+    // Let running parts finish so their buffers go back to the pool
+    parts.forEach(part -> part.handle((p, e) -> null).join());
+    try {
+      s3Client.abortMultipartUpload(
+          AbortMultipartUploadRequest.builder()
+              .bucket(bucketName)
+              .key(objectKey)
+              .uploadId(uploadId)
+              .build());
+    } catch (RuntimeException e) {
+      log.warn("Failed to abort multipart upload {} for {}", uploadId, objectKey, e);
+    }
+  }
+
+  private byte[] borrow() throws IOException {
+    byte[] buffer = bufferPool.poll();
+    if (buffer != null) {
+      return buffer;
+    }
+    if (allocatedBuffers.incrementAndGet() <= maxBuffers) {
+      return new byte[partSize];
+    }
+    allocatedBuffers.decrementAndGet();
+    try {
+      return bufferPool.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for an upload buffer", e);
+    }
+  }
+
+  int allocatedBuffers() {
+    return allocatedBuffers.get();
+  }
+}
@@ -0,0 +1,166 @@
+package com.lofi.lofiapps.service.impl.usecase.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Size-bounded LRU cache of storage objects on local disk. Objects are filled while they stream to
+ * the client, so a miss costs no extra round trip, and later hits are served without leaving the
+ * node. The index lives in memory, so each instance fills a fresh directory of its own and deletes
+ * it on shutdown; instances sharing a host never touch each other's files.
+ */
+@Slf4j
+@Component
+public class ObjectDiskCache implements DisposableBean {
+
+  public record CachedObject(Path path, long size, String contentType) {}
+
+  private final Path directory;
+  private final long maxBytes;
+  private final long maxObjectBytes;
+  private final LinkedHashMap<String, CachedObject> index = new LinkedHashMap<>(16, 0.75f, true);
+  private long totalBytes;
+
+  @Autowired
+  public ObjectDiskCache(
+      @Value("${app.storage.disk-cache.dir:}") String cacheDir,
+      @Value("${app.storage.disk-cache.max-bytes:268435456}") long maxBytes,
+      @Value("${app.storage.disk-cache.max-object-bytes:5242880}") long maxObjectBytes)
+      throws IOException {
+    this(privateDirectory(cacheDir), maxBytes, maxObjectBytes);
+  }
+
+  ObjectDiskCache(Path directory, long maxBytes, long maxObjectBytes) throws IOException {
+    this.directory = Files.createDirectories(directory);
+    this.maxBytes = maxBytes;
+    this.maxObjectBytes = maxObjectBytes;
+  }
+
+  public Optional<CachedObject> get(String cacheKey) {
+    synchronized (index) {
+      CachedObject cached = index.get(cacheKey);
+      if (cached != null && !Files.exists(cached.path())) {
+        index.remove(cacheKey);
+        totalBytes -= cached.size();
+        return Optional.empty();
+      }
+      return Optional.ofNullable(cached);
+    }
+  }
+
+  /** Whether an object of this size (-1 if unknown) would be kept. */
+  public boolean accepts(long size) {
+    return size >= 0 && size <= maxObjectBytes && size <= maxBytes;
+  }
+
+  /**
+   * Copies {@code in} to {@code out} and, once the whole body made it through, publishes the copy
+   * to the cache. A failed or aborted transfer leaves nothing behind.
+   */
+  public void copyThrough(String cacheKey, String contentType, InputStream in, OutputStream out)
+      throws IOException {
+    Path temp = Files.createTempFile(directory, "fill-", ".tmp");
+    long size = 0;
+    try {
+      try (OutputStream file = Files.newOutputStream(temp)) {
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+          out.write(buffer, 0, read);
+          file.write(buffer, 0, read);
+          size += read;
+        }
+      }
+      publish(cacheKey, temp, size, contentType);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  private void publish(String cacheKey, Path temp, long size, String contentType)
+      throws IOException {
+    if (!accepts(size)) {
+      return;
+    }
+    Path target = directory.resolve(fileName(cacheKey));
+    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+    synchronized (index) {
+      CachedObject previous = index.put(cacheKey, new CachedObject(target, size, contentType));
+      if (previous != null) {
+        totalBytes -= previous.size();
+      }
+      totalBytes += size;
+
+      Iterator<Map.Entry<String, CachedObject>> eldest = index.entrySet().iterator();
+      while (totalBytes > maxBytes && eldest.hasNext()) {
+        Map.Entry<String, CachedObject> entry = eldest.next();
+        if (entry.getKey().equals(cacheKey)) {
+          continue;
+        }
+        eldest.remove();
+        totalBytes -= entry.getValue().size();
+        try {
+          Files.deleteIfExists(entry.getValue().path());
+        } catch (IOException e) {
+          log.warn("Failed to delete evicted cache file {}", entry.getValue().path());
+        }
+      }
+    }
+  }
+
+  @Override
+  public void destroy() throws IOException {
+    synchronized (index) {
+      index.clear();
+      totalBytes = 0;
+    }
+    FileSystemUtils.deleteRecursively(directory);
+  }
+
+  Path directory() {
+    return directory;
+  }
+
+  /** A fresh directory under {@code cacheDir}, or the temp dir, that no other instance uses. */
+  private static Path privateDirectory(String cacheDir) throws IOException {
+    Path parent =
+        cacheDir == null || cacheDir.isBlank()
+            ? Path.of(System.getProperty("java.io.tmpdir"))
+            : Files.createDirectories(Path.of(cacheDir));
+    return Files.createTempDirectory(parent, "lofi-object-cache-");
+  }
+
+  long totalBytes() {
+    synchronized (index) {
+      return totalBytes;
+    }
+  }
+
+  private static String fileName(String cacheKey) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return java.util.HexFormat.of()
+          .formatHex(digest.digest(cacheKey.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+}
@@ -0,0 +1,97 @@
+package com.lofi.lofiapps.service.impl.usecase.storage;
+
+import java.net.URL;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.awscore.presigner.PresignedRequest;
+
+/**
+ * Bounded LRU of presigned URLs. A signed URL is handed out again until {@code safetyMargin} before
+ * it expires, so callers always get at least that much remaining validity, and SigV4 signing runs
+ * once per object per validity window instead of once per request.
+ */
+@Slf4j
+@Component
+public class PresignedUrlCache {
+
+  public enum Operation {
+    GET,
+    PUT
+  }
+
+  private record Key(Operation operation, String bucket, String objectKey, long expiryMinutes) {}
+
+  private record Entry(URL url, Instant reuseUntil) {}
+
+  private final Duration safetyMargin;
+  private final Clock clock;
+  private final Map<Key, Entry> entries;
+
+  @Autowired
+  public PresignedUrlCache(
+      @Value("${app.storage.presign-cache.max-entries:10000}") int maxEntries,
+      @Value("${app.storage.presign-cache.safety-margin-seconds:300}") long safetyMarginSeconds) {
+    this(maxEntries, Duration.ofSeconds(safetyMarginSeconds), Clock.systemUTC());
+  }
+
+  PresignedUrlCache(int maxEntries, Duration safetyMargin, Clock clock) {
+    this.safetyMargin = safetyMargin;
+    this.clock = clock;
+    this.entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+            return size() > maxEntries;
+          }
+        };
+  }
+
+  public URL getOrSign(
+      Operation operation,
+      String bucket,
+      String objectKey,
+      long expiryMinutes,
+      Supplier<? extends PresignedRequest> signer) {
+    Key key = new Key(operation, bucket, objectKey, expiryMinutes);
+    Instant now = clock.instant();
+    synchronized (entries) {
+      Entry cached = entries.get(key);
+      if (cached != null && now.isBefore(cached.reuseUntil())) {
+        return cached.url();
+      }
+    }
+
+    // Sign outside the lock; two concurrent misses just both sign
+    PresignedRequest signed = signer.get();
+    Instant reuseUntil = signed.expiration().minus(safetyMargin);
+    if (now.isBefore(reuseUntil)) {
+      synchronized (entries) {
+        entries.put(key, new Entry(signed.url(), reuseUntil));
+      }
+    }
+    return signed.url();
+  }
+
+  /** Drops every cached URL for an object, e.g. after it was replaced or deleted. */
+  public void invalidate(String bucket, String objectKey) {
+    synchronized (entries) {
+      entries
+          .keySet()
+          .removeIf(key -> key.bucket().equals(bucket) && key.objectKey().equals(objectKey));
+    }
+  }
+
+  int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+}
@@ -1,14 +1,31 @@
 package com.lofi.lofiapps.service.impl.usecase.storage;
 
+import com.lofi.lofiapps.exception.RangeNotSatisfiableException;
+import com.lofi.lofiapps.exception.ResourceNotFoundException;
 import com.lofi.lofiapps.service.StorageService;
+import com.lofi.lofiapps.service.StoredObject;
+import com.lofi.lofiapps.service.StoredObjectInfo;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
@@ -20,6 +37,12 @@ public class R2StorageService implements StorageService {
 
   private final S3Presigner s3Presigner;
   private final S3Client s3Client;
+  private final S3AsyncClient s3AsyncClient;
+  private final PresignedUrlCache presignedUrlCache;
+  private final MultipartUploader multipartUploader;
+
+  @Value("${app.storage.multipart.threshold-bytes:16777216}")
+  private long multipartThresholdBytes = 16 * 1024 * 1024;
 
   @Override
   public URL generatePresignedUploadUrl(
@@ -49,22 +72,34 @@ public class R2StorageService implements StorageService {
   public URL generatePresignedDownloadUrl(
       String bucketName, String objectKey, long expirationMinutes) {
     try {
-      GetObjectRequest objectRequest =
-          GetObjectRequest.builder().bucket(bucketName).key(objectKey).build();
+      return presignedUrlCache.getOrSign(
+          PresignedUrlCache.Operation.GET,
+          bucketName,
+          objectKey,
+          expirationMinutes,
+          () -> {
+            GetObjectRequest objectRequest =
+                GetObjectRequest.builder().bucket(bucketName).key(objectKey).build();
 
-      GetObjectPresignRequest presignRequest =
-          GetObjectPresignRequest.builder()
-              .signatureDuration(Duration.ofMinutes(expirationMinutes))
-              .getObjectRequest(objectRequest)
-              .build();
+            GetObjectPresignRequest presignRequest =
+                GetObjectPresignRequest.builder()
+                    .signatureDuration(Duration.ofMinutes(expirationMinutes))
+                    .getObjectRequest(objectRequest)
+                    .build();
 
-      return s3Presigner.presignGetObject(presignRequest).url();
+            return s3Presigner.presignGetObject(presignRequest);
+          });
     } catch (Exception e) {
       log.error("Error generating presigned download URL", e);
       throw new RuntimeException("Error generating presigned download URL", e);
     }
   }
 
+  @Override
+  public void evictPresignedUrls(String bucketName, String objectKey) {
+    presignedUrlCache.invalidate(bucketName, objectKey);
+  }
+
   @Override
   public void uploadFile(String bucketName, String objectKey, byte[] content, String contentType) {
     try {
@@ -75,8 +110,7 @@ public class R2StorageService implements StorageService {
               .contentType(contentType)
               .build();
 
-      s3Client.putObject(
-          putObjectRequest, software.amazon.awssdk.core.sync.RequestBody.fromBytes(content));
+      s3Client.putObject(putObjectRequest, RequestBody.fromBytes(content));
     } catch (Exception e) {
       log.error("Error uploading file to R2", e);
       throw new RuntimeException("Error uploading file to R2", e);
@@ -84,6 +118,53 @@ public class R2StorageService implements StorageService {
   }
 
   @Override
+  public void uploadStream(
+      String bucketName,
+      String objectKey,
+      InputStream content,
+      long contentLength,
+      String contentType) {
+    try {
+      if (contentLength >= 0 && contentLength < multipartThresholdBytes) {
+        PutObjectRequest putObjectRequest =
+            PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(objectKey)
+                .contentType(contentType)
+                .contentLength(contentLength)
+                .build();
+        s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(content, contentLength));
+      } else {
+        multipartUploader.upload(bucketName, objectKey, content, contentType);
+      }
+    } catch (IOException | RuntimeException e) {
+      log.error("Error streaming file to R2", e);
+      throw new RuntimeException("Error streaming file to R2", e);
+    }
+  }
+
+  @Override
+  public CompletableFuture<Void> uploadFileAsync(
+      String bucketName, String objectKey, Path file, String contentType) {
+    PutObjectRequest putObjectRequest =
+        PutObjectRequest.builder()
+            .bucket(bucketName)
+            .key(objectKey)
+            .contentType(contentType)
+            .build();
+    return s3AsyncClient
+        .putObject(putObjectRequest, AsyncRequestBody.fromFile(file))
+        .whenComplete(
+            (response, error) -> {
+              if (error != null) {
+                log.error("Error uploading {} to R2", objectKey, error);
+              }
+            })
+        .thenApply(response -> null);
+  }
+
+  @Override
+  @Deprecated
   public byte[] downloadFile(String bucketName, String objectKey) {
     try {
       GetObjectRequest getObjectRequest =
@@ -95,4 +176,50 @@ public class R2StorageService implements StorageService {
       throw new RuntimeException("Error downloading file from R2", e);
     }
   }
+
+  @Override
+  public StoredObjectInfo statObject(String bucketName, String objectKey) {
+    try {
+      HeadObjectResponse response =
+          s3Client.headObject(
+              HeadObjectRequest.builder().bucket(bucketName).key(objectKey).build());
+      String eTag = response.eTag() != null ? response.eTag().replace("\"", "") : null;
+      return new StoredObjectInfo(
+          response.contentLength() != null ? response.contentLength() : -1,
+          response.contentType(),
+          eTag);
+    } catch (S3Exception e) {
+      if (e.statusCode() == 404) {
+        throw new ResourceNotFoundException("Stored object not found: " + objectKey);
+      }
+      log.error("Error reading object metadata from R2", e);
+      throw new RuntimeException("Error reading object metadata from R2", e);
+    }
+  }
+
+  @Override
+  public StoredObject openObject(String bucketName, String objectKey, String range) {
+    GetObjectRequest.Builder request = GetObjectRequest.builder().bucket(bucketName).key(objectKey);
+    if (range != null) {
+      request.range(range);
+    }
+    try {
+      ResponseInputStream<GetObjectResponse> body = s3Client.getObject(request.build());
+      GetObjectResponse response = body.response();
+      return new StoredObject(
+          body,
+          response.contentType(),
+          response.contentLength() != null ? response.contentLength() : -1,
+          response.contentRange());
+    } catch (S3Exception e) {
+      if (e.statusCode() == 404) {
+        throw new ResourceNotFoundException("Stored object not found: " + objectKey);
+      }
+      if (e.statusCode() == 416) {
+        throw new RangeNotSatisfiableException();
+      }
+      log.error("Error opening object from R2", e);
+      throw new RuntimeException("Error opening object from R2", e);
+    }
+  }
 }
@@ -1,25 +1,111 @@
 package com.lofi.lofiapps.service.impl.usecase.user;
 
 import com.lofi.lofiapps.entity.User;
+import com.lofi.lofiapps.exception.RangeNotSatisfiableException;
 import com.lofi.lofiapps.exception.ResourceNotFoundException;
 import com.lofi.lofiapps.repository.UserRepository;
 import com.lofi.lofiapps.service.StorageService;
+import com.lofi.lofiapps.service.StoredObject;
+import com.lofi.lofiapps.service.impl.usecase.storage.ObjectDiskCache;
+import com.lofi.lofiapps.service.impl.usecase.storage.ObjectDiskCache.CachedObject;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 
+/**
+ * Streams a profile photo variant to the response. Photo keys are never overwritten (every upload
+ * gets a new key), so the ETag is derived from the key alone and conditional requests are answered
+ * without touching storage. Bodies come from the local disk cache when possible and are otherwise
+ * piped from R2 while filling the cache.
+ */
 @Component
 @RequiredArgsConstructor
 public class GetProfilePhotoUseCase {
 
+  private static final CacheControl CACHE_CONTROL =
+      CacheControl.maxAge(Duration.ofDays(1)).cachePrivate();
+
   private final UserRepository userRepository;
   private final StorageService storageService;
+  private final ObjectDiskCache objectDiskCache;
 
   @Value("${app.storage.bucket-name:lofi-bucket}")
   private String bucketName;
 
-  public byte[] execute(UUID userId) {
+  /**
+   * @param size requested long side in pixels; the smallest stored variant covering it is served
+   */
+  public void execute(
+      UUID userId, Integer size, HttpServletRequest request, HttpServletResponse response)
+      throws IOException {
+    String photoKey = ProfilePhotoKeys.resolve(resolvePhotoKey(userId), size);
+    String etag = etag(photoKey);
+
+    response.setHeader(HttpHeaders.ETAG, etag);
+    response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL.getHeaderValue());
+    response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+    if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+      response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+      return;
+    }
+
+    HttpRange range = singleRange(request, etag);
+    String cacheKey = bucketName + "/" + photoKey;
+    Optional<CachedObject> cached = objectDiskCache.get(cacheKey);
+    if (cached.isPresent() && serveFromDisk(cached.get(), range, response)) {
+      return;
+    }
+
+    StoredObject opened;
+    try {
+      opened =
+          storageService.openObject(
+              bucketName, photoKey, range != null ? rangeHeader(range) : null);
+    } catch (RangeNotSatisfiableException e) {
+      notSatisfiable(storageService.statObject(bucketName, photoKey).contentLength(), response);
+      return;
+    }
+    try (StoredObject object = opened) {
+      response.setContentType(contentType(object.contentType()));
+      if (object.contentLength() >= 0) {
+        response.setContentLengthLong(object.contentLength());
+      }
+      OutputStream out = response.getOutputStream();
+      if (object.contentRange() != null) {
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        response.setHeader(HttpHeaders.CONTENT_RANGE, object.contentRange());
+        object.content().transferTo(out);
+      } else if (objectDiskCache.accepts(object.contentLength())) {
+        objectDiskCache.copyThrough(cacheKey, object.contentType(), object.content(), out);
+      } else {
+        object.content().transferTo(out);
+      }
+    }
+  }
+
+  private String resolvePhotoKey(UUID userId) {
     User user =
         userRepository
             .findById(userId)
@@ -37,7 +123,115 @@ public class GetProfilePhotoUseCase {
       throw new RuntimeException(
           "Profile picture is stored as a remote URL and cannot be downloaded directly");
     }
+    return photoKey;
+  }
+
+  /**
+   * Serves the cached copy; false when it was evicted after the lookup, before anything was
+   * written, so the caller can fall back to storage.
+   */
+  private boolean serveFromDisk(CachedObject cached, HttpRange range, HttpServletResponse response)
+      throws IOException {
+    if (range != null && !satisfiable(range, cached.size())) {
+      notSatisfiable(cached.size(), response);
+      return true;
+    }
+    FileChannel file;
+    try {
+      file = FileChannel.open(cached.path(), StandardOpenOption.READ);
+    } catch (NoSuchFileException e) {
+      return false;
+    }
+
+    long start = 0;
+    long length = cached.size();
+    if (range != null) {
+      start = range.getRangeStart(cached.size());
+      long end = range.getRangeEnd(cached.size());
+      length = end - start + 1;
+      response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+      response.setHeader(
+          HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + cached.size());
+    }
+
+    response.setContentType(contentType(cached.contentType()));
+    response.setContentLengthLong(length);
+    try (file;
+        InputStream in = Channels.newInputStream(file.position(start))) {
+      long remaining = length;
+      byte[] buffer = new byte[8192];
+      OutputStream out = response.getOutputStream();
+      while (remaining > 0) {
+        int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+        if (read == -1) {
+          break;
+        }
+        out.write(buffer, 0, read);
+        remaining -= read;
+      }
+    }
+    return true;
+  }
 
-    return storageService.downloadFile(bucketName, photoKey);
+  private void notSatisfiable(long size, HttpServletResponse response) {
+    response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+  }
+
+  /** Only a single byte range is honored; anything else is served as the full photo. */
+  private HttpRange singleRange(HttpServletRequest request, String etag) {
+    String header = request.getHeader(HttpHeaders.RANGE);
+    if (header == null) {
+      return null;
+    }
+    String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+    if (ifRange != null && !ifRange.equals(etag)) {
+      return null;
+    }
+    try {
+      List<HttpRange> ranges = HttpRange.parseRanges(header);
+      return ranges.size() == 1 ? ranges.get(0) : null;
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  private boolean satisfiable(HttpRange range, long size) {
+    try {
+      return range.getRangeStart(size) < size;
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+  private String rangeHeader(HttpRange range) {
+    return "bytes=" + range;
+  }
+
+  private boolean matches(String ifNoneMatch, String etag) {
+    if (ifNoneMatch == null) {
+      return false;
+    }
+    for (String candidate : ifNoneMatch.split(",")) {
+      String value = candidate.strip();
+      if (value.equals("*") || value.equals(etag) || value.equals("W/" + etag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private String contentType(String stored) {
+    return stored != null ? stored : MediaType.IMAGE_JPEG_VALUE;
+  }
+
+  private static String etag(String photoKey) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      byte[] hash = digest.digest(photoKey.getBytes(StandardCharsets.UTF_8));
+      return "\"" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
   }
 }
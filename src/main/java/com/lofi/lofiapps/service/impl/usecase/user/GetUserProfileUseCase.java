@@ -38,7 +38,10 @@ public class GetUserProfileUseCase {
         && !profilePictureUrl.isEmpty()
         && !profilePictureUrl.startsWith("http")) {
       profilePictureUrl =
-          storageService.generatePresignedDownloadUrl(bucketName, profilePictureUrl, 60).toString();
+          storageService
+              .generatePresignedDownloadUrl(
+                  bucketName, ProfilePhotoKeys.resolve(profilePictureUrl, null), 60)
+              .toString();
     }
 
     BigDecimal availablePlafond = BigDecimal.ZERO;
@@ -0,0 +1,43 @@
+package com.lofi.lofiapps.service.impl.usecase.user;
+
+import java.util.Arrays;
+
+/**
+ * Object-key layout for processed profile photos. A processed upload is stored as {@code
+ * profile-photos/<user>-<ts>} plus one JPEG per size ({@code .../64.jpg}, {@code .../256.jpg},
+ * {@code .../1024.jpg}); the user row keeps the base key. Older uploads under {@code
+ * profile-pictures/} are single original objects.
+ */
+final class ProfilePhotoKeys {
+
+  static final String PREFIX = "profile-photos/";
+  static final int[] SIZES = {64, 256, 1024};
+  // Profile payloads render avatars at list/detail size
+  static final int PROFILE_SIZE = 256;
+
+  private ProfilePhotoKeys() {}
+
+  static boolean hasVariants(String key) {
+    return key.startsWith(PREFIX);
+  }
+
+  static String variant(String baseKey, int size) {
+    return baseKey + "/" + size + ".jpg";
+  }
+
+  /** Smallest stored size covering {@code requested}, or the largest if none does. */
+  static int pick(Integer requested) {
+    if (requested == null) {
+      return PROFILE_SIZE;
+    }
+    return Arrays.stream(SIZES)
+        .filter(s -> s >= requested)
+        .findFirst()
+        .orElse(SIZES[SIZES.length - 1]);
+  }
+
+  /** Object key to serve for a stored photo key at the requested size. */
+  static String resolve(String storedKey, Integer requested) {
+    return hasVariants(storedKey) ? variant(storedKey, pick(requested)) : storedKey;
+  }
+}
@@ -3,9 +3,9 @@ package com.lofi.lofiapps.service.impl.usecase.user;
 import com.lofi.lofiapps.dto.request.SetGooglePinRequest;
 import com.lofi.lofiapps.entity.User;
 import com.lofi.lofiapps.repository.UserRepository;
+import com.lofi.lofiapps.security.service.CredentialHasher;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,7 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class SetGooglePinUseCase {
 
   private final UserRepository userRepository;
-  private final PasswordEncoder passwordEncoder;
+  private final CredentialHasher credentialHasher;
 
   @Transactional
   public void execute(UUID userId, SetGooglePinRequest request) {
@@ -35,7 +35,7 @@ public class SetGooglePinUseCase {
       throw new RuntimeException("PIN is already set. Use update PIN endpoint");
     }
 
-    user.setPin(passwordEncoder.encode(request.getPin()));
+    user.setPin(credentialHasher.encode(request.getPin()));
     user.setPinSet(true);
     userRepository.save(user);
   }
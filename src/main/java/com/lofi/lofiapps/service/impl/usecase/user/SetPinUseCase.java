@@ -3,9 +3,9 @@ package com.lofi.lofiapps.service.impl.usecase.user;
 import com.lofi.lofiapps.dto.request.SetPinRequest;
 import com.lofi.lofiapps.entity.User;
 import com.lofi.lofiapps.repository.UserRepository;
+import com.lofi.lofiapps.security.service.CredentialHasher;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,18 +14,18 @@ import org.springframework.transaction.annotation.Transactional;
 public class SetPinUseCase {
 
   private final UserRepository userRepository;
-  private final PasswordEncoder passwordEncoder;
+  private final CredentialHasher credentialHasher;
 
   @Transactional
   public void execute(UUID userId, SetPinRequest request) {
     User user =
         userRepository.findById(userId).orElseThrow(() -> new RuntimeException("User not found"));
 
-    if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+    if (!credentialHasher.matches(request.getPassword(), user.getPassword())) {
       throw new RuntimeException("Invalid password");
     }
 
-    user.setPin(passwordEncoder.encode(request.getPin()));
+    user.setPin(credentialHasher.encode(request.getPin()));
     user.setPinSet(true);
     userRepository.save(user);
   }
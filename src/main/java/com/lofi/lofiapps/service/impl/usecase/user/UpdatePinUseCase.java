@@ -3,9 +3,9 @@ package com.lofi.lofiapps.service.impl.usecase.user;
 import com.lofi.lofiapps.dto.request.UpdatePinRequest;
 import com.lofi.lofiapps.entity.User;
 import com.lofi.lofiapps.repository.UserRepository;
+import com.lofi.lofiapps.security.service.CredentialHasher;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,7 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class UpdatePinUseCase {
 
   private final UserRepository userRepository;
-  private final PasswordEncoder passwordEncoder;
+  private final CredentialHasher credentialHasher;
 
   @Transactional
   public void execute(UUID userId, UpdatePinRequest request) {
@@ -22,12 +22,12 @@ public class UpdatePinUseCase {
         userRepository.findById(userId).orElseThrow(() -> new RuntimeException("User not found"));
 
     if (user.getPin() != null) {
-      if (!passwordEncoder.matches(request.getOldPin(), user.getPin())) {
+      if (!credentialHasher.matches(request.getOldPin(), user.getPin())) {
         throw new RuntimeException("Invalid old PIN");
       }
     }
 
-    user.setPin(passwordEncoder.encode(request.getNewPin()));
+    user.setPin(credentialHasher.encode(request.getNewPin()));
     userRepository.save(user);
   }
 }
@@ -5,9 +5,15 @@ import com.lofi.lofiapps.entity.User;
 import com.lofi.lofiapps.exception.ResourceNotFoundException;
 import com.lofi.lofiapps.repository.UserRepository;
 import com.lofi.lofiapps.service.StorageService;
+import com.lofi.lofiapps.service.impl.usecase.storage.ImageVariantProcessor;
+import com.lofi.lofiapps.service.impl.usecase.storage.ImageVariantProcessor.ImageVariant;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -16,9 +22,13 @@ import org.springframework.web.multipart.MultipartFile;
 @RequiredArgsConstructor
 public class UpdateProfilePictureUseCase {
 
+  // EXIF sits in APP1 near the start of a JPEG and is capped at 64KB
+  private static final int EXIF_HEADER_BYTES = 64 * 1024 + 16;
+
   private final UserRepository userRepository;
   private final GetUserProfileUseCase getUserProfileUseCase;
   private final StorageService storageService;
+  private final ImageVariantProcessor imageVariantProcessor;
 
   @Value("${app.storage.bucket-name:lofi-bucket}")
   private String bucketName;
@@ -30,30 +40,42 @@ public class UpdateProfilePictureUseCase {
             .findById(userId)
             .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId.toString()));
 
-    if (photo != null && !photo.isEmpty()) {
-      String originalFilename = photo.getOriginalFilename();
-      String extension = "";
-      if (originalFilename != null && originalFilename.contains(".")) {
-        extension = originalFilename.substring(originalFilename.lastIndexOf("."));
-      } else {
-        // Fallback to content type mapping if original filename has no extension
-        String contentType = photo.getContentType();
-        if ("image/jpeg".equals(contentType)) extension = ".jpg";
-        else if ("image/png".equals(contentType)) extension = ".png";
-        else if ("image/gif".equals(contentType)) extension = ".gif";
-      }
+    if (photo == null || photo.isEmpty()) {
+      throw new IllegalArgumentException("Photo file must not be empty");
+    }
 
-      String fileName = "profile-pictures/" + userId + "-" + System.currentTimeMillis() + extension;
-      try {
-        storageService.uploadFile(bucketName, fileName, photo.getBytes(), photo.getContentType());
-        user.setProfilePictureUrl(fileName);
-      } catch (java.io.IOException e) {
+    String baseKey = ProfilePhotoKeys.PREFIX + userId + "-" + System.currentTimeMillis();
+    try {
+      byte[] header;
+      try (InputStream in = photo.getInputStream()) {
+        header = in.readNBytes(EXIF_HEADER_BYTES);
+      }
+      List<ImageVariant> variants;
+      try (InputStream in = photo.getInputStream()) {
+        variants = imageVariantProcessor.process(in, header, ProfilePhotoKeys.SIZES);
+      }
+      for (ImageVariant variant : variants) {
+        storageService.uploadFile(
+            bucketName,
+            ProfilePhotoKeys.variant(baseKey, variant.size()),
+            variant.content(),
+            MediaType.IMAGE_JPEG_VALUE);
+      }
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to upload profile picture", e);
+    }
 
-        throw new RuntimeException("Failed to upload profile picture", e);
+    String previousKey = user.getProfilePictureUrl();
+    if (previousKey != null && !previousKey.startsWith("http")) {
+      storageService.evictPresignedUrls(bucketName, previousKey);
+      if (ProfilePhotoKeys.hasVariants(previousKey)) {
+        for (int size : ProfilePhotoKeys.SIZES) {
+          storageService.evictPresignedUrls(
+              bucketName, ProfilePhotoKeys.variant(previousKey, size));
+        }
       }
-    } else {
-      throw new IllegalArgumentException("Photo file must not be empty");
     }
+    user.setProfilePictureUrl(baseKey);
 
     user = userRepository.save(user);
 
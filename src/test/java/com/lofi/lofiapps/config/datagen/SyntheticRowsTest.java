@@ -0,0 +1,106 @@
+package com.lofi.lofiapps.config.datagen;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.lofi.lofiapps.config.datagen.SyntheticRows.Table;
+import com.lofi.lofiapps.enums.ApprovalStage;
+import com.lofi.lofiapps.enums.LoanStatus;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SyntheticRowsTest {
+
+  private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+  private final SyntheticRows rows = new SyntheticRows(42, NOW, 730, 60, 8);
+
+  @Test
+  @DisplayName("Rows should be identical for the same seed and index")
+  void rows_ShouldBeDeterministic() {
+    SyntheticRows again = new SyntheticRows(42, NOW, 730, 60, 8);
+
+    for (long i = 0; i < 1_000; i++) {
+      assertEquals(rows.id(Table.LOAN, i), again.id(Table.LOAN, i));
+      assertEquals(rows.customerBranch(i), again.customerBranch(i));
+      assertEquals(
+          rows.loanStatus(rows.random(Table.LOAN, i)),
+          again.loanStatus(again.random(Table.LOAN, i)));
+    }
+    assertNotEquals(
+        rows.id(Table.LOAN, 0), new SyntheticRows(43, NOW, 730, 60, 8).id(Table.LOAN, 0));
+  }
+
+  @Test
+  @DisplayName("IDs should be unique across rows and tables and shaped like UUIDv4")
+  void id_ShouldBeUniqueVersion4() {
+    Set<UUID> ids = new HashSet<>();
+    for (Table table : Table.values()) {
+      for (long i = 0; i < 20_000; i++) {
+        UUID id = rows.id(table, i);
+        assertEquals(4, id.version());
+        assertEquals(2, id.variant());
+        assertTrue(ids.add(id));
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Loan statuses should follow the configured mix")
+  void loanStatus_ShouldFollowDistribution() {
+    Map<LoanStatus, Integer> counts = new EnumMap<>(LoanStatus.class);
+    int samples = 100_000;
+    for (long i = 0; i < samples; i++) {
+      counts.merge(rows.loanStatus(rows.random(Table.LOAN, i)), 1, Integer::sum);
+    }
+
+    assertEquals(0.38, counts.get(LoanStatus.DISBURSED) / (double) samples, 0.01);
+    assertEquals(0.06, counts.get(LoanStatus.DRAFT) / (double) samples, 0.01);
+    assertEquals(LoanStatus.values().length, counts.size());
+  }
+
+  @Test
+  @DisplayName("Branches should be skewed towards the first ranks")
+  void customerBranch_ShouldBeSkewed() {
+    int[] counts = new int[60];
+    for (long i = 0; i < 50_000; i++) {
+      counts[rows.customerBranch(i)]++;
+    }
+
+    assertTrue(counts[0] > counts[10] * 5);
+    assertTrue(counts[59] > 0);
+  }
+
+  @Test
+  @DisplayName("Amounts, tenors and timestamps should stay within bounds")
+  void values_ShouldStayInBounds() {
+    SyntheticDataGenerator.ProductSpec spec = SyntheticDataGenerator.ProductSpec.of(2);
+    SplittableRandom random = new SplittableRandom(7);
+    for (int i = 0; i < 10_000; i++) {
+      BigDecimal amount = SyntheticRows.amount(random, spec.minAmount(), spec.maxAmount());
+      assertTrue(amount.longValue() >= spec.minAmount());
+      assertTrue(amount.longValue() <= spec.maxAmount());
+      int tenor = spec.tenor(random);
+      assertTrue(tenor >= spec.minTenor() && tenor <= spec.maxTenor());
+      LocalDateTime createdAt = rows.createdAt(random);
+      assertFalse(createdAt.isAfter(NOW));
+      assertFalse(createdAt.isBefore(NOW.minusDays(730)));
+    }
+    assertEquals(NOW, rows.later(NOW.minusHours(1), 5));
+  }
+
+  @Test
+  @DisplayName("Stage should match what the workflow leaves a loan in")
+  void stageOf_ShouldMatchStatus() {
+    assertEquals(ApprovalStage.CUSTOMER, SyntheticRows.stageOf(LoanStatus.DRAFT));
+    assertEquals(ApprovalStage.MARKETING, SyntheticRows.stageOf(LoanStatus.SUBMITTED));
+    assertEquals(ApprovalStage.BACKOFFICE, SyntheticRows.stageOf(LoanStatus.DISBURSED));
+  }
+}
@@ -0,0 +1,150 @@
+package com.lofi.lofiapps.config.datasource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MSSQLServerContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Routing against two real SQL Server instances standing in for primary and replica. They are not
+ * replicated; each holds a marker row naming itself, and the replica's heartbeat row is stamped by
+ * hand to play caught-up or lagging. Run with {@code mvn -P containers test}.
+ */
+@Tag("containers")
+@Testcontainers
+class ReadReplicaRoutingContainerTest {
+
+  private static final DockerImageName IMAGE =
+      DockerImageName.parse("mcr.microsoft.com/mssql/server:2022-latest");
+
+  @Container
+  static final MSSQLServerContainer<?> PRIMARY = new MSSQLServerContainer<>(IMAGE).acceptLicense();
+
+  @Container
+  static final MSSQLServerContainer<?> REPLICA = new MSSQLServerContainer<>(IMAGE).acceptLicense();
+
+  private HikariDataSource primaryPool;
+  private HikariDataSource replicaPool;
+  private ReplicaRoutingDataSource routing;
+  private ReplicaLagMonitor monitor;
+  private JdbcTemplate jdbc;
+  private TransactionTemplate readOnly;
+  private TransactionTemplate readWrite;
+
+  @BeforeEach
+  void setUp() {
+    primaryPool = pool("primary", PRIMARY);
+    replicaPool = pool("replica-1", REPLICA);
+    marker(primaryPool, "primary");
+    marker(replicaPool, "replica");
+    new JdbcTemplate(replicaPool).execute(ReplicaLagMonitor.CREATE_TABLE);
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    List<ReplicaPool> replicas = List.of(new ReplicaPool("replica-1", replicaPool));
+    routing =
+        new ReplicaRoutingDataSource(
+            primaryPool, replicas, new ReadYourWritesGuard(5_000, Clock.systemUTC()), registry);
+    monitor = new ReplicaLagMonitor(primaryPool, replicas, 2_000, registry);
+
+    DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+    jdbc = new JdbcTemplate(dataSource);
+    DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+    readOnly = new TransactionTemplate(transactionManager);
+    readOnly.setReadOnly(true);
+    readOnly.setName("com.lofi.lofiapps.service.impl.ReportServiceImpl.getDashboard");
+    readWrite = new TransactionTemplate(transactionManager);
+    readWrite.setName("com.lofi.lofiapps.service.impl.LoanServiceImpl.applyLoan");
+  }
+
+  @AfterEach
+  void tearDown() {
+    routing.destroy();
+    primaryPool.close();
+  }
+
+  private static HikariDataSource pool(String name, MSSQLServerContainer<?> container) {
+    HikariConfig config = new HikariConfig();
+    config.setPoolName(name);
+    config.setJdbcUrl(container.getJdbcUrl());
+    config.setUsername(container.getUsername());
+    config.setPassword(container.getPassword());
+    config.setMaximumPoolSize(4);
+    return new HikariDataSource(config);
+  }
+
+  private static void marker(DataSource dataSource, String name) {
+    JdbcTemplate template = new JdbcTemplate(dataSource);
+    template.execute(
+        "IF OBJECT_ID('routing_marker', 'U') IS NULL CREATE TABLE routing_marker (name VARCHAR(20))");
+    template.update("DELETE FROM routing_marker");
+    template.update("INSERT INTO routing_marker (name) VALUES (?)", name);
+  }
+
+  private void replicaHeartbeatAgeSeconds(int seconds) {
+    new JdbcTemplate(replicaPool)
+        .update(
+            "MERGE replica_heartbeat AS t USING (SELECT 1 AS id) AS s ON t.id = s.id "
+                + "WHEN MATCHED THEN UPDATE SET beat_at = DATEADD(SECOND, ?, SYSUTCDATETIME()) "
+                + "WHEN NOT MATCHED THEN INSERT (id, beat_at) "
+                + "VALUES (1, DATEADD(SECOND, ?, SYSUTCDATETIME()));",
+            -seconds,
+            -seconds);
+  }
+
+  private String servedBy(TransactionTemplate transaction) {
+    return transaction.execute(
+        status -> jdbc.queryForObject("SELECT name FROM routing_marker", String.class));
+  }
+
+  @Test
+  @DisplayName("Read-only transactions should be served by a caught-up replica")
+  void readOnly_ShouldUseReplicaWithinLagBudget() {
+    replicaHeartbeatAgeSeconds(0);
+    monitor.refresh();
+
+    assertEquals("replica", servedBy(readOnly));
+    assertEquals("primary", servedBy(readWrite));
+    assertEquals("primary", jdbc.queryForObject("SELECT name FROM routing_marker", String.class));
+  }
+
+  @Test
+  @DisplayName("Read-only transactions should fall back to primary when the replica lags")
+  void readOnly_ShouldFallBackWhenReplicaLags() {
+    replicaHeartbeatAgeSeconds(30);
+    monitor.refresh();
+
+    assertEquals("primary", servedBy(readOnly));
+
+    replicaHeartbeatAgeSeconds(0);
+    monitor.refresh();
+
+    assertEquals("replica", servedBy(readOnly));
+  }
+
+  @Test
+  @DisplayName("The monitor should stamp the heartbeat on primary")
+  void refresh_ShouldWriteHeartbeatOnPrimary() {
+    monitor.refresh();
+
+    Long age = new JdbcTemplate(primaryPool).queryForObject(ReplicaLagMonitor.LAG, Long.class);
+    assertNotNull(age);
+    assertTrue(age < 2_000);
+  }
+}
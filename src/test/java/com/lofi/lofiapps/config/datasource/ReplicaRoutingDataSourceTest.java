@@ -0,0 +1,202 @@
+package com.lofi.lofiapps.config.datasource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ReplicaRoutingDataSourceTest {
+
+  private static final String SERVICE_TX = "com.lofi.lofiapps.service.impl.ReportServiceImpl.x";
+
+  private final DataSource primary = mock(DataSource.class);
+  private final DataSource replicaOne = mock(DataSource.class);
+  private final DataSource replicaTwo = mock(DataSource.class);
+  private final Connection primaryConnection = mock(Connection.class);
+  private final Connection replicaOneConnection = mock(Connection.class);
+  private final Connection replicaTwoConnection = mock(Connection.class);
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final ReadYourWritesGuard guard =
+      new ReadYourWritesGuard(5_000, Clock.fixed(Instant.EPOCH, ZoneOffset.UTC));
+  private ReplicaPool poolOne;
+  private ReplicaPool poolTwo;
+  private ReplicaRoutingDataSource routing;
+
+  @BeforeEach
+  void setUp() throws SQLException {
+    when(primary.getConnection()).thenReturn(primaryConnection);
+    when(replicaOne.getConnection()).thenReturn(replicaOneConnection);
+    when(replicaTwo.getConnection()).thenReturn(replicaTwoConnection);
+
+    poolOne = new ReplicaPool("replica-1", replicaOne);
+    poolTwo = new ReplicaPool("replica-2", replicaTwo);
+    poolOne.recordLag(100, 2_000);
+    poolTwo.recordLag(100, 2_000);
+    routing = new ReplicaRoutingDataSource(primary, List.of(poolOne, poolTwo), guard, registry);
+
+    SecurityContextHolder.getContext()
+        .setAuthentication(
+            new UsernamePasswordAuthenticationToken("customer@lofi.test", null, List.of()));
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+    TransactionSynchronizationManager.clear();
+    List.copyOf(TransactionSynchronizationManager.getResourceMap().keySet())
+        .forEach(TransactionSynchronizationManager::unbindResourceIfPossible);
+    SecurityContextHolder.clearContext();
+  }
+
+  private static void beginTransaction(String name, boolean readOnly) {
+    TransactionSynchronizationManager.initSynchronization();
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    TransactionSynchronizationManager.setCurrentTransactionName(name);
+  }
+
+  private static void commit() {
+    List<TransactionSynchronization> synchronizations =
+        TransactionSynchronizationManager.getSynchronizations();
+    synchronizations.forEach(TransactionSynchronization::afterCommit);
+    synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    TransactionSynchronizationManager.clearSynchronization();
+    TransactionSynchronizationManager.clear();
+  }
+
+  private double routed(String pool, String reason) {
+    return registry.counter("lofi.datasource.route", "pool", pool, "reason", reason).count();
+  }
+
+  @Test
+  @DisplayName("Service read-only transactions should alternate between healthy replicas")
+  void getConnection_ShouldRoundRobinReadOnlyToReplicas() throws SQLException {
+    // Arrange
+    beginTransaction(SERVICE_TX, true);
+
+    // Act
+    Connection first = routing.getConnection();
+    Connection second = routing.getConnection();
+
+    // Assert
+    assertEquals(List.of(replicaOneConnection, replicaTwoConnection), List.of(first, second));
+    assertEquals(1, routed("replica-1", "read_only"));
+    verifyNoInteractions(primary);
+  }
+
+  @Test
+  @DisplayName("Read-write and non-transactional work should stay on primary")
+  void getConnection_ShouldUsePrimaryForWrites() throws SQLException {
+    // Act
+    Connection outsideTx = routing.getConnection();
+    beginTransaction(SERVICE_TX, false);
+    Connection insideTx = routing.getConnection();
+
+    // Assert
+    assertSame(primaryConnection, outsideTx);
+    assertSame(primaryConnection, insideTx);
+    assertEquals(1, routed("primary", "no_transaction"));
+    assertEquals(1, routed("primary", "read_write"));
+    verifyNoInteractions(replicaOne, replicaTwo);
+  }
+
+  @Test
+  @DisplayName("Spring Data's implicit read-only transactions should stay on primary")
+  void getConnection_ShouldKeepRepositoryDefaultsOnPrimary() throws SQLException {
+    beginTransaction(
+        "org.springframework.data.jpa.repository.support.SimpleJpaRepository.findById", true);
+
+    assertSame(primaryConnection, routing.getConnection());
+    assertEquals(1, routed("primary", "repository_default"));
+  }
+
+  @Test
+  @DisplayName("Reads right after the user's own committed write should go to primary")
+  void getConnection_ShouldPinUserToPrimaryAfterWrite() throws SQLException {
+    // Arrange: a committed write by the current user
+    beginTransaction("com.lofi.lofiapps.service.impl.LoanServiceImpl.applyLoan", false);
+    routing.getConnection();
+    commit();
+
+    // Act
+    beginTransaction(SERVICE_TX, true);
+    Connection ownRead = routing.getConnection();
+    commit();
+    SecurityContextHolder.getContext()
+        .setAuthentication(
+            new UsernamePasswordAuthenticationToken("marketing@lofi.test", null, List.of()));
+    beginTransaction(SERVICE_TX, true);
+    Connection otherRead = routing.getConnection();
+
+    // Assert
+    assertSame(primaryConnection, ownRead);
+    assertEquals(1, routed("primary", "read_your_writes"));
+    assertNotSame(primaryConnection, otherRead);
+  }
+
+  @Test
+  @DisplayName("A rolled back write should not pin the user")
+  void getConnection_ShouldNotPinAfterRollback() throws SQLException {
+    beginTransaction("com.lofi.lofiapps.service.impl.LoanServiceImpl.applyLoan", false);
+    routing.getConnection();
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+    TransactionSynchronizationManager.clearSynchronization();
+    TransactionSynchronizationManager.clear();
+
+    beginTransaction(SERVICE_TX, true);
+
+    assertNotSame(primaryConnection, routing.getConnection());
+  }
+
+  @Test
+  @DisplayName("Lagging replicas should be skipped and reads fall back to primary")
+  void getConnection_ShouldFallBackWhenReplicasLag() throws SQLException {
+    // Arrange
+    poolOne.recordLag(5_000, 2_000);
+    beginTransaction(SERVICE_TX, true);
+
+    // Act / Assert: only the healthy replica is used
+    assertSame(replicaTwoConnection, routing.getConnection());
+    assertSame(replicaTwoConnection, routing.getConnection());
+
+    poolTwo.markUnavailable();
+    assertSame(primaryConnection, routing.getConnection());
+    assertEquals(1, routed("primary", "replica_unavailable"));
+  }
+
+  @Test
+  @DisplayName("A replica refusing connections should be taken out of rotation")
+  void getConnection_ShouldFallBackWhenReplicaFails() throws SQLException {
+    // Arrange
+    when(replicaOne.getConnection()).thenThrow(new SQLException("connection refused"));
+    beginTransaction(SERVICE_TX, true);
+
+    // Act
+    Connection connection = routing.getConnection();
+
+    // Assert
+    assertSame(primaryConnection, connection);
+    assertFalse(poolOne.available());
+    assertEquals(1, routed("primary", "replica_failed"));
+    assertSame(replicaTwoConnection, routing.getConnection());
+  }
+}
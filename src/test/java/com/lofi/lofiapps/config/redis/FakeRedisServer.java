@@ -0,0 +1,150 @@
+package com.lofi.lofiapps.config.redis;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Just enough of the Redis protocol (RESP2; GET, SET, INCR, EXPIRE, EXISTS, DEL, PING) for the
+ * chaos tests to run without a Redis server. Expiry is accepted and ignored.
+ */
+final class FakeRedisServer implements AutoCloseable {
+
+  private final ServerSocket server;
+  private final Map<String, byte[]> data = new ConcurrentHashMap<>();
+
+  FakeRedisServer() throws IOException {
+    server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+    Thread acceptor = new Thread(this::accept, "fake-redis");
+    acceptor.setDaemon(true);
+    acceptor.start();
+  }
+
+  int port() {
+    return server.getLocalPort();
+  }
+
+  private void accept() {
+    while (!server.isClosed()) {
+      try {
+        Socket socket = server.accept();
+        Thread connection = new Thread(() -> serve(socket), "fake-redis-connection");
+        connection.setDaemon(true);
+        connection.start();
+      } catch (IOException e) {
+        // Closed
+      }
+    }
+  }
+
+  private void serve(Socket socket) {
+    try (socket;
+        InputStream in = new BufferedInputStream(socket.getInputStream());
+        OutputStream out = new BufferedOutputStream(socket.getOutputStream())) {
+      List<byte[]> command;
+      while ((command = readCommand(in)) != null) {
+        reply(command, out);
+        out.flush();
+      }
+    } catch (IOException e) {
+      // Client went away
+    }
+  }
+
+  private void reply(List<byte[]> command, OutputStream out) throws IOException {
+    String name = new String(command.get(0), StandardCharsets.US_ASCII).toUpperCase(Locale.ROOT);
+    switch (name) {
+      case "PING" -> write(out, "+PONG\r\n");
+      case "GET" -> bulk(out, data.get(key(command, 1)));
+      case "SET" -> {
+        data.put(key(command, 1), command.get(2));
+        write(out, "+OK\r\n");
+      }
+      case "INCR" -> {
+        long next =
+            Long.parseLong(
+                    new String(
+                        data.getOrDefault(key(command, 1), "0".getBytes(StandardCharsets.US_ASCII)),
+                        StandardCharsets.US_ASCII))
+                + 1;
+        data.put(key(command, 1), Long.toString(next).getBytes(StandardCharsets.US_ASCII));
+        write(out, ":" + next + "\r\n");
+      }
+      case "EXPIRE", "PEXPIRE" -> write(
+          out, data.containsKey(key(command, 1)) ? ":1\r\n" : ":0\r\n");
+      case "EXISTS", "DEL" -> {
+        int count = 0;
+        for (int i = 1; i < command.size(); i++) {
+          String key = key(command, i);
+          if (name.equals("DEL") ? data.remove(key) != null : data.containsKey(key)) {
+            count++;
+          }
+        }
+        write(out, ":" + count + "\r\n");
+      }
+      default -> write(out, "-ERR unknown command '" + name + "'\r\n");
+    }
+  }
+
+  private static String key(List<byte[]> command, int index) {
+    return new String(command.get(index), StandardCharsets.ISO_8859_1);
+  }
+
+  private static List<byte[]> readCommand(InputStream in) throws IOException {
+    String header = readLine(in);
+    if (header == null) {
+      return null;
+    }
+    int count = Integer.parseInt(header.substring(1));
+    List<byte[]> parts = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      int length = Integer.parseInt(readLine(in).substring(1));
+      parts.add(in.readNBytes(length));
+      in.readNBytes(2);
+    }
+    return parts;
+  }
+
+  private static String readLine(InputStream in) throws IOException {
+    StringBuilder line = new StringBuilder();
+    int b;
+    while ((b = in.read()) != -1) {
+      if (b == '\r') {
+        in.read();
+        return line.toString();
+      }
+      line.append((char) b);
+    }
+    return null;
+  }
+
+  private static void bulk(OutputStream out, byte[] value) throws IOException {
+    if (value == null) {
+      write(out, "$-1\r\n");
+      return;
+    }
+    write(out, "$" + value.length + "\r\n");
+    out.write(value);
+    write(out, "\r\n");
+  }
+
+  private static void write(OutputStream out, String text) throws IOException {
+    out.write(text.getBytes(StandardCharsets.US_ASCII));
+  }
+
+  @Override
+  public void close() throws IOException {
+    server.close();
+  }
+}
@@ -0,0 +1,89 @@
+package com.lofi.lofiapps.config.redis;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * TCP proxy for chaos tests. Forwards to {@code upstream} and holds every reply chunk back by the
+ * current latency, which can be changed while connections are open.
+ */
+public final class LatencyProxy implements AutoCloseable {
+
+  private final ServerSocket server;
+  private final String upstreamHost;
+  private final int upstreamPort;
+  private final List<Socket> sockets = new CopyOnWriteArrayList<>();
+  private volatile long latencyMs;
+
+  public LatencyProxy(String upstreamHost, int upstreamPort) throws IOException {
+    this.upstreamHost = upstreamHost;
+    this.upstreamPort = upstreamPort;
+    this.server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+    Thread acceptor = new Thread(this::accept, "latency-proxy");
+    acceptor.setDaemon(true);
+    acceptor.start();
+  }
+
+  public int port() {
+    return server.getLocalPort();
+  }
+
+  public void setLatencyMs(long latencyMs) {
+    this.latencyMs = latencyMs;
+  }
+
+  private void accept() {
+    while (!server.isClosed()) {
+      try {
+        Socket client = server.accept();
+        Socket upstream = new Socket(upstreamHost, upstreamPort);
+        client.setTcpNoDelay(true);
+        upstream.setTcpNoDelay(true);
+        sockets.add(client);
+        sockets.add(upstream);
+        pump(client.getInputStream(), upstream.getOutputStream(), false);
+        pump(upstream.getInputStream(), client.getOutputStream(), true);
+      } catch (IOException e) {
+        // Closed
+      }
+    }
+  }
+
+  private void pump(InputStream in, OutputStream out, boolean delayed) {
+    Thread thread =
+        new Thread(
+            () -> {
+              byte[] buffer = new byte[8192];
+              try {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                  long delay = latencyMs;
+                  if (delayed && delay > 0) {
+                    Thread.sleep(delay);
+                  }
+                  out.write(buffer, 0, read);
+                  out.flush();
+                }
+              } catch (IOException | InterruptedException e) {
+                // Connection gone
+              }
+            },
+            "latency-proxy-pump");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  @Override
+  public void close() throws IOException {
+    server.close();
+    for (Socket socket : sockets) {
+      socket.close();
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package com.lofi.lofiapps.config.redis;
+
+import com.redis.testcontainers.RedisContainer;
+import org.junit.jupiter.api.Tag;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/** The chaos scenarios against a real Redis. Run with {@code mvn -P containers test}. */
+@Tag("containers")
+@Testcontainers
+class RedisChaosContainerTest extends RedisChaosScenarios {
+
+  @Container
+  static final RedisContainer REDIS =
+      new RedisContainer(RedisContainer.DEFAULT_IMAGE_NAME.withTag(RedisContainer.DEFAULT_TAG));
+
+  @Override
+  protected String redisHost() {
+    return REDIS.getHost();
+  }
+
+  @Override
+  protected int redisPort() {
+    return REDIS.getFirstMappedPort();
+  }
+}
@@ -0,0 +1,148 @@
+package com.lofi.lofiapps.config.redis;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.lofi.lofiapps.config.RedisConfig;
+import com.lofi.lofiapps.security.service.TokenBlacklistService;
+import com.lofi.lofiapps.service.impl.RateLimitServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Redis consumers wired as in production (Lettuce command timeouts, {@link RedisGuard}, fallbacks)
+ * against a Redis behind a {@link LatencyProxy}. Subclasses decide which Redis.
+ */
+abstract class RedisChaosScenarios {
+
+  private static final long READ_TIMEOUT_MS = 100;
+  private static final long WRITE_TIMEOUT_MS = 250;
+  private static final long OPEN_STATE_MS = 500;
+
+  private LatencyProxy proxy;
+  private LettuceConnectionFactory connectionFactory;
+  private StringRedisTemplate strings;
+  private RedisGuard guard;
+  private TokenBlacklistService blacklist;
+  private RateLimitServiceImpl rateLimits;
+  private Cache cache;
+
+  protected abstract String redisHost();
+
+  protected abstract int redisPort();
+
+  @BeforeEach
+  void setUp() throws IOException {
+    proxy = new LatencyProxy(redisHost(), redisPort());
+
+    RedisProperties properties = new RedisProperties();
+    properties.setConnectTimeout(Duration.ofSeconds(1));
+    LettuceClientConfiguration.LettuceClientConfigurationBuilder client =
+        LettuceClientConfiguration.builder().commandTimeout(Duration.ofMillis(500));
+    new RedisResilienceConfig()
+        .redisCommandTimeouts(properties, READ_TIMEOUT_MS, WRITE_TIMEOUT_MS)
+        .customize(client);
+    connectionFactory =
+        new LettuceConnectionFactory(
+            new RedisStandaloneConfiguration("127.0.0.1", proxy.port()), client.build());
+    connectionFactory.afterPropertiesSet();
+    connectionFactory.start();
+
+    guard = new RedisGuard(new SimpleMeterRegistry(), 50, 100, 4, 4, OPEN_STATE_MS, 32);
+    strings = new StringRedisTemplate(connectionFactory);
+    RedisTemplate<String, Object> objects = new RedisConfig().redisTemplate(connectionFactory);
+    objects.afterPropertiesSet();
+    blacklist = new TokenBlacklistService(strings, guard);
+    rateLimits = new RateLimitServiceImpl(objects, guard);
+    RedisCacheManager cacheManager = RedisCacheManager.builder(connectionFactory).build();
+    cacheManager.initializeCaches();
+    cache = new ResilientCacheManager(cacheManager, guard).getCache("availableProduct");
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    connectionFactory.destroy();
+    proxy.close();
+  }
+
+  @Test
+  @DisplayName("A latency spike should degrade to local fallbacks, then recover")
+  void latencySpike_ShouldDegradeThenRecover() throws InterruptedException {
+    // Healthy
+    blacklist.blacklistToken("revoked-token", 60_000);
+    assertTrue(blacklist.isBlacklisted("revoked-token"));
+    assertFalse(blacklist.isBlacklisted("fresh-token"));
+    cache.put("k", "v");
+    assertEquals("v", cache.get("k", String.class));
+    assertFalse(guard.isDegraded());
+
+    // Every reply now takes longer than the read budget
+    proxy.setLatencyMs(400);
+    for (int i = 0; i < 4; i++) {
+      long started = System.nanoTime();
+      assertFalse(blacklist.isBlacklisted("fresh-token-" + i));
+      assertTrue(elapsedMs(started) < 350, "call should be cut off by the command timeout");
+    }
+    assertTrue(guard.isDegraded());
+
+    // Open breaker: Redis is not consulted, the local snapshot still holds
+    long started = System.nanoTime();
+    for (int i = 0; i < 100; i++) {
+      assertTrue(blacklist.isBlacklisted("revoked-token"));
+      assertFalse(blacklist.isBlacklisted("fresh-token"));
+      assertNull(cache.get("k", String.class));
+    }
+    assertTrue(elapsedMs(started) < 200, "degraded calls should not touch Redis");
+    assertTrue(rateLimits.tryConsume("chaos", 2, 1));
+    assertTrue(rateLimits.tryConsume("chaos", 2, 1));
+    assertFalse(rateLimits.tryConsume("chaos", 2, 1));
+
+    // Latency gone: after the open state, probe calls close the breaker again
+    proxy.setLatencyMs(0);
+    Thread.sleep(OPEN_STATE_MS + 500);
+    for (int i = 0; i < 5; i++) {
+      assertFalse(blacklist.isBlacklisted("fresh-token"));
+    }
+    assertFalse(guard.isDegraded());
+    strings.opsForValue().set("BLACKLIST_JWT:revoked-elsewhere", "true");
+    assertTrue(blacklist.isBlacklisted("revoked-elsewhere"));
+  }
+
+  @Test
+  @DisplayName("A Redis that stops answering should cost at most the command timeout")
+  void hungRedis_ShouldBeBoundedByCommandTimeouts() {
+    // Arrange
+    assertFalse(blacklist.isBlacklisted("fresh-token"));
+    proxy.setLatencyMs(10_000);
+
+    // Act
+    long readStarted = System.nanoTime();
+    boolean blacklisted = blacklist.isBlacklisted("fresh-token");
+    long readMs = elapsedMs(readStarted);
+    long writeStarted = System.nanoTime();
+    boolean allowed = rateLimits.tryConsume("hung", 5, 1);
+    long writeMs = elapsedMs(writeStarted);
+
+    // Assert
+    assertFalse(blacklisted);
+    assertTrue(allowed);
+    assertTrue(readMs < READ_TIMEOUT_MS + 200, "read took " + readMs + " ms");
+    assertTrue(writeMs < WRITE_TIMEOUT_MS + 200, "write took " + writeMs + " ms");
+  }
+
+  private static long elapsedMs(long startedNanos) {
+    return (System.nanoTime() - startedNanos) / 1_000_000;
+  }
+}
@@ -0,0 +1,34 @@
+package com.lofi.lofiapps.config.redis;
+
+import java.io.IOException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+
+/**
+ * Chaos scenarios against an in-process RESP stub, so they run without Docker. {@code
+ * RedisChaosContainerTest} runs the same scenarios against a real Redis.
+ */
+class RedisChaosTest extends RedisChaosScenarios {
+
+  private static FakeRedisServer redis;
+
+  @BeforeAll
+  static void startRedis() throws IOException {
+    redis = new FakeRedisServer();
+  }
+
+  @AfterAll
+  static void stopRedis() throws IOException {
+    redis.close();
+  }
+
+  @Override
+  protected String redisHost() {
+    return "127.0.0.1";
+  }
+
+  @Override
+  protected int redisPort() {
+    return redis.port();
+  }
+}
@@ -0,0 +1,189 @@
+package com.lofi.lofiapps.config.redis;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+class RedisGuardTest {
+
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  private RedisGuard guard(long slowCallMs, long openStateMs, int maxConcurrentCalls) {
+    return new RedisGuard(meterRegistry, 50, slowCallMs, 4, 4, openStateMs, maxConcurrentCalls);
+  }
+
+  private double fallbacks(String reason) {
+    return meterRegistry.get("lofi.redis.fallback").tag("reason", reason).counter().count();
+  }
+
+  @Test
+  @DisplayName("A healthy call should return the Redis result")
+  void call_Healthy_ShouldReturnResult() {
+    // Act
+    String result = guard(100, 60_000, 4).call("cache", () -> "redis", () -> "fallback");
+
+    // Assert
+    assertEquals("redis", result);
+    assertTrue(meterRegistry.find("lofi.redis.fallback").counters().isEmpty());
+  }
+
+  @Test
+  @DisplayName("A Redis failure should run the fallback")
+  void call_RedisFailure_ShouldFallBack() {
+    // Act
+    String result =
+        guard(100, 60_000, 4)
+            .call(
+                "cache",
+                () -> {
+                  throw new RedisConnectionFailureException("refused");
+                },
+                () -> "fallback");
+
+    // Assert
+    assertEquals("fallback", result);
+    assertEquals(1.0, fallbacks("error"));
+  }
+
+  @Test
+  @DisplayName("Repeated failures should open the breaker and stop calling Redis")
+  void call_RepeatedFailures_ShouldShortCircuit() {
+    // Arrange
+    RedisGuard guard = guard(100, 60_000, 4);
+    AtomicInteger attempts = new AtomicInteger();
+    for (int i = 0; i < 4; i++) {
+      guard.call(
+          "revocation",
+          () -> {
+            attempts.incrementAndGet();
+            throw new QueryTimeoutException("timed out");
+          },
+          () -> false);
+    }
+
+    // Act
+    boolean result =
+        guard.call(
+            "revocation",
+            () -> {
+              attempts.incrementAndGet();
+              return true;
+            },
+            () -> false);
+
+    // Assert
+    assertFalse(result);
+    assertEquals(4, attempts.get());
+    assertTrue(guard.isDegraded());
+    assertEquals(1.0, fallbacks("open"));
+  }
+
+  @Test
+  @DisplayName("Slow calls should open the breaker even when they succeed")
+  void call_SlowCalls_ShouldOpenBreaker() {
+    // Arrange
+    RedisGuard guard = guard(5, 60_000, 4);
+
+    // Act
+    for (int i = 0; i < 4; i++) {
+      guard.call("ratelimit", () -> sleep(20), () -> false);
+    }
+
+    // Assert
+    assertEquals(CircuitBreaker.State.OPEN, guard.circuitBreaker().getState());
+  }
+
+  @Test
+  @DisplayName("The breaker should close again once probe calls succeed")
+  void call_AfterOpenState_ShouldRecover() throws InterruptedException {
+    // Arrange
+    RedisGuard guard = guard(100, 20, 4);
+    guard.circuitBreaker().transitionToOpenState();
+    Thread.sleep(40);
+
+    // Act
+    for (int i = 0; i < 5; i++) {
+      assertEquals("redis", guard.call("cache", () -> "redis", () -> "fallback"));
+    }
+
+    // Assert
+    assertFalse(guard.isDegraded());
+  }
+
+  @Test
+  @DisplayName("A consumer at its concurrency cap should fall back instead of queueing")
+  void call_BulkheadFull_ShouldFallBack() throws Exception {
+    // Arrange
+    RedisGuard guard = guard(60_000, 60_000, 1);
+    CountDownLatch entered = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CompletableFuture<String> parked =
+        CompletableFuture.supplyAsync(
+            () ->
+                guard.call(
+                    "cache",
+                    () -> {
+                      entered.countDown();
+                      await(release);
+                      return "redis";
+                    },
+                    () -> "fallback"));
+    assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+    // Act
+    String rejected = guard.call("cache", () -> "redis", () -> "fallback");
+    String otherConsumer = guard.call("revocation", () -> "redis", () -> "fallback");
+
+    // Assert
+    assertEquals("fallback", rejected);
+    assertEquals("redis", otherConsumer);
+    assertEquals(1.0, fallbacks("bulkhead"));
+    release.countDown();
+    assertEquals("redis", parked.get(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  @DisplayName("Errors that are not Redis failures should propagate")
+  void call_NonRedisException_ShouldPropagate() {
+    // Arrange
+    RedisGuard guard = guard(100, 60_000, 4);
+
+    // Act & Assert
+    assertThrows(
+        NumberFormatException.class,
+        () -> guard.call("revocation", () -> Long.parseLong("not-a-number"), () -> 0L));
+    assertFalse(guard.isDegraded());
+  }
+
+  private static boolean sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return true;
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,14 @@
+package com.lofi.lofiapps.config.redis;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/** {@link RedisGuard} instances for tests of its consumers. */
+public final class RedisGuards {
+
+  private RedisGuards() {}
+
+  /** Production-like thresholds; a failing call falls back without opening the breaker at once. */
+  public static RedisGuard standard() {
+    return new RedisGuard(new SimpleMeterRegistry(), 50, 100, 10, 4, 60_000, 32);
+  }
+}
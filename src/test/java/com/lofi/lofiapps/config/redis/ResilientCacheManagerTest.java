@@ -0,0 +1,104 @@
+package com.lofi.lofiapps.config.redis;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+@ExtendWith(MockitoExtension.class)
+class ResilientCacheManagerTest {
+
+  @Mock private CacheManager delegate;
+  @Mock private Cache redisCache;
+
+  private RedisGuard redisGuard;
+  private Cache cache;
+
+  @BeforeEach
+  void setUp() {
+    when(delegate.getCache("availableProduct")).thenReturn(redisCache);
+    redisGuard = RedisGuards.standard();
+    cache = new ResilientCacheManager(delegate, redisGuard).getCache("availableProduct");
+  }
+
+  @Test
+  @DisplayName("Reads and writes should reach Redis while it is healthy")
+  void healthy_ShouldDelegate() {
+    // Arrange
+    when(redisCache.get("k", String.class)).thenReturn("cached");
+
+    // Act
+    cache.put("k", "v");
+
+    // Assert
+    assertEquals("cached", cache.get("k", String.class));
+    verify(redisCache).put("k", "v");
+  }
+
+  @Test
+  @DisplayName("A failing Redis should turn reads into misses and skip writes")
+  void redisDown_ShouldBypassCache() {
+    // Arrange
+    RedisConnectionFailureException down = new RedisConnectionFailureException("refused");
+    when(redisCache.get("k")).thenThrow(down);
+    when(redisCache.get("k", String.class)).thenThrow(down);
+    doThrow(down).when(redisCache).put(any(), any());
+    doThrow(down).when(redisCache).evict(any());
+
+    // Act & Assert
+    assertNull(cache.get("k"));
+    assertNull(cache.get("k", String.class));
+    assertDoesNotThrow(() -> cache.put("k", "v"));
+    assertDoesNotThrow(() -> cache.evict("k"));
+  }
+
+  @Test
+  @DisplayName("Loading through a degraded cache should call the loader once")
+  void getWithLoader_RedisDown_ShouldLoadDirectly() {
+    // Arrange
+    when(redisCache.get("k")).thenThrow(new RedisConnectionFailureException("refused"));
+    doThrow(new RedisConnectionFailureException("refused")).when(redisCache).put(any(), any());
+    AtomicInteger loads = new AtomicInteger();
+
+    // Act
+    String value = cache.get("k", () -> "loaded-" + loads.incrementAndGet());
+
+    // Assert
+    assertEquals("loaded-1", value);
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  @DisplayName("A database error inside the loader should not be taken for a Redis failure")
+  void getWithLoader_LoaderFails_ShouldNotFallBack() {
+    // Act & Assert
+    Cache.ValueRetrievalException thrown =
+        assertThrows(
+            Cache.ValueRetrievalException.class,
+            () ->
+                cache.get(
+                    "k",
+                    () -> {
+                      throw new DataAccessResourceFailureException("database down");
+                    }));
+    assertInstanceOf(DataAccessResourceFailureException.class, thrown.getCause());
+    assertFalse(redisGuard.isDegraded());
+  }
+
+  @Test
+  @DisplayName("Unknown caches should stay unknown")
+  void getCache_Unknown_ShouldReturnNull() {
+    assertNull(new ResilientCacheManager(delegate, redisGuard).getCache("missing"));
+  }
+}
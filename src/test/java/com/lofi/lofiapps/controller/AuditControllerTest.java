@@ -1,6 +1,8 @@
 package com.lofi.lofiapps.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -8,6 +10,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.lofi.lofiapps.dto.response.AuditLogResponse;
 import com.lofi.lofiapps.dto.response.PagedResponse;
 import com.lofi.lofiapps.service.impl.AuditServiceImpl;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -48,13 +51,47 @@ class AuditControllerTest {
     pagedResponse.setItems(List.of(AuditLogResponse.builder().build()));
     pagedResponse.setMeta(new PagedResponse.Meta(1, 10, 1, 1));
 
-    when(auditService.getAuditLogs(any(Pageable.class))).thenReturn(pagedResponse);
+    when(auditService.getAuditLogs(isNull(), isNull(), any(Pageable.class)))
+        .thenReturn(pagedResponse);
 
     mockMvc
         .perform(get("/admin/audit-logs").param("page", "0").param("size", "10"))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.success").value(true));
 
-    verify(auditService, times(1)).getAuditLogs(any(Pageable.class));
+    verify(auditService, times(1)).getAuditLogs(isNull(), isNull(), any(Pageable.class));
+  }
+
+  @Test
+  @DisplayName("Get audit logs should pass the created-at range through")
+  void getAuditLogs_WithRange_ShouldPassRange() throws Exception {
+    when(auditService.getAuditLogs(any(), any(), any(Pageable.class)))
+        .thenReturn(PagedResponse.empty());
+
+    mockMvc
+        .perform(
+            get("/admin/audit-logs")
+                .param("from", "2025-01-01T00:00:00")
+                .param("to", "2025-02-01T00:00:00"))
+        .andExpect(status().isOk());
+
+    verify(auditService)
+        .getAuditLogs(
+            eq(LocalDateTime.of(2025, 1, 1, 0, 0)),
+            eq(LocalDateTime.of(2025, 2, 1, 0, 0)),
+            any(Pageable.class));
+  }
+
+  @Test
+  @DisplayName("Partitioning should report whether the table was converted")
+  void partitionAuditLogs_ShouldReturnOutcome() throws Exception {
+    when(auditService.partitionAuditLogs()).thenReturn(true);
+
+    mockMvc
+        .perform(post("/admin/audit-logs/partitioning"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data").value(true));
+
+    verify(auditService).partitionAuditLogs();
   }
 }
@@ -7,6 +7,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lofi.lofiapps.dto.request.BatchPresignUploadRequest;
+import com.lofi.lofiapps.dto.request.CompleteUploadRequest;
 import com.lofi.lofiapps.dto.request.PresignUploadRequest;
 import com.lofi.lofiapps.dto.response.DownloadDocumentResponse;
 import com.lofi.lofiapps.dto.response.PresignUploadResponse;
@@ -96,6 +98,57 @@ class DocumentControllerTest {
     verify(documentService, times(1)).presignUpload(any(PresignUploadRequest.class), eq(userId));
   }
 
+  @Test
+  @DisplayName("Batch presign upload should return one URL per document")
+  void presignUploadBatch_ShouldReturnUrls() throws Exception {
+    BatchPresignUploadRequest request =
+        BatchPresignUploadRequest.builder()
+            .loanId(UUID.randomUUID())
+            .documents(
+                List.of(
+                    PresignUploadRequest.builder()
+                        .fileName("ktp.pdf")
+                        .documentType(DocumentType.KTP)
+                        .contentType("application/pdf")
+                        .build()))
+            .build();
+
+    when(jwtUtils.getUserIdFromJwtToken("valid-token")).thenReturn(userId.toString());
+    when(documentService.presignUploadBatch(any(BatchPresignUploadRequest.class), eq(userId)))
+        .thenReturn(
+            List.of(PresignUploadResponse.builder().uploadUrl("https://s3.example.com/1").build()));
+
+    mockMvc
+        .perform(
+            post("/documents/presign-upload/batch")
+                .header("Authorization", "Bearer valid-token")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data[0].uploadUrl").value("https://s3.example.com/1"));
+  }
+
+  @Test
+  @DisplayName("Complete upload should queue verification and return accepted")
+  void completeUpload_ShouldReturnAccepted() throws Exception {
+    UUID documentId = UUID.randomUUID();
+    CompleteUploadRequest request =
+        CompleteUploadRequest.builder().documentIds(List.of(documentId)).build();
+
+    when(jwtUtils.getUserIdFromJwtToken("valid-token")).thenReturn(userId.toString());
+
+    mockMvc
+        .perform(
+            post("/documents/complete-upload")
+                .header("Authorization", "Bearer valid-token")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isAccepted())
+        .andExpect(jsonPath("$.success").value(true));
+
+    verify(documentService).completeUpload(List.of(documentId), userId);
+  }
+
   @Test
   @DisplayName("Presign download should return download URL")
   void presignDownload_ShouldReturnDownloadUrl() throws Exception {
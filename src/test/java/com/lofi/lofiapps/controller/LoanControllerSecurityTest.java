@@ -0,0 +1,171 @@
+package com.lofi.lofiapps.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.lofi.lofiapps.dto.request.BatchLoanActionRequest;
+import com.lofi.lofiapps.dto.request.DisbursementRequest;
+import com.lofi.lofiapps.dto.request.RecordPaymentRequest;
+import com.lofi.lofiapps.enums.UserStatus;
+import com.lofi.lofiapps.security.service.UserPrincipal;
+import com.lofi.lofiapps.service.LoanService;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/** Evaluates the {@code @PreAuthorize} rules of {@link LoanController} against seeded roles. */
+@ExtendWith(MockitoExtension.class)
+class LoanControllerSecurityTest {
+
+  @Mock private LoanService loanService;
+
+  private LoanController loanController;
+
+  @BeforeEach
+  void setUp() {
+    ProxyFactory factory = new ProxyFactory(new LoanController(loanService));
+    factory.setProxyTargetClass(true);
+    factory.addAdvice(AuthorizationManagerBeforeMethodInterceptor.preAuthorize());
+    loanController = (LoanController) factory.getProxy();
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  private static UserPrincipal authenticateAs(String role) {
+    UserPrincipal principal =
+        new UserPrincipal(
+            UUID.randomUUID(),
+            "user@example.com",
+            "password",
+            null,
+            null,
+            BigDecimal.ZERO,
+            UserStatus.ACTIVE,
+            List.of(new SimpleGrantedAuthority(role)));
+    SecurityContextHolder.getContext()
+        .setAuthentication(
+            new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    return principal;
+  }
+
+  private static DisbursementRequest disbursement() {
+    DisbursementRequest request = new DisbursementRequest();
+    request.setReferenceNumber("TRF-001");
+    return request;
+  }
+
+  @Test
+  @DisplayName("Back office should be able to disburse and complete a loan")
+  void disburseAndComplete_BackOffice_ShouldBeAllowed() {
+    // Arrange
+    UserPrincipal backOffice = authenticateAs("ROLE_BACK_OFFICE");
+    UUID loanId = UUID.randomUUID();
+
+    // Act
+    loanController.disburseLoan(loanId, disbursement(), backOffice);
+    loanController.completeLoan(loanId, backOffice);
+
+    // Assert
+    verify(loanService).disburseLoan(eq(loanId), any(), eq("TRF-001"));
+    verify(loanService).completeLoan(eq(loanId), any());
+  }
+
+  @Test
+  @DisplayName("Back office should be able to disburse loans in a batch")
+  void batchDisburseLoans_BackOffice_ShouldBeAllowed() {
+    // Arrange
+    UserPrincipal backOffice = authenticateAs("ROLE_BACK_OFFICE");
+    UUID loanId = UUID.randomUUID();
+    BatchLoanActionRequest request =
+        BatchLoanActionRequest.builder()
+            .loanIds(List.of(loanId))
+            .references(Map.of(loanId, "TRF-002"))
+            .build();
+
+    // Act
+    loanController.batchDisburseLoans(request, backOffice);
+
+    // Assert
+    verify(loanService).batchDisburseLoans(eq(List.of(loanId)), eq(request.getReferences()), any());
+  }
+
+  @Test
+  @DisplayName("Back office should be able to read the back-office risk evaluation")
+  void analyzeRiskEvaluation_BackOffice_ShouldBeAllowed() {
+    // Arrange
+    authenticateAs("ROLE_BACK_OFFICE");
+    UUID loanId = UUID.randomUUID();
+
+    // Act
+    loanController.analyzeRiskEvaluation(loanId);
+
+    // Assert
+    verify(loanService).analyzeBackOfficeRiskEvaluation(loanId);
+  }
+
+  @Test
+  @DisplayName("Back office should be able to read a repayment ledger and record a payment")
+  void repayments_BackOffice_ShouldBeAllowed() {
+    // Arrange
+    UserPrincipal backOffice = authenticateAs("ROLE_BACK_OFFICE");
+    UUID loanId = UUID.randomUUID();
+    RecordPaymentRequest payment = new RecordPaymentRequest();
+    payment.setAmount(new BigDecimal("150000.00"));
+    payment.setReferenceNumber("VA-001");
+
+    // Act
+    loanController.getRepaymentLedger(loanId);
+    loanController.recordPayment(loanId, payment, backOffice);
+
+    // Assert
+    verify(loanService).getRepaymentLedger(loanId);
+    verify(loanService).recordPayment(loanId, payment, backOffice.getId());
+  }
+
+  @Test
+  @DisplayName("A customer should not be able to record a payment")
+  void recordPayment_Customer_ShouldBeDenied() {
+    // Arrange
+    UserPrincipal customer = authenticateAs("ROLE_CUSTOMER");
+    RecordPaymentRequest payment = new RecordPaymentRequest();
+    payment.setAmount(new BigDecimal("150000.00"));
+    payment.setReferenceNumber("VA-002");
+
+    // Act & Assert
+    assertThrows(
+        AccessDeniedException.class,
+        () -> loanController.recordPayment(UUID.randomUUID(), payment, customer));
+    verifyNoInteractions(loanService);
+  }
+
+  @Test
+  @DisplayName("A customer should not be able to disburse a loan")
+  void disburseLoan_Customer_ShouldBeDenied() {
+    // Arrange
+    UserPrincipal customer = authenticateAs("ROLE_CUSTOMER");
+
+    // Act & Assert
+    assertThrows(
+        AccessDeniedException.class,
+        () -> loanController.disburseLoan(UUID.randomUUID(), disbursement(), customer));
+    verifyNoInteractions(loanService);
+  }
+}
@@ -181,6 +181,48 @@ class LoanControllerTest {
     verify(loanService, times(1)).approveLoan(eq(loanId), anyString(), eq("Approved"));
   }
 
+  @Test
+  @DisplayName("Batch approve should return per-loan results")
+  void batchApproveLoans_ShouldReturnPerLoanResults() throws Exception {
+    List<UUID> loanIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+    BatchLoanActionRequest request =
+        BatchLoanActionRequest.builder().loanIds(loanIds).notes("EOD approvals").build();
+
+    BatchLoanActionResponse response =
+        BatchLoanActionResponse.builder()
+            .action("approve")
+            .total(2)
+            .succeeded(1)
+            .failed(1)
+            .results(
+                List.of(
+                    BatchLoanActionResponse.Item.builder()
+                        .loanId(loanIds.get(0))
+                        .success(true)
+                        .loanStatus(LoanStatus.APPROVED)
+                        .build(),
+                    BatchLoanActionResponse.Item.builder()
+                        .loanId(loanIds.get(1))
+                        .success(false)
+                        .message("Only REVIEWED loans can be approved.")
+                        .build()))
+            .build();
+
+    when(loanService.batchApproveLoans(eq(loanIds), anyString(), eq("EOD approvals")))
+        .thenReturn(response);
+
+    mockMvc
+        .perform(
+            post("/loans/batch/approve")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.succeeded").value(1))
+        .andExpect(jsonPath("$.data.results[1].success").value(false));
+
+    verify(loanService, times(1)).batchApproveLoans(eq(loanIds), anyString(), eq("EOD approvals"));
+  }
+
   @Test
   @DisplayName("Reject loan should return success")
   void rejectLoan_ShouldReturnSuccess() throws Exception {
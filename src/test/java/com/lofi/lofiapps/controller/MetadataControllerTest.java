@@ -1,14 +1,18 @@
 package com.lofi.lofiapps.controller;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lofi.lofiapps.service.ReferenceDataVersions;
+import com.lofi.lofiapps.service.ReferenceResponseCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -18,10 +22,12 @@ class MetadataControllerTest {
 
   private MockMvc mockMvc;
 
-  @InjectMocks private MetadataController metadataController;
-
   @BeforeEach
   void setUp() {
+    MetadataController metadataController =
+        new MetadataController(
+            new ReferenceResponseCache(
+                new ReferenceDataVersions(), new ObjectMapper(), new SimpleMeterRegistry(), 512));
     mockMvc = MockMvcBuilders.standaloneSetup(metadataController).build();
   }
 
@@ -40,4 +46,23 @@ class MetadataControllerTest {
         .andExpect(jsonPath("$.data.maritalStatus").isArray())
         .andExpect(jsonPath("$.data.riskLevel").isArray());
   }
+
+  @Test
+  @DisplayName("Get enums with the current ETag should return 304")
+  void getEnums_WithMatchingETag_ShouldReturnNotModified() throws Exception {
+    // Arrange
+    String etag =
+        mockMvc
+            .perform(get("/metadata/enums"))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader("ETag");
+
+    // Act & Assert
+    mockMvc
+        .perform(get("/metadata/enums").header("If-None-Match", etag))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string("ETag", etag));
+  }
 }
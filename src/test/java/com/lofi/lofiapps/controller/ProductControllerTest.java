@@ -13,6 +13,9 @@ import com.lofi.lofiapps.dto.response.ProductRecommendationResponse;
 import com.lofi.lofiapps.dto.response.ProductResponse;
 import com.lofi.lofiapps.security.service.UserPrincipal;
 import com.lofi.lofiapps.service.ProductService;
+import com.lofi.lofiapps.service.ReferenceDataVersions;
+import com.lofi.lofiapps.service.ReferenceResponseCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
@@ -22,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
@@ -43,6 +47,12 @@ class ProductControllerTest {
 
   @Mock private ProductService productService;
 
+  private final ReferenceDataVersions versions = new ReferenceDataVersions();
+
+  @Spy
+  private ReferenceResponseCache referenceResponseCache =
+      new ReferenceResponseCache(versions, new ObjectMapper(), new SimpleMeterRegistry(), 512);
+
   @InjectMocks private ProductController productController;
 
   private ObjectMapper objectMapper;
@@ -130,6 +140,51 @@ class ProductControllerTest {
     verify(productService, times(1)).getProducts(any(), any(Pageable.class));
   }
 
+  @Test
+  @DisplayName("Get product by ID with the current ETag should return 304 without a lookup")
+  void getProductById_WithMatchingETag_ShouldReturnNotModified() throws Exception {
+    // Arrange
+    UUID id = UUID.randomUUID();
+    when(productService.getProductById(id))
+        .thenReturn(ProductResponse.builder().id(id).productName("Test Product").build());
+    String etag =
+        mockMvc
+            .perform(get("/products/" + id))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.productName").value("Test Product"))
+            .andReturn()
+            .getResponse()
+            .getHeader("ETag");
+
+    // Act & Assert
+    mockMvc
+        .perform(get("/products/" + id).header("If-None-Match", etag))
+        .andExpect(status().isNotModified());
+    verify(productService, times(1)).getProductById(id);
+  }
+
+  @Test
+  @DisplayName("Get product by ID after a product change should reload it")
+  void getProductById_AfterVersionBump_ShouldReload() throws Exception {
+    // Arrange
+    UUID id = UUID.randomUUID();
+    when(productService.getProductById(id))
+        .thenReturn(ProductResponse.builder().id(id).productName("Old Name").build())
+        .thenReturn(ProductResponse.builder().id(id).productName("New Name").build());
+    String etag =
+        mockMvc.perform(get("/products/" + id)).andReturn().getResponse().getHeader("ETag");
+
+    // Act
+    versions.bump(ReferenceDataVersions.Family.PRODUCTS);
+
+    // Assert
+    mockMvc
+        .perform(get("/products/" + id).header("If-None-Match", etag))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.productName").value("New Name"));
+    verify(productService, times(2)).getProductById(id);
+  }
+
   @Test
   @DisplayName("Recommend product should return recommendation")
   void recommendProduct_ShouldReturnRecommendation() throws Exception {
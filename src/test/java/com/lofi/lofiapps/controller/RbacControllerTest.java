@@ -12,6 +12,9 @@ import com.lofi.lofiapps.dto.request.*;
 import com.lofi.lofiapps.dto.response.*;
 import com.lofi.lofiapps.enums.RoleName;
 import com.lofi.lofiapps.service.RbacService;
+import com.lofi.lofiapps.service.ReferenceDataVersions;
+import com.lofi.lofiapps.service.ReferenceResponseCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
@@ -21,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
@@ -36,6 +40,11 @@ class RbacControllerTest {
 
   @Mock private RbacService rbacService;
 
+  @Spy
+  private ReferenceResponseCache referenceResponseCache =
+      new ReferenceResponseCache(
+          new ReferenceDataVersions(), new ObjectMapper(), new SimpleMeterRegistry(), 512);
+
   @InjectMocks private RbacController rbacController;
 
   private ObjectMapper objectMapper;
@@ -1,11 +1,18 @@
 package com.lofi.lofiapps.controller;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import com.lofi.lofiapps.dto.response.CashFlowProjectionResponse;
 import com.lofi.lofiapps.dto.response.LoanKpiResponse;
+import com.lofi.lofiapps.dto.response.ReportJobResponse;
 import com.lofi.lofiapps.dto.response.SlaReportResponse;
+import com.lofi.lofiapps.enums.AmortizationMethod;
+import com.lofi.lofiapps.enums.ReportJobStatus;
+import com.lofi.lofiapps.enums.ReportType;
 import com.lofi.lofiapps.service.ReportService;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +24,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
@@ -32,7 +40,10 @@ class ReportControllerTest {
 
   @BeforeEach
   void setUp() {
-    mockMvc = MockMvcBuilders.standaloneSetup(reportController).build();
+    mockMvc =
+        MockMvcBuilders.standaloneSetup(reportController)
+            .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+            .build();
   }
 
   @Test
@@ -46,19 +57,42 @@ class ReportControllerTest {
   }
 
   @Test
-  @DisplayName("Export KPIs should return file")
-  void exportKpis_ShouldReturnFile() throws Exception {
-    byte[] fileContent = "kpi-data".getBytes();
-    when(reportService.exportLoanKpis()).thenReturn(fileContent);
+  @DisplayName("Cash flow projection should pass the window and method through")
+  void getCashFlowProjection_ShouldReturnProjection() throws Exception {
+    when(reportService.getCashFlowProjection(24, AmortizationMethod.EFFECTIVE))
+        .thenReturn(
+            CashFlowProjectionResponse.builder()
+                .method(AmortizationMethod.EFFECTIVE)
+                .loans(3)
+                .build());
 
     mockMvc
-        .perform(get("/reports/kpis/export"))
+        .perform(get("/reports/cash-flow").param("months", "24").param("method", "EFFECTIVE"))
         .andExpect(status().isOk())
-        .andExpect(
-            header().string("Content-Disposition", "attachment; filename=\"loan-kpis.xlsx\""))
-        .andExpect(content().bytes(fileContent));
+        .andExpect(jsonPath("$.loans").value(3));
+
+    verify(reportService, times(1)).getCashFlowProjection(24, AmortizationMethod.EFFECTIVE);
+  }
+
+  @Test
+  @DisplayName("Export KPIs should start a job and answer 202 while it runs")
+  void exportKpis_ShouldReturnQueuedJob() throws Exception {
+    UUID jobId = UUID.randomUUID();
+    when(reportService.exportLoanKpis(any()))
+        .thenReturn(
+            ReportJobResponse.builder()
+                .id(jobId)
+                .reportType(ReportType.LOAN_KPIS)
+                .status(ReportJobStatus.QUEUED)
+                .build());
+
+    mockMvc
+        .perform(get("/reports/kpis/export"))
+        .andExpect(status().isAccepted())
+        .andExpect(header().string("Location", "/reports/jobs/" + jobId))
+        .andExpect(jsonPath("$.status").value("QUEUED"));
 
-    verify(reportService, times(1)).exportLoanKpis();
+    verify(reportService, times(1)).exportLoanKpis(any());
   }
 
   @Test
@@ -73,22 +107,40 @@ class ReportControllerTest {
   }
 
   @Test
-  @DisplayName("Export SLA report should return file")
-  void exportSlaReport_ShouldReturnFile() throws Exception {
+  @DisplayName("Export SLA report should answer 200 with the link when the workbook is ready")
+  void exportSlaReport_Ready_ShouldReturnDownloadLink() throws Exception {
     UUID loanId = UUID.randomUUID();
-    byte[] fileContent = "sla-data".getBytes();
-    when(reportService.exportSlaReport(loanId)).thenReturn(fileContent);
+    UUID jobId = UUID.randomUUID();
+    when(reportService.exportSlaReport(any(), eq(loanId)))
+        .thenReturn(
+            ReportJobResponse.builder()
+                .id(jobId)
+                .reportType(ReportType.LOAN_SLA)
+                .loanId(loanId)
+                .status(ReportJobStatus.SUCCEEDED)
+                .fileName("sla-report-" + loanId + ".xlsx")
+                .downloadUrl("https://r2.example.com/reports/loan_sla/abc.xlsx?X-Amz-Signature=1")
+                .build());
 
     mockMvc
         .perform(get("/reports/sla/{loanId}/export", loanId))
         .andExpect(status().isOk())
-        .andExpect(
-            header()
-                .string(
-                    "Content-Disposition",
-                    "attachment; filename=\"sla-report-" + loanId + ".xlsx\""))
-        .andExpect(content().bytes(fileContent));
-
-    verify(reportService, times(1)).exportSlaReport(loanId);
+        .andExpect(jsonPath("$.fileName").value("sla-report-" + loanId + ".xlsx"))
+        .andExpect(jsonPath("$.downloadUrl").exists());
+
+    verify(reportService, times(1)).exportSlaReport(any(), eq(loanId));
+  }
+
+  @Test
+  @DisplayName("Get report job should return its current state")
+  void getReportJob_ShouldReturnJob() throws Exception {
+    UUID jobId = UUID.randomUUID();
+    when(reportService.getReportJob(any(), eq(jobId)))
+        .thenReturn(ReportJobResponse.builder().id(jobId).status(ReportJobStatus.RUNNING).build());
+
+    mockMvc
+        .perform(get("/reports/jobs/{jobId}", jobId))
+        .andExpect(status().isAccepted())
+        .andExpect(jsonPath("$.id").value(jobId.toString()));
   }
 }
@@ -0,0 +1,102 @@
+package com.lofi.lofiapps.controller;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.lofi.lofiapps.dto.response.SearchResponse;
+import com.lofi.lofiapps.dto.response.SearchResultResponse;
+import com.lofi.lofiapps.enums.SearchKind;
+import com.lofi.lofiapps.enums.UserStatus;
+import com.lofi.lofiapps.security.service.UserPrincipal;
+import com.lofi.lofiapps.service.SearchService;
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+@ExtendWith(MockitoExtension.class)
+class SearchControllerTest {
+
+  private MockMvc mockMvc;
+
+  @Mock private SearchService searchService;
+
+  @InjectMocks private SearchController searchController;
+
+  private UserPrincipal principal;
+
+  @BeforeEach
+  void setUp() {
+    mockMvc =
+        MockMvcBuilders.standaloneSetup(searchController)
+            .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+            .build();
+    principal =
+        new UserPrincipal(
+            UUID.randomUUID(),
+            "staff@example.com",
+            "password",
+            UUID.randomUUID(),
+            "Jakarta",
+            BigDecimal.ZERO,
+            UserStatus.ACTIVE,
+            Collections.emptyList());
+    SecurityContextHolder.getContext()
+        .setAuthentication(new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  @DisplayName("Search should pass query, type and limit through for the caller")
+  void search_ShouldReturnResults() throws Exception {
+    // Arrange
+    UUID loanId = UUID.randomUUID();
+    when(searchService.search(principal, "siti", SearchKind.LOAN, 5))
+        .thenReturn(
+            SearchResponse.builder()
+                .items(
+                    List.of(
+                        SearchResultResponse.builder()
+                            .kind(SearchKind.LOAN)
+                            .id(loanId)
+                            .title("Siti Rahmawati")
+                            .build()))
+                .complete(true)
+                .build());
+
+    // Act & Assert
+    mockMvc
+        .perform(get("/admin/search").param("q", "siti").param("type", "LOAN").param("limit", "5"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.success").value(true))
+        .andExpect(jsonPath("$.data.items[0].id").value(loanId.toString()))
+        .andExpect(jsonPath("$.data.complete").value(true));
+  }
+
+  @Test
+  @DisplayName("Search without a query should be rejected")
+  void search_MissingQuery_ShouldFail() throws Exception {
+    // Act & Assert
+    mockMvc.perform(get("/admin/search")).andExpect(status().isBadRequest());
+    verifyNoInteractions(searchService);
+  }
+}
@@ -1,6 +1,7 @@
 package com.lofi.lofiapps.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -14,6 +15,7 @@ import com.lofi.lofiapps.enums.UserStatus;
 import com.lofi.lofiapps.security.service.UserPrincipal;
 import com.lofi.lofiapps.service.impl.AdminServiceImpl;
 import com.lofi.lofiapps.service.impl.UserServiceImpl;
+import jakarta.servlet.http.HttpServletResponse;
 import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.Set;
@@ -209,22 +211,31 @@ class UserControllerTest {
   }
 
   @Test
-  @DisplayName("Get my profile photo should return photo bytes")
-  void getMyProfilePhoto_ShouldReturnPhotoBytes() throws Exception {
+  @DisplayName("Get my profile photo should stream the photo for the current user")
+  void getMyProfilePhoto_ShouldStreamPhoto() throws Exception {
     // Arrange
     UUID userId = UUID.randomUUID();
     setupSecurityContext(userId);
 
     byte[] photoBytes = "fake-image-data".getBytes();
-    when(userService.getProfilePhoto(userId)).thenReturn(photoBytes);
+    doAnswer(
+            inv -> {
+              HttpServletResponse response = inv.getArgument(3);
+              response.setContentType("image/png");
+              response.getOutputStream().write(photoBytes);
+              return null;
+            })
+        .when(userService)
+        .streamProfilePhoto(eq(userId), any(), any(), any());
 
     // Act & Assert
     mockMvc
         .perform(get("/users/me/photo"))
         .andExpect(status().isOk())
+        .andExpect(content().contentType("image/png"))
         .andExpect(content().bytes(photoBytes));
 
-    verify(userService, times(1)).getProfilePhoto(userId);
+    verify(userService, times(1)).streamProfilePhoto(eq(userId), any(), any(), any());
 
     // Cleanup
     SecurityContextHolder.clearContext();
@@ -283,12 +294,19 @@ class UserControllerTest {
   }
 
   @Test
-  @DisplayName("Get user profile photo by ID should return photo bytes")
-  void getUserProfilePhoto_ShouldReturnPhotoBytes() throws Exception {
+  @DisplayName("Get user profile photo by ID should stream the photo")
+  void getUserProfilePhoto_ShouldStreamPhoto() throws Exception {
     // Arrange
     UUID userId = UUID.randomUUID();
     byte[] photoBytes = "fake-image-data".getBytes();
-    when(userService.getProfilePhoto(userId)).thenReturn(photoBytes);
+    doAnswer(
+            inv -> {
+              HttpServletResponse response = inv.getArgument(3);
+              response.getOutputStream().write(photoBytes);
+              return null;
+            })
+        .when(userService)
+        .streamProfilePhoto(eq(userId), any(), any(), any());
 
     // Act & Assert
     mockMvc
@@ -296,6 +314,6 @@ class UserControllerTest {
         .andExpect(status().isOk())
         .andExpect(content().bytes(photoBytes));
 
-    verify(userService, times(1)).getProfilePhoto(userId);
+    verify(userService, times(1)).streamProfilePhoto(eq(userId), any(), any(), any());
   }
 }
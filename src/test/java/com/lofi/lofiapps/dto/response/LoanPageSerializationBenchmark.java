@@ -0,0 +1,86 @@
+package com.lofi.lofiapps.dto.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.lofi.lofiapps.config.JacksonConfig;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Serializing one {@code ApiResponse<PagedResponse<LoanResponse>>} page with the application's
+ * mapper: streamed into the response (what the message converter does) versus built as a String
+ * first, plus the same mapper with Blackbird's generated accessors. Not a unit test; run it by
+ * hand:
+ *
+ * <pre>
+ * mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *     com.lofi.lofiapps.dto.response.LoanPageSerializationBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoanPageSerializationBenchmark {
+
+  @Param({"20", "100"})
+  int rows;
+
+  private ObjectMapper mapper;
+  private ObjectMapper blackbird;
+  private ApiResponse<PagedResponse<LoanResponse>> page;
+  // writeValue closes its target; the servlet stream is not closed per write either
+  private final OutputStream sink = StreamUtils.nonClosing(OutputStream.nullOutputStream());
+
+  @Setup
+  public void setUp() {
+    mapper = new JacksonConfig().objectMapper();
+    blackbird = new JacksonConfig().objectMapper().registerModule(new BlackbirdModule());
+    page = ApiResponse.success(LoanResponses.page(rows));
+  }
+
+  @Benchmark
+  public void stream() throws IOException {
+    mapper.writeValue(sink, page);
+  }
+
+  @Benchmark
+  public void viaString() throws IOException {
+    sink.write(mapper.writeValueAsString(page).getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Benchmark
+  public void blackbirdStream() throws IOException {
+    blackbird.writeValue(sink, page);
+  }
+
+  /** Accepts the usual JMH options, e.g. {@code -p rows=100 -i 10}. */
+  public static void main(String[] args) throws Exception {
+    new Runner(
+            new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(LoanPageSerializationBenchmark.class.getSimpleName())
+                .build())
+        .run();
+  }
+}
@@ -0,0 +1,86 @@
+package com.lofi.lofiapps.dto.response;
+
+import com.lofi.lofiapps.enums.ApprovalStage;
+import com.lofi.lofiapps.enums.DocumentType;
+import com.lofi.lofiapps.enums.JobType;
+import com.lofi.lofiapps.enums.LoanStatus;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/** Fully populated loan rows, shaped like a back-office loan list page. */
+public final class LoanResponses {
+
+  private LoanResponses() {}
+
+  public static PagedResponse<LoanResponse> page(int rows) {
+    List<LoanResponse> items = new ArrayList<>(rows);
+    for (int i = 0; i < rows; i++) {
+      items.add(loan(i));
+    }
+    return PagedResponse.of(items, 0, rows, 10_000, 10_000 / rows);
+  }
+
+  public static LoanResponse loan(int i) {
+    LocalDateTime submitted = LocalDateTime.of(2026, 1, 1, 9, 0).plusMinutes(i);
+    return LoanResponse.builder()
+        .id(UUID.nameUUIDFromBytes(("loan-" + i).getBytes()))
+        .customerId(UUID.nameUUIDFromBytes(("customer-" + i).getBytes()))
+        .customerName("Customer " + i)
+        .product(
+            ProductResponse.builder()
+                .id(UUID.nameUUIDFromBytes("product".getBytes()))
+                .productCode("KTA-01")
+                .productName("Kredit Tanpa Agunan")
+                .description("Unsecured personal loan")
+                .interestRate(new BigDecimal("1.25"))
+                .adminFee(new BigDecimal("150000"))
+                .minTenor(3)
+                .maxTenor(36)
+                .minLoanAmount(new BigDecimal("1000000"))
+                .maxLoanAmount(new BigDecimal("50000000"))
+                .isActive(true)
+                .build())
+        .loanAmount(new BigDecimal(5_000_000 + i * 1000L))
+        .tenor(12)
+        .loanStatus(LoanStatus.APPROVED)
+        .currentStage(ApprovalStage.BRANCH_MANAGER)
+        .submittedAt(submitted)
+        .approvedAt(submitted.plusDays(1))
+        .documents(
+            List.of(
+                DocumentResponse.builder()
+                    .id(UUID.nameUUIDFromBytes(("doc-" + i).getBytes()))
+                    .fileName("ktp-" + i + ".jpg")
+                    .documentType(DocumentType.KTP)
+                    .uploadedAt(submitted)
+                    .build()))
+        .longitude(new BigDecimal("106.8456"))
+        .latitude(new BigDecimal("-6.2088"))
+        .declaredIncome(new BigDecimal("12000000"))
+        .npwpNumber("09.254.294.3-407.000")
+        .jobType(JobType.KARYAWAN)
+        .companyName("PT Contoh Sejahtera")
+        .jobPosition("Staff")
+        .workDurationMonths(24)
+        .workAddress("Jl. Sudirman No. " + i)
+        .officePhoneNumber("021-5550" + i)
+        .additionalIncome(BigDecimal.ZERO)
+        .emergencyContactName("Contact " + i)
+        .emergencyContactRelation("Sibling")
+        .emergencyContactPhone("0812000" + i)
+        .emergencyContactAddress("Jl. Thamrin No. " + i)
+        .downPayment(BigDecimal.ZERO)
+        .purpose("Renovation")
+        .bankName("BCA")
+        .bankBranch("Jakarta")
+        .accountNumber("123456" + i)
+        .accountHolderName("Customer " + i)
+        .interestRate(new BigDecimal("1.25"))
+        .adminFee(new BigDecimal("150000"))
+        .pinValidated(true)
+        .build();
+  }
+}
@@ -0,0 +1,47 @@
+package com.lofi.lofiapps.dto.response;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class StaticErrorBodyTest {
+
+  private static final StaticErrorBody RATE_LIMITED =
+      StaticErrorBody.of(HttpStatus.TOO_MANY_REQUESTS, "RATE_LIMIT_EXCEEDED", "Slow down");
+
+  @Test
+  @DisplayName("Encoded body should match the ApiResponse error envelope")
+  void of_ShouldEncodeApiResponseEnvelope() throws Exception {
+    // Act
+    ApiResponse<?> decoded = new ObjectMapper().readValue(RATE_LIMITED.bytes(), ApiResponse.class);
+
+    // Assert
+    assertFalse(decoded.isSuccess());
+    assertEquals("RATE_LIMIT_EXCEEDED", decoded.getCode());
+    assertEquals("Slow down", decoded.getMessage());
+    assertNull(decoded.getData());
+  }
+
+  @Test
+  @DisplayName("Write should set status, JSON content type and length")
+  void writeTo_ShouldWriteStatusHeadersAndBody() throws Exception {
+    // Arrange
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // Act
+    RATE_LIMITED.writeTo(response);
+
+    // Assert
+    assertEquals(429, response.getStatus());
+    assertEquals("application/json", response.getContentType());
+    assertEquals(RATE_LIMITED.bytes().length, response.getContentLength());
+    assertEquals(
+        new String(RATE_LIMITED.bytes(), StandardCharsets.UTF_8),
+        response.getContentAsString(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,85 @@
+package com.lofi.lofiapps.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latency and outcome counters for one endpoint label. Latencies are kept raw (one long per call)
+ * so percentiles are exact; a release-gate run is minutes long, not hours, so that stays small.
+ */
+public final class EndpointStats {
+
+  /** How a single call ended. */
+  public enum Outcome {
+    /** 2xx. */
+    OK,
+    /** 4xx the flow expects under contention, e.g. a loan already moved on by another actor. */
+    REJECTED,
+    /** Anything else: 5xx, 401/403/429, timeouts and transport failures. */
+    ERROR
+  }
+
+  private final String endpoint;
+  private long[] latenciesMicros = new long[1024];
+  private int count;
+  private long rejected;
+  private long errors;
+
+  public EndpointStats(String endpoint) {
+    this.endpoint = endpoint;
+  }
+
+  public synchronized void record(Outcome outcome, long latencyMicros) {
+    if (count == latenciesMicros.length) {
+      latenciesMicros = Arrays.copyOf(latenciesMicros, count * 2);
+    }
+    latenciesMicros[count++] = latencyMicros;
+    if (outcome == Outcome.REJECTED) {
+      rejected++;
+    } else if (outcome == Outcome.ERROR) {
+      errors++;
+    }
+  }
+
+  public String endpoint() {
+    return endpoint;
+  }
+
+  public synchronized Snapshot snapshot() {
+    long[] sorted = Arrays.copyOf(latenciesMicros, count);
+    Arrays.sort(sorted);
+    return new Snapshot(
+        endpoint,
+        count,
+        rejected,
+        errors,
+        percentile(sorted, 50),
+        percentile(sorted, 95),
+        percentile(sorted, 99),
+        count == 0 ? 0 : sorted[count - 1]);
+  }
+
+  /** Nearest-rank percentile over an already sorted array. */
+  static long percentile(long[] sorted, double p) {
+    if (sorted.length == 0) {
+      return 0;
+    }
+    int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+    return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+  }
+
+  /** Immutable view of the counters, latencies in microseconds. */
+  public record Snapshot(
+      String endpoint,
+      long calls,
+      long rejected,
+      long errors,
+      long p50Micros,
+      long p95Micros,
+      long p99Micros,
+      long maxMicros) {
+
+    public double errorRate() {
+      return calls == 0 ? 0 : (double) errors / calls;
+    }
+  }
+}
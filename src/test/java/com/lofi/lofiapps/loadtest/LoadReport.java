@@ -0,0 +1,100 @@
+package com.lofi.lofiapps.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/** Outcome of one load run, printable as a table and checkable against release thresholds. */
+public record LoadReport(
+    Duration elapsed,
+    Map<String, ScenarioResult> scenarios,
+    List<EndpointStats.Snapshot> endpoints) {
+
+  public record ScenarioResult(String name, long started, long completed, long dropped) {}
+
+  /** Upper bounds a run must stay under; {@code maxP95} applies to every endpoint. */
+  public record Thresholds(Duration maxP95, double maxErrorRate, double maxDropRate) {}
+
+  public EndpointStats.Snapshot endpoint(String name) {
+    return endpoints.stream()
+        .filter(snapshot -> snapshot.endpoint().equals(name))
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException("No calls recorded for " + name));
+  }
+
+  public List<String> violations(Thresholds thresholds) {
+    List<String> violations = new ArrayList<>();
+    long maxP95Micros = thresholds.maxP95().toNanos() / 1_000;
+    for (EndpointStats.Snapshot snapshot : endpoints) {
+      if (snapshot.p95Micros() > maxP95Micros) {
+        violations.add(
+            String.format(
+                "%s p95 %d ms > %d ms",
+                snapshot.endpoint(), snapshot.p95Micros() / 1_000, maxP95Micros / 1_000));
+      }
+      if (snapshot.errorRate() > thresholds.maxErrorRate()) {
+        violations.add(
+            String.format(
+                "%s error rate %.2f%% > %.2f%%",
+                snapshot.endpoint(), snapshot.errorRate() * 100, thresholds.maxErrorRate() * 100));
+      }
+    }
+    for (ScenarioResult scenario : scenarios.values()) {
+      long arrivals = scenario.started() + scenario.dropped();
+      double dropRate = arrivals == 0 ? 0 : (double) scenario.dropped() / arrivals;
+      if (dropRate > thresholds.maxDropRate()) {
+        violations.add(
+            String.format(
+                "%s dropped %.2f%% of arrivals > %.2f%%",
+                scenario.name(), dropRate * 100, thresholds.maxDropRate() * 100));
+      }
+    }
+    return violations;
+  }
+
+  public String format() {
+    StringBuilder out = new StringBuilder();
+    double seconds = Math.max(elapsed.toMillis(), 1) / 1000.0;
+    out.append(String.format("Load run: %.1f s%n", seconds));
+    out.append(
+        String.format(
+            "%-28s %9s %9s %9s %9s%n", "scenario", "started", "complete", "dropped", "iter/s"));
+    for (ScenarioResult s : scenarios.values()) {
+      out.append(
+          String.format(
+              "%-28s %9d %9d %9d %9.1f%n",
+              s.name(), s.started(), s.completed(), s.dropped(), s.completed() / seconds));
+    }
+    out.append(
+        String.format(
+            "%n%-32s %8s %8s %8s %8s %8s %8s %8s %8s%n",
+            "endpoint",
+            "calls",
+            "req/s",
+            "rejected",
+            "err%",
+            "p50 ms",
+            "p95 ms",
+            "p99 ms",
+            "max ms"));
+    endpoints.stream()
+        .sorted(Comparator.comparing(EndpointStats.Snapshot::endpoint))
+        .forEach(
+            e ->
+                out.append(
+                    String.format(
+                        "%-32s %8d %8.1f %8d %8.2f %8.1f %8.1f %8.1f %8.1f%n",
+                        e.endpoint(),
+                        e.calls(),
+                        e.calls() / seconds,
+                        e.rejected(),
+                        e.errorRate() * 100,
+                        e.p50Micros() / 1000.0,
+                        e.p95Micros() / 1000.0,
+                        e.p99Micros() / 1000.0,
+                        e.maxMicros() / 1000.0)));
+    return out.toString();
+  }
+}
@@ -0,0 +1,178 @@
+package com.lofi.lofiapps.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drives scenarios against a running app. Arrivals are scheduled at a fixed rate per scenario and
+ * handed to a worker pool capped at {@code maxInFlight} iterations; an arrival that finds the cap
+ * reached is counted as dropped instead of queued, so a slow server shows up as drops and latency
+ * rather than as a silently lower arrival rate.
+ */
+@Slf4j
+public final class LoadRunner {
+
+  private final URI baseUri;
+  private final int maxInFlight;
+  private final HttpClient client;
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  public LoadRunner(URI baseUri, int maxInFlight) {
+    String base = baseUri.toString();
+    this.baseUri = URI.create(base.endsWith("/") ? base : base + "/");
+    this.maxInFlight = maxInFlight;
+    this.client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+  }
+
+  public LoadReport run(List<Scenario> scenarios, Duration duration, Duration drainTimeout)
+      throws InterruptedException {
+    Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    Map<String, ScenarioCounters> counters = new LinkedHashMap<>();
+    Semaphore inFlight = new Semaphore(maxInFlight);
+    AtomicLong iterations = new AtomicLong();
+
+    ExecutorService workers = Executors.newCachedThreadPool();
+    ScheduledExecutorService arrivals = Executors.newScheduledThreadPool(scenarios.size());
+    List<ScheduledFuture<?>> schedules = new ArrayList<>();
+
+    long startNanos = System.nanoTime();
+    for (Scenario scenario : scenarios) {
+      ScenarioCounters scenarioCounters = new ScenarioCounters();
+      counters.put(scenario.name(), scenarioCounters);
+      if (scenario.arrivalsPerSecond() == 0 || scenario.steps().isEmpty()) {
+        continue;
+      }
+      long periodNanos = (long) (TimeUnit.SECONDS.toNanos(1) / scenario.arrivalsPerSecond());
+      Runnable arrival =
+          () -> {
+            if (!inFlight.tryAcquire()) {
+              scenarioCounters.dropped.incrementAndGet();
+              return;
+            }
+            scenarioCounters.started.incrementAndGet();
+            Session session = new Session(baseUri, iterations.incrementAndGet());
+            workers.execute(
+                () -> {
+                  try {
+                    if (runIteration(scenario, session, endpoints)) {
+                      scenarioCounters.completed.incrementAndGet();
+                    }
+                  } finally {
+                    inFlight.release();
+                  }
+                });
+          };
+      schedules.add(
+          arrivals.scheduleAtFixedRate(arrival, 0, Math.max(1, periodNanos), TimeUnit.NANOSECONDS));
+    }
+
+    Thread.sleep(duration.toMillis());
+    schedules.forEach(schedule -> schedule.cancel(false));
+    arrivals.shutdown();
+    workers.shutdown();
+    if (!workers.awaitTermination(drainTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+      log.warn("Load run did not drain within {}; in-flight calls abandoned", drainTimeout);
+      workers.shutdownNow();
+    }
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+
+    Map<String, LoadReport.ScenarioResult> scenarioResults = new LinkedHashMap<>();
+    counters.forEach(
+        (name, c) ->
+            scenarioResults.put(
+                name,
+                new LoadReport.ScenarioResult(
+                    name, c.started.get(), c.completed.get(), c.dropped.get())));
+    return new LoadReport(
+        elapsed,
+        scenarioResults,
+        endpoints.values().stream().map(EndpointStats::snapshot).toList());
+  }
+
+  /** Runs the steps in order; returns whether every step ran and succeeded. */
+  private boolean runIteration(
+      Scenario scenario, Session session, Map<String, EndpointStats> endpoints) {
+    for (LoadStep step : scenario.steps()) {
+      EndpointStats stats = endpoints.computeIfAbsent(step.endpoint(), EndpointStats::new);
+      HttpRequest request;
+      try {
+        request = step.request().apply(session);
+      } catch (RuntimeException e) {
+        log.debug("[{}] could not build {}: {}", scenario.name(), step.endpoint(), e.getMessage());
+        return false;
+      }
+      if (request == null) {
+        continue;
+      }
+
+      long start = System.nanoTime();
+      HttpResponse<String> response;
+      try {
+        response = client.send(request, HttpResponse.BodyHandlers.ofString());
+      } catch (IOException e) {
+        stats.record(EndpointStats.Outcome.ERROR, micros(start));
+        log.debug("[{}] {} failed: {}", scenario.name(), step.endpoint(), e.toString());
+        return false;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+      long latency = micros(start);
+
+      int status = response.statusCode();
+      if (status < 200 || status >= 300) {
+        boolean expected = step.rejectedStatuses().contains(status);
+        stats.record(
+            expected ? EndpointStats.Outcome.REJECTED : EndpointStats.Outcome.ERROR, latency);
+        if (!expected) {
+          log.debug("[{}] {} -> {} {}", scenario.name(), step.endpoint(), status, response.body());
+        }
+        return false;
+      }
+      stats.record(EndpointStats.Outcome.OK, latency);
+
+      try {
+        JsonNode body =
+            response.body().isEmpty()
+                ? objectMapper.nullNode()
+                : objectMapper.readTree(response.body());
+        if (!step.then().test(session, body)) {
+          return false;
+        }
+      } catch (IOException | RuntimeException e) {
+        log.debug("[{}] {} unexpected body: {}", scenario.name(), step.endpoint(), e.toString());
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static long micros(long startNanos) {
+    return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+  }
+
+  private static final class ScenarioCounters {
+    private final AtomicLong started = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+  }
+}
@@ -0,0 +1,171 @@
+package com.lofi.lofiapps.loadtest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LoadRunnerTest {
+
+  private final ExecutorService serverThreads = Executors.newFixedThreadPool(8);
+  private HttpServer server;
+  private URI baseUri;
+  private final AtomicInteger actCalls = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.setExecutor(serverThreads);
+    server.createContext(
+        "/api/v1/items",
+        exchange -> respond(exchange, 200, "{\"data\":{\"items\":[{\"id\":\"a\"}]}}"));
+    server.createContext(
+        "/api/v1/act",
+        exchange -> {
+          // Every third call loses the race, every fifth blows up
+          int call = actCalls.incrementAndGet();
+          if (call % 5 == 0) {
+            respond(exchange, 500, "{}");
+          } else if (call % 3 == 0) {
+            respond(exchange, 400, "{}");
+          } else {
+            respond(exchange, 200, "{}");
+          }
+        });
+    server.start();
+    baseUri = URI.create("http://localhost:" + server.getAddress().getPort() + "/api/v1");
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+    serverThreads.shutdownNow();
+  }
+
+  private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+
+  private Scenario listThenAct(double rate) {
+    return new Scenario(
+        "list-then-act",
+        rate,
+        List.of(
+            LoadStep.of("GET /items", s -> HttpRequest.newBuilder(s.uri("items")).build())
+                .then(
+                    (session, body) -> {
+                      session.put("id", body.path("data").path("items").get(0).path("id").asText());
+                      return true;
+                    }),
+            LoadStep.of(
+                    "POST /act",
+                    s ->
+                        HttpRequest.newBuilder(s.uri("act?id=" + s.get("id")))
+                            .POST(HttpRequest.BodyPublishers.noBody())
+                            .build())
+                .rejecting(400)));
+  }
+
+  @Test
+  @DisplayName("Runner should record per-endpoint outcomes and separate rejections from errors")
+  void run_ShouldRecordOutcomesPerEndpoint() throws InterruptedException {
+    // Arrange
+    LoadRunner runner = new LoadRunner(baseUri, 50);
+
+    // Act
+    LoadReport report =
+        runner.run(List.of(listThenAct(100)), Duration.ofMillis(500), Duration.ofSeconds(5));
+
+    // Assert
+    EndpointStats.Snapshot list = report.endpoint("GET /items");
+    EndpointStats.Snapshot act = report.endpoint("POST /act");
+    LoadReport.ScenarioResult scenario = report.scenarios().get("list-then-act");
+
+    assertTrue(list.calls() > 10, "arrivals should be scheduled at the configured rate");
+    assertEquals(0, list.errors());
+    assertEquals(list.calls(), act.calls());
+    assertEquals(act.calls(), actCalls.get());
+    assertTrue(act.rejected() > 0);
+    assertTrue(act.errors() > 0);
+    assertEquals(act.calls() - act.rejected() - act.errors(), scenario.completed());
+    assertTrue(list.p50Micros() <= list.p95Micros() && list.p95Micros() <= list.maxMicros());
+    assertTrue(report.format().contains("POST /act"));
+  }
+
+  @Test
+  @DisplayName("Thresholds should flag error rates but not expected rejections")
+  void violations_ShouldFlagErrorRate() throws InterruptedException {
+    // Arrange
+    LoadRunner runner = new LoadRunner(baseUri, 50);
+    LoadReport report =
+        runner.run(List.of(listThenAct(100)), Duration.ofMillis(300), Duration.ofSeconds(5));
+
+    // Act
+    List<String> violations =
+        report.violations(new LoadReport.Thresholds(Duration.ofSeconds(5), 0.05, 1.0));
+
+    // Assert
+    assertEquals(1, violations.size());
+    assertTrue(violations.get(0).startsWith("POST /act error rate"));
+  }
+
+  @Test
+  @DisplayName("Arrivals beyond the in-flight cap should be dropped, not queued")
+  void run_ShouldDropArrivalsBeyondCap() throws InterruptedException {
+    // Arrange
+    server.createContext(
+        "/api/v1/slow",
+        exchange -> {
+          try {
+            Thread.sleep(200);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          respond(exchange, 200, "{}");
+        });
+    Scenario slow =
+        new Scenario(
+            "slow",
+            200,
+            List.of(LoadStep.of("GET /slow", s -> HttpRequest.newBuilder(s.uri("slow")).build())));
+    LoadRunner runner = new LoadRunner(baseUri, 2);
+
+    // Act
+    LoadReport report = runner.run(List.of(slow), Duration.ofMillis(300), Duration.ofSeconds(5));
+
+    // Assert
+    LoadReport.ScenarioResult result = report.scenarios().get("slow");
+    assertTrue(result.started() <= 4, "at most two iterations fit per 200 ms window");
+    assertTrue(result.dropped() > 0);
+  }
+
+  @Test
+  @DisplayName("Percentile should use nearest rank")
+  void percentile_ShouldUseNearestRank() {
+    long[] sorted = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+
+    assertEquals(5, EndpointStats.percentile(sorted, 50));
+    assertEquals(10, EndpointStats.percentile(sorted, 95));
+    assertEquals(1, EndpointStats.percentile(sorted, 1));
+    assertEquals(0, EndpointStats.percentile(new long[0], 50));
+  }
+}
@@ -0,0 +1,36 @@
+package com.lofi.lofiapps.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.net.http.HttpRequest;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * One HTTP call inside a scenario. {@code endpoint} is the label stats are grouped under, so it
+ * should be the route template ({@code POST /loans/{id}/review}) rather than the concrete URI.
+ *
+ * <p>{@code request} may return {@code null} to skip the call for this iteration, e.g. a login
+ * whose token is already cached. {@code rejectedStatuses} are the 4xx codes the flow expects under
+ * contention and counts separately from errors. {@code then} receives the parsed body of a 2xx
+ * response and returns whether the iteration should go on; a list step returns {@code false} when
+ * there is nothing to act on.
+ */
+public record LoadStep(
+    String endpoint,
+    Function<Session, HttpRequest> request,
+    Set<Integer> rejectedStatuses,
+    BiPredicate<Session, JsonNode> then) {
+
+  public static LoadStep of(String endpoint, Function<Session, HttpRequest> request) {
+    return new LoadStep(endpoint, request, Set.of(), (session, body) -> true);
+  }
+
+  public LoadStep rejecting(Integer... statuses) {
+    return new LoadStep(endpoint, request, Set.of(statuses), then);
+  }
+
+  public LoadStep then(BiPredicate<Session, JsonNode> next) {
+    return new LoadStep(endpoint, request, rejectedStatuses, next);
+  }
+}
@@ -0,0 +1,213 @@
+package com.lofi.lofiapps.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The loan life cycle from the role-based Postman collection, one scenario per role: a customer
+ * applies, marketing reviews a submitted loan, the branch manager approves a reviewed one and back
+ * office disburses an approved one. Each actor logs in once and reuses the token; the act steps
+ * pick a random loan from the first page of the matching status so concurrent actors spread out,
+ * and a 400 from losing a race to another actor counts as rejected rather than as an error.
+ *
+ * <p>Accounts are the dev-profile seed users ({@code DevelopmentDataSeeder}) of the configured
+ * branches, all sharing one password.
+ */
+public final class RoleFlows {
+
+  private static final String JSON = "application/json";
+
+  /** Arrival rates per second for each role and the accounts to act as. */
+  public record Settings(
+      double customerRate,
+      double marketingRate,
+      double branchManagerRate,
+      double backOfficeRate,
+      List<String> branchCodes,
+      String backOfficeEmail,
+      String password,
+      Duration requestTimeout) {
+
+    /**
+     * Reads {@code loadtest.*} system properties. Back office acts as the seeded head-office
+     * back-office user unless {@code loadtest.backoffice.email} names another account.
+     */
+    public static Settings fromSystemProperties() {
+      return new Settings(
+          rate("loadtest.rate.customer", 5),
+          rate("loadtest.rate.marketing", 4),
+          rate("loadtest.rate.branch-manager", 3),
+          rate("loadtest.rate.back-office", 2),
+          List.of(System.getProperty("loadtest.branches", "dki").toLowerCase().split(",")),
+          System.getProperty("loadtest.backoffice.email", "bo_ho_1@lofi.test"),
+          System.getProperty("loadtest.password", "Password123!"),
+          Duration.ofMillis(Long.getLong("loadtest.request-timeout-ms", 10_000)));
+    }
+
+    private static double rate(String key, double defaultRate) {
+      return Double.parseDouble(System.getProperty(key, String.valueOf(defaultRate)));
+    }
+  }
+
+  private final Settings settings;
+  private final Map<String, String> tokens = new ConcurrentHashMap<>();
+
+  public RoleFlows(Settings settings) {
+    this.settings = settings;
+  }
+
+  public List<Scenario> scenarios() {
+    return List.of(
+        customerApply(), marketingReview(), branchManagerApprove(), backOfficeDisburse());
+  }
+
+  Scenario customerApply() {
+    List<String> customers = new ArrayList<>();
+    for (String code : settings.branchCodes()) {
+      for (int i = 1; i <= 10; i++) {
+        customers.add("cust_" + code + "_" + i + "@lofi.test");
+      }
+    }
+    return new Scenario(
+        "customer-apply",
+        settings.customerRate(),
+        List.of(
+            login(customers),
+            LoadStep.of(
+                    "POST /loans",
+                    session -> {
+                      long amount = 1_000_000L * session.random().nextInt(1, 20);
+                      int tenor = 6 * session.random().nextInt(1, 5);
+                      return authorized(session, "loans")
+                          .POST(
+                              body(
+                                  "{\"loanAmount\":%d,\"tenor\":%d,\"purpose\":\"Load test\"}",
+                                  amount, tenor))
+                          .build();
+                    })
+                // One active loan per customer and plafond limits reject most re-applications
+                .rejecting(400, 404)));
+  }
+
+  Scenario marketingReview() {
+    List<String> marketing = new ArrayList<>();
+    for (String code : settings.branchCodes()) {
+      marketing.add("mkt_" + code + "_1@lofi.test");
+      marketing.add("mkt_" + code + "_2@lofi.test");
+    }
+    return new Scenario(
+        "marketing-review",
+        settings.marketingRate(),
+        List.of(
+            login(marketing),
+            pickLoan("SUBMITTED"),
+            LoadStep.of(
+                    "POST /loans/{id}/review",
+                    session ->
+                        authorized(session, "loans/" + session.get("loanId") + "/review")
+                            .POST(body("{\"notes\":\"Reviewed under load\"}"))
+                            .build())
+                .rejecting(400, 409)));
+  }
+
+  Scenario branchManagerApprove() {
+    List<String> managers =
+        settings.branchCodes().stream().map(code -> "bm_" + code + "@lofi.test").toList();
+    return new Scenario(
+        "branch-manager-approve",
+        settings.branchManagerRate(),
+        List.of(
+            login(managers),
+            pickLoan("REVIEWED"),
+            LoadStep.of(
+                    "POST /loans/{id}/approve",
+                    session ->
+                        authorized(session, "loans/" + session.get("loanId") + "/approve")
+                            .header("Idempotency-Key", UUID.randomUUID().toString())
+                            .POST(body("{\"notes\":\"Approved under load\"}"))
+                            .build())
+                .rejecting(400, 409)));
+  }
+
+  Scenario backOfficeDisburse() {
+    return new Scenario(
+        "back-office-disburse",
+        settings.backOfficeRate(),
+        List.of(
+            login(List.of(settings.backOfficeEmail())),
+            pickLoan("APPROVED"),
+            LoadStep.of(
+                    "POST /loans/{id}/disburse",
+                    session ->
+                        authorized(session, "loans/" + session.get("loanId") + "/disburse")
+                            .header("Idempotency-Key", UUID.randomUUID().toString())
+                            .POST(body("{\"referenceNumber\":\"LT-%d\"}", session.iteration()))
+                            .build())
+                .rejecting(400, 409)));
+  }
+
+  /** Logs in as one of {@code accounts} unless that account already has a token. */
+  private LoadStep login(List<String> accounts) {
+    return LoadStep.of(
+            "POST /auth/login",
+            session -> {
+              String email = accounts.get((int) (session.iteration() % accounts.size()));
+              session.put("account", email);
+              String token = tokens.get(email);
+              if (token != null) {
+                session.put("token", token);
+                return null;
+              }
+              return request(session, "auth/login")
+                  .POST(body("{\"email\":\"%s\",\"password\":\"%s\"}", email, settings.password()))
+                  .build();
+            })
+        .then(
+            (session, body) -> {
+              String token = body.path("data").path("accessToken").asText(null);
+              if (token == null) {
+                return false;
+              }
+              tokens.put(session.get("account"), token);
+              session.put("token", token);
+              return true;
+            });
+  }
+
+  private LoadStep pickLoan(String status) {
+    return LoadStep.of(
+            "GET /loans?status=" + status,
+            session -> authorized(session, "loans?status=" + status + "&size=20").GET().build())
+        .then(
+            (session, body) -> {
+              JsonNode items = body.path("data").path("items");
+              if (!items.isArray() || items.isEmpty()) {
+                return false;
+              }
+              JsonNode loan = items.get(session.random().nextInt(items.size()));
+              session.put("loanId", loan.path("id").asText());
+              return true;
+            });
+  }
+
+  private HttpRequest.Builder request(Session session, String path) {
+    return HttpRequest.newBuilder(session.uri(path))
+        .timeout(settings.requestTimeout())
+        .header("Content-Type", JSON)
+        .header("Accept", JSON);
+  }
+
+  private HttpRequest.Builder authorized(Session session, String path) {
+    return request(session, path).header("Authorization", "Bearer " + session.get("token"));
+  }
+
+  private static HttpRequest.BodyPublisher body(String format, Object... args) {
+    return HttpRequest.BodyPublishers.ofString(String.format(format, args));
+  }
+}
@@ -0,0 +1,110 @@
+package com.lofi.lofiapps.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.redis.testcontainers.RedisContainer;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MSSQLServerContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Release gate: boots the app on the dev profile (so the seeder creates the role accounts) against
+ * SQL Server and Redis containers, replays the four role flows at the configured arrival rates and
+ * fails when any endpoint breaks the latency or error thresholds. Excluded from the default build;
+ * run with {@code mvn -P loadtest test}, tuning via system properties, e.g.
+ *
+ * <pre>
+ * mvn -P loadtest test -Dloadtest.duration-seconds=300 -Dloadtest.rate.customer=20 \
+ *     -Dloadtest.max-p95-ms=500
+ * </pre>
+ */
+@Slf4j
+@Tag("load")
+@Testcontainers
+@ActiveProfiles("dev")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class RoleFlowsLoadTest {
+
+  @Container
+  static final MSSQLServerContainer<?> SQL_SERVER =
+      new MSSQLServerContainer<>(
+              DockerImageName.parse("mcr.microsoft.com/mssql/server:2022-latest"))
+          .acceptLicense();
+
+  @Container
+  static final RedisContainer REDIS = new RedisContainer(DockerImageName.parse("redis:7-alpine"));
+
+  @MockBean private FirebaseApp firebaseApp;
+  @MockBean private FirebaseMessaging firebaseMessaging;
+  @MockBean private FirebaseAuth firebaseAuth;
+
+  @LocalServerPort private int port;
+
+  @DynamicPropertySource
+  static void properties(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", SQL_SERVER::getJdbcUrl);
+    registry.add("spring.datasource.username", SQL_SERVER::getUsername);
+    registry.add("spring.datasource.password", SQL_SERVER::getPassword);
+    registry.add("spring.data.redis.host", REDIS::getHost);
+    registry.add("spring.data.redis.port", REDIS::getFirstMappedPort);
+    registry.add("spring.jpa.show-sql", () -> "false");
+    registry.add("lofi.app.jwtSecret", () -> "load-test-secret-load-test-secret-load-test-secret");
+    registry.add("cloudflare.r2.access-key-id", () -> "load-test");
+    registry.add("cloudflare.r2.secret-access-key", () -> "load-test");
+    registry.add("cloudflare.r2.endpoint", () -> "http://localhost:9000");
+    registry.add("cloudflare.r2.bucket-name", () -> "load-test");
+  }
+
+  @Test
+  @DisplayName("Role flows should stay within the release latency and error thresholds")
+  void roleFlows_ShouldMeetThresholds() throws InterruptedException {
+    URI baseUri = URI.create("http://localhost:" + port + "/api/v1/");
+    RoleFlows flows = new RoleFlows(RoleFlows.Settings.fromSystemProperties());
+    LoadRunner runner = new LoadRunner(baseUri, Integer.getInteger("loadtest.max-in-flight", 200));
+
+    // Warm up JIT, connection pools and the token cache before anything is measured
+    runner.run(
+        flows.scenarios(), Duration.ofSeconds(seconds("loadtest.warmup-seconds", 15)), drain());
+
+    LoadReport report =
+        runner.run(
+            flows.scenarios(),
+            Duration.ofSeconds(seconds("loadtest.duration-seconds", 60)),
+            drain());
+    log.info("\n{}", report.format());
+
+    List<String> violations =
+        report.violations(
+            new LoadReport.Thresholds(
+                Duration.ofMillis(Long.getLong("loadtest.max-p95-ms", 1_000)),
+                Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01")),
+                Double.parseDouble(System.getProperty("loadtest.max-drop-rate", "0.01"))));
+    assertTrue(
+        violations.isEmpty(), () -> "Load thresholds broken:\n" + String.join("\n", violations));
+  }
+
+  private static long seconds(String key, long defaultSeconds) {
+    return Long.getLong(key, defaultSeconds);
+  }
+
+  private static Duration drain() {
+    return Duration.ofSeconds(30);
+  }
+}
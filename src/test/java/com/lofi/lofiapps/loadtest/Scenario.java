@@ -0,0 +1,17 @@
+package com.lofi.lofiapps.loadtest;
+
+import java.util.List;
+
+/**
+ * A named chain of steps started {@code arrivalsPerSecond} times a second regardless of how long
+ * earlier iterations take (open model), which is how real users arrive and what exposes queueing.
+ */
+public record Scenario(String name, double arrivalsPerSecond, List<LoadStep> steps) {
+
+  public Scenario {
+    if (arrivalsPerSecond < 0) {
+      throw new IllegalArgumentException("arrivalsPerSecond must not be negative");
+    }
+    steps = List.copyOf(steps);
+  }
+}
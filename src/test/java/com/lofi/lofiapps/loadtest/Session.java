@@ -0,0 +1,47 @@
+package com.lofi.lofiapps.loadtest;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * State carried across the steps of one scenario iteration: the base URI of the app under test, the
+ * iteration number and whatever earlier steps extracted (a token, a loan id). Each arrival gets its
+ * own session, so nothing here is shared between threads.
+ */
+public final class Session {
+
+  private final URI baseUri;
+  private final long iteration;
+  private final Map<String, String> values = new HashMap<>();
+
+  public Session(URI baseUri, long iteration) {
+    this.baseUri = baseUri;
+    this.iteration = iteration;
+  }
+
+  public URI uri(String path) {
+    return baseUri.resolve(path.startsWith("/") ? path.substring(1) : path);
+  }
+
+  public long iteration() {
+    return iteration;
+  }
+
+  public ThreadLocalRandom random() {
+    return ThreadLocalRandom.current();
+  }
+
+  public String get(String key) {
+    String value = values.get(key);
+    if (value == null) {
+      throw new IllegalStateException("Session has no value for '" + key + "'");
+    }
+    return value;
+  }
+
+  public void put(String key, String value) {
+    values.put(key, value);
+  }
+}
@@ -0,0 +1,62 @@
+package com.lofi.lofiapps.security.idempotency;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import com.lofi.lofiapps.config.redis.RedisGuards;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+  @Mock private RedisTemplate<String, Object> redisTemplate;
+  @Mock private ValueOperations<String, Object> valueOperations;
+
+  private IdempotencyService idempotencyService;
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    idempotencyService = new IdempotencyService(redisTemplate, RedisGuards.standard());
+  }
+
+  @Test
+  @DisplayName("Responses should be stored in Redis while it is healthy")
+  void saveResponse_Healthy_ShouldStoreInRedis() {
+    // Act
+    idempotencyService.saveResponse("key-1", Map.of("ok", true), 24);
+
+    // Assert
+    verify(valueOperations).set("idempotency:key-1", Map.of("ok", true), 24, TimeUnit.HOURS);
+  }
+
+  @Test
+  @DisplayName("Responses saved while Redis is down should still deduplicate on this node")
+  void saveResponse_RedisDown_ShouldKeepResponseLocally() {
+    // Arrange
+    RedisConnectionFailureException down = new RedisConnectionFailureException("refused");
+    doThrow(down).when(valueOperations).set(anyString(), any(), anyLong(), any(TimeUnit.class));
+    when(redisTemplate.hasKey(anyString())).thenThrow(down);
+
+    // Act
+    idempotencyService.saveResponse("key-1", "response", 24);
+
+    // Assert
+    assertTrue(idempotencyService.isDuplicate("key-1"));
+    assertEquals("response", idempotencyService.getResponse("key-1"));
+    assertFalse(idempotencyService.isDuplicate("key-2"));
+  }
+}
@@ -3,6 +3,7 @@ package com.lofi.lofiapps.security.jwt;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -14,9 +15,8 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.PrintWriter;
-import java.io.StringWriter;
 import java.util.Collections;
 import java.util.Date;
 import java.util.UUID;
@@ -26,6 +26,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.DelegatingServletOutputStream;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 
@@ -82,12 +83,14 @@ class AuthTokenFilterTest {
     when(jwtUtils.validateJwtToken(token)).thenReturn(true);
     when(tokenBlacklistService.isBlacklisted(token)).thenReturn(true);
 
-    PrintWriter writer = new PrintWriter(new StringWriter());
-    when(response.getWriter()).thenReturn(writer);
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    when(response.getOutputStream()).thenReturn(new DelegatingServletOutputStream(body));
 
     authTokenFilter.doFilterInternal(request, response, filterChain);
 
     verify(response).setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+    verify(response).setContentType("application/json");
+    assertTrue(body.toString().contains("\"code\":\"TOKEN_REVOKED\""));
     verify(filterChain, never()).doFilter(request, response);
     assertNull(SecurityContextHolder.getContext().getAuthentication());
   }
@@ -108,8 +111,8 @@ class AuthTokenFilterTest {
         .thenReturn(forcedLogoutAt);
     when(jwtUtils.getIssuedAtFromJwtToken(token)).thenReturn(issuedAt);
 
-    PrintWriter writer = new PrintWriter(new StringWriter());
-    when(response.getWriter()).thenReturn(writer);
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    when(response.getOutputStream()).thenReturn(new DelegatingServletOutputStream(body));
 
     authTokenFilter.doFilterInternal(request, response, filterChain);
 
@@ -135,8 +138,8 @@ class AuthTokenFilterTest {
     when(jwtUtils.getIssuedAtFromJwtToken(token)).thenReturn(issuedAt);
     when(jwtUtils.getEmailFromJwtToken(token)).thenReturn(null);
 
-    PrintWriter writer = new PrintWriter(new StringWriter());
-    when(response.getWriter()).thenReturn(writer);
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    when(response.getOutputStream()).thenReturn(new DelegatingServletOutputStream(body));
 
     authTokenFilter.doFilterInternal(request, response, filterChain);
 
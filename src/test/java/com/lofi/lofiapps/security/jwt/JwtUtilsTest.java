@@ -86,6 +86,22 @@ class JwtUtilsTest {
     assertTrue(jwtUtils.validateJwtToken(refreshToken));
   }
 
+  @Test
+  @DisplayName("Refresh tokens of one family should carry the family and stay distinct")
+  void generateRefreshToken_ShouldCarryFamilyAndBeUnique() {
+    // Arrange
+    UUID familyId = UUID.randomUUID();
+
+    // Act
+    String first = jwtUtils.generateRefreshToken(testUserId, familyId);
+    String second = jwtUtils.generateRefreshToken(testUserId, familyId);
+
+    // Assert
+    assertNotEquals(first, second);
+    assertEquals(familyId, jwtUtils.getRefreshFamilyFromJwtToken(first));
+    assertEquals(testUserId.toString(), jwtUtils.getUserIdFromJwtToken(second));
+  }
+
   @Test
   @DisplayName("GetUserIdFromJwtToken should extract user ID")
   void getUserIdFromJwtToken_ShouldExtractUserId() {
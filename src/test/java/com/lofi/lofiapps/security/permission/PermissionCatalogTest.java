@@ -0,0 +1,80 @@
+package com.lofi.lofiapps.security.permission;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.lofi.lofiapps.entity.Branch;
+import com.lofi.lofiapps.entity.Permission;
+import com.lofi.lofiapps.entity.Role;
+import com.lofi.lofiapps.enums.RoleName;
+import com.lofi.lofiapps.event.ReferenceDataChangedEvent;
+import com.lofi.lofiapps.repository.PermissionRepository;
+import com.lofi.lofiapps.repository.RoleRepository;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PermissionCatalogTest {
+
+  @Mock private PermissionRepository permissionRepository;
+  @Mock private RoleRepository roleRepository;
+
+  @InjectMocks private PermissionCatalog permissionCatalog;
+
+  private Permission view;
+
+  @BeforeEach
+  void setUp() {
+    view = Permission.builder().name("NOTIFICATION_VIEW").build();
+    Role customer = Role.builder().name(RoleName.ROLE_CUSTOMER).permissions(Set.of(view)).build();
+    when(permissionRepository.findAll()).thenReturn(List.of(view));
+    when(roleRepository.findAll()).thenReturn(List.of(customer));
+  }
+
+  @Test
+  @DisplayName("Current should load the matrix once and reuse it")
+  void current_ShouldLoadOnce() {
+    // Act
+    PermissionIndex first = permissionCatalog.current();
+    PermissionIndex second = permissionCatalog.current();
+
+    // Assert
+    assertSame(first, second);
+    assertTrue(first.test(first.bitsForRoles(List.of(RoleName.ROLE_CUSTOMER)), view.getName()));
+    verify(roleRepository, times(1)).findAll();
+  }
+
+  @Test
+  @DisplayName("Role changes should trigger a reload on next use")
+  void onReferenceDataChanged_Role_ShouldReload() {
+    // Arrange
+    PermissionIndex before = permissionCatalog.current();
+
+    // Act
+    permissionCatalog.onReferenceDataChanged(new ReferenceDataChangedEvent(Role.class));
+
+    // Assert
+    assertNotSame(before, permissionCatalog.current());
+    verify(roleRepository, times(2)).findAll();
+  }
+
+  @Test
+  @DisplayName("Changes to unrelated reference data should keep the matrix")
+  void onReferenceDataChanged_Branch_ShouldKeepIndex() {
+    // Arrange
+    PermissionIndex before = permissionCatalog.current();
+
+    // Act
+    permissionCatalog.onReferenceDataChanged(new ReferenceDataChangedEvent(Branch.class));
+
+    // Assert
+    assertSame(before, permissionCatalog.current());
+  }
+}
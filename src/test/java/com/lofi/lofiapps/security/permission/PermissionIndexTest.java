@@ -0,0 +1,82 @@
+package com.lofi.lofiapps.security.permission;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.lofi.lofiapps.enums.RoleName;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PermissionIndexTest {
+
+  @Test
+  @DisplayName("Permissions should be interned to dense ids in name order")
+  void of_ShouldInternDenseSortedIds() {
+    // Act
+    PermissionIndex index =
+        PermissionIndex.of(List.of("LOAN_VIEW", "BRANCH_VIEW", "USER_VIEW"), Map.of());
+
+    // Assert
+    assertEquals(3, index.size());
+    assertEquals(0, index.idOf("BRANCH_VIEW"));
+    assertEquals(1, index.idOf("LOAN_VIEW"));
+    assertEquals(2, index.idOf("USER_VIEW"));
+    assertEquals(-1, index.idOf("UNKNOWN"));
+  }
+
+  @Test
+  @DisplayName("Role bitsets should be OR-ed into the principal's effective permissions")
+  void bitsForRoles_ShouldUnionRolePermissions() {
+    // Arrange
+    PermissionIndex index =
+        PermissionIndex.of(
+            List.of("LOAN_VIEW", "LOAN_APPROVE", "LOAN_DISBURSE"),
+            Map.of(
+                RoleName.ROLE_BRANCH_MANAGER, Set.of("LOAN_VIEW", "LOAN_APPROVE"),
+                RoleName.ROLE_BACK_OFFICE, Set.of("LOAN_VIEW", "LOAN_DISBURSE")));
+
+    // Act
+    long[] bits =
+        index.bitsForRoles(List.of(RoleName.ROLE_BRANCH_MANAGER, RoleName.ROLE_BACK_OFFICE));
+
+    // Assert
+    assertEquals(List.of("LOAN_APPROVE", "LOAN_DISBURSE", "LOAN_VIEW"), index.names(bits));
+    assertTrue(index.test(bits, "LOAN_DISBURSE"));
+    assertFalse(index.test(index.bitsForRoles(List.of(RoleName.ROLE_CUSTOMER)), "LOAN_VIEW"));
+  }
+
+  @Test
+  @DisplayName("Bitsets should span several words once the catalog exceeds 64 permissions")
+  void test_ShouldHandleMultiWordBitsets() {
+    // Arrange
+    List<String> names = new ArrayList<>();
+    for (int i = 0; i < 130; i++) {
+      names.add(String.format("PERM_%03d", i));
+    }
+    PermissionIndex index =
+        PermissionIndex.of(names, Map.of(RoleName.ROLE_ADMIN, Set.of("PERM_000", "PERM_129")));
+
+    // Act
+    long[] bits = index.bitsForRoles(List.of(RoleName.ROLE_ADMIN));
+
+    // Assert
+    assertEquals(3, bits.length);
+    assertTrue(index.test(bits, "PERM_129"));
+    assertFalse(index.test(bits, "PERM_064"));
+    assertEquals(List.of("PERM_000", "PERM_129"), index.names(bits));
+  }
+
+  @Test
+  @DisplayName("Permissions a role holds but the catalog lacks should still be interned")
+  void of_ShouldInternRolePermissionsMissingFromCatalog() {
+    // Act
+    PermissionIndex index =
+        PermissionIndex.of(List.of(), Map.of(RoleName.ROLE_ADMIN, Set.of("AUDIT_VIEW")));
+
+    // Assert
+    assertTrue(index.test(index.bitsForRoles(List.of(RoleName.ROLE_ADMIN)), "AUDIT_VIEW"));
+  }
+}
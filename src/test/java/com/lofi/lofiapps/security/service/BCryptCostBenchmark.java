@@ -0,0 +1,55 @@
+package com.lofi.lofiapps.security.service;
+
+import java.util.Arrays;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Time of one BCrypt verification per strength, used to pick {@code
+ * app.auth.hashing.bcrypt-strength}. Not a unit test; run it by hand on the production instance
+ * type, e.g.
+ *
+ * <pre>
+ * mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *     com.lofi.lofiapps.security.service.BCryptCostBenchmark [target-ms] [max-strength]
+ * </pre>
+ *
+ * The suggestion is the highest strength whose median stays under the target. Pool throughput is
+ * then roughly {@code threads * 1000 / median} logins per second per node.
+ */
+public class BCryptCostBenchmark {
+
+  private static final int SAMPLES = 9;
+
+  public static void main(String[] args) {
+    long targetMs = args.length > 0 ? Long.parseLong(args[0]) : 100;
+    int maxStrength = args.length > 1 ? Integer.parseInt(args[1]) : 14;
+    int cores = Runtime.getRuntime().availableProcessors();
+
+    System.out.printf("target %d ms per verification, %d cores%n", targetMs, cores);
+    int suggested = 4;
+    for (int strength = 8; strength <= maxStrength; strength++) {
+      BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+      String hash = encoder.encode("Password123!");
+      encoder.matches("Password123!", hash); // warm-up
+
+      double[] samples = new double[SAMPLES];
+      for (int i = 0; i < SAMPLES; i++) {
+        long start = System.nanoTime();
+        encoder.matches("Password123!", hash);
+        samples[i] = (System.nanoTime() - start) / 1_000_000.0;
+      }
+      Arrays.sort(samples);
+      double median = samples[SAMPLES / 2];
+      System.out.printf(
+          "strength %2d: median %7.1f ms, ~%5.0f logins/s with %d hashing threads%n",
+          strength, median, cores * 1000 / median, cores);
+      if (median <= targetMs) {
+        suggested = strength;
+      } else {
+        break;
+      }
+    }
+    System.out.printf("suggested app.auth.hashing.bcrypt-strength: %d%n", suggested);
+  }
+}
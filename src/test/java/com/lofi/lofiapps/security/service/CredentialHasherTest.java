@@ -0,0 +1,152 @@
+package com.lofi.lofiapps.security.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.lofi.lofiapps.exception.CredentialHashingBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+class CredentialHasherTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private CredentialHasher hasher;
+  private CountDownLatch release;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    release = new CountDownLatch(1);
+  }
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    if (hasher != null) {
+      hasher.shutdown();
+    }
+  }
+
+  private CredentialHasher hasher(int strength, int threads, int queue, long timeoutMs) {
+    hasher =
+        new CredentialHasher(
+            new BCryptPasswordEncoder(strength), meterRegistry, threads, queue, timeoutMs);
+    return hasher;
+  }
+
+  @Test
+  @DisplayName("Matches and encode should hash on the dedicated pool")
+  void matchesAndEncode_ShouldRunOnHashingPool() {
+    // Arrange
+    CredentialHasher hasher = hasher(4, 1, 4, 5000);
+
+    // Act
+    String encoded = hasher.encode("123456");
+    String thread = hasher.run("probe", () -> Thread.currentThread().getName());
+
+    // Assert
+    assertTrue(hasher.matches("123456", encoded));
+    assertFalse(hasher.matches("654321", encoded));
+    assertFalse(hasher.matches("123456", null));
+    assertTrue(thread.startsWith("hashing-"));
+    assertEquals(
+        1, meterRegistry.get("lofi.auth.hashing.queue").tag("operation", "encode").timer().count());
+  }
+
+  @Test
+  @DisplayName("Rehash should only re-encode hashes below the configured strength")
+  void rehash_ShouldUpgradeWeakerHashesOnly() {
+    // Arrange
+    String weak = new BCryptPasswordEncoder(4).encode("123456");
+    CredentialHasher hasher = hasher(5, 1, 4, 5000);
+    String current = hasher.encode("123456");
+
+    // Act
+    Optional<String> upgraded = hasher.rehash("123456", weak);
+
+    // Assert
+    assertTrue(upgraded.isPresent());
+    assertTrue(upgraded.get().startsWith("$2a$05$"));
+    assertTrue(hasher.matches("123456", upgraded.get()));
+    assertTrue(hasher.rehash("123456", current).isEmpty());
+  }
+
+  @Test
+  @DisplayName("A full queue should reject immediately")
+  void run_QueueFull_ShouldRejectFast() throws Exception {
+    // Arrange
+    CredentialHasher hasher = hasher(4, 1, 1, 5000);
+    CountDownLatch started = new CountDownLatch(1);
+    CompletableFuture<Boolean> running =
+        CompletableFuture.supplyAsync(() -> hasher.run("block", () -> await(started)));
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    CompletableFuture<Boolean> queued =
+        CompletableFuture.supplyAsync(() -> hasher.run("queued", () -> true));
+    waitForQueueDepth(1);
+
+    // Act & Assert
+    assertThrows(CredentialHashingBusyException.class, () -> hasher.run("extra", () -> true));
+    assertEquals(1.0, meterRegistry.get("lofi.auth.hashing.rejected").counter().count());
+    release.countDown();
+    assertTrue(running.get(5, TimeUnit.SECONDS));
+    assertTrue(queued.get(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  @DisplayName("A caller should give up once the wait timeout passes")
+  void run_SlowPool_ShouldTimeOut() {
+    // Arrange
+    CredentialHasher hasher = hasher(4, 1, 4, 50);
+
+    // Act & Assert
+    assertThrows(
+        CredentialHashingBusyException.class,
+        () -> hasher.run("block", () -> await(new CountDownLatch(1))));
+    assertEquals(1.0, meterRegistry.get("lofi.auth.hashing.rejected").counter().count());
+  }
+
+  @Test
+  @DisplayName("Runtime exceptions of the task should propagate unchanged")
+  void run_TaskThrows_ShouldPropagate() {
+    // Arrange
+    CredentialHasher hasher = hasher(4, 1, 4, 5000);
+
+    // Act & Assert
+    BadCredentialsException thrown =
+        assertThrows(
+            BadCredentialsException.class,
+            () ->
+                hasher.run(
+                    "authenticate",
+                    () -> {
+                      throw new BadCredentialsException("Bad credentials");
+                    }));
+    assertEquals("Bad credentials", thrown.getMessage());
+  }
+
+  private boolean await(CountDownLatch started) {
+    started.countDown();
+    try {
+      return release.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private void waitForQueueDepth(int depth) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (meterRegistry.get("lofi.auth.hashing.queue.depth").gauge().value() < depth) {
+      assertTrue(System.nanoTime() < deadline, "queue never filled");
+      Thread.sleep(5);
+    }
+  }
+}
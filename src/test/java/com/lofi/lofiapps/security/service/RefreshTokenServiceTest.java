@@ -0,0 +1,270 @@
+package com.lofi.lofiapps.security.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.lofi.lofiapps.entity.RefreshToken;
+import com.lofi.lofiapps.entity.User;
+import com.lofi.lofiapps.repository.RefreshTokenRepository;
+import com.lofi.lofiapps.security.jwt.JwtUtils;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RefreshTokenServiceTest {
+
+  @Mock private RefreshTokenRepository refreshTokenRepository;
+  @Mock private StringRedisTemplate redisTemplate;
+  @Mock private ValueOperations<String, String> valueOperations;
+  @Mock private JwtUtils jwtUtils;
+  @Mock private TokenBlacklistService tokenBlacklistService;
+
+  @InjectMocks private RefreshTokenService refreshTokenService;
+
+  private UUID userId;
+  private UUID familyId;
+  private String key;
+
+  @BeforeEach
+  void setUp() {
+    userId = UUID.randomUUID();
+    familyId = UUID.randomUUID();
+    key = RefreshTokenService.KEY_PREFIX + familyId;
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(jwtUtils.getRefreshExpirationMs()).thenReturn(86_400_000L);
+    when(jwtUtils.getUserIdFromJwtToken("presented")).thenReturn(userId.toString());
+    when(jwtUtils.getRefreshFamilyFromJwtToken("presented")).thenReturn(familyId);
+    when(jwtUtils.generateRefreshToken(userId, familyId)).thenReturn("next");
+  }
+
+  private RefreshToken row(String token, Instant expiry, boolean revoked) {
+    return RefreshToken.builder()
+        .familyId(familyId)
+        .tokenHash(RefreshTokenService.digest(token))
+        .expiryDate(expiry)
+        .revoked(revoked)
+        .user(User.builder().id(userId).build())
+        .build();
+  }
+
+  @Test
+  @DisplayName("Issue should persist and cache only the digest of a new family")
+  void issue_ShouldStoreDigestAndSupersedePreviousFamily() {
+    // Arrange
+    UUID previousFamily = UUID.randomUUID();
+    RefreshToken existing = row("old", Instant.now().plus(1, ChronoUnit.DAYS), false);
+    existing.setFamilyId(previousFamily);
+    Authentication authentication =
+        new UsernamePasswordAuthenticationToken(
+            new UserPrincipal(
+                userId, "a@b.c", "pw", null, null, null, null, Collections.emptyList()),
+            null);
+    when(refreshTokenRepository.findByUserId(userId)).thenReturn(Optional.of(existing));
+    when(jwtUtils.generateRefreshToken(eq(authentication), any(UUID.class))).thenReturn("issued");
+
+    // Act
+    String token = refreshTokenService.issue(authentication);
+
+    // Assert
+    assertEquals("issued", token);
+    assertEquals(RefreshTokenService.digest("issued"), existing.getTokenHash());
+    assertNotEquals(previousFamily, existing.getFamilyId());
+    verify(refreshTokenRepository).save(existing);
+    verify(redisTemplate).delete(RefreshTokenService.KEY_PREFIX + previousFamily);
+    verify(valueOperations)
+        .set(
+            eq(RefreshTokenService.KEY_PREFIX + existing.getFamilyId()),
+            eq(userId + "|" + RefreshTokenService.digest("issued")),
+            anyLong(),
+            eq(TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  @DisplayName("Rotate should use the Redis entry and swap the digest with a CAS update")
+  void rotate_ShouldRotateFromCache() {
+    // Arrange
+    when(valueOperations.get(key))
+        .thenReturn(userId + "|" + RefreshTokenService.digest("presented"));
+    when(refreshTokenRepository.rotate(
+            eq(userId),
+            eq(familyId),
+            eq(RefreshTokenService.digest("presented")),
+            eq(RefreshTokenService.digest("next")),
+            any(Instant.class)))
+        .thenReturn(1);
+
+    // Act
+    RefreshTokenService.Rotation rotation = refreshTokenService.rotate("presented");
+
+    // Assert
+    assertEquals(userId, rotation.userId());
+    assertEquals("next", rotation.refreshToken());
+    verify(refreshTokenRepository, never()).findByUserId(any());
+    verify(valueOperations)
+        .set(
+            eq(key),
+            eq(userId + "|" + RefreshTokenService.digest("next")),
+            anyLong(),
+            eq(TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  @DisplayName("Rotate should fall back to SQL on a cache miss")
+  void rotate_ShouldLoadFromSqlOnCacheMiss() {
+    // Arrange
+    when(refreshTokenRepository.findByUserId(userId))
+        .thenReturn(Optional.of(row("presented", Instant.now().plus(1, ChronoUnit.DAYS), false)));
+    when(refreshTokenRepository.rotate(any(), any(), any(), any(), any())).thenReturn(1);
+
+    // Act
+    RefreshTokenService.Rotation rotation = refreshTokenService.rotate("presented");
+
+    // Assert
+    assertEquals("next", rotation.refreshToken());
+    verify(refreshTokenRepository, never()).revokeFamily(any());
+  }
+
+  @Test
+  @DisplayName("Rotate should revoke the whole family when an old token is replayed")
+  void rotate_ShouldRevokeFamilyOnReuse() {
+    // Arrange
+    when(valueOperations.get(key)).thenReturn(userId + "|" + RefreshTokenService.digest("newer"));
+    when(refreshTokenRepository.findByUserId(userId))
+        .thenReturn(Optional.of(row("newer", Instant.now().plus(1, ChronoUnit.DAYS), false)));
+
+    // Act
+    IllegalArgumentException exception =
+        assertThrows(IllegalArgumentException.class, () -> refreshTokenService.rotate("presented"));
+
+    // Assert
+    assertEquals("Refresh Token Reused (AUTH_REFRESH_TOKEN_REUSED)", exception.getMessage());
+    verify(refreshTokenRepository).revokeFamily(familyId);
+    verify(tokenBlacklistService).forceLogoutUser(userId);
+    verify(valueOperations)
+        .set(
+            eq(key),
+            eq(RefreshTokenService.REVOKED + "|" + userId),
+            anyLong(),
+            eq(TimeUnit.MILLISECONDS));
+    verify(refreshTokenRepository, never()).rotate(any(), any(), any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("Rotate should trust SQL over a stale Redis entry before calling it reuse")
+  void rotate_ShouldRecheckSqlWhenCacheIsStale() {
+    // Arrange
+    when(valueOperations.get(key)).thenReturn(userId + "|" + RefreshTokenService.digest("older"));
+    when(refreshTokenRepository.findByUserId(userId))
+        .thenReturn(Optional.of(row("presented", Instant.now().plus(1, ChronoUnit.DAYS), false)));
+    when(refreshTokenRepository.rotate(any(), any(), any(), any(), any())).thenReturn(1);
+
+    // Act & Assert
+    assertEquals("next", refreshTokenService.rotate("presented").refreshToken());
+    verify(refreshTokenRepository, never()).revokeFamily(any());
+  }
+
+  @Test
+  @DisplayName("Rotate should treat a lost CAS race as reuse")
+  void rotate_ShouldRevokeWhenConcurrentRotationWins() {
+    // Arrange
+    when(valueOperations.get(key))
+        .thenReturn(userId + "|" + RefreshTokenService.digest("presented"));
+    when(refreshTokenRepository.rotate(any(), any(), any(), any(), any())).thenReturn(0);
+
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class, () -> refreshTokenService.rotate("presented"));
+    verify(refreshTokenRepository).revokeFamily(familyId);
+  }
+
+  @Test
+  @DisplayName("Rotate should reject a revoked family straight from Redis")
+  void rotate_ShouldRejectRevokedFamilyFromCache() {
+    // Arrange
+    when(valueOperations.get(key)).thenReturn(RefreshTokenService.REVOKED + "|" + userId);
+
+    // Act
+    IllegalArgumentException exception =
+        assertThrows(IllegalArgumentException.class, () -> refreshTokenService.rotate("presented"));
+
+    // Assert
+    assertEquals("Refresh Token Revoked (AUTH_REFRESH_TOKEN_REVOKED)", exception.getMessage());
+    verifyNoInteractions(refreshTokenRepository);
+  }
+
+  @Test
+  @DisplayName("Rotate should reject an expired family")
+  void rotate_ShouldRejectExpiredFamily() {
+    // Arrange
+    when(refreshTokenRepository.findByUserId(userId))
+        .thenReturn(
+            Optional.of(row("presented", Instant.now().minus(1, ChronoUnit.MINUTES), false)));
+
+    // Act
+    IllegalArgumentException exception =
+        assertThrows(IllegalArgumentException.class, () -> refreshTokenService.rotate("presented"));
+
+    // Assert
+    assertEquals("Refresh Token Expired (AUTH_REFRESH_TOKEN_EXPIRED)", exception.getMessage());
+  }
+
+  @Test
+  @DisplayName("Rotate should reject tokens of a superseded family or without one")
+  void rotate_ShouldRejectUnknownFamily() {
+    // Arrange
+    RefreshToken current = row("presented", Instant.now().plus(1, ChronoUnit.DAYS), false);
+    current.setFamilyId(UUID.randomUUID());
+    when(refreshTokenRepository.findByUserId(userId)).thenReturn(Optional.of(current));
+    when(jwtUtils.getUserIdFromJwtToken("legacy")).thenReturn(userId.toString());
+
+    // Act & Assert
+    assertEquals(
+        "Refresh Token not found in DB",
+        assertThrows(IllegalArgumentException.class, () -> refreshTokenService.rotate("presented"))
+            .getMessage());
+    assertEquals(
+        "Refresh Token not found in DB",
+        assertThrows(IllegalArgumentException.class, () -> refreshTokenService.rotate("legacy"))
+            .getMessage());
+    verify(refreshTokenRepository, never()).revokeFamily(any());
+  }
+
+  @Test
+  @DisplayName("Rotate should fall back to SQL when Redis is down")
+  void rotate_ShouldUseSqlWhenRedisFails() {
+    // Arrange
+    when(valueOperations.get(key)).thenThrow(new IllegalStateException("redis down"));
+    when(refreshTokenRepository.findByUserId(userId))
+        .thenReturn(Optional.of(row("presented", Instant.now().plus(1, ChronoUnit.DAYS), false)));
+    when(refreshTokenRepository.rotate(any(), any(), any(), any(), any())).thenReturn(1);
+
+    // Act & Assert
+    assertEquals("next", refreshTokenService.rotate("presented").refreshToken());
+  }
+
+  @Test
+  @DisplayName("Digest should be a 64-char hex SHA-256")
+  void digest_ShouldBeHexSha256() {
+    assertEquals(
+        "2c26b46b68ffc68ff99b453c1d30413413422d706483bfa0f98a5e886266e7ae",
+        RefreshTokenService.digest("foo"));
+  }
+}
@@ -0,0 +1,33 @@
+package com.lofi.lofiapps.security.service;
+
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenSweeperTest {
+
+  @Mock private RefreshTokenService refreshTokenService;
+
+  @InjectMocks private RefreshTokenSweeper refreshTokenSweeper;
+
+  @Test
+  @DisplayName("Purge should keep deleting batches until one comes back short")
+  void purgeExpired_ShouldLoopUntilShortBatch() {
+    // Arrange
+    ReflectionTestUtils.setField(refreshTokenSweeper, "batchSize", 100);
+    when(refreshTokenService.purgeExpired(100)).thenReturn(100, 100, 7);
+
+    // Act
+    refreshTokenSweeper.purgeExpired();
+
+    // Assert
+    verify(refreshTokenService, times(3)).purgeExpired(100);
+  }
+}
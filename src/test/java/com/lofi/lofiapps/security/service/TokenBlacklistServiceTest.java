@@ -5,17 +5,21 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.lofi.lofiapps.config.redis.RedisGuards;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 
@@ -26,11 +30,12 @@ class TokenBlacklistServiceTest {
 
   @Mock private ValueOperations<String, String> valueOperations;
 
-  @InjectMocks private TokenBlacklistService tokenBlacklistService;
+  private TokenBlacklistService tokenBlacklistService;
 
   @BeforeEach
   void setUp() {
-    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    tokenBlacklistService = new TokenBlacklistService(redisTemplate, RedisGuards.standard());
   }
 
   @Test
@@ -94,4 +99,42 @@ class TokenBlacklistServiceTest {
 
     assertEquals(0L, result);
   }
+
+  @Test
+  void isBlacklisted_WhenRedisTimesOut_ShouldStillSeeTokensRevokedOnThisNode() {
+    String token = "loggedOutToken";
+    doThrow(new QueryTimeoutException("timed out"))
+        .when(valueOperations)
+        .set(anyString(), anyString(), eq(3600000L), eq(TimeUnit.MILLISECONDS));
+    when(valueOperations.get(anyString())).thenThrow(new QueryTimeoutException("timed out"));
+
+    tokenBlacklistService.blacklistToken(token, 3600000L);
+
+    assertTrue(tokenBlacklistService.isBlacklisted(token));
+    assertFalse(tokenBlacklistService.isBlacklisted("otherToken"));
+  }
+
+  @Test
+  void isBlacklisted_WhenRedisSaidRevokedOnce_ShouldNotAskAgain() {
+    String token = "blacklistedToken";
+    when(valueOperations.get("BLACKLIST_JWT:" + token)).thenReturn("true");
+
+    assertTrue(tokenBlacklistService.isBlacklisted(token));
+    assertTrue(tokenBlacklistService.isBlacklisted(token));
+
+    verify(valueOperations, times(1)).get("BLACKLIST_JWT:" + token);
+  }
+
+  @Test
+  void getForcedLogoutTimestamp_WhenRedisTimesOut_ShouldUseLocalSnapshot() {
+    UUID userId = UUID.randomUUID();
+    long before = System.currentTimeMillis();
+    tokenBlacklistService.forceLogoutUser(userId);
+    when(valueOperations.get("FORCED_LOGOUT_USER:" + userId))
+        .thenThrow(new QueryTimeoutException("timed out"));
+
+    long result = tokenBlacklistService.getForcedLogoutTimestamp(userId);
+
+    assertTrue(result >= before);
+  }
 }
@@ -8,6 +8,8 @@ import static org.mockito.Mockito.when;
 
 import com.lofi.lofiapps.entity.User;
 import com.lofi.lofiapps.repository.UserRepository;
+import com.lofi.lofiapps.security.permission.PermissionCatalog;
+import com.lofi.lofiapps.security.permission.PermissionIndex;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.UUID;
@@ -23,6 +25,7 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 class UserDetailsServiceImplTest {
 
   @Mock private UserRepository userRepository;
+  @Mock private PermissionCatalog permissionCatalog;
 
   @InjectMocks private UserDetailsServiceImpl userDetailsService;
 
@@ -39,6 +42,7 @@ class UserDetailsServiceImplTest {
             .build();
 
     when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+    when(permissionCatalog.current()).thenReturn(PermissionIndex.EMPTY);
 
     UserDetails result = userDetailsService.loadUserByUsername(email);
 
@@ -57,4 +61,26 @@ class UserDetailsServiceImplTest {
 
     verify(userRepository).findByEmail(email);
   }
+
+  @Test
+  void updatePassword_ShouldStoreUpgradedHash() {
+    String email = "test@example.com";
+    User user =
+        User.builder()
+            .id(UUID.randomUUID())
+            .email(email)
+            .password("$2a$10$old")
+            .roles(Collections.emptySet())
+            .build();
+    UserPrincipal principal = UserPrincipal.create(user);
+
+    when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+    when(permissionCatalog.current()).thenReturn(PermissionIndex.EMPTY);
+
+    UserDetails result = userDetailsService.updatePassword(principal, "$2a$12$new");
+
+    assertEquals("$2a$12$new", user.getPassword());
+    assertEquals("$2a$12$new", result.getPassword());
+    verify(userRepository).save(user);
+  }
 }
@@ -8,8 +8,11 @@ import com.lofi.lofiapps.entity.Product;
 import com.lofi.lofiapps.entity.Role;
 import com.lofi.lofiapps.entity.User;
 import com.lofi.lofiapps.enums.RoleName;
+import com.lofi.lofiapps.security.permission.PermissionIndex;
 import java.math.BigDecimal;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
@@ -300,4 +303,33 @@ class UserPrincipalTest {
     assertTrue(principal.getRoles().contains("ROLE_CUSTOMER"));
     assertTrue(principal.getPermissions().isEmpty());
   }
+
+  @Test
+  @DisplayName("Create with a catalog index should resolve permissions from the role matrix")
+  void create_WithIndex_ShouldResolvePermissionsFromMatrix() {
+    // Arrange
+    Role role = new Role();
+    role.setName(RoleName.ROLE_MARKETING);
+    User user =
+        User.builder()
+            .id(UUID.randomUUID())
+            .email("test@example.com")
+            .password("password")
+            .roles(Set.of(role))
+            .build();
+    PermissionIndex index =
+        PermissionIndex.of(
+            List.of("LOAN_REVIEW", "NOTIFICATION_VIEW", "USER_DELETE"),
+            Map.of(RoleName.ROLE_MARKETING, Set.of("LOAN_REVIEW", "NOTIFICATION_VIEW")));
+
+    // Act
+    UserPrincipal principal = UserPrincipal.create(user, index);
+
+    // Assert
+    assertEquals(List.of("ROLE_MARKETING"), principal.getRoles());
+    assertEquals(List.of("LOAN_REVIEW", "NOTIFICATION_VIEW"), principal.getPermissions());
+    assertTrue(principal.hasPermission("NOTIFICATION_VIEW"));
+    assertFalse(principal.hasPermission("USER_DELETE"));
+    assertFalse(principal.hasPermission("UNKNOWN"));
+  }
 }
@@ -0,0 +1,152 @@
+package com.lofi.lofiapps.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.lofi.lofiapps.entity.Branch;
+import com.lofi.lofiapps.entity.Permission;
+import com.lofi.lofiapps.entity.Role;
+import com.lofi.lofiapps.entity.User;
+import com.lofi.lofiapps.event.ReferenceDataChangedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.UUID;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceCacheInvalidatorTest {
+
+  @Mock private EntityManagerFactory entityManagerFactory;
+  @Mock private SessionFactory sessionFactory;
+  @Mock private Cache cache;
+  @Mock private StringRedisTemplate redisTemplate;
+  @Mock private ApplicationEventPublisher eventPublisher;
+
+  private UUID id;
+
+  @BeforeEach
+  void setUp() {
+    when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+    lenient().when(sessionFactory.getCache()).thenReturn(cache);
+    id = UUID.randomUUID();
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  private ReferenceCacheInvalidator invalidator(String mode) {
+    return new ReferenceCacheInvalidator(entityManagerFactory, redisTemplate, eventPublisher, mode);
+  }
+
+  @Test
+  @DisplayName("Invalidate should wait for the transaction to commit")
+  void invalidate_ShouldEvictAfterCommit() {
+    // Arrange
+    TransactionSynchronizationManager.initSynchronization();
+
+    // Act
+    invalidator("local").invalidate(Branch.class, id);
+
+    // Assert
+    verifyNoInteractions(cache);
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    verify(cache).evictEntityData(Branch.class, id);
+    verify(cache).evictQueryRegions();
+    verifyNoInteractions(redisTemplate);
+  }
+
+  @Test
+  @DisplayName("Invalidating a role should evict its permissions and every cached user role set")
+  void invalidate_Role_ShouldEvictOwnedAndReferencingCollections() {
+    // Act
+    invalidator("local").invalidate(Role.class, id);
+
+    // Assert
+    verify(cache).evictEntityData(Role.class, id);
+    verify(cache).evictCollectionData(Role.class.getName() + ".permissions", id);
+    verify(cache).evictCollectionData(User.class.getName() + ".roles");
+    verify(eventPublisher).publishEvent(new ReferenceDataChangedEvent(Role.class));
+  }
+
+  @Test
+  @DisplayName("Invalidating a user should only evict that user's role set")
+  void invalidate_User_ShouldEvictRoleSetOnly() {
+    // Act
+    invalidator("local").invalidate(User.class, id);
+
+    // Assert
+    verify(cache).evictCollectionData(User.class.getName() + ".roles", id);
+    verify(cache, never()).evictEntityData(eq(User.class), any());
+    verify(cache, never()).evictCollectionData(Role.class.getName() + ".permissions");
+  }
+
+  @Test
+  @DisplayName("Redis mode should broadcast evictions and skip its own messages")
+  void invalidate_RedisMode_ShouldBroadcast() {
+    // Arrange
+    ReferenceCacheInvalidator invalidator = invalidator("redis");
+    ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+
+    // Act
+    invalidator.invalidate(Permission.class, id);
+
+    // Assert
+    verify(redisTemplate).convertAndSend(eq(ReferenceCacheInvalidator.CHANNEL), message.capture());
+    assertTrue(message.getValue().endsWith(":Permission:" + id));
+    clearInvocations(cache);
+    invalidator.onMessage(message.getValue());
+    verifyNoInteractions(cache);
+  }
+
+  @Test
+  @DisplayName("Messages from another node should be evicted locally")
+  void onMessage_FromOtherNode_ShouldEvictLocally() {
+    // Act
+    invalidator("redis").onMessage("other-node:Permission:" + id);
+    invalidator("redis").onMessage("other-node:Branch:*");
+
+    // Assert
+    verify(cache).evictEntityData(Permission.class, id);
+    verify(cache).evictCollectionData(Role.class.getName() + ".permissions");
+    verify(cache).evictEntityData(Branch.class);
+    verifyNoInteractions(redisTemplate);
+  }
+
+  @Test
+  @DisplayName("A failed broadcast should not fail the committed change")
+  void invalidate_BroadcastFailure_ShouldBeSwallowed() {
+    // Arrange
+    doThrow(new IllegalStateException("redis down"))
+        .when(redisTemplate)
+        .convertAndSend(anyString(), anyString());
+
+    // Act & Assert
+    assertDoesNotThrow(() -> invalidator("redis").invalidate(Branch.class, id));
+    verify(cache).evictEntityData(Branch.class, id);
+  }
+
+  @Test
+  @DisplayName("Invalidate should reject types outside the reference cache")
+  void invalidate_UnknownType_ShouldThrow() {
+    assertThrows(
+        IllegalArgumentException.class, () -> invalidator("local").invalidate(String.class, id));
+  }
+}
@@ -0,0 +1,155 @@
+package com.lofi.lofiapps.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lofi.lofiapps.entity.Permission;
+import com.lofi.lofiapps.entity.User;
+import com.lofi.lofiapps.event.ReferenceDataChangedEvent;
+import com.lofi.lofiapps.service.ReferenceDataVersions.Family;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+class ReferenceResponseCacheTest {
+
+  private ReferenceDataVersions versions;
+  private ReferenceResponseCache cache;
+
+  @BeforeEach
+  void setUp() {
+    versions = new ReferenceDataVersions();
+    cache = cache(versions, 512);
+  }
+
+  private static ReferenceResponseCache cache(ReferenceDataVersions versions, int maxVariants) {
+    return new ReferenceResponseCache(
+        versions, new ObjectMapper(), new SimpleMeterRegistry(), maxVariants);
+  }
+
+  @Test
+  @DisplayName("Repeated requests at one version should load once and share the ETag")
+  void respond_SameVersion_ShouldLoadOnce() {
+    // Arrange
+    AtomicInteger loads = new AtomicInteger();
+
+    // Act
+    ResponseEntity<byte[]> first =
+        cache.respond(Family.BRANCHES, "branches", () -> List.of("b" + loads.incrementAndGet()));
+    ResponseEntity<byte[]> second =
+        cache.respond(Family.BRANCHES, "branches", () -> List.of("b" + loads.incrementAndGet()));
+
+    // Assert
+    assertEquals(1, loads.get());
+    assertEquals("[\"b1\"]", new String(second.getBody()));
+    assertEquals(first.getHeaders().getETag(), second.getHeaders().getETag());
+    assertTrue(first.getHeaders().getETag().startsWith("\""), "ETag should be strong");
+  }
+
+  @Test
+  @DisplayName("A reference data change should reload the family and change the ETag")
+  void respond_AfterChange_ShouldReload() {
+    // Arrange
+    AtomicInteger loads = new AtomicInteger();
+    String before =
+        cache
+            .respond(Family.RBAC, "roles", () -> List.of("r" + loads.incrementAndGet()))
+            .getHeaders()
+            .getETag();
+
+    // Act
+    versions.onReferenceDataChanged(new ReferenceDataChangedEvent(Permission.class));
+    String after =
+        cache
+            .respond(Family.RBAC, "roles", () -> List.of("r" + loads.incrementAndGet()))
+            .getHeaders()
+            .getETag();
+
+    // Assert
+    assertEquals(2, loads.get());
+    assertNotEquals(before, after);
+  }
+
+  @Test
+  @DisplayName("Changes outside the reference families should not bump any version")
+  void onReferenceDataChanged_UserRoles_ShouldNotBump() {
+    // Act
+    versions.onReferenceDataChanged(new ReferenceDataChangedEvent(User.class));
+
+    // Assert
+    for (Family family : Family.values()) {
+      assertEquals(0, versions.current(family));
+    }
+  }
+
+  @Test
+  @DisplayName("A load that overlapped a change should not be served as current")
+  void respond_ChangeDuringLoad_ShouldNotCacheAsCurrent() {
+    // Arrange
+    AtomicInteger loads = new AtomicInteger();
+
+    // Act
+    cache.respond(
+        Family.PRODUCTS,
+        "id:1",
+        () -> {
+          loads.incrementAndGet();
+          versions.bump(Family.PRODUCTS);
+          return "stale";
+        });
+    ResponseEntity<byte[]> next =
+        cache.respond(
+            Family.PRODUCTS,
+            "id:1",
+            () -> {
+              loads.incrementAndGet();
+              return "fresh";
+            });
+
+    // Assert
+    assertEquals(2, loads.get());
+    assertEquals("\"fresh\"", new String(next.getBody()));
+  }
+
+  @Test
+  @DisplayName("ETags should match across instances whose versions differ")
+  void respond_SameBodyOnAnotherNode_ShouldShareETag() {
+    // Arrange
+    ReferenceDataVersions otherVersions = new ReferenceDataVersions();
+    otherVersions.bump(Family.PRODUCTS);
+    otherVersions.bump(Family.PRODUCTS);
+
+    // Act
+    String here = cache.respond(Family.PRODUCTS, "list", () -> "catalog").getHeaders().getETag();
+    String there =
+        cache(otherVersions, 512)
+            .respond(Family.PRODUCTS, "list", () -> "catalog")
+            .getHeaders()
+            .getETag();
+
+    // Assert
+    assertEquals(here, there);
+  }
+
+  @Test
+  @DisplayName("A failing load should propagate and cache nothing")
+  void respond_LoaderFails_ShouldNotCache() {
+    // Act & Assert
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            cache.respond(
+                Family.PRODUCTS,
+                "id:missing",
+                () -> {
+                  throw new IllegalArgumentException("Product not found");
+                }));
+    assertEquals(
+        "\"found\"",
+        new String(cache.respond(Family.PRODUCTS, "id:missing", () -> "found").getBody()));
+  }
+}
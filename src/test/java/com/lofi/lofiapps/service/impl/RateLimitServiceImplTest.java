@@ -0,0 +1,74 @@
+package com.lofi.lofiapps.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import com.lofi.lofiapps.config.redis.RedisGuards;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitServiceImplTest {
+
+  @Mock private RedisTemplate<String, Object> redisTemplate;
+  @Mock private ValueOperations<String, Object> valueOperations;
+
+  private RateLimitServiceImpl rateLimitService;
+
+  @BeforeEach
+  void setUp() {
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    rateLimitService = new RateLimitServiceImpl(redisTemplate, RedisGuards.standard());
+  }
+
+  @Test
+  @DisplayName("TryConsume should count in Redis and set the window on the first hit")
+  void tryConsume_Healthy_ShouldUseRedisCounter() {
+    // Arrange
+    when(valueOperations.increment("ratelimit:pin:1")).thenReturn(1L, 2L, 3L);
+
+    // Act & Assert
+    assertTrue(rateLimitService.tryConsume("pin:1", 2, 60));
+    assertTrue(rateLimitService.tryConsume("pin:1", 2, 60));
+    assertFalse(rateLimitService.tryConsume("pin:1", 2, 60));
+    verify(redisTemplate, times(1)).expire("ratelimit:pin:1", 60, TimeUnit.MINUTES);
+  }
+
+  @Test
+  @DisplayName("TryConsume should keep limiting with a local bucket while Redis is down")
+  void tryConsume_RedisDown_ShouldUseLocalBucket() {
+    // Arrange
+    when(valueOperations.increment(anyString())).thenThrow(new QueryTimeoutException("slow"));
+
+    // Act & Assert
+    assertTrue(rateLimitService.tryConsume("pin:1", 2, 60));
+    assertTrue(rateLimitService.tryConsume("pin:1", 2, 60));
+    assertFalse(rateLimitService.tryConsume("pin:1", 2, 60));
+    assertTrue(rateLimitService.tryConsume("pin:2", 2, 60));
+  }
+
+  @Test
+  @DisplayName("Reset should clear the local bucket as well")
+  void reset_ShouldClearLocalBucket() {
+    // Arrange
+    when(valueOperations.increment(anyString())).thenThrow(new QueryTimeoutException("slow"));
+    when(valueOperations.get(anyString())).thenThrow(new QueryTimeoutException("slow"));
+    rateLimitService.tryConsume("pin:1", 1, 60);
+    assertEquals(0, rateLimitService.getRemainingRequests("pin:1", 1, 60));
+
+    // Act
+    rateLimitService.reset("pin:1");
+
+    // Assert
+    assertEquals(1, rateLimitService.getRemainingRequests("pin:1", 1, 60));
+  }
+}
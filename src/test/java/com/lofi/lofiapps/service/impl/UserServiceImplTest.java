@@ -28,6 +28,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
@@ -271,19 +273,17 @@ class UserServiceImplTest {
   }
 
   @Test
-  @DisplayName("GetProfilePhoto should delegate to GetProfilePhotoUseCase")
-  void getProfilePhoto_ShouldDelegateToUseCase() {
+  @DisplayName("StreamProfilePhoto should delegate to GetProfilePhotoUseCase")
+  void streamProfilePhoto_ShouldDelegateToUseCase() throws Exception {
     // Arrange
-    byte[] expectedPhoto = "fake-image-data".getBytes();
-    when(getProfilePhotoUseCase.execute(testUserId)).thenReturn(expectedPhoto);
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    MockHttpServletResponse response = new MockHttpServletResponse();
 
     // Act
-    byte[] result = userService.getProfilePhoto(testUserId);
+    userService.streamProfilePhoto(testUserId, 64, request, response);
 
     // Assert
-    assertNotNull(result);
-    assertArrayEquals(expectedPhoto, result);
-    verify(getProfilePhotoUseCase, times(1)).execute(testUserId);
+    verify(getProfilePhotoUseCase, times(1)).execute(testUserId, 64, request, response);
   }
 
   @Test
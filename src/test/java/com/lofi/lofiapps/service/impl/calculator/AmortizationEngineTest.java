@@ -0,0 +1,128 @@
+package com.lofi.lofiapps.service.impl.calculator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.lofi.lofiapps.enums.AmortizationMethod;
+import com.lofi.lofiapps.repository.LoanBook;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AmortizationEngineTest {
+
+  // Rp 10.000.000,00 at 1.5% a month
+  private static final long PRINCIPAL = 1_000_000_000L;
+  private static final long RATE = 150;
+
+  @Test
+  @DisplayName("mulDiv should match BigDecimal half-up division, including 128-bit products")
+  void mulDiv_ShouldMatchBigDecimal() {
+    Random random = new Random(42);
+    for (int i = 0; i < 10_000; i++) {
+      long a = random.nextLong() >>> (1 + random.nextInt(40));
+      long b = random.nextLong() >>> (1 + random.nextInt(40));
+      long d = Math.max(1, random.nextLong() >>> (1 + random.nextInt(40)));
+      BigInteger expected =
+          new BigDecimal(BigInteger.valueOf(a).multiply(BigInteger.valueOf(b)))
+              .divide(BigDecimal.valueOf(d), 0, RoundingMode.HALF_UP)
+              .toBigInteger();
+      if (expected.bitLength() <= 63) {
+        assertEquals(expected.longValueExact(), AmortizationEngine.mulDiv(a, b, d));
+      } else {
+        long x = a;
+        long y = b;
+        long z = d;
+        assertThrows(ArithmeticException.class, () -> AmortizationEngine.mulDiv(x, y, z));
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Flat schedule should charge interest on the original principal every month")
+  void schedule_Flat() {
+    // Act
+    InstallmentSchedule schedule =
+        AmortizationEngine.schedule(AmortizationMethod.FLAT, PRINCIPAL, RATE, 12);
+
+    // Assert
+    assertEquals(12, schedule.tenor());
+    assertEquals(83_333_333L, schedule.principalParts()[0]);
+    assertEquals(83_333_337L, schedule.principalParts()[11]);
+    assertTrue(Arrays.stream(schedule.interestParts()).allMatch(i -> i == 15_000_000L));
+    assertEquals(PRINCIPAL, schedule.totalPrincipal());
+    assertEquals(180_000_000L, schedule.totalInterest());
+  }
+
+  @Test
+  @DisplayName("Effective schedule should be an annuity that repays the principal exactly")
+  void schedule_Effective() {
+    // Act
+    InstallmentSchedule schedule =
+        AmortizationEngine.schedule(AmortizationMethod.EFFECTIVE, PRINCIPAL, RATE, 12);
+
+    // Assert
+    for (int i = 0; i < 11; i++) {
+      assertEquals(91_679_993L, schedule.payment(i));
+    }
+    assertEquals(15_000_000L, schedule.interestParts()[0]);
+    assertTrue(Math.abs(schedule.payment(11) - 91_679_993L) <= 12);
+    assertEquals(PRINCIPAL, schedule.totalPrincipal());
+    assertTrue(schedule.totalInterest() < 180_000_000L);
+  }
+
+  @Test
+  @DisplayName("Effective schedule at a zero rate should split the principal evenly")
+  void schedule_EffectiveZeroRate() {
+    InstallmentSchedule schedule =
+        AmortizationEngine.schedule(AmortizationMethod.EFFECTIVE, 1_000L, 0, 3);
+
+    assertArrayEquals(new long[] {333L, 333L, 334L}, schedule.principalParts());
+    assertEquals(0, schedule.totalInterest());
+  }
+
+  @Test
+  @DisplayName("Conversions should use minor units and basis points")
+  void conversions() {
+    assertEquals(1_000_000_000L, AmortizationEngine.toMinorUnits(new BigDecimal("10000000")));
+    assertEquals(150L, AmortizationEngine.toBasisPoints(new BigDecimal("1.5")));
+    assertEquals(new BigDecimal("12.34"), AmortizationEngine.fromMinorUnits(1_234L));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> AmortizationEngine.schedule(AmortizationMethod.FLAT, PRINCIPAL, RATE, 0));
+  }
+
+  @Test
+  @DisplayName("Projection should add each loan's installments into the months they fall due")
+  void project_ShouldMatchSchedulesInsideTheWindow() {
+    // Arrange: window is months 100..105
+    LoanBook book = new LoanBook(0);
+    book.add(PRINCIPAL, (int) RATE, 12, 97); // installments 3..8 fall in the window
+    book.add(500_000L, 200, 3, 104); // only the first installment does
+    book.add(500_000L, 200, 3, 90); // fully repaid before the window
+    book.add(500_000L, 200, 3, 105); // nothing due until after it
+
+    for (AmortizationMethod method : AmortizationMethod.values()) {
+      // Act
+      CashFlowProjector.Projection projection = CashFlowProjector.project(book, method, 100, 6);
+
+      // Assert
+      InstallmentSchedule first = AmortizationEngine.schedule(method, PRINCIPAL, RATE, 12);
+      InstallmentSchedule second = AmortizationEngine.schedule(method, 500_000L, 200, 3);
+      long[] principal = new long[6];
+      long[] interest = new long[6];
+      for (int m = 0; m < 6; m++) {
+        principal[m] = first.principalParts()[m + 2];
+        interest[m] = first.interestParts()[m + 2];
+      }
+      principal[5] += second.principalParts()[0];
+      interest[5] += second.interestParts()[0];
+      assertEquals(4, projection.loans());
+      assertArrayEquals(principal, projection.principal(), method.name());
+      assertArrayEquals(interest, projection.interest(), method.name());
+    }
+  }
+}
@@ -0,0 +1,135 @@
+package com.lofi.lofiapps.service.impl.calculator;
+
+import com.lofi.lofiapps.enums.AmortizationMethod;
+import com.lofi.lofiapps.repository.LoanBook;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Projecting twelve months of inflows over a synthetic portfolio of disbursed loans (amounts, rates
+ * and tenors in the ranges the synthetic data generator uses): the parallel primitive projector,
+ * the same on one thread, and a {@code BigDecimal} schedule per loan as a spreadsheet would build
+ * it. Not a unit test; run it by hand:
+ *
+ * <pre>
+ * mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *     com.lofi.lofiapps.service.impl.calculator.CashFlowProjectionBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class CashFlowProjectionBenchmark {
+
+  private static final int MONTHS = 12;
+  private static final int[] TENORS = {3, 6, 12, 18, 24, 36};
+  private static final BigDecimal BASIS_POINTS = BigDecimal.valueOf(10_000);
+
+  @Param({"1000000"})
+  int loans;
+
+  @Param({"FLAT", "EFFECTIVE"})
+  AmortizationMethod method;
+
+  private LoanBook book;
+  private int fromMonth;
+  private ForkJoinPool singleThread;
+
+  @Setup
+  public void setUp() {
+    SplittableRandom random = new SplittableRandom(42);
+    fromMonth = 2025 * 12 + 6;
+    book = new LoanBook(loans);
+    for (int i = 0; i < loans; i++) {
+      // Rp 1.000.000 to Rp 100.000.000 in whole thousands, 0.75% to 2.50% a month
+      long principal = random.nextLong(1_000, 100_001) * 100_000L;
+      int rate = 75 + random.nextInt(176);
+      int tenor = TENORS[random.nextInt(TENORS.length)];
+      book.add(principal, rate, tenor, fromMonth - random.nextInt(36));
+    }
+    singleThread = new ForkJoinPool(1);
+  }
+
+  @TearDown
+  public void tearDown() {
+    singleThread.shutdown();
+  }
+
+  @Benchmark
+  public CashFlowProjector.Projection parallel() {
+    return CashFlowProjector.project(book, method, fromMonth, MONTHS);
+  }
+
+  /** The same projection with its parallel stream confined to a one-thread pool. */
+  @Benchmark
+  public CashFlowProjector.Projection sequential() throws Exception {
+    return singleThread
+        .submit(() -> CashFlowProjector.project(book, method, fromMonth, MONTHS))
+        .get();
+  }
+
+  @Benchmark
+  public BigDecimal[] bigDecimal() {
+    BigDecimal[] inflows = new BigDecimal[MONTHS];
+    Arrays.fill(inflows, BigDecimal.ZERO);
+    MathContext context = MathContext.DECIMAL64;
+    for (int i = 0; i < book.size(); i++) {
+      BigDecimal principal = BigDecimal.valueOf(book.principal(i), 2);
+      BigDecimal rate = BigDecimal.valueOf(book.rateBasisPoints(i)).divide(BASIS_POINTS);
+      int tenor = book.tenor(i);
+      int firstBucket = book.disbursedMonth(i) - fromMonth;
+      BigDecimal payment;
+      if (method == AmortizationMethod.FLAT) {
+        payment =
+            principal
+                .divide(BigDecimal.valueOf(tenor), 2, RoundingMode.HALF_UP)
+                .add(principal.multiply(rate).setScale(2, RoundingMode.HALF_UP));
+      } else {
+        BigDecimal growth = BigDecimal.ONE.add(rate).pow(tenor, context);
+        payment =
+            principal
+                .multiply(rate)
+                .multiply(growth)
+                .divide(growth.subtract(BigDecimal.ONE), 2, RoundingMode.HALF_UP);
+      }
+      for (int k = Math.max(1, -firstBucket); k <= tenor && firstBucket + k < MONTHS; k++) {
+        inflows[firstBucket + k] = inflows[firstBucket + k].add(payment);
+      }
+    }
+    return inflows;
+  }
+
+  /** Accepts the usual JMH options, e.g. {@code -p loans=100000 -p method=FLAT}. */
+  public static void main(String[] args) throws Exception {
+    new Runner(
+            new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(CashFlowProjectionBenchmark.class.getSimpleName())
+                .build())
+        .run();
+  }
+}
@@ -0,0 +1,160 @@
+package com.lofi.lofiapps.service.impl.usecase.ai;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.lofi.lofiapps.enums.AiPromptType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class AiModelGatewayTest {
+
+  @Mock private AiModelTransport transport;
+  @Mock private RedisTemplate<String, Object> redisTemplate;
+  @Mock private ValueOperations<String, Object> valueOperations;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private AiModelGateway gateway;
+
+  private final Map<String, String> variables = Map.of("loan_context", "- Loan amount: 5000000");
+
+  @BeforeEach
+  void setUp() {
+    AiPromptTemplates templates = new AiPromptTemplates();
+    templates.load();
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    gateway = new AiModelGateway(templates, transport, redisTemplate, meterRegistry);
+  }
+
+  private double requests(String outcome) {
+    return meterRegistry
+        .counter("ai.gateway.requests", "prompt", "LOAN_ANALYZER", "outcome", outcome)
+        .count();
+  }
+
+  @Test
+  @DisplayName("Complete should call the model, cache the response and record metrics")
+  void complete_ShouldCallModelAndCache() {
+    // Arrange
+    when(transport.send(eq(AiPromptType.LOAN_ANALYZER), anyString()))
+        .thenReturn(new AiCompletion("{\"confidence\":0.8}", 120, 30));
+
+    // Act
+    String result = gateway.complete(AiPromptType.LOAN_ANALYZER, variables);
+
+    // Assert
+    assertEquals("{\"confidence\":0.8}", result);
+    verify(valueOperations)
+        .set(startsWith("ai:response:"), eq("{\"confidence\":0.8}"), eq(Duration.ofMinutes(10)));
+    assertEquals(1, requests("model"));
+    assertEquals(
+        120,
+        meterRegistry
+            .counter("ai.gateway.tokens", "prompt", "LOAN_ANALYZER", "kind", "prompt")
+            .count());
+    assertEquals(1, meterRegistry.timer("ai.gateway.latency", "prompt", "LOAN_ANALYZER").count());
+  }
+
+  @Test
+  @DisplayName("A leader that cached its answer just after our miss should not cost a model call")
+  void complete_ShouldRecheckCacheAfterWinningInFlightSlot() {
+    // Arrange
+    when(valueOperations.get(startsWith("ai:response:")))
+        .thenReturn(null)
+        .thenReturn("{\"confidence\":0.8}");
+
+    // Act
+    String result = gateway.complete(AiPromptType.LOAN_ANALYZER, variables);
+
+    // Assert
+    assertEquals("{\"confidence\":0.8}", result);
+    verifyNoInteractions(transport);
+    assertEquals(1, requests("cache_hit"));
+  }
+
+  @Test
+  @DisplayName("Complete should serve a cached response without calling the model")
+  void complete_ShouldReturnCachedResponse() {
+    // Arrange
+    when(valueOperations.get(startsWith("ai:response:"))).thenReturn("{\"cached\":true}");
+
+    // Act
+    String result = gateway.complete(AiPromptType.LOAN_ANALYZER, variables);
+
+    // Assert
+    assertEquals("{\"cached\":true}", result);
+    verifyNoInteractions(transport);
+    assertEquals(1, requests("cache_hit"));
+  }
+
+  @Test
+  @DisplayName("Identical concurrent prompts should reach the model once")
+  void complete_ShouldCoalesceIdenticalInFlightPrompts() throws Exception {
+    // Arrange
+    CountDownLatch modelEntered = new CountDownLatch(1);
+    CountDownLatch releaseModel = new CountDownLatch(1);
+    when(transport.send(eq(AiPromptType.LOAN_ANALYZER), anyString()))
+        .thenAnswer(
+            inv -> {
+              modelEntered.countDown();
+              releaseModel.await(5, TimeUnit.SECONDS);
+              return new AiCompletion("{\"confidence\":0.8}", 10, 5);
+            });
+    ExecutorService pool = Executors.newFixedThreadPool(2);
+
+    try {
+      // Act
+      Future<String> first =
+          pool.submit(() -> gateway.complete(AiPromptType.LOAN_ANALYZER, variables));
+      assertTrue(modelEntered.await(5, TimeUnit.SECONDS));
+      // Same prompt modulo whitespace
+      Future<String> second =
+          pool.submit(
+              () ->
+                  gateway.complete(
+                      AiPromptType.LOAN_ANALYZER,
+                      Map.of("loan_context", "  - Loan amount:   5000000 ")));
+      while (requests("coalesced") == 0) {
+        Thread.sleep(5);
+      }
+      releaseModel.countDown();
+
+      // Assert
+      assertEquals("{\"confidence\":0.8}", first.get(5, TimeUnit.SECONDS));
+      assertEquals("{\"confidence\":0.8}", second.get(5, TimeUnit.SECONDS));
+      verify(transport, times(1)).send(any(), anyString());
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  @Test
+  @DisplayName("Limiter should reject callers beyond the concurrency and queue limits")
+  void promptLimiter_ShouldRejectWhenSaturated() {
+    AiModelGateway.PromptLimiter limiter = new AiModelGateway.PromptLimiter(1, 0);
+
+    assertTrue(limiter.acquire(10));
+    assertFalse(limiter.acquire(10));
+    limiter.release();
+    assertTrue(limiter.acquire(10));
+  }
+}
@@ -0,0 +1,93 @@
+package com.lofi.lofiapps.service.impl.usecase.ai;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.lofi.lofiapps.enums.AiPromptType;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+/** Runs the HTTP transport against a throwaway local chat-completions stub. */
+class HttpAiModelTransportTest {
+
+  private HttpServer server;
+  private final AtomicReference<String> lastRequest = new AtomicReference<>();
+  private final AtomicReference<String> lastAuthorization = new AtomicReference<>();
+  private String responseBody;
+  private int responseStatus;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext(
+        "/v1/chat/completions",
+        exchange -> {
+          lastRequest.set(
+              new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+          lastAuthorization.set(exchange.getRequestHeaders().getFirst("Authorization"));
+          byte[] body = responseBody.getBytes(StandardCharsets.UTF_8);
+          exchange.getResponseHeaders().add("Content-Type", "application/json");
+          exchange.sendResponseHeaders(responseStatus, body.length);
+          try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+          }
+        });
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  private HttpAiModelTransport transport() {
+    return new HttpAiModelTransport(
+        RestClient.builder(),
+        "http://127.0.0.1:" + server.getAddress().getPort(),
+        "test-key",
+        "test-model",
+        2000);
+  }
+
+  @Test
+  @DisplayName("Send should post the prompt and return content with token usage")
+  void send_ShouldReturnCompletion() {
+    // Arrange
+    responseStatus = 200;
+    responseBody =
+        "{\"choices\":[{\"message\":{\"content\":\"{\\\"confidence\\\":0.7}\"}}],"
+            + "\"usage\":{\"prompt_tokens\":42,\"completion_tokens\":7}}";
+
+    // Act
+    AiCompletion completion = transport().send(AiPromptType.LOAN_ANALYZER, "Analyze this");
+
+    // Assert
+    assertEquals("{\"confidence\":0.7}", completion.content());
+    assertEquals(42, completion.promptTokens());
+    assertEquals(7, completion.completionTokens());
+    assertTrue(lastRequest.get().contains("\"model\":\"test-model\""));
+    assertTrue(lastRequest.get().contains("Analyze this"));
+    assertEquals("Bearer test-key", lastAuthorization.get());
+  }
+
+  @Test
+  @DisplayName("Send should fail on an error status from the model server")
+  void send_ShouldThrowOnServerError() {
+    // Arrange
+    responseStatus = 503;
+    responseBody = "{\"error\":\"overloaded\"}";
+
+    // Act & Assert
+    assertThrows(
+        IllegalStateException.class,
+        () -> transport().send(AiPromptType.LOAN_ANALYZER, "Analyze this"));
+  }
+}
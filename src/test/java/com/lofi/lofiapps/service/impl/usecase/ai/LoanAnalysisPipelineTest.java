@@ -0,0 +1,166 @@
+package com.lofi.lofiapps.service.impl.usecase.ai;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lofi.lofiapps.dto.response.LoanAnalysisResponse;
+import com.lofi.lofiapps.entity.Loan;
+import com.lofi.lofiapps.entity.LoanAnalysis;
+import com.lofi.lofiapps.enums.AiPromptType;
+import com.lofi.lofiapps.enums.AnalysisStatus;
+import com.lofi.lofiapps.enums.LoanStatus;
+import com.lofi.lofiapps.event.LoanStatusChangedEvent;
+import com.lofi.lofiapps.repository.LoanAnalysisRepository;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class LoanAnalysisPipelineTest {
+
+  @Mock private LoanAnalysisRepository loanAnalysisRepository;
+  @Mock private LoanAnalysisWorker loanAnalysisWorker;
+  @Spy private LoanAnalysisContextFactory contextFactory = new LoanAnalysisContextFactory();
+  @Spy private ObjectMapper objectMapper = new ObjectMapper();
+
+  @InjectMocks private LoanAnalysisPipeline loanAnalysisPipeline;
+
+  private Loan loan;
+  private String hash;
+
+  @BeforeEach
+  void setUp() {
+    loan =
+        Loan.builder()
+            .id(UUID.randomUUID())
+            .loanAmount(BigDecimal.valueOf(5_000_000))
+            .tenor(12)
+            .loanStatus(LoanStatus.SUBMITTED)
+            .build();
+    hash = contextFactory.hash(contextFactory.render(loan));
+  }
+
+  private LoanAnalysis stored(String contextHash) {
+    return LoanAnalysis.builder()
+        .analysisType(AiPromptType.LOAN_ANALYZER)
+        .contextHash(contextHash)
+        .resultJson("{\"confidence\":0.85,\"summary\":\"ok\"}")
+        .build();
+  }
+
+  @Test
+  @DisplayName("Find should return the stored result without scheduling work")
+  void find_ShouldReturnStoredResult() {
+    // Arrange
+    when(loanAnalysisRepository.findByAnalysisTypeAndContextHash(AiPromptType.LOAN_ANALYZER, hash))
+        .thenReturn(Optional.of(stored(hash)));
+
+    // Act
+    Optional<LoanAnalysisResponse> result =
+        loanAnalysisPipeline.find(loan, AiPromptType.LOAN_ANALYZER, LoanAnalysisResponse.class);
+
+    // Assert
+    assertTrue(result.isPresent());
+    assertEquals("ok", result.get().getSummary());
+    assertEquals(AnalysisStatus.COMPLETED, result.get().getStatus());
+    verifyNoInteractions(loanAnalysisWorker);
+  }
+
+  @Test
+  @DisplayName("Find should schedule a missing analysis only once while it is in flight")
+  void find_ShouldScheduleMissingAnalysisOnce() {
+    // Arrange
+    when(loanAnalysisRepository.findByAnalysisTypeAndContextHash(any(), any()))
+        .thenReturn(Optional.empty());
+    when(loanAnalysisWorker.analyze(loan.getId(), LoanAnalysisPipeline.LOAN_ANALYSES))
+        .thenReturn(new CompletableFuture<>());
+
+    // Act
+    Optional<LoanAnalysisResponse> first =
+        loanAnalysisPipeline.find(loan, AiPromptType.LOAN_ANALYZER, LoanAnalysisResponse.class);
+    loanAnalysisPipeline.find(loan, AiPromptType.LOAN_ANALYZER, LoanAnalysisResponse.class);
+
+    // Assert
+    assertTrue(first.isEmpty());
+    verify(loanAnalysisWorker, times(1)).analyze(loan.getId(), LoanAnalysisPipeline.LOAN_ANALYSES);
+  }
+
+  @Test
+  @DisplayName("A discarded result should read as pending without scheduling the loan again")
+  void find_DiscardedResult_ShouldNotReschedule() {
+    // Arrange
+    LoanAnalysis discarded = stored(hash);
+    discarded.setDiscardReason("low_confidence");
+    when(loanAnalysisRepository.findByAnalysisTypeAndContextHash(AiPromptType.LOAN_ANALYZER, hash))
+        .thenReturn(Optional.of(discarded));
+    when(loanAnalysisRepository.findByAnalysisTypeAndContextHashIn(
+            eq(AiPromptType.LOAN_ANALYZER), anyCollection()))
+        .thenReturn(List.of(discarded));
+
+    // Act
+    Optional<LoanAnalysisResponse> result =
+        loanAnalysisPipeline.find(loan, AiPromptType.LOAN_ANALYZER, LoanAnalysisResponse.class);
+    Map<UUID, LoanAnalysisResponse> results =
+        loanAnalysisPipeline.findAll(
+            List.of(loan), AiPromptType.LOAN_ANALYZER, LoanAnalysisResponse.class);
+
+    // Assert
+    assertTrue(result.isEmpty());
+    assertTrue(results.isEmpty());
+    verifyNoInteractions(loanAnalysisWorker);
+  }
+
+  @Test
+  @DisplayName("Find all should look up a whole page with a single query")
+  void findAll_ShouldUseSingleLookup() {
+    // Arrange
+    Loan other =
+        Loan.builder()
+            .id(UUID.randomUUID())
+            .loanAmount(BigDecimal.valueOf(7_000_000))
+            .tenor(24)
+            .loanStatus(LoanStatus.SUBMITTED)
+            .build();
+    when(loanAnalysisRepository.findByAnalysisTypeAndContextHashIn(
+            eq(AiPromptType.LOAN_ANALYZER), anyCollection()))
+        .thenReturn(List.of(stored(hash)));
+    when(loanAnalysisWorker.analyze(other.getId(), LoanAnalysisPipeline.LOAN_ANALYSES))
+        .thenReturn(CompletableFuture.completedFuture(null));
+
+    // Act
+    Map<UUID, LoanAnalysisResponse> results =
+        loanAnalysisPipeline.findAll(
+            List.of(loan, other), AiPromptType.LOAN_ANALYZER, LoanAnalysisResponse.class);
+
+    // Assert
+    assertEquals(1, results.size());
+    assertEquals("ok", results.get(loan.getId()).getSummary());
+    verify(loanAnalysisRepository, times(1))
+        .findByAnalysisTypeAndContextHashIn(eq(AiPromptType.LOAN_ANALYZER), anyCollection());
+    verify(loanAnalysisWorker).analyze(other.getId(), LoanAnalysisPipeline.LOAN_ANALYSES);
+  }
+
+  @Test
+  @DisplayName("Status changes to a final status should not trigger analysis")
+  void onLoanStatusChanged_ShouldSkipFinalStatuses() {
+    // Act
+    loanAnalysisPipeline.onLoanStatusChanged(
+        new LoanStatusChangedEvent(loan.getId(), LoanStatus.REVIEWED, LoanStatus.REJECTED));
+
+    // Assert
+    verifyNoInteractions(loanAnalysisWorker);
+  }
+}
@@ -0,0 +1,147 @@
+package com.lofi.lofiapps.service.impl.usecase.ai;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lofi.lofiapps.entity.Loan;
+import com.lofi.lofiapps.entity.LoanAnalysis;
+import com.lofi.lofiapps.enums.AiPromptType;
+import com.lofi.lofiapps.enums.LoanStatus;
+import com.lofi.lofiapps.repository.LoanAnalysisRepository;
+import com.lofi.lofiapps.repository.LoanRepository;
+import com.lofi.lofiapps.service.AiModelClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class LoanAnalysisWorkerTest {
+
+  @Mock private LoanRepository loanRepository;
+  @Mock private LoanAnalysisRepository loanAnalysisRepository;
+  @Mock private AiModelClient aiModelClient;
+  @Mock private TransactionTemplate transactionTemplate;
+  @Spy private LoanAnalysisContextFactory contextFactory = new LoanAnalysisContextFactory();
+  @Spy private ObjectMapper objectMapper = new ObjectMapper();
+  @Spy private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @InjectMocks private LoanAnalysisWorker loanAnalysisWorker;
+
+  private Loan loan;
+
+  @BeforeEach
+  void setUp() {
+    loan =
+        Loan.builder()
+            .id(UUID.randomUUID())
+            .loanAmount(new BigDecimal("5000000.00"))
+            .tenor(12)
+            .loanStatus(LoanStatus.SUBMITTED)
+            .npwpNumber("12.345.678.9-012.345")
+            .accountNumber("1234567890")
+            .accountHolderName("Budi")
+            .build();
+    when(transactionTemplate.execute(any()))
+        .thenAnswer(inv -> ((TransactionCallback<?>) inv.getArgument(0)).doInTransaction(null));
+    when(loanRepository.findById(loan.getId())).thenReturn(Optional.of(loan));
+  }
+
+  @Test
+  @DisplayName("Analyze should store model output keyed by context hash")
+  void analyze_ShouldStoreResult() {
+    // Arrange
+    when(aiModelClient.complete(eq(AiPromptType.LOAN_ANALYZER), anyMap()))
+        .thenReturn("{\"confidence\":0.85,\"summary\":\"ok\"}");
+
+    // Act
+    loanAnalysisWorker.analyze(loan.getId(), List.of(AiPromptType.LOAN_ANALYZER));
+
+    // Assert
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<Map<String, String>> variables = ArgumentCaptor.forClass(Map.class);
+    verify(aiModelClient).complete(eq(AiPromptType.LOAN_ANALYZER), variables.capture());
+    String context = variables.getValue().get("loan_context");
+    assertTrue(context.contains("Loan amount: 5000000"));
+    assertFalse(context.contains("1234567890"));
+    assertFalse(context.contains("12.345.678.9"));
+    assertFalse(context.contains("Budi"));
+
+    ArgumentCaptor<LoanAnalysis> saved = ArgumentCaptor.forClass(LoanAnalysis.class);
+    verify(loanAnalysisRepository).save(saved.capture());
+    assertEquals(contextFactory.hash(context), saved.getValue().getContextHash());
+    assertEquals(0.85, saved.getValue().getConfidence());
+    assertFalse(saved.getValue().isDiscarded());
+  }
+
+  @Test
+  @DisplayName("Analyze should not call the model when a result already exists for the hash")
+  void analyze_ShouldSkipExistingResult() {
+    // Arrange
+    when(loanAnalysisRepository.existsByAnalysisTypeAndContextHash(
+            eq(AiPromptType.LOAN_ANALYZER), anyString()))
+        .thenReturn(true);
+
+    // Act
+    loanAnalysisWorker.analyze(loan.getId(), List.of(AiPromptType.LOAN_ANALYZER));
+
+    // Assert
+    verifyNoInteractions(aiModelClient);
+    verify(loanAnalysisRepository, never()).save(any());
+  }
+
+  @Test
+  @DisplayName("Analyze should record output containing forbidden keywords as discarded")
+  void analyze_ShouldDiscardForbiddenOutput() {
+    // Arrange
+    when(aiModelClient.complete(eq(AiPromptType.LOAN_ANALYZER), anyMap()))
+        .thenReturn("{\"confidence\":0.99,\"summary\":\"APPROVE_NOW\"}");
+
+    // Act
+    loanAnalysisWorker.analyze(loan.getId(), List.of(AiPromptType.LOAN_ANALYZER));
+
+    // Assert
+    ArgumentCaptor<LoanAnalysis> saved = ArgumentCaptor.forClass(LoanAnalysis.class);
+    verify(loanAnalysisRepository).save(saved.capture());
+    assertEquals("forbidden_keyword", saved.getValue().getDiscardReason());
+    assertTrue(saved.getValue().isDiscarded());
+  }
+
+  @Test
+  @DisplayName("Analyze should discard and count output below the confidence threshold")
+  void analyze_ShouldDiscardLowConfidenceOutput() {
+    // Arrange
+    when(aiModelClient.complete(eq(AiPromptType.LOAN_ANALYZER), anyMap()))
+        .thenReturn("{\"confidence\":0.55,\"summary\":\"unsure\"}");
+
+    // Act
+    loanAnalysisWorker.analyze(loan.getId(), List.of(AiPromptType.LOAN_ANALYZER));
+
+    // Assert
+    ArgumentCaptor<LoanAnalysis> saved = ArgumentCaptor.forClass(LoanAnalysis.class);
+    verify(loanAnalysisRepository).save(saved.capture());
+    assertEquals("low_confidence", saved.getValue().getDiscardReason());
+    assertEquals(0.55, saved.getValue().getConfidence());
+    assertEquals(
+        1.0,
+        meterRegistry
+            .counter(
+                "lofi.ai.analysis.discarded", "prompt", "LOAN_ANALYZER", "reason", "low_confidence")
+            .count());
+  }
+}
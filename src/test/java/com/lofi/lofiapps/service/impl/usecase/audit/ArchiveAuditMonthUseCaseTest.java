@@ -0,0 +1,177 @@
+package com.lofi.lofiapps.service.impl.usecase.audit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.lofi.lofiapps.entity.AuditLogArchive;
+import com.lofi.lofiapps.repository.AuditLogArchiveRepository;
+import com.lofi.lofiapps.repository.AuditLogRecord;
+import com.lofi.lofiapps.repository.AuditLogRepository;
+import com.lofi.lofiapps.service.StorageService;
+import com.lofi.lofiapps.service.StoredObject;
+import com.lofi.lofiapps.service.StoredObjectInfo;
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ArchiveAuditMonthUseCaseTest {
+
+  private static final YearMonth MONTH = YearMonth.of(2025, 3);
+  private static final String KEY = "audit-archive/audit_logs/2025/03/audit_logs-2025-03.ndjson.gz";
+
+  @Mock private AuditLogRepository auditLogRepository;
+  @Mock private AuditLogArchiveRepository auditLogArchiveRepository;
+  @Mock private StorageService storageService;
+
+  private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+  private final AtomicReference<byte[]> uploaded = new AtomicReference<>();
+  private ArchiveAuditMonthUseCase useCase;
+
+  @BeforeEach
+  void setUp() {
+    useCase =
+        new ArchiveAuditMonthUseCase(
+            auditLogRepository, auditLogArchiveRepository, storageService, objectMapper);
+    ReflectionTestUtils.setField(useCase, "bucketName", "lofi-bucket");
+    ReflectionTestUtils.setField(useCase, "prefix", "audit-archive");
+  }
+
+  private static AuditLogRecord record(int day) {
+    return new AuditLogRecord(
+        UUID.randomUUID(),
+        LocalDateTime.of(2025, 3, day, 12, 0),
+        "admin",
+        LocalDateTime.of(2025, 3, day, 12, 5),
+        "admin",
+        null,
+        UUID.randomUUID(),
+        "LOAN_APPROVED",
+        "Loan",
+        UUID.randomUUID(),
+        "LOAN",
+        "loan-" + day,
+        "approved",
+        null,
+        null,
+        "10.0.0.1",
+        "JUnit",
+        null);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void monthHolds(List<AuditLogRecord> rows) {
+    doAnswer(
+            invocation -> {
+              rows.forEach(invocation.<Consumer<AuditLogRecord>>getArgument(1));
+              return null;
+            })
+        .when(auditLogRepository)
+        .streamMonth(eq(MONTH), any(Consumer.class));
+  }
+
+  private void storageAccepts() {
+    when(storageService.uploadFileAsync(eq("lofi-bucket"), eq(KEY), any(Path.class), any()))
+        .thenAnswer(
+            invocation -> {
+              uploaded.set(Files.readAllBytes(invocation.<Path>getArgument(2)));
+              return CompletableFuture.completedFuture(null);
+            });
+    when(storageService.statObject("lofi-bucket", KEY))
+        .thenAnswer(
+            invocation -> new StoredObjectInfo(uploaded.get().length, "application/gzip", "etag"));
+  }
+
+  @Test
+  @DisplayName("Archiving should upload the month, record it and truncate the partition")
+  void execute_ShouldUploadRecordAndTruncate() throws Exception {
+    // Arrange
+    List<AuditLogRecord> rows = List.of(record(30), record(20), record(10));
+    monthHolds(rows);
+    storageAccepts();
+    when(auditLogRepository.countMonth(MONTH)).thenReturn(3L);
+    when(auditLogArchiveRepository.save(any(AuditLogArchive.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+
+    // Act
+    AuditLogArchive archive = useCase.execute(MONTH);
+
+    // Assert
+    assertEquals(LocalDate.of(2025, 3, 1), archive.getMonth());
+    assertEquals(KEY, archive.getObjectKey());
+    assertEquals(3, archive.getRowCount());
+    assertEquals(uploaded.get().length, archive.getSizeBytes());
+    verify(auditLogRepository).truncateMonth(MONTH);
+
+    // The object reads back through the archive reader, newest first
+    when(storageService.openObject("lofi-bucket", KEY, null))
+        .thenAnswer(
+            invocation ->
+                new StoredObject(
+                    new ByteArrayInputStream(uploaded.get()), "application/gzip", -1, null));
+    AuditLogArchiveReader reader = new AuditLogArchiveReader(storageService, objectMapper);
+    assertEquals(rows.subList(1, 3), reader.read(archive, null, null, 1, 5));
+    assertEquals(2, reader.count(archive, LocalDateTime.of(2025, 3, 15, 0, 0), LocalDateTime.MAX));
+  }
+
+  @Test
+  @DisplayName("Archiving should refuse to truncate when rows arrived after the export")
+  void execute_CountMismatch_ShouldNotTruncate() {
+    // Arrange
+    monthHolds(List.of(record(2)));
+    storageAccepts();
+    when(auditLogRepository.countMonth(MONTH)).thenReturn(2L);
+
+    // Act & Assert
+    assertThrows(IllegalStateException.class, () -> useCase.execute(MONTH));
+    verify(auditLogArchiveRepository, never()).save(any());
+    verify(auditLogRepository, never()).truncateMonth(any());
+  }
+
+  @Test
+  @DisplayName("Archiving should refuse to truncate when storage holds a different size")
+  void execute_SizeMismatch_ShouldNotTruncate() {
+    // Arrange
+    monthHolds(List.of(record(2)));
+    when(storageService.uploadFileAsync(eq("lofi-bucket"), eq(KEY), any(Path.class), any()))
+        .thenReturn(CompletableFuture.completedFuture(null));
+    when(storageService.statObject("lofi-bucket", KEY))
+        .thenReturn(new StoredObjectInfo(1, "application/gzip", "etag"));
+
+    // Act & Assert
+    assertThrows(IllegalStateException.class, () -> useCase.execute(MONTH));
+    verify(auditLogRepository, never()).truncateMonth(any());
+  }
+
+  @Test
+  @DisplayName("An empty month should upload nothing")
+  void execute_EmptyMonth_ShouldSkip() throws Exception {
+    // Arrange
+    monthHolds(List.of());
+
+    // Act
+    AuditLogArchive archive = useCase.execute(MONTH);
+
+    // Assert
+    assertNull(archive);
+    verifyNoInteractions(storageService, auditLogArchiveRepository);
+  }
+}
@@ -0,0 +1,208 @@
+package com.lofi.lofiapps.service.impl.usecase.audit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.lofi.lofiapps.entity.AuditLogArchive;
+import com.lofi.lofiapps.repository.AuditLogArchiveRepository;
+import com.lofi.lofiapps.repository.AuditLogRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Lock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.integration.redis.util.RedisLockRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class AuditLogArchiverTest {
+
+  private static final YearMonth NOW = YearMonth.of(2025, 7);
+
+  @Mock private AuditLogRepository auditLogRepository;
+  @Mock private AuditLogArchiveRepository auditLogArchiveRepository;
+  @Mock private ArchiveAuditMonthUseCase archiveAuditMonthUseCase;
+  @Mock private RedisLockRegistry redisLockRegistry;
+  @Mock private Lock lock;
+
+  private AuditLogArchiver archiver;
+
+  @BeforeEach
+  void setUp() {
+    archiver =
+        new AuditLogArchiver(
+            auditLogRepository,
+            auditLogArchiveRepository,
+            archiveAuditMonthUseCase,
+            redisLockRegistry,
+            new SimpleMeterRegistry(),
+            Clock.fixed(Instant.parse("2025-07-10T02:30:00Z"), ZoneOffset.UTC));
+    ReflectionTestUtils.setField(archiver, "enabled", true);
+    ReflectionTestUtils.setField(archiver, "hotMonths", 3);
+    ReflectionTestUtils.setField(archiver, "monthsAhead", 3);
+    ReflectionTestUtils.setField(archiver, "maxRunMinutes", 60L);
+    when(redisLockRegistry.obtain(AuditLogArchiver.LOCK_KEY)).thenReturn(lock);
+  }
+
+  private static TreeMap<YearMonth, Long> months(YearMonth... months) {
+    TreeMap<YearMonth, Long> rows = new TreeMap<>();
+    for (YearMonth month : months) {
+      rows.put(month, 100L);
+    }
+    return rows;
+  }
+
+  private static AuditLogArchive archived(YearMonth month) {
+    return AuditLogArchive.builder().month(month.atDay(1)).rowCount(100).sizeBytes(10).build();
+  }
+
+  @Test
+  @DisplayName("Another instance holding the lock should make the run a no-op")
+  void archiveClosedMonths_LockHeld_ShouldSkip() {
+    // Arrange
+    when(lock.tryLock()).thenReturn(false);
+
+    // Act
+    archiver.archiveClosedMonths();
+
+    // Assert
+    verifyNoInteractions(auditLogRepository, archiveAuditMonthUseCase);
+    verify(lock, never()).unlock();
+  }
+
+  @Test
+  @DisplayName("Months older than the hot window should be archived oldest first and merged")
+  void archiveClosedMonths_ShouldArchiveColdMonthsOldestFirst() throws Exception {
+    // Arrange
+    when(lock.tryLock()).thenReturn(true);
+    when(auditLogRepository.isPartitioned()).thenReturn(true);
+    YearMonth february = YearMonth.of(2025, 2);
+    YearMonth march = YearMonth.of(2025, 3);
+    when(auditLogRepository.monthsWithRows())
+        .thenReturn(months(february, march, NOW.minusMonths(3), NOW.minusMonths(1), NOW));
+    when(archiveAuditMonthUseCase.execute(any()))
+        .thenAnswer(invocation -> archived(invocation.getArgument(0)));
+
+    // Act
+    archiver.archiveClosedMonths();
+
+    // Assert
+    InOrder order = inOrder(auditLogRepository, archiveAuditMonthUseCase);
+    order.verify(auditLogRepository).ensureBoundaries(YearMonth.of(2025, 10));
+    order.verify(archiveAuditMonthUseCase).execute(february);
+    order.verify(auditLogRepository).mergeBoundary(february);
+    order.verify(archiveAuditMonthUseCase).execute(march);
+    order.verify(auditLogRepository).mergeBoundary(march);
+    verifyNoMoreInteractions(archiveAuditMonthUseCase);
+    verify(lock).unlock();
+  }
+
+  @Test
+  @DisplayName("A failed month should stop the run so later months wait for it")
+  void archiveClosedMonths_Failure_ShouldStop() throws Exception {
+    // Arrange
+    when(lock.tryLock()).thenReturn(true);
+    when(auditLogRepository.isPartitioned()).thenReturn(true);
+    YearMonth february = YearMonth.of(2025, 2);
+    when(auditLogRepository.monthsWithRows()).thenReturn(months(february, YearMonth.of(2025, 3)));
+    when(archiveAuditMonthUseCase.execute(february))
+        .thenThrow(new IllegalStateException("count mismatch"));
+
+    // Act
+    archiver.archiveClosedMonths();
+
+    // Assert
+    verify(archiveAuditMonthUseCase, times(1)).execute(any());
+    verify(auditLogRepository, never()).mergeBoundary(any());
+    verify(lock).unlock();
+  }
+
+  @Test
+  @DisplayName("A month that is already in the archive should be left alone")
+  void archiveClosedMonths_AlreadyArchived_ShouldSkipMonth() throws Exception {
+    // Arrange
+    when(lock.tryLock()).thenReturn(true);
+    when(auditLogRepository.isPartitioned()).thenReturn(true);
+    YearMonth february = YearMonth.of(2025, 2);
+    when(auditLogRepository.monthsWithRows()).thenReturn(months(february));
+    when(auditLogArchiveRepository.existsByMonth(LocalDate.of(2025, 2, 1))).thenReturn(true);
+
+    // Act
+    archiver.archiveClosedMonths();
+
+    // Assert
+    verify(archiveAuditMonthUseCase, never()).execute(any());
+  }
+
+  @Test
+  @DisplayName("An unpartitioned table should be left for the admin-triggered conversion")
+  void archiveClosedMonths_NotPartitioned_ShouldSkip() throws Exception {
+    // Arrange
+    when(lock.tryLock()).thenReturn(true);
+    when(auditLogRepository.isPartitioned()).thenReturn(false);
+
+    // Act
+    archiver.archiveClosedMonths();
+
+    // Assert
+    verify(auditLogRepository, never()).ensurePartitioned(any());
+    verify(auditLogRepository, never()).monthsWithRows();
+    verifyNoInteractions(archiveAuditMonthUseCase);
+    verify(lock).unlock();
+  }
+
+  @Test
+  @DisplayName("A run past its time budget should leave the remaining months for the next run")
+  void archiveClosedMonths_BudgetSpent_ShouldStop() throws Exception {
+    // Arrange
+    ReflectionTestUtils.setField(archiver, "maxRunMinutes", 0L);
+    when(lock.tryLock()).thenReturn(true);
+    when(auditLogRepository.isPartitioned()).thenReturn(true);
+    when(auditLogRepository.monthsWithRows()).thenReturn(months(YearMonth.of(2025, 2)));
+
+    // Act
+    archiver.archiveClosedMonths();
+
+    // Assert
+    verifyNoInteractions(archiveAuditMonthUseCase);
+    verify(lock).unlock();
+  }
+
+  @Test
+  @DisplayName("The admin conversion should partition through the months ahead")
+  void partition_ShouldConvertTable() {
+    // Arrange
+    when(lock.tryLock()).thenReturn(true);
+    when(auditLogRepository.ensurePartitioned(YearMonth.of(2025, 10))).thenReturn(true);
+
+    // Act
+    boolean converted = archiver.partition();
+
+    // Assert
+    assertTrue(converted);
+    verify(auditLogRepository, never()).ensureBoundaries(any());
+    verify(lock).unlock();
+  }
+
+  @Test
+  @DisplayName("The admin conversion should refuse to run next to another maintenance run")
+  void partition_LockHeld_ShouldThrow() {
+    // Arrange
+    when(lock.tryLock()).thenReturn(false);
+
+    // Act & Assert
+    assertThrows(IllegalStateException.class, () -> archiver.partition());
+    verifyNoInteractions(auditLogRepository);
+  }
+}
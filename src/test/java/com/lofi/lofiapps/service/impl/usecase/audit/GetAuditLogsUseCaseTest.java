@@ -0,0 +1,197 @@
+package com.lofi.lofiapps.service.impl.usecase.audit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.lofi.lofiapps.dto.response.AuditLogResponse;
+import com.lofi.lofiapps.dto.response.PagedResponse;
+import com.lofi.lofiapps.entity.AuditLog;
+import com.lofi.lofiapps.entity.AuditLogArchive;
+import com.lofi.lofiapps.repository.AuditLogArchiveRepository;
+import com.lofi.lofiapps.repository.AuditLogRecord;
+import com.lofi.lofiapps.repository.AuditLogRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+@ExtendWith(MockitoExtension.class)
+class GetAuditLogsUseCaseTest {
+
+  private static final Pageable NEWEST_FIRST =
+      PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "createdAt"));
+  private static final Pageable NEWEST_FIRST_BY_ID =
+      PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+
+  @Mock private AuditLogRepository auditLogRepository;
+  @Mock private AuditLogArchiveRepository auditLogArchiveRepository;
+  @Mock private AuditLogArchiveReader auditLogArchiveReader;
+
+  @InjectMocks private GetAuditLogsUseCase useCase;
+
+  private static AuditLog hot(String action) {
+    return AuditLog.builder()
+        .id(UUID.randomUUID())
+        .action(action)
+        .createdAt(LocalDateTime.of(2025, 6, 1, 0, 0))
+        .build();
+  }
+
+  private static AuditLogRecord archived(String action) {
+    return new AuditLogRecord(
+        UUID.randomUUID(),
+        LocalDateTime.of(2025, 1, 1, 0, 0),
+        null,
+        null,
+        null,
+        null,
+        null,
+        action,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null);
+  }
+
+  private static AuditLogArchive archive(int month, long rows) {
+    return AuditLogArchive.builder()
+        .month(LocalDate.of(2025, month, 1))
+        .bucketName("lofi-bucket")
+        .objectKey("audit-archive/2025-" + month)
+        .rowCount(rows)
+        .build();
+  }
+
+  @SuppressWarnings("unchecked")
+  private void hotRows(long count, List<AuditLog> page) {
+    when(auditLogRepository.count(any(Specification.class))).thenReturn(count);
+    lenient()
+        .when(auditLogRepository.findAll(any(Specification.class), any(Pageable.class)))
+        .thenReturn(new PageImpl<>(page));
+  }
+
+  @Test
+  @DisplayName("Without archived months the table should be paged directly")
+  @SuppressWarnings("unchecked")
+  void execute_NoArchives_ShouldPageTable() {
+    // Arrange
+    when(auditLogArchiveRepository.findByMonthBetweenOrderByMonthDesc(any(), any()))
+        .thenReturn(List.of());
+    when(auditLogRepository.findAll(any(Specification.class), eq(NEWEST_FIRST_BY_ID)))
+        .thenReturn(new PageImpl<>(List.of(hot("LOGIN")), NEWEST_FIRST_BY_ID, 1));
+
+    // Act
+    PagedResponse<AuditLogResponse> result = useCase.execute(null, null, NEWEST_FIRST);
+
+    // Assert
+    assertEquals(1, result.getItems().size());
+    assertEquals(1, result.getMeta().getTotalItems());
+    verify(auditLogRepository, never()).count(any(Specification.class));
+    verifyNoInteractions(auditLogArchiveReader);
+  }
+
+  @Test
+  @DisplayName("A page that runs past the table should continue into the newest archived month")
+  @SuppressWarnings("unchecked")
+  void execute_PageSpansTableAndArchive_ShouldFillFromArchive() {
+    // Arrange
+    AuditLogArchive march = archive(3, 10);
+    when(auditLogArchiveRepository.findByMonthBetweenOrderByMonthDesc(any(), any()))
+        .thenReturn(List.of(march));
+    hotRows(3, List.of(hot("A"), hot("B"), hot("C")));
+    when(auditLogArchiveReader.read(march, null, null, 0, 2))
+        .thenReturn(List.of(archived("D"), archived("E")));
+
+    // Act
+    PagedResponse<AuditLogResponse> result = useCase.execute(null, null, NEWEST_FIRST);
+
+    // Assert
+    assertEquals(
+        List.of("A", "B", "C", "D", "E"),
+        result.getItems().stream().map(AuditLogResponse::getAction).toList());
+    assertEquals(13, result.getMeta().getTotalItems());
+    assertEquals(3, result.getMeta().getTotalPages());
+    verify(auditLogArchiveReader, never()).count(any(), any(), any());
+    verify(auditLogRepository).findAll(any(Specification.class), eq(NEWEST_FIRST_BY_ID));
+  }
+
+  @Test
+  @DisplayName("Deep pages should skip whole archived months by their manifest count")
+  @SuppressWarnings("unchecked")
+  void execute_DeepPage_ShouldSkipWholeMonths() {
+    // Arrange
+    AuditLogArchive march = archive(3, 10);
+    AuditLogArchive february = archive(2, 10);
+    when(auditLogArchiveRepository.findByMonthBetweenOrderByMonthDesc(any(), any()))
+        .thenReturn(List.of(march, february));
+    hotRows(3, List.of());
+    List<AuditLogRecord> page = IntStream.range(0, 5).mapToObj(i -> archived("F" + i)).toList();
+    when(auditLogArchiveReader.read(february, null, null, 2, 5)).thenReturn(page);
+
+    // Act
+    PagedResponse<AuditLogResponse> result =
+        useCase.execute(
+            null, null, PageRequest.of(3, 5, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+    // Assert
+    assertEquals(5, result.getItems().size());
+    verify(auditLogArchiveReader, never()).read(eq(march), any(), any(), anyLong(), anyInt());
+    verify(auditLogRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+  }
+
+  @Test
+  @DisplayName("A range that cuts an archived month should count that month by scanning it")
+  void execute_PartialMonth_ShouldCountByScan() {
+    // Arrange
+    LocalDateTime from = LocalDateTime.of(2025, 3, 15, 0, 0);
+    AuditLogArchive march = archive(3, 10);
+    when(auditLogArchiveRepository.findByMonthBetweenOrderByMonthDesc(
+            LocalDate.of(2025, 3, 1), LocalDate.of(9999, 12, 1)))
+        .thenReturn(List.of(march));
+    hotRows(0, List.of());
+    when(auditLogArchiveReader.count(march, from, null)).thenReturn(4L);
+    when(auditLogArchiveReader.read(march, from, null, 0, 5)).thenReturn(List.of());
+
+    // Act
+    PagedResponse<AuditLogResponse> result = useCase.execute(from, null, NEWEST_FIRST);
+
+    // Assert
+    assertEquals(4, result.getMeta().getTotalItems());
+  }
+
+  @Test
+  @DisplayName("Sorting by anything but newest first should only cover the table")
+  @SuppressWarnings("unchecked")
+  void execute_OtherSort_ShouldStayOnTable() {
+    // Arrange
+    Pageable byAction = PageRequest.of(0, 5, Sort.by("action"));
+    when(auditLogRepository.findAll(any(Specification.class), eq(byAction)))
+        .thenReturn(new PageImpl<>(List.of(hot("LOGIN")), byAction, 1));
+
+    // Act
+    PagedResponse<AuditLogResponse> result = useCase.execute(null, null, byAction);
+
+    // Assert
+    assertEquals(1, result.getItems().size());
+    verifyNoInteractions(auditLogArchiveRepository, auditLogArchiveReader);
+  }
+}
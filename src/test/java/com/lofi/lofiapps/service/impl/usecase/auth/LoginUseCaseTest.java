@@ -2,20 +2,22 @@ package com.lofi.lofiapps.service.impl.usecase.auth;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import com.lofi.lofiapps.dto.request.LoginRequest;
 import com.lofi.lofiapps.dto.response.LoginResponse;
-import com.lofi.lofiapps.entity.RefreshToken;
 import com.lofi.lofiapps.entity.User;
-import com.lofi.lofiapps.repository.RefreshTokenRepository;
 import com.lofi.lofiapps.repository.UserRepository;
 import com.lofi.lofiapps.security.jwt.JwtUtils;
+import com.lofi.lofiapps.security.service.CredentialHasher;
+import com.lofi.lofiapps.security.service.RefreshTokenService;
 import com.lofi.lofiapps.security.service.UserPrincipal;
 import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -33,9 +35,11 @@ class LoginUseCaseTest {
 
   @Mock private AuthenticationManager authenticationManager;
 
+  @Mock private CredentialHasher credentialHasher;
+
   @Mock private JwtUtils jwtUtils;
 
-  @Mock private RefreshTokenRepository refreshTokenRepository;
+  @Mock private RefreshTokenService refreshTokenService;
 
   @Mock private UserRepository userRepository;
 
@@ -46,6 +50,10 @@ class LoginUseCaseTest {
 
   @BeforeEach
   void setUp() {
+    // Run the hashing pool's work inline
+    lenient()
+        .when(credentialHasher.run(eq("authenticate"), any()))
+        .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
     testUserId = UUID.randomUUID();
     testUserPrincipal =
         new UserPrincipal(
@@ -74,12 +82,7 @@ class LoginUseCaseTest {
 
     when(jwtUtils.generateJwtToken(authentication)).thenReturn("access-token");
     when(jwtUtils.getExpirationFromJwtToken("access-token")).thenReturn(3600000L);
-    when(jwtUtils.generateRefreshToken(authentication)).thenReturn("refresh-token");
-    when(jwtUtils.getExpirationFromJwtToken("refresh-token")).thenReturn(604800000L);
-
-    doNothing().when(refreshTokenRepository).deleteByUserId(testUserId);
-    when(refreshTokenRepository.save(any(RefreshToken.class)))
-        .thenAnswer(invocation -> invocation.getArgument(0));
+    when(refreshTokenService.issue(authentication)).thenReturn("refresh-token");
 
     // Mock user retrieval for pin/profile status
     User user = User.builder().id(testUserId).pinSet(true).profileCompleted(true).build();
@@ -100,9 +103,7 @@ class LoginUseCaseTest {
     verify(authenticationManager, times(1))
         .authenticate(any(UsernamePasswordAuthenticationToken.class));
     verify(jwtUtils, times(1)).generateJwtToken(authentication);
-    verify(jwtUtils, times(1)).generateRefreshToken(authentication);
-    verify(refreshTokenRepository, times(1)).deleteByUserId(testUserId);
-    verify(refreshTokenRepository, times(1)).save(any(RefreshToken.class));
+    verify(refreshTokenService, times(1)).issue(authentication);
     verify(userRepository, times(1)).findById(testUserId);
   }
 
@@ -122,12 +123,7 @@ class LoginUseCaseTest {
 
     when(jwtUtils.generateJwtToken(authentication)).thenReturn("access-token");
     when(jwtUtils.getExpirationFromJwtToken("access-token")).thenReturn(3600000L);
-    when(jwtUtils.generateRefreshToken(authentication)).thenReturn("refresh-token");
-    when(jwtUtils.getExpirationFromJwtToken("refresh-token")).thenReturn(604800000L);
-
-    doNothing().when(refreshTokenRepository).deleteByUserId(testUserId);
-    when(refreshTokenRepository.save(any(RefreshToken.class)))
-        .thenAnswer(invocation -> invocation.getArgument(0));
+    when(refreshTokenService.issue(authentication)).thenReturn("refresh-token");
 
     User user = User.builder().id(testUserId).email("test@example.com").build();
     when(userRepository.findById(testUserId)).thenReturn(Optional.of(user));
@@ -159,7 +155,7 @@ class LoginUseCaseTest {
     verify(authenticationManager, times(1))
         .authenticate(any(UsernamePasswordAuthenticationToken.class));
     verify(jwtUtils, never()).generateJwtToken(any());
-    verify(refreshTokenRepository, never()).save(any());
+    verify(refreshTokenService, never()).issue(any());
   }
 
   @Test
@@ -178,12 +174,7 @@ class LoginUseCaseTest {
 
     when(jwtUtils.generateJwtToken(authentication)).thenReturn("access-token");
     when(jwtUtils.getExpirationFromJwtToken("access-token")).thenReturn(3600000L);
-    when(jwtUtils.generateRefreshToken(authentication)).thenReturn("refresh-token");
-    when(jwtUtils.getExpirationFromJwtToken("refresh-token")).thenReturn(604800000L);
-
-    doNothing().when(refreshTokenRepository).deleteByUserId(testUserId);
-    when(refreshTokenRepository.save(any(RefreshToken.class)))
-        .thenAnswer(invocation -> invocation.getArgument(0));
+    when(refreshTokenService.issue(authentication)).thenReturn("refresh-token");
 
     // Act
     LoginResponse result = loginUseCase.execute(request);
@@ -195,8 +186,8 @@ class LoginUseCaseTest {
   }
 
   @Test
-  @DisplayName("Execute should revoke existing refresh tokens")
-  void execute_ShouldRevokeExistingTokens() {
+  @DisplayName("Execute should start a new refresh token family")
+  void execute_ShouldStartNewRefreshFamily() {
     // Arrange
     LoginRequest request = new LoginRequest();
     request.setEmail("test@example.com");
@@ -209,17 +200,31 @@ class LoginUseCaseTest {
 
     when(jwtUtils.generateJwtToken(authentication)).thenReturn("access-token");
     when(jwtUtils.getExpirationFromJwtToken("access-token")).thenReturn(3600000L);
-    when(jwtUtils.generateRefreshToken(authentication)).thenReturn("refresh-token");
-    when(jwtUtils.getExpirationFromJwtToken("refresh-token")).thenReturn(604800000L);
-
-    doNothing().when(refreshTokenRepository).deleteByUserId(testUserId);
-    when(refreshTokenRepository.save(any(RefreshToken.class)))
-        .thenAnswer(invocation -> invocation.getArgument(0));
+    when(refreshTokenService.issue(authentication)).thenReturn("refresh-token");
 
     // Act
     loginUseCase.execute(request);
 
     // Assert
-    verify(refreshTokenRepository, times(1)).deleteByUserId(testUserId);
+    verify(refreshTokenService, times(1)).issue(authentication);
+  }
+
+  @Test
+  @DisplayName("Execute should authenticate on the credential hashing pool")
+  void execute_ShouldAuthenticateOnHashingPool() {
+    // Arrange
+    LoginRequest request = new LoginRequest();
+    request.setEmail("test@example.com");
+    request.setPassword("password123");
+
+    when(credentialHasher.run(eq("authenticate"), any()))
+        .thenThrow(new com.lofi.lofiapps.exception.CredentialHashingBusyException());
+
+    // Act & Assert
+    assertThrows(
+        com.lofi.lofiapps.exception.CredentialHashingBusyException.class,
+        () -> loginUseCase.execute(request));
+    verify(authenticationManager, never()).authenticate(any());
+    verify(refreshTokenService, never()).issue(any());
   }
 }
@@ -5,16 +5,15 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import com.lofi.lofiapps.dto.response.LoginResponse;
-import com.lofi.lofiapps.entity.RefreshToken;
 import com.lofi.lofiapps.entity.Role;
 import com.lofi.lofiapps.entity.User;
 import com.lofi.lofiapps.enums.RoleName;
 import com.lofi.lofiapps.enums.UserStatus;
-import com.lofi.lofiapps.repository.RefreshTokenRepository;
 import com.lofi.lofiapps.repository.UserRepository;
 import com.lofi.lofiapps.security.jwt.JwtUtils;
-import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import com.lofi.lofiapps.security.permission.PermissionCatalog;
+import com.lofi.lofiapps.security.permission.PermissionIndex;
+import com.lofi.lofiapps.security.service.RefreshTokenService;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.UUID;
@@ -30,15 +29,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class RefreshTokenUseCaseTest {
 
   @Mock private JwtUtils jwtUtils;
-  @Mock private RefreshTokenRepository refreshTokenRepository;
+  @Mock private RefreshTokenService refreshTokenService;
   @Mock private UserRepository userRepository;
+  @Mock private PermissionCatalog permissionCatalog;
 
   @InjectMocks private RefreshTokenUseCase refreshTokenUseCase;
 
   private String validRefreshToken;
   private UUID userId;
   private User testUser;
-  private RefreshToken refreshTokenEntity;
 
   @BeforeEach
   void setUp() {
@@ -56,25 +55,17 @@ class RefreshTokenUseCaseTest {
             .status(UserStatus.ACTIVE)
             .roles(Collections.singleton(customerRole))
             .build();
-
-    refreshTokenEntity =
-        RefreshToken.builder()
-            .id(UUID.randomUUID())
-            .token(validRefreshToken)
-            .user(testUser)
-            .expiryDate(Instant.now().plus(7, ChronoUnit.DAYS))
-            .revoked(false)
-            .build();
   }
 
   @Test
-  @DisplayName("Execute should return new access token with valid refresh token")
+  @DisplayName("Execute should return new access token and the rotated refresh token")
   void execute_ShouldReturnNewAccessToken_WithValidRefreshToken() {
     // Arrange
     when(jwtUtils.validateJwtToken(validRefreshToken)).thenReturn(true);
-    when(refreshTokenRepository.findByToken(validRefreshToken))
-        .thenReturn(Optional.of(refreshTokenEntity));
+    when(refreshTokenService.rotate(validRefreshToken))
+        .thenReturn(new RefreshTokenService.Rotation(userId, "rotated.refresh.token"));
     when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
+    when(permissionCatalog.current()).thenReturn(PermissionIndex.EMPTY);
 
     String newAccessToken = "new.access.token";
     when(jwtUtils.generateJwtToken(any())).thenReturn(newAccessToken);
@@ -86,7 +77,7 @@ class RefreshTokenUseCaseTest {
     // Assert
     assertNotNull(result);
     assertEquals(newAccessToken, result.getAccessToken());
-    assertEquals(validRefreshToken, result.getRefreshToken());
+    assertEquals("rotated.refresh.token", result.getRefreshToken());
     assertEquals("Bearer", result.getTokenType());
     assertEquals(3600, result.getExpiresIn());
   }
@@ -94,11 +85,11 @@ class RefreshTokenUseCaseTest {
   @Test
   @DisplayName("Execute should throw exception when token is null")
   void execute_ShouldThrowException_WhenTokenIsNull() {
-    // Arrange
     // Act & Assert
     IllegalArgumentException exception =
         assertThrows(IllegalArgumentException.class, () -> refreshTokenUseCase.execute(null));
     assertEquals("Invalid Refresh Token", exception.getMessage());
+    verifyNoInteractions(refreshTokenService);
   }
 
   @Test
@@ -113,68 +104,24 @@ class RefreshTokenUseCaseTest {
         assertThrows(
             IllegalArgumentException.class, () -> refreshTokenUseCase.execute(invalidToken));
     assertEquals("Invalid Refresh Token", exception.getMessage());
+    verifyNoInteractions(refreshTokenService);
   }
 
   @Test
-  @DisplayName("Execute should throw exception when token not found in database")
-  void execute_ShouldThrowException_WhenTokenNotFoundInDatabase() {
-    // Arrange
-    when(jwtUtils.validateJwtToken(validRefreshToken)).thenReturn(true);
-    when(refreshTokenRepository.findByToken(validRefreshToken)).thenReturn(Optional.empty());
-
-    // Act & Assert
-    IllegalArgumentException exception =
-        assertThrows(
-            IllegalArgumentException.class, () -> refreshTokenUseCase.execute(validRefreshToken));
-    assertEquals("Refresh Token not found in DB", exception.getMessage());
-  }
-
-  @Test
-  @DisplayName("Execute should throw exception when token is revoked")
-  void execute_ShouldThrowException_WhenTokenIsRevoked() {
+  @DisplayName("Execute should propagate a rejected rotation without loading the user")
+  void execute_ShouldPropagateRejectedRotation() {
     // Arrange
-    RefreshToken revokedToken =
-        RefreshToken.builder()
-            .id(UUID.randomUUID())
-            .token(validRefreshToken)
-            .user(testUser)
-            .expiryDate(Instant.now().plus(7, ChronoUnit.DAYS))
-            .revoked(true)
-            .build();
-
-    when(jwtUtils.validateJwtToken(validRefreshToken)).thenReturn(true);
-    when(refreshTokenRepository.findByToken(validRefreshToken))
-        .thenReturn(Optional.of(revokedToken));
-
-    // Act & Assert
-    IllegalArgumentException exception =
-        assertThrows(
-            IllegalArgumentException.class, () -> refreshTokenUseCase.execute(validRefreshToken));
-    assertEquals("Refresh Token Revoked (AUTH_REFRESH_TOKEN_REVOKED)", exception.getMessage());
-  }
-
-  @Test
-  @DisplayName("Execute should throw exception when token is expired")
-  void execute_ShouldThrowException_WhenTokenIsExpired() {
-    // Arrange
-    RefreshToken expiredToken =
-        RefreshToken.builder()
-            .id(UUID.randomUUID())
-            .token(validRefreshToken)
-            .user(testUser)
-            .expiryDate(Instant.now().minus(1, ChronoUnit.DAYS))
-            .revoked(false)
-            .build();
-
     when(jwtUtils.validateJwtToken(validRefreshToken)).thenReturn(true);
-    when(refreshTokenRepository.findByToken(validRefreshToken))
-        .thenReturn(Optional.of(expiredToken));
+    when(refreshTokenService.rotate(validRefreshToken))
+        .thenThrow(
+            new IllegalArgumentException("Refresh Token Reused (AUTH_REFRESH_TOKEN_REUSED)"));
 
     // Act & Assert
     IllegalArgumentException exception =
         assertThrows(
             IllegalArgumentException.class, () -> refreshTokenUseCase.execute(validRefreshToken));
-    assertEquals("Refresh Token Expired (AUTH_REFRESH_TOKEN_EXPIRED)", exception.getMessage());
+    assertEquals("Refresh Token Reused (AUTH_REFRESH_TOKEN_REUSED)", exception.getMessage());
+    verifyNoInteractions(userRepository);
   }
 
   @Test
@@ -182,8 +129,8 @@ class RefreshTokenUseCaseTest {
   void execute_ShouldThrowException_WhenUserNotFound() {
     // Arrange
     when(jwtUtils.validateJwtToken(validRefreshToken)).thenReturn(true);
-    when(refreshTokenRepository.findByToken(validRefreshToken))
-        .thenReturn(Optional.of(refreshTokenEntity));
+    when(refreshTokenService.rotate(validRefreshToken))
+        .thenReturn(new RefreshTokenService.Rotation(userId, "rotated.refresh.token"));
     when(userRepository.findById(userId)).thenReturn(Optional.empty());
 
     // Act & Assert
@@ -13,6 +13,7 @@ import com.lofi.lofiapps.enums.RoleName;
 import com.lofi.lofiapps.enums.UserStatus;
 import com.lofi.lofiapps.repository.RoleRepository;
 import com.lofi.lofiapps.repository.UserRepository;
+import com.lofi.lofiapps.security.service.CredentialHasher;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,14 +22,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 @ExtendWith(MockitoExtension.class)
 class RegisterUseCaseTest {
 
   @Mock private UserRepository userRepository;
   @Mock private RoleRepository roleRepository;
-  @Mock private PasswordEncoder passwordEncoder;
+  @Mock private CredentialHasher credentialHasher;
   @Mock private LoginUseCase loginUseCase;
 
   @InjectMocks private RegisterUseCase registerUseCase;
@@ -56,7 +56,7 @@ class RegisterUseCaseTest {
         Role.builder().id(java.util.UUID.randomUUID()).name(RoleName.ROLE_CUSTOMER).build();
     when(roleRepository.findByName(RoleName.ROLE_CUSTOMER)).thenReturn(Optional.of(customerRole));
 
-    when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+    when(credentialHasher.encode(anyString())).thenReturn("encodedPassword");
     when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
     LoginResponse expectedResponse =
@@ -126,7 +126,7 @@ class RegisterUseCaseTest {
         Role.builder().name(RoleName.ROLE_CUSTOMER).description("Default customer role").build();
     when(roleRepository.save(any(Role.class))).thenReturn(newRole);
 
-    when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+    when(credentialHasher.encode(anyString())).thenReturn("encodedPassword");
     when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
     LoginResponse expectedResponse =
@@ -158,7 +158,7 @@ class RegisterUseCaseTest {
         Role.builder().id(java.util.UUID.randomUUID()).name(RoleName.ROLE_CUSTOMER).build();
     when(roleRepository.findByName(RoleName.ROLE_CUSTOMER)).thenReturn(Optional.of(customerRole));
 
-    when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword123");
+    when(credentialHasher.encode(anyString())).thenReturn("encodedPassword123");
     when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
     LoginResponse expectedResponse = LoginResponse.builder().accessToken("token").build();
@@ -168,7 +168,7 @@ class RegisterUseCaseTest {
     registerUseCase.execute(validRequest);
 
     // Assert
-    verify(passwordEncoder).encode(validRequest.getPassword());
+    verify(credentialHasher).encode(validRequest.getPassword());
   }
 
   @Test
@@ -182,7 +182,7 @@ class RegisterUseCaseTest {
         Role.builder().id(java.util.UUID.randomUUID()).name(RoleName.ROLE_CUSTOMER).build();
     when(roleRepository.findByName(RoleName.ROLE_CUSTOMER)).thenReturn(Optional.of(customerRole));
 
-    when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+    when(credentialHasher.encode(anyString())).thenReturn("encodedPassword");
 
     User savedUser =
         User.builder()
@@ -0,0 +1,105 @@
+package com.lofi.lofiapps.service.impl.usecase.document;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.lofi.lofiapps.entity.Document;
+import com.lofi.lofiapps.exception.ResourceNotFoundException;
+import com.lofi.lofiapps.repository.DocumentRepository;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CompleteDocumentUploadUseCaseTest {
+
+  @Mock private DocumentRepository documentRepository;
+  @Mock private DocumentVerificationWorker verificationWorker;
+
+  @InjectMocks private CompleteDocumentUploadUseCase completeDocumentUploadUseCase;
+
+  private final UUID userId = UUID.randomUUID();
+
+  private Document document(UUID owner, boolean verified) {
+    return Document.builder().id(UUID.randomUUID()).uploadedBy(owner).verified(verified).build();
+  }
+
+  @Test
+  @DisplayName("Complete upload should queue verification for unverified documents only")
+  void execute_ShouldQueueUnverified() {
+    // Arrange
+    Document pending = document(userId, false);
+    Document done = document(userId, true);
+    when(documentRepository.findAllById(anyCollection())).thenReturn(List.of(pending, done));
+
+    // Act
+    completeDocumentUploadUseCase.execute(List.of(pending.getId(), done.getId()), userId);
+
+    // Assert
+    verify(verificationWorker).verify(pending.getId());
+    verify(verificationWorker, never()).verify(done.getId());
+  }
+
+  @Test
+  @DisplayName("Complete upload should clear the pending flag of batch-presigned documents")
+  void execute_ShouldConfirmPendingUploads() {
+    // Arrange
+    Document batched = document(userId, false);
+    batched.setUploadPending(true);
+    when(documentRepository.findAllById(anyCollection())).thenReturn(List.of(batched));
+
+    // Act
+    completeDocumentUploadUseCase.execute(List.of(batched.getId()), userId);
+
+    // Assert
+    assertFalse(batched.getUploadPending());
+    verify(documentRepository).saveAll(List.of(batched));
+    verify(verificationWorker).verify(batched.getId());
+  }
+
+  @Test
+  @DisplayName("Complete upload should refuse documents owned by someone else")
+  void execute_ShouldThrow_WhenNotOwner() {
+    // Arrange
+    Document other = document(UUID.randomUUID(), false);
+    when(documentRepository.findAllById(anyCollection())).thenReturn(List.of(other));
+
+    // Act & Assert
+    assertThrows(
+        SecurityException.class,
+        () -> completeDocumentUploadUseCase.execute(List.of(other.getId()), userId));
+    verifyNoInteractions(verificationWorker);
+  }
+
+  @Test
+  @DisplayName("Complete upload should refuse documents without a recorded uploader")
+  void execute_ShouldThrow_WhenUploaderMissing() {
+    // Arrange
+    Document legacy = document(null, false);
+    when(documentRepository.findAllById(anyCollection())).thenReturn(List.of(legacy));
+
+    // Act & Assert
+    assertThrows(
+        SecurityException.class,
+        () -> completeDocumentUploadUseCase.execute(List.of(legacy.getId()), userId));
+    verifyNoInteractions(verificationWorker);
+  }
+
+  @Test
+  @DisplayName("Complete upload should fail when a document does not exist")
+  void execute_ShouldThrow_WhenMissing() {
+    // Arrange
+    when(documentRepository.findAllById(anyCollection())).thenReturn(List.of());
+
+    // Act & Assert
+    assertThrows(
+        ResourceNotFoundException.class,
+        () -> completeDocumentUploadUseCase.execute(List.of(UUID.randomUUID()), userId));
+  }
+}
@@ -0,0 +1,156 @@
+package com.lofi.lofiapps.service.impl.usecase.document;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.lofi.lofiapps.entity.Document;
+import com.lofi.lofiapps.enums.DocumentType;
+import com.lofi.lofiapps.exception.ResourceNotFoundException;
+import com.lofi.lofiapps.repository.DocumentRepository;
+import com.lofi.lofiapps.service.StorageService;
+import com.lofi.lofiapps.service.StoredObject;
+import com.lofi.lofiapps.service.StoredObjectInfo;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentVerificationWorkerTest {
+
+  private static final byte[] PDF = "%PDF-1.7\n%abcdefg".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0, 0};
+
+  @Mock private DocumentRepository documentRepository;
+  @Mock private StorageService storageService;
+
+  @InjectMocks private DocumentVerificationWorker worker;
+
+  private Document document;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(worker, "bucketName", "lofi-bucket");
+    document =
+        Document.builder()
+            .id(UUID.randomUUID())
+            .loanId(UUID.randomUUID())
+            .objectKey("documents/ktp.pdf")
+            .fileName("ktp.pdf")
+            .documentType(DocumentType.KTP)
+            .contentType("application/pdf")
+            .uploadedBy(UUID.randomUUID())
+            .build();
+    lenient().when(documentRepository.findById(document.getId())).thenReturn(Optional.of(document));
+  }
+
+  private void stored(long size, byte[] header) {
+    when(storageService.statObject("lofi-bucket", "documents/ktp.pdf"))
+        .thenReturn(
+            new StoredObjectInfo(size, "application/pdf", "d41d8cd98f00b204e9800998ecf8427e"));
+    lenient()
+        .when(storageService.openObject("lofi-bucket", "documents/ktp.pdf", "bytes=0-15"))
+        .thenReturn(
+            new StoredObject(new ByteArrayInputStream(header), "application/pdf", 16, null));
+  }
+
+  @Test
+  @DisplayName("Verify should mark a matching upload verified and record size and checksum")
+  void verify_ShouldMarkVerified() {
+    // Arrange
+    stored(2048, PDF);
+
+    // Act
+    worker.verify(document.getId());
+
+    // Assert
+    assertTrue(document.getVerified());
+    assertEquals(2048L, document.getFileSize());
+    assertEquals("d41d8cd98f00b204e9800998ecf8427e", document.getChecksum());
+    assertNull(document.getVerificationNotes());
+    verify(documentRepository).save(document);
+  }
+
+  @Test
+  @DisplayName("Verify should reject content that does not match the declared type")
+  void verify_ShouldReject_WhenMagicBytesMismatch() {
+    // Arrange
+    stored(2048, PNG);
+
+    // Act
+    worker.verify(document.getId());
+
+    // Assert
+    assertFalse(document.getVerified());
+    assertEquals(
+        "File content is image/png but was declared as application/pdf",
+        document.getVerificationNotes());
+  }
+
+  @Test
+  @DisplayName("Verify should reject an upload whose size differs from the declared size")
+  void verify_ShouldReject_WhenSizeMismatch() {
+    // Arrange
+    document.setFileSize(1000L);
+    stored(2048, PDF);
+
+    // Act
+    worker.verify(document.getId());
+
+    // Assert
+    assertFalse(document.getVerified());
+    assertTrue(document.getVerificationNotes().contains("does not match declared size"));
+  }
+
+  @Test
+  @DisplayName("Verify should leave the document unverified when the object is missing")
+  void verify_ShouldNote_WhenObjectMissing() {
+    // Arrange
+    when(storageService.statObject(any(), any()))
+        .thenThrow(new ResourceNotFoundException("Stored object not found"));
+
+    // Act
+    worker.verify(document.getId());
+
+    // Assert
+    assertFalse(document.getVerified());
+    assertEquals("Uploaded object not found", document.getVerificationNotes());
+    verify(storageService, never()).openObject(any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("Verify should skip documents that are already verified")
+  void verify_ShouldSkipVerified() {
+    // Arrange
+    document.setVerified(true);
+
+    // Act
+    worker.verify(document.getId());
+
+    // Assert
+    verifyNoInteractions(storageService);
+    verify(documentRepository, never()).save(any());
+  }
+
+  @Test
+  @DisplayName("Sniff should treat ZIP content as DOCX only when DOCX was declared")
+  void sniff_ShouldOnlyAcceptZipAsDeclaredDocx() {
+    byte[] zip = {'P', 'K', 0x03, 0x04, 0, 0};
+    String docx = "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
+
+    assertEquals(docx, DocumentVerificationWorker.sniff(zip, docx));
+    assertNull(DocumentVerificationWorker.sniff(zip, "application/pdf"));
+    assertEquals(
+        "image/jpeg",
+        DocumentVerificationWorker.sniff(new byte[] {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF}, null));
+  }
+}
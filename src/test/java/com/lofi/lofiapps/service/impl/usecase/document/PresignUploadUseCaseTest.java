@@ -0,0 +1,116 @@
+package com.lofi.lofiapps.service.impl.usecase.document;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.lofi.lofiapps.dto.request.BatchPresignUploadRequest;
+import com.lofi.lofiapps.dto.request.PresignUploadRequest;
+import com.lofi.lofiapps.dto.response.PresignUploadResponse;
+import com.lofi.lofiapps.entity.Document;
+import com.lofi.lofiapps.enums.DocumentType;
+import com.lofi.lofiapps.repository.DocumentRepository;
+import com.lofi.lofiapps.service.StorageService;
+import java.net.URL;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class PresignUploadUseCaseTest {
+
+  @Mock private DocumentRepository documentRepository;
+  @Mock private StorageService storageService;
+
+  @InjectMocks private PresignUploadUseCase presignUploadUseCase;
+
+  private final UUID userId = UUID.randomUUID();
+  private final UUID loanId = UUID.randomUUID();
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(presignUploadUseCase, "bucketName", "lofi-bucket");
+  }
+
+  private PresignUploadRequest item(DocumentType type, String fileName) {
+    return PresignUploadRequest.builder()
+        .documentType(type)
+        .fileName(fileName)
+        .contentType("application/pdf")
+        .build();
+  }
+
+  @Test
+  @DisplayName("Batch presign should save all rows in one call and presign each")
+  void executeBatch_ShouldPresignWholeSet() throws Exception {
+    // Arrange
+    BatchPresignUploadRequest request =
+        BatchPresignUploadRequest.builder()
+            .loanId(loanId)
+            .documents(
+                List.of(
+                    item(DocumentType.KTP, "ktp.pdf"),
+                    item(DocumentType.KK, "kk.pdf"),
+                    item(DocumentType.NPWP, "npwp.pdf"),
+                    item(DocumentType.PAYSLIP, "payslip.pdf")))
+            .build();
+    when(documentRepository.saveAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+    when(storageService.generatePresignedUploadUrl(
+            eq("lofi-bucket"), anyString(), eq("application/pdf"), eq(30L)))
+        .thenReturn(new URL("https://r2.example.com/upload"));
+
+    // Act
+    List<PresignUploadResponse> responses = presignUploadUseCase.executeBatch(request, userId);
+
+    // Assert
+    assertEquals(4, responses.size());
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<Document>> saved = ArgumentCaptor.forClass(List.class);
+    verify(documentRepository).saveAll(saved.capture());
+    assertTrue(saved.getValue().stream().allMatch(d -> loanId.equals(d.getLoanId())));
+    assertTrue(saved.getValue().stream().noneMatch(Document::getVerified));
+    assertTrue(saved.getValue().stream().allMatch(Document::getUploadPending));
+    assertTrue(responses.get(0).getObjectKey().startsWith("documents/" + loanId + "/"));
+    verify(documentRepository, never()).save(any());
+  }
+
+  @Test
+  @DisplayName("Batch presign should reject duplicate document types")
+  void executeBatch_ShouldRejectDuplicateTypes() {
+    // Arrange
+    BatchPresignUploadRequest request =
+        BatchPresignUploadRequest.builder()
+            .loanId(loanId)
+            .documents(List.of(item(DocumentType.KTP, "a.pdf"), item(DocumentType.KTP, "b.pdf")))
+            .build();
+
+    // Act & Assert
+    assertThrows(
+        IllegalArgumentException.class, () -> presignUploadUseCase.executeBatch(request, userId));
+    verifyNoInteractions(documentRepository, storageService);
+  }
+
+  @Test
+  @DisplayName("Batch presign should fail the whole set when one file is invalid")
+  void executeBatch_ShouldRejectInvalidItem() {
+    // Arrange
+    BatchPresignUploadRequest request =
+        BatchPresignUploadRequest.builder()
+            .loanId(loanId)
+            .documents(List.of(item(DocumentType.KTP, "a.pdf"), item(DocumentType.KK, "b.exe")))
+            .build();
+
+    // Act & Assert
+    assertThrows(
+        IllegalArgumentException.class, () -> presignUploadUseCase.executeBatch(request, userId));
+    verifyNoInteractions(documentRepository);
+  }
+}
@@ -0,0 +1,42 @@
+package com.lofi.lofiapps.service.impl.usecase.document;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.lofi.lofiapps.repository.DocumentRepository;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class UnconfirmedUploadSweeperTest {
+
+  @Mock private DocumentRepository documentRepository;
+
+  @InjectMocks private UnconfirmedUploadSweeper unconfirmedUploadSweeper;
+
+  @Test
+  @DisplayName("Sweep should only delete unconfirmed rows older than the TTL")
+  void sweep_ShouldDeleteRowsOlderThanTtl() {
+    // Arrange
+    ReflectionTestUtils.setField(unconfirmedUploadSweeper, "ttlMinutes", 120L);
+    when(documentRepository.deleteUnconfirmedBefore(any())).thenReturn(3);
+    LocalDateTime before = LocalDateTime.now().minusMinutes(120);
+
+    // Act
+    unconfirmedUploadSweeper.sweep();
+
+    // Assert
+    ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+    verify(documentRepository).deleteUnconfirmedBefore(cutoff.capture());
+    assertFalse(cutoff.getValue().isBefore(before));
+    assertTrue(cutoff.getValue().isBefore(LocalDateTime.now().minusMinutes(119)));
+  }
+}
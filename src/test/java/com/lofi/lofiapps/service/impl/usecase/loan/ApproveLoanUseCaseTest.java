@@ -22,6 +22,9 @@ import com.lofi.lofiapps.service.impl.calculator.PlafondCalculator;
 import com.lofi.lofiapps.service.impl.factory.ApprovalHistoryFactory;
 import java.math.BigDecimal;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -122,9 +125,9 @@ class ApproveLoanUseCaseTest {
     when(loanDtoMapper.toResponse(any(Loan.class))).thenReturn(expectedResponse);
     when(approvalHistoryFactory.recordStatusChange(any(UUID.class), any(), any(), any(), any()))
         .thenReturn(null);
-    when(plafondCalculator.calculateAvailablePlafond(any(User.class), any(UUID.class)))
+    when(plafondCalculator.calculateAvailablePlafond(
+            any(Product.class), anyCollection(), eq(loanId)))
         .thenReturn(BigDecimal.valueOf(10000000));
-    doNothing().when(notificationService).notifyLoanStatusChange(any(), any());
 
     // Act
     LoanResponse result = approveLoanUseCase.execute(loanId, approverUsername, "Approved");
@@ -134,7 +137,9 @@ class ApproveLoanUseCaseTest {
     assertEquals(LoanStatus.APPROVED, result.getLoanStatus());
     verify(loanRepository).save(any(Loan.class));
     verify(approvalHistoryFactory).recordStatusChange(any(UUID.class), any(), any(), any(), any());
-    verify(notificationService).notifyLoanStatusChange(customerId, LoanStatus.APPROVED);
+    verify(loanRepository, times(1)).findByCustomerId(customerId);
+    verify(notificationService).notifyLoanStatusChanges(List.of(savedLoan));
+    verify(notificationService, never()).notifyLoanStatusChange(any(), any());
   }
 
   @Test
@@ -195,7 +200,8 @@ class ApproveLoanUseCaseTest {
     doNothing().when(roleActionGuard).validate(any(User.class), eq("approve"));
     doNothing().when(branchAccessGuard).validate(any(User.class), any(Loan.class));
     doNothing().when(loanActionValidator).validate(any(Loan.class), eq("approve"));
-    when(plafondCalculator.calculateAvailablePlafond(any(User.class), any(UUID.class)))
+    when(plafondCalculator.calculateAvailablePlafond(
+            any(Product.class), anyCollection(), eq(loanId)))
         .thenReturn(BigDecimal.valueOf(5000000)); // Less than loan amount (15M)
 
     // Act & Assert
@@ -222,7 +228,8 @@ class ApproveLoanUseCaseTest {
     doNothing().when(roleActionGuard).validate(any(User.class), eq("approve"));
     doNothing().when(branchAccessGuard).validate(any(User.class), any(Loan.class));
     doNothing().when(loanActionValidator).validate(any(Loan.class), eq("approve"));
-    when(plafondCalculator.calculateAvailablePlafond(any(User.class), any(UUID.class)))
+    when(plafondCalculator.calculateAvailablePlafond(
+            any(Product.class), anyCollection(), eq(loanId)))
         .thenReturn(BigDecimal.valueOf(20000000));
     when(loanRepository.findByCustomerId(customerId))
         .thenReturn(Collections.singletonList(existingApprovedLoan));
@@ -234,4 +241,39 @@ class ApproveLoanUseCaseTest {
             () -> approveLoanUseCase.execute(loanId, approverUsername, "Approved"));
     assertEquals("Customer already has an active or approved loan", exception.getMessage());
   }
+
+  @Test
+  @DisplayName("Execute should cancel sibling loans with one bulk update and one notification")
+  void execute_ShouldCancelSiblingLoansInBulk() {
+    // Arrange
+    when(loanRepository.findById(loanId)).thenReturn(Optional.of(reviewedLoan));
+    when(userRepository.findByEmail(approverUsername)).thenReturn(Optional.of(approver));
+    when(loanRepository.findByCustomerId(customerId)).thenReturn(Collections.emptyList());
+    when(plafondCalculator.calculateAvailablePlafond(
+            any(Product.class), anyCollection(), eq(loanId)))
+        .thenReturn(BigDecimal.valueOf(10000000));
+    when(loanRepository.save(any(Loan.class))).thenReturn(reviewedLoan);
+
+    UUID draftId = UUID.randomUUID();
+    UUID submittedId = UUID.randomUUID();
+    Map<UUID, LoanStatus> cancelled = new LinkedHashMap<>();
+    cancelled.put(draftId, LoanStatus.DRAFT);
+    cancelled.put(submittedId, LoanStatus.SUBMITTED);
+    when(loanRepository.cancelOtherActiveLoans(eq(customerId), eq(loanId), any()))
+        .thenReturn(cancelled);
+    when(approvalHistoryFactory.buildStatusChange(any(UUID.class), any(), any(), any(), any()))
+        .thenCallRealMethod();
+
+    // Act
+    approveLoanUseCase.execute(loanId, approverUsername, "Approved");
+
+    // Assert
+    verify(loanRepository, times(1)).save(any(Loan.class));
+    verify(approvalHistoryFactory).recordAll(argThat(histories -> histories.size() == 2));
+    verify(approvalHistoryFactory)
+        .buildStatusChange(
+            eq(draftId), eq(LoanStatus.DRAFT), eq(LoanStatus.CANCELLED), eq("SYSTEM"), any());
+    verify(notificationService).notifyLoansAutoCancelled(customerId, List.of(draftId, submittedId));
+    verify(notificationService, never()).notifyLoanStatusChange(any(), eq(LoanStatus.CANCELLED));
+  }
 }
@@ -0,0 +1,217 @@
+package com.lofi.lofiapps.service.impl.usecase.loan;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.lofi.lofiapps.dto.response.BatchLoanActionResponse;
+import com.lofi.lofiapps.entity.Loan;
+import com.lofi.lofiapps.entity.Product;
+import com.lofi.lofiapps.entity.User;
+import com.lofi.lofiapps.enums.ApprovalStage;
+import com.lofi.lofiapps.enums.LoanStatus;
+import com.lofi.lofiapps.exception.ResourceNotFoundException;
+import com.lofi.lofiapps.repository.LoanRepository;
+import com.lofi.lofiapps.repository.UserRepository;
+import com.lofi.lofiapps.service.BranchAccessGuard;
+import com.lofi.lofiapps.service.LoanActionValidator;
+import com.lofi.lofiapps.service.NotificationService;
+import com.lofi.lofiapps.service.RoleActionGuard;
+import com.lofi.lofiapps.service.impl.calculator.PlafondCalculator;
+import com.lofi.lofiapps.service.impl.factory.ApprovalHistoryFactory;
+import com.lofi.lofiapps.service.impl.usecase.repayment.InstallmentLedger;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class BatchLoanTransitionUseCaseTest {
+
+  @Mock private LoanRepository loanRepository;
+  @Mock private UserRepository userRepository;
+  @Mock private NotificationService notificationService;
+  @Mock private RoleActionGuard roleActionGuard;
+  @Mock private BranchAccessGuard branchAccessGuard;
+  @Mock private TransactionTemplate transactionTemplate;
+  @Mock private ApprovalHistoryFactory approvalHistoryFactory;
+  @Mock private InstallmentLedger installmentLedger;
+  @Spy private LoanActionValidator loanActionValidator = new LoanActionValidator();
+  @Spy private PlafondCalculator plafondCalculator = new PlafondCalculator(null);
+
+  @InjectMocks private BatchLoanTransitionUseCase batchLoanTransitionUseCase;
+
+  private final String username = "manager@example.com";
+  private User customer;
+
+  @BeforeEach
+  void setUp() {
+    User manager = User.builder().id(UUID.randomUUID()).email(username).build();
+    when(userRepository.findWithBranchByEmail(username)).thenReturn(Optional.of(manager));
+    when(transactionTemplate.execute(any()))
+        .thenAnswer(inv -> ((TransactionCallback<?>) inv.getArgument(0)).doInTransaction(null));
+
+    Product product =
+        Product.builder()
+            .id(UUID.randomUUID())
+            .maxLoanAmount(BigDecimal.valueOf(10_000_000))
+            .build();
+    customer = User.builder().id(UUID.randomUUID()).product(product).build();
+  }
+
+  private Loan loan(LoanStatus status, long amount) {
+    return Loan.builder()
+        .id(UUID.randomUUID())
+        .customer(customer)
+        .loanAmount(BigDecimal.valueOf(amount))
+        .loanStatus(status)
+        .currentStage(ApprovalStage.BRANCH_MANAGER)
+        .build();
+  }
+
+  @Test
+  @DisplayName("Approve batch should approve valid loans and report invalid ones per loan")
+  void approve_ShouldReturnPerLoanResults() {
+    Loan reviewed = loan(LoanStatus.REVIEWED, 5_000_000);
+    Loan draftSibling = loan(LoanStatus.DRAFT, 1_000_000);
+    UUID missingId = UUID.randomUUID();
+
+    when(loanRepository.findAllByIdIn(anyCollection())).thenReturn(List.of(reviewed));
+    when(loanRepository.findByCustomerIdIn(anyCollection()))
+        .thenReturn(List.of(reviewed, draftSibling));
+
+    BatchLoanActionResponse response =
+        batchLoanTransitionUseCase.approve(List.of(reviewed.getId(), missingId), username, null);
+
+    assertEquals(2, response.getTotal());
+    assertEquals(1, response.getSucceeded());
+    assertEquals(1, response.getFailed());
+    assertEquals(LoanStatus.APPROVED, reviewed.getLoanStatus());
+    assertEquals(ApprovalStage.BACKOFFICE, reviewed.getCurrentStage());
+    assertEquals(LoanStatus.CANCELLED, draftSibling.getLoanStatus());
+    assertEquals("Loan not found", response.getResults().get(1).getMessage());
+
+    // One query for the loans and one for the siblings, no per-loan lookups
+    verify(loanRepository, times(1)).findAllByIdIn(anyCollection());
+    verify(loanRepository, times(1)).findByCustomerIdIn(anyCollection());
+    verify(loanRepository, never()).findById(any());
+    verify(approvalHistoryFactory, times(1)).recordAll(anyList());
+    verify(notificationService, never()).notifyLoanStatusChange(any(), any());
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<Loan>> notified = ArgumentCaptor.forClass(List.class);
+    verify(notificationService, times(1)).notifyLoanStatusChanges(notified.capture());
+    assertEquals(List.of(reviewed), notified.getValue());
+    verify(notificationService, times(1))
+        .notifyLoansAutoCancelled(customer.getId(), List.of(draftSibling.getId()));
+  }
+
+  @Test
+  @DisplayName("Approve batch should reject a second loan for the same customer")
+  void approve_ShouldFailSecondLoanOfSameCustomer() {
+    Loan first = loan(LoanStatus.REVIEWED, 2_000_000);
+    Loan second = loan(LoanStatus.REVIEWED, 2_000_000);
+
+    when(loanRepository.findAllByIdIn(anyCollection())).thenReturn(List.of(first, second));
+    when(loanRepository.findByCustomerIdIn(anyCollection())).thenReturn(List.of(first, second));
+
+    BatchLoanActionResponse response =
+        batchLoanTransitionUseCase.approve(List.of(first.getId(), second.getId()), username, "ok");
+
+    assertEquals(1, response.getSucceeded());
+    assertTrue(response.getResults().get(0).isSuccess());
+    assertFalse(response.getResults().get(1).isSuccess());
+    assertEquals(LoanStatus.APPROVED, first.getLoanStatus());
+    assertEquals(LoanStatus.CANCELLED, second.getLoanStatus());
+  }
+
+  @Test
+  @DisplayName("Disburse batch should only disburse approved loans and fan out once")
+  void disburse_ShouldSkipLoansInWrongState() {
+    Loan approved = loan(LoanStatus.APPROVED, 3_000_000);
+    Loan reviewed = loan(LoanStatus.REVIEWED, 3_000_000);
+    Loan unreferenced = loan(LoanStatus.APPROVED, 3_000_000);
+
+    when(loanRepository.findAllByIdIn(anyCollection()))
+        .thenReturn(List.of(approved, reviewed, unreferenced));
+
+    BatchLoanActionResponse response =
+        batchLoanTransitionUseCase.disburse(
+            List.of(approved.getId(), reviewed.getId(), unreferenced.getId()),
+            Map.of(approved.getId(), "TRF-001", reviewed.getId(), "TRF-002"),
+            username);
+
+    assertEquals(1, response.getSucceeded());
+    assertEquals(LoanStatus.DISBURSED, approved.getLoanStatus());
+    assertEquals("TRF-001", approved.getDisbursementReference());
+    assertEquals(LoanStatus.REVIEWED, reviewed.getLoanStatus());
+    assertEquals(LoanStatus.APPROVED, unreferenced.getLoanStatus());
+    assertEquals("Disbursement reference is required", response.getResults().get(2).getMessage());
+    verify(loanRepository, never()).findByCustomerIdIn(anyCollection());
+    verify(notificationService, times(1)).notifyLoanDisbursements(List.of(approved));
+    verify(installmentLedger, times(1)).openAll(List.of(approved));
+  }
+
+  @Test
+  @DisplayName("A failed chunk commit should mark every loan in the chunk as failed")
+  void execute_ShouldReportRolledBackChunk() {
+    Loan approved = loan(LoanStatus.APPROVED, 3_000_000);
+    doThrow(new IllegalStateException("deadlock")).when(transactionTemplate).execute(any());
+
+    BatchLoanActionResponse response =
+        batchLoanTransitionUseCase.disburse(
+            List.of(approved.getId()), Map.of(approved.getId(), "TRF-003"), username);
+
+    assertEquals(0, response.getSucceeded());
+    assertTrue(response.getResults().get(0).getMessage().contains("deadlock"));
+    verifyNoInteractions(notificationService);
+  }
+
+  @Test
+  @DisplayName("Disburse batch should reject one reference used for two loans")
+  void disburse_ShouldRejectSharedReference() {
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            batchLoanTransitionUseCase.disburse(
+                List.of(first, second), Map.of(first, "TRF-004", second, "TRF-004 "), username));
+    verifyNoInteractions(loanRepository);
+  }
+
+  @Test
+  @DisplayName("Reject batch should require a reason")
+  void reject_ShouldRequireReason() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> batchLoanTransitionUseCase.reject(List.of(UUID.randomUUID()), username, " "));
+  }
+
+  @Test
+  @DisplayName("Batch should fail fast when the actor does not exist")
+  void execute_ShouldThrow_WhenActorNotFound() {
+    when(userRepository.findWithBranchByEmail(username)).thenReturn(Optional.empty());
+
+    assertThrows(
+        ResourceNotFoundException.class,
+        () -> batchLoanTransitionUseCase.approve(List.of(UUID.randomUUID()), username, null));
+    verifyNoInteractions(loanRepository);
+  }
+}
@@ -13,6 +13,7 @@ import com.lofi.lofiapps.mapper.LoanDtoMapper;
 import com.lofi.lofiapps.repository.LoanRepository;
 import com.lofi.lofiapps.service.NotificationService;
 import com.lofi.lofiapps.service.impl.factory.ApprovalHistoryFactory;
+import com.lofi.lofiapps.service.impl.usecase.repayment.InstallmentLedger;
 import java.math.BigDecimal;
 import java.util.Optional;
 import java.util.UUID;
@@ -31,6 +32,7 @@ class DisburseLoanUseCaseTest {
   @Mock private ApprovalHistoryFactory approvalHistoryFactory;
   @Mock private NotificationService notificationService;
   @Mock private LoanDtoMapper loanDtoMapper;
+  @Mock private InstallmentLedger installmentLedger;
 
   @InjectMocks private DisburseLoanUseCase disburseLoanUseCase;
 
@@ -99,6 +101,7 @@ class DisburseLoanUseCaseTest {
     verify(loanRepository).save(any(Loan.class));
     verify(approvalHistoryFactory).recordStatusChange(any(UUID.class), any(), any(), any(), any());
     verify(notificationService).notifyLoanDisbursement(any(Loan.class));
+    verify(installmentLedger).open(savedLoan);
   }
 
   @Test
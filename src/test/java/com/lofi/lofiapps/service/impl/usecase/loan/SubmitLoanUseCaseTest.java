@@ -2,6 +2,8 @@ package com.lofi.lofiapps.service.impl.usecase.loan;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import com.lofi.lofiapps.dto.response.LoanResponse;
@@ -23,6 +25,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -31,6 +34,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class SubmitLoanUseCaseTest {
@@ -58,6 +62,7 @@ class SubmitLoanUseCaseTest {
     loanId = UUID.randomUUID();
     userId = UUID.randomUUID();
     username = "testuser";
+    ReflectionTestUtils.setField(submitLoanUseCase, "requireVerified", true);
 
     customer =
         User.builder()
@@ -101,9 +106,8 @@ class SubmitLoanUseCaseTest {
     // Arrange
     when(loanRepository.findById(loanId)).thenReturn(Optional.of(draftLoan));
     when(userBiodataValidator.validateAndGet(userId)).thenReturn(userBiodata);
-    when(documentRepository.countByLoanIdAndDocumentType(loanId, DocumentType.KTP)).thenReturn(1L);
-    when(documentRepository.countByLoanIdAndDocumentType(loanId, DocumentType.KK)).thenReturn(1L);
-    when(documentRepository.countByLoanIdAndDocumentType(loanId, DocumentType.NPWP)).thenReturn(1L);
+    when(documentRepository.findVerifiedDocumentTypes(eq(loanId), anyCollection()))
+        .thenReturn(Set.of(DocumentType.KTP, DocumentType.KK, DocumentType.NPWP));
     doNothing().when(riskValidator).validate(any(User.class), any(UserBiodata.class), any());
 
     Loan savedLoan =
@@ -184,16 +188,14 @@ class SubmitLoanUseCaseTest {
     // Arrange
     when(loanRepository.findById(loanId)).thenReturn(Optional.of(draftLoan));
     when(userBiodataValidator.validateAndGet(userId)).thenReturn(userBiodata);
-    when(documentRepository.countByLoanIdAndDocumentType(loanId, DocumentType.KTP)).thenReturn(0L);
-    when(documentRepository.countByLoanIdAndDocumentType(loanId, DocumentType.KK)).thenReturn(1L);
-    when(documentRepository.countByLoanIdAndDocumentType(loanId, DocumentType.NPWP)).thenReturn(1L);
+    when(documentRepository.findVerifiedDocumentTypes(eq(loanId), anyCollection()))
+        .thenReturn(Set.of(DocumentType.KK, DocumentType.NPWP));
 
     // Act & Assert
     IllegalStateException exception =
         assertThrows(
             IllegalStateException.class, () -> submitLoanUseCase.execute(loanId, username));
-    assertEquals(
-        "Required documents missing. Please upload KTP, KK, and NPWP.", exception.getMessage());
+    assertEquals("Required documents missing or not yet verified: KTP", exception.getMessage());
   }
 
   @Test
@@ -202,16 +204,14 @@ class SubmitLoanUseCaseTest {
     // Arrange
     when(loanRepository.findById(loanId)).thenReturn(Optional.of(draftLoan));
     when(userBiodataValidator.validateAndGet(userId)).thenReturn(userBiodata);
-    when(documentRepository.countByLoanIdAndDocumentType(loanId, DocumentType.KTP)).thenReturn(1L);
-    when(documentRepository.countByLoanIdAndDocumentType(loanId, DocumentType.KK)).thenReturn(0L);
-    when(documentRepository.countByLoanIdAndDocumentType(loanId, DocumentType.NPWP)).thenReturn(1L);
+    when(documentRepository.findVerifiedDocumentTypes(eq(loanId), anyCollection()))
+        .thenReturn(Set.of(DocumentType.KTP, DocumentType.NPWP));
 
     // Act & Assert
     IllegalStateException exception =
         assertThrows(
             IllegalStateException.class, () -> submitLoanUseCase.execute(loanId, username));
-    assertEquals(
-        "Required documents missing. Please upload KTP, KK, and NPWP.", exception.getMessage());
+    assertEquals("Required documents missing or not yet verified: KK", exception.getMessage());
   }
 
   @Test
@@ -220,15 +220,33 @@ class SubmitLoanUseCaseTest {
     // Arrange
     when(loanRepository.findById(loanId)).thenReturn(Optional.of(draftLoan));
     when(userBiodataValidator.validateAndGet(userId)).thenReturn(userBiodata);
-    when(documentRepository.countByLoanIdAndDocumentType(loanId, DocumentType.KTP)).thenReturn(1L);
-    when(documentRepository.countByLoanIdAndDocumentType(loanId, DocumentType.KK)).thenReturn(1L);
-    when(documentRepository.countByLoanIdAndDocumentType(loanId, DocumentType.NPWP)).thenReturn(0L);
+    when(documentRepository.findVerifiedDocumentTypes(eq(loanId), anyCollection()))
+        .thenReturn(Set.of(DocumentType.KTP, DocumentType.KK));
 
     // Act & Assert
     IllegalStateException exception =
         assertThrows(
             IllegalStateException.class, () -> submitLoanUseCase.execute(loanId, username));
-    assertEquals(
-        "Required documents missing. Please upload KTP, KK, and NPWP.", exception.getMessage());
+    assertEquals("Required documents missing or not yet verified: NPWP", exception.getMessage());
+  }
+
+  @Test
+  @DisplayName("Execute should accept unverified legacy uploads when verification is not required")
+  void execute_ShouldAcceptUploadedDocuments_WhenVerificationNotRequired() {
+    // Arrange
+    ReflectionTestUtils.setField(submitLoanUseCase, "requireVerified", false);
+    when(loanRepository.findById(loanId)).thenReturn(Optional.of(draftLoan));
+    when(userBiodataValidator.validateAndGet(userId)).thenReturn(userBiodata);
+    when(documentRepository.findUploadedDocumentTypes(eq(loanId), anyCollection()))
+        .thenReturn(Set.of(DocumentType.KTP, DocumentType.KK, DocumentType.NPWP));
+    when(loanRepository.save(any(Loan.class))).thenAnswer(inv -> inv.getArgument(0));
+    when(loanDtoMapper.toResponse(any(Loan.class))).thenReturn(expectedResponse);
+
+    // Act
+    submitLoanUseCase.execute(loanId, username);
+
+    // Assert
+    assertEquals(LoanStatus.SUBMITTED, draftLoan.getLoanStatus());
+    verify(documentRepository, never()).findVerifiedDocumentTypes(any(), anyCollection());
   }
 }
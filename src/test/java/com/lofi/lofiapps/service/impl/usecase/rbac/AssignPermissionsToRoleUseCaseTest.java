@@ -11,6 +11,7 @@ import com.lofi.lofiapps.enums.RoleName;
 import com.lofi.lofiapps.exception.ResourceNotFoundException;
 import com.lofi.lofiapps.repository.PermissionRepository;
 import com.lofi.lofiapps.repository.RoleRepository;
+import com.lofi.lofiapps.service.ReferenceCacheInvalidator;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -30,6 +31,7 @@ class AssignPermissionsToRoleUseCaseTest {
 
   @Mock private RoleRepository roleRepository;
   @Mock private PermissionRepository permissionRepository;
+  @Mock private ReferenceCacheInvalidator referenceCacheInvalidator;
 
   @InjectMocks private AssignPermissionsToRoleUseCase assignPermissionsToRoleUseCase;
 
@@ -72,6 +74,7 @@ class AssignPermissionsToRoleUseCaseTest {
     verify(roleRepository).findById(roleId);
     verify(permissionRepository).findAllById(List.of(permissionId));
     verify(roleRepository).save(role);
+    verify(referenceCacheInvalidator).invalidate(Role.class, roleId);
   }
 
   @Test
@@ -11,6 +11,7 @@ import com.lofi.lofiapps.enums.RoleName;
 import com.lofi.lofiapps.exception.ResourceNotFoundException;
 import com.lofi.lofiapps.repository.RoleRepository;
 import com.lofi.lofiapps.repository.UserRepository;
+import com.lofi.lofiapps.service.ReferenceCacheInvalidator;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -30,6 +31,7 @@ class AssignRolesToUserUseCaseTest {
 
   @Mock private UserRepository userRepository;
   @Mock private RoleRepository roleRepository;
+  @Mock private ReferenceCacheInvalidator referenceCacheInvalidator;
 
   @InjectMocks private AssignRolesToUserUseCase assignRolesToUserUseCase;
 
@@ -8,6 +8,7 @@ import com.lofi.lofiapps.dto.request.CreateBranchRequest;
 import com.lofi.lofiapps.dto.response.BranchResponse;
 import com.lofi.lofiapps.entity.Branch;
 import com.lofi.lofiapps.repository.BranchRepository;
+import com.lofi.lofiapps.service.ReferenceCacheInvalidator;
 import java.math.BigDecimal;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,6 +23,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class CreateBranchUseCaseTest {
 
   @Mock private BranchRepository branchRepository;
+  @Mock private ReferenceCacheInvalidator referenceCacheInvalidator;
 
   @InjectMocks private CreateBranchUseCase createBranchUseCase;
 
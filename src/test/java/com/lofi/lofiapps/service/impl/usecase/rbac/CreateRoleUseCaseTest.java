@@ -11,6 +11,7 @@ import com.lofi.lofiapps.entity.Role;
 import com.lofi.lofiapps.enums.RoleName;
 import com.lofi.lofiapps.repository.PermissionRepository;
 import com.lofi.lofiapps.repository.RoleRepository;
+import com.lofi.lofiapps.service.ReferenceCacheInvalidator;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -28,6 +29,7 @@ class CreateRoleUseCaseTest {
 
   @Mock private RoleRepository roleRepository;
   @Mock private PermissionRepository permissionRepository;
+  @Mock private ReferenceCacheInvalidator referenceCacheInvalidator;
 
   @InjectMocks private CreateRoleUseCase createRoleUseCase;
 
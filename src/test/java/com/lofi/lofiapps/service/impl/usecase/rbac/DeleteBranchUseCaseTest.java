@@ -3,7 +3,9 @@ package com.lofi.lofiapps.service.impl.usecase.rbac;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.lofi.lofiapps.entity.Branch;
 import com.lofi.lofiapps.repository.BranchRepository;
+import com.lofi.lofiapps.service.ReferenceCacheInvalidator;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,6 +19,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class DeleteBranchUseCaseTest {
 
   @Mock private BranchRepository branchRepository;
+  @Mock private ReferenceCacheInvalidator referenceCacheInvalidator;
 
   @InjectMocks private DeleteBranchUseCase deleteBranchUseCase;
 
@@ -38,6 +41,7 @@ class DeleteBranchUseCaseTest {
 
     // Assert
     verify(branchRepository).deleteById(branchId);
+    verify(referenceCacheInvalidator).invalidate(Branch.class, branchId);
   }
 
   @Test
@@ -49,6 +53,7 @@ class DeleteBranchUseCaseTest {
     // Act & Assert
     assertThrows(RuntimeException.class, () -> deleteBranchUseCase.execute(branchId));
     verify(branchRepository).deleteById(branchId);
+    verifyNoInteractions(referenceCacheInvalidator);
   }
 
   @Test
@@ -9,6 +9,7 @@ import com.lofi.lofiapps.dto.response.BranchResponse;
 import com.lofi.lofiapps.entity.Branch;
 import com.lofi.lofiapps.exception.ResourceNotFoundException;
 import com.lofi.lofiapps.repository.BranchRepository;
+import com.lofi.lofiapps.service.ReferenceCacheInvalidator;
 import java.math.BigDecimal;
 import java.util.Optional;
 import java.util.UUID;
@@ -24,6 +25,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class UpdateBranchUseCaseTest {
 
   @Mock private BranchRepository branchRepository;
+  @Mock private ReferenceCacheInvalidator referenceCacheInvalidator;
 
   @InjectMocks private UpdateBranchUseCase updateBranchUseCase;
 
@@ -0,0 +1,213 @@
+package com.lofi.lofiapps.service.impl.usecase.repayment;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.lofi.lofiapps.entity.BatchCheckpoint;
+import com.lofi.lofiapps.entity.LoanInstallment;
+import com.lofi.lofiapps.repository.BatchCheckpointRepository;
+import com.lofi.lofiapps.repository.DelinquencyRepository;
+import com.lofi.lofiapps.repository.DelinquencyStep;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.integration.redis.util.RedisLockRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DelinquencyBatchTest {
+
+  private static final LocalDate RUN_DATE = LocalDate.of(2025, 7, 10);
+
+  @Mock private DelinquencyRepository delinquencyRepository;
+  @Mock private BatchCheckpointRepository checkpointRepository;
+  @Mock private InstallmentLedger installmentLedger;
+  @Mock private TransactionTemplate transactionTemplate;
+  @Mock private RedisLockRegistry redisLockRegistry;
+  @Mock private Lock lock;
+
+  private SimpleMeterRegistry meterRegistry;
+  private DelinquencyBatch batch;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    batch =
+        new DelinquencyBatch(
+            delinquencyRepository,
+            checkpointRepository,
+            installmentLedger,
+            transactionTemplate,
+            redisLockRegistry,
+            meterRegistry,
+            Runnable::run,
+            Clock.fixed(Instant.parse("2025-07-10T01:00:00Z"), ZoneOffset.UTC));
+    ReflectionTestUtils.setField(batch, "enabled", true);
+    ReflectionTestUtils.setField(batch, "partitions", 2);
+    ReflectionTestUtils.setField(batch, "chunkSize", 2);
+    ReflectionTestUtils.setField(batch, "maxRunMinutes", 25L);
+    ReflectionTestUtils.setField(batch, "lookbackMonths", 12);
+    when(redisLockRegistry.obtain(DelinquencyBatch.LOCK_KEY)).thenReturn(lock);
+    when(lock.tryLock()).thenReturn(true);
+    when(transactionTemplate.execute(any()))
+        .thenAnswer(inv -> ((TransactionCallback<?>) inv.getArgument(0)).doInTransaction(null));
+  }
+
+  private static BatchCheckpoint checkpoint(
+      DelinquencyStep step, int partition, String lastKey, boolean completed) {
+    BatchCheckpoint checkpoint =
+        BatchCheckpoint.builder()
+            .jobName(DelinquencyBatch.JOB_NAME)
+            .runDate(RUN_DATE)
+            .step(step.name())
+            .partitionNo(partition)
+            .lastKey(lastKey)
+            .completedAt(completed ? LocalDateTime.of(2025, 7, 10, 1, 0) : null)
+            .build();
+    checkpoint.setId(UUID.randomUUID());
+    return checkpoint;
+  }
+
+  @Test
+  @DisplayName("The first trigger of a night should plan partitions and run loans before customers")
+  void runNightly_FirstTrigger_ShouldPlanAndRunBothSteps() {
+    // Arrange
+    when(checkpointRepository.findByJobNameAndRunDateOrderByStepAscPartitionNoAsc(
+            DelinquencyBatch.JOB_NAME, RUN_DATE))
+        .thenReturn(List.of());
+    when(delinquencyRepository.partitionBounds(DelinquencyStep.LOANS, 2)).thenReturn(List.of("b"));
+    when(delinquencyRepository.partitionBounds(DelinquencyStep.CUSTOMERS, 2)).thenReturn(List.of());
+    when(checkpointRepository.saveAll(anyList()))
+        .thenAnswer(
+            inv -> {
+              List<BatchCheckpoint> saved = inv.getArgument(0);
+              saved.forEach(c -> c.setId(UUID.randomUUID()));
+              return saved;
+            });
+    when(delinquencyRepository.nextKeys(DelinquencyStep.LOANS, null, "b", 2))
+        .thenReturn(List.of("a", "b"));
+    when(delinquencyRepository.nextKeys(DelinquencyStep.LOANS, "b", "b", 2)).thenReturn(List.of());
+    when(delinquencyRepository.nextKeys(DelinquencyStep.LOANS, "b", null, 2))
+        .thenReturn(List.of("c"));
+    when(delinquencyRepository.nextKeys(DelinquencyStep.CUSTOMERS, null, null, 2))
+        .thenReturn(List.of("u"));
+    UUID backfilled = UUID.randomUUID();
+    when(delinquencyRepository.findLoansWithoutInstallments(List.of("a", "b")))
+        .thenReturn(
+            List.of(
+                new DelinquencyRepository.LoanTerms(
+                    backfilled,
+                    new BigDecimal("1000000"),
+                    new BigDecimal("1.00"),
+                    1,
+                    LocalDateTime.of(2025, 5, 2, 9, 0))));
+    List<LoanInstallment> opened = List.of(LoanInstallment.builder().loanId(backfilled).build());
+    when(installmentLedger.installments(
+            eq(backfilled), any(), any(), eq(1), eq(LocalDate.of(2025, 5, 2))))
+        .thenReturn(opened);
+
+    // Act
+    batch.runNightly();
+
+    // Assert
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<BatchCheckpoint>> planned = ArgumentCaptor.forClass(List.class);
+    verify(checkpointRepository).saveAll(planned.capture());
+    assertEquals(3, planned.getValue().size());
+    assertNull(planned.getValue().get(0).getLowerBound());
+    assertEquals("b", planned.getValue().get(0).getUpperBound());
+    assertEquals("b", planned.getValue().get(1).getLastKey());
+    assertNull(planned.getValue().get(1).getUpperBound());
+
+    verify(delinquencyRepository).insertInstallments(opened);
+    verify(delinquencyRepository).ageInstallments(List.of("a", "b"), RUN_DATE);
+    verify(delinquencyRepository).ageInstallments(List.of("c"), RUN_DATE);
+    verify(delinquencyRepository)
+        .refreshCustomerAggregates(List.of("u"), LocalDate.of(2024, 7, 10));
+    verify(checkpointRepository, times(3)).advance(any(), anyString(), anyLong(), any());
+    verify(checkpointRepository, times(3)).complete(any(), any());
+    assertEquals(
+        3.0, meterRegistry.counter("lofi.delinquency.rows", "step", "LOANS").count(), 0.001);
+    verify(lock).unlock();
+  }
+
+  @Test
+  @DisplayName("A later trigger should resume from the checkpoints and skip completed partitions")
+  void runNightly_LaterTrigger_ShouldResumeFromCheckpoints() {
+    // Arrange
+    BatchCheckpoint customers = checkpoint(DelinquencyStep.CUSTOMERS, 0, "u5", false);
+    when(checkpointRepository.findByJobNameAndRunDateOrderByStepAscPartitionNoAsc(
+            DelinquencyBatch.JOB_NAME, RUN_DATE))
+        .thenReturn(List.of(customers, checkpoint(DelinquencyStep.LOANS, 0, "z", true)));
+    when(delinquencyRepository.nextKeys(DelinquencyStep.CUSTOMERS, "u5", null, 2))
+        .thenReturn(List.of());
+
+    // Act
+    batch.runNightly();
+
+    // Assert
+    verify(delinquencyRepository, never()).partitionBounds(any(), anyInt());
+    verify(delinquencyRepository, never())
+        .nextKeys(eq(DelinquencyStep.LOANS), any(), any(), anyInt());
+    verify(delinquencyRepository, never()).refreshCustomerAggregates(any(), any());
+    verify(checkpointRepository).complete(eq(customers.getId()), any());
+  }
+
+  @Test
+  @DisplayName("A failed loan partition should leave customers for the next trigger")
+  void runNightly_LoanPartitionFails_ShouldNotRefreshCustomers() {
+    // Arrange
+    when(checkpointRepository.findByJobNameAndRunDateOrderByStepAscPartitionNoAsc(
+            DelinquencyBatch.JOB_NAME, RUN_DATE))
+        .thenReturn(
+            List.of(
+                checkpoint(DelinquencyStep.CUSTOMERS, 0, null, false),
+                checkpoint(DelinquencyStep.LOANS, 0, null, false)));
+    when(delinquencyRepository.nextKeys(eq(DelinquencyStep.LOANS), any(), any(), anyInt()))
+        .thenThrow(new IllegalStateException("deadlock victim"));
+
+    // Act
+    batch.runNightly();
+
+    // Assert
+    verify(delinquencyRepository, never())
+        .nextKeys(eq(DelinquencyStep.CUSTOMERS), any(), any(), anyInt());
+    verify(checkpointRepository, never()).complete(any(), any());
+    assertEquals(
+        1.0, meterRegistry.counter("lofi.delinquency.failures", "step", "LOANS").count(), 0.001);
+  }
+
+  @Test
+  @DisplayName("Another instance holding the lock should make the trigger a no-op")
+  void runNightly_LockHeld_ShouldSkip() {
+    // Arrange
+    when(lock.tryLock()).thenReturn(false);
+
+    // Act
+    batch.runNightly();
+
+    // Assert
+    verifyNoInteractions(checkpointRepository, delinquencyRepository);
+    verify(lock, never()).unlock();
+  }
+}
@@ -0,0 +1,199 @@
+package com.lofi.lofiapps.service.impl.usecase.repayment;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.lofi.lofiapps.dto.request.RecordPaymentRequest;
+import com.lofi.lofiapps.dto.response.RepaymentLedgerResponse;
+import com.lofi.lofiapps.entity.Loan;
+import com.lofi.lofiapps.entity.LoanInstallment;
+import com.lofi.lofiapps.entity.LoanPayment;
+import com.lofi.lofiapps.enums.InstallmentStatus;
+import com.lofi.lofiapps.enums.LoanStatus;
+import com.lofi.lofiapps.repository.LoanInstallmentRepository;
+import com.lofi.lofiapps.repository.LoanPaymentRepository;
+import com.lofi.lofiapps.repository.LoanRepository;
+import com.lofi.lofiapps.service.impl.mapper.RepaymentLedgerMapper;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class)
+class RecordPaymentUseCaseTest {
+
+  private static final LocalDateTime DISBURSED_AT = LocalDateTime.of(2025, 1, 15, 10, 0);
+
+  @Mock private LoanRepository loanRepository;
+  @Mock private LoanInstallmentRepository loanInstallmentRepository;
+  @Mock private LoanPaymentRepository loanPaymentRepository;
+  @Mock private InstallmentLedger installmentLedger;
+  @Spy private RepaymentLedgerMapper repaymentLedgerMapper = new RepaymentLedgerMapper();
+
+  @InjectMocks private RecordPaymentUseCase useCase;
+
+  private UUID loanId;
+  private Loan loan;
+  private List<LoanInstallment> installments;
+
+  @BeforeEach
+  void setUp() {
+    loanId = UUID.randomUUID();
+    loan =
+        Loan.builder()
+            .loanStatus(LoanStatus.DISBURSED)
+            .loanAmount(new BigDecimal("300000"))
+            .tenor(3)
+            .disbursedAt(DISBURSED_AT)
+            .build();
+    loan.setId(loanId);
+    installments =
+        List.of(
+            installment(1, "2025-02-15"),
+            installment(2, "2025-03-15"),
+            installment(3, "2025-04-15"));
+  }
+
+  private LoanInstallment installment(int number, String dueDate) {
+    return LoanInstallment.builder()
+        .loanId(loanId)
+        .installmentNumber(number)
+        .dueDate(LocalDate.parse(dueDate))
+        .principalAmount(new BigDecimal("100000.00"))
+        .interestAmount(BigDecimal.ZERO)
+        .amountDue(new BigDecimal("100000.00"))
+        .build();
+  }
+
+  private RecordPaymentRequest request(String amount, String reference) {
+    RecordPaymentRequest request = new RecordPaymentRequest();
+    request.setAmount(new BigDecimal(amount));
+    request.setReferenceNumber(reference);
+    request.setPaidAt(LocalDateTime.of(2025, 2, 20, 9, 0));
+    return request;
+  }
+
+  @Test
+  @DisplayName("A payment should fill the oldest installments first and close the ones it covers")
+  void execute_ShouldAllocateOldestFirst() {
+    // Arrange
+    UUID officerId = UUID.randomUUID();
+    when(loanRepository.findById(loanId)).thenReturn(Optional.of(loan));
+    when(loanInstallmentRepository.findByLoanIdAndPaidAtIsNullOrderByInstallmentNumber(loanId))
+        .thenReturn(installments);
+    when(loanInstallmentRepository.findByLoanIdOrderByInstallmentNumber(loanId))
+        .thenReturn(installments);
+
+    // Act
+    RepaymentLedgerResponse ledger =
+        useCase.execute(loanId, request("150000", " VA-001 "), officerId);
+
+    // Assert
+    LoanInstallment first = installments.get(0);
+    assertEquals(InstallmentStatus.PAID, first.getStatus());
+    assertEquals(LocalDateTime.of(2025, 2, 20, 9, 0), first.getPaidAt());
+    assertEquals(5, first.getDaysOverdue());
+    LoanInstallment second = installments.get(1);
+    assertEquals(0, new BigDecimal("50000").compareTo(second.getAmountPaid()));
+    assertNull(second.getPaidAt());
+    assertEquals(InstallmentStatus.DUE, second.getStatus());
+    assertEquals(0, new BigDecimal("150000").compareTo(ledger.getOutstanding()));
+    verify(installmentLedger).open(loan);
+
+    ArgumentCaptor<LoanPayment> payment = ArgumentCaptor.forClass(LoanPayment.class);
+    verify(loanPaymentRepository).saveAndFlush(payment.capture());
+    assertEquals("VA-001", payment.getValue().getReference());
+    assertEquals(officerId, payment.getValue().getRecordedBy());
+  }
+
+  @Test
+  @DisplayName("A payment larger than the outstanding balance should be rejected")
+  void execute_ShouldRejectOverpayment() {
+    // Arrange
+    when(loanRepository.findById(loanId)).thenReturn(Optional.of(loan));
+    when(loanInstallmentRepository.findByLoanIdAndPaidAtIsNullOrderByInstallmentNumber(loanId))
+        .thenReturn(installments);
+
+    // Act & Assert
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> useCase.execute(loanId, request("300000.01", "VA-002"), UUID.randomUUID()));
+    verify(loanPaymentRepository, never()).saveAndFlush(any());
+    assertEquals(BigDecimal.ZERO, installments.get(0).getAmountPaid());
+  }
+
+  @Test
+  @DisplayName("A reference already booked for the loan should not be booked again")
+  void execute_ShouldRejectDuplicateReference() {
+    // Arrange
+    when(loanRepository.findById(loanId)).thenReturn(Optional.of(loan));
+    when(loanPaymentRepository.existsByLoanIdAndReference(loanId, "VA-003")).thenReturn(true);
+
+    // Act & Assert
+    assertThrows(
+        IllegalStateException.class,
+        () -> useCase.execute(loanId, request("1000", "VA-003"), UUID.randomUUID()));
+    verifyNoInteractions(loanInstallmentRepository, installmentLedger);
+  }
+
+  @Test
+  @DisplayName("A reference booked concurrently should be rejected like a known duplicate")
+  void execute_ConcurrentDuplicateReference_ShouldReject() {
+    // Arrange
+    when(loanRepository.findById(loanId)).thenReturn(Optional.of(loan));
+    when(loanInstallmentRepository.findByLoanIdAndPaidAtIsNullOrderByInstallmentNumber(loanId))
+        .thenReturn(installments);
+    when(loanPaymentRepository.saveAndFlush(any()))
+        .thenThrow(new DataIntegrityViolationException("uk_loan_payments_loan_reference"));
+
+    // Act & Assert
+    IllegalStateException error =
+        assertThrows(
+            IllegalStateException.class,
+            () -> useCase.execute(loanId, request("1000", "VA-005"), UUID.randomUUID()));
+    assertEquals("Payment VA-005 is already recorded", error.getMessage());
+  }
+
+  @Test
+  @DisplayName("A ledger opened concurrently by another payment should ask for a retry")
+  void execute_ConcurrentLedgerOpen_ShouldReject() {
+    // Arrange
+    when(loanRepository.findById(loanId)).thenReturn(Optional.of(loan));
+    doThrow(new DataIntegrityViolationException("uk_loan_installments_loan_number"))
+        .when(loanInstallmentRepository)
+        .flush();
+
+    // Act & Assert
+    assertThrows(
+        IllegalStateException.class,
+        () -> useCase.execute(loanId, request("1000", "VA-006"), UUID.randomUUID()));
+    verify(loanPaymentRepository, never()).saveAndFlush(any());
+  }
+
+  @Test
+  @DisplayName("Payments should only be accepted for disbursed loans")
+  void execute_ShouldRejectLoanNotDisbursed() {
+    // Arrange
+    loan.setLoanStatus(LoanStatus.APPROVED);
+    when(loanRepository.findById(loanId)).thenReturn(Optional.of(loan));
+
+    // Act & Assert
+    assertThrows(
+        IllegalStateException.class,
+        () -> useCase.execute(loanId, request("1000", "VA-004"), UUID.randomUUID()));
+    verifyNoInteractions(loanPaymentRepository, loanInstallmentRepository);
+  }
+}
@@ -0,0 +1,145 @@
+package com.lofi.lofiapps.service.impl.usecase.report;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.lofi.lofiapps.dto.response.SlaReportResponse;
+import com.lofi.lofiapps.entity.ReportJob;
+import com.lofi.lofiapps.enums.ReportJobStatus;
+import com.lofi.lofiapps.enums.ReportType;
+import com.lofi.lofiapps.exception.ResourceNotFoundException;
+import com.lofi.lofiapps.repository.ReportJobRepository;
+import com.lofi.lofiapps.service.StorageService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class ReportJobWorkerTest {
+
+  @Mock private ReportJobRepository reportJobRepository;
+  @Mock private GetLoanKpisUseCase getLoanKpisUseCase;
+  @Mock private GetSlaReportUseCase getSlaReportUseCase;
+  @Mock private ExcelExportService excelExportService;
+  @Mock private StorageService storageService;
+  @Mock private TransactionTemplate transactionTemplate;
+
+  private ReportJobWorker worker;
+  private ReportJob job;
+
+  @BeforeEach
+  void setUp() {
+    worker =
+        new ReportJobWorker(
+            reportJobRepository,
+            getLoanKpisUseCase,
+            getSlaReportUseCase,
+            excelExportService,
+            storageService,
+            transactionTemplate,
+            new SimpleMeterRegistry());
+    ReflectionTestUtils.setField(worker, "bucketName", "lofi-bucket");
+    ReflectionTestUtils.setField(worker, "prefix", "reports");
+    job =
+        ReportJob.builder()
+            .reportType(ReportType.LOAN_SLA)
+            .loanId(UUID.randomUUID())
+            .status(ReportJobStatus.RUNNING)
+            .queuedAt(LocalDateTime.now())
+            .build();
+    job.setId(UUID.randomUUID());
+    lenient()
+        .when(transactionTemplate.execute(any()))
+        .thenAnswer(
+            invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+  }
+
+  @Test
+  @DisplayName("A claimed job should be stored under its content hash and marked succeeded")
+  void run_ShouldUploadContentAddressedWorkbook() {
+    // Arrange
+    byte[] workbook = "xlsx-bytes".getBytes();
+    SlaReportResponse report = SlaReportResponse.builder().build();
+    when(reportJobRepository.claim(eq(job.getId()), any())).thenReturn(1);
+    when(reportJobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+    when(getSlaReportUseCase.execute(job.getLoanId())).thenReturn(report);
+    doAnswer(
+            invocation -> {
+              invocation.<OutputStream>getArgument(1).write(workbook);
+              return null;
+            })
+        .when(excelExportService)
+        .exportSlaReport(eq(report), any(OutputStream.class));
+    ByteArrayOutputStream uploaded = new ByteArrayOutputStream();
+    doAnswer(invocation -> invocation.<InputStream>getArgument(2).transferTo(uploaded))
+        .when(storageService)
+        .uploadStream(any(), any(), any(), anyLong(), any());
+
+    // Act
+    worker.run(job.getId()).join();
+
+    // Assert
+    String hash = ReportJobWorker.sha256(workbook);
+    String key = "reports/loan_sla/" + hash + ".xlsx";
+    verify(storageService)
+        .uploadStream(
+            eq("lofi-bucket"),
+            eq(key),
+            any(InputStream.class),
+            eq((long) workbook.length),
+            eq(ReportJobWorker.CONTENT_TYPE));
+    assertArrayEquals(workbook, uploaded.toByteArray());
+    verify(reportJobRepository).save(job);
+    assertEquals(ReportJobStatus.SUCCEEDED, job.getStatus());
+    assertEquals(hash, job.getContentHash());
+    assertEquals(key, job.getObjectKey());
+    assertEquals(workbook.length, job.getSizeBytes());
+  }
+
+  @Test
+  @DisplayName("A job another instance already claimed should be left alone")
+  void run_NotClaimed_ShouldSkip() {
+    // Arrange
+    when(reportJobRepository.claim(eq(job.getId()), any())).thenReturn(0);
+
+    // Act
+    worker.run(job.getId()).join();
+
+    // Assert
+    verify(reportJobRepository, never()).findById(any());
+    verifyNoInteractions(getSlaReportUseCase, storageService);
+  }
+
+  @Test
+  @DisplayName("A failing report should mark the job failed with the reason")
+  void run_Failure_ShouldMarkFailed() {
+    // Arrange
+    when(reportJobRepository.claim(eq(job.getId()), any())).thenReturn(1);
+    when(reportJobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+    when(getSlaReportUseCase.execute(job.getLoanId()))
+        .thenThrow(new ResourceNotFoundException("Loan", "id", job.getLoanId().toString()));
+
+    // Act
+    worker.run(job.getId()).join();
+
+    // Assert
+    assertEquals(ReportJobStatus.FAILED, job.getStatus());
+    assertNotNull(job.getErrorMessage());
+    verify(reportJobRepository).save(job);
+    verifyNoInteractions(storageService);
+  }
+}
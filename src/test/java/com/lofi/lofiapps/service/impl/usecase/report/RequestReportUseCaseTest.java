@@ -0,0 +1,156 @@
+package com.lofi.lofiapps.service.impl.usecase.report;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.lofi.lofiapps.dto.response.ReportJobResponse;
+import com.lofi.lofiapps.entity.ReportJob;
+import com.lofi.lofiapps.enums.ReportJobStatus;
+import com.lofi.lofiapps.enums.ReportType;
+import com.lofi.lofiapps.exception.ResourceNotFoundException;
+import com.lofi.lofiapps.repository.LoanRepository;
+import com.lofi.lofiapps.repository.ReportJobRepository;
+import com.lofi.lofiapps.service.impl.mapper.ReportJobMapper;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class)
+class RequestReportUseCaseTest {
+
+  private static final String KPI_VERSION = "120|2025-07-01 10:00:00.0000000||2025-01-01|";
+
+  @Mock private LoanRepository loanRepository;
+  @Mock private ReportJobRepository reportJobRepository;
+  @Mock private ReportJobDispatcher reportJobDispatcher;
+  @Mock private ReportJobMapper reportJobMapper;
+
+  private RequestReportUseCase useCase;
+
+  @BeforeEach
+  void setUp() {
+    useCase =
+        new RequestReportUseCase(
+            loanRepository, reportJobRepository, reportJobDispatcher, reportJobMapper);
+    lenient()
+        .when(reportJobMapper.toResponse(any()))
+        .thenAnswer(
+            invocation -> {
+              ReportJob job = invocation.getArgument(0);
+              return ReportJobResponse.builder().id(job.getId()).status(job.getStatus()).build();
+            });
+  }
+
+  private static ReportJob job(ReportJobStatus status) {
+    ReportJob job =
+        ReportJob.builder()
+            .reportType(ReportType.LOAN_KPIS)
+            .status(status)
+            .queuedAt(LocalDateTime.now())
+            .build();
+    job.setId(UUID.randomUUID());
+    return job;
+  }
+
+  @Test
+  @DisplayName("A new parameter set and data version should create and dispatch a job")
+  void execute_NewVersion_ShouldCreateAndDispatch() {
+    // Arrange
+    when(loanRepository.loanKpisVersion()).thenReturn(KPI_VERSION);
+    when(reportJobRepository.findByParamsHashAndDataVersion(anyString(), anyString()))
+        .thenReturn(Optional.empty());
+    ReportJob created = job(ReportJobStatus.QUEUED);
+    ArgumentCaptor<ReportJob> saved = ArgumentCaptor.forClass(ReportJob.class);
+    when(reportJobRepository.saveAndFlush(saved.capture())).thenReturn(created);
+
+    // Act
+    ReportJobResponse response = useCase.execute(null, ReportType.LOAN_KPIS, null);
+
+    // Assert
+    assertEquals(created.getId(), response.getId());
+    assertEquals(ReportJobWorker.sha256(KPI_VERSION), saved.getValue().getDataVersion());
+    assertEquals("loan-kpis.xlsx", saved.getValue().getFileName());
+    verify(reportJobDispatcher).dispatch(created.getId());
+  }
+
+  @Test
+  @DisplayName("A running job for the same parameters and data should be joined, not repeated")
+  void execute_Running_ShouldCoalesce() {
+    // Arrange
+    when(loanRepository.loanKpisVersion()).thenReturn(KPI_VERSION);
+    ReportJob running = job(ReportJobStatus.RUNNING);
+    when(reportJobRepository.findByParamsHashAndDataVersion(
+            ReportJobWorker.sha256("LOAN_KPIS:"), ReportJobWorker.sha256(KPI_VERSION)))
+        .thenReturn(Optional.of(running));
+
+    // Act
+    ReportJobResponse response = useCase.execute(null, ReportType.LOAN_KPIS, null);
+
+    // Assert
+    assertEquals(running.getId(), response.getId());
+    verify(reportJobRepository, never()).saveAndFlush(any());
+    verifyNoInteractions(reportJobDispatcher);
+  }
+
+  @Test
+  @DisplayName("Losing the insert race should join the job the other request created")
+  void execute_InsertRace_ShouldJoinWinner() {
+    // Arrange
+    when(loanRepository.loanKpisVersion()).thenReturn(KPI_VERSION);
+    ReportJob winner = job(ReportJobStatus.QUEUED);
+    when(reportJobRepository.findByParamsHashAndDataVersion(anyString(), anyString()))
+        .thenReturn(Optional.empty(), Optional.of(winner));
+    when(reportJobRepository.saveAndFlush(any()))
+        .thenThrow(new DataIntegrityViolationException("uk_report_jobs_params_version"));
+
+    // Act
+    ReportJobResponse response = useCase.execute(null, ReportType.LOAN_KPIS, null);
+
+    // Assert
+    assertEquals(winner.getId(), response.getId());
+    verify(reportJobDispatcher).dispatch(winner.getId());
+  }
+
+  @Test
+  @DisplayName("A failed job for the current data should be queued again")
+  void execute_Failed_ShouldRequeue() {
+    // Arrange
+    when(loanRepository.loanKpisVersion()).thenReturn(KPI_VERSION);
+    ReportJob failed = job(ReportJobStatus.FAILED);
+    ReportJob requeued = job(ReportJobStatus.QUEUED);
+    requeued.setId(failed.getId());
+    when(reportJobRepository.findByParamsHashAndDataVersion(anyString(), anyString()))
+        .thenReturn(Optional.of(failed));
+    when(reportJobRepository.requeueFailed(eq(failed.getId()), any())).thenReturn(1);
+    when(reportJobRepository.findById(failed.getId())).thenReturn(Optional.of(requeued));
+
+    // Act
+    ReportJobResponse response = useCase.execute(null, ReportType.LOAN_KPIS, null);
+
+    // Assert
+    assertEquals(ReportJobStatus.QUEUED, response.getStatus());
+    verify(reportJobDispatcher).dispatch(failed.getId());
+  }
+
+  @Test
+  @DisplayName("An SLA export for an unknown loan should be rejected up front")
+  void execute_UnknownLoan_ShouldThrow() {
+    // Arrange
+    UUID loanId = UUID.randomUUID();
+    when(loanRepository.loanSlaVersion(loanId)).thenReturn(null);
+
+    // Act & Assert
+    assertThrows(
+        ResourceNotFoundException.class, () -> useCase.execute(null, ReportType.LOAN_SLA, loanId));
+    verifyNoInteractions(reportJobRepository, reportJobDispatcher);
+  }
+}
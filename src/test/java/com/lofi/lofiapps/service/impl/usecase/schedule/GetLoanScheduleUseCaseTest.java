@@ -0,0 +1,172 @@
+package com.lofi.lofiapps.service.impl.usecase.schedule;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.lofi.lofiapps.dto.response.LoanScheduleResponse;
+import com.lofi.lofiapps.entity.Loan;
+import com.lofi.lofiapps.entity.User;
+import com.lofi.lofiapps.enums.AmortizationMethod;
+import com.lofi.lofiapps.enums.UserStatus;
+import com.lofi.lofiapps.exception.ResourceNotFoundException;
+import com.lofi.lofiapps.repository.LoanRepository;
+import com.lofi.lofiapps.security.service.UserPrincipal;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+@ExtendWith(MockitoExtension.class)
+class GetLoanScheduleUseCaseTest {
+
+  @Mock private LoanRepository loanRepository;
+
+  private InstallmentScheduleCache scheduleCache;
+  private GetLoanScheduleUseCase useCase;
+  private UUID loanId;
+  private UUID customerId;
+  private UserPrincipal staff;
+
+  @BeforeEach
+  void setUp() {
+    scheduleCache = new InstallmentScheduleCache(100);
+    useCase =
+        new GetLoanScheduleUseCase(
+            loanRepository,
+            scheduleCache,
+            AmortizationMethod.FLAT,
+            Clock.fixed(Instant.parse("2025-07-10T04:00:00Z"), ZoneOffset.UTC));
+    loanId = UUID.randomUUID();
+    customerId = UUID.randomUUID();
+    staff = principal(UUID.randomUUID(), "ROLE_BACK_OFFICE");
+  }
+
+  private static UserPrincipal principal(UUID id, String role) {
+    return new UserPrincipal(
+        id,
+        "user@example.com",
+        "password",
+        null,
+        null,
+        BigDecimal.ZERO,
+        UserStatus.ACTIVE,
+        List.of(new SimpleGrantedAuthority(role)));
+  }
+
+  private Loan loan(LocalDateTime disbursedAt) {
+    Loan loan =
+        Loan.builder()
+            .loanAmount(new BigDecimal("6000000"))
+            .interestRate(new BigDecimal("1.50"))
+            .tenor(6)
+            .adminFee(new BigDecimal("50000"))
+            .disbursedAt(disbursedAt)
+            .build();
+    loan.setId(loanId);
+    User customer = new User();
+    customer.setId(customerId);
+    loan.setCustomer(customer);
+    return loan;
+  }
+
+  @Test
+  @DisplayName("Installments should fall due monthly after disbursement, clamped to month end")
+  void execute_DisbursedLoan() {
+    // Arrange
+    when(loanRepository.findById(loanId))
+        .thenReturn(Optional.of(loan(LocalDateTime.of(2025, 1, 31, 10, 0))));
+
+    // Act
+    LoanScheduleResponse response = useCase.execute(staff, loanId, null);
+
+    // Assert
+    assertEquals(AmortizationMethod.FLAT, response.getMethod());
+    assertTrue(response.isDisbursed());
+    assertEquals(6, response.getInstallments().size());
+    assertEquals(LocalDate.of(2025, 2, 28), response.getInstallments().get(0).getDueDate());
+    assertEquals(LocalDate.of(2025, 7, 31), response.getInstallments().get(5).getDueDate());
+    assertEquals(new BigDecimal("1090000.00"), response.getInstallments().get(0).getAmount());
+    assertEquals(new BigDecimal("0.00"), response.getInstallments().get(5).getRemainingPrincipal());
+    assertEquals(new BigDecimal("540000.00"), response.getTotalInterest());
+    assertEquals(new BigDecimal("6540000.00"), response.getTotalPayment());
+  }
+
+  @Test
+  @DisplayName("An undisbursed loan should preview its schedule from today")
+  void execute_UndisbursedLoan() {
+    // Arrange
+    when(loanRepository.findById(loanId)).thenReturn(Optional.of(loan(null)));
+
+    // Act
+    LoanScheduleResponse response = useCase.execute(staff, loanId, AmortizationMethod.EFFECTIVE);
+
+    // Assert
+    assertFalse(response.isDisbursed());
+    assertEquals(AmortizationMethod.EFFECTIVE, response.getMethod());
+    assertEquals(LocalDate.of(2025, 8, 10), response.getInstallments().get(0).getDueDate());
+    assertTrue(response.getTotalInterest().compareTo(new BigDecimal("540000.00")) < 0);
+  }
+
+  @Test
+  @DisplayName("Loans with the same terms should share one cached schedule")
+  void execute_ShouldReuseCachedSchedule() {
+    // Arrange
+    when(loanRepository.findById(loanId)).thenReturn(Optional.of(loan(null)));
+
+    // Act
+    useCase.execute(staff, loanId, null);
+    useCase.execute(staff, loanId, null);
+    useCase.execute(staff, loanId, AmortizationMethod.EFFECTIVE);
+
+    // Assert
+    assertEquals(2, scheduleCache.size());
+    assertSame(
+        scheduleCache.get(AmortizationMethod.FLAT, 600_000_000L, 150, 6),
+        scheduleCache.get(AmortizationMethod.FLAT, 600_000_000L, 150, 6));
+  }
+
+  @Test
+  @DisplayName("An unknown loan should be reported as not found")
+  void execute_UnknownLoan() {
+    when(loanRepository.findById(loanId)).thenReturn(Optional.empty());
+
+    assertThrows(ResourceNotFoundException.class, () -> useCase.execute(staff, loanId, null));
+  }
+
+  @Test
+  @DisplayName("A customer should see the schedule of their own loan")
+  void execute_OwnLoan() {
+    // Arrange
+    when(loanRepository.findById(loanId)).thenReturn(Optional.of(loan(null)));
+
+    // Act
+    LoanScheduleResponse response =
+        useCase.execute(principal(customerId, "ROLE_CUSTOMER"), loanId, null);
+
+    // Assert
+    assertEquals(loanId, response.getLoanId());
+  }
+
+  @Test
+  @DisplayName("A customer should not see another customer's schedule")
+  void execute_OtherCustomersLoan() {
+    // Arrange
+    when(loanRepository.findById(loanId)).thenReturn(Optional.of(loan(null)));
+    UserPrincipal other = principal(UUID.randomUUID(), "ROLE_CUSTOMER");
+
+    // Act & Assert
+    assertThrows(SecurityException.class, () -> useCase.execute(other, loanId, null));
+  }
+}
@@ -0,0 +1,201 @@
+package com.lofi.lofiapps.service.impl.usecase.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.lofi.lofiapps.dto.response.SearchResultResponse;
+import com.lofi.lofiapps.enums.SearchKind;
+import com.lofi.lofiapps.repository.LoanSearchRow;
+import com.lofi.lofiapps.repository.UserSearchRow;
+import java.math.BigDecimal;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SearchIndexTest {
+
+  private static final UUID JAKARTA = UUID.randomUUID();
+  private static final UUID BANDUNG = UUID.randomUUID();
+
+  private SearchIndex index;
+  private UserSearchRow siti;
+  private UserSearchRow budi;
+  private LoanSearchRow sitiLoan;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    index = new SearchIndex(new ByteBuffersDirectory());
+    siti =
+        new UserSearchRow(
+            UUID.randomUUID(),
+            "siti.rahma",
+            "Siti Rahmawati",
+            "siti.rahma@example.com",
+            "+62 812-3456-7890",
+            "3171234567890001",
+            null,
+            List.of(JAKARTA));
+    budi =
+        new UserSearchRow(
+            UUID.randomUUID(),
+            "budi",
+            "Budi Santoso",
+            "budi@example.com",
+            "081298765432",
+            "3273000011112222",
+            null,
+            List.of(BANDUNG));
+    sitiLoan =
+        new LoanSearchRow(
+            UUID.randomUUID(),
+            siti.id(),
+            siti.fullName(),
+            siti.phoneNumber(),
+            siti.nik(),
+            JAKARTA,
+            "DISB-2025-0042",
+            "12.345.678.9-012.345",
+            new BigDecimal("5000000"),
+            LocalDateTime.of(2025, 3, 1, 9, 0));
+    index.upsert(SearchKind.USER, siti.id(), SearchDocuments.user(siti));
+    index.upsert(SearchKind.USER, budi.id(), SearchDocuments.user(budi));
+    index.upsert(SearchKind.LOAN, sitiLoan.id(), SearchDocuments.loan(sitiLoan));
+    index.refresh();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    index.destroy();
+  }
+
+  private List<SearchResultResponse> search(String text, SearchKind kind, UUID branch) {
+    return index.search(SearchDocuments.query(text, kind, branch), 10);
+  }
+
+  private List<UUID> ids(String text, SearchKind kind, UUID branch) {
+    return search(text, kind, branch).stream().map(SearchResultResponse::getId).toList();
+  }
+
+  @Test
+  @DisplayName("Name prefixes should find the customer and their loans")
+  void search_NamePrefix_ShouldMatch() {
+    // Act
+    List<UUID> ids = ids("siti rah", null, null);
+
+    // Assert
+    assertEquals(2, ids.size());
+    assertTrue(ids.containsAll(List.of(siti.id(), sitiLoan.id())));
+  }
+
+  @Test
+  @DisplayName("A misspelt name should still match, below an exact one")
+  void search_Typo_ShouldMatchFuzzily() {
+    // Act
+    List<UUID> typo = ids("santosa", SearchKind.USER, null);
+    float exactScore = search("santoso", SearchKind.USER, null).get(0).getScore();
+    float typoScore = search("santosa", SearchKind.USER, null).get(0).getScore();
+
+    // Assert
+    assertEquals(List.of(budi.id()), typo);
+    assertTrue(exactScore > typoScore);
+    assertEquals(List.of(budi.id()), ids("budi santosa", SearchKind.USER, null));
+  }
+
+  @Test
+  @DisplayName("Phone numbers should match in local and international form")
+  void search_Phone_ShouldMatchEitherForm() {
+    // Act & Assert
+    assertEquals(List.of(budi.id()), ids("+62 812 9876", SearchKind.USER, null));
+    assertEquals(List.of(siti.id()), ids("08123456", SearchKind.USER, null));
+  }
+
+  @Test
+  @DisplayName("NIK, email, NPWP and disbursement reference should match by prefix")
+  void search_Identifiers_ShouldMatchByPrefix() {
+    // Act & Assert
+    assertEquals(List.of(budi.id()), ids("32730000", SearchKind.USER, null));
+    assertEquals(List.of(siti.id()), ids("siti.rahma@exa", SearchKind.USER, null));
+    assertEquals(List.of(sitiLoan.id()), ids("12.345.678", SearchKind.LOAN, null));
+    assertEquals(List.of(sitiLoan.id()), ids("disb-2025", null, null));
+  }
+
+  @Test
+  @DisplayName("A branch scope should only see that branch's loans and their customers")
+  void search_BranchScope_ShouldFilter() {
+    // Act & Assert
+    assertEquals(List.of(budi.id()), ids("budi", null, BANDUNG));
+    assertTrue(ids("budi", null, JAKARTA).isEmpty());
+    assertEquals(2, ids("siti", null, JAKARTA).size());
+  }
+
+  @Test
+  @DisplayName("Deleted and replaced documents should drop out after a refresh")
+  void search_AfterDeleteAndUpdate_ShouldReflectChanges() {
+    // Arrange
+    UserSearchRow renamed =
+        new UserSearchRow(
+            budi.id(), "budi", "Budi Hartono", budi.email(), null, null, null, List.of());
+
+    // Act
+    index.upsert(SearchKind.USER, budi.id(), SearchDocuments.user(renamed));
+    index.delete(SearchKind.LOAN, sitiLoan.id());
+    index.refresh();
+
+    // Assert
+    assertTrue(ids("santoso", null, null).isEmpty());
+    assertEquals(List.of(budi.id()), ids("hartono", null, null));
+    assertEquals(List.of(siti.id()), ids("siti", null, null));
+    assertEquals(2, index.size());
+  }
+
+  @Test
+  @DisplayName("Text without anything searchable should produce no query")
+  void query_Blank_ShouldBeNull() {
+    // Act & Assert
+    assertNull(SearchDocuments.query("   ", null, null));
+  }
+
+  @Test
+  @DisplayName("Clearing should drop every document")
+  void clear_ShouldEmptyIndex() {
+    // Act
+    index.clear();
+    index.refresh();
+
+    // Assert
+    assertEquals(0, index.size());
+  }
+
+  @Test
+  @DisplayName("Instances sharing an index dir should each get a private directory")
+  void constructor_SharedDir_ShouldUsePrivateDirectories(@TempDir Path shared) throws Exception {
+    // Act
+    SearchIndex first = new SearchIndex(shared.toString());
+    SearchIndex second = new SearchIndex(shared.toString());
+
+    // Assert
+    try {
+      assertNotEquals(first.path(), second.path());
+      assertEquals(shared, first.path().getParent());
+      if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+        assertEquals(
+            PosixFilePermissions.fromString("rwx------"),
+            Files.getPosixFilePermissions(first.path()));
+      }
+    } finally {
+      first.destroy();
+      second.destroy();
+    }
+    assertFalse(Files.exists(first.path()));
+    assertFalse(Files.exists(second.path()));
+  }
+}
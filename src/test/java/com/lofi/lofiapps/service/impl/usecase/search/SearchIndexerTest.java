@@ -0,0 +1,231 @@
+package com.lofi.lofiapps.service.impl.usecase.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.lofi.lofiapps.enums.SearchKind;
+import com.lofi.lofiapps.repository.LoanRepository;
+import com.lofi.lofiapps.repository.LoanSearchRow;
+import com.lofi.lofiapps.repository.UserRepository;
+import com.lofi.lofiapps.repository.UserSearchRow;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class SearchIndexerTest {
+
+  @Mock private SearchIndex searchIndex;
+  @Mock private UserRepository userRepository;
+  @Mock private LoanRepository loanRepository;
+  @Mock private StringRedisTemplate redisTemplate;
+
+  private SearchIndexer indexer;
+
+  @BeforeEach
+  void setUp() {
+    indexer = indexer("local");
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  private SearchIndexer indexer(String sync) {
+    return new SearchIndexer(
+        searchIndex, userRepository, loanRepository, redisTemplate, Runnable::run, sync);
+  }
+
+  private static UserSearchRow user(UUID id) {
+    return new UserSearchRow(id, "budi", "Budi", "budi@example.com", null, null, null, List.of());
+  }
+
+  private static LoanSearchRow loan(UUID id, UUID customerId) {
+    return new LoanSearchRow(
+        id, customerId, "Budi", null, null, null, null, null, BigDecimal.TEN, null);
+  }
+
+  @Test
+  @DisplayName("A change inside a transaction should only be indexed after commit")
+  void userChanged_InTransaction_ShouldWaitForCommit() {
+    // Arrange
+    UUID userId = UUID.randomUUID();
+    when(userRepository.findSearchRows(List.of(userId))).thenReturn(List.of(user(userId)));
+    TransactionSynchronizationManager.initSynchronization();
+
+    // Act
+    indexer.userChanged(userId);
+
+    // Assert
+    verifyNoInteractions(searchIndex);
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    verify(searchIndex).upsert(eq(SearchKind.USER), eq(userId), any());
+  }
+
+  @Test
+  @DisplayName("A user change should reindex the user's loans as well")
+  void userChanged_ShouldReindexLoans() {
+    // Arrange
+    UUID userId = UUID.randomUUID();
+    UUID loanId = UUID.randomUUID();
+    when(userRepository.findSearchRows(List.of(userId))).thenReturn(List.of(user(userId)));
+    when(loanRepository.findSearchRowsByCustomer(userId)).thenReturn(List.of(loan(loanId, userId)));
+
+    // Act
+    indexer.userChanged(userId);
+
+    // Assert
+    verify(searchIndex).upsert(eq(SearchKind.USER), eq(userId), any());
+    verify(searchIndex).upsert(eq(SearchKind.LOAN), eq(loanId), any());
+  }
+
+  @Test
+  @DisplayName("A loan that is gone should be removed, and a deleted user with it")
+  void loanChanged_Deleted_ShouldRemoveDocument() {
+    // Arrange
+    UUID loanId = UUID.randomUUID();
+    when(loanRepository.findSearchRows(List.of(loanId))).thenReturn(List.of());
+
+    // Act
+    indexer.loanChanged(loanId);
+
+    // Assert
+    verify(searchIndex).delete(SearchKind.LOAN, loanId);
+    verify(searchIndex, never()).upsert(any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("A loan change should refresh its customer's branch set, not their other loans")
+  void loanChanged_ShouldReindexCustomerOnly() {
+    // Arrange
+    UUID loanId = UUID.randomUUID();
+    UUID userId = UUID.randomUUID();
+    when(loanRepository.findSearchRows(List.of(loanId))).thenReturn(List.of(loan(loanId, userId)));
+    when(userRepository.findSearchRows(List.of(userId))).thenReturn(List.of(user(userId)));
+
+    // Act
+    indexer.loanChanged(loanId);
+
+    // Assert
+    verify(searchIndex).upsert(eq(SearchKind.LOAN), eq(loanId), any());
+    verify(searchIndex).upsert(eq(SearchKind.USER), eq(userId), any());
+    verify(loanRepository, never()).findSearchRowsByCustomer(any());
+  }
+
+  @Test
+  @DisplayName("In redis mode changes should be broadcast and our own messages skipped")
+  void redisMode_ShouldBroadcastAndSkipOwnMessages() {
+    // Arrange
+    SearchIndexer redisIndexer = indexer("redis");
+    UUID loanId = UUID.randomUUID();
+    when(loanRepository.findSearchRows(List.of(loanId))).thenReturn(List.of());
+
+    // Act
+    redisIndexer.loanChanged(loanId);
+
+    // Assert
+    verify(redisTemplate)
+        .convertAndSend(
+            eq(SearchIndexer.CHANNEL),
+            argThat((String message) -> message.endsWith(":LOAN:" + loanId)));
+    redisIndexer.onMessage("other-node:LOAN:" + loanId);
+    verify(searchIndex, times(2)).delete(SearchKind.LOAN, loanId);
+  }
+
+  @Test
+  @DisplayName("The startup build should index every row and then report ready")
+  @SuppressWarnings("unchecked")
+  void rebuild_ShouldIndexEverythingAndBecomeReady() {
+    // Arrange
+    UUID userId = UUID.randomUUID();
+    doAnswer(
+            invocation -> {
+              invocation.<Consumer<UserSearchRow>>getArgument(0).accept(user(userId));
+              return null;
+            })
+        .when(userRepository)
+        .streamSearchRows(any(Consumer.class));
+
+    // Act
+    assertFalse(indexer.isReady());
+    indexer.rebuildOnStartup();
+
+    // Assert
+    verify(searchIndex).upsert(eq(SearchKind.USER), eq(userId), any());
+    verify(searchIndex).refresh();
+    assertTrue(indexer.isReady());
+  }
+
+  @Test
+  @DisplayName("A failed build should be retried until it succeeds")
+  @SuppressWarnings("unchecked")
+  void retryRebuild_AfterFailure_ShouldBuildAgain() {
+    // Arrange
+    doThrow(new IllegalStateException("database down"))
+        .doNothing()
+        .when(userRepository)
+        .streamSearchRows(any(Consumer.class));
+    indexer.rebuildOnStartup();
+    assertFalse(indexer.isReady());
+
+    // Act
+    indexer.retryRebuild();
+
+    // Assert
+    assertTrue(indexer.isReady());
+    verify(userRepository, times(2)).streamSearchRows(any(Consumer.class));
+  }
+
+  @Test
+  @DisplayName("A change rejected by a full queue should mark the index stale for a rebuild")
+  @SuppressWarnings("unchecked")
+  void loanChanged_QueueFull_ShouldRebuildInsteadOfReordering() {
+    // Arrange
+    AtomicBoolean full = new AtomicBoolean();
+    SearchIndexer busy =
+        new SearchIndexer(
+            searchIndex,
+            userRepository,
+            loanRepository,
+            redisTemplate,
+            task -> {
+              if (full.get()) {
+                throw new RejectedExecutionException("queue full");
+              }
+              task.run();
+            },
+            "local");
+    busy.rebuildOnStartup();
+    assertTrue(busy.isReady());
+    full.set(true);
+
+    // Act
+    busy.loanChanged(UUID.randomUUID());
+
+    // Assert
+    assertFalse(busy.isReady());
+    verify(loanRepository, never()).findSearchRows(any());
+    full.set(false);
+    busy.retryRebuild();
+    assertTrue(busy.isReady());
+    verify(searchIndex, times(2)).clear();
+  }
+}
@@ -0,0 +1,110 @@
+package com.lofi.lofiapps.service.impl.usecase.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.lofi.lofiapps.dto.response.SearchResponse;
+import com.lofi.lofiapps.dto.response.SearchResultResponse;
+import com.lofi.lofiapps.enums.SearchKind;
+import com.lofi.lofiapps.enums.UserStatus;
+import com.lofi.lofiapps.security.service.UserPrincipal;
+import com.lofi.lofiapps.service.BranchAccessGuard;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import org.apache.lucene.search.Query;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+@ExtendWith(MockitoExtension.class)
+class SearchUseCaseTest {
+
+  @Mock private SearchIndex searchIndex;
+  @Mock private SearchIndexer searchIndexer;
+
+  private SearchUseCase useCase;
+
+  @BeforeEach
+  void setUp() {
+    useCase =
+        new SearchUseCase(
+            searchIndex, searchIndexer, new BranchAccessGuard(), new SimpleMeterRegistry());
+  }
+
+  private static UserPrincipal principal(UUID branchId, String role) {
+    return new UserPrincipal(
+        UUID.randomUUID(),
+        "staff@example.com",
+        "password",
+        branchId,
+        branchId == null ? null : "Branch",
+        BigDecimal.ZERO,
+        UserStatus.ACTIVE,
+        List.of(new SimpleGrantedAuthority(role)));
+  }
+
+  @Test
+  @DisplayName("Branch staff should only search their own branch")
+  void execute_BranchStaff_ShouldFilterByBranch() {
+    // Arrange
+    UUID branchId = UUID.randomUUID();
+    when(searchIndexer.isReady()).thenReturn(true);
+    when(searchIndex.search(any(Query.class), eq(20)))
+        .thenReturn(List.of(SearchResultResponse.builder().kind(SearchKind.USER).build()));
+    ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+
+    // Act
+    SearchResponse response =
+        useCase.execute(principal(branchId, "ROLE_BRANCH_MANAGER"), "budi", null, 20);
+
+    // Assert
+    verify(searchIndex).search(query.capture(), eq(20));
+    assertTrue(query.getValue().toString().contains("branch:" + branchId));
+    assertEquals(1, response.getItems().size());
+    assertTrue(response.isComplete());
+  }
+
+  @Test
+  @DisplayName("Back office should search every branch, and the limit should be capped")
+  void execute_BackOffice_ShouldSearchGlobally() {
+    // Arrange
+    ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+
+    // Act
+    useCase.execute(principal(null, "ROLE_BACK_OFFICE"), "budi", SearchKind.LOAN, 1000);
+
+    // Assert
+    verify(searchIndex).search(query.capture(), eq(50));
+    assertFalse(query.getValue().toString().contains("branch:"));
+    assertTrue(query.getValue().toString().contains("kind:LOAN"));
+  }
+
+  @Test
+  @DisplayName("Branch-scoped staff without a branch should be refused")
+  void execute_NoBranch_ShouldThrow() {
+    // Act & Assert
+    assertThrows(
+        SecurityException.class,
+        () -> useCase.execute(principal(null, "ROLE_MARKETING"), "budi", null, 20));
+    verifyNoInteractions(searchIndex);
+  }
+
+  @Test
+  @DisplayName("Blank text should return nothing without touching the index")
+  void execute_Blank_ShouldReturnEmpty() {
+    // Act
+    SearchResponse response = useCase.execute(principal(null, "ROLE_ADMIN"), "  ", null, 20);
+
+    // Assert
+    assertTrue(response.getItems().isEmpty());
+    verifyNoInteractions(searchIndex);
+  }
+}
@@ -0,0 +1,191 @@
+package com.lofi.lofiapps.service.impl.usecase.softdelete;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.lofi.lofiapps.repository.TombstoneCursor;
+import com.lofi.lofiapps.repository.TombstoneRepository;
+import com.lofi.lofiapps.repository.TombstoneTable;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.integration.redis.util.RedisLockRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class TombstoneMaintainerTest {
+
+  private static final LocalDateTime CUTOFF = LocalDateTime.of(2025, 4, 11, 4, 0);
+  private static final List<String> COLUMNS = List.of("id", "deleted_at");
+
+  @Mock private TombstoneRepository tombstoneRepository;
+  @Mock private RedisLockRegistry redisLockRegistry;
+  @Mock private Lock lock;
+
+  private SimpleMeterRegistry meterRegistry;
+  private TombstoneMaintainer maintainer;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    maintainer =
+        new TombstoneMaintainer(
+            tombstoneRepository,
+            redisLockRegistry,
+            meterRegistry,
+            Clock.fixed(Instant.parse("2025-07-10T04:00:00Z"), ZoneOffset.UTC));
+    ReflectionTestUtils.setField(maintainer, "indexesEnabled", true);
+    ReflectionTestUtils.setField(maintainer, "allowOfflineIndexes", false);
+    ReflectionTestUtils.setField(maintainer, "purgeEnabled", true);
+    ReflectionTestUtils.setField(maintainer, "retentionDays", 90);
+    ReflectionTestUtils.setField(maintainer, "chunkSize", 2);
+    ReflectionTestUtils.setField(maintainer, "pauseMs", 0L);
+    ReflectionTestUtils.setField(maintainer, "maxRowsPerRun", 1000L);
+    ReflectionTestUtils.setField(maintainer, "maxRunMinutes", 60L);
+    lenient().when(redisLockRegistry.obtain(TombstoneMaintainer.LOCK_KEY)).thenReturn(lock);
+  }
+
+  private static TombstoneRepository.Chunk chunk(int rows) {
+    return new TombstoneRepository.Chunk(
+        rows, new TombstoneCursor(CUTOFF.minusDays(rows), UUID.randomUUID()));
+  }
+
+  private static TombstoneRepository.Chunk none() {
+    return new TombstoneRepository.Chunk(0, TombstoneCursor.START);
+  }
+
+  @Test
+  @DisplayName("Another instance holding the lock should make the run a no-op")
+  void purgeTombstones_LockHeld_ShouldSkip() {
+    // Arrange
+    when(lock.tryLock()).thenReturn(false);
+
+    // Act
+    maintainer.purgeTombstones();
+
+    // Assert
+    verifyNoInteractions(tombstoneRepository);
+    verify(lock, never()).unlock();
+  }
+
+  @Test
+  @DisplayName("Startup should leave the indexes alone unless they are enabled")
+  void prepare_IndexesDisabled_ShouldSkip() {
+    // Arrange
+    ReflectionTestUtils.setField(maintainer, "indexesEnabled", false);
+
+    // Act
+    maintainer.prepare();
+
+    // Assert
+    verifyNoInteractions(tombstoneRepository, redisLockRegistry);
+  }
+
+  @Test
+  @DisplayName("Startup should create the filtered indexes under the lock")
+  void prepare_ShouldEnsureIndexes() {
+    // Arrange
+    when(lock.tryLock()).thenReturn(true);
+
+    // Act
+    maintainer.prepare();
+
+    // Assert
+    verify(tombstoneRepository).ensureIndexes(false);
+    verify(lock).unlock();
+  }
+
+  @Test
+  @DisplayName("Full chunks should continue from the last key until a short chunk")
+  void purgeTombstones_ShouldWalkChunksByKeyset() {
+    // Arrange
+    when(lock.tryLock()).thenReturn(true);
+    TombstoneRepository.Chunk first = chunk(2);
+    when(tombstoneRepository.purgeChunk(
+            eq(TombstoneTable.NOTIFICATIONS), eq(List.of()), eq(CUTOFF), any(), eq(2)))
+        .thenReturn(first, chunk(1));
+    when(tombstoneRepository.ensureArchiveTable(any())).thenReturn(COLUMNS);
+    when(tombstoneRepository.purgeChunk(
+            argThat(table -> table != TombstoneTable.NOTIFICATIONS), any(), any(), any(), anyInt()))
+        .thenReturn(none());
+
+    // Act
+    maintainer.purgeTombstones();
+
+    // Assert
+    verify(tombstoneRepository)
+        .purgeChunk(TombstoneTable.NOTIFICATIONS, List.of(), CUTOFF, TombstoneCursor.START, 2);
+    verify(tombstoneRepository)
+        .purgeChunk(TombstoneTable.NOTIFICATIONS, List.of(), CUTOFF, first.last(), 2);
+    verify(tombstoneRepository, never()).ensureArchiveTable(TombstoneTable.NOTIFICATIONS);
+    verify(tombstoneRepository)
+        .purgeChunk(TombstoneTable.LOANS, COLUMNS, CUTOFF, TombstoneCursor.START, 2);
+    assertEquals(
+        3.0,
+        meterRegistry
+            .get("lofi.tombstones.purged")
+            .tag("table", "notifications")
+            .tag("mode", "delete")
+            .counter()
+            .count());
+  }
+
+  @Test
+  @DisplayName("The row budget should end the run and leave later tables for the next one")
+  void purgeTombstones_RowBudget_ShouldStop() {
+    // Arrange
+    when(lock.tryLock()).thenReturn(true);
+    ReflectionTestUtils.setField(maintainer, "maxRowsPerRun", 3L);
+    when(tombstoneRepository.purgeChunk(
+            eq(TombstoneTable.NOTIFICATIONS), any(), any(), any(), anyInt()))
+        .thenReturn(chunk(2), chunk(1));
+
+    // Act
+    maintainer.purgeTombstones();
+
+    // Assert
+    verify(tombstoneRepository)
+        .purgeChunk(eq(TombstoneTable.NOTIFICATIONS), any(), any(), any(), eq(1));
+    verify(tombstoneRepository, never()).ensureArchiveTable(any());
+    verify(lock).unlock();
+  }
+
+  @Test
+  @DisplayName("A failing table should be counted and the others still purged")
+  void purgeTombstones_TableFails_ShouldContinue() {
+    // Arrange
+    when(lock.tryLock()).thenReturn(true);
+    when(tombstoneRepository.purgeChunk(
+            eq(TombstoneTable.NOTIFICATIONS), any(), any(), any(), anyInt()))
+        .thenThrow(new IllegalStateException("deadlock victim"));
+    when(tombstoneRepository.ensureArchiveTable(any())).thenReturn(COLUMNS);
+    when(tombstoneRepository.purgeChunk(
+            argThat(table -> table != TombstoneTable.NOTIFICATIONS), any(), any(), any(), anyInt()))
+        .thenReturn(none());
+
+    // Act
+    maintainer.purgeTombstones();
+
+    // Assert
+    verify(tombstoneRepository).purgeChunk(eq(TombstoneTable.LOANS), any(), any(), any(), eq(2));
+    assertEquals(
+        1.0,
+        meterRegistry
+            .get("lofi.tombstones.purge.failures")
+            .tag("table", "notifications")
+            .counter()
+            .count());
+  }
+}
@@ -0,0 +1,161 @@
+package com.lofi.lofiapps.service.impl.usecase.storage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.lofi.lofiapps.service.impl.usecase.storage.ImageVariantProcessor.ImageVariant;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ImageVariantProcessorTest {
+
+  private final ImageVariantProcessor processor = new ImageVariantProcessor(50_000_000, 2);
+
+  private byte[] encode(BufferedImage image, String format) throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ImageIO.write(image, format, out);
+    return out.toByteArray();
+  }
+
+  /** Inserts an EXIF APP1 segment with the given orientation right after SOI. */
+  private byte[] withOrientation(byte[] jpeg, int orientation) {
+    byte[] tiff = {
+      'M',
+      'M',
+      0,
+      42,
+      0,
+      0,
+      0,
+      8, // big-endian header, IFD0 at offset 8
+      0,
+      1, // one entry
+      0x01,
+      0x12,
+      0,
+      3,
+      0,
+      0,
+      0,
+      1,
+      0,
+      (byte) orientation,
+      0,
+      0, // orientation, SHORT, count 1
+      0,
+      0,
+      0,
+      0 // no next IFD
+    };
+    return withApp1(jpeg, tiff);
+  }
+
+  /** Inserts an EXIF APP1 segment carrying {@code tiff} right after SOI. */
+  private byte[] withApp1(byte[] jpeg, byte[] tiff) {
+    byte[] exif = "Exif\0\0".getBytes(StandardCharsets.ISO_8859_1);
+    int length = 2 + exif.length + tiff.length;
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    out.write(jpeg, 0, 2);
+    out.write(0xFF);
+    out.write(0xE1);
+    out.write(length >> 8);
+    out.write(length & 0xFF);
+    out.writeBytes(exif);
+    out.writeBytes(tiff);
+    out.write(jpeg, 2, jpeg.length - 2);
+    return out.toByteArray();
+  }
+
+  private BufferedImage decode(ImageVariant variant) throws Exception {
+    return ImageIO.read(new ByteArrayInputStream(variant.content()));
+  }
+
+  @Test
+  @DisplayName("Should produce JPEG variants bounded by each size without upscaling")
+  void process_ShouldProduceBoundedVariants() throws Exception {
+    byte[] png = encode(new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_ARGB), "png");
+
+    List<ImageVariant> variants =
+        processor.process(new ByteArrayInputStream(png), png, 64, 256, 1024, 4096);
+
+    assertEquals(List.of(4096, 1024, 256, 64), variants.stream().map(ImageVariant::size).toList());
+    assertEquals(1024, variants.get(1).width());
+    assertEquals(512, variants.get(1).height());
+    assertEquals(64, variants.get(3).width());
+    assertEquals(32, variants.get(3).height());
+    // Subsampled decode: never larger than twice the largest requested side
+    assertTrue(variants.get(0).width() <= 2000);
+    BufferedImage decoded = decode(variants.get(2));
+    assertEquals(256, decoded.getWidth());
+    assertEquals(128, decoded.getHeight());
+  }
+
+  @Test
+  @DisplayName("Should apply EXIF orientation and strip metadata")
+  void process_ShouldApplyOrientationAndStripExif() throws Exception {
+    byte[] jpeg =
+        withOrientation(encode(new BufferedImage(400, 200, BufferedImage.TYPE_INT_RGB), "jpeg"), 6);
+    assertEquals(6, ImageVariantProcessor.ExifOrientation.read(jpeg));
+
+    List<ImageVariant> variants = processor.process(new ByteArrayInputStream(jpeg), jpeg, 256);
+
+    BufferedImage decoded = decode(variants.get(0));
+    assertEquals(128, decoded.getWidth());
+    assertEquals(256, decoded.getHeight());
+    String raw = new String(variants.get(0).content(), StandardCharsets.ISO_8859_1);
+    assertFalse(raw.contains("Exif"));
+  }
+
+  @Test
+  @DisplayName("Should ignore an EXIF segment whose offsets point outside it")
+  void process_ShouldIgnoreMalformedExif() throws Exception {
+    byte[] jpeg = encode(new BufferedImage(400, 200, BufferedImage.TYPE_INT_RGB), "jpeg");
+    // IFD0 offset 0xFFFFFFF0, which an int reads as -16
+    byte[] wrapping =
+        withApp1(
+            jpeg, new byte[] {'M', 'M', 0, 42, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xF0});
+    // IFD0 claims 0xFFFF entries but the segment ends after the count
+    byte[] truncated =
+        withApp1(jpeg, new byte[] {'I', 'I', 42, 0, 8, 0, 0, 0, (byte) 0xFF, (byte) 0xFF});
+
+    assertEquals(1, ImageVariantProcessor.ExifOrientation.read(wrapping));
+    assertEquals(1, ImageVariantProcessor.ExifOrientation.read(truncated));
+    List<ImageVariant> variants =
+        processor.process(new ByteArrayInputStream(wrapping), wrapping, 256);
+    assertEquals(256, decode(variants.get(0)).getWidth());
+  }
+
+  @Test
+  @DisplayName("Should reject content that is not an image")
+  void process_ShouldRejectNonImage() {
+    byte[] text = "not an image".getBytes(StandardCharsets.UTF_8);
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> processor.process(new ByteArrayInputStream(text), text, 64));
+  }
+
+  @Test
+  @DisplayName("Should return the permit after a whole run, including failed ones")
+  void process_ShouldReleasePermitAfterEachRun() throws Exception {
+    ImageVariantProcessor single = new ImageVariantProcessor(50_000_000, 1);
+    byte[] text = "not an image".getBytes(StandardCharsets.UTF_8);
+    byte[] png = encode(new BufferedImage(300, 300, BufferedImage.TYPE_INT_RGB), "png");
+
+    assertTimeoutPreemptively(
+        Duration.ofSeconds(10),
+        () -> {
+          assertThrows(
+              IllegalArgumentException.class,
+              () -> single.process(new ByteArrayInputStream(text), text, 64));
+          single.process(new ByteArrayInputStream(png), png, 64, 128);
+          assertEquals(1, single.process(new ByteArrayInputStream(png), png, 64).size());
+        });
+  }
+}
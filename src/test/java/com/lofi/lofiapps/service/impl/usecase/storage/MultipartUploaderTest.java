@@ -0,0 +1,162 @@
+package com.lofi.lofiapps.service.impl.usecase.storage;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+@ExtendWith(MockitoExtension.class)
+class MultipartUploaderTest {
+
+  private static final int PART = MultipartUploader.MIN_PART_SIZE;
+
+  @Mock private S3Client s3Client;
+
+  private ExecutorService executor;
+  private MultipartUploader uploader;
+  private final Map<Integer, Integer> partLengths = new ConcurrentHashMap<>();
+
+  @BeforeEach
+  void setUp() {
+    executor = Executors.newFixedThreadPool(3);
+    uploader = new MultipartUploader(s3Client, executor, PART, 2);
+    when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+        .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  private void recordParts() {
+    when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+        .thenAnswer(
+            inv -> {
+              UploadPartRequest request = inv.getArgument(0);
+              RequestBody body = inv.getArgument(1);
+              try (var in = body.contentStreamProvider().newStream()) {
+                partLengths.put(request.partNumber(), in.readAllBytes().length);
+              }
+              return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+            });
+  }
+
+  @Test
+  @DisplayName("Upload should split the stream into numbered parts and complete in order")
+  void upload_ShouldSplitIntoParts() throws Exception {
+    // Arrange
+    recordParts();
+    byte[] content = new byte[PART * 2 + 100];
+
+    // Act
+    uploader.upload("bucket", "bundle.zip", new ByteArrayInputStream(content), "application/zip");
+
+    // Assert
+    assertEquals(Map.of(1, PART, 2, PART, 3, 100), partLengths);
+    ArgumentCaptor<CompleteMultipartUploadRequest> complete =
+        ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+    verify(s3Client).completeMultipartUpload(complete.capture());
+    assertEquals("upload-1", complete.getValue().uploadId());
+    assertEquals(
+        List.of("etag-1", "etag-2", "etag-3"),
+        complete.getValue().multipartUpload().parts().stream().map(p -> p.eTag()).toList());
+    verify(s3Client, never()).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+  }
+
+  @Test
+  @DisplayName("Upload should not send an empty trailing part for an exact multiple")
+  void upload_ShouldSkipEmptyTrailingPart() throws Exception {
+    // Arrange
+    recordParts();
+
+    // Act
+    uploader.upload("bucket", "bundle.zip", new ByteArrayInputStream(new byte[PART]), null);
+
+    // Assert
+    assertEquals(Map.of(1, PART), partLengths);
+  }
+
+  @Test
+  @DisplayName("Upload should abort the multipart upload when a part fails")
+  void upload_ShouldAbort_WhenPartFails() {
+    // Arrange
+    when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+        .thenThrow(S3Exception.builder().statusCode(500).message("boom").build());
+
+    // Act & Assert
+    assertThrows(
+        S3Exception.class,
+        () ->
+            uploader.upload(
+                "bucket", "bundle.zip", new ByteArrayInputStream(new byte[PART + 1]), null));
+    verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+  }
+
+  @Test
+  @DisplayName("Upload should abort when reading the source fails")
+  void upload_ShouldAbort_WhenSourceFails() {
+    // Arrange
+    ByteArrayInputStream broken =
+        new ByteArrayInputStream(new byte[0]) {
+          @Override
+          public int read(byte[] b, int off, int len) {
+            throw new IllegalStateException("disk gone");
+          }
+
+          @Override
+          public byte[] readNBytes(int len) {
+            throw new IllegalStateException("disk gone");
+          }
+
+          @Override
+          public int readNBytes(byte[] b, int off, int len) {
+            throw new IllegalStateException("disk gone");
+          }
+        };
+
+    // Act & Assert
+    assertThrows(IllegalStateException.class, () -> uploader.upload("bucket", "k", broken, null));
+    verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+  }
+
+  @Test
+  @DisplayName("Part buffers should be reused instead of allocated per part")
+  void upload_ShouldReuseBuffers() throws IOException {
+    // Arrange
+    recordParts();
+
+    // Act
+    for (int i = 0; i < 3; i++) {
+      uploader.upload("bucket", "k" + i, new ByteArrayInputStream(new byte[PART * 3]), null);
+    }
+
+    // Assert
+    assertTrue(uploader.allocatedBuffers() <= 2);
+  }
+}
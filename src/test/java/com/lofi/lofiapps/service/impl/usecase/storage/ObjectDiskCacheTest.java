@@ -0,0 +1,70 @@
+package com.lofi.lofiapps.service.impl.usecase.storage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ObjectDiskCacheTest {
+
+  @TempDir Path cacheDir;
+
+  private void fill(ObjectDiskCache cache, String key, int size) throws Exception {
+    cache.copyThrough(
+        key, "image/png", new ByteArrayInputStream(new byte[size]), new ByteArrayOutputStream());
+  }
+
+  @Test
+  @DisplayName("Should evict least recently used objects beyond the byte budget")
+  void copyThrough_ShouldEvictLeastRecentlyUsed() throws Exception {
+    ObjectDiskCache cache = new ObjectDiskCache(cacheDir, 100, 60);
+
+    fill(cache, "a", 40);
+    fill(cache, "b", 40);
+    cache.get("a");
+    fill(cache, "c", 40);
+
+    assertTrue(cache.get("a").isPresent());
+    assertTrue(cache.get("b").isEmpty());
+    assertTrue(cache.get("c").isPresent());
+    assertEquals(80, cache.totalBytes());
+    try (var files = Files.list(cacheDir)) {
+      assertEquals(2, files.count());
+    }
+  }
+
+  @Test
+  @DisplayName("Should pass oversized objects through without caching them")
+  void copyThrough_ShouldSkipOversizedObjects() throws Exception {
+    ObjectDiskCache cache = new ObjectDiskCache(cacheDir, 100, 10);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    cache.copyThrough("big", "image/png", new ByteArrayInputStream(new byte[20]), out);
+
+    assertEquals(20, out.size());
+    assertTrue(cache.get("big").isEmpty());
+    try (var files = Files.list(cacheDir)) {
+      assertEquals(0, files.count());
+    }
+  }
+
+  @Test
+  @DisplayName("Instances sharing a base directory should keep to their own cache directory")
+  void constructor_SharedBaseDir_ShouldNotTouchOtherInstances() throws Exception {
+    ObjectDiskCache first = new ObjectDiskCache(cacheDir.toString(), 100, 60);
+    fill(first, "a", 40);
+
+    ObjectDiskCache second = new ObjectDiskCache(cacheDir.toString(), 100, 60);
+    second.destroy();
+
+    assertNotEquals(first.directory(), second.directory());
+    assertFalse(Files.exists(second.directory()));
+    assertTrue(first.get("a").isPresent());
+    assertEquals(40, first.totalBytes());
+  }
+}
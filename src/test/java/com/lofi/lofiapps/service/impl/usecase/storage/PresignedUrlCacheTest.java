@@ -0,0 +1,118 @@
+package com.lofi.lofiapps.service.impl.usecase.storage;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.net.URL;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.presigner.PresignedRequest;
+
+class PresignedUrlCacheTest {
+
+  private static final String BUCKET = "lofi-bucket";
+
+  private MutableClock clock;
+  private PresignedUrlCache cache;
+  private AtomicInteger signCount;
+
+  @BeforeEach
+  void setUp() {
+    clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    cache = new PresignedUrlCache(2, Duration.ofMinutes(5), clock);
+    signCount = new AtomicInteger();
+  }
+
+  private Supplier<PresignedRequest> signer(String objectKey) {
+    return () -> {
+      int n = signCount.incrementAndGet();
+      PresignedRequest request = mock(PresignedRequest.class);
+      try {
+        when(request.url()).thenReturn(new URL("https://r2.example/" + objectKey + "?sig=" + n));
+      } catch (java.net.MalformedURLException e) {
+        throw new IllegalStateException(e);
+      }
+      when(request.expiration()).thenReturn(clock.instant().plus(Duration.ofMinutes(60)));
+      return request;
+    };
+  }
+
+  private URL get(String objectKey) {
+    return cache.getOrSign(
+        PresignedUrlCache.Operation.GET, BUCKET, objectKey, 60, signer(objectKey));
+  }
+
+  @Test
+  @DisplayName("Should reuse a signed URL until the safety margin before expiry")
+  void getOrSign_ShouldReuseUntilSafetyMargin() {
+    URL first = get("a.jpg");
+
+    clock.advance(Duration.ofMinutes(54));
+    assertEquals(first, get("a.jpg"));
+    assertEquals(1, signCount.get());
+
+    clock.advance(Duration.ofMinutes(1));
+    assertNotEquals(first, get("a.jpg"));
+    assertEquals(2, signCount.get());
+  }
+
+  @Test
+  @DisplayName("Should evict the least recently used entry beyond the size bound")
+  void getOrSign_ShouldStayBounded() {
+    get("a.jpg");
+    get("b.jpg");
+    get("a.jpg");
+    get("c.jpg");
+
+    assertEquals(2, cache.size());
+    get("a.jpg");
+    assertEquals(3, signCount.get());
+    get("b.jpg");
+    assertEquals(4, signCount.get());
+  }
+
+  @Test
+  @DisplayName("Invalidate should force a fresh signature for the object")
+  void invalidate_ShouldDropCachedUrls() {
+    get("a.jpg");
+
+    cache.invalidate(BUCKET, "a.jpg");
+    get("a.jpg");
+
+    assertEquals(2, signCount.get());
+  }
+
+  private static final class MutableClock extends Clock {
+    private Instant now;
+
+    MutableClock(Instant now) {
+      this.now = now;
+    }
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+
+    @Override
+    public ZoneOffset getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(java.time.ZoneId zone) {
+      return this;
+    }
+  }
+}
@@ -0,0 +1,192 @@
+package com.lofi.lofiapps.service.impl.usecase.storage;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.lofi.lofiapps.exception.ResourceNotFoundException;
+import com.lofi.lofiapps.service.StoredObject;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/** Exercises the streaming read and write paths against a minimal local S3-compatible stand-in. */
+class R2StorageServiceTest {
+
+  private static final byte[] OBJECT = "0123456789".getBytes(StandardCharsets.UTF_8);
+
+  private HttpServer server;
+  private S3Client s3Client;
+  private R2StorageService storageService;
+  private MultipartUploader multipartUploader;
+  private final Map<String, byte[]> stored = new ConcurrentHashMap<>();
+
+  @BeforeEach
+  void setUp() throws Exception {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext(
+        "/lofi-bucket/",
+        exchange -> {
+          String path = exchange.getRequestURI().getPath();
+          if ("PUT".equals(exchange.getRequestMethod())) {
+            byte[] body = exchange.getRequestBody().readAllBytes();
+            String encoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+            if (encoding != null && encoding.contains("aws-chunked")) {
+              body = decodeAwsChunked(body);
+            }
+            stored.put(path, body);
+            // The SDK validates the ETag against the MD5 of what it sent
+            exchange.getResponseHeaders().add("ETag", "\"" + md5Hex(body) + "\"");
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+            return;
+          }
+          if (!path.equals("/lofi-bucket/photos/a.png")) {
+            byte[] error = "<Error><Code>NoSuchKey</Code></Error>".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(404, error.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+              out.write(error);
+            }
+            return;
+          }
+          exchange.getResponseHeaders().add("Content-Type", "image/png");
+          exchange.getResponseHeaders().add("ETag", "\"abc\"");
+          String range = exchange.getRequestHeaders().getFirst("Range");
+          byte[] body = OBJECT;
+          int status = 200;
+          if ("bytes=2-4".equals(range)) {
+            body = "234".getBytes(StandardCharsets.UTF_8);
+            status = 206;
+            exchange.getResponseHeaders().add("Content-Range", "bytes 2-4/10");
+          }
+          exchange.sendResponseHeaders(status, body.length);
+          try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+          }
+        });
+    server.start();
+
+    s3Client =
+        S3Client.builder()
+            .region(Region.US_EAST_1)
+            .endpointOverride(URI.create("http://127.0.0.1:" + server.getAddress().getPort()))
+            .forcePathStyle(true)
+            .credentialsProvider(
+                StaticCredentialsProvider.create(AwsBasicCredentials.create("key", "secret")))
+            .build();
+    multipartUploader = mock(MultipartUploader.class);
+    storageService =
+        new R2StorageService(
+            mock(S3Presigner.class),
+            s3Client,
+            mock(S3AsyncClient.class),
+            new PresignedUrlCache(10, Duration.ofMinutes(5), java.time.Clock.systemUTC()),
+            multipartUploader);
+  }
+
+  @AfterEach
+  void tearDown() {
+    s3Client.close();
+    server.stop(0);
+  }
+
+  @Test
+  @DisplayName("Open object should stream the body with its metadata")
+  void openObject_ShouldStreamBody() throws Exception {
+    try (StoredObject object = storageService.openObject("lofi-bucket", "photos/a.png", null)) {
+      assertEquals("image/png", object.contentType());
+      assertEquals(10, object.contentLength());
+      assertNull(object.contentRange());
+      assertArrayEquals(OBJECT, object.content().readAllBytes());
+    }
+  }
+
+  @Test
+  @DisplayName("Open object should pass a byte range through to storage")
+  void openObject_ShouldForwardRange() throws Exception {
+    try (StoredObject object =
+        storageService.openObject("lofi-bucket", "photos/a.png", "bytes=2-4")) {
+      assertEquals("bytes 2-4/10", object.contentRange());
+      assertEquals("234", new String(object.content().readAllBytes(), StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  @DisplayName("Open object should map a missing key to not found")
+  void openObject_ShouldThrowNotFound() {
+    assertThrows(
+        ResourceNotFoundException.class,
+        () -> storageService.openObject("lofi-bucket", "photos/missing.png", null));
+  }
+
+  @Test
+  @DisplayName("Upload stream should put small objects in a single request")
+  void uploadStream_ShouldPutSmallObject() throws Exception {
+    byte[] content = "hello".getBytes(StandardCharsets.UTF_8);
+
+    storageService.uploadStream(
+        "lofi-bucket", "docs/a.txt", new ByteArrayInputStream(content), 5, "text/plain");
+
+    assertArrayEquals(content, stored.get("/lofi-bucket/docs/a.txt"));
+    verifyNoInteractions(multipartUploader);
+  }
+
+  @Test
+  @DisplayName("Upload stream should go multipart when the length is unknown")
+  void uploadStream_ShouldUseMultipart_WhenLengthUnknown() throws Exception {
+    ByteArrayInputStream content = new ByteArrayInputStream(OBJECT);
+
+    storageService.uploadStream("lofi-bucket", "docs/b.bin", content, -1, "application/pdf");
+
+    verify(multipartUploader).upload("lofi-bucket", "docs/b.bin", content, "application/pdf");
+    assertTrue(stored.isEmpty());
+  }
+
+  private static String md5Hex(byte[] body) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(body));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /** Strips the signed-chunk framing the SDK uses for unsigned HTTP endpoints. */
+  private static byte[] decodeAwsChunked(byte[] framed) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    int pos = 0;
+    while (pos < framed.length) {
+      int lineEnd = pos;
+      while (framed[lineEnd] != '\r') {
+        lineEnd++;
+      }
+      String header = new String(framed, pos, lineEnd - pos, StandardCharsets.US_ASCII);
+      int size = Integer.parseInt(header.split(";")[0], 16);
+      if (size == 0) {
+        break;
+      }
+      out.write(framed, lineEnd + 2, size);
+      pos = lineEnd + 2 + size + 2;
+    }
+    return out.toByteArray();
+  }
+}
@@ -0,0 +1,205 @@
+package com.lofi.lofiapps.service.impl.usecase.storage;
+
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/**
+ * Peak heap per concurrent upload, byte-array API versus streaming API. Not a unit test; run it by
+ * hand with the container's heap limit, e.g.
+ *
+ * <pre>
+ * mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -Xmx2g -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *     com.lofi.lofiapps.service.impl.usecase.storage.StorageUploadHeapBenchmark [uploads] [object-mb]
+ * </pre>
+ *
+ * Storage is an in-process S3 client that drains request bodies, so the numbers only reflect what
+ * the application itself holds on the heap.
+ */
+public class StorageUploadHeapBenchmark {
+
+  public static void main(String[] args) throws Exception {
+    int uploads = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+    int objectMb = args.length > 1 ? Integer.parseInt(args[1]) : 40;
+    long objectBytes = objectMb * 1024L * 1024L;
+
+    ExecutorService partExecutor = Executors.newFixedThreadPool(8);
+    S3Client s3Client = new DrainingS3Client();
+    R2StorageService storage =
+        new R2StorageService(
+            mock(S3Presigner.class),
+            s3Client,
+            mock(S3AsyncClient.class),
+            new PresignedUrlCache(10, Duration.ofMinutes(5), Clock.systemUTC()),
+            new MultipartUploader(s3Client, partExecutor, 8 * 1024 * 1024, 8));
+
+    System.out.printf("%d concurrent uploads of %d MB%n", uploads, objectMb);
+    report(
+        "byte[] uploadFile",
+        uploads,
+        run(
+            uploads,
+            i -> {
+              byte[] content = new SyntheticStream(objectBytes).readAllBytes();
+              storage.uploadFile("bench", "bytes/" + i, content, "application/octet-stream");
+            }));
+    report(
+        "streaming uploadStream",
+        uploads,
+        run(
+            uploads,
+            i ->
+                storage.uploadStream(
+                    "bench",
+                    "stream/" + i,
+                    new SyntheticStream(objectBytes),
+                    objectBytes,
+                    "application/octet-stream")));
+    partExecutor.shutdown();
+  }
+
+  private interface Upload {
+    void run(int index) throws IOException;
+  }
+
+  private static long run(int uploads, Upload upload) throws Exception {
+    List<MemoryPoolMXBean> heapPools =
+        ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .toList();
+    System.gc();
+    long baseline = heapPools.stream().mapToLong(pool -> pool.getUsage().getUsed()).sum();
+    heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+    ExecutorService callers = Executors.newFixedThreadPool(uploads);
+    try {
+      List<Future<?>> results = new ArrayList<>();
+      for (int i = 0; i < uploads; i++) {
+        int index = i;
+        results.add(
+            callers.submit(
+                () -> {
+                  upload.run(index);
+                  return null;
+                }));
+      }
+      for (Future<?> result : results) {
+        result.get();
+      }
+    } finally {
+      callers.shutdown();
+    }
+    long peak = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+    return Math.max(0, peak - baseline);
+  }
+
+  private static void report(String label, int uploads, long peakBytes) {
+    double peakMb = peakBytes / (1024.0 * 1024.0);
+    System.out.printf(
+        "%-24s peak heap %8.1f MB  (%6.1f MB per upload)%n", label, peakMb, peakMb / uploads);
+  }
+
+  /** Generates bytes on demand, standing in for a request body or a file on disk. */
+  private static final class SyntheticStream extends InputStream {
+    private long remaining;
+
+    SyntheticStream(long length) {
+      this.remaining = length;
+    }
+
+    @Override
+    public int read() {
+      if (remaining <= 0) {
+        return -1;
+      }
+      remaining--;
+      return (int) (remaining & 0xff);
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+      if (remaining <= 0) {
+        return -1;
+      }
+      int n = (int) Math.min(len, remaining);
+      for (int i = 0; i < n; i++) {
+        b[off + i] = (byte) (remaining - i);
+      }
+      remaining -= n;
+      return n;
+    }
+  }
+
+  /** Reads and discards every request body, like a fast object store would. */
+  private static final class DrainingS3Client implements S3Client {
+    private final AtomicInteger uploadIds = new AtomicInteger();
+
+    @Override
+    public PutObjectResponse putObject(PutObjectRequest request, RequestBody body) {
+      drain(body);
+      return PutObjectResponse.builder().eTag("put").build();
+    }
+
+    @Override
+    public CreateMultipartUploadResponse createMultipartUpload(
+        CreateMultipartUploadRequest request) {
+      return CreateMultipartUploadResponse.builder()
+          .uploadId("upload-" + uploadIds.incrementAndGet())
+          .build();
+    }
+
+    @Override
+    public UploadPartResponse uploadPart(UploadPartRequest request, RequestBody body) {
+      drain(body);
+      return UploadPartResponse.builder().eTag("part-" + request.partNumber()).build();
+    }
+
+    @Override
+    public CompleteMultipartUploadResponse completeMultipartUpload(
+        CompleteMultipartUploadRequest request) {
+      return CompleteMultipartUploadResponse.builder().build();
+    }
+
+    @Override
+    public String serviceName() {
+      return "s3";
+    }
+
+    @Override
+    public void close() {}
+
+    private static void drain(RequestBody body) {
+      try (InputStream in = body.contentStreamProvider().newStream()) {
+        in.transferTo(OutputStream.nullOutputStream());
+      } catch (IOException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+}
@@ -0,0 +1,179 @@
+package com.lofi.lofiapps.service.impl.usecase.user;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.lofi.lofiapps.entity.User;
+import com.lofi.lofiapps.exception.RangeNotSatisfiableException;
+import com.lofi.lofiapps.repository.UserRepository;
+import com.lofi.lofiapps.service.StorageService;
+import com.lofi.lofiapps.service.StoredObject;
+import com.lofi.lofiapps.service.StoredObjectInfo;
+import com.lofi.lofiapps.service.impl.usecase.storage.ObjectDiskCache;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class GetProfilePhotoUseCaseTest {
+
+  private static final byte[] PHOTO = "0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+
+  @TempDir Path cacheDir;
+
+  private UserRepository userRepository;
+  private StorageService storageService;
+  private GetProfilePhotoUseCase useCase;
+  private final UUID userId = UUID.randomUUID();
+
+  @BeforeEach
+  void setUp() throws Exception {
+    userRepository = mock(UserRepository.class);
+    storageService = mock(StorageService.class);
+    useCase =
+        new GetProfilePhotoUseCase(
+            userRepository, storageService, new ObjectDiskCache(cacheDir.toString(), 1024, 512));
+    ReflectionTestUtils.setField(useCase, "bucketName", "lofi-bucket");
+
+    User user = User.builder().id(userId).profilePictureUrl("profile-pictures/u-1.png").build();
+    when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+    when(storageService.openObject(eq("lofi-bucket"), eq("profile-pictures/u-1.png"), isNull()))
+        .thenAnswer(
+            inv ->
+                new StoredObject(new ByteArrayInputStream(PHOTO), "image/png", PHOTO.length, null));
+  }
+
+  private MockHttpServletResponse fetch(MockHttpServletRequest request) throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    useCase.execute(userId, null, request, response);
+    return response;
+  }
+
+  @Test
+  @DisplayName("Should stream from storage once and serve repeats from the disk cache")
+  void execute_ShouldFillAndReuseDiskCache() throws Exception {
+    MockHttpServletResponse first = fetch(new MockHttpServletRequest());
+    MockHttpServletResponse second = fetch(new MockHttpServletRequest());
+
+    assertEquals(200, first.getStatus());
+    assertArrayEquals(PHOTO, first.getContentAsByteArray());
+    assertEquals("image/png", first.getContentType());
+    assertNotNull(first.getHeader("ETag"));
+    assertArrayEquals(PHOTO, second.getContentAsByteArray());
+    assertEquals("image/png", second.getContentType());
+    verify(storageService, times(1)).openObject(any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("Should answer a matching If-None-Match with 304 and no storage call")
+  void execute_ShouldReturnNotModified() throws Exception {
+    String etag = fetch(new MockHttpServletRequest()).getHeader("ETag");
+    clearInvocations(storageService);
+
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader("If-None-Match", etag);
+    MockHttpServletResponse response = fetch(request);
+
+    assertEquals(304, response.getStatus());
+    assertEquals(0, response.getContentAsByteArray().length);
+    verifyNoInteractions(storageService);
+  }
+
+  @Test
+  @DisplayName("Should serve a byte range from the disk cache")
+  void execute_ShouldServeRangeFromCache() throws Exception {
+    fetch(new MockHttpServletRequest());
+
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader("Range", "bytes=4-7");
+    MockHttpServletResponse response = fetch(request);
+
+    assertEquals(206, response.getStatus());
+    assertEquals("bytes 4-7/16", response.getHeader("Content-Range"));
+    assertEquals("4567", response.getContentAsString());
+
+    MockHttpServletRequest outOfRange = new MockHttpServletRequest();
+    outOfRange.addHeader("Range", "bytes=100-");
+    assertEquals(416, fetch(outOfRange).getStatus());
+  }
+
+  @Test
+  @DisplayName("Should serve the smallest stored variant covering the requested size")
+  void execute_ShouldServeSmallestSuitableVariant() throws Exception {
+    User user = User.builder().id(userId).profilePictureUrl("profile-photos/u-2").build();
+    when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+    when(storageService.openObject("lofi-bucket", "profile-photos/u-2/256.jpg", null))
+        .thenReturn(
+            new StoredObject(new ByteArrayInputStream(PHOTO), "image/jpeg", PHOTO.length, null));
+
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    useCase.execute(userId, 100, new MockHttpServletRequest(), response);
+
+    assertArrayEquals(PHOTO, response.getContentAsByteArray());
+    verify(storageService).openObject("lofi-bucket", "profile-photos/u-2/256.jpg", null);
+  }
+
+  @Test
+  @DisplayName("Should forward the range to storage on a cache miss")
+  void execute_ShouldForwardRangeOnMiss() throws Exception {
+    when(storageService.openObject("lofi-bucket", "profile-pictures/u-1.png", "bytes=0-3"))
+        .thenReturn(
+            new StoredObject(
+                new ByteArrayInputStream("0123".getBytes(StandardCharsets.UTF_8)),
+                "image/png",
+                4,
+                "bytes 0-3/16"));
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader("Range", "bytes=0-3");
+
+    MockHttpServletResponse response = fetch(request);
+
+    assertEquals(206, response.getStatus());
+    assertEquals("bytes 0-3/16", response.getHeader("Content-Range"));
+    assertEquals("0123", response.getContentAsString());
+  }
+
+  @Test
+  @DisplayName("Should answer an unsatisfiable range on a cache miss with 416 and the full length")
+  void execute_ShouldReturnRangeNotSatisfiableOnMiss() throws Exception {
+    when(storageService.openObject("lofi-bucket", "profile-pictures/u-1.png", "bytes=100-"))
+        .thenThrow(new RangeNotSatisfiableException());
+    when(storageService.statObject("lofi-bucket", "profile-pictures/u-1.png"))
+        .thenReturn(new StoredObjectInfo(PHOTO.length, "image/png", null));
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader("Range", "bytes=100-");
+
+    MockHttpServletResponse response = fetch(request);
+
+    assertEquals(416, response.getStatus());
+    assertEquals("bytes */16", response.getHeader("Content-Range"));
+  }
+
+  @Test
+  @DisplayName("Should fall back to storage when the cached file was evicted after the lookup")
+  void execute_ShouldFallBackToStorageWhenCachedFileIsGone() throws Exception {
+    fetch(new MockHttpServletRequest());
+    try (Stream<Path> files = Files.walk(cacheDir)) {
+      for (Path file : files.filter(Files::isRegularFile).toList()) {
+        Files.delete(file);
+      }
+    }
+
+    MockHttpServletResponse response = fetch(new MockHttpServletRequest());
+
+    assertEquals(200, response.getStatus());
+    assertArrayEquals(PHOTO, response.getContentAsByteArray());
+    verify(storageService, times(2)).openObject(any(), any(), any());
+  }
+}